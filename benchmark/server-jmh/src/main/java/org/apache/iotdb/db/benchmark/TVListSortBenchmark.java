@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.benchmark;
+
+import org.apache.iotdb.db.utils.datastructure.AlignedTVList;
+import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.db.utils.datastructure.TVListSortAlgorithm;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting an out-of-order memtable series with each {@link TVListSortAlgorithm}, the way a flush
+ * sorts it. The list is rebuilt before every invocation, so only the sort is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TVListSortBenchmark {
+
+  /** how the times of the points arrive */
+  public enum Disorder {
+    /** times in random order */
+    RANDOM,
+    /** ascending times with a tenth of them delayed by up to a minute */
+    DELAYED,
+    /** descending times */
+    REVERSED
+  }
+
+  @Param({"RANDOM", "DELAYED", "REVERSED"})
+  public Disorder disorder;
+
+  @Param({"MERGE", "RADIX"})
+  public TVListSortAlgorithm algorithm;
+
+  /** a single INT64 series or an aligned device of 10 INT64 series */
+  @Param({"false", "true"})
+  public boolean aligned;
+
+  /** points in the list */
+  @Param({"100000", "1000000"})
+  public int size;
+
+  private long[] times;
+  private TVList list;
+
+  @Setup(Level.Trial)
+  public void generate() {
+    Random random = new Random(0);
+    times = new long[size];
+    long start = 1_600_000_000_000L;
+    for (int i = 0; i < size; i++) {
+      switch (disorder) {
+        case RANDOM:
+          times[i] = start + random.nextInt(size * 10);
+          break;
+        case DELAYED:
+          times[i] = start + i * 10L - (random.nextInt(10) == 0 ? random.nextInt(60_000) : 0);
+          break;
+        case REVERSED:
+        default:
+          times[i] = start + (size - i) * 10L;
+          break;
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void fill() {
+    if (aligned) {
+      List<TSDataType> dataTypes = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        dataTypes.add(TSDataType.INT64);
+      }
+      AlignedTVList alignedList = AlignedTVList.newAlignedList(dataTypes);
+      Object[] values = new Object[10];
+      int[] columnOrder = new int[10];
+      for (int i = 0; i < 10; i++) {
+        columnOrder[i] = i;
+      }
+      for (int i = 0; i < size; i++) {
+        Arrays.fill(values, (long) i);
+        alignedList.putAlignedValue(times[i], values, columnOrder);
+      }
+      list = alignedList;
+    } else {
+      list = TVList.newList(TSDataType.INT64);
+      for (int i = 0; i < size; i++) {
+        list.putLong(times[i], i);
+      }
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void clear() {
+    list.clear();
+  }
+
+  @Benchmark
+  public TVList sort() {
+    list.sort(algorithm);
+    return list;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.benchmark;
+
+import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.write.page.PageWriter;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compressing and uncompressing a page of each shape, encoded by the typical encoding of the shape,
+ * with each compressor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+  @Param({"COUNTER", "NOISY_FLOAT", "SPARSE_BOOLEAN", "LOW_CARDINALITY_TEXT"})
+  public SeriesShape shape;
+
+  @Param({"SNAPPY", "GZIP", "LZ4", "ZSTD"})
+  public CompressionType compression;
+
+  /** points in the page */
+  @Param("10000")
+  public int size;
+
+  private ICompressor compressor;
+  private IUnCompressor unCompressor;
+  private byte[] page;
+  private byte[] compressed;
+  private int compressedSize;
+  private byte[] uncompressed;
+
+  @Setup
+  public void setUp() throws IOException {
+    PageWriter pageWriter =
+        new PageWriter(
+            new MeasurementSchema(
+                "s", shape.getDataType(), shape.getTypicalEncoding(), compression));
+    shape.generate(size, 0).writeTo(pageWriter);
+    ByteBuffer pageData = pageWriter.getUncompressedBytes();
+    page = new byte[pageData.remaining()];
+    pageData.get(page);
+
+    compressor = ICompressor.getCompressor(compression);
+    unCompressor = IUnCompressor.getUnCompressor(compression);
+    if (compression == CompressionType.GZIP) {
+      compressed = compressor.compress(page, 0, page.length);
+    } else {
+      compressed = new byte[compressor.getMaxBytesForCompression(page.length)];
+      compressor.compress(page, 0, page.length, compressed);
+    }
+    compressedSize = compress();
+    uncompressed = new byte[page.length];
+    System.out.printf(
+        "%n%s page of %d bytes compressed by %s: %.3f%n",
+        shape, page.length, compression, (double) compressedSize / page.length);
+  }
+
+  @Benchmark
+  public int compress() throws IOException {
+    if (compression == CompressionType.GZIP) {
+      // GZIP can not compress into a given array, as in PageWriter
+      return compressor.compress(page, 0, page.length).length;
+    }
+    return compressor.compress(page, 0, page.length, compressed);
+  }
+
+  @Benchmark
+  public int uncompress() throws IOException {
+    return unCompressor.uncompress(compressed, 0, compressedSize, uncompressed, 0);
+  }
+}
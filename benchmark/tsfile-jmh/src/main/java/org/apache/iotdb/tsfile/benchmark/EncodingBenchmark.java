@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.benchmark;
+
+import org.apache.iotdb.tsfile.benchmark.SeriesShape.Series;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/** Encoding and decoding the values of a series with each encoding applicable to its shape. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+  /** shape:encoding */
+  @Param({
+    "COUNTER:PLAIN",
+    "COUNTER:RLE",
+    "COUNTER:TS_2DIFF",
+    "COUNTER:GORILLA",
+    "COUNTER:ZIGZAG",
+    "COUNTER:CHIMP",
+    "NOISY_FLOAT:PLAIN",
+    "NOISY_FLOAT:RLE",
+    "NOISY_FLOAT:TS_2DIFF",
+    "NOISY_FLOAT:GORILLA",
+    "NOISY_FLOAT:CHIMP",
+    "SPARSE_BOOLEAN:PLAIN",
+    "SPARSE_BOOLEAN:RLE",
+    "LOW_CARDINALITY_TEXT:PLAIN",
+    "LOW_CARDINALITY_TEXT:DICTIONARY"
+  })
+  public String series;
+
+  /** points encoded or decoded in one invocation */
+  @Param("10000")
+  public int size;
+
+  private SeriesShape shape;
+  private TSEncoding encoding;
+  private Series data;
+  private final PublicBAOS out = new PublicBAOS();
+  private ByteBuffer encoded;
+  private Decoder decoder;
+
+  @Setup
+  public void setUp() throws IOException {
+    String[] shapeAndEncoding = series.split(":");
+    shape = SeriesShape.valueOf(shapeAndEncoding[0]);
+    encoding = TSEncoding.valueOf(shapeAndEncoding[1]);
+    data = shape.generate(size, 0);
+
+    encode();
+    encoded = ByteBuffer.wrap(out.toByteArray());
+    decoder = Decoder.getDecoderByType(encoding, shape.getDataType());
+    System.out.printf(
+        "%n%s encoded by %s: %.3f bytes/point%n",
+        shape, encoding, (double) encoded.remaining() / size);
+  }
+
+  @Benchmark
+  public int encode() throws IOException {
+    out.reset();
+    Encoder encoder =
+        TSEncodingBuilder.getEncodingBuilder(encoding).getEncoder(shape.getDataType());
+    data.encodeValues(encoder, out);
+    return out.size();
+  }
+
+  @Benchmark
+  public void decode(Blackhole blackhole) throws IOException {
+    encoded.rewind();
+    decoder.reset();
+    data.decodeValues(decoder, encoded, blackhole);
+  }
+}
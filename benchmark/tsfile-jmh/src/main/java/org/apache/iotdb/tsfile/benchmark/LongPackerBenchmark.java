@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.benchmark;
+
+import org.apache.iotdb.tsfile.encoding.bitpacking.LongPacker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packing and unpacking longs of each bit width with the generated kernels of {@link LongPacker},
+ * against the loops it used before, kept in {@link LoopLongPacker}. RLE encodes and decodes its
+ * bit-packed runs this way.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LongPackerBenchmark {
+
+  @Param({"1", "7", "12", "24", "40", "64"})
+  public int width;
+
+  /** values packed or unpacked by each invocation, a multiple of 8 */
+  @Param("4096")
+  public int size;
+
+  private long[] values;
+  private byte[] packed;
+  private final byte[] buf = new byte[Long.SIZE];
+  private long[] unpacked;
+  private LongPacker packer;
+  private LoopLongPacker loopPacker;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    values = new long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = random.nextLong() >>> (Long.SIZE - width);
+    }
+    packer = new LongPacker(width);
+    loopPacker = new LoopLongPacker(width);
+    packed = new byte[size / 8 * width];
+    for (int i = 0; i < size; i += 8) {
+      packer.pack8Values(values, i, buf);
+      System.arraycopy(buf, 0, packed, i / 8 * width, width);
+    }
+    unpacked = new long[size];
+    // both ways must agree on the bytes
+    byte[] loopPacked = new byte[packed.length];
+    for (int i = 0; i < size; i += 8) {
+      loopPacker.pack8Values(values, i, buf);
+      System.arraycopy(buf, 0, loopPacked, i / 8 * width, width);
+    }
+    if (!Arrays.equals(packed, loopPacked)) {
+      throw new IllegalStateException("the kernels and the loops pack differently");
+    }
+  }
+
+  @Benchmark
+  public byte[] pack() {
+    for (int i = 0; i < size; i += 8) {
+      packer.pack8Values(values, i, buf);
+    }
+    return buf;
+  }
+
+  @Benchmark
+  public byte[] packWithLoops() {
+    for (int i = 0; i < size; i += 8) {
+      loopPacker.pack8Values(values, i, buf);
+    }
+    return buf;
+  }
+
+  @Benchmark
+  public long[] unpackAll() {
+    packer.unpackAllValues(packed, packed.length, unpacked);
+    return unpacked;
+  }
+
+  @Benchmark
+  public long[] unpackAllWithLoops() {
+    loopPacker.unpackAllValues(packed, packed.length, unpacked);
+    return unpacked;
+  }
+}
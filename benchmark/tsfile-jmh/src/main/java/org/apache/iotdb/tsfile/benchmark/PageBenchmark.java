@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.benchmark;
+
+import org.apache.iotdb.tsfile.benchmark.SeriesShape.Series;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.reader.page.PageReader;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.page.PageWriter;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a page with {@link PageWriter} and reading it back with {@link PageReader}, the way chunk
+ * writers and chunk readers do, including compression and the page header.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageBenchmark {
+
+  @Param({"COUNTER", "NOISY_FLOAT", "SPARSE_BOOLEAN", "LOW_CARDINALITY_TEXT"})
+  public SeriesShape shape;
+
+  @Param({"UNCOMPRESSED", "SNAPPY", "LZ4"})
+  public CompressionType compression;
+
+  /** points in the page */
+  @Param("10000")
+  public int size;
+
+  private MeasurementSchema schema;
+  private Series data;
+  private PageWriter pageWriter;
+  private final PublicBAOS pageBuffer = new PublicBAOS();
+  private ByteBuffer page;
+  private IUnCompressor unCompressor;
+  private TSEncoding timeEncoding;
+
+  @Setup
+  public void setUp() throws IOException {
+    schema =
+        new MeasurementSchema("s", shape.getDataType(), shape.getTypicalEncoding(), compression);
+    data = shape.generate(size, 0);
+    pageWriter = new PageWriter(schema);
+    write();
+    page = ByteBuffer.wrap(pageBuffer.toByteArray());
+    unCompressor = IUnCompressor.getUnCompressor(compression);
+    timeEncoding = TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().getTimeEncoder());
+    System.out.printf(
+        "%n%s page written with %s: %.3f bytes/point%n",
+        shape, compression, (double) page.remaining() / size);
+  }
+
+  @Benchmark
+  public int write() throws IOException {
+    pageBuffer.reset();
+    pageWriter.reset(schema);
+    data.writeTo(pageWriter);
+    pageWriter.writePageHeaderAndDataIntoBuff(pageBuffer, false);
+    return pageBuffer.size();
+  }
+
+  @Benchmark
+  public BatchData read() throws IOException {
+    page.rewind();
+    PageHeader pageHeader = PageHeader.deserializeFrom(page, shape.getDataType());
+    byte[] uncompressed = new byte[pageHeader.getUncompressedSize()];
+    unCompressor.uncompress(
+        page.array(), page.position(), pageHeader.getCompressedSize(), uncompressed, 0);
+    PageReader pageReader =
+        new PageReader(
+            pageHeader,
+            ByteBuffer.wrap(uncompressed),
+            shape.getDataType(),
+            Decoder.getDecoderByType(shape.getTypicalEncoding(), shape.getDataType()),
+            Decoder.getDecoderByType(timeEncoding, TSDataType.INT64),
+            null);
+    return pageReader.getAllSatisfiedPageData(true);
+  }
+}
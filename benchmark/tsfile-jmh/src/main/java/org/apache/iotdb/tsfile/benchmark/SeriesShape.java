@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.benchmark;
+
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.write.page.PageWriter;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/** Shapes of synthetic series the benchmarks run on, each of a single data type. */
+public enum SeriesShape {
+  /** a monotonic counter growing by small irregular steps, like the reading of an energy meter */
+  COUNTER(TSDataType.INT64, TSEncoding.TS_2DIFF),
+  /** a float oscillating around a level with gaussian noise, like a temperature sensor */
+  NOISY_FLOAT(TSDataType.FLOAT, TSEncoding.GORILLA),
+  /** a boolean which is false most of the time, like an alarm */
+  SPARSE_BOOLEAN(TSDataType.BOOLEAN, TSEncoding.RLE),
+  /** text drawn from a handful of values, like the state of a device */
+  LOW_CARDINALITY_TEXT(TSDataType.TEXT, TSEncoding.DICTIONARY);
+
+  private static final String[] STATES = {"idle", "running", "stopped", "maintenance", "error"};
+
+  private final TSDataType dataType;
+
+  /** the encoding a user would typically choose for the shape */
+  private final TSEncoding typicalEncoding;
+
+  SeriesShape(TSDataType dataType, TSEncoding typicalEncoding) {
+    this.dataType = dataType;
+    this.typicalEncoding = typicalEncoding;
+  }
+
+  public TSDataType getDataType() {
+    return dataType;
+  }
+
+  public TSEncoding getTypicalEncoding() {
+    return typicalEncoding;
+  }
+
+  /** generate size points of this shape, the same ones for the same seed */
+  public Series generate(int size, long seed) {
+    Random random = new Random(seed);
+    Series series = new Series(this, size);
+    long time = 1_600_000_000_000L;
+    long counter = 0;
+    for (int i = 0; i < size; i++) {
+      // one point per second, sometimes a little late
+      time += 1000 + (random.nextInt(10) == 0 ? random.nextInt(50) : 0);
+      series.times[i] = time;
+      switch (this) {
+        case COUNTER:
+          counter += random.nextInt(20);
+          series.longs[i] = counter;
+          break;
+        case NOISY_FLOAT:
+          // sensors report a fixed number of decimal digits
+          double value = 20 + 5 * Math.sin(i / 600.0) + random.nextGaussian() * 0.3;
+          series.floats[i] = Math.round(value * 100) / 100.0f;
+          break;
+        case SPARSE_BOOLEAN:
+          series.booleans[i] = random.nextInt(100) == 0;
+          break;
+        case LOW_CARDINALITY_TEXT:
+          // states last for a while before changing
+          series.binaries[i] =
+              i > 0 && random.nextInt(20) != 0
+                  ? series.binaries[i - 1]
+                  : new Binary(STATES[random.nextInt(STATES.length)]);
+          break;
+        default:
+          throw new UnsupportedOperationException(name());
+      }
+    }
+    return series;
+  }
+
+  /** Points of a series, of which only the value array of its data type is used. */
+  public static class Series {
+
+    private final SeriesShape shape;
+    private final int size;
+    private final long[] times;
+    private final long[] longs;
+    private final float[] floats;
+    private final boolean[] booleans;
+    private final Binary[] binaries;
+
+    private Series(SeriesShape shape, int size) {
+      this.shape = shape;
+      this.size = size;
+      this.times = new long[size];
+      this.longs = shape.dataType == TSDataType.INT64 ? new long[size] : null;
+      this.floats = shape.dataType == TSDataType.FLOAT ? new float[size] : null;
+      this.booleans = shape.dataType == TSDataType.BOOLEAN ? new boolean[size] : null;
+      this.binaries = shape.dataType == TSDataType.TEXT ? new Binary[size] : null;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    /** encode all the values and flush the encoder */
+    public void encodeValues(Encoder encoder, ByteArrayOutputStream out) throws IOException {
+      for (int i = 0; i < size; i++) {
+        switch (shape.dataType) {
+          case INT64:
+            encoder.encode(longs[i], out);
+            break;
+          case FLOAT:
+            encoder.encode(floats[i], out);
+            break;
+          case BOOLEAN:
+            encoder.encode(booleans[i], out);
+            break;
+          case TEXT:
+            encoder.encode(binaries[i], out);
+            break;
+          default:
+            throw new UnsupportedOperationException(shape.dataType.name());
+        }
+      }
+      encoder.flush(out);
+    }
+
+    /** decode all the values in buffer into blackhole */
+    public void decodeValues(Decoder decoder, ByteBuffer buffer, Blackhole blackhole)
+        throws IOException {
+      while (decoder.hasNext(buffer)) {
+        switch (shape.dataType) {
+          case INT64:
+            blackhole.consume(decoder.readLong(buffer));
+            break;
+          case FLOAT:
+            blackhole.consume(decoder.readFloat(buffer));
+            break;
+          case BOOLEAN:
+            blackhole.consume(decoder.readBoolean(buffer));
+            break;
+          case TEXT:
+            blackhole.consume(decoder.readBinary(buffer));
+            break;
+          default:
+            throw new UnsupportedOperationException(shape.dataType.name());
+        }
+      }
+    }
+
+    /** write all the points into pageWriter */
+    public void writeTo(PageWriter pageWriter) {
+      switch (shape.dataType) {
+        case INT64:
+          pageWriter.write(times, longs, size);
+          break;
+        case FLOAT:
+          pageWriter.write(times, floats, size);
+          break;
+        case BOOLEAN:
+          pageWriter.write(times, booleans, size);
+          break;
+        case TEXT:
+          pageWriter.write(times, binaries, size);
+          break;
+        default:
+          throw new UnsupportedOperationException(shape.dataType.name());
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.benchmark;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a TsFile of many devices with {@link TsFileWriter}, encoding the chunk groups on the
+ * writing thread or on chunk_group_encoding_thread_count threads. Besides the time to write the
+ * file, the CPU time of the writing thread per file is printed when a trial ends, which shows how
+ * much of the encoding and compression is moved off the writing thread even without spare cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TsFileWriterBenchmark {
+
+  @Param({"1", "2", "4"})
+  public int encodingThreadCount;
+
+  @Param({"SNAPPY", "LZ4"})
+  public CompressionType compression;
+
+  @Param("100")
+  public int deviceNum;
+
+  /** rows of each device in the file */
+  @Param("10000")
+  public int rowNum;
+
+  private final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+  private int prevEncodingThreadCount;
+  private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  private List<MeasurementSchema> schemas;
+  private final List<Tablet> tablets = new ArrayList<>();
+  private File file;
+
+  private long writingThreadCpuNanos;
+  private long fileNum;
+
+  @Setup
+  public void setUp() throws IOException {
+    prevEncodingThreadCount = config.getChunkGroupEncodingThreadCount();
+    config.setChunkGroupEncodingThreadCount(encodingThreadCount);
+    schemas = new ArrayList<>();
+    schemas.add(
+        new MeasurementSchema("counter", TSDataType.INT64, TSEncoding.TS_2DIFF, compression));
+    schemas.add(
+        new MeasurementSchema("reading", TSDataType.FLOAT, TSEncoding.GORILLA, compression));
+    schemas.add(new MeasurementSchema("level", TSDataType.DOUBLE, TSEncoding.GORILLA, compression));
+    schemas.add(new MeasurementSchema("status", TSDataType.INT32, TSEncoding.RLE, compression));
+
+    Random random = new Random(0);
+    for (int d = 0; d < deviceNum; d++) {
+      Tablet tablet = new Tablet("root.sg.d" + d, schemas, rowNum);
+      long time = 1_600_000_000_000L;
+      long counter = 0;
+      for (int row = 0; row < rowNum; row++) {
+        time += 1000 + (random.nextInt(10) == 0 ? random.nextInt(50) : 0);
+        counter += random.nextInt(20);
+        tablet.timestamps[row] = time;
+        ((long[]) tablet.values[0])[row] = counter;
+        ((float[]) tablet.values[1])[row] = 20 + (float) random.nextGaussian();
+        ((double[]) tablet.values[2])[row] = 100 * Math.sin(row / 1000.0) + random.nextGaussian();
+        ((int[]) tablet.values[3])[row] = random.nextInt(100) == 0 ? 1 : 0;
+      }
+      tablet.rowSize = rowNum;
+      tablets.add(tablet);
+    }
+    file = File.createTempFile("TsFileWriterBenchmark", ".tsfile");
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    config.setChunkGroupEncodingThreadCount(prevEncodingThreadCount);
+    Files.deleteIfExists(file.toPath());
+    System.out.printf(
+        "%nwriting thread CPU time per file with %d encoding threads: %.3f ms%n",
+        encodingThreadCount, writingThreadCpuNanos / 1e6 / fileNum);
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file.toPath());
+  }
+
+  @Benchmark
+  public long write() throws IOException, WriteProcessException {
+    long cpuNanos = threadMXBean.getCurrentThreadCpuTime();
+    try (TsFileWriter writer = new TsFileWriter(file)) {
+      for (Tablet tablet : tablets) {
+        writer.registerTimeseries(new Path(tablet.deviceId), schemas);
+      }
+      for (Tablet tablet : tablets) {
+        writer.write(tablet);
+      }
+    }
+    writingThreadCpuNanos += threadMXBean.getCurrentThreadCpuTime() - cpuNanos;
+    fileNum++;
+    return file.length();
+  }
+}
@@ -34,6 +34,7 @@ import org.apache.iotdb.db.exception.LoadConfigurationException;
 import org.apache.iotdb.db.metadata.LocalSchemaProcessor;
 import org.apache.iotdb.db.service.thrift.impl.InfluxDBServiceImpl;
 import org.apache.iotdb.db.service.thrift.impl.TSServiceImpl;
+import org.apache.iotdb.db.utils.datastructure.TVListSortAlgorithm;
 import org.apache.iotdb.db.wal.utils.WALMode;
 import org.apache.iotdb.rpc.RpcTransportFactory;
 import org.apache.iotdb.rpc.RpcUtils;
@@ -465,6 +466,27 @@ public class IoTDBConfig {
   /** whether to cache meta data(ChunkMetaData and TsFileMetaData) or not. */
   private boolean metaDataCacheEnable = true;
 
+  /** whether to read sealed TsFiles through a memory mapping instead of FileChannel.read */
+  private boolean enableMmapTsFileInput = false;
+
+  /** sealed TsFiles larger than this are read through FileChannel.read even if mmap is enabled */
+  private long mmapTsFileInputMaxFileSizeInByte = 1024L * 1024 * 1024;
+
+  /** sealed TsFiles are not memory-mapped once the mapped ones reach this size in total */
+  private long mmapTsFileInputMaxTotalSizeInByte = 8L * 1024 * 1024 * 1024;
+
+  /** whether series scans prefetch the following chunks into ChunkCache */
+  private boolean enableChunkReadAhead = false;
+
+  /** max number of chunks prefetched ahead of the chunk being decoded in one series scan */
+  private int chunkReadAheadDepth = 4;
+
+  /** query memory reserved for the prefetched chunks of one series scan */
+  private long chunkReadAheadBudgetPerSeriesInByte = 1024L * 1024;
+
+  /** number of threads loading prefetched chunks */
+  private int chunkReadAheadThreadCount = Runtime.getRuntime().availableProcessors();
+
   /** Memory allocated for bloomFilter cache in read process */
   private long allocateMemoryForBloomFilterCache = allocateMemoryForRead / 1001;
 
@@ -717,6 +739,21 @@ public class IoTDBConfig {
   /** The default value of primitive array size in array pool */
   private int primitiveArraySize = 32;
 
+  /**
+   * Direct memory for the time arrays of memtables, budgeted apart from allocateMemoryForWrite. 0
+   * keeps them on the heap.
+   */
+  private long offHeapMemoryForWrite = 0;
+
+  /** Algorithm to sort the out-of-order points of memtables with before flushing them */
+  private TVListSortAlgorithm tvListSortAlgorithmForFlush = TVListSortAlgorithm.MERGE;
+
+  /**
+   * Max number of rows that concurrent row insertions into a data region are committed together in.
+   * 0 disables the group commit.
+   */
+  private int insertGroupCommitMaxRowNum = 0;
+
   /** whether enable data partition. If disabled, all data belongs to partition 0 */
   private boolean enablePartition = false;
 
@@ -1911,6 +1948,62 @@ public class IoTDBConfig {
     this.metaDataCacheEnable = metaDataCacheEnable;
   }
 
+  public boolean isEnableMmapTsFileInput() {
+    return enableMmapTsFileInput;
+  }
+
+  public void setEnableMmapTsFileInput(boolean enableMmapTsFileInput) {
+    this.enableMmapTsFileInput = enableMmapTsFileInput;
+  }
+
+  public long getMmapTsFileInputMaxFileSizeInByte() {
+    return mmapTsFileInputMaxFileSizeInByte;
+  }
+
+  public void setMmapTsFileInputMaxFileSizeInByte(long mmapTsFileInputMaxFileSizeInByte) {
+    this.mmapTsFileInputMaxFileSizeInByte = mmapTsFileInputMaxFileSizeInByte;
+  }
+
+  public long getMmapTsFileInputMaxTotalSizeInByte() {
+    return mmapTsFileInputMaxTotalSizeInByte;
+  }
+
+  public void setMmapTsFileInputMaxTotalSizeInByte(long mmapTsFileInputMaxTotalSizeInByte) {
+    this.mmapTsFileInputMaxTotalSizeInByte = mmapTsFileInputMaxTotalSizeInByte;
+  }
+
+  public boolean isEnableChunkReadAhead() {
+    return enableChunkReadAhead;
+  }
+
+  public void setEnableChunkReadAhead(boolean enableChunkReadAhead) {
+    this.enableChunkReadAhead = enableChunkReadAhead;
+  }
+
+  public int getChunkReadAheadDepth() {
+    return chunkReadAheadDepth;
+  }
+
+  public void setChunkReadAheadDepth(int chunkReadAheadDepth) {
+    this.chunkReadAheadDepth = chunkReadAheadDepth;
+  }
+
+  public long getChunkReadAheadBudgetPerSeriesInByte() {
+    return chunkReadAheadBudgetPerSeriesInByte;
+  }
+
+  public void setChunkReadAheadBudgetPerSeriesInByte(long chunkReadAheadBudgetPerSeriesInByte) {
+    this.chunkReadAheadBudgetPerSeriesInByte = chunkReadAheadBudgetPerSeriesInByte;
+  }
+
+  public int getChunkReadAheadThreadCount() {
+    return chunkReadAheadThreadCount;
+  }
+
+  public void setChunkReadAheadThreadCount(int chunkReadAheadThreadCount) {
+    this.chunkReadAheadThreadCount = chunkReadAheadThreadCount;
+  }
+
   public long getAllocateMemoryForBloomFilterCache() {
     return allocateMemoryForBloomFilterCache;
   }
@@ -2337,6 +2430,30 @@ public class IoTDBConfig {
     this.primitiveArraySize = primitiveArraySize;
   }
 
+  public long getOffHeapMemoryForWrite() {
+    return offHeapMemoryForWrite;
+  }
+
+  public void setOffHeapMemoryForWrite(long offHeapMemoryForWrite) {
+    this.offHeapMemoryForWrite = offHeapMemoryForWrite;
+  }
+
+  public TVListSortAlgorithm getTvListSortAlgorithmForFlush() {
+    return tvListSortAlgorithmForFlush;
+  }
+
+  public void setTvListSortAlgorithmForFlush(TVListSortAlgorithm tvListSortAlgorithmForFlush) {
+    this.tvListSortAlgorithmForFlush = tvListSortAlgorithmForFlush;
+  }
+
+  public int getInsertGroupCommitMaxRowNum() {
+    return insertGroupCommitMaxRowNum;
+  }
+
+  public void setInsertGroupCommitMaxRowNum(int insertGroupCommitMaxRowNum) {
+    this.insertGroupCommitMaxRowNum = insertGroupCommitMaxRowNum;
+  }
+
   public long getStartUpNanosecond() {
     return startUpNanosecond;
   }
@@ -37,6 +37,7 @@ import org.apache.iotdb.db.exception.BadNodeUrlFormatException;
 import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.qp.utils.DatetimeUtils;
 import org.apache.iotdb.db.service.metrics.MetricsService;
+import org.apache.iotdb.db.utils.datastructure.TVListSortAlgorithm;
 import org.apache.iotdb.db.wal.WALManager;
 import org.apache.iotdb.db.wal.utils.WALMode;
 import org.apache.iotdb.metrics.config.MetricConfigDescriptor;
@@ -45,6 +46,7 @@ import org.apache.iotdb.rpc.RpcTransportFactory;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.fileSystem.FSType;
 import org.apache.iotdb.tsfile.utils.FilePathUtils;
 
@@ -229,6 +231,51 @@ public class IoTDBDescriptor {
               properties.getProperty(
                   "meta_data_cache_enable", Boolean.toString(conf.isMetaDataCacheEnable()))));
 
+      conf.setEnableMmapTsFileInput(
+          Boolean.parseBoolean(
+              properties.getProperty(
+                  "enable_mmap_tsfile_input", Boolean.toString(conf.isEnableMmapTsFileInput()))));
+
+      long mmapMaxFileSize =
+          Long.parseLong(
+              properties.getProperty(
+                  "mmap_tsfile_input_max_file_size_in_byte",
+                  Long.toString(conf.getMmapTsFileInputMaxFileSizeInByte())));
+      // a single mapping can not exceed 2 GB
+      conf.setMmapTsFileInputMaxFileSizeInByte(Math.min(mmapMaxFileSize, Integer.MAX_VALUE));
+
+      conf.setMmapTsFileInputMaxTotalSizeInByte(
+          Long.parseLong(
+              properties.getProperty(
+                  "mmap_tsfile_input_max_total_size_in_byte",
+                  Long.toString(conf.getMmapTsFileInputMaxTotalSizeInByte()))));
+
+      conf.setEnableChunkReadAhead(
+          Boolean.parseBoolean(
+              properties.getProperty(
+                  "enable_chunk_read_ahead", Boolean.toString(conf.isEnableChunkReadAhead()))));
+
+      conf.setChunkReadAheadDepth(
+          Integer.parseInt(
+              properties.getProperty(
+                  "chunk_read_ahead_depth", Integer.toString(conf.getChunkReadAheadDepth()))));
+
+      conf.setChunkReadAheadBudgetPerSeriesInByte(
+          Long.parseLong(
+              properties.getProperty(
+                  "chunk_read_ahead_budget_per_series_in_byte",
+                  Long.toString(conf.getChunkReadAheadBudgetPerSeriesInByte()))));
+
+      int chunkReadAheadThreadCount =
+          Integer.parseInt(
+              properties.getProperty(
+                  "chunk_read_ahead_thread_count",
+                  Integer.toString(conf.getChunkReadAheadThreadCount())));
+      if (chunkReadAheadThreadCount <= 0) {
+        chunkReadAheadThreadCount = Runtime.getRuntime().availableProcessors();
+      }
+      conf.setChunkReadAheadThreadCount(chunkReadAheadThreadCount);
+
       initMemoryAllocate(properties);
 
       loadWALProps(properties);
@@ -703,6 +750,24 @@ public class IoTDBDescriptor {
               properties.getProperty(
                   "primitive_array_size", String.valueOf(conf.getPrimitiveArraySize())))));
 
+      conf.setOffHeapMemoryForWrite(
+          Long.parseLong(
+              properties.getProperty(
+                  "off_heap_memory_for_write_in_byte",
+                  String.valueOf(conf.getOffHeapMemoryForWrite()))));
+
+      conf.setTvListSortAlgorithmForFlush(
+          TVListSortAlgorithm.getTVListSortAlgorithm(
+              properties.getProperty(
+                  "tvlist_sort_algorithm_for_flush",
+                  conf.getTvListSortAlgorithmForFlush().toString())));
+
+      conf.setInsertGroupCommitMaxRowNum(
+          Integer.parseInt(
+              properties.getProperty(
+                  "insert_group_commit_max_row_num",
+                  String.valueOf(conf.getInsertGroupCommitMaxRowNum()))));
+
       conf.setThriftMaxFrameSize(
           Integer.parseInt(
               properties.getProperty(
@@ -1166,6 +1231,66 @@ public class IoTDBDescriptor {
                     "bloom_filter_error_rate",
                     Double.toString(
                         TSFileDescriptor.getInstance().getConfig().getBloomFilterErrorRate()))));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setEnableSplitBlockBloomFilter(
+            Boolean.parseBoolean(
+                properties.getProperty(
+                    "enable_split_block_bloom_filter",
+                    Boolean.toString(
+                        TSFileDescriptor.getInstance()
+                            .getConfig()
+                            .isEnableSplitBlockBloomFilter()))));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setEnableExtendedStatistics(
+            Boolean.parseBoolean(
+                properties.getProperty(
+                    "enable_extended_statistics",
+                    Boolean.toString(
+                        TSFileDescriptor.getInstance().getConfig().isEnableExtendedStatistics()))));
+    String rollupResolutions = properties.getProperty("rollup_resolutions");
+    if (rollupResolutions != null) {
+      TSFileDescriptor.getInstance()
+          .getConfig()
+          .setRollupResolutions(RollupStatistics.parseResolutions(rollupResolutions));
+    }
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setEnablePageValueIndex(
+            Boolean.parseBoolean(
+                properties.getProperty(
+                    "enable_page_value_index",
+                    Boolean.toString(
+                        TSFileDescriptor.getInstance().getConfig().isEnablePageValueIndex()))));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setDirectBufferPoolSizeInByte(
+            Long.parseLong(
+                properties.getProperty(
+                    "direct_buffer_pool_size_in_byte",
+                    Long.toString(
+                        TSFileDescriptor.getInstance()
+                            .getConfig()
+                            .getDirectBufferPoolSizeInByte()))));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setChunkMetadataSpillThresholdInByte(
+            Long.parseLong(
+                properties.getProperty(
+                    "chunk_metadata_spill_threshold_in_byte",
+                    Long.toString(
+                        TSFileDescriptor.getInstance()
+                            .getConfig()
+                            .getChunkMetadataSpillThresholdInByte()))));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setChunkTimeIndexBlockSize(
+            Integer.parseInt(
+                properties.getProperty(
+                    "chunk_time_index_block_size",
+                    Integer.toString(
+                        TSFileDescriptor.getInstance().getConfig().getChunkTimeIndexBlockSize()))));
     TSFileDescriptor.getInstance()
         .getConfig()
         .setFloatPrecision(
@@ -1190,6 +1315,14 @@ public class IoTDBDescriptor {
             properties.getProperty(
                 "compressor",
                 TSFileDescriptor.getInstance().getConfig().getCompressor().toString()));
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setZstdCompressionLevel(
+            Integer.parseInt(
+                properties.getProperty(
+                    "zstd_compression_level",
+                    Integer.toString(
+                        TSFileDescriptor.getInstance().getConfig().getZstdCompressionLevel()))));
     TSFileDescriptor.getInstance()
         .getConfig()
         .setMaxDegreeOfIndexNode(
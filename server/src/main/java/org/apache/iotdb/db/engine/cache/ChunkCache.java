@@ -35,6 +35,7 @@ import org.apache.iotdb.tsfile.utils.RamUsageEstimator;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Weigher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,7 +72,16 @@ public class ChunkCache {
                     (chunkMetadata, chunk) ->
                         (int)
                             (RamUsageEstimator.NUM_BYTES_OBJECT_REF
-                                + RamUsageEstimator.sizeOf(chunk)))
+                                + RamUsageEstimator.sizeOf(chunk)
+                                // the pooled data is off heap, not seen by sizeOf
+                                + (chunk.getData().isDirect() ? chunk.getData().capacity() : 0)))
+            // a pooled chunk goes back to the pool once evicted and no longer read
+            .removalListener(
+                (ChunkMetadata chunkMetadata, Chunk chunk, RemovalCause cause) -> {
+                  if (chunk != null) {
+                    chunk.release();
+                  }
+                })
             .recordStats()
             .build(
                 chunkMetadata -> {
@@ -79,7 +89,7 @@ public class ChunkCache {
                     TsFileSequenceReader reader =
                         FileReaderManager.getInstance()
                             .get(chunkMetadata.getFilePath(), chunkMetadata.isClosed());
-                    return reader.readMemChunk(chunkMetadata);
+                    return reader.readMemChunk(chunkMetadata, true);
                   } catch (IOException e) {
                     logger.error("Something wrong happened in reading {}", chunkMetadata, e);
                     throw e;
@@ -113,25 +123,50 @@ public class ChunkCache {
       TsFileSequenceReader reader =
           FileReaderManager.getInstance()
               .get(chunkMetaData.getFilePath(), chunkMetaData.isClosed());
-      Chunk chunk = reader.readMemChunk(chunkMetaData);
-      return new Chunk(
-          chunk.getHeader(),
-          chunk.getData().duplicate(),
-          chunkMetaData.getDeleteIntervalList(),
-          chunkMetaData.getStatistics());
+      // the copy takes over the only reference of the chunk
+      Chunk chunk = reader.readMemChunk(chunkMetaData, true);
+      return copyOf(chunk, chunkMetaData);
     }
 
-    Chunk chunk = lruCache.get(chunkMetaData);
+    Chunk chunk;
+    do {
+      // the chunk may be evicted and released meanwhile, then it is loaded again
+      chunk = lruCache.get(chunkMetaData);
+    } while (!chunk.retain());
 
     if (debug) {
       DEBUG_LOGGER.info("get chunk from cache whose meta data is: " + chunkMetaData);
     }
 
-    return new Chunk(
-        chunk.getHeader(),
-        chunk.getData().duplicate(),
-        chunkMetaData.getDeleteIntervalList(),
-        chunkMetaData.getStatistics());
+    return copyOf(chunk, chunkMetaData);
+  }
+
+  /**
+   * a chunk sharing the data of the cached one, with the deletions and indexes of chunkMetaData. It
+   * holds a reference of the pooled data if any, which is released by {@link Chunk#release()}.
+   */
+  private static Chunk copyOf(Chunk chunk, ChunkMetadata chunkMetaData) {
+    Chunk copy =
+        new Chunk(
+            chunk.getHeader(),
+            chunk.getData().duplicate(),
+            chunkMetaData.getDeleteIntervalList(),
+            chunkMetaData.getStatistics());
+    copy.setPageValueIndexes(chunkMetaData.getPageValueIndexes());
+    copy.setPooledBuffer(chunk.getPooledBuffer());
+    return copy;
+  }
+
+  /**
+   * Load the chunk into the cache if it is not there yet, without handing out a copy of it.
+   *
+   * @return the size of the chunk data in bytes
+   */
+  public long prefetch(ChunkMetadata chunkMetaData) {
+    if (!CACHE_ENABLE) {
+      return 0;
+    }
+    return lruCache.get(chunkMetaData).getHeader().getDataSize();
   }
 
   public double calculateChunkHitRatio() {
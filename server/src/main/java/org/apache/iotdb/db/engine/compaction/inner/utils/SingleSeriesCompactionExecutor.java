@@ -148,9 +148,7 @@ public class SingleSeriesCompactionExecutor {
 
     // after all the chunk of this sensor is read, flush the remaining data
     if (cachedChunk != null) {
-      flushChunkToFileWriter(cachedChunk, cachedChunkMetadata, true);
-      cachedChunk = null;
-      cachedChunkMetadata = null;
+      flushCachedChunk();
     } else if (pointCountInChunkWriter != 0L) {
       flushChunkWriter();
     }
@@ -189,11 +187,15 @@ public class SingleSeriesCompactionExecutor {
       // deserialize current chunk and write to ChunkWriter, then flush the ChunkWriter
       writeChunkIntoChunkWriter(chunk);
       flushChunkWriterIfLargeEnough();
-    } else if (cachedChunk != null) {
+    } else if (cachedChunk != null && canMergeWithCachedChunk(chunk)) {
       // if there is a cached chunk, merge it with current chunk, then flush it
       mergeWithCachedChunk(chunk, chunkMetadata);
       flushCachedChunkIfLargeEnough();
     } else {
+      if (cachedChunk != null) {
+        // the pages of the cached chunk are encoded differently, flush it alone
+        flushCachedChunk();
+      }
       // there is no points remaining in ChunkWriter and no cached chunk
       // flush it to file directly
       flushChunkToFileWriter(chunk, chunkMetadata, false);
@@ -207,11 +209,15 @@ public class SingleSeriesCompactionExecutor {
       // deserialize current chunk and write to ChunkWriter
       writeChunkIntoChunkWriter(chunk);
       flushChunkWriterIfLargeEnough();
-    } else if (cachedChunk != null) {
+    } else if (cachedChunk != null && canMergeWithCachedChunk(chunk)) {
       // if there is a cached chunk, merge it with current chunk
       mergeWithCachedChunk(chunk, chunkMetadata);
       flushCachedChunkIfLargeEnough();
     } else {
+      if (cachedChunk != null) {
+        // the pages of the cached chunk are encoded differently, flush it alone
+        flushCachedChunk();
+      }
       // there is no points remaining in ChunkWriter and no cached chunk
       // cached current chunk
       cachedChunk = chunk;
@@ -264,6 +270,18 @@ public class SingleSeriesCompactionExecutor {
     cachedChunkMetadata = null;
   }
 
+  /**
+   * Pages are appended to the cached chunk as they are and decoded with the header of the cached
+   * chunk, so the two chunks must share the encoding and the compression. Chunks of one series may
+   * differ in them, e.g. under AUTO encoding or after the series is altered.
+   */
+  private boolean canMergeWithCachedChunk(Chunk chunk) {
+    ChunkHeader cachedChunkHeader = cachedChunk.getHeader();
+    ChunkHeader chunkHeader = chunk.getHeader();
+    return cachedChunkHeader.getEncodingType() == chunkHeader.getEncodingType()
+        && cachedChunkHeader.getCompressionType() == chunkHeader.getCompressionType();
+  }
+
   private void mergeWithCachedChunk(Chunk currentChunk, ChunkMetadata currentChunkMetadata)
       throws IOException {
     // Notice!!!
@@ -333,12 +351,16 @@ public class SingleSeriesCompactionExecutor {
   private void flushCachedChunkIfLargeEnough() throws IOException {
     if (cachedChunk.getChunkStatistic().getCount() >= targetChunkPointNum
         || getChunkSize(cachedChunk) >= targetChunkSize) {
-      flushChunkToFileWriter(cachedChunk, cachedChunkMetadata, true);
-      cachedChunk = null;
-      cachedChunkMetadata = null;
+      flushCachedChunk();
     }
   }
 
+  private void flushCachedChunk() throws IOException {
+    flushChunkToFileWriter(cachedChunk, cachedChunkMetadata, true);
+    cachedChunk = null;
+    cachedChunkMetadata = null;
+  }
+
   private void flushChunkWriter() throws IOException {
     CompactionTaskManager.mergeRateLimiterAcquire(
         compactionRateLimiter, chunkWriter.estimateMaxSeriesMemSize());
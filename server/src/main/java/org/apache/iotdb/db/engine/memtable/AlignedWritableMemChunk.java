@@ -18,8 +18,10 @@
  */
 package org.apache.iotdb.db.engine.memtable;
 
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.utils.datastructure.AlignedTVList;
 import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.db.utils.datastructure.TVListSortAlgorithm;
 import org.apache.iotdb.db.wal.buffer.IWALByteBufferView;
 import org.apache.iotdb.db.wal.utils.WALWriteUtils;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
@@ -230,7 +232,7 @@ public class AlignedWritableMemChunk implements IWritableMemChunk {
 
   @Override
   public synchronized TVList getSortedTvListForQuery() {
-    sortTVList();
+    sortTVList(TVListSortAlgorithm.MERGE);
     // increase reference count
     list.increaseReferenceCount();
     return list;
@@ -238,7 +240,7 @@ public class AlignedWritableMemChunk implements IWritableMemChunk {
 
   @Override
   public synchronized TVList getSortedTvListForQuery(List<IMeasurementSchema> schemaList) {
-    sortTVList();
+    sortTVList(TVListSortAlgorithm.MERGE);
     // increase reference count
     list.increaseReferenceCount();
     List<Integer> columnIndexList = new ArrayList<>();
@@ -251,20 +253,20 @@ public class AlignedWritableMemChunk implements IWritableMemChunk {
     return list.getTvListByColumnIndex(columnIndexList, dataTypeList);
   }
 
-  private void sortTVList() {
+  private void sortTVList(TVListSortAlgorithm algorithm) {
     // check reference count
     if ((list.getReferenceCount() > 0 && !list.isSorted())) {
       list = list.clone();
     }
 
     if (!list.isSorted()) {
-      list.sort();
+      list.sort(algorithm);
     }
   }
 
   @Override
   public synchronized void sortTvListForFlush() {
-    sortTVList();
+    sortTVList(IoTDBDescriptor.getInstance().getConfig().getTvListSortAlgorithmForFlush());
   }
 
   @Override
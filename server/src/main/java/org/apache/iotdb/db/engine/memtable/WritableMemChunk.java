@@ -18,7 +18,9 @@
  */
 package org.apache.iotdb.db.engine.memtable;
 
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.db.utils.datastructure.TVListSortAlgorithm;
 import org.apache.iotdb.db.wal.buffer.IWALByteBufferView;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
@@ -200,7 +202,7 @@ public class WritableMemChunk implements IWritableMemChunk {
 
   @Override
   public synchronized TVList getSortedTvListForQuery() {
-    sortTVList();
+    sortTVList(TVListSortAlgorithm.MERGE);
     // increase reference count
     list.increaseReferenceCount();
     return list;
@@ -211,20 +213,20 @@ public class WritableMemChunk implements IWritableMemChunk {
     throw new UnSupportedDataTypeException(UNSUPPORTED_TYPE + list.getDataType());
   }
 
-  private void sortTVList() {
+  private void sortTVList(TVListSortAlgorithm algorithm) {
     // check reference count
     if ((list.getReferenceCount() > 0 && !list.isSorted())) {
       list = list.clone();
     }
 
     if (!list.isSorted()) {
-      list.sort();
+      list.sort(algorithm);
     }
   }
 
   @Override
   public synchronized void sortTvListForFlush() {
-    sortTVList();
+    sortTVList(IoTDBDescriptor.getInstance().getConfig().getTvListSortAlgorithmForFlush());
   }
 
   @Override
@@ -126,14 +126,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongUnaryOperator;
 
 import static org.apache.iotdb.commons.conf.IoTDBConstant.FILE_NAME_SEPARATOR;
 import static org.apache.iotdb.db.engine.storagegroup.TsFileResource.TEMP_SUFFIX;
@@ -176,14 +179,33 @@ public class DataRegion {
   /** indicating the file to be loaded overlap with some files. */
   private static final int POS_OVERLAP = -3;
 
+  /**
+   * number of the stripes of the time partition locks, consecutive time partitions always fall into
+   * different stripes
+   */
+  private static final int TIME_PARTITION_LOCK_STRIPE_NUM = 16;
+
   private final boolean enableMemControl = config.isEnableMemControl();
   /**
    * a read write lock for guaranteeing concurrent safety when accessing all fields in this class
    * (i.e., schema, (un)sequenceFileList, work(un)SequenceTsFileProcessor,
    * closing(Un)SequenceTsFileProcessor, latestTimeForEachDevice, and
-   * partitionLatestFlushedTimeForEachDevice)
+   * partitionLatestFlushedTimeForEachDevice). Insertions only hold its read lock together with the
+   * locks of the time partitions they write into, see {@link #timePartitionLocks}
+   */
+  private final ReentrantReadWriteLock insertLock = new ReentrantReadWriteLock();
+  /**
+   * striped locks of the time partitions, so that insertions into different time partitions (and
+   * thus different TsFileProcessors) do not block each other. Operations changing the structure of
+   * this data region, e.g., submitting flush tasks, closing files and deletion, still take the
+   * write lock of insertLock, which excludes all insertions.
    */
-  private final ReadWriteLock insertLock = new ReentrantReadWriteLock();
+  private final ReentrantLock[] timePartitionLocks = createTimePartitionLocks();
+  /** group commit of concurrent row insertions, null if disabled */
+  private final InsertRowGroupCommitter insertRowGroupCommitter =
+      config.getInsertGroupCommitMaxRowNum() > 0
+          ? new InsertRowGroupCommitter(this, config.getInsertGroupCommitMaxRowNum())
+          : null;
   /** condition to safely delete data region */
   private final Condition deletedCondition = insertLock.writeLock().newCondition();
   /** data region has been deleted or not */
@@ -195,9 +217,11 @@ public class DataRegion {
    */
   private final ReadWriteLock closeQueryLock = new ReentrantReadWriteLock();
   /** time partition id in the storage group -> tsFileProcessor for this time partition */
-  private final TreeMap<Long, TsFileProcessor> workSequenceTsFileProcessors = new TreeMap<>();
+  private final Map<Long, TsFileProcessor> workSequenceTsFileProcessors =
+      new ConcurrentSkipListMap<>();
   /** time partition id in the storage group -> tsFileProcessor for this time partition */
-  private final TreeMap<Long, TsFileProcessor> workUnsequenceTsFileProcessors = new TreeMap<>();
+  private final Map<Long, TsFileProcessor> workUnsequenceTsFileProcessors =
+      new ConcurrentSkipListMap<>();
 
   // upgrading sequence TsFile resource list
   private List<TsFileResource> upgradeSeqFileList = new LinkedList<>();
@@ -248,7 +272,7 @@ public class DataRegion {
    * different IoTDB instance will have identical data, providing convenience for data comparison
    * across different instances. partition number -> max version number
    */
-  private Map<Long, Long> partitionMaxFileVersions = new HashMap<>();
+  private Map<Long, Long> partitionMaxFileVersions = new ConcurrentHashMap<>();
   /** storage group info for mem control */
   private StorageGroupInfo storageGroupInfo = new StorageGroupInfo(this);
   /** whether it's ready from recovery */
@@ -853,11 +877,12 @@ public class DataRegion {
     if (!isAlive(insertRowPlan.getTime())) {
       throw new OutOfTTLException(insertRowPlan.getTime(), (System.currentTimeMillis() - dataTTL));
     }
-    writeLock("InsertRow");
+    long timePartitionId = StorageEngine.getTimePartition(insertRowPlan.getTime());
+    boolean[] stripes = getTimePartitionLockStripes(timePartitionId, timePartitionId);
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
     try {
       // init map
-      long timePartitionId = StorageEngine.getTimePartition(insertRowPlan.getTime());
-
       lastFlushTimeManager.ensureFlushedTimePartition(timePartitionId);
 
       boolean isSequence =
@@ -876,11 +901,12 @@ public class DataRegion {
       // fire trigger before insertion
       TriggerEngine.fire(TriggerEvent.BEFORE_INSERT, insertRowPlan);
       // insert to sequence or unSequence file
-      insertToTsFileProcessor(insertRowPlan, isSequence, timePartitionId);
+      insertToTsFileProcessor(insertRowPlan, isSequence, timePartitionId, tsFileProcessorsToFlush);
       // fire trigger after insertion
       TriggerEngine.fire(TriggerEvent.AFTER_INSERT, insertRowPlan);
     } finally {
-      writeUnlock();
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
     }
   }
 
@@ -892,6 +918,14 @@ public class DataRegion {
    */
   public void insert(InsertRowNode insertRowNode)
       throws WriteProcessException, TriggerExecutionException {
+    if (isGroupCommitEnabled()) {
+      WriteProcessException failure =
+          insertRowGroupCommitter.insert(Collections.singletonList(insertRowNode))[0];
+      if (failure != null) {
+        throw failure;
+      }
+      return;
+    }
     // reject insertions that are out of ttl
     if (!isAlive(insertRowNode.getTime())) {
       throw new OutOfTTLException(insertRowNode.getTime(), (System.currentTimeMillis() - dataTTL));
@@ -899,11 +933,12 @@ public class DataRegion {
     if (enableMemControl) {
       StorageEngineV2.blockInsertionIfReject(null);
     }
-    writeLock("InsertRow");
+    long timePartitionId = StorageEngine.getTimePartition(insertRowNode.getTime());
+    boolean[] stripes = getTimePartitionLockStripes(timePartitionId, timePartitionId);
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
     try {
       // init map
-      long timePartitionId = StorageEngine.getTimePartition(insertRowNode.getTime());
-
       lastFlushTimeManager.ensureFlushedTimePartition(timePartitionId);
 
       boolean isSequence =
@@ -922,11 +957,12 @@ public class DataRegion {
       // fire trigger before insertion
       // TriggerEngine.fire(TriggerEvent.BEFORE_INSERT, insertRowNode);
       // insert to sequence or unSequence file
-      insertToTsFileProcessor(insertRowNode, isSequence, timePartitionId);
+      insertToTsFileProcessor(insertRowNode, isSequence, timePartitionId, tsFileProcessorsToFlush);
       // fire trigger after insertion
       // TriggerEngine.fire(TriggerEvent.AFTER_INSERT, insertRowNode);
     } finally {
-      writeUnlock();
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
     }
   }
 
@@ -939,7 +975,10 @@ public class DataRegion {
   public void insertTablet(InsertTabletPlan insertTabletPlan)
       throws BatchProcessException, TriggerExecutionException {
 
-    writeLock("insertTablet");
+    boolean[] stripes =
+        getTimePartitionLockStripes(insertTabletPlan.getTimes(), 0, insertTabletPlan.getRowCount());
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
     try {
       TSStatus[] results = new TSStatus[insertTabletPlan.getRowCount()];
       Arrays.fill(results, RpcUtils.SUCCESS_STATUS);
@@ -993,7 +1032,13 @@ public class DataRegion {
               || !IoTDBDescriptor.getInstance().getConfig().isEnableDiscardOutOfOrderData()) {
             noFailure =
                 insertTabletToTsFileProcessor(
-                        insertTabletPlan, before, loc, isSequence, results, beforeTimePartition)
+                        insertTabletPlan,
+                        before,
+                        loc,
+                        isSequence,
+                        results,
+                        beforeTimePartition,
+                        tsFileProcessorsToFlush)
                     && noFailure;
           }
           // re initialize
@@ -1015,7 +1060,13 @@ public class DataRegion {
             if (!IoTDBDescriptor.getInstance().getConfig().isEnableDiscardOutOfOrderData()) {
               noFailure =
                   insertTabletToTsFileProcessor(
-                          insertTabletPlan, before, loc, false, results, beforeTimePartition)
+                          insertTabletPlan,
+                          before,
+                          loc,
+                          false,
+                          results,
+                          beforeTimePartition,
+                          tsFileProcessorsToFlush)
                       && noFailure;
             }
             before = loc;
@@ -1031,7 +1082,13 @@ public class DataRegion {
               || !IoTDBDescriptor.getInstance().getConfig().isEnableDiscardOutOfOrderData())) {
         noFailure =
             insertTabletToTsFileProcessor(
-                    insertTabletPlan, before, loc, isSequence, results, beforeTimePartition)
+                    insertTabletPlan,
+                    before,
+                    loc,
+                    isSequence,
+                    results,
+                    beforeTimePartition,
+                    tsFileProcessorsToFlush)
                 && noFailure;
       }
       long globalLatestFlushedTime =
@@ -1045,7 +1102,8 @@ public class DataRegion {
       // fire trigger after insertion
       TriggerEngine.fire(TriggerEvent.AFTER_INSERT, insertTabletPlan, firePosition);
     } finally {
-      writeUnlock();
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
     }
   }
 
@@ -1060,7 +1118,14 @@ public class DataRegion {
     if (enableMemControl) {
       StorageEngineV2.blockInsertionIfReject(null);
     }
-    writeLock("insertTablet");
+    boolean[] stripes =
+        getTimePartitionLockStripes(
+            insertTabletNode.getTimes(),
+            0,
+            insertTabletNode.getRowCount(),
+            StorageEngineV2::getTimePartition);
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
     try {
       TSStatus[] results = new TSStatus[insertTabletNode.getRowCount()];
       Arrays.fill(results, RpcUtils.SUCCESS_STATUS);
@@ -1115,7 +1180,13 @@ public class DataRegion {
           if (!IoTDBDescriptor.getInstance().getConfig().isEnableDiscardOutOfOrderData()) {
             noFailure =
                 insertTabletToTsFileProcessor(
-                        insertTabletNode, before, loc, false, results, beforeTimePartition)
+                        insertTabletNode,
+                        before,
+                        loc,
+                        false,
+                        results,
+                        beforeTimePartition,
+                        tsFileProcessorsToFlush)
                     && noFailure;
           }
           before = loc;
@@ -1130,7 +1201,13 @@ public class DataRegion {
               || !IoTDBDescriptor.getInstance().getConfig().isEnableDiscardOutOfOrderData())) {
         noFailure =
             insertTabletToTsFileProcessor(
-                    insertTabletNode, before, loc, isSequence, results, beforeTimePartition)
+                    insertTabletNode,
+                    before,
+                    loc,
+                    isSequence,
+                    results,
+                    beforeTimePartition,
+                    tsFileProcessorsToFlush)
                 && noFailure;
       }
       long globalLatestFlushedTime =
@@ -1144,7 +1221,8 @@ public class DataRegion {
       //      TODO: trigger // fire trigger after insertion
       //      TriggerEngine.fire(TriggerEvent.AFTER_INSERT, insertTabletPlan, firePosition);
     } finally {
-      writeUnlock();
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
     }
   }
 
@@ -1168,6 +1246,7 @@ public class DataRegion {
    * @param end end index of rows to be inserted in insertTabletPlan
    * @param results result array
    * @param timePartitionId time partition id
+   * @param tsFileProcessorsToFlush collects the processors that should flush after the insertion
    * @return false if any failure occurs when inserting the tablet, true otherwise
    */
   private boolean insertTabletToTsFileProcessor(
@@ -1176,7 +1255,8 @@ public class DataRegion {
       int end,
       boolean sequence,
       TSStatus[] results,
-      long timePartitionId) {
+      long timePartitionId,
+      List<TsFileProcessor> tsFileProcessorsToFlush) {
     // return when start >= end
     if (start >= end) {
       return true;
@@ -1212,9 +1292,9 @@ public class DataRegion {
           insertTabletPlan.getTimes()[end - 1]);
     }
 
-    // check memtable size and may async try to flush the work memtable
-    if (tsFileProcessor.shouldFlush()) {
-      fileFlushPolicy.apply(this, tsFileProcessor, sequence);
+    // check memtable size and may async try to flush the work memtable after the insertion
+    if (tsFileProcessor.shouldFlush() && !tsFileProcessorsToFlush.contains(tsFileProcessor)) {
+      tsFileProcessorsToFlush.add(tsFileProcessor);
     }
     return true;
   }
@@ -1230,6 +1310,7 @@ public class DataRegion {
    * @param end end index of rows to be inserted in insertTabletPlan
    * @param results result array
    * @param timePartitionId time partition id
+   * @param tsFileProcessorsToFlush collects the processors that should flush after the insertion
    * @return false if any failure occurs when inserting the tablet, true otherwise
    */
   private boolean insertTabletToTsFileProcessor(
@@ -1238,7 +1319,8 @@ public class DataRegion {
       int end,
       boolean sequence,
       TSStatus[] results,
-      long timePartitionId) {
+      long timePartitionId,
+      List<TsFileProcessor> tsFileProcessorsToFlush) {
     // return when start >= end
     if (start >= end) {
       return true;
@@ -1274,9 +1356,9 @@ public class DataRegion {
           insertTabletNode.getTimes()[end - 1]);
     }
 
-    // check memtable size and may async try to flush the work memtable
-    if (tsFileProcessor.shouldFlush()) {
-      fileFlushPolicy.apply(this, tsFileProcessor, sequence);
+    // check memtable size and may async try to flush the work memtable after the insertion
+    if (tsFileProcessor.shouldFlush() && !tsFileProcessorsToFlush.contains(tsFileProcessor)) {
+      tsFileProcessorsToFlush.add(tsFileProcessor);
     }
     return true;
   }
@@ -1325,7 +1407,10 @@ public class DataRegion {
   }
 
   private void insertToTsFileProcessor(
-      InsertRowPlan insertRowPlan, boolean sequence, long timePartitionId)
+      InsertRowPlan insertRowPlan,
+      boolean sequence,
+      long timePartitionId,
+      List<TsFileProcessor> tsFileProcessorsToFlush)
       throws WriteProcessException {
     TsFileProcessor tsFileProcessor = getOrCreateTsFileProcessor(timePartitionId, sequence);
     if (tsFileProcessor == null) {
@@ -1343,14 +1428,17 @@ public class DataRegion {
 
     tryToUpdateInsertLastCache(insertRowPlan, globalLatestFlushTime);
 
-    // check memtable size and may asyncTryToFlush the work memtable
-    if (tsFileProcessor.shouldFlush()) {
-      fileFlushPolicy.apply(this, tsFileProcessor, sequence);
+    // check memtable size and may asyncTryToFlush the work memtable after the insertion
+    if (tsFileProcessor.shouldFlush() && !tsFileProcessorsToFlush.contains(tsFileProcessor)) {
+      tsFileProcessorsToFlush.add(tsFileProcessor);
     }
   }
 
   private void insertToTsFileProcessor(
-      InsertRowNode insertRowNode, boolean sequence, long timePartitionId)
+      InsertRowNode insertRowNode,
+      boolean sequence,
+      long timePartitionId,
+      List<TsFileProcessor> tsFileProcessorsToFlush)
       throws WriteProcessException {
     TsFileProcessor tsFileProcessor = getOrCreateTsFileProcessor(timePartitionId, sequence);
     if (tsFileProcessor == null) {
@@ -1358,7 +1446,15 @@ public class DataRegion {
     }
 
     tsFileProcessor.insert(insertRowNode);
+    afterInsertToTsFileProcessor(
+        tsFileProcessor, insertRowNode, timePartitionId, tsFileProcessorsToFlush);
+  }
 
+  private void afterInsertToTsFileProcessor(
+      TsFileProcessor tsFileProcessor,
+      InsertRowNode insertRowNode,
+      long timePartitionId,
+      List<TsFileProcessor> tsFileProcessorsToFlush) {
     // try to update the latest time of the device of this tsRecord
     lastFlushTimeManager.updateLastTime(
         timePartitionId, insertRowNode.getDevicePath().getFullPath(), insertRowNode.getTime());
@@ -1368,9 +1464,9 @@ public class DataRegion {
 
     tryToUpdateInsertLastCache(insertRowNode, globalLatestFlushTime);
 
-    // check memtable size and may asyncTryToFlush the work memtable
-    if (tsFileProcessor.shouldFlush()) {
-      fileFlushPolicy.apply(this, tsFileProcessor, sequence);
+    // check memtable size and may asyncTryToFlush the work memtable after the insertion
+    if (tsFileProcessor.shouldFlush() && !tsFileProcessorsToFlush.contains(tsFileProcessor)) {
+      tsFileProcessorsToFlush.add(tsFileProcessor);
     }
   }
 
@@ -1495,7 +1591,7 @@ public class DataRegion {
    * @param sequence whether is sequence or not
    */
   private TsFileProcessor getOrCreateTsFileProcessorIntern(
-      long timeRangeId, TreeMap<Long, TsFileProcessor> tsFileProcessorTreeMap, boolean sequence)
+      long timeRangeId, Map<Long, TsFileProcessor> tsFileProcessorTreeMap, boolean sequence)
       throws IOException, DiskSpaceInsufficientException {
 
     TsFileProcessor res = tsFileProcessorTreeMap.get(timeRangeId);
@@ -1981,7 +2077,8 @@ public class DataRegion {
 
   /** lock the read lock of the insert lock */
   public void readLock() {
-    // apply read lock for SG insert lock to prevent inconsistent with concurrently writing memtable
+    // apply read lock for SG insert lock to prevent the processors from being flushed or closed,
+    // the working memtables being written concurrently are guarded by the processors themselves
     insertLock.readLock().lock();
     // apply read lock for TsFileResource list
     tsFileManager.readLock();
@@ -2005,6 +2102,229 @@ public class DataRegion {
     insertLock.writeLock().unlock();
   }
 
+  private static ReentrantLock[] createTimePartitionLocks() {
+    ReentrantLock[] locks = new ReentrantLock[TIME_PARTITION_LOCK_STRIPE_NUM];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    return locks;
+  }
+
+  /**
+   * get the stripes of the time partition locks guarding the time partitions in
+   * [firstTimePartition, lastTimePartition]
+   */
+  private boolean[] getTimePartitionLockStripes(long firstTimePartition, long lastTimePartition) {
+    if (firstTimePartition > lastTimePartition) {
+      return getTimePartitionLockStripes(lastTimePartition, firstTimePartition);
+    }
+    boolean[] stripes = new boolean[TIME_PARTITION_LOCK_STRIPE_NUM];
+    for (long timePartition = firstTimePartition;
+        timePartition <= lastTimePartition
+            && timePartition - firstTimePartition < TIME_PARTITION_LOCK_STRIPE_NUM;
+        timePartition++) {
+      stripes[(int) Math.floorMod(timePartition, (long) TIME_PARTITION_LOCK_STRIPE_NUM)] = true;
+    }
+    return stripes;
+  }
+
+  /** get the stripes of the time partition locks guarding the time partitions of the given times */
+  private boolean[] getTimePartitionLockStripes(long[] times, int start, int end) {
+    return getTimePartitionLockStripes(times, start, end, StorageEngine::getTimePartition);
+  }
+
+  /**
+   * get the stripes of the time partition locks guarding the time partitions of the given times,
+   * the times are not required to be sorted
+   *
+   * @param timePartitionFunction maps a time to its time partition, must be the same function the
+   *     insertion uses to choose the TsFileProcessors
+   */
+  private boolean[] getTimePartitionLockStripes(
+      long[] times, int start, int end, LongUnaryOperator timePartitionFunction) {
+    if (start >= end) {
+      return new boolean[TIME_PARTITION_LOCK_STRIPE_NUM];
+    }
+    long minTime = Long.MAX_VALUE;
+    long maxTime = Long.MIN_VALUE;
+    for (int i = start; i < end; i++) {
+      minTime = Math.min(minTime, times[i]);
+      maxTime = Math.max(maxTime, times[i]);
+    }
+    return getTimePartitionLockStripes(
+        timePartitionFunction.applyAsLong(minTime), timePartitionFunction.applyAsLong(maxTime));
+  }
+
+  /**
+   * lock the read lock of the insert lock and then the given stripes of the time partition locks.
+   * The stripes are always locked in ascending order to avoid dead locks between insertions.
+   */
+  private void insertLock(boolean[] stripes) {
+    insertLock.readLock().lock();
+    for (int i = 0; i < stripes.length; i++) {
+      if (stripes[i]) {
+        timePartitionLocks[i].lock();
+      }
+    }
+  }
+
+  /**
+   * Insertions nested in another one, e.g., fired by a trigger, already hold the insert lock and
+   * are not group committed, because the group may be committed by another thread.
+   */
+  private boolean isGroupCommitEnabled() {
+    return insertRowGroupCommitter != null && insertLock.getReadHoldCount() == 0;
+  }
+
+  /**
+   * Insert the rows of concurrent insertions together, see {@link InsertRowGroupCommitter}. The
+   * insert locks are locked once for all the rows, and all the rows are logged in the WAL and
+   * inserted before waiting for any WAL entry, so that the rows share the WAL flushes instead of
+   * waiting for one each while holding the locks.
+   *
+   * <p>Each row reserves its memory right before it is inserted, because the memory cost of a row
+   * depends on the memtable the previous rows were inserted into, e.g., only the first row of a
+   * series or of a primitive array is charged for them. A row whose WAL entry fails to be flushed
+   * is reported as failed, though it is in the memtable already. A row that fails, including with a
+   * runtime exception, does not fail the other rows of the group.
+   *
+   * @param insertRowNodes rows to insert
+   * @return the failure of each row, null for the inserted ones
+   */
+  WriteProcessException[] insertRowGroup(List<InsertRowNode> insertRowNodes) {
+    int rowNum = insertRowNodes.size();
+    WriteProcessException[] failures = new WriteProcessException[rowNum];
+    if (enableMemControl) {
+      try {
+        StorageEngineV2.blockInsertionIfReject(null);
+      } catch (WriteProcessRejectException e) {
+        Arrays.fill(failures, e);
+        return failures;
+      }
+    }
+
+    long[] timePartitionIds = new long[rowNum];
+    boolean[] stripes = new boolean[TIME_PARTITION_LOCK_STRIPE_NUM];
+    for (int i = 0; i < rowNum; i++) {
+      long time = insertRowNodes.get(i).getTime();
+      // reject insertions that are out of ttl
+      if (!isAlive(time)) {
+        failures[i] = new OutOfTTLException(time, (System.currentTimeMillis() - dataTTL));
+        continue;
+      }
+      timePartitionIds[i] = StorageEngine.getTimePartition(time);
+      stripes[(int) Math.floorMod(timePartitionIds[i], (long) TIME_PARTITION_LOCK_STRIPE_NUM)] =
+          true;
+    }
+
+    TsFileProcessor[] tsFileProcessors = new TsFileProcessor[rowNum];
+    WALFlushListener[] walFlushListeners = new WALFlushListener[rowNum];
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
+    try {
+      for (int i = 0; i < rowNum; i++) {
+        if (failures[i] != null) {
+          continue;
+        }
+        InsertRowNode insertRowNode = insertRowNodes.get(i);
+        long timePartitionId = timePartitionIds[i];
+        try {
+          lastFlushTimeManager.ensureFlushedTimePartition(timePartitionId);
+          boolean isSequence =
+              insertRowNode.getTime()
+                  > lastFlushTimeManager.getFlushedTime(
+                      timePartitionId, insertRowNode.getDevicePath().getFullPath());
+          // is unsequence and user set config to discard out of order data
+          if (!isSequence && config.isEnableDiscardOutOfOrderData()) {
+            continue;
+          }
+          lastFlushTimeManager.ensureLastTimePartition(timePartitionId);
+
+          TsFileProcessor tsFileProcessor = getOrCreateTsFileProcessor(timePartitionId, isSequence);
+          if (tsFileProcessor == null) {
+            continue;
+          }
+          long[] memIncrements = tsFileProcessor.reserveMemory(insertRowNode);
+          walFlushListeners[i] = tsFileProcessor.logInWAL(insertRowNode, memIncrements);
+          tsFileProcessor.insertToMemTable(insertRowNode);
+          afterInsertToTsFileProcessor(
+              tsFileProcessor, insertRowNode, timePartitionId, tsFileProcessorsToFlush);
+          tsFileProcessors[i] = tsFileProcessor;
+        } catch (WriteProcessException e) {
+          failures[i] = e;
+        } catch (RuntimeException e) {
+          // only this row fails, the previous rows of the group are in the memtable and WAL
+          logger.error(
+              "{}-{} failed to insert a row of device {}",
+              logicalStorageGroupName,
+              dataRegionId,
+              insertRowNode.getDevicePath(),
+              e);
+          failures[i] = new WriteProcessException(e);
+        }
+      }
+
+      for (int i = 0; i < rowNum; i++) {
+        if (tsFileProcessors[i] == null) {
+          continue;
+        }
+        try {
+          // the row is in the memtable, so its memory is not rolled back
+          tsFileProcessors[i].waitForWAL(walFlushListeners[i], null);
+        } catch (WriteProcessException e) {
+          failures[i] = e;
+        } catch (RuntimeException e) {
+          failures[i] = new WriteProcessException(e);
+        }
+      }
+    } finally {
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
+    }
+    return failures;
+  }
+
+  /** unlock the locks locked by {@link #insertLock(boolean[])} */
+  private void insertUnlock(boolean[] stripes) {
+    for (int i = stripes.length - 1; i >= 0; i--) {
+      if (stripes[i]) {
+        timePartitionLocks[i].unlock();
+      }
+    }
+    insertLock.readLock().unlock();
+  }
+
+  /**
+   * Insertions only find out the TsFileProcessors that should flush, because submitting flush tasks
+   * and closing files need the write lock of the insert lock. This method submits them after the
+   * insertion released its locks.
+   *
+   * @param tsFileProcessors tsfile processors found by the insertion
+   */
+  private void flushAfterInsertion(List<TsFileProcessor> tsFileProcessors) {
+    // an insertion nested in another one, e.g., fired by a trigger, can not upgrade to the write
+    // lock, the processors will be checked again by the following insertions
+    if (tsFileProcessors.isEmpty() || insertLock.getReadHoldCount() > 0) {
+      return;
+    }
+    writeLock("flushAfterInsertion");
+    try {
+      for (TsFileProcessor tsFileProcessor : tsFileProcessors) {
+        Map<Long, TsFileProcessor> workTsFileProcessors =
+            tsFileProcessor.isSequence()
+                ? workSequenceTsFileProcessors
+                : workUnsequenceTsFileProcessors;
+        // the processor may have been flushed or closed by others since the insertion
+        if (workTsFileProcessors.get(tsFileProcessor.getTimeRangeId()) == tsFileProcessor
+            && tsFileProcessor.shouldFlush()) {
+          fileFlushPolicy.apply(this, tsFileProcessor, tsFileProcessor.isSequence());
+        }
+      }
+    } finally {
+      writeUnlock();
+    }
+  }
+
   /**
    * @param tsFileResources includes sealed and unsealed tsfile resources
    * @return fill unsealed tsfile resources with memory data and ChunkMetadataList of data in disk
@@ -3386,10 +3706,16 @@ public class DataRegion {
    */
   public void insert(InsertRowsOfOneDevicePlan insertRowsOfOneDevicePlan)
       throws WriteProcessException, TriggerExecutionException {
-    writeLock("InsertRowsOfOneDevice");
+    InsertRowPlan[] rowPlans = insertRowsOfOneDevicePlan.getRowPlans();
+    long[] times = new long[rowPlans.length];
+    for (int i = 0; i < rowPlans.length; i++) {
+      times[i] = rowPlans[i].getTime();
+    }
+    boolean[] stripes = getTimePartitionLockStripes(times, 0, times.length);
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
     try {
       boolean isSequence = false;
-      InsertRowPlan[] rowPlans = insertRowsOfOneDevicePlan.getRowPlans();
       for (int i = 0, rowPlansLength = rowPlans.length; i < rowPlansLength; i++) {
 
         InsertRowPlan plan = rowPlans[i];
@@ -3402,7 +3728,7 @@ public class DataRegion {
         long timePartitionId = StorageEngine.getTimePartition(plan.getTime());
 
         lastFlushTimeManager.ensureFlushedTimePartition(timePartitionId);
-        // as the plans have been ordered, and we have get the write lock,
+        // as the plans have been ordered, and we have get the locks of the time partitions,
         // So, if a plan is sequenced, then all the rest plans are sequenced.
         //
         if (!isSequence) {
@@ -3422,12 +3748,13 @@ public class DataRegion {
         // fire trigger before insertion
         TriggerEngine.fire(TriggerEvent.BEFORE_INSERT, plan);
         // insert to sequence or unSequence file
-        insertToTsFileProcessor(plan, isSequence, timePartitionId);
+        insertToTsFileProcessor(plan, isSequence, timePartitionId, tsFileProcessorsToFlush);
         // fire trigger before insertion
         TriggerEngine.fire(TriggerEvent.AFTER_INSERT, plan);
       }
     } finally {
-      writeUnlock();
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
     }
   }
 
@@ -3441,7 +3768,14 @@ public class DataRegion {
     if (enableMemControl) {
       StorageEngineV2.blockInsertionIfReject(null);
     }
-    writeLock("InsertRowsOfOneDevice");
+    List<InsertRowNode> insertRowNodeList = insertRowsOfOneDeviceNode.getInsertRowNodeList();
+    long[] times = new long[insertRowNodeList.size()];
+    for (int i = 0; i < times.length; i++) {
+      times[i] = insertRowNodeList.get(i).getTime();
+    }
+    boolean[] stripes = getTimePartitionLockStripes(times, 0, times.length);
+    List<TsFileProcessor> tsFileProcessorsToFlush = new ArrayList<>();
+    insertLock(stripes);
     try {
       boolean isSequence = false;
       for (int i = 0; i < insertRowsOfOneDeviceNode.getInsertRowNodeList().size(); i++) {
@@ -3465,7 +3799,7 @@ public class DataRegion {
         long timePartitionId = StorageEngine.getTimePartition(insertRowNode.getTime());
 
         lastFlushTimeManager.ensureFlushedTimePartition(timePartitionId);
-        // as the plans have been ordered, and we have get the write lock,
+        // as the plans have been ordered, and we have get the locks of the time partitions,
         // So, if a plan is sequenced, then all the rest plans are sequenced.
         //
         if (!isSequence) {
@@ -3486,7 +3820,8 @@ public class DataRegion {
         // TriggerEngine.fire(TriggerEvent.BEFORE_INSERT, plan);
         // insert to sequence or unSequence file
         try {
-          insertToTsFileProcessor(insertRowNode, isSequence, timePartitionId);
+          insertToTsFileProcessor(
+              insertRowNode, isSequence, timePartitionId, tsFileProcessorsToFlush);
         } catch (WriteProcessException e) {
           insertRowsOfOneDeviceNode
               .getResults()
@@ -3496,7 +3831,8 @@ public class DataRegion {
         // TriggerEngine.fire(TriggerEvent.AFTER_INSERT, plan);
       }
     } finally {
-      writeUnlock();
+      insertUnlock(stripes);
+      flushAfterInsertion(tsFileProcessorsToFlush);
     }
     if (!insertRowsOfOneDeviceNode.getResults().isEmpty()) {
       throw new BatchProcessException("Partial failed inserting rows of one device");
@@ -3509,6 +3845,21 @@ public class DataRegion {
    * @param insertRowsNode batch of rows belongs to multiple devices
    */
   public void insert(InsertRowsNode insertRowsNode) throws BatchProcessException {
+    if (isGroupCommitEnabled()) {
+      WriteProcessException[] failures =
+          insertRowGroupCommitter.insert(insertRowsNode.getInsertRowNodeList());
+      for (int i = 0; i < failures.length; i++) {
+        if (failures[i] != null) {
+          insertRowsNode
+              .getResults()
+              .put(i, RpcUtils.getStatus(failures[i].getErrorCode(), failures[i].getMessage()));
+        }
+      }
+      if (!insertRowsNode.getResults().isEmpty()) {
+        throw new BatchProcessException("Partial failed inserting rows");
+      }
+      return;
+    }
     for (int i = 0; i < insertRowsNode.getInsertRowNodeList().size(); i++) {
       InsertRowNode insertRowNode = insertRowsNode.getInsertRowNodeList().get(i);
       try {
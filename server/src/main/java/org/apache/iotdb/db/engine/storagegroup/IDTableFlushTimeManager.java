@@ -25,9 +25,9 @@ import org.apache.iotdb.db.metadata.idtable.entry.DeviceEntry;
 import java.util.Map;
 
 /**
- * This class manages last time and flush time for sequence and unsequence determination This class
- * This class is NOT thread safe, caller should ensure synchronization This class not support
- * upgrade
+ * This class manages last time and flush time for sequence and unsequence determination. Different
+ * time partitions can be accessed concurrently, but the accesses to one time partition are NOT
+ * thread safe, caller should ensure synchronization. This class not support upgrade
  */
 public class IDTableFlushTimeManager implements ILastFlushTimeManager {
   IDTable idTable;
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.storagegroup;
+
+import org.apache.iotdb.db.exception.WriteProcessException;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.write.InsertRowNode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit of the rows inserted into a {@link DataRegion} concurrently. Each insertion queues
+ * its rows, and whichever insertion holds the commit lock inserts the queued rows of all the
+ * insertions as one group by {@link DataRegion#insertRowGroup(List)}, so that many small concurrent
+ * insertions share one locking of the data region and one WAL flush instead of queueing up for
+ * their own. An insertion returns once its rows are committed, either by itself or by another one.
+ */
+public class InsertRowGroupCommitter {
+
+  private static final Logger logger = LoggerFactory.getLogger(InsertRowGroupCommitter.class);
+
+  private final DataRegion dataRegion;
+  /** a group stops taking more insertions once it has maxGroupRowNum rows */
+  private final int maxGroupRowNum;
+
+  private final Queue<PendingInsertion> pendingInsertions = new ConcurrentLinkedQueue<>();
+  private final Lock commitLock = new ReentrantLock();
+
+  public InsertRowGroupCommitter(DataRegion dataRegion, int maxGroupRowNum) {
+    this.dataRegion = dataRegion;
+    this.maxGroupRowNum = maxGroupRowNum;
+  }
+
+  /**
+   * Insert the rows together with the rows of concurrent insertions.
+   *
+   * @param insertRowNodes rows to insert
+   * @return the failure of each row, null for the inserted ones
+   */
+  public WriteProcessException[] insert(List<InsertRowNode> insertRowNodes) {
+    PendingInsertion insertion = new PendingInsertion(insertRowNodes);
+    pendingInsertions.add(insertion);
+    commitLock.lock();
+    try {
+      // the insertion may have been committed in the group of the previous lock holder
+      while (insertion.failures == null) {
+        commitGroup();
+      }
+    } finally {
+      commitLock.unlock();
+    }
+    return insertion.failures;
+  }
+
+  private void commitGroup() {
+    List<PendingInsertion> group = new ArrayList<>();
+    List<InsertRowNode> rows = new ArrayList<>();
+    PendingInsertion insertion;
+    while (rows.size() < maxGroupRowNum && (insertion = pendingInsertions.poll()) != null) {
+      group.add(insertion);
+      rows.addAll(insertion.insertRowNodes);
+    }
+
+    WriteProcessException[] failures;
+    try {
+      failures = dataRegion.insertRowGroup(rows);
+    } catch (RuntimeException e) {
+      // fail the whole group rather than leaving its insertions waiting forever
+      logger.error(
+          "{}-{} failed to insert a group of {} rows",
+          dataRegion.getLogicalStorageGroupName(),
+          dataRegion.getDataRegionId(),
+          rows.size(),
+          e);
+      failures = new WriteProcessException[rows.size()];
+      Arrays.fill(failures, new WriteProcessException(e));
+    }
+
+    int offset = 0;
+    for (PendingInsertion committed : group) {
+      int rowNum = committed.insertRowNodes.size();
+      committed.failures = Arrays.copyOfRange(failures, offset, offset + rowNum);
+      offset += rowNum;
+    }
+  }
+
+  private static class PendingInsertion {
+
+    private final List<InsertRowNode> insertRowNodes;
+    /** set when the insertion is committed, guarded by commitLock */
+    private WriteProcessException[] failures;
+
+    private PendingInsertion(List<InsertRowNode> insertRowNodes) {
+      this.insertRowNodes = insertRowNodes;
+    }
+  }
+}
@@ -127,7 +127,7 @@ public class TsFileProcessor {
    */
   private volatile boolean managedByFlushManager;
 
-  /** a lock to mutual exclude query and query */
+  /** a lock to mutual exclude query and flush or insertion of the working memtable */
   private final ReadWriteLock flushQueryLock = new ReentrantReadWriteLock();
   /**
    * It is set by the StorageGroupProcessor and checked by flush threads. (If shouldClose == true
@@ -252,22 +252,28 @@ public class TsFileProcessor {
           e);
     }
 
-    if (insertRowPlan.isAligned()) {
-      workMemTable.insertAlignedRow(insertRowPlan);
-    } else {
-      workMemTable.insert(insertRowPlan);
-    }
+    // exclude queries while the working memtable and the time index are changing
+    flushQueryLock.writeLock().lock();
+    try {
+      if (insertRowPlan.isAligned()) {
+        workMemTable.insertAlignedRow(insertRowPlan);
+      } else {
+        workMemTable.insert(insertRowPlan);
+      }
 
-    // update start time of this memtable
-    tsFileResource.updateStartTime(
-        insertRowPlan.getDeviceID().toStringID(), insertRowPlan.getTime());
-    // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
-    // for unsequence tsfile, we have to update the endTime for each insertion.
-    if (!sequence) {
-      tsFileResource.updateEndTime(
+      // update start time of this memtable
+      tsFileResource.updateStartTime(
           insertRowPlan.getDeviceID().toStringID(), insertRowPlan.getTime());
+      // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
+      // for unsequence tsfile, we have to update the endTime for each insertion.
+      if (!sequence) {
+        tsFileResource.updateEndTime(
+            insertRowPlan.getDeviceID().toStringID(), insertRowPlan.getTime());
+      }
+      tsFileResource.updatePlanIndexes(insertRowPlan.getIndex());
+    } finally {
+      flushQueryLock.writeLock().unlock();
     }
-    tsFileResource.updatePlanIndexes(insertRowPlan.getIndex());
   }
 
   /**
@@ -276,7 +282,19 @@ public class TsFileProcessor {
    * @param insertRowNode physical plan of insertion
    */
   public void insert(InsertRowNode insertRowNode) throws WriteProcessException {
+    long[] memIncrements = reserveMemory(insertRowNode);
+    WALFlushListener walFlushListener = logInWAL(insertRowNode, memIncrements);
+    waitForWAL(walFlushListener, memIncrements);
+    insertToMemTable(insertRowNode);
+  }
 
+  /**
+   * The first step of inserting an InsertRowNode, which checks and reserves its memory in the
+   * working memtable.
+   *
+   * @return the memory increments to roll back if the insertion fails
+   */
+  long[] reserveMemory(InsertRowNode insertRowNode) throws WriteProcessException {
     if (workMemTable == null) {
       createNewWorkingMemTable();
     }
@@ -295,39 +313,73 @@ public class TsFileProcessor {
                 insertRowNode.getDataTypes(), insertRowNode.getValues());
       }
     }
+    return memIncrements;
+  }
+
+  /**
+   * The second step of inserting an InsertRowNode, which logs it in the WAL without waiting for the
+   * WAL to be flushed, so that the WAL entries of several rows can be flushed together.
+   */
+  WALFlushListener logInWAL(InsertRowNode insertRowNode, long[] memIncrements)
+      throws WriteProcessException {
+    try {
+      return walNode.log(workMemTable.getMemTableId(), insertRowNode);
+    } catch (Exception e) {
+      throw walFailed(e, memIncrements);
+    }
+  }
 
+  /**
+   * The third step of inserting an InsertRowNode, which waits for its WAL entry to be flushed. A
+   * group commit inserts its rows into the memtable before waiting, and passes null memIncrements
+   * as there is nothing to roll back then.
+   */
+  void waitForWAL(WALFlushListener walFlushListener, long[] memIncrements)
+      throws WriteProcessException {
     try {
-      WALFlushListener walFlushListener = walNode.log(workMemTable.getMemTableId(), insertRowNode);
       if (walFlushListener.waitForResult() == WALFlushListener.Status.FAILURE) {
         throw walFlushListener.getCause();
       }
     } catch (Exception e) {
-      if (enableMemControl && memIncrements != null) {
-        rollbackMemoryInfo(memIncrements);
-      }
-      throw new WriteProcessException(
-          String.format(
-              "%s: %s write WAL failed",
-              storageGroupName, tsFileResource.getTsFile().getAbsolutePath()),
-          e);
+      throw walFailed(e, memIncrements);
     }
+  }
 
-    if (insertRowNode.isAligned()) {
-      workMemTable.insertAlignedRow(insertRowNode);
-    } else {
-      workMemTable.insert(insertRowNode);
+  private WriteProcessException walFailed(Exception e, long[] memIncrements) {
+    if (enableMemControl && memIncrements != null) {
+      rollbackMemoryInfo(memIncrements);
     }
+    return new WriteProcessException(
+        String.format(
+            "%s: %s write WAL failed",
+            storageGroupName, tsFileResource.getTsFile().getAbsolutePath()),
+        e);
+  }
 
-    // update start time of this memtable
-    tsFileResource.updateStartTime(
-        insertRowNode.getDeviceID().toStringID(), insertRowNode.getTime());
-    // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
-    // for unsequence tsfile, we have to update the endTime for each insertion.
-    if (!sequence) {
-      tsFileResource.updateEndTime(
+  /** The last step of inserting an InsertRowNode, which writes it into the working memtable. */
+  void insertToMemTable(InsertRowNode insertRowNode) {
+    // exclude queries while the working memtable and the time index are changing
+    flushQueryLock.writeLock().lock();
+    try {
+      if (insertRowNode.isAligned()) {
+        workMemTable.insertAlignedRow(insertRowNode);
+      } else {
+        workMemTable.insert(insertRowNode);
+      }
+
+      // update start time of this memtable
+      tsFileResource.updateStartTime(
           insertRowNode.getDeviceID().toStringID(), insertRowNode.getTime());
+      // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
+      // for unsequence tsfile, we have to update the endTime for each insertion.
+      if (!sequence) {
+        tsFileResource.updateEndTime(
+            insertRowNode.getDeviceID().toStringID(), insertRowNode.getTime());
+      }
+      // tsFileResource.updatePlanIndexes(insertRowNode.getIndex());
+    } finally {
+      flushQueryLock.writeLock().unlock();
     }
-    // tsFileResource.updatePlanIndexes(insertRowNode.getIndex());
   }
 
   /**
@@ -394,32 +446,36 @@ public class TsFileProcessor {
       throw new WriteProcessException(e);
     }
 
+    // exclude queries while the working memtable and the time index are changing
+    flushQueryLock.writeLock().lock();
     try {
       if (insertTabletPlan.isAligned()) {
         workMemTable.insertAlignedTablet(insertTabletPlan, start, end);
       } else {
         workMemTable.insertTablet(insertTabletPlan, start, end);
       }
+      tsFileResource.updateStartTime(
+          insertTabletPlan.getDeviceID().toStringID(), insertTabletPlan.getTimes()[start]);
+
+      // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
+      // for unsequence tsfile, we have to update the endTime for each insertion.
+      if (!sequence) {
+        tsFileResource.updateEndTime(
+            insertTabletPlan.getDeviceID().toStringID(), insertTabletPlan.getTimes()[end - 1]);
+      }
+      tsFileResource.updatePlanIndexes(insertTabletPlan.getIndex());
     } catch (WriteProcessException e) {
       for (int i = start; i < end; i++) {
         results[i] = RpcUtils.getStatus(TSStatusCode.INTERNAL_SERVER_ERROR, e.getMessage());
       }
       throw new WriteProcessException(e);
+    } finally {
+      flushQueryLock.writeLock().unlock();
     }
 
     for (int i = start; i < end; i++) {
       results[i] = RpcUtils.SUCCESS_STATUS;
     }
-    tsFileResource.updateStartTime(
-        insertTabletPlan.getDeviceID().toStringID(), insertTabletPlan.getTimes()[start]);
-
-    // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
-    // for unsequence tsfile, we have to update the endTime for each insertion.
-    if (!sequence) {
-      tsFileResource.updateEndTime(
-          insertTabletPlan.getDeviceID().toStringID(), insertTabletPlan.getTimes()[end - 1]);
-    }
-    tsFileResource.updatePlanIndexes(insertTabletPlan.getIndex());
   }
 
   private void createNewWorkingMemTable() throws WriteProcessException {
@@ -491,34 +547,38 @@ public class TsFileProcessor {
       throw new WriteProcessException(e);
     }
 
+    // exclude queries while the working memtable and the time index are changing
+    flushQueryLock.writeLock().lock();
     try {
       if (insertTabletNode.isAligned()) {
         workMemTable.insertAlignedTablet(insertTabletNode, start, end);
       } else {
         workMemTable.insertTablet(insertTabletNode, start, end);
       }
+      tsFileResource.updateStartTime(
+          insertTabletNode.getDeviceID().toStringID(), insertTabletNode.getTimes()[start]);
+
+      // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
+      // for unsequence tsfile, we have to update the endTime for each insertion.
+      if (!sequence) {
+        tsFileResource.updateEndTime(
+            insertTabletNode.getDeviceID().toStringID(), insertTabletNode.getTimes()[end - 1]);
+      }
+      // TODO: PlanIndex
+      tsFileResource.updatePlanIndexes(0);
+      //    tsFileResource.updatePlanIndexes(insertTabletPlan.getIndex());
     } catch (WriteProcessException e) {
       for (int i = start; i < end; i++) {
         results[i] = RpcUtils.getStatus(TSStatusCode.INTERNAL_SERVER_ERROR, e.getMessage());
       }
       throw new WriteProcessException(e);
+    } finally {
+      flushQueryLock.writeLock().unlock();
     }
 
     for (int i = start; i < end; i++) {
       results[i] = RpcUtils.SUCCESS_STATUS;
     }
-    tsFileResource.updateStartTime(
-        insertTabletNode.getDeviceID().toStringID(), insertTabletNode.getTimes()[start]);
-
-    // for sequence tsfile, we update the endTime only when the file is prepared to be closed.
-    // for unsequence tsfile, we have to update the endTime for each insertion.
-    if (!sequence) {
-      tsFileResource.updateEndTime(
-          insertTabletNode.getDeviceID().toStringID(), insertTabletNode.getTimes()[end - 1]);
-    }
-    // TODO: PlanIndex
-    tsFileResource.updatePlanIndexes(0);
-    //    tsFileResource.updatePlanIndexes(insertTabletPlan.getIndex());
   }
 
   @SuppressWarnings("squid:S3776") // high Cognitive Complexity
@@ -784,7 +844,9 @@ public class TsFileProcessor {
     memTableIncrement += textDataIncrement;
     storageGroupInfo.addStorageGroupMemCost(memTableIncrement);
     tsFileProcessorInfo.addTSPMemCost(chunkMetadataIncrement);
-    if (storageGroupInfo.needToReportToSystem()) {
+    // the off-heap time arrays are not part of the mem cost, so they are checked apart
+    if (storageGroupInfo.needToReportToSystem()
+        || PrimitiveArrayManager.isOffHeapMemoryForWriteExceeded()) {
       try {
         if (!SystemInfo.getInstance().reportStorageGroupStatus(storageGroupInfo, this)) {
           StorageEngine.blockInsertionIfReject(this);
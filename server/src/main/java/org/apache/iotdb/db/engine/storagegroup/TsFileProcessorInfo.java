@@ -70,6 +70,10 @@ public class TsFileProcessorInfo {
     }
   }
 
+  public long getMemCost() {
+    return memCost;
+  }
+
   /** called when closing TSP */
   public void clear() {
     storageGroupInfo.releaseStorageGroupMemCost(memCost);
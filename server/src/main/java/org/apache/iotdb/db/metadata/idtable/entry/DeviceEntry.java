@@ -24,6 +24,7 @@ import org.apache.iotdb.commons.utils.TestOnly;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** device entry in id table */
 public class DeviceEntry {
@@ -35,7 +36,7 @@ public class DeviceEntry {
 
   boolean isAligned;
 
-  // for managing last time
+  // for managing last time, time partitions of a device may be written concurrently
   // time partition -> last time
   Map<Long, Long> lastTimeMapOfEachPartition;
 
@@ -48,8 +49,8 @@ public class DeviceEntry {
   public DeviceEntry(IDeviceID deviceID) {
     this.deviceID = deviceID;
     measurementMap = new HashMap<>();
-    lastTimeMapOfEachPartition = new HashMap<>();
-    flushTimeMapOfEachPartition = new HashMap<>();
+    lastTimeMapOfEachPartition = new ConcurrentHashMap<>();
+    flushTimeMapOfEachPartition = new ConcurrentHashMap<>();
   }
 
   /**
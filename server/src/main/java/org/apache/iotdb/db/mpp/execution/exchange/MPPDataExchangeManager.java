@@ -308,6 +308,10 @@ public class MPPDataExchangeManager implements IMPPDataExchangeManager {
     sinkHandles = new ConcurrentHashMap<>();
   }
 
+  public LocalMemoryManager getLocalMemoryManager() {
+    return localMemoryManager;
+  }
+
   public MPPDataExchangeServiceImpl getOrCreateMPPDataExchangeServiceImpl() {
     if (mppDataExchangeService == null) {
       mppDataExchangeService = new MPPDataExchangeServiceImpl();
@@ -26,6 +26,7 @@ import org.apache.iotdb.db.mpp.execution.operator.OperatorContext;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
 import org.apache.iotdb.db.mpp.plan.planner.plan.parameter.GroupByTimeParameter;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
@@ -149,6 +150,11 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
     return finished || (finished = !hasNext());
   }
 
+  @Override
+  public void close() throws Exception {
+    seriesScanUtil.close();
+  }
+
   protected void calculateNextAggregationResult() {
     try {
       if (calcFromCachedData()) {
@@ -162,6 +168,12 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
         return;
       }
 
+      // a file spanning several windows is kept unpacked while its rollup answers them
+      if (readAndCalcFromFileRollup()) {
+        updateResultTsBlock();
+        return;
+      }
+
       // read chunk data secondly
       if (readAndCalcFromChunk()) {
         updateResultTsBlock();
@@ -231,6 +243,14 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
             continue;
           }
         }
+        // calc from the rollup of the file
+        if (calcFromCurrentFileRollup()) {
+          if (isFileEndInCurrentTimeRange(fileTimeStatistics)) {
+            seriesScanUtil.skipCurrentFile();
+            continue;
+          }
+          return true;
+        }
       }
 
       // read chunk
@@ -242,6 +262,56 @@ public abstract class AbstractSeriesAggregationScanOperator implements DataSourc
     return false;
   }
 
+  protected boolean readAndCalcFromFileRollup() throws IOException {
+    while (isGroupByQuery
+        && seriesScanUtil.isCurrentFileNotUnpacked()
+        && canUseCurrentFileStatistics()) {
+      if (!calcFromCurrentFileRollup()) {
+        return false;
+      }
+      if (!isFileEndInCurrentTimeRange(seriesScanUtil.currentFileTimeStatistics())) {
+        return true;
+      }
+      seriesScanUtil.skipCurrentFile();
+    }
+    return false;
+  }
+
+  /**
+   * calculate the current window from the rollup statistics of the current file, if the window is
+   * aligned to one of their resolutions.
+   *
+   * @return false if the file has no rollup statistics usable for the current window
+   */
+  private boolean calcFromCurrentFileRollup() {
+    if (!isGroupByQuery || curTimeRange.getMax() == Long.MAX_VALUE) {
+      return false;
+    }
+    RollupStatistics rollupStatistics = seriesScanUtil.currentFileRollupStatistics();
+    if (rollupStatistics == null) {
+      return false;
+    }
+    Statistics windowStatistics =
+        rollupStatistics.getStatistics(curTimeRange.getMin(), curTimeRange.getMax() + 1);
+    if (windowStatistics == null) {
+      return false;
+    }
+    if (windowStatistics.getCount() > 0) {
+      calcFromStatistics(new Statistics[] {windowStatistics});
+    }
+    return true;
+  }
+
+  /**
+   * @return whether the rest of the current file in scan order ends in the current window, so that
+   *     the file is consumed after the window
+   */
+  private boolean isFileEndInCurrentTimeRange(Statistics fileTimeStatistics) {
+    return ascending
+        ? fileTimeStatistics.getEndTime() <= curTimeRange.getMax()
+        : fileTimeStatistics.getStartTime() >= curTimeRange.getMin();
+  }
+
   protected boolean readAndCalcFromChunk() throws IOException {
     while (seriesScanUtil.hasNextChunk()) {
       if (canUseCurrentChunkStatistics()) {
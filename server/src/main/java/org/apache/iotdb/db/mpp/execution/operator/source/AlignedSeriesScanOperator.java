@@ -146,4 +146,9 @@ public class AlignedSeriesScanOperator implements DataSourceOperator {
   public void initQueryDataSource(QueryDataSource dataSource) {
     seriesScanUtil.initQueryDataSource(dataSource);
   }
+
+  @Override
+  public void close() throws Exception {
+    seriesScanUtil.close();
+  }
 }
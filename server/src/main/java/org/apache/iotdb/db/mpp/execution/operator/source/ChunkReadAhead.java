@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator.source;
+
+import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.commons.concurrent.ThreadName;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.mpp.execution.exchange.MPPDataExchangeService;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
+import org.apache.iotdb.db.mpp.execution.memory.MemoryPool;
+import org.apache.iotdb.db.query.reader.chunk.DiskAlignedChunkLoader;
+import org.apache.iotdb.db.query.reader.chunk.DiskChunkLoader;
+import org.apache.iotdb.tsfile.file.metadata.AlignedChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
+import org.apache.iotdb.tsfile.read.controller.IChunkLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the chunks a series scan is going to read into {@link ChunkCache} on a dedicated pool, so
+ * that the disk reads of the following chunks overlap with decoding the current one.
+ *
+ * <p>At most {@link IoTDBConfig#getChunkReadAheadDepth()} chunks are prefetched ahead of the scan,
+ * and no more are submitted once the prefetched chunks that have not been consumed yet add up to
+ * the budget reserved from the query {@link MemoryPool}. A scan that can not reserve its budget
+ * reads synchronously as before.
+ *
+ * <p>This class is not thread-safe, it is only driven by the thread running the series scan.
+ */
+public class ChunkReadAhead {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkReadAhead.class);
+  private static final IoTDBConfig CONFIG = IoTDBDescriptor.getInstance().getConfig();
+
+  private final MemoryPool memoryPool;
+  private final String queryId;
+  private final long budgetInBytes;
+  private final int depth;
+
+  /** chunks waiting to be prefetched, in the order the scan consumes them */
+  private final PriorityQueue<IChunkMetadata> pendingChunks;
+
+  /** chunks submitted to the pool and not consumed by the scan yet */
+  private final Map<IChunkMetadata, Future<Long>> prefetchedChunks = new HashMap<>();
+
+  private boolean closed = false;
+
+  private ChunkReadAhead(
+      MemoryPool memoryPool,
+      String queryId,
+      long budgetInBytes,
+      int depth,
+      Comparator<IChunkMetadata> order) {
+    this.memoryPool = memoryPool;
+    this.queryId = queryId;
+    this.budgetInBytes = budgetInBytes;
+    this.depth = depth;
+    this.pendingChunks = new PriorityQueue<>(order);
+  }
+
+  /**
+   * @param order the order in which the scan consumes chunks
+   * @return null if read-ahead is disabled, the scan does not belong to a query, or the budget can
+   *     not be reserved from the query memory pool
+   */
+  public static ChunkReadAhead create(
+      FragmentInstanceContext context, Comparator<IChunkMetadata> order) {
+    long budgetInBytes = CONFIG.getChunkReadAheadBudgetPerSeriesInByte();
+    if (!CONFIG.isEnableChunkReadAhead()
+        || !CONFIG.isMetaDataCacheEnable()
+        || CONFIG.getChunkReadAheadDepth() <= 0
+        || budgetInBytes <= 0
+        || context == null
+        || context.getId() == null) {
+      // the reads of compaction are not issued by a query
+      return null;
+    }
+    MemoryPool memoryPool =
+        MPPDataExchangeService.getInstance()
+            .getMPPDataExchangeManager()
+            .getLocalMemoryManager()
+            .getQueryPool();
+    String queryId = context.getId().getQueryId().getId();
+    if (budgetInBytes > memoryPool.getMaxBytesPerQuery()
+        || !memoryPool.tryReserve(queryId, budgetInBytes)) {
+      return null;
+    }
+    return new ChunkReadAhead(
+        memoryPool, queryId, budgetInBytes, CONFIG.getChunkReadAheadDepth(), order);
+  }
+
+  /** Queue the chunks of a newly unpacked TimeseriesMetadata for prefetching. */
+  public void add(List<IChunkMetadata> chunkMetadataList) {
+    if (closed) {
+      return;
+    }
+    for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+      IChunkLoader chunkLoader = chunkMetadata.getChunkLoader();
+      // chunks of the working memtable are already in memory
+      if (chunkLoader instanceof DiskChunkLoader || chunkLoader instanceof DiskAlignedChunkLoader) {
+        pendingChunks.add(chunkMetadata);
+      }
+    }
+    schedule();
+  }
+
+  /**
+   * Called when the scan starts reading a chunk or skips it, which frees its slot for the next
+   * chunk. If it is still being loaded, the scan waits for the same load in {@link ChunkCache}.
+   */
+  public void consume(IChunkMetadata chunkMetadata) {
+    if (closed) {
+      return;
+    }
+    if (prefetchedChunks.remove(chunkMetadata) == null) {
+      pendingChunks.remove(chunkMetadata);
+    }
+    schedule();
+  }
+
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    pendingChunks.clear();
+    // do not interrupt running loads, that would close the channel of the shared file reader
+    prefetchedChunks.values().forEach(future -> future.cancel(false));
+    prefetchedChunks.clear();
+    memoryPool.free(queryId, budgetInBytes);
+  }
+
+  private void schedule() {
+    while (!pendingChunks.isEmpty()
+        && prefetchedChunks.size() < depth
+        && getPrefetchedBytes() < budgetInBytes) {
+      IChunkMetadata chunkMetadata = pendingChunks.poll();
+      prefetchedChunks.put(
+          chunkMetadata, ChunkReadAheadPoolHolder.POOL.submit(() -> prefetch(chunkMetadata)));
+    }
+  }
+
+  /** size of the chunks that have been loaded but not consumed by the scan */
+  private long getPrefetchedBytes() {
+    long bytes = 0;
+    for (Future<Long> future : prefetchedChunks.values()) {
+      if (future.isDone() && !future.isCancelled()) {
+        try {
+          bytes += future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          // prefetch() does not throw
+        }
+      }
+    }
+    return bytes;
+  }
+
+  private static long prefetch(IChunkMetadata chunkMetadata) {
+    try {
+      if (chunkMetadata instanceof AlignedChunkMetadata) {
+        AlignedChunkMetadata alignedChunkMetadata = (AlignedChunkMetadata) chunkMetadata;
+        long bytes =
+            ChunkCache.getInstance()
+                .prefetch((ChunkMetadata) alignedChunkMetadata.getTimeChunkMetadata());
+        for (IChunkMetadata valueChunkMetadata : alignedChunkMetadata.getValueChunkMetadataList()) {
+          if (valueChunkMetadata != null) {
+            bytes += ChunkCache.getInstance().prefetch((ChunkMetadata) valueChunkMetadata);
+          }
+        }
+        return bytes;
+      }
+      return ChunkCache.getInstance().prefetch((ChunkMetadata) chunkMetadata);
+    } catch (Exception e) {
+      // the scan reads the chunk again synchronously and reports the error there
+      LOGGER.debug("Failed to prefetch chunk {}", chunkMetadata, e);
+      return 0;
+    }
+  }
+
+  private static class ChunkReadAheadPoolHolder {
+
+    private static final ExecutorService POOL =
+        IoTDBThreadPoolFactory.newFixedThreadPool(
+            CONFIG.getChunkReadAheadThreadCount(), ThreadName.CHUNK_READ_AHEAD_SERVICE.getName());
+
+    private ChunkReadAheadPoolHolder() {}
+  }
+}
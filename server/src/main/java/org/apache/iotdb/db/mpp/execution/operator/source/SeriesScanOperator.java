@@ -150,4 +150,9 @@ public class SeriesScanOperator implements DataSourceOperator {
   public void initQueryDataSource(QueryDataSource dataSource) {
     seriesScanUtil.initQueryDataSource(dataSource);
   }
+
+  @Override
+  public void close() throws Exception {
+    seriesScanUtil.close();
+  }
 }
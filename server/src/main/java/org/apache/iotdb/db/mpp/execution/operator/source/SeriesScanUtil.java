@@ -32,7 +32,9 @@ import org.apache.iotdb.db.utils.QueryUtils;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
 import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.ITimeSeriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
@@ -103,6 +105,9 @@ public class SeriesScanUtil {
   protected IChunkMetadata firstChunkMetadata;
   protected final PriorityQueue<IChunkMetadata> cachedChunkMetadata;
 
+  /** prefetches the chunks in cachedChunkMetadata, null if read-ahead is not enabled */
+  private final ChunkReadAhead chunkReadAhead;
+
   /*
    * page cache
    */
@@ -148,10 +153,11 @@ public class SeriesScanUtil {
         new PriorityQueue<>(
             orderUtils.comparingLong(
                 timeSeriesMetadata -> orderUtils.getOrderTime(timeSeriesMetadata.getStatistics())));
-    cachedChunkMetadata =
-        new PriorityQueue<>(
-            orderUtils.comparingLong(
-                chunkMetadata -> orderUtils.getOrderTime(chunkMetadata.getStatistics())));
+    Comparator<IChunkMetadata> chunkMetadataOrder =
+        orderUtils.comparingLong(
+            chunkMetadata -> orderUtils.getOrderTime(chunkMetadata.getStatistics()));
+    cachedChunkMetadata = new PriorityQueue<>(chunkMetadataOrder);
+    chunkReadAhead = ChunkReadAhead.create(context, chunkMetadataOrder);
     unSeqPageReaders =
         new PriorityQueue<>(
             orderUtils.comparingLong(
@@ -172,6 +178,13 @@ public class SeriesScanUtil {
     orderUtils.setCurSeqFileIndex(dataSource);
   }
 
+  /** Stop prefetching chunks and release the memory reserved for them. */
+  public void close() {
+    if (chunkReadAhead != null) {
+      chunkReadAhead.close();
+    }
+  }
+
   protected PriorityMergeReader getPriorityMergeReader() {
     return new PriorityMergeReader();
   }
@@ -251,6 +264,23 @@ public class SeriesScanUtil {
     return firstTimeSeriesMetadata.isModified();
   }
 
+  /** @return the rollup statistics of the current file, null if it has none or is aligned */
+  RollupStatistics currentFileRollupStatistics() {
+    return firstTimeSeriesMetadata instanceof TimeseriesMetadata
+        ? ((TimeseriesMetadata) firstTimeSeriesMetadata).getRollupStatistics()
+        : null;
+  }
+
+  /**
+   * @return whether the current file has been read by hasNextFile() but none of its chunks has been
+   *     unpacked yet
+   */
+  boolean isCurrentFileNotUnpacked() {
+    return firstTimeSeriesMetadata != null
+        && firstChunkMetadata == null
+        && cachedChunkMetadata.isEmpty();
+  }
+
   void skipCurrentFile() {
     firstTimeSeriesMetadata = null;
   }
@@ -350,6 +380,9 @@ public class SeriesScanUtil {
     chunkMetadataList.forEach(chunkMetadata -> chunkMetadata.setSeq(timeSeriesMetadata.isSeq()));
 
     cachedChunkMetadata.addAll(chunkMetadataList);
+    if (chunkReadAhead != null) {
+      chunkReadAhead.add(chunkMetadataList);
+    }
   }
 
   boolean isChunkOverlapped() throws IOException {
@@ -383,6 +416,9 @@ public class SeriesScanUtil {
   }
 
   void skipCurrentChunk() {
+    if (chunkReadAhead != null && firstChunkMetadata != null) {
+      chunkReadAhead.consume(firstChunkMetadata);
+    }
     firstChunkMetadata = null;
   }
 
@@ -510,6 +546,9 @@ public class SeriesScanUtil {
   }
 
   private void unpackOneChunkMetaData(IChunkMetadata chunkMetaData) throws IOException {
+    if (chunkReadAhead != null) {
+      chunkReadAhead.consume(chunkMetaData);
+    }
     List<IPageReader> pageReaderList =
         FileLoaderUtils.loadPageReaderList(chunkMetaData, timeFilter);
 
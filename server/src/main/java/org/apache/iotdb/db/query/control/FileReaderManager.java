@@ -18,16 +18,28 @@
  */
 package org.apache.iotdb.db.query.control;
 
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.service.metrics.MetricsService;
+import org.apache.iotdb.db.service.metrics.enums.Metric;
+import org.apache.iotdb.db.service.metrics.enums.Tag;
+import org.apache.iotdb.metrics.config.MetricConfigDescriptor;
+import org.apache.iotdb.metrics.utils.MetricLevel;
 import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.fileSystem.FSType;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
 import org.apache.iotdb.tsfile.read.UnClosedTsFileReader;
+import org.apache.iotdb.tsfile.read.reader.MmapTsFileInput;
 import org.apache.iotdb.tsfile.v2.read.TsFileSequenceReaderForV2;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,6 +64,8 @@ public class FileReaderManager {
    */
   private static final int PRINT_INTERVAL = 10000;
 
+  private static final IoTDBConfig CONFIG = IoTDBDescriptor.getInstance().getConfig();
+
   /**
    * the key of closedFileReaderMap is the file path and the value of closedFileReaderMap is the
    * corresponding reader.
@@ -79,6 +93,28 @@ public class FileReaderManager {
     unclosedFileReaderMap = new ConcurrentHashMap<>();
     closedReferenceMap = new ConcurrentHashMap<>();
     unclosedReferenceMap = new ConcurrentHashMap<>();
+
+    // add metrics
+    if (MetricConfigDescriptor.getInstance().getMetricConfig().getEnableMetric()) {
+      MetricsService.getInstance()
+          .getMetricManager()
+          .getOrCreateAutoGauge(
+              Metric.QUANTITY.toString(),
+              MetricLevel.IMPORTANT,
+              this,
+              manager -> TsFileSequenceReader.getTotalContendedLockCount(),
+              Tag.NAME.toString(),
+              "fileReaderContendedLock");
+      MetricsService.getInstance()
+          .getMetricManager()
+          .getOrCreateAutoGauge(
+              Metric.COST_TASK.toString(),
+              MetricLevel.IMPORTANT,
+              this,
+              manager -> TsFileSequenceReader.getTotalContendedLockTimeInNs() / 1_000_000,
+              Tag.NAME.toString(),
+              "fileReaderContendedLockMs");
+    }
   }
 
   public static FileReaderManager getInstance() {
@@ -108,8 +144,15 @@ public class FileReaderManager {
    * @return the reader of the file specified by filePath.
    * @throws IOException when reader cannot be created.
    */
+  public TsFileSequenceReader get(String filePath, boolean isClosed) throws IOException {
+    // the reader of a hot file is shared by all queries, don't make them queue up for it
+    TsFileSequenceReader reader =
+        (!isClosed ? unclosedFileReaderMap : closedFileReaderMap).get(filePath);
+    return reader != null ? reader : getOrCreate(filePath, isClosed);
+  }
+
   @SuppressWarnings("squid:S2095")
-  public synchronized TsFileSequenceReader get(String filePath, boolean isClosed)
+  private synchronized TsFileSequenceReader getOrCreate(String filePath, boolean isClosed)
       throws IOException {
 
     Map<String, TsFileSequenceReader> readerMap =
@@ -126,7 +169,7 @@ public class FileReaderManager {
       if (!isClosed) {
         tsFileReader = new UnClosedTsFileReader(filePath);
       } else {
-        tsFileReader = new TsFileSequenceReader(filePath);
+        tsFileReader = createClosedFileReader(filePath);
         if (tsFileReader.readVersionNumber() != TSFileConfig.VERSION_NUMBER) {
           tsFileReader.close();
           tsFileReader = new TsFileSequenceReaderForV2(filePath);
@@ -144,6 +187,21 @@ public class FileReaderManager {
     return readerMap.get(filePath);
   }
 
+  /** sealed files never change, so small enough local ones can be read through a mapping */
+  private TsFileSequenceReader createClosedFileReader(String filePath) throws IOException {
+    if (CONFIG.isEnableMmapTsFileInput()
+        && TSFileDescriptor.getInstance().getConfig().getTSFileStorageFs() == FSType.LOCAL
+        && new File(filePath).length() <= CONFIG.getMmapTsFileInputMaxFileSizeInByte()) {
+      MmapTsFileInput input =
+          MmapTsFileInput.tryMap(
+              Paths.get(filePath), CONFIG.getMmapTsFileInputMaxTotalSizeInByte());
+      if (input != null) {
+        return new TsFileSequenceReader(input);
+      }
+    }
+    return new TsFileSequenceReader(filePath);
+  }
+
   /**
    * Increase the reference count of the reader specified by filePath. Only when the reference count
    * of a reader equals zero, the reader can be closed and removed.
@@ -62,6 +62,16 @@ public class DiskAlignedChunkLoader implements IChunkLoader {
               ? null
               : ChunkCache.getInstance().get((ChunkMetadata) valueChunkMetadata, debug));
     }
-    return new AlignedChunkReader(timeChunk, valueChunkList, timeFilter);
+    try {
+      return new AlignedChunkReader(timeChunk, valueChunkList, timeFilter);
+    } finally {
+      // all the pages are uncompressed by the reader, so the chunk data can go back to the pool
+      timeChunk.release();
+      for (Chunk valueChunk : valueChunkList) {
+        if (valueChunk != null) {
+          valueChunk.release();
+        }
+      }
+    }
   }
 }
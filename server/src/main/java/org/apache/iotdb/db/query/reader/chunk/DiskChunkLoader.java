@@ -54,6 +54,11 @@ public class DiskChunkLoader implements IChunkLoader {
       throws IOException {
     Chunk chunk = ChunkCache.getInstance().get((ChunkMetadata) chunkMetaData, debug);
     chunk.setFromOldFile(chunkMetaData.isFromOldTsFile());
-    return new ChunkReader(chunk, timeFilter);
+    try {
+      return new ChunkReader(chunk, timeFilter);
+    } finally {
+      // all the pages are uncompressed by the reader, so the chunk data can go back to the pool
+      chunk.release();
+    }
   }
 }
@@ -56,8 +56,9 @@ public class DiskChunkMetadataLoader implements IChunkMetadataLoader {
   @Override
   public List<IChunkMetadata> loadChunkMetadataList(ITimeSeriesMetadata timeSeriesMetadata) {
 
+    // with a chunk time index, only the chunk metadata that may overlap the filter are deserialized
     List<IChunkMetadata> chunkMetadataList =
-        ((TimeseriesMetadata) timeSeriesMetadata).getChunkMetadataList();
+        ((TimeseriesMetadata) timeSeriesMetadata).getChunkMetadataList(filter);
 
     List<Modification> pathModifications =
         context.getPathModifications(resource.getModFile(), seriesPath);
@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.db.rescon;
 
+import org.apache.iotdb.commons.utils.TestOnly;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
@@ -27,8 +28,16 @@ import org.apache.iotdb.tsfile.utils.Binary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 /** Manage all primitive data lists in memory, including get and release operations. */
@@ -74,6 +83,41 @@ public class PrimitiveArrayManager {
 
   private static final AtomicLong TOTAL_ALLOCATION_REQUEST_COUNT = new AtomicLong(0);
 
+  /** direct memory for the time arrays of TVLists, 0 keeps them on the heap */
+  private static long offHeapMemoryForWrite = CONFIG.getOffHeapMemoryForWrite();
+
+  /** max size of the direct memory blocks that off-heap time arrays are sliced from */
+  private static final int OFF_HEAP_BLOCK_SIZE = 1024 * 1024;
+
+  private static final int OFF_HEAP_TIME_ARRAY_SIZE = ARRAY_SIZE * Long.BYTES;
+
+  /** heap left by an off-heap time array: the slice of its block and the long view of the slice */
+  private static final long OFF_HEAP_TIME_ARRAY_HEAP_SIZE = 128L;
+
+  /**
+   * idle off-heap time arrays, all of them are kept as the blocks only exceed the budget by the
+   * arrays taken before the writes are rejected
+   */
+  private static final ArrayDeque<LongBuffer> POOLED_OFF_HEAP_TIME_ARRAYS = new ArrayDeque<>();
+
+  /**
+   * The block that new off-heap time arrays are sliced from. Every slice references its block, so a
+   * block is freed by GC once none of its arrays is used or pooled any more, e.g., when its arrays
+   * belong to a TVList that is still referenced by a query and thus never cleared.
+   */
+  private static ByteBuffer offHeapBlock;
+
+  /** blocks that are not freed yet, a block is enqueued to FREED_OFF_HEAP_BLOCKS once it is */
+  private static final Set<OffHeapBlockReference> OFF_HEAP_BLOCKS = new HashSet<>();
+
+  private static final ReferenceQueue<ByteBuffer> FREED_OFF_HEAP_BLOCKS = new ReferenceQueue<>();
+
+  /** total size of the blocks that are not freed yet */
+  private static long offHeapBlockBytes = 0;
+
+  /** whether the time arrays in use take more than offHeapMemoryForWrite */
+  private static volatile boolean offHeapMemoryForWriteExceeded = false;
+
   static {
     init();
   }
@@ -254,6 +298,9 @@ public class PrimitiveArrayManager {
     } else if (array instanceof Binary[]) {
       Arrays.fill((Binary[]) array, null);
       order = TSDataType.TEXT.serialize();
+    } else if (array instanceof LongBuffer) {
+      releaseOffHeapTimeArray((LongBuffer) array);
+      return;
     } else {
       throw new UnSupportedDataTypeException(array.getClass().toString());
     }
@@ -266,8 +313,143 @@ public class PrimitiveArrayManager {
     }
   }
 
+  public static boolean isOffHeapTimeArrayEnabled() {
+    return offHeapMemoryForWrite > 0;
+  }
+
+  public static long getOffHeapMemoryForWrite() {
+    return offHeapMemoryForWrite;
+  }
+
+  /** @return the heap memory charged for a time array of ARRAY_SIZE longs */
+  public static long getTimeArrayHeapSize() {
+    return isOffHeapTimeArrayEnabled()
+        ? OFF_HEAP_TIME_ARRAY_HEAP_SIZE
+        : (long) ARRAY_SIZE * Long.BYTES;
+  }
+
+  /**
+   * Get or allocate a time array of ARRAY_SIZE longs in direct memory. Arrays are sliced from
+   * blocks of at most OFF_HEAP_BLOCK_SIZE bytes, so that the heap only holds a small buffer object
+   * for each of them, which is what {@link #getTimeArrayHeapSize()} charges.
+   *
+   * <p>A time array is never taken from the heap instead, as its heap memory would not be charged.
+   * Once the arrays in use exceed off_heap_memory_for_write, every write reports to {@link
+   * SystemInfo}, which rejects the writes until flushes bring the direct memory back, see {@link
+   * #isOffHeapMemoryForWriteExceeded()}. So the budget is only exceeded by the writes in progress.
+   *
+   * @return a time array, released by {@link #release(Object)}
+   */
+  public static LongBuffer allocateOffHeapTimeArray() {
+    synchronized (POOLED_OFF_HEAP_TIME_ARRAYS) {
+      LongBuffer array = POOLED_OFF_HEAP_TIME_ARRAYS.poll();
+      if (array == null) {
+        if (offHeapBlock == null || offHeapBlock.remaining() < OFF_HEAP_TIME_ARRAY_SIZE) {
+          allocateOffHeapBlock();
+        }
+        int end = offHeapBlock.position() + OFF_HEAP_TIME_ARRAY_SIZE;
+        offHeapBlock.limit(end);
+        ByteBuffer slice = offHeapBlock.slice().order(ByteOrder.nativeOrder());
+        offHeapBlock.limit(offHeapBlock.capacity());
+        offHeapBlock.position(end);
+        array = slice.asLongBuffer();
+      }
+      updateOffHeapMemoryForWriteExceeded();
+      return array;
+    }
+  }
+
+  private static void allocateOffHeapBlock() {
+    // the current block is used up, it is freed once its arrays are gone
+    offHeapBlock = null;
+    reclaimFreedOffHeapBlocks();
+    long blockSize =
+        Math.max(
+            OFF_HEAP_TIME_ARRAY_SIZE,
+            Math.min(OFF_HEAP_BLOCK_SIZE, offHeapMemoryForWrite)
+                / OFF_HEAP_TIME_ARRAY_SIZE
+                * OFF_HEAP_TIME_ARRAY_SIZE);
+    offHeapBlock = ByteBuffer.allocateDirect((int) blockSize);
+    OFF_HEAP_BLOCKS.add(new OffHeapBlockReference(offHeapBlock, FREED_OFF_HEAP_BLOCKS));
+    offHeapBlockBytes += blockSize;
+  }
+
+  private static void reclaimFreedOffHeapBlocks() {
+    Reference<? extends ByteBuffer> reference;
+    while ((reference = FREED_OFF_HEAP_BLOCKS.poll()) != null) {
+      if (OFF_HEAP_BLOCKS.remove(reference)) {
+        offHeapBlockBytes -= ((OffHeapBlockReference) reference).size;
+      }
+    }
+  }
+
+  private static void releaseOffHeapTimeArray(LongBuffer array) {
+    synchronized (POOLED_OFF_HEAP_TIME_ARRAYS) {
+      POOLED_OFF_HEAP_TIME_ARRAYS.add(array);
+      updateOffHeapMemoryForWriteExceeded();
+    }
+  }
+
+  /**
+   * @return bytes of direct memory taken by the time arrays in use, which are neither pooled nor
+   *     left in the current block. Arrays of TVLists that are never cleared count until GC frees
+   *     their blocks.
+   */
+  public static long getOffHeapTimeArrayMemCost() {
+    synchronized (POOLED_OFF_HEAP_TIME_ARRAYS) {
+      reclaimFreedOffHeapBlocks();
+      updateOffHeapMemoryForWriteExceeded();
+      return getOffHeapTimeArrayMemCostWithLock();
+    }
+  }
+
+  private static long getOffHeapTimeArrayMemCostWithLock() {
+    long idleBytes = (long) POOLED_OFF_HEAP_TIME_ARRAYS.size() * OFF_HEAP_TIME_ARRAY_SIZE;
+    if (offHeapBlock != null) {
+      idleBytes += offHeapBlock.remaining();
+    }
+    return offHeapBlockBytes - idleBytes;
+  }
+
+  private static void updateOffHeapMemoryForWriteExceeded() {
+    offHeapMemoryForWriteExceeded = getOffHeapTimeArrayMemCostWithLock() > offHeapMemoryForWrite;
+  }
+
+  /**
+   * A cheap check for writes, which only report to {@link SystemInfo} every
+   * storage_group_report_threshold bytes of heap memory otherwise.
+   *
+   * @return whether the time arrays in use take more than off_heap_memory_for_write
+   */
+  public static boolean isOffHeapMemoryForWriteExceeded() {
+    return offHeapMemoryForWriteExceeded;
+  }
+
   public static void close() {
     init();
+    synchronized (POOLED_OFF_HEAP_TIME_ARRAYS) {
+      POOLED_OFF_HEAP_TIME_ARRAYS.clear();
+      offHeapBlock = null;
+      OFF_HEAP_BLOCKS.clear();
+      offHeapBlockBytes = 0;
+      offHeapMemoryForWriteExceeded = false;
+    }
+  }
+
+  @TestOnly
+  public static void setOffHeapMemoryForWrite(long offHeapMemoryForWrite) {
+    close();
+    PrimitiveArrayManager.offHeapMemoryForWrite = offHeapMemoryForWrite;
+  }
+
+  private static class OffHeapBlockReference extends PhantomReference<ByteBuffer> {
+
+    private final long size;
+
+    private OffHeapBlockReference(ByteBuffer block, ReferenceQueue<ByteBuffer> queue) {
+      super(block, queue);
+      this.size = block.capacity();
+    }
   }
 
   /**
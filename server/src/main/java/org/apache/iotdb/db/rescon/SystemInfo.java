@@ -78,32 +78,41 @@ public class SystemInfo {
     }
     reportedStorageGroupMemCostMap.put(storageGroupInfo, storageGroupInfo.getMemCost());
     storageGroupInfo.setLastReportedSize(storageGroupInfo.getMemCost());
-    if (totalStorageGroupMemCost < FLUSH_THERSHOLD) {
+    long offHeapMemCost = PrimitiveArrayManager.getOffHeapTimeArrayMemCost();
+    if (totalStorageGroupMemCost < FLUSH_THERSHOLD
+        && offHeapMemCost < getOffHeapThreshold(config.getFlushProportion())) {
       return true;
-    } else if (totalStorageGroupMemCost >= FLUSH_THERSHOLD
-        && totalStorageGroupMemCost < REJECT_THERSHOLD) {
+    } else if (totalStorageGroupMemCost < REJECT_THERSHOLD
+        && offHeapMemCost < getOffHeapThreshold(config.getRejectProportion())) {
       logger.debug(
           "The total storage group mem costs are too large, call for flushing. "
-              + "Current sg cost is {}",
-          totalStorageGroupMemCost);
-      chooseMemTablesToMarkFlush(tsFileProcessor);
+              + "Current sg cost is {}, off-heap cost is {}",
+          totalStorageGroupMemCost,
+          offHeapMemCost);
+      chooseMemTablesToMarkFlush(tsFileProcessor, offHeapMemCost);
       return true;
     } else {
       logger.info(
-          "Change system to reject status. Triggered by: logical SG ({}), mem cost delta ({}), totalSgMemCost ({}).",
+          "Change system to reject status. Triggered by: logical SG ({}), mem cost delta ({}), totalSgMemCost ({}), offHeapMemCost ({}).",
           storageGroupInfo.getDataRegion().getLogicalStorageGroupName(),
           delta,
-          totalStorageGroupMemCost);
+          totalStorageGroupMemCost,
+          offHeapMemCost);
       rejected = true;
-      if (chooseMemTablesToMarkFlush(tsFileProcessor)) {
-        if (totalStorageGroupMemCost < memorySizeForWrite) {
+      if (chooseMemTablesToMarkFlush(tsFileProcessor, offHeapMemCost)) {
+        if (totalStorageGroupMemCost < memorySizeForWrite
+            && offHeapMemCost < getOffHeapThreshold(1)) {
           return true;
         } else {
           throw new WriteProcessRejectException(
               "Total Storage Group MemCost "
                   + totalStorageGroupMemCost
                   + " is over than memorySizeForWriting "
-                  + memorySizeForWrite);
+                  + memorySizeForWrite
+                  + ", or off-heap MemCost "
+                  + offHeapMemCost
+                  + " is over than offHeapMemorySizeForWriting "
+                  + PrimitiveArrayManager.getOffHeapMemoryForWrite());
         }
       } else {
         return false;
@@ -127,8 +136,14 @@ public class SystemInfo {
       reportedStorageGroupMemCostMap.put(storageGroupInfo, storageGroupInfo.getMemCost());
     }
 
-    if (totalStorageGroupMemCost >= FLUSH_THERSHOLD
-        && totalStorageGroupMemCost < REJECT_THERSHOLD) {
+    long offHeapMemCost = PrimitiveArrayManager.getOffHeapTimeArrayMemCost();
+    boolean overFlushThreshold =
+        totalStorageGroupMemCost >= FLUSH_THERSHOLD
+            || offHeapMemCost >= getOffHeapThreshold(config.getFlushProportion());
+    boolean overRejectThreshold =
+        totalStorageGroupMemCost >= REJECT_THERSHOLD
+            || offHeapMemCost >= getOffHeapThreshold(config.getRejectProportion());
+    if (overFlushThreshold && !overRejectThreshold) {
       logger.debug(
           "SG ({}) released memory (delta: {}) but still exceeding flush proportion (totalSgMemCost: {}), call flush.",
           storageGroupInfo.getDataRegion().getLogicalStorageGroupName(),
@@ -143,12 +158,13 @@ public class SystemInfo {
       }
       logCurrentTotalSGMemory();
       rejected = false;
-    } else if (totalStorageGroupMemCost >= REJECT_THERSHOLD) {
+    } else if (overRejectThreshold) {
       logger.warn(
-          "SG ({}) released memory (delta: {}), but system is still in reject status (totalSgMemCost: {}).",
+          "SG ({}) released memory (delta: {}), but system is still in reject status (totalSgMemCost: {}, offHeapMemCost: {}).",
           storageGroupInfo.getDataRegion().getLogicalStorageGroupName(),
           delta,
-          totalStorageGroupMemCost);
+          totalStorageGroupMemCost,
+          offHeapMemCost);
       logCurrentTotalSGMemory();
       rejected = true;
     } else {
@@ -170,6 +186,19 @@ public class SystemInfo {
     this.flushingMemTablesCost -= flushingMemTableCost;
   }
 
+  /**
+   * The time arrays kept in direct memory are not part of the mem costs, they are charged to
+   * off_heap_memory_for_write by their actual size.
+   *
+   * @return the given proportion of off_heap_memory_for_write, or Double.MAX_VALUE if it is 0
+   */
+  private static double getOffHeapThreshold(double proportion) {
+    long offHeapMemorySizeForWrite = PrimitiveArrayManager.getOffHeapMemoryForWrite();
+    return offHeapMemorySizeForWrite > 0
+        ? offHeapMemorySizeForWrite * proportion
+        : Double.MAX_VALUE;
+  }
+
   private void logCurrentTotalSGMemory() {
     logger.debug("Current Sg cost is {}", totalStorageGroupMemCost);
   }
@@ -177,9 +206,12 @@ public class SystemInfo {
   /**
    * Order all working memtables in system by memory cost of actual data points in memtable. Mark
    * the top K TSPs as to be flushed, so that after flushing the K TSPs, the memory cost should be
-   * less than FLUSH_THRESHOLD
+   * less than FLUSH_THRESHOLD. If the off-heap cost is over its flush threshold, the share of the
+   * memtables that would bring it under the threshold is marked too, supposing that the off-heap
+   * time arrays spread over the memtables like the mem costs.
    */
-  private boolean chooseMemTablesToMarkFlush(TsFileProcessor currentTsFileProcessor) {
+  private boolean chooseMemTablesToMarkFlush(
+      TsFileProcessor currentTsFileProcessor, long offHeapMemCost) {
     // If invoke flush by replaying logs, do not flush now!
     if (reportedStorageGroupMemCostMap.size() == 0) {
       return false;
@@ -193,7 +225,15 @@ public class SystemInfo {
     boolean isCurrentTsFileProcessorSelected = false;
     long memCost = 0;
     long activeMemSize = totalStorageGroupMemCost - flushingMemTablesCost;
-    while (activeMemSize - memCost > FLUSH_THERSHOLD) {
+    double memCostToFlush = activeMemSize - FLUSH_THERSHOLD;
+    double offHeapFlushThreshold = getOffHeapThreshold(config.getFlushProportion());
+    if (offHeapMemCost > offHeapFlushThreshold) {
+      memCostToFlush =
+          Math.max(
+              memCostToFlush,
+              totalStorageGroupMemCost * (1 - offHeapFlushThreshold / offHeapMemCost));
+    }
+    while (memCost < memCostToFlush) {
       if (allTsFileProcessors.isEmpty()
           || allTsFileProcessors.peek().getWorkMemTableRamCost() == 0) {
         return false;
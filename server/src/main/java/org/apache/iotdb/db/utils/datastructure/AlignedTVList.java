@@ -92,7 +92,7 @@ public class AlignedTVList extends TVList {
     int arrayIndex = rowCount / ARRAY_SIZE;
     int elementIndex = rowCount % ARRAY_SIZE;
     minTime = Math.min(minTime, timestamp);
-    timestamps.get(arrayIndex)[elementIndex] = timestamp;
+    setTime(arrayIndex, elementIndex, timestamp);
     for (int i = 0; i < values.size(); i++) {
       Object columnValue = columnIndexArray[i] < 0 ? null : value[columnIndexArray[i]];
       List<Object> columnValues = values.get(i);
@@ -248,6 +248,7 @@ public class AlignedTVList extends TVList {
     }
     AlignedTVList alignedTvList = new AlignedTVList(dataTypeList);
     alignedTvList.timestamps = this.timestamps;
+    alignedTvList.offHeapTimestamps = this.offHeapTimestamps;
     alignedTvList.indices = this.indices;
     alignedTvList.values = values;
     alignedTvList.bitMaps = bitMaps;
@@ -264,7 +265,7 @@ public class AlignedTVList extends TVList {
     }
     List<Object> columnValue = new ArrayList<>();
     List<BitMap> columnBitMaps = new ArrayList<>();
-    for (int i = 0; i < timestamps.size(); i++) {
+    for (int i = 0; i < getTimeArrayNum(); i++) {
       switch (dataType) {
         case TEXT:
           columnValue.add(getPrimitiveArraysByType(TSDataType.TEXT));
@@ -297,7 +298,7 @@ public class AlignedTVList extends TVList {
 
       // Eg2: If rowCount=4 and ARRAY_SIZE=2, we need to supply 2 bitmaps for the extending column.
       // These 2 bitmaps should mark all bits to represent 4 nulls.
-      if (i == timestamps.size() - 1 && rowCount % ARRAY_SIZE != 0) {
+      if (i == getTimeArrayNum() - 1 && rowCount % ARRAY_SIZE != 0) {
         for (int j = 0; j < rowCount % ARRAY_SIZE; j++) {
           bitMap.mark(j);
         }
@@ -475,7 +476,7 @@ public class AlignedTVList extends TVList {
   private void set(int index, long timestamp, int value) {
     int arrayIndex = index / ARRAY_SIZE;
     int elementIndex = index % ARRAY_SIZE;
-    timestamps.get(arrayIndex)[elementIndex] = timestamp;
+    setTime(arrayIndex, elementIndex, timestamp);
     indices.get(arrayIndex)[elementIndex] = value;
   }
 
@@ -557,7 +558,7 @@ public class AlignedTVList extends TVList {
   }
 
   @Override
-  public void sort() {
+  protected void allocateSortingBuffers() {
     if (sortedTimestamps == null
         || sortedTimestamps.length < PrimitiveArrayManager.getArrayRowCount(rowCount)) {
       sortedTimestamps =
@@ -568,10 +569,6 @@ public class AlignedTVList extends TVList {
       sortedIndices =
           (int[][]) PrimitiveArrayManager.createDataListsByType(TSDataType.INT32, rowCount);
     }
-    sort(0, rowCount);
-    clearSortedValue();
-    clearSortedTime();
-    sorted = true;
   }
 
   @Override
@@ -734,7 +731,7 @@ public class AlignedTVList extends TVList {
       int internalRemaining = ARRAY_SIZE - elementIdx;
       if (internalRemaining >= inputRemaining) {
         // the remaining inputs can fit the last array, copy all remaining inputs into last array
-        System.arraycopy(time, idx, timestamps.get(arrayIdx), elementIdx, inputRemaining);
+        copyTimes(time, idx, arrayIdx, elementIdx, inputRemaining);
         arrayCopy(value, idx, arrayIdx, elementIdx, inputRemaining, columnIndexArray);
         for (int i = 0; i < inputRemaining; i++) {
           indices.get(arrayIdx)[elementIdx + i] = rowCount;
@@ -752,7 +749,7 @@ public class AlignedTVList extends TVList {
       } else {
         // the remaining inputs cannot fit the last array, fill the last array and create a new
         // one and enter the next loop
-        System.arraycopy(time, idx, timestamps.get(arrayIdx), elementIdx, internalRemaining);
+        copyTimes(time, idx, arrayIdx, elementIdx, internalRemaining);
         arrayCopy(value, idx, arrayIdx, elementIdx, internalRemaining, columnIndexArray);
         for (int i = 0; i < internalRemaining; i++) {
           indices.get(arrayIdx)[elementIdx + i] = rowCount;
@@ -865,8 +862,8 @@ public class AlignedTVList extends TVList {
     if (size == 0) {
       return size;
     }
-    // time array mem size
-    size += (long) PrimitiveArrayManager.ARRAY_SIZE * 8L;
+    // time array mem size, an off-heap time array is charged to off_heap_memory_for_write instead
+    size += PrimitiveArrayManager.getTimeArrayHeapSize();
     // index array mem size
     size += (long) PrimitiveArrayManager.ARRAY_SIZE * 4L;
     // array headers mem size
@@ -879,6 +876,7 @@ public class AlignedTVList extends TVList {
   public void clear() {
     rowCount = 0;
     sorted = true;
+    sortedRowCount = 0;
     minTime = Long.MAX_VALUE;
     clearTime();
     clearSortedTime();
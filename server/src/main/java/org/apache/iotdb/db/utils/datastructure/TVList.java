@@ -35,7 +35,9 @@ import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -47,14 +49,23 @@ import static org.apache.iotdb.tsfile.utils.RamUsageEstimator.NUM_BYTES_OBJECT_R
 public abstract class TVList implements WALEntryValue {
 
   protected static final int SMALL_ARRAY_LENGTH = 32;
+  // bits of the time sorted by each pass of the radix sort
+  private static final int RADIX_BITS = 11;
+  private static final long RADIX_MASK = (1L << RADIX_BITS) - 1;
   protected static final String ERR_DATATYPE_NOT_CONSISTENT = "DataType not consistent";
   // list of timestamp array, add 1 when expanded -> data point timestamp array
   // index relation: arrayIndex -> elementIndex
   protected List<long[]> timestamps;
+  // timestamp arrays in direct memory, used instead of timestamps when off-heap time arrays are
+  // enabled, so that a large memtable does not fill the old generation with arrays
+  protected List<LongBuffer> offHeapTimestamps;
   protected int rowCount;
 
   protected long[][] sortedTimestamps;
   protected boolean sorted = true;
+  // rows in [0, sortedRowCount) are known to be in time order, so that a sort only has to sort the
+  // rows appended after them and merge the two runs
+  protected int sortedRowCount;
   // record reference count of this tv list
   // currently this reference will only be increase because we can't know when to decrease it
   protected AtomicInteger referenceCount;
@@ -65,6 +76,9 @@ public abstract class TVList implements WALEntryValue {
 
   public TVList() {
     timestamps = new ArrayList<>();
+    if (PrimitiveArrayManager.isOffHeapTimeArrayEnabled()) {
+      offHeapTimestamps = new ArrayList<>();
+    }
     rowCount = 0;
     minTime = Long.MAX_VALUE;
     referenceCount = new AtomicInteger();
@@ -92,8 +106,8 @@ public abstract class TVList implements WALEntryValue {
 
   public static long tvListArrayMemCost(TSDataType type) {
     long size = 0;
-    // time array mem size
-    size += (long) PrimitiveArrayManager.ARRAY_SIZE * 8L;
+    // time array mem size, an off-heap time array is charged to off_heap_memory_for_write instead
+    size += PrimitiveArrayManager.getTimeArrayHeapSize();
     // value array mem size
     size += (long) PrimitiveArrayManager.ARRAY_SIZE * (long) type.getDataTypeSize();
     // two array headers mem size
@@ -125,9 +139,35 @@ public abstract class TVList implements WALEntryValue {
     }
     int arrayIndex = index / ARRAY_SIZE;
     int elementIndex = index % ARRAY_SIZE;
+    if (offHeapTimestamps != null) {
+      return offHeapTimestamps.get(arrayIndex).get(elementIndex);
+    }
     return timestamps.get(arrayIndex)[elementIndex];
   }
 
+  protected void setTime(int arrayIndex, int elementIndex, long time) {
+    if (offHeapTimestamps != null) {
+      offHeapTimestamps.get(arrayIndex).put(elementIndex, time);
+    } else {
+      timestamps.get(arrayIndex)[elementIndex] = time;
+    }
+  }
+
+  /** Copy length times from time[srcPos] into the time array arrayIndex from elementIndex. */
+  protected void copyTimes(long[] time, int srcPos, int arrayIndex, int elementIndex, int length) {
+    if (offHeapTimestamps != null) {
+      LongBuffer timeArray = offHeapTimestamps.get(arrayIndex).duplicate();
+      timeArray.position(elementIndex);
+      timeArray.put(time, srcPos, length);
+    } else {
+      System.arraycopy(time, srcPos, timestamps.get(arrayIndex), elementIndex, length);
+    }
+  }
+
+  protected int getTimeArrayNum() {
+    return offHeapTimestamps != null ? offHeapTimestamps.size() : timestamps.size();
+  }
+
   public void putLong(long time, long value) {
     throw new UnsupportedOperationException(ERR_DATATYPE_NOT_CONSISTENT);
   }
@@ -222,7 +262,25 @@ public abstract class TVList implements WALEntryValue {
     throw new UnsupportedOperationException(ERR_DATATYPE_NOT_CONSISTENT);
   }
 
-  public abstract void sort();
+  public void sort() {
+    sort(TVListSortAlgorithm.MERGE);
+  }
+
+  /**
+   * Sort all the rows by time.
+   *
+   * @param algorithm the algorithm that sorts the rows appended since the last sort
+   */
+  public void sort(TVListSortAlgorithm algorithm) {
+    allocateSortingBuffers();
+    sortIncrementally(algorithm);
+    clearSortedValue();
+    clearSortedTime();
+    sorted = true;
+  }
+
+  /** Make sure that the sorting buffers can hold rowCount rows. */
+  protected abstract void allocateSortingBuffers();
 
   public long getMinTime() {
     return minTime;
@@ -253,27 +311,36 @@ public abstract class TVList implements WALEntryValue {
   protected abstract void releaseLastValueArray();
 
   protected void releaseLastTimeArray() {
-    PrimitiveArrayManager.release(timestamps.remove(timestamps.size() - 1));
+    if (offHeapTimestamps != null) {
+      PrimitiveArrayManager.release(offHeapTimestamps.remove(offHeapTimestamps.size() - 1));
+    } else {
+      PrimitiveArrayManager.release(timestamps.remove(timestamps.size() - 1));
+    }
   }
 
   public int delete(long lowerBound, long upperBound) {
     int newSize = 0;
+    int newSortedRowCount = 0;
     minTime = Long.MAX_VALUE;
     for (int i = 0; i < rowCount; i++) {
       long time = getTime(i);
       if (time < lowerBound || time > upperBound) {
         set(i, newSize++);
         minTime = Math.min(time, minTime);
+        if (i < sortedRowCount) {
+          newSortedRowCount = newSize;
+        }
       }
     }
     int deletedNumber = rowCount - newSize;
     rowCount = newSize;
+    sortedRowCount = newSortedRowCount;
     // release primitive arrays that are empty
     int newArrayNum = newSize / ARRAY_SIZE;
     if (newSize % ARRAY_SIZE != 0) {
       newArrayNum++;
     }
-    int oldArrayNum = timestamps.size();
+    int oldArrayNum = getTimeArrayNum();
     for (int releaseIdx = newArrayNum; releaseIdx < oldArrayNum; releaseIdx++) {
       releaseLastTimeArray();
       releaseLastValueArray();
@@ -282,17 +349,28 @@ public abstract class TVList implements WALEntryValue {
   }
 
   protected void cloneAs(TVList cloneList) {
+    // clones are query snapshots that are never released, so they keep their times on the heap
+    cloneList.offHeapTimestamps = null;
+    if (offHeapTimestamps != null) {
+      for (LongBuffer timestampArray : offHeapTimestamps) {
+        long[] cloneArray = new long[timestampArray.capacity()];
+        timestampArray.duplicate().get(cloneArray);
+        cloneList.timestamps.add(cloneArray);
+      }
+    }
     for (long[] timestampArray : timestamps) {
       cloneList.timestamps.add(cloneTime(timestampArray));
     }
     cloneList.rowCount = rowCount;
     cloneList.sorted = sorted;
+    cloneList.sortedRowCount = sortedRowCount;
     cloneList.minTime = minTime;
   }
 
   public void clear() {
     rowCount = 0;
     sorted = true;
+    sortedRowCount = 0;
     minTime = Long.MAX_VALUE;
     clearTime();
     clearSortedTime();
@@ -302,6 +380,12 @@ public abstract class TVList implements WALEntryValue {
   }
 
   protected void clearTime() {
+    if (offHeapTimestamps != null) {
+      for (LongBuffer dataArray : offHeapTimestamps) {
+        PrimitiveArrayManager.release(dataArray);
+      }
+      offHeapTimestamps.clear();
+    }
     if (timestamps != null) {
       for (long[] dataArray : timestamps) {
         PrimitiveArrayManager.release(dataArray);
@@ -327,7 +411,11 @@ public abstract class TVList implements WALEntryValue {
   protected void checkExpansion() {
     if ((rowCount % ARRAY_SIZE) == 0) {
       expandValues();
-      timestamps.add((long[]) getPrimitiveArraysByType(TSDataType.INT64));
+      if (offHeapTimestamps != null) {
+        offHeapTimestamps.add(PrimitiveArrayManager.allocateOffHeapTimeArray());
+      } else {
+        timestamps.add((long[]) getPrimitiveArraysByType(TSDataType.INT64));
+      }
     }
   }
 
@@ -341,6 +429,115 @@ public abstract class TVList implements WALEntryValue {
     return cloneArray;
   }
 
+  /**
+   * Sort all the rows by time, reusing the order of the rows sorted by the last call. Only the rows
+   * appended since then are sorted, and they are merged with the part of the sorted prefix that
+   * overlaps them, so a memtable chunk that is queried repeatedly while being written is not fully
+   * re-sorted by every query. The sorting buffers must be allocated by the caller.
+   */
+  protected void sortIncrementally(TVListSortAlgorithm algorithm) {
+    if (sorted) {
+      sortedRowCount = rowCount;
+      return;
+    }
+    int prefix = Math.max(1, Math.min(sortedRowCount, rowCount));
+    // rows appended in order extend the sorted prefix without being moved
+    while (prefix < rowCount && getTime(prefix) >= getTime(prefix - 1)) {
+      prefix++;
+    }
+    if (prefix < rowCount) {
+      if (algorithm == TVListSortAlgorithm.RADIX) {
+        radixSort(prefix, rowCount);
+      } else {
+        sort(prefix, rowCount);
+      }
+      // rows of the prefix not later than the first row of the sorted tail stay where they are
+      long tailMinTime = getTime(prefix);
+      int low = 0;
+      int high = prefix;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (getTime(mid) <= tailMinTime) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      if (low < prefix) {
+        merge(low, prefix, rowCount);
+      }
+    }
+    sortedRowCount = rowCount;
+  }
+
+  /**
+   * LSD radix sort of the rows in [lo, hi) by time. The times are sorted as keys relative to their
+   * minimum together with their row indexes, digit by digit for only as many digits as the range of
+   * the times needs, and the resulting permutation is applied to all the columns through the
+   * sorting buffers. Like the merge sort, it is stable.
+   */
+  protected void radixSort(int lo, int hi) {
+    int size = hi - lo;
+    if (size <= SMALL_ARRAY_LENGTH) {
+      sort(lo, hi);
+      return;
+    }
+    long[] keys = new long[size];
+    int[] rows = new int[size];
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < size; i++) {
+      long time = getTime(lo + i);
+      keys[i] = time;
+      rows[i] = lo + i;
+      min = Math.min(min, time);
+      max = Math.max(max, time);
+    }
+    // the keys are compared as unsigned numbers, so the range can not overflow
+    for (int i = 0; i < size; i++) {
+      keys[i] -= min;
+    }
+    int keyBits = Long.SIZE - Long.numberOfLeadingZeros(max - min);
+
+    long[] keyBuffer = new long[size];
+    int[] rowBuffer = new int[size];
+    int[] starts = new int[1 << RADIX_BITS];
+    for (int shift = 0; shift < keyBits; shift += RADIX_BITS) {
+      Arrays.fill(starts, 0);
+      for (long key : keys) {
+        starts[(int) ((key >>> shift) & RADIX_MASK)]++;
+      }
+      if (starts[(int) ((keys[0] >>> shift) & RADIX_MASK)] == size) {
+        // all the keys share this digit
+        continue;
+      }
+      int start = 0;
+      for (int digit = 0; digit < starts.length; digit++) {
+        int count = starts[digit];
+        starts[digit] = start;
+        start += count;
+      }
+      for (int i = 0; i < size; i++) {
+        int position = starts[(int) ((keys[i] >>> shift) & RADIX_MASK)]++;
+        keyBuffer[position] = keys[i];
+        rowBuffer[position] = rows[i];
+      }
+      long[] swapKeys = keys;
+      keys = keyBuffer;
+      keyBuffer = swapKeys;
+      int[] swapRows = rows;
+      rows = rowBuffer;
+      rowBuffer = swapRows;
+    }
+
+    for (int i = 0; i < size; i++) {
+      setToSorted(rows[i], lo + i);
+    }
+    for (int i = lo; i < hi; i++) {
+      setFromSorted(i, i);
+    }
+  }
+
   protected void sort(int lo, int hi) {
     if (sorted) {
       return;
@@ -36,12 +36,20 @@ import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.metadata.path.MeasurementPath;
 import org.apache.iotdb.db.service.IoTDB;
 import org.apache.iotdb.db.utils.EnvironmentUtils;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.write.chunk.ChunkWriterImpl;
 import org.apache.iotdb.tsfile.write.schema.IMeasurementSchema;
 import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.apache.iotdb.tsfile.write.writer.RestorableTsFileIOWriter;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
@@ -50,12 +58,14 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 /**
@@ -943,4 +953,113 @@ public class ReadChunkCompactionPerformerNoAlignedTest {
           .setChunkPointNumLowerBoundInCompaction(originChunkPointNumLowerBound);
     }
   }
+
+  /**
+   * Generate chunks of one series whose AUTO encoding resolves differently. Chunks with different
+   * encodings must not be merged by appending pages, each of them keeps its own encoding.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testMergeChunkWithDifferentEncodings() throws Exception {
+    long originTargetChunkSize = IoTDBDescriptor.getInstance().getConfig().getTargetChunkSize();
+    long originTargetChunkPointNum =
+        IoTDBDescriptor.getInstance().getConfig().getTargetChunkPointNum();
+    long originChunkSizeLowerBound =
+        IoTDBDescriptor.getInstance().getConfig().getChunkSizeLowerBoundInCompaction();
+    long originChunkPointNumLowerBound =
+        IoTDBDescriptor.getInstance().getConfig().getChunkPointNumLowerBoundInCompaction();
+    IoTDBDescriptor.getInstance().getConfig().setTargetChunkSize(1024 * 1024);
+    IoTDBDescriptor.getInstance().getConfig().setTargetChunkPointNum(800);
+    IoTDBDescriptor.getInstance().getConfig().setChunkSizeLowerBoundInCompaction(1);
+    IoTDBDescriptor.getInstance().getConfig().setChunkPointNumLowerBoundInCompaction(100);
+    try {
+      // 500 points of a line, 500 random points and 1000 points of a line, the first two are
+      // middle chunks and the last one is a large chunk
+      Random random = new Random(0);
+      long[][] values = new long[][] {new long[500], new long[500], new long[1000]};
+      for (int i = 0; i < values[0].length; i++) {
+        values[0][i] = i * 10L;
+        values[1][i] = random.nextLong();
+      }
+      for (int i = 0; i < values[2].length; i++) {
+        values[2][i] = i * 3L;
+      }
+      String device = devicePath[0].getFullPath();
+      Path series = new Path(device, measurements[0]);
+      List<TsFileResource> sourceFiles = new ArrayList<>();
+      List<TSEncoding> sourceEncodings = new ArrayList<>();
+      long startTime = 0;
+      for (int i = 0; i < values.length; i++) {
+        TsFileResource resource =
+            new TsFileResource(new File(SEQ_DIRS, String.format("%d-%d-0-0.tsfile", i + 1, i + 1)));
+        writeAutoEncodedTsFile(resource, device, startTime, values[i]);
+        startTime += values[i].length;
+        sourceFiles.add(resource);
+        try (TsFileSequenceReader reader = new TsFileSequenceReader(resource.getTsFilePath())) {
+          ChunkMetadata chunkMetadata = reader.getChunkMetadataList(series).get(0);
+          sourceEncodings.add(reader.readMemChunk(chunkMetadata).getHeader().getEncodingType());
+        }
+      }
+      Assert.assertNotEquals(sourceEncodings.get(0), sourceEncodings.get(1));
+      Assert.assertNotEquals(sourceEncodings.get(1), sourceEncodings.get(2));
+
+      TsFileResource targetResource =
+          new TsFileResource(new File(SEQ_DIRS, String.format("%d-%d-1-0.tsfile", 1, 1)));
+      ICompactionPerformer performer =
+          new ReadChunkCompactionPerformer(sourceFiles, targetResource);
+      performer.setSummary(new CompactionTaskSummary());
+      performer.perform();
+
+      try (TsFileSequenceReader reader = new TsFileSequenceReader(targetResource.getTsFilePath())) {
+        List<ChunkMetadata> chunkMetadataList = reader.getChunkMetadataList(series);
+        Assert.assertEquals(values.length, chunkMetadataList.size());
+        long time = 0;
+        for (int i = 0; i < chunkMetadataList.size(); i++) {
+          Chunk chunk = reader.readMemChunk(chunkMetadataList.get(i));
+          Assert.assertEquals(sourceEncodings.get(i), chunk.getHeader().getEncodingType());
+          ChunkReader chunkReader = new ChunkReader(chunk, null);
+          int index = 0;
+          while (chunkReader.hasNextSatisfiedPage()) {
+            BatchData batchData = chunkReader.nextPageData();
+            while (batchData.hasCurrent()) {
+              Assert.assertEquals(time++, batchData.currentTime());
+              Assert.assertEquals(values[i][index++], batchData.getLong());
+              batchData.next();
+            }
+          }
+          Assert.assertEquals(values[i].length, index);
+        }
+      }
+    } finally {
+      IoTDBDescriptor.getInstance().getConfig().setTargetChunkSize(originTargetChunkSize);
+      IoTDBDescriptor.getInstance().getConfig().setTargetChunkPointNum(originTargetChunkPointNum);
+      IoTDBDescriptor.getInstance()
+          .getConfig()
+          .setChunkSizeLowerBoundInCompaction(originChunkSizeLowerBound);
+      IoTDBDescriptor.getInstance()
+          .getConfig()
+          .setChunkPointNumLowerBoundInCompaction(originChunkPointNumLowerBound);
+    }
+  }
+
+  /** Write a file with one chunk of the first measurement of the device under AUTO encoding. */
+  private void writeAutoEncodedTsFile(
+      TsFileResource resource, String device, long startTime, long[] values) throws IOException {
+    RestorableTsFileIOWriter writer = new RestorableTsFileIOWriter(resource.getTsFile());
+    writer.startChunkGroup(device);
+    ChunkWriterImpl chunkWriter =
+        new ChunkWriterImpl(
+            new MeasurementSchema(measurements[0], TSDataType.INT64, TSEncoding.AUTO), true);
+    for (int i = 0; i < values.length; i++) {
+      chunkWriter.write(startTime + i, values[i]);
+    }
+    chunkWriter.writeToFileWriter(writer);
+    writer.endChunkGroup();
+    resource.updateStartTime(device, startTime);
+    resource.updateEndTime(device, startTime + values.length - 1);
+    resource.serialize();
+    writer.endFile();
+    resource.close();
+  }
 }
@@ -28,6 +28,7 @@ import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.db.engine.MetadataManagerHelper;
 import org.apache.iotdb.db.engine.StorageEngine;
+import org.apache.iotdb.db.engine.StorageEngineV2;
 import org.apache.iotdb.db.engine.compaction.CompactionTaskManager;
 import org.apache.iotdb.db.engine.compaction.inner.InnerSpaceCompactionTask;
 import org.apache.iotdb.db.engine.compaction.log.CompactionLogger;
@@ -44,14 +45,18 @@ import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.metadata.path.MeasurementPath;
 import org.apache.iotdb.db.mpp.common.QueryId;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.write.InsertRowNode;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.write.InsertRowsNode;
 import org.apache.iotdb.db.mpp.plan.planner.plan.node.write.InsertTabletNode;
 import org.apache.iotdb.db.query.context.QueryContext;
 import org.apache.iotdb.db.rescon.MemTableManager;
 import org.apache.iotdb.db.utils.EnvironmentUtils;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.read.reader.IPointReader;
 import org.apache.iotdb.tsfile.write.record.TSRecord;
 import org.apache.iotdb.tsfile.write.record.datapoint.DataPoint;
@@ -69,6 +74,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class DataRegionTest {
@@ -188,6 +194,318 @@ public class DataRegionTest {
     }
   }
 
+  @Test
+  public void testGroupCommitConcurrentInsert() throws Exception {
+    int prevInsertGroupCommitMaxRowNum = config.getInsertGroupCommitMaxRowNum();
+    config.setInsertGroupCommitMaxRowNum(16);
+    try {
+      dataRegion.syncDeleteDataFiles();
+      dataRegion = new DummyDataRegion(systemDir, storageGroup);
+
+      int threadNum = 8;
+      int rowNumPerThread = 100;
+      List<Thread> threads = new ArrayList<>();
+      List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+      for (int i = 0; i < threadNum; i++) {
+        int threadIndex = i;
+        threads.add(
+            new Thread(
+                () -> {
+                  try {
+                    for (int j = 0; j < rowNumPerThread; j++) {
+                      long time = 1 + threadIndex + (long) j * threadNum;
+                      TSRecord record = new TSRecord(time, deviceId);
+                      record.addTuple(
+                          DataPoint.getDataPoint(
+                              TSDataType.INT32, measurementId, String.valueOf(time)));
+                      dataRegion.insert(buildInsertRowNodeByTSRecord(record));
+                    }
+                  } catch (Exception e) {
+                    exceptions.add(e);
+                  }
+                }));
+      }
+      for (Thread thread : threads) {
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      Assert.assertTrue(exceptions.toString(), exceptions.isEmpty());
+
+      PartialPath fullPath =
+          new MeasurementPath(
+              deviceId,
+              measurementId,
+              new MeasurementSchema(
+                  measurementId,
+                  TSDataType.INT32,
+                  TSEncoding.RLE,
+                  CompressionType.UNCOMPRESSED,
+                  Collections.emptyMap()));
+      List<TsFileResource> tsfileResourcesForQuery = new ArrayList<>();
+      for (TsFileProcessor tsfileProcessor : dataRegion.getWorkSequenceTsFileProcessors()) {
+        tsfileProcessor.query(
+            Collections.singletonList(fullPath),
+            EnvironmentUtils.TEST_QUERY_CONTEXT,
+            tsfileResourcesForQuery);
+      }
+      Assert.assertEquals(1, tsfileResourcesForQuery.size());
+      long time = 1;
+      for (ReadOnlyMemChunk memChunk :
+          tsfileResourcesForQuery.get(0).getReadOnlyMemChunk(fullPath)) {
+        IPointReader iterator = memChunk.getPointReader();
+        while (iterator.hasNextTimeValuePair()) {
+          TimeValuePair timeValuePair = iterator.nextTimeValuePair();
+          Assert.assertEquals(time, timeValuePair.getTimestamp());
+          Assert.assertEquals((int) time, timeValuePair.getValue().getInt());
+          time++;
+        }
+      }
+      Assert.assertEquals(threadNum * rowNumPerThread + 1, time);
+    } finally {
+      config.setInsertGroupCommitMaxRowNum(prevInsertGroupCommitMaxRowNum);
+    }
+  }
+
+  @Test
+  public void testGroupCommitMemCost() throws Exception {
+    int prevInsertGroupCommitMaxRowNum = config.getInsertGroupCommitMaxRowNum();
+    try {
+      long[] sequentialMemCost = insertRowsAndGetMemCost(0);
+      long[] groupMemCost = insertRowsAndGetMemCost(1000);
+      Assert.assertTrue(sequentialMemCost[0] > 0 && sequentialMemCost[1] > 0);
+      Assert.assertArrayEquals(sequentialMemCost, groupMemCost);
+    } finally {
+      config.setInsertGroupCommitMaxRowNum(prevInsertGroupCommitMaxRowNum);
+    }
+  }
+
+  /**
+   * Insert the same rows into a new data region, as one group if group commit is enabled.
+   *
+   * @return the mem cost of the TsFileProcessorInfo and the memtable of the TsFileProcessor
+   */
+  private long[] insertRowsAndGetMemCost(int insertGroupCommitMaxRowNum) throws Exception {
+    config.setInsertGroupCommitMaxRowNum(insertGroupCommitMaxRowNum);
+    dataRegion.syncDeleteDataFiles();
+    dataRegion = new DummyDataRegion(systemDir, storageGroup);
+
+    InsertRowsNode insertRowsNode = new InsertRowsNode(new QueryId("test_write").genPlanNodeId());
+    for (long time = 1; time <= 100; time++) {
+      // a series starts and an aligned column is added in the middle of the rows, and the rows
+      // cross several primitive arrays
+      int measurementNum = time <= 50 ? 2 : 3;
+      insertRowsNode.addOneInsertRowNode(
+          buildInsertRowNode(deviceId, false, time, measurementNum),
+          insertRowsNode.getInsertRowNodeList().size());
+      insertRowsNode.addOneInsertRowNode(
+          buildInsertRowNode("root.vehicle.d1", true, time, measurementNum),
+          insertRowsNode.getInsertRowNodeList().size());
+    }
+    dataRegion.insert(insertRowsNode);
+
+    Assert.assertEquals(1, dataRegion.getWorkSequenceTsFileProcessors().size());
+    TsFileProcessor tsFileProcessor =
+        dataRegion.getWorkSequenceTsFileProcessors().iterator().next();
+    return new long[] {
+      tsFileProcessor.getTsFileProcessorInfo().getMemCost(),
+      tsFileProcessor.getWorkMemTableRamCost()
+    };
+  }
+
+  private InsertRowNode buildInsertRowNode(
+      String device, boolean aligned, long time, int measurementNum) throws IllegalPathException {
+    String[] measurements = new String[measurementNum];
+    TSDataType[] dataTypes = new TSDataType[measurementNum];
+    MeasurementSchema[] measurementSchemas = new MeasurementSchema[measurementNum];
+    Object[] values = new Object[measurementNum];
+    for (int i = 0; i < measurementNum; i++) {
+      measurements[i] = "s" + i;
+      dataTypes[i] = TSDataType.INT64;
+      measurementSchemas[i] = new MeasurementSchema(measurements[i], TSDataType.INT64);
+      values[i] = time;
+    }
+    InsertRowNode insertRowNode =
+        new InsertRowNode(
+            new QueryId("test_write").genPlanNodeId(),
+            new PartialPath(device),
+            aligned,
+            measurements,
+            dataTypes,
+            time,
+            values,
+            false);
+    insertRowNode.setMeasurementSchemas(measurementSchemas);
+    return insertRowNode;
+  }
+
+  @Test
+  public void testConcurrentInsertFlushAndQueryInSeveralTimePartitions() throws Exception {
+    boolean prevEnablePartition = StorageEngine.isEnablePartition();
+    long prevPartitionInterval = StorageEngine.getTimePartitionInterval();
+    boolean prevEnablePartitionV2 = StorageEngineV2.isEnablePartition();
+    long prevPartitionIntervalV2 = StorageEngineV2.getTimePartitionInterval();
+    int prevConcurrentTimePartition = config.getConcurrentWritingTimePartition();
+    long partitionInterval = 1000;
+    int partitionNum = 4;
+    try {
+      StorageEngine.setEnablePartition(true);
+      StorageEngine.setTimePartitionInterval(partitionInterval);
+      StorageEngineV2.setEnablePartition(true);
+      StorageEngineV2.setTimePartitionInterval(partitionInterval);
+      config.setConcurrentWritingTimePartition(partitionNum);
+      dataRegion.syncDeleteDataFiles();
+      dataRegion = new DummyDataRegion(systemDir, storageGroup);
+
+      // every row writer writes rows of s0 into all the time partitions, the tablet writer writes
+      // tablets of s1 that span two time partitions
+      int rowWriterNum = 4;
+      int rowNumPerPartition = 200;
+      String tabletMeasurementId = "s1";
+      int tabletSize = 50;
+      AtomicBoolean writing = new AtomicBoolean(true);
+      List<Exception> exceptions = Collections.synchronizedList(new ArrayList<>());
+      List<Thread> writers = new ArrayList<>();
+      for (int i = 0; i < rowWriterNum; i++) {
+        int writerIndex = i;
+        writers.add(
+            new Thread(
+                () -> {
+                  try {
+                    for (int j = 0; j < rowNumPerPartition; j++) {
+                      for (int p = 0; p < partitionNum; p++) {
+                        long time = p * partitionInterval + writerIndex + (long) j * rowWriterNum;
+                        TSRecord record = new TSRecord(time, deviceId);
+                        record.addTuple(
+                            DataPoint.getDataPoint(
+                                TSDataType.INT32, measurementId, String.valueOf(time)));
+                        dataRegion.insert(buildInsertRowNodeByTSRecord(record));
+                      }
+                    }
+                  } catch (Exception e) {
+                    exceptions.add(e);
+                  }
+                }));
+      }
+      writers.add(
+          new Thread(
+              () -> {
+                try {
+                  for (int p = 0; p < partitionNum - 1; p++) {
+                    long[] times = new long[tabletSize];
+                    int[] values = new int[tabletSize];
+                    for (int r = 0; r < tabletSize; r++) {
+                      times[r] = (p + 1) * partitionInterval - tabletSize / 2 + r;
+                      values[r] = (int) times[r];
+                    }
+                    InsertTabletNode insertTabletNode =
+                        new InsertTabletNode(
+                            new QueryId("test_write").genPlanNodeId(),
+                            new PartialPath(deviceId),
+                            false,
+                            new String[] {tabletMeasurementId},
+                            new TSDataType[] {TSDataType.INT32},
+                            times,
+                            null,
+                            new Object[] {values},
+                            tabletSize);
+                    insertTabletNode.setMeasurementSchemas(
+                        new MeasurementSchema[] {
+                          new MeasurementSchema(
+                              tabletMeasurementId, TSDataType.INT32, TSEncoding.PLAIN)
+                        });
+                    dataRegion.insertTablet(insertTabletNode);
+                  }
+                } catch (Exception e) {
+                  exceptions.add(e);
+                }
+              }));
+
+      Thread flusher =
+          new Thread(
+              () -> {
+                try {
+                  while (writing.get()) {
+                    dataRegion.asyncCloseAllWorkingTsFileProcessors();
+                    Thread.sleep(10);
+                  }
+                } catch (Exception e) {
+                  exceptions.add(e);
+                }
+              });
+      Thread querier =
+          new Thread(
+              () -> {
+                try {
+                  while (writing.get()) {
+                    dataRegion.query(
+                        Collections.singletonList(new PartialPath(deviceId, measurementId)),
+                        deviceId,
+                        context,
+                        null,
+                        null);
+                  }
+                } catch (Exception e) {
+                  exceptions.add(e);
+                }
+              });
+      flusher.start();
+      querier.start();
+      for (Thread writer : writers) {
+        writer.start();
+      }
+      for (Thread writer : writers) {
+        writer.join();
+      }
+      writing.set(false);
+      flusher.join();
+      querier.join();
+      Assert.assertTrue(exceptions.toString(), exceptions.isEmpty());
+
+      dataRegion.syncCloseAllWorkingTsFileProcessors();
+      Assert.assertEquals(
+          (long) rowWriterNum * rowNumPerPartition * partitionNum,
+          countPoints(measurementId, partitionNum));
+      Assert.assertEquals(
+          (long) tabletSize * (partitionNum - 1), countPoints(tabletMeasurementId, partitionNum));
+    } finally {
+      StorageEngine.setEnablePartition(prevEnablePartition);
+      StorageEngine.setTimePartitionInterval(prevPartitionInterval);
+      StorageEngineV2.setEnablePartition(prevEnablePartitionV2);
+      StorageEngineV2.setTimePartitionInterval(prevPartitionIntervalV2);
+      config.setConcurrentWritingTimePartition(prevConcurrentTimePartition);
+    }
+  }
+
+  /** count the points of the series in the closed TsFiles, checking their time partitions */
+  private long countPoints(String measurement, int partitionNum)
+      throws QueryProcessException, IllegalPathException, IOException {
+    PartialPath path = new PartialPath(deviceId, measurement);
+    QueryDataSource queryDataSource =
+        dataRegion.query(Collections.singletonList(path), deviceId, context, null, null);
+    List<TsFileResource> resources = new ArrayList<>(queryDataSource.getSeqResources());
+    resources.addAll(queryDataSource.getUnseqResources());
+    long count = 0;
+    for (TsFileResource resource : resources) {
+      Assert.assertTrue(resource.isClosed());
+      Assert.assertTrue(resource.getTimePartition() < partitionNum);
+      try (TsFileSequenceReader reader = new TsFileSequenceReader(resource.getTsFilePath())) {
+        for (ChunkMetadata chunkMetadata :
+            reader.getChunkMetadataList(new Path(deviceId, measurement), true)) {
+          Assert.assertEquals(
+              resource.getTimePartition(),
+              StorageEngine.getTimePartition(chunkMetadata.getStartTime()));
+          Assert.assertEquals(
+              resource.getTimePartition(),
+              StorageEngine.getTimePartition(chunkMetadata.getEndTime()));
+          count += chunkMetadata.getStatistics().getCount();
+        }
+      }
+    }
+    return count;
+  }
+
   @Test
   public void testSequenceSyncClose()
       throws WriteProcessException, QueryProcessException, IllegalPathException,
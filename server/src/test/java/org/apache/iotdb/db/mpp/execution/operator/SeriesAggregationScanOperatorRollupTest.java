@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.mpp.execution.operator;
+
+import org.apache.iotdb.commons.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.commons.exception.IllegalPathException;
+import org.apache.iotdb.commons.exception.MetadataException;
+import org.apache.iotdb.commons.path.PartialPath;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.cache.ChunkCache;
+import org.apache.iotdb.db.engine.cache.TimeSeriesMetadataCache;
+import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResourceStatus;
+import org.apache.iotdb.db.metadata.path.MeasurementPath;
+import org.apache.iotdb.db.mpp.aggregation.AccumulatorFactory;
+import org.apache.iotdb.db.mpp.aggregation.Aggregator;
+import org.apache.iotdb.db.mpp.common.FragmentInstanceId;
+import org.apache.iotdb.db.mpp.common.PlanFragmentId;
+import org.apache.iotdb.db.mpp.common.QueryId;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext;
+import org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceStateMachine;
+import org.apache.iotdb.db.mpp.execution.operator.source.SeriesAggregationScanOperator;
+import org.apache.iotdb.db.mpp.plan.planner.plan.node.PlanNodeId;
+import org.apache.iotdb.db.mpp.plan.planner.plan.parameter.AggregationStep;
+import org.apache.iotdb.db.mpp.plan.planner.plan.parameter.GroupByTimeParameter;
+import org.apache.iotdb.db.query.aggregation.AggregationType;
+import org.apache.iotdb.db.query.control.FileReaderManager;
+import org.apache.iotdb.db.service.IoTDB;
+import org.apache.iotdb.db.utils.EnvironmentUtils;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.IntDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import com.google.common.collect.Sets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.apache.iotdb.db.mpp.execution.fragment.FragmentInstanceContext.createFragmentInstanceContext;
+import static org.apache.iotdb.db.mpp.execution.operator.AggregationOperatorTest.TEST_TIME_SLICE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * GROUP BY windows over sequence files with rollup statistics. Each file spans several windows, so
+ * the windows aligned to the rollup resolution are answered from the rollup of the file.
+ */
+public class SeriesAggregationScanOperatorRollupTest {
+
+  private static final String SERIES_SCAN_OPERATOR_TEST_SG = "root.RollupTest";
+  private static final String DEVICE_ID = SERIES_SCAN_OPERATOR_TEST_SG + ".device0";
+  private static final String MEASUREMENT_ID = "sensor0";
+  private static final long RESOLUTION = 100;
+  private static final int FILE_NUM = 2;
+  private static final long POINT_NUM_IN_FILE = 1000;
+  private static final long POINT_NUM_IN_CHUNK = 250;
+
+  private static final List<AggregationType> AGGREGATION_TYPES =
+      Arrays.asList(
+          AggregationType.COUNT,
+          AggregationType.SUM,
+          AggregationType.MIN_VALUE,
+          AggregationType.MAX_VALUE,
+          AggregationType.FIRST_VALUE,
+          AggregationType.LAST_VALUE);
+
+  private final List<TsFileResource> seqResources = new ArrayList<>();
+  private long[] prevRollupResolutions;
+  private ExecutorService instanceNotificationExecutor;
+
+  @Before
+  public void setUp() throws MetadataException, IOException, WriteProcessException {
+    prevRollupResolutions = TSFileDescriptor.getInstance().getConfig().getRollupResolutions();
+    TSFileDescriptor.getInstance().getConfig().setRollupResolutions(new long[] {RESOLUTION});
+    IoTDB.configManager.init();
+    IoTDB.schemaProcessor.setStorageGroup(new PartialPath(SERIES_SCAN_OPERATOR_TEST_SG));
+    IoTDB.schemaProcessor.createTimeseries(
+        new PartialPath(DEVICE_ID + "." + MEASUREMENT_ID),
+        TSDataType.INT32,
+        TSEncoding.PLAIN,
+        CompressionType.UNCOMPRESSED,
+        Collections.emptyMap());
+    for (int i = 0; i < FILE_NUM; i++) {
+      File file = new File(TestConstant.getTestTsFilePath(SERIES_SCAN_OPERATOR_TEST_SG, 0, 0, i));
+      TsFileResource tsFileResource = new TsFileResource(file);
+      tsFileResource.setStatus(TsFileResourceStatus.CLOSED);
+      tsFileResource.setMinPlanIndex(i);
+      tsFileResource.setMaxPlanIndex(i);
+      tsFileResource.setVersion(i);
+      prepareFile(tsFileResource, i * POINT_NUM_IN_FILE);
+      seqResources.add(tsFileResource);
+    }
+    this.instanceNotificationExecutor =
+        IoTDBThreadPoolFactory.newFixedThreadPool(1, "test-instance-notification");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    for (TsFileResource tsFileResource : seqResources) {
+      tsFileResource.remove();
+    }
+    seqResources.clear();
+    FileReaderManager.getInstance().closeAndRemoveAllOpenedReaders();
+    ChunkCache.getInstance().clear();
+    TimeSeriesMetadataCache.getInstance().clear();
+    IoTDB.configManager.clear();
+    EnvironmentUtils.cleanAllDir();
+    TSFileDescriptor.getInstance().getConfig().setRollupResolutions(prevRollupResolutions);
+    instanceNotificationExecutor.shutdown();
+  }
+
+  /** the value of each point is its time, every file has several chunks */
+  private void prepareFile(TsFileResource tsFileResource, long timeOffset)
+      throws IOException, WriteProcessException {
+    File file = tsFileResource.getTsFile();
+    if (!file.getParentFile().exists()) {
+      file.getParentFile().mkdirs();
+    }
+    try (TsFileWriter fileWriter = new TsFileWriter(file)) {
+      fileWriter.registerTimeseries(
+          new Path(DEVICE_ID),
+          new MeasurementSchema(
+              MEASUREMENT_ID, TSDataType.INT32, TSEncoding.PLAIN, CompressionType.UNCOMPRESSED));
+      for (long time = timeOffset; time < timeOffset + POINT_NUM_IN_FILE; time++) {
+        TSRecord record = new TSRecord(time, DEVICE_ID);
+        record.addTuple(new IntDataPoint(MEASUREMENT_ID, (int) time));
+        fileWriter.write(record);
+        tsFileResource.updateStartTime(DEVICE_ID, time);
+        tsFileResource.updateEndTime(DEVICE_ID, time);
+        if ((time + 1) % POINT_NUM_IN_CHUNK == 0) {
+          fileWriter.flushAllChunkGroups();
+        }
+      }
+    }
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(file.getPath())) {
+      TimeseriesMetadata timeseriesMetadata =
+          reader.readTimeseriesMetadata(new Path(DEVICE_ID, MEASUREMENT_ID), false);
+      assertNotNull(timeseriesMetadata.getRollupStatistics());
+    }
+  }
+
+  @Test
+  public void testAlignedWindows() throws IllegalPathException {
+    // windows of three buckets, all aligned to the resolution, [900, 1200) spans both files
+    checkGroupBy(new GroupByTimeParameter(0, 2000, 300, 300, true), true);
+  }
+
+  @Test
+  public void testTrailingNonAlignedWindow() throws IllegalPathException {
+    // the last window [1900, 1950) is not aligned and is calculated from the chunks
+    checkGroupBy(new GroupByTimeParameter(0, 1950, 100, 100, true), true);
+  }
+
+  @Test
+  public void testNonAlignedWindows() throws IllegalPathException {
+    // no window is aligned, the rollup is not used
+    checkGroupBy(new GroupByTimeParameter(50, 1950, 100, 100, true), true);
+  }
+
+  @Test
+  public void testAlignedWindowsOrderByTimeDesc() throws IllegalPathException {
+    checkGroupBy(new GroupByTimeParameter(0, 2000, 100, 100, true), false);
+  }
+
+  @Test
+  public void testTrailingNonAlignedWindowOrderByTimeDesc() throws IllegalPathException {
+    checkGroupBy(new GroupByTimeParameter(0, 1950, 100, 100, true), false);
+  }
+
+  /** the expected results of window [start, end) follow from the value of a point being its time */
+  private void checkGroupBy(GroupByTimeParameter groupByTimeParameter, boolean ascending)
+      throws IllegalPathException {
+    List<Aggregator> aggregators = new ArrayList<>();
+    AccumulatorFactory.createAccumulators(AGGREGATION_TYPES, TSDataType.INT32, ascending)
+        .forEach(o -> aggregators.add(new Aggregator(o, AggregationStep.SINGLE)));
+    SeriesAggregationScanOperator seriesAggregationScanOperator =
+        initSeriesAggregationScanOperator(aggregators, ascending, groupByTimeParameter);
+
+    long startTime = groupByTimeParameter.getStartTime();
+    long endTime = groupByTimeParameter.getEndTime();
+    long interval = groupByTimeParameter.getInterval();
+    int windowNum = (int) ((endTime - startTime + interval - 1) / interval);
+    int count = 0;
+    while (seriesAggregationScanOperator.hasNext()) {
+      TsBlock resultTsBlock = seriesAggregationScanOperator.next();
+      int positionCount = resultTsBlock.getPositionCount();
+      for (int pos = 0; pos < positionCount; pos++) {
+        int window = ascending ? count : windowNum - 1 - count;
+        long windowStart = startTime + window * interval;
+        long windowEnd = Math.min(windowStart + interval, endTime);
+        assertEquals(windowStart, resultTsBlock.getTimeColumn().getLong(pos));
+        assertEquals(windowEnd - windowStart, resultTsBlock.getColumn(0).getLong(pos));
+        assertEquals(
+            (windowStart + windowEnd - 1) * (windowEnd - windowStart) / 2.0,
+            resultTsBlock.getColumn(1).getDouble(pos),
+            0.0001);
+        assertEquals(windowStart, resultTsBlock.getColumn(2).getInt(pos));
+        assertEquals(windowEnd - 1, resultTsBlock.getColumn(3).getInt(pos));
+        assertEquals(windowStart, resultTsBlock.getColumn(4).getInt(pos));
+        assertEquals(windowEnd - 1, resultTsBlock.getColumn(5).getInt(pos));
+        count++;
+      }
+    }
+    assertEquals(windowNum, count);
+  }
+
+  private SeriesAggregationScanOperator initSeriesAggregationScanOperator(
+      List<Aggregator> aggregators, boolean ascending, GroupByTimeParameter groupByTimeParameter)
+      throws IllegalPathException {
+    MeasurementPath measurementPath =
+        new MeasurementPath(DEVICE_ID + "." + MEASUREMENT_ID, TSDataType.INT32);
+    QueryId queryId = new QueryId("stub_query");
+    FragmentInstanceId instanceId =
+        new FragmentInstanceId(new PlanFragmentId(queryId, 0), "stub-instance");
+    FragmentInstanceStateMachine stateMachine =
+        new FragmentInstanceStateMachine(instanceId, instanceNotificationExecutor);
+    FragmentInstanceContext fragmentInstanceContext =
+        createFragmentInstanceContext(instanceId, stateMachine);
+    PlanNodeId planNodeId = new PlanNodeId("1");
+    fragmentInstanceContext.addOperatorContext(
+        1, planNodeId, SeriesAggregationScanOperator.class.getSimpleName());
+    fragmentInstanceContext
+        .getOperatorContexts()
+        .forEach(operatorContext -> operatorContext.setMaxRunTime(TEST_TIME_SLICE));
+
+    SeriesAggregationScanOperator seriesAggregationScanOperator =
+        new SeriesAggregationScanOperator(
+            planNodeId,
+            measurementPath,
+            Sets.newHashSet(MEASUREMENT_ID),
+            fragmentInstanceContext.getOperatorContexts().get(0),
+            aggregators,
+            null,
+            ascending,
+            groupByTimeParameter);
+    seriesAggregationScanOperator.initQueryDataSource(
+        new QueryDataSource(seqResources, Collections.emptyList()));
+    return seriesAggregationScanOperator;
+  }
+}
@@ -77,6 +77,51 @@ public class LongTVListTest {
     }
   }
 
+  @Test
+  public void testIncrementalSort() {
+    Random random = new Random();
+    LongTVList tvList = new LongTVList();
+    List<TimeValuePair> inputs = new ArrayList<>();
+    for (int round = 0; round < 10; round++) {
+      for (long i = 0; i < 1000; i++) {
+        long time = random.nextInt(10000);
+        tvList.putLong(time, time);
+        inputs.add(new TimeValuePair(time, new TsLong(time)));
+      }
+      if (round == 5) {
+        tvList.delete(2000, 3000);
+        inputs.removeIf(pair -> pair.getTimestamp() >= 2000 && pair.getTimestamp() <= 3000);
+      }
+      tvList.sort();
+      inputs.sort(TimeValuePair::compareTo);
+      Assert.assertEquals(inputs.size(), tvList.rowCount);
+      for (int i = 0; i < tvList.rowCount; i++) {
+        Assert.assertEquals(inputs.get(i).getTimestamp(), tvList.getTime(i));
+        Assert.assertEquals(inputs.get(i).getValue().getLong(), tvList.getLong(i));
+      }
+    }
+  }
+
+  @Test
+  public void testRadixSort() {
+    Random random = new Random();
+    LongTVList mergeSorted = new LongTVList();
+    LongTVList radixSorted = new LongTVList();
+    for (int i = 0; i < 10000; i++) {
+      // negative times, a wide range and duplicates with different values
+      long time = random.nextInt(5000) - 1000L + (i % 7 == 0 ? Integer.MAX_VALUE : 0);
+      mergeSorted.putLong(time, i);
+      radixSorted.putLong(time, i);
+    }
+    mergeSorted.sort(TVListSortAlgorithm.MERGE);
+    radixSorted.sort(TVListSortAlgorithm.RADIX);
+    Assert.assertTrue(radixSorted.isSorted());
+    for (int i = 0; i < radixSorted.rowCount; i++) {
+      Assert.assertEquals(mergeSorted.getTime(i), radixSorted.getTime(i));
+      Assert.assertEquals(mergeSorted.getLong(i), radixSorted.getLong(i));
+    }
+  }
+
   @Test
   public void testPutLongsWithoutBitMap() {
     LongTVList tvList = new LongTVList();
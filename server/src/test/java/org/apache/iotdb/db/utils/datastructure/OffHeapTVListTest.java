@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.utils.datastructure;
+
+import org.apache.iotdb.db.rescon.PrimitiveArrayManager;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.TimeValuePair;
+import org.apache.iotdb.tsfile.utils.TsPrimitiveType.TsLong;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class OffHeapTVListTest {
+
+  private static final int ARRAY_SIZE = PrimitiveArrayManager.ARRAY_SIZE;
+  private static final long TIME_ARRAY_SIZE = ARRAY_SIZE * 8L;
+
+  private long prevOffHeapMemoryForWrite;
+
+  @Before
+  public void setUp() {
+    prevOffHeapMemoryForWrite = PrimitiveArrayManager.getOffHeapMemoryForWrite();
+    PrimitiveArrayManager.setOffHeapMemoryForWrite(1024 * 1024);
+  }
+
+  @After
+  public void tearDown() {
+    PrimitiveArrayManager.setOffHeapMemoryForWrite(prevOffHeapMemoryForWrite);
+  }
+
+  @Test
+  public void testPutAndSort() {
+    for (TVListSortAlgorithm algorithm : TVListSortAlgorithm.values()) {
+      Random random = new Random();
+      LongTVList tvList = new LongTVList();
+      Assert.assertNotNull(tvList.offHeapTimestamps);
+      List<TimeValuePair> inputs = new ArrayList<>();
+      for (long i = 0; i < 1000; i++) {
+        long time = random.nextInt(10000) - 5000;
+        tvList.putLong(time, i);
+        inputs.add(new TimeValuePair(time, new TsLong(i)));
+      }
+      long[] times = new long[1000];
+      long[] values = new long[1000];
+      for (int i = 0; i < times.length; i++) {
+        times[i] = random.nextInt(10000) - 5000;
+        values[i] = 1000 + i;
+        inputs.add(new TimeValuePair(times[i], new TsLong(values[i])));
+      }
+      tvList.putLongs(times, values, null, 0, times.length);
+      Assert.assertEquals(
+          PrimitiveArrayManager.getArrayRowCount(inputs.size()) * TIME_ARRAY_SIZE,
+          PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+
+      tvList.sort(algorithm);
+      inputs.sort(TimeValuePair::compareTo);
+      Assert.assertEquals(inputs.size(), tvList.rowCount);
+      for (int i = 0; i < tvList.rowCount; i++) {
+        Assert.assertEquals(inputs.get(i).getTimestamp(), tvList.getTime(i));
+      }
+      tvList.clear();
+      Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    }
+  }
+
+  @Test
+  public void testDelete() {
+    LongTVList tvList = new LongTVList();
+    for (long i = 0; i < 1000; i++) {
+      tvList.putLong(i, i);
+    }
+    Assert.assertEquals(500, tvList.delete(500, 1000));
+    Assert.assertEquals(500, tvList.rowCount);
+    for (int i = 0; i < tvList.rowCount; i++) {
+      Assert.assertEquals(i, tvList.getTime(i));
+      Assert.assertEquals(i, tvList.getLong(i));
+    }
+    // the time arrays no longer needed are released
+    Assert.assertEquals(
+        PrimitiveArrayManager.getArrayRowCount(500) * TIME_ARRAY_SIZE,
+        PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+
+    Assert.assertEquals(250, tvList.delete(0, 249));
+    for (int i = 0; i < tvList.rowCount; i++) {
+      Assert.assertEquals(250 + i, tvList.getTime(i));
+      Assert.assertEquals(250 + i, tvList.getLong(i));
+    }
+    tvList.clear();
+    Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+  }
+
+  @Test
+  public void testClone() {
+    LongTVList tvList = new LongTVList();
+    for (long i = 1000; i > 0; i--) {
+      tvList.putLong(i, i);
+    }
+    tvList.sort();
+    LongTVList clonedTvList = tvList.clone();
+    // clones are never released, so their times stay on the heap
+    Assert.assertNull(clonedTvList.offHeapTimestamps);
+    long offHeapMemCost = PrimitiveArrayManager.getOffHeapTimeArrayMemCost();
+    tvList.clear();
+    Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    Assert.assertEquals(
+        PrimitiveArrayManager.getArrayRowCount(1000) * TIME_ARRAY_SIZE, offHeapMemCost);
+    Assert.assertEquals(1000, clonedTvList.rowCount);
+    for (int i = 0; i < clonedTvList.rowCount; i++) {
+      Assert.assertEquals(i + 1, clonedTvList.getTime(i));
+      Assert.assertEquals(i + 1, clonedTvList.getLong(i));
+    }
+  }
+
+  @Test
+  public void testRelease() {
+    LongTVList tvList = new LongTVList();
+    for (long i = 0; i < 1000; i++) {
+      tvList.putLong(i, i);
+    }
+    long offHeapMemCost = PrimitiveArrayManager.getOffHeapTimeArrayMemCost();
+    tvList.clear();
+    Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+
+    // the released time arrays are reused and start with stale times that are overwritten
+    LongTVList newTvList = new LongTVList();
+    for (long i = 0; i < 1000; i++) {
+      newTvList.putLong(-i, i);
+    }
+    Assert.assertEquals(offHeapMemCost, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    for (int i = 0; i < newTvList.rowCount; i++) {
+      Assert.assertEquals(-i, newTvList.getTime(i));
+    }
+    newTvList.clear();
+    Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+  }
+
+  @Test
+  public void testAlignedTVList() {
+    AlignedTVList tvList =
+        AlignedTVList.newAlignedList(Arrays.asList(TSDataType.INT64, TSDataType.INT64));
+    Assert.assertNotNull(tvList.offHeapTimestamps);
+    int[] columnOrder = new int[] {0, 1};
+    for (long i = 1000; i > 0; i--) {
+      tvList.putAlignedValue(i, new Object[] {i, -i}, columnOrder);
+    }
+    tvList.sort();
+    AlignedTVList clonedTvList = tvList.clone();
+    Assert.assertNull(clonedTvList.offHeapTimestamps);
+    tvList.clear();
+    Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    Assert.assertEquals(1000, clonedTvList.rowCount);
+    for (int i = 0; i < clonedTvList.rowCount; i++) {
+      Assert.assertEquals(i + 1, clonedTvList.getTime(i));
+      Assert.assertEquals(
+          "[" + (i + 1) + ", " + -(i + 1) + "]", clonedTvList.getAlignedValue(i).toString());
+    }
+  }
+
+  @Test
+  public void testOffHeapMemoryLimit() {
+    // room for two time arrays only, the others exceed the budget rather than taking the heap
+    PrimitiveArrayManager.setOffHeapMemoryForWrite(2 * TIME_ARRAY_SIZE);
+    LongTVList tvList = new LongTVList();
+    for (long i = 0; i < 2L * ARRAY_SIZE; i++) {
+      tvList.putLong(i, i);
+    }
+    Assert.assertFalse(PrimitiveArrayManager.isOffHeapMemoryForWriteExceeded());
+    for (long i = 2L * ARRAY_SIZE; i < 5L * ARRAY_SIZE; i++) {
+      tvList.putLong(i, i);
+    }
+    Assert.assertTrue(PrimitiveArrayManager.isOffHeapMemoryForWriteExceeded());
+    Assert.assertEquals(5 * TIME_ARRAY_SIZE, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    for (LongBuffer timeArray : tvList.offHeapTimestamps) {
+      Assert.assertTrue(timeArray.isDirect());
+    }
+    tvList.sort();
+    for (int i = 0; i < tvList.rowCount; i++) {
+      Assert.assertEquals(i, tvList.getTime(i));
+      Assert.assertEquals(i, tvList.getLong(i));
+    }
+    tvList.clear();
+    Assert.assertEquals(0, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    Assert.assertFalse(PrimitiveArrayManager.isOffHeapMemoryForWriteExceeded());
+
+    // the released arrays are used again
+    LongTVList newTvList = new LongTVList();
+    for (long i = 0; i < 2L * ARRAY_SIZE; i++) {
+      newTvList.putLong(i, i);
+    }
+    Assert.assertEquals(2 * TIME_ARRAY_SIZE, PrimitiveArrayManager.getOffHeapTimeArrayMemCost());
+    Assert.assertFalse(PrimitiveArrayManager.isOffHeapMemoryForWriteExceeded());
+    newTvList.clear();
+  }
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class VectorTVListTest {
 
@@ -59,6 +60,30 @@ public class VectorTVListTest {
     }
   }
 
+  @Test
+  public void testRadixSort() {
+    List<TSDataType> dataTypes = new ArrayList<>();
+    dataTypes.add(TSDataType.INT64);
+    dataTypes.add(TSDataType.TEXT);
+    AlignedTVList mergeSorted = new AlignedTVList(dataTypes);
+    AlignedTVList radixSorted = new AlignedTVList(dataTypes);
+    Random random = new Random();
+    int[] columnOrder = new int[] {0, 1};
+    for (long i = 0; i < 5000; i++) {
+      long time = random.nextInt(100000);
+      Object[] value = new Object[] {i, new Binary(String.valueOf(i))};
+      mergeSorted.putAlignedValue(time, value, columnOrder);
+      radixSorted.putAlignedValue(time, value, columnOrder);
+    }
+    mergeSorted.sort(TVListSortAlgorithm.MERGE);
+    radixSorted.sort(TVListSortAlgorithm.RADIX);
+    for (int i = 0; i < radixSorted.rowCount; i++) {
+      Assert.assertEquals(mergeSorted.getTime(i), radixSorted.getTime(i));
+      Assert.assertEquals(
+          mergeSorted.getAlignedValue(i).toString(), radixSorted.getAlignedValue(i).toString());
+    }
+  }
+
   @Test
   public void testVectorTVList2() {
     List<TSDataType> dataTypes = new ArrayList<>();
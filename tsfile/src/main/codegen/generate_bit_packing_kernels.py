@@ -0,0 +1,140 @@
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+"""Generates IntPackerKernels.java and LongPackerKernels.java.
+
+Each kernel packs or unpacks 8 values of one bit width with straight-line code, in the
+big-endian bit order of IntPacker and LongPacker. Run it from the tsfile directory, then
+run `mvn spotless:apply`:
+
+    python3 src/main/codegen/generate_bit_packing_kernels.py
+"""
+
+import os
+
+PACKAGE_DIR = "src/main/java/org/apache/iotdb/tsfile/encoding/bitpacking"
+VALUES_PER_CALL = 8
+
+LICENSE = """/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+"""
+
+
+def at(array, offset, index):
+    return "%s[%s + %d]" % (array, offset, index) if index else "%s[%s]" % (array, offset)
+
+
+def unpack_value(index, width, suffix):
+    """Or the parts of every byte that the value at index covers."""
+    start, end = index * width, (index + 1) * width
+    terms = []
+    for k in range(start // 8, (end - 1) // 8 + 1):
+        lo, hi = max(start, 8 * k), min(end, 8 * k + 8)
+        # drop the bits of the previous value, then those of the next value
+        term = "(%s & 0x%X%s)" % (at("buf", "offset", k), (1 << (8 * k + 8 - lo)) - 1, suffix)
+        if 8 * k + 8 - hi:
+            term = "(%s >>> %d)" % (term, 8 * k + 8 - hi)
+        if end - hi:
+            term = "(%s << %d)" % (term, end - hi)
+        terms.append(term)
+    return " | ".join(terms)
+
+
+def pack_byte(k, width):
+    """Or the parts of every value that byte k covers."""
+    terms = []
+    for index in range(VALUES_PER_CALL):
+        start, end = index * width, (index + 1) * width
+        lo, hi = max(start, 8 * k), min(end, 8 * k + 8)
+        if lo >= hi:
+            continue
+        term = at("values", "offset", index)
+        if end - hi:
+            term = "(%s >>> %d)" % (term, end - hi)
+        term = "(%s & 0x%X)" % (term, (1 << (hi - lo)) - 1)
+        if 8 * k + 8 - hi:
+            term = "(%s << %d)" % (term, 8 * k + 8 - hi)
+        terms.append(term)
+    return "(byte) (%s)" % " | ".join(terms)
+
+
+def generate(class_name, packer_name, value_type, max_width, suffix):
+    lines = [LICENSE, "package org.apache.iotdb.tsfile.encoding.bitpacking;", ""]
+    lines.append("/**")
+    lines.append(" * Pack and unpack kernels of {@link %s}, one per bit width from 1 to %d. Each of them"
+                 % (packer_name, max_width))
+    lines.append(" * handles 8 values with straight-line code, so there is no loop over bits or bytes.")
+    lines.append(" *")
+    lines.append(" * <p>This file is generated by src/main/codegen/generate_bit_packing_kernels.py, do not edit.")
+    lines.append(" */")
+    lines.append("final class %s {" % class_name)
+    lines.append("")
+    lines.append("  private %s() {}" % class_name)
+    for kind, signature, call in (
+        ("pack", "%s[] values, int offset, byte[] buf" % value_type, "values, offset, buf"),
+        ("unpack", "byte[] buf, int offset, %s[] values, int valuesOffset" % value_type,
+         "buf, offset, values, valuesOffset"),
+    ):
+        lines.append("")
+        lines.append("  static void %s8Values(int width, %s) {" % (kind, signature))
+        lines.append("    switch (width) {")
+        for width in range(1, max_width + 1):
+            lines.append("      case %d:" % width)
+            lines.append("        %s8ValuesOfWidth%d(%s);" % (kind, width, call))
+            lines.append("        return;")
+        lines.append("      default:")
+        lines.append("        throw new IllegalArgumentException(\"Unsupported bit width: \" + width);")
+        lines.append("    }")
+        lines.append("  }")
+    for width in range(1, max_width + 1):
+        lines.append("")
+        lines.append("  private static void pack8ValuesOfWidth%d(%s[] values, int offset, byte[] buf) {"
+                     % (width, value_type))
+        for k in range(width):
+            lines.append("    buf[%d] = %s;" % (k, pack_byte(k, width)))
+        lines.append("  }")
+        lines.append("")
+        lines.append("  private static void unpack8ValuesOfWidth%d(" % width)
+        lines.append("      byte[] buf, int offset, %s[] values, int valuesOffset) {" % value_type)
+        for index in range(VALUES_PER_CALL):
+            lines.append("    %s = %s;"
+                         % (at("values", "valuesOffset", index), unpack_value(index, width, suffix)))
+        lines.append("  }")
+    lines.append("}")
+    with open(os.path.join(PACKAGE_DIR, class_name + ".java"), "w") as f:
+        f.write("\n".join(lines) + "\n")
+
+
+if __name__ == "__main__":
+    generate("IntPackerKernels", "IntPacker", "int", 32, "")
+    generate("LongPackerKernels", "LongPacker", "long", 64, "L")
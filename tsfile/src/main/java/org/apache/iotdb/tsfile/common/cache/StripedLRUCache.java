@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.common.cache;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe LRU cache split into stripes by the hash of the keys, each of which is an {@link
+ * LRUCache} of its own with its own lock, so that threads looking up keys of different stripes
+ * don't wait for each other. A missing key is loaded under the lock of its stripe, so concurrent
+ * lookups of the same key load it only once.
+ */
+public abstract class StripedLRUCache<K, T> implements Cache<K, T> {
+
+  private final Map<K, T>[] stripes;
+
+  private final ReentrantLock[] locks;
+
+  @SuppressWarnings("unchecked")
+  protected StripedLRUCache(int cacheSize, int stripeNum) {
+    stripeNum = Math.max(1, Math.min(stripeNum, cacheSize));
+    int stripeSize = (cacheSize + stripeNum - 1) / stripeNum;
+    stripes = new Map[stripeNum];
+    locks = new ReentrantLock[stripeNum];
+    for (int i = 0; i < stripeNum; i++) {
+      stripes[i] =
+          new LinkedHashMap<K, T>(stripeSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+              return size() > stripeSize;
+            }
+          };
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  @Override
+  public T get(K key) throws IOException {
+    int stripe = stripeOf(key);
+    lock(stripe);
+    try {
+      T value = stripes[stripe].get(key);
+      if (value == null) {
+        value = loadObjectByKey(key);
+        if (value != null) {
+          stripes[stripe].put(key, value);
+        }
+      }
+      return value;
+    } finally {
+      locks[stripe].unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (int i = 0; i < stripes.length; i++) {
+      lock(i);
+      try {
+        stripes[i].clear();
+      } finally {
+        locks[i].unlock();
+      }
+    }
+  }
+
+  protected abstract T loadObjectByKey(K key) throws IOException;
+
+  /**
+   * Called after a thread had to wait for the lock of a stripe held by another thread.
+   *
+   * @param waitTimeInNs how long the thread waited
+   */
+  protected void onContention(long waitTimeInNs) {}
+
+  private void lock(int stripe) {
+    ReentrantLock lock = locks[stripe];
+    if (!lock.tryLock()) {
+      long startTime = System.nanoTime();
+      lock.lock();
+      onContention(System.nanoTime() - startTime);
+    }
+  }
+
+  private int stripeOf(K key) {
+    int hash = key.hashCode();
+    return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % stripes.length;
+  }
+}
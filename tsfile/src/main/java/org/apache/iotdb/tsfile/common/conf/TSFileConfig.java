@@ -111,8 +111,10 @@ public class TSFileConfig implements Serializable {
   private double freqEncodingSNR = 40;
   /** Default block size for FREQ encoding is 1024. */
   private int freqEncodingBlockSize = 1024;
-  /** Data compression method, TsFile supports UNCOMPRESSED, SNAPPY or LZ4. */
+  /** Data compression method, TsFile supports UNCOMPRESSED, SNAPPY, LZ4, GZIP or ZSTD. */
   private CompressionType compressor = CompressionType.SNAPPY;
+  /** Compression level of ZSTD, from 1 (fastest) to 22 (smallest). Default value is 3. */
+  private int zstdCompressionLevel = 3;
   /** Line count threshold for checking page memory occupied size. */
   private int pageCheckSizeThreshold = 100;
   /** Default endian value is BIG_ENDIAN. */
@@ -147,6 +149,54 @@ public class TSFileConfig implements Serializable {
   private String kerberosPrincipal = "principal";
   /** The acceptable error rate of bloom filter */
   private double bloomFilterErrorRate = 0.05;
+  /**
+   * Whether to write a split block bloom filter, which checks a path within one cache line. TsFiles
+   * written with it can not be read by versions that only know the bitset bloom filter.
+   */
+  private boolean enableSplitBlockBloomFilter = false;
+  /**
+   * Whether to write the sum of squares, a HyperLogLog and a quantile sketch of numeric series into
+   * the chunk and series metadata. TsFiles written with them can not be read by versions without
+   * extended statistics.
+   */
+  private boolean enableExtendedStatistics = false;
+  /**
+   * The number of threads TsFileWriter uses to encode and compress chunk groups. Above 1, the
+   * written rows are buffered per chunk group and encoded in parallel at the memory checks and
+   * flushes, so a write that fails, e.g., an out-of-order one, fails the next write or flush
+   * instead, and the data points of a written TSRecord must not be modified afterwards. Chunk
+   * groups are still written to the file one after another in their original order. 1 means
+   * encoding on the writing thread.
+   */
+  private int chunkGroupEncodingThreadCount = 1;
+  /**
+   * The bucket widths, in the unit of timestamps, of the rollup statistics written into the series
+   * metadata. Empty means no rollup. TsFiles written with them can not be read by versions without
+   * rollup statistics.
+   */
+  private long[] rollupResolutions = new long[0];
+  /**
+   * Whether to write a small dictionary or Bloom filter of the values of each page of INT32, INT64
+   * and TEXT series into the chunk metadata, so that equality filters skip pages without reading
+   * them. TsFiles written with them can not be read by versions without page value indexes.
+   */
+  private boolean enablePageValueIndex = false;
+  /**
+   * Max bytes of idle direct buffers kept by {@link org.apache.iotdb.tsfile.utils.DirectBufferPool}
+   * for chunk reads and page compression, 0 to disable the pool and use heap buffers.
+   */
+  private long directBufferPoolSizeInByte = 0;
+  /**
+   * Estimated bytes of chunk metadata a read chunk compaction keeps in memory before spilling it to
+   * a temporary file beside the target tsfile, 0 to always keep it in memory.
+   */
+  private long chunkMetadataSpillThresholdInByte = 0;
+  /**
+   * Number of chunks per entry of the time index written before the chunk metadata list of a series
+   * with more chunks than this, 0 to write no such index. TsFiles written with it can not be read
+   * by versions without chunk time indexes.
+   */
+  private int chunkTimeIndexBlockSize = 0;
   /** The amount of data iterate each time */
   private int batchSize = 1000;
 
@@ -294,6 +344,14 @@ public class TSFileConfig implements Serializable {
     this.compressor = CompressionType.valueOf(compressor);
   }
 
+  public int getZstdCompressionLevel() {
+    return zstdCompressionLevel;
+  }
+
+  public void setZstdCompressionLevel(int zstdCompressionLevel) {
+    this.zstdCompressionLevel = zstdCompressionLevel;
+  }
+
   public int getPageCheckSizeThreshold() {
     return pageCheckSizeThreshold;
   }
@@ -342,6 +400,70 @@ public class TSFileConfig implements Serializable {
     this.bloomFilterErrorRate = bloomFilterErrorRate;
   }
 
+  public boolean isEnableSplitBlockBloomFilter() {
+    return enableSplitBlockBloomFilter;
+  }
+
+  public void setEnableSplitBlockBloomFilter(boolean enableSplitBlockBloomFilter) {
+    this.enableSplitBlockBloomFilter = enableSplitBlockBloomFilter;
+  }
+
+  public boolean isEnableExtendedStatistics() {
+    return enableExtendedStatistics;
+  }
+
+  public void setEnableExtendedStatistics(boolean enableExtendedStatistics) {
+    this.enableExtendedStatistics = enableExtendedStatistics;
+  }
+
+  public int getChunkGroupEncodingThreadCount() {
+    return chunkGroupEncodingThreadCount;
+  }
+
+  public void setChunkGroupEncodingThreadCount(int chunkGroupEncodingThreadCount) {
+    this.chunkGroupEncodingThreadCount = chunkGroupEncodingThreadCount;
+  }
+
+  public long[] getRollupResolutions() {
+    return rollupResolutions;
+  }
+
+  public void setRollupResolutions(long[] rollupResolutions) {
+    this.rollupResolutions = rollupResolutions;
+  }
+
+  public boolean isEnablePageValueIndex() {
+    return enablePageValueIndex;
+  }
+
+  public void setEnablePageValueIndex(boolean enablePageValueIndex) {
+    this.enablePageValueIndex = enablePageValueIndex;
+  }
+
+  public long getDirectBufferPoolSizeInByte() {
+    return directBufferPoolSizeInByte;
+  }
+
+  public void setDirectBufferPoolSizeInByte(long directBufferPoolSizeInByte) {
+    this.directBufferPoolSizeInByte = directBufferPoolSizeInByte;
+  }
+
+  public long getChunkMetadataSpillThresholdInByte() {
+    return chunkMetadataSpillThresholdInByte;
+  }
+
+  public void setChunkMetadataSpillThresholdInByte(long chunkMetadataSpillThresholdInByte) {
+    this.chunkMetadataSpillThresholdInByte = chunkMetadataSpillThresholdInByte;
+  }
+
+  public int getChunkTimeIndexBlockSize() {
+    return chunkTimeIndexBlockSize;
+  }
+
+  public void setChunkTimeIndexBlockSize(int chunkTimeIndexBlockSize) {
+    this.chunkTimeIndexBlockSize = chunkTimeIndexBlockSize;
+  }
+
   public FSType getTSFileStorageFs() {
     return this.TSFileStorageFs;
   }
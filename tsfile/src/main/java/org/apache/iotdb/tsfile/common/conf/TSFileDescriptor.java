@@ -20,6 +20,7 @@
 package org.apache.iotdb.tsfile.common.conf;
 
 import org.apache.iotdb.tsfile.common.constant.TsFileConstant;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.utils.Loader;
 
 import org.slf4j.Logger;
@@ -80,6 +81,16 @@ public class TSFileDescriptor {
     writer.setString(conf::setTimeEncoder, "time_encoder");
     writer.setString(conf::setValueEncoder, "value_encoder");
     writer.setString(conf::setCompressor, "compressor");
+    writer.setInt(conf::setZstdCompressionLevel, "zstd_compression_level");
+    writer.setBoolean(conf::setEnableSplitBlockBloomFilter, "enable_split_block_bloom_filter");
+    writer.setBoolean(conf::setEnableExtendedStatistics, "enable_extended_statistics");
+    writer.setInt(conf::setChunkGroupEncodingThreadCount, "chunk_group_encoding_thread_count");
+    writer.setLongArray(conf::setRollupResolutions, "rollup_resolutions");
+    writer.setBoolean(conf::setEnablePageValueIndex, "enable_page_value_index");
+    writer.setLong(conf::setDirectBufferPoolSizeInByte, "direct_buffer_pool_size_in_byte");
+    writer.setLong(
+        conf::setChunkMetadataSpillThresholdInByte, "chunk_metadata_spill_threshold_in_byte");
+    writer.setInt(conf::setChunkTimeIndexBlockSize, "chunk_time_index_block_size");
     writer.setInt(conf::setBatchSize, "batch_size");
     writer.setInt(conf::setFreqEncodingBlockSize, "freq_block_size");
     writer.setDouble(conf::setFreqEncodingSNR, "freq_snr");
@@ -100,10 +111,22 @@ public class TSFileDescriptor {
       set(setter, propertyKey, Integer::parseInt);
     }
 
+    public void setLong(Consumer<Long> setter, String propertyKey) {
+      set(setter, propertyKey, Long::parseLong);
+    }
+
     public void setDouble(Consumer<Double> setter, String propertyKey) {
       set(setter, propertyKey, Double::parseDouble);
     }
 
+    public void setBoolean(Consumer<Boolean> setter, String propertyKey) {
+      set(setter, propertyKey, Boolean::parseBoolean);
+    }
+
+    public void setLongArray(Consumer<long[]> setter, String propertyKey) {
+      set(setter, propertyKey, RollupStatistics::parseResolutions);
+    }
+
     public void setString(Consumer<String> setter, String propertyKey) {
       set(setter, propertyKey, Function.identity());
     }
@@ -22,6 +22,7 @@ package org.apache.iotdb.tsfile.compress;
 import org.apache.iotdb.tsfile.exception.compress.CompressionTypeNotSupportedException;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 
+import com.github.luben.zstd.Zstd;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4SafeDecompressor;
@@ -54,6 +55,8 @@ public interface IUnCompressor {
         return new LZ4UnCompressor();
       case GZIP:
         return new GZIPUnCompressor();
+      case ZSTD:
+        return new ZstdUnCompressor();
       default:
         throw new CompressionTypeNotSupportedException(name.toString());
     }
@@ -236,7 +239,7 @@ public interface IUnCompressor {
     public int uncompress(byte[] byteArray, int offset, int length, byte[] output, int outOffset)
         throws IOException {
       try {
-        return decompressor.decompress(byteArray, offset, length, output, offset);
+        return decompressor.decompress(byteArray, offset, length, output, outOffset);
       } catch (RuntimeException e) {
         logger.error(UNCOMPRESS_INPUT_ERROR, e);
         throw new IOException(e);
@@ -312,4 +315,116 @@ public interface IUnCompressor {
       return CompressionType.GZIP;
     }
   }
+
+  class ZstdUnCompressor implements IUnCompressor {
+
+    private static final String UNCOMPRESS_INPUT_ERROR =
+        "tsfile-compression ZstdUnCompressor: errors occurs when uncompress input byte, ";
+
+    @Override
+    public int getUncompressedLength(byte[] array, int offset, int length) throws IOException {
+      long size = Zstd.decompressedSize(array, offset, length);
+      if (size <= 0) {
+        throw new IOException(UNCOMPRESS_INPUT_ERROR + "the frame has no content size");
+      }
+      return (int) size;
+    }
+
+    @Override
+    public int getUncompressedLength(ByteBuffer buffer) throws IOException {
+      long size;
+      if (buffer.isDirect()) {
+        size = Zstd.decompressedDirectByteBufferSize(buffer, buffer.position(), buffer.remaining());
+      } else if (buffer.hasArray()) {
+        size =
+            Zstd.decompressedSize(
+                buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      } else {
+        byte[] frame = new byte[buffer.remaining()];
+        buffer.duplicate().get(frame);
+        size = Zstd.decompressedSize(frame);
+      }
+      if (size <= 0) {
+        throw new IOException(UNCOMPRESS_INPUT_ERROR + "the frame has no content size");
+      }
+      return (int) size;
+    }
+
+    @Override
+    public byte[] uncompress(byte[] byteArray) throws IOException {
+      if (byteArray == null) {
+        return new byte[0];
+      }
+      byte[] output = new byte[getUncompressedLength(byteArray, 0, byteArray.length)];
+      uncompress(byteArray, 0, byteArray.length, output, 0);
+      return output;
+    }
+
+    @Override
+    public int uncompress(byte[] byteArray, int offset, int length, byte[] output, int outOffset)
+        throws IOException {
+      return uncompress(byteArray, offset, length, output, outOffset, output.length);
+    }
+
+    @Override
+    public int uncompress(ByteBuffer compressed, ByteBuffer uncompressed) throws IOException {
+      if (compressed == null || !compressed.hasRemaining()) {
+        return 0;
+      }
+      if (compressed.isDirect() && uncompressed.isDirect()) {
+        try {
+          return Zstd.decompress(uncompressed, compressed);
+        } catch (RuntimeException e) {
+          throw new IOException(UNCOMPRESS_INPUT_ERROR + e.getMessage(), e);
+        }
+      }
+      // heap buffers go through the byte array api on their backing arrays
+      int length = compressed.remaining();
+      byte[] input;
+      int inputOffset;
+      if (compressed.hasArray()) {
+        input = compressed.array();
+        inputOffset = compressed.arrayOffset() + compressed.position();
+      } else {
+        input = new byte[length];
+        compressed.duplicate().get(input);
+        inputOffset = 0;
+      }
+      int size;
+      if (uncompressed.hasArray()) {
+        size =
+            uncompress(
+                input,
+                inputOffset,
+                length,
+                uncompressed.array(),
+                uncompressed.arrayOffset() + uncompressed.position(),
+                uncompressed.arrayOffset() + uncompressed.limit());
+        uncompressed.position(uncompressed.position() + size);
+      } else {
+        byte[] output = new byte[uncompressed.remaining()];
+        size = uncompress(input, inputOffset, length, output, 0, output.length);
+        uncompressed.put(output, 0, size);
+      }
+      compressed.position(compressed.limit());
+      return size;
+    }
+
+    private int uncompress(
+        byte[] input, int inputOffset, int length, byte[] output, int outOffset, int outLimit)
+        throws IOException {
+      long size =
+          Zstd.decompressByteArray(
+              output, outOffset, outLimit - outOffset, input, inputOffset, length);
+      if (Zstd.isError(size)) {
+        throw new IOException(UNCOMPRESS_INPUT_ERROR + Zstd.getErrorName(size));
+      }
+      return (int) size;
+    }
+
+    @Override
+    public CompressionType getCodecName() {
+      return CompressionType.ZSTD;
+    }
+  }
 }
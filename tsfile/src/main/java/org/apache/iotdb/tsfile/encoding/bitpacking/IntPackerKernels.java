@@ -0,0 +1,1811 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+/**
+ * Pack and unpack kernels of {@link IntPacker}, one per bit width from 1 to 32. Each of them
+ * handles 8 values with straight-line code, so there is no loop over bits or bytes.
+ *
+ * <p>This file is generated by src/main/codegen/generate_bit_packing_kernels.py, do not edit.
+ */
+final class IntPackerKernels {
+
+  private IntPackerKernels() {}
+
+  static void pack8Values(int width, int[] values, int offset, byte[] buf) {
+    switch (width) {
+      case 1:
+        pack8ValuesOfWidth1(values, offset, buf);
+        return;
+      case 2:
+        pack8ValuesOfWidth2(values, offset, buf);
+        return;
+      case 3:
+        pack8ValuesOfWidth3(values, offset, buf);
+        return;
+      case 4:
+        pack8ValuesOfWidth4(values, offset, buf);
+        return;
+      case 5:
+        pack8ValuesOfWidth5(values, offset, buf);
+        return;
+      case 6:
+        pack8ValuesOfWidth6(values, offset, buf);
+        return;
+      case 7:
+        pack8ValuesOfWidth7(values, offset, buf);
+        return;
+      case 8:
+        pack8ValuesOfWidth8(values, offset, buf);
+        return;
+      case 9:
+        pack8ValuesOfWidth9(values, offset, buf);
+        return;
+      case 10:
+        pack8ValuesOfWidth10(values, offset, buf);
+        return;
+      case 11:
+        pack8ValuesOfWidth11(values, offset, buf);
+        return;
+      case 12:
+        pack8ValuesOfWidth12(values, offset, buf);
+        return;
+      case 13:
+        pack8ValuesOfWidth13(values, offset, buf);
+        return;
+      case 14:
+        pack8ValuesOfWidth14(values, offset, buf);
+        return;
+      case 15:
+        pack8ValuesOfWidth15(values, offset, buf);
+        return;
+      case 16:
+        pack8ValuesOfWidth16(values, offset, buf);
+        return;
+      case 17:
+        pack8ValuesOfWidth17(values, offset, buf);
+        return;
+      case 18:
+        pack8ValuesOfWidth18(values, offset, buf);
+        return;
+      case 19:
+        pack8ValuesOfWidth19(values, offset, buf);
+        return;
+      case 20:
+        pack8ValuesOfWidth20(values, offset, buf);
+        return;
+      case 21:
+        pack8ValuesOfWidth21(values, offset, buf);
+        return;
+      case 22:
+        pack8ValuesOfWidth22(values, offset, buf);
+        return;
+      case 23:
+        pack8ValuesOfWidth23(values, offset, buf);
+        return;
+      case 24:
+        pack8ValuesOfWidth24(values, offset, buf);
+        return;
+      case 25:
+        pack8ValuesOfWidth25(values, offset, buf);
+        return;
+      case 26:
+        pack8ValuesOfWidth26(values, offset, buf);
+        return;
+      case 27:
+        pack8ValuesOfWidth27(values, offset, buf);
+        return;
+      case 28:
+        pack8ValuesOfWidth28(values, offset, buf);
+        return;
+      case 29:
+        pack8ValuesOfWidth29(values, offset, buf);
+        return;
+      case 30:
+        pack8ValuesOfWidth30(values, offset, buf);
+        return;
+      case 31:
+        pack8ValuesOfWidth31(values, offset, buf);
+        return;
+      case 32:
+        pack8ValuesOfWidth32(values, offset, buf);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit width: " + width);
+    }
+  }
+
+  static void unpack8Values(int width, byte[] buf, int offset, int[] values, int valuesOffset) {
+    switch (width) {
+      case 1:
+        unpack8ValuesOfWidth1(buf, offset, values, valuesOffset);
+        return;
+      case 2:
+        unpack8ValuesOfWidth2(buf, offset, values, valuesOffset);
+        return;
+      case 3:
+        unpack8ValuesOfWidth3(buf, offset, values, valuesOffset);
+        return;
+      case 4:
+        unpack8ValuesOfWidth4(buf, offset, values, valuesOffset);
+        return;
+      case 5:
+        unpack8ValuesOfWidth5(buf, offset, values, valuesOffset);
+        return;
+      case 6:
+        unpack8ValuesOfWidth6(buf, offset, values, valuesOffset);
+        return;
+      case 7:
+        unpack8ValuesOfWidth7(buf, offset, values, valuesOffset);
+        return;
+      case 8:
+        unpack8ValuesOfWidth8(buf, offset, values, valuesOffset);
+        return;
+      case 9:
+        unpack8ValuesOfWidth9(buf, offset, values, valuesOffset);
+        return;
+      case 10:
+        unpack8ValuesOfWidth10(buf, offset, values, valuesOffset);
+        return;
+      case 11:
+        unpack8ValuesOfWidth11(buf, offset, values, valuesOffset);
+        return;
+      case 12:
+        unpack8ValuesOfWidth12(buf, offset, values, valuesOffset);
+        return;
+      case 13:
+        unpack8ValuesOfWidth13(buf, offset, values, valuesOffset);
+        return;
+      case 14:
+        unpack8ValuesOfWidth14(buf, offset, values, valuesOffset);
+        return;
+      case 15:
+        unpack8ValuesOfWidth15(buf, offset, values, valuesOffset);
+        return;
+      case 16:
+        unpack8ValuesOfWidth16(buf, offset, values, valuesOffset);
+        return;
+      case 17:
+        unpack8ValuesOfWidth17(buf, offset, values, valuesOffset);
+        return;
+      case 18:
+        unpack8ValuesOfWidth18(buf, offset, values, valuesOffset);
+        return;
+      case 19:
+        unpack8ValuesOfWidth19(buf, offset, values, valuesOffset);
+        return;
+      case 20:
+        unpack8ValuesOfWidth20(buf, offset, values, valuesOffset);
+        return;
+      case 21:
+        unpack8ValuesOfWidth21(buf, offset, values, valuesOffset);
+        return;
+      case 22:
+        unpack8ValuesOfWidth22(buf, offset, values, valuesOffset);
+        return;
+      case 23:
+        unpack8ValuesOfWidth23(buf, offset, values, valuesOffset);
+        return;
+      case 24:
+        unpack8ValuesOfWidth24(buf, offset, values, valuesOffset);
+        return;
+      case 25:
+        unpack8ValuesOfWidth25(buf, offset, values, valuesOffset);
+        return;
+      case 26:
+        unpack8ValuesOfWidth26(buf, offset, values, valuesOffset);
+        return;
+      case 27:
+        unpack8ValuesOfWidth27(buf, offset, values, valuesOffset);
+        return;
+      case 28:
+        unpack8ValuesOfWidth28(buf, offset, values, valuesOffset);
+        return;
+      case 29:
+        unpack8ValuesOfWidth29(buf, offset, values, valuesOffset);
+        return;
+      case 30:
+        unpack8ValuesOfWidth30(buf, offset, values, valuesOffset);
+        return;
+      case 31:
+        unpack8ValuesOfWidth31(buf, offset, values, valuesOffset);
+        return;
+      case 32:
+        unpack8ValuesOfWidth32(buf, offset, values, valuesOffset);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit width: " + width);
+    }
+  }
+
+  private static void pack8ValuesOfWidth1(int[] values, int offset, byte[] buf) {
+    buf[0] =
+        (byte)
+            (((values[offset] & 0x1) << 7)
+                | ((values[offset + 1] & 0x1) << 6)
+                | ((values[offset + 2] & 0x1) << 5)
+                | ((values[offset + 3] & 0x1) << 4)
+                | ((values[offset + 4] & 0x1) << 3)
+                | ((values[offset + 5] & 0x1) << 2)
+                | ((values[offset + 6] & 0x1) << 1)
+                | (values[offset + 7] & 0x1));
+  }
+
+  private static void unpack8ValuesOfWidth1(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 7);
+    values[valuesOffset + 1] = ((buf[offset] & 0x7F) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset] & 0x3F) >>> 5);
+    values[valuesOffset + 3] = ((buf[offset] & 0x1F) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset] & 0xF) >>> 3);
+    values[valuesOffset + 5] = ((buf[offset] & 0x7) >>> 2);
+    values[valuesOffset + 6] = ((buf[offset] & 0x3) >>> 1);
+    values[valuesOffset + 7] = (buf[offset] & 0x1);
+  }
+
+  private static void pack8ValuesOfWidth2(int[] values, int offset, byte[] buf) {
+    buf[0] =
+        (byte)
+            (((values[offset] & 0x3) << 6)
+                | ((values[offset + 1] & 0x3) << 4)
+                | ((values[offset + 2] & 0x3) << 2)
+                | (values[offset + 3] & 0x3));
+    buf[1] =
+        (byte)
+            (((values[offset + 4] & 0x3) << 6)
+                | ((values[offset + 5] & 0x3) << 4)
+                | ((values[offset + 6] & 0x3) << 2)
+                | (values[offset + 7] & 0x3));
+  }
+
+  private static void unpack8ValuesOfWidth2(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 6);
+    values[valuesOffset + 1] = ((buf[offset] & 0x3F) >>> 4);
+    values[valuesOffset + 2] = ((buf[offset] & 0xF) >>> 2);
+    values[valuesOffset + 3] = (buf[offset] & 0x3);
+    values[valuesOffset + 4] = ((buf[offset + 1] & 0xFF) >>> 6);
+    values[valuesOffset + 5] = ((buf[offset + 1] & 0x3F) >>> 4);
+    values[valuesOffset + 6] = ((buf[offset + 1] & 0xF) >>> 2);
+    values[valuesOffset + 7] = (buf[offset + 1] & 0x3);
+  }
+
+  private static void pack8ValuesOfWidth3(int[] values, int offset, byte[] buf) {
+    buf[0] =
+        (byte)
+            (((values[offset] & 0x7) << 5)
+                | ((values[offset + 1] & 0x7) << 2)
+                | ((values[offset + 2] >>> 1) & 0x3));
+    buf[1] =
+        (byte)
+            (((values[offset + 2] & 0x1) << 7)
+                | ((values[offset + 3] & 0x7) << 4)
+                | ((values[offset + 4] & 0x7) << 1)
+                | ((values[offset + 5] >>> 2) & 0x1));
+    buf[2] =
+        (byte)
+            (((values[offset + 5] & 0x3) << 6)
+                | ((values[offset + 6] & 0x7) << 3)
+                | (values[offset + 7] & 0x7));
+  }
+
+  private static void unpack8ValuesOfWidth3(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 5);
+    values[valuesOffset + 1] = ((buf[offset] & 0x1F) >>> 2);
+    values[valuesOffset + 2] = ((buf[offset] & 0x3) << 1) | ((buf[offset + 1] & 0xFF) >>> 7);
+    values[valuesOffset + 3] = ((buf[offset + 1] & 0x7F) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 1] & 0xF) >>> 1);
+    values[valuesOffset + 5] = ((buf[offset + 1] & 0x1) << 2) | ((buf[offset + 2] & 0xFF) >>> 6);
+    values[valuesOffset + 6] = ((buf[offset + 2] & 0x3F) >>> 3);
+    values[valuesOffset + 7] = (buf[offset + 2] & 0x7);
+  }
+
+  private static void pack8ValuesOfWidth4(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0xF) << 4) | (values[offset + 1] & 0xF));
+    buf[1] = (byte) (((values[offset + 2] & 0xF) << 4) | (values[offset + 3] & 0xF));
+    buf[2] = (byte) (((values[offset + 4] & 0xF) << 4) | (values[offset + 5] & 0xF));
+    buf[3] = (byte) (((values[offset + 6] & 0xF) << 4) | (values[offset + 7] & 0xF));
+  }
+
+  private static void unpack8ValuesOfWidth4(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 4);
+    values[valuesOffset + 1] = (buf[offset] & 0xF);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0xFF) >>> 4);
+    values[valuesOffset + 3] = (buf[offset + 1] & 0xF);
+    values[valuesOffset + 4] = ((buf[offset + 2] & 0xFF) >>> 4);
+    values[valuesOffset + 5] = (buf[offset + 2] & 0xF);
+    values[valuesOffset + 6] = ((buf[offset + 3] & 0xFF) >>> 4);
+    values[valuesOffset + 7] = (buf[offset + 3] & 0xF);
+  }
+
+  private static void pack8ValuesOfWidth5(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 2) & 0x7));
+    buf[1] =
+        (byte)
+            (((values[offset + 1] & 0x3) << 6)
+                | ((values[offset + 2] & 0x1F) << 1)
+                | ((values[offset + 3] >>> 4) & 0x1));
+    buf[2] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 1) & 0xF));
+    buf[3] =
+        (byte)
+            (((values[offset + 4] & 0x1) << 7)
+                | ((values[offset + 5] & 0x1F) << 2)
+                | ((values[offset + 6] >>> 3) & 0x3));
+    buf[4] = (byte) (((values[offset + 6] & 0x7) << 5) | (values[offset + 7] & 0x1F));
+  }
+
+  private static void unpack8ValuesOfWidth5(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 3);
+    values[valuesOffset + 1] = ((buf[offset] & 0x7) << 2) | ((buf[offset + 1] & 0xFF) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0x3F) >>> 1);
+    values[valuesOffset + 3] = ((buf[offset + 1] & 0x1) << 4) | ((buf[offset + 2] & 0xFF) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 2] & 0xF) << 1) | ((buf[offset + 3] & 0xFF) >>> 7);
+    values[valuesOffset + 5] = ((buf[offset + 3] & 0x7F) >>> 2);
+    values[valuesOffset + 6] = ((buf[offset + 3] & 0x3) << 3) | ((buf[offset + 4] & 0xFF) >>> 5);
+    values[valuesOffset + 7] = (buf[offset + 4] & 0x1F);
+  }
+
+  private static void pack8ValuesOfWidth6(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 4) & 0x3));
+    buf[1] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 2) & 0xF));
+    buf[2] = (byte) (((values[offset + 2] & 0x3) << 6) | (values[offset + 3] & 0x3F));
+    buf[3] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 4) & 0x3));
+    buf[4] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 2) & 0xF));
+    buf[5] = (byte) (((values[offset + 6] & 0x3) << 6) | (values[offset + 7] & 0x3F));
+  }
+
+  private static void unpack8ValuesOfWidth6(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 2);
+    values[valuesOffset + 1] = ((buf[offset] & 0x3) << 4) | ((buf[offset + 1] & 0xFF) >>> 4);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0xF) << 2) | ((buf[offset + 2] & 0xFF) >>> 6);
+    values[valuesOffset + 3] = (buf[offset + 2] & 0x3F);
+    values[valuesOffset + 4] = ((buf[offset + 3] & 0xFF) >>> 2);
+    values[valuesOffset + 5] = ((buf[offset + 3] & 0x3) << 4) | ((buf[offset + 4] & 0xFF) >>> 4);
+    values[valuesOffset + 6] = ((buf[offset + 4] & 0xF) << 2) | ((buf[offset + 5] & 0xFF) >>> 6);
+    values[valuesOffset + 7] = (buf[offset + 5] & 0x3F);
+  }
+
+  private static void pack8ValuesOfWidth7(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 6) & 0x1));
+    buf[1] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 5) & 0x3));
+    buf[2] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 4) & 0x7));
+    buf[3] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 3) & 0xF));
+    buf[4] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 2) & 0x1F));
+    buf[5] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 1) & 0x3F));
+    buf[6] = (byte) (((values[offset + 6] & 0x1) << 7) | (values[offset + 7] & 0x7F));
+  }
+
+  private static void unpack8ValuesOfWidth7(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) >>> 1);
+    values[valuesOffset + 1] = ((buf[offset] & 0x1) << 6) | ((buf[offset + 1] & 0xFF) >>> 2);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0x3) << 5) | ((buf[offset + 2] & 0xFF) >>> 3);
+    values[valuesOffset + 3] = ((buf[offset + 2] & 0x7) << 4) | ((buf[offset + 3] & 0xFF) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 3] & 0xF) << 3) | ((buf[offset + 4] & 0xFF) >>> 5);
+    values[valuesOffset + 5] = ((buf[offset + 4] & 0x1F) << 2) | ((buf[offset + 5] & 0xFF) >>> 6);
+    values[valuesOffset + 6] = ((buf[offset + 5] & 0x3F) << 1) | ((buf[offset + 6] & 0xFF) >>> 7);
+    values[valuesOffset + 7] = (buf[offset + 6] & 0x7F);
+  }
+
+  private static void pack8ValuesOfWidth8(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) ((values[offset] & 0xFF));
+    buf[1] = (byte) ((values[offset + 1] & 0xFF));
+    buf[2] = (byte) ((values[offset + 2] & 0xFF));
+    buf[3] = (byte) ((values[offset + 3] & 0xFF));
+    buf[4] = (byte) ((values[offset + 4] & 0xFF));
+    buf[5] = (byte) ((values[offset + 5] & 0xFF));
+    buf[6] = (byte) ((values[offset + 6] & 0xFF));
+    buf[7] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth8(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = (buf[offset] & 0xFF);
+    values[valuesOffset + 1] = (buf[offset + 1] & 0xFF);
+    values[valuesOffset + 2] = (buf[offset + 2] & 0xFF);
+    values[valuesOffset + 3] = (buf[offset + 3] & 0xFF);
+    values[valuesOffset + 4] = (buf[offset + 4] & 0xFF);
+    values[valuesOffset + 5] = (buf[offset + 5] & 0xFF);
+    values[valuesOffset + 6] = (buf[offset + 6] & 0xFF);
+    values[valuesOffset + 7] = (buf[offset + 7] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth9(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 2) & 0x7F));
+    buf[2] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 3) & 0x3F));
+    buf[3] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 4) & 0x1F));
+    buf[4] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 5) & 0xF));
+    buf[5] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 6) & 0x7));
+    buf[6] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 7) & 0x3));
+    buf[7] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 8) & 0x1));
+    buf[8] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth9(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 1) | ((buf[offset + 1] & 0xFF) >>> 7);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0x7F) << 2) | ((buf[offset + 2] & 0xFF) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset + 2] & 0x3F) << 3) | ((buf[offset + 3] & 0xFF) >>> 5);
+    values[valuesOffset + 3] = ((buf[offset + 3] & 0x1F) << 4) | ((buf[offset + 4] & 0xFF) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 4] & 0xF) << 5) | ((buf[offset + 5] & 0xFF) >>> 3);
+    values[valuesOffset + 5] = ((buf[offset + 5] & 0x7) << 6) | ((buf[offset + 6] & 0xFF) >>> 2);
+    values[valuesOffset + 6] = ((buf[offset + 6] & 0x3) << 7) | ((buf[offset + 7] & 0xFF) >>> 1);
+    values[valuesOffset + 7] = ((buf[offset + 7] & 0x1) << 8) | (buf[offset + 8] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth10(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 4) & 0x3F));
+    buf[2] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 6) & 0xF));
+    buf[3] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 8) & 0x3));
+    buf[4] = (byte) ((values[offset + 3] & 0xFF));
+    buf[5] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[6] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 4) & 0x3F));
+    buf[7] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 6) & 0xF));
+    buf[8] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 8) & 0x3));
+    buf[9] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth10(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 2) | ((buf[offset + 1] & 0xFF) >>> 6);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0x3F) << 4) | ((buf[offset + 2] & 0xFF) >>> 4);
+    values[valuesOffset + 2] = ((buf[offset + 2] & 0xF) << 6) | ((buf[offset + 3] & 0xFF) >>> 2);
+    values[valuesOffset + 3] = ((buf[offset + 3] & 0x3) << 8) | (buf[offset + 4] & 0xFF);
+    values[valuesOffset + 4] = ((buf[offset + 5] & 0xFF) << 2) | ((buf[offset + 6] & 0xFF) >>> 6);
+    values[valuesOffset + 5] = ((buf[offset + 6] & 0x3F) << 4) | ((buf[offset + 7] & 0xFF) >>> 4);
+    values[valuesOffset + 6] = ((buf[offset + 7] & 0xF) << 6) | ((buf[offset + 8] & 0xFF) >>> 2);
+    values[valuesOffset + 7] = ((buf[offset + 8] & 0x3) << 8) | (buf[offset + 9] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth11(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 6) & 0x1F));
+    buf[2] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 9) & 0x3));
+    buf[3] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[4] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 4) & 0x7F));
+    buf[5] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 7) & 0xF));
+    buf[6] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 10) & 0x1));
+    buf[7] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[8] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 5) & 0x3F));
+    buf[9] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 8) & 0x7));
+    buf[10] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth11(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 3) | ((buf[offset + 1] & 0xFF) >>> 5);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0x1F) << 6) | ((buf[offset + 2] & 0xFF) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 2] & 0x3) << 9)
+            | ((buf[offset + 3] & 0xFF) << 1)
+            | ((buf[offset + 4] & 0xFF) >>> 7);
+    values[valuesOffset + 3] = ((buf[offset + 4] & 0x7F) << 4) | ((buf[offset + 5] & 0xFF) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 5] & 0xF) << 7) | ((buf[offset + 6] & 0xFF) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 6] & 0x1) << 10)
+            | ((buf[offset + 7] & 0xFF) << 2)
+            | ((buf[offset + 8] & 0xFF) >>> 6);
+    values[valuesOffset + 6] = ((buf[offset + 8] & 0x3F) << 5) | ((buf[offset + 9] & 0xFF) >>> 3);
+    values[valuesOffset + 7] = ((buf[offset + 9] & 0x7) << 8) | (buf[offset + 10] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth12(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 8) & 0xF));
+    buf[2] = (byte) ((values[offset + 1] & 0xFF));
+    buf[3] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[4] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 8) & 0xF));
+    buf[5] = (byte) ((values[offset + 3] & 0xFF));
+    buf[6] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 8) & 0xF));
+    buf[8] = (byte) ((values[offset + 5] & 0xFF));
+    buf[9] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 8) & 0xF));
+    buf[11] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth12(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 4) | ((buf[offset + 1] & 0xFF) >>> 4);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0xF) << 8) | (buf[offset + 2] & 0xFF);
+    values[valuesOffset + 2] = ((buf[offset + 3] & 0xFF) << 4) | ((buf[offset + 4] & 0xFF) >>> 4);
+    values[valuesOffset + 3] = ((buf[offset + 4] & 0xF) << 8) | (buf[offset + 5] & 0xFF);
+    values[valuesOffset + 4] = ((buf[offset + 6] & 0xFF) << 4) | ((buf[offset + 7] & 0xFF) >>> 4);
+    values[valuesOffset + 5] = ((buf[offset + 7] & 0xF) << 8) | (buf[offset + 8] & 0xFF);
+    values[valuesOffset + 6] = ((buf[offset + 9] & 0xFF) << 4) | ((buf[offset + 10] & 0xFF) >>> 4);
+    values[valuesOffset + 7] = ((buf[offset + 10] & 0xF) << 8) | (buf[offset + 11] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth13(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 10) & 0x7));
+    buf[2] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 7) & 0x3F));
+    buf[4] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 12) & 0x1));
+    buf[5] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[6] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 9) & 0xF));
+    buf[7] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[8] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 6) & 0x7F));
+    buf[9] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 11) & 0x3));
+    buf[10] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[11] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 8) & 0x1F));
+    buf[12] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth13(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 5) | ((buf[offset + 1] & 0xFF) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 1] & 0x7) << 10)
+            | ((buf[offset + 2] & 0xFF) << 2)
+            | ((buf[offset + 3] & 0xFF) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset + 3] & 0x3F) << 7) | ((buf[offset + 4] & 0xFF) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 4] & 0x1) << 12)
+            | ((buf[offset + 5] & 0xFF) << 4)
+            | ((buf[offset + 6] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 6] & 0xF) << 9)
+            | ((buf[offset + 7] & 0xFF) << 1)
+            | ((buf[offset + 8] & 0xFF) >>> 7);
+    values[valuesOffset + 5] = ((buf[offset + 8] & 0x7F) << 6) | ((buf[offset + 9] & 0xFF) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 9] & 0x3) << 11)
+            | ((buf[offset + 10] & 0xFF) << 3)
+            | ((buf[offset + 11] & 0xFF) >>> 5);
+    values[valuesOffset + 7] = ((buf[offset + 11] & 0x1F) << 8) | (buf[offset + 12] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth14(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 12) & 0x3));
+    buf[2] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 10) & 0xF));
+    buf[4] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[5] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 8) & 0x3F));
+    buf[6] = (byte) ((values[offset + 3] & 0xFF));
+    buf[7] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[8] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 12) & 0x3));
+    buf[9] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 10) & 0xF));
+    buf[11] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[12] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 8) & 0x3F));
+    buf[13] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth14(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 6) | ((buf[offset + 1] & 0xFF) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 1] & 0x3) << 12)
+            | ((buf[offset + 2] & 0xFF) << 4)
+            | ((buf[offset + 3] & 0xFF) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 3] & 0xF) << 10)
+            | ((buf[offset + 4] & 0xFF) << 2)
+            | ((buf[offset + 5] & 0xFF) >>> 6);
+    values[valuesOffset + 3] = ((buf[offset + 5] & 0x3F) << 8) | (buf[offset + 6] & 0xFF);
+    values[valuesOffset + 4] = ((buf[offset + 7] & 0xFF) << 6) | ((buf[offset + 8] & 0xFF) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 8] & 0x3) << 12)
+            | ((buf[offset + 9] & 0xFF) << 4)
+            | ((buf[offset + 10] & 0xFF) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 10] & 0xF) << 10)
+            | ((buf[offset + 11] & 0xFF) << 2)
+            | ((buf[offset + 12] & 0xFF) >>> 6);
+    values[valuesOffset + 7] = ((buf[offset + 12] & 0x3F) << 8) | (buf[offset + 13] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth15(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 14) & 0x1));
+    buf[2] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 13) & 0x3));
+    buf[4] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[5] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 12) & 0x7));
+    buf[6] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 11) & 0xF));
+    buf[8] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[9] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 10) & 0x1F));
+    buf[10] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 9) & 0x3F));
+    buf[12] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[13] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 8) & 0x7F));
+    buf[14] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth15(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 7) | ((buf[offset + 1] & 0xFF) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 1] & 0x1) << 14)
+            | ((buf[offset + 2] & 0xFF) << 6)
+            | ((buf[offset + 3] & 0xFF) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 3] & 0x3) << 13)
+            | ((buf[offset + 4] & 0xFF) << 5)
+            | ((buf[offset + 5] & 0xFF) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 5] & 0x7) << 12)
+            | ((buf[offset + 6] & 0xFF) << 4)
+            | ((buf[offset + 7] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 7] & 0xF) << 11)
+            | ((buf[offset + 8] & 0xFF) << 3)
+            | ((buf[offset + 9] & 0xFF) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 9] & 0x1F) << 10)
+            | ((buf[offset + 10] & 0xFF) << 2)
+            | ((buf[offset + 11] & 0xFF) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 11] & 0x3F) << 9)
+            | ((buf[offset + 12] & 0xFF) << 1)
+            | ((buf[offset + 13] & 0xFF) >>> 7);
+    values[valuesOffset + 7] = ((buf[offset + 13] & 0x7F) << 8) | (buf[offset + 14] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth16(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[1] = (byte) ((values[offset] & 0xFF));
+    buf[2] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[3] = (byte) ((values[offset + 1] & 0xFF));
+    buf[4] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[5] = (byte) ((values[offset + 2] & 0xFF));
+    buf[6] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[7] = (byte) ((values[offset + 3] & 0xFF));
+    buf[8] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[9] = (byte) ((values[offset + 4] & 0xFF));
+    buf[10] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 5] & 0xFF));
+    buf[12] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[13] = (byte) ((values[offset + 6] & 0xFF));
+    buf[14] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[15] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth16(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFF) << 8) | (buf[offset + 1] & 0xFF);
+    values[valuesOffset + 1] = ((buf[offset + 2] & 0xFF) << 8) | (buf[offset + 3] & 0xFF);
+    values[valuesOffset + 2] = ((buf[offset + 4] & 0xFF) << 8) | (buf[offset + 5] & 0xFF);
+    values[valuesOffset + 3] = ((buf[offset + 6] & 0xFF) << 8) | (buf[offset + 7] & 0xFF);
+    values[valuesOffset + 4] = ((buf[offset + 8] & 0xFF) << 8) | (buf[offset + 9] & 0xFF);
+    values[valuesOffset + 5] = ((buf[offset + 10] & 0xFF) << 8) | (buf[offset + 11] & 0xFF);
+    values[valuesOffset + 6] = ((buf[offset + 12] & 0xFF) << 8) | (buf[offset + 13] & 0xFF);
+    values[valuesOffset + 7] = ((buf[offset + 14] & 0xFF) << 8) | (buf[offset + 15] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth17(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 10) & 0x7F));
+    buf[3] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 11) & 0x3F));
+    buf[5] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 12) & 0x1F));
+    buf[7] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[8] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 13) & 0xF));
+    buf[9] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[10] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 14) & 0x7));
+    buf[11] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[12] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 15) & 0x3));
+    buf[13] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[14] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 16) & 0x1));
+    buf[15] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[16] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth17(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 9)
+            | ((buf[offset + 1] & 0xFF) << 1)
+            | ((buf[offset + 2] & 0xFF) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x7F) << 10)
+            | ((buf[offset + 3] & 0xFF) << 2)
+            | ((buf[offset + 4] & 0xFF) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 4] & 0x3F) << 11)
+            | ((buf[offset + 5] & 0xFF) << 3)
+            | ((buf[offset + 6] & 0xFF) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 6] & 0x1F) << 12)
+            | ((buf[offset + 7] & 0xFF) << 4)
+            | ((buf[offset + 8] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 8] & 0xF) << 13)
+            | ((buf[offset + 9] & 0xFF) << 5)
+            | ((buf[offset + 10] & 0xFF) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 10] & 0x7) << 14)
+            | ((buf[offset + 11] & 0xFF) << 6)
+            | ((buf[offset + 12] & 0xFF) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 12] & 0x3) << 15)
+            | ((buf[offset + 13] & 0xFF) << 7)
+            | ((buf[offset + 14] & 0xFF) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 14] & 0x1) << 16)
+            | ((buf[offset + 15] & 0xFF) << 8)
+            | (buf[offset + 16] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth18(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 12) & 0x3F));
+    buf[3] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 14) & 0xF));
+    buf[5] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 16) & 0x3));
+    buf[7] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[8] = (byte) ((values[offset + 3] & 0xFF));
+    buf[9] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[10] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 12) & 0x3F));
+    buf[12] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[13] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 14) & 0xF));
+    buf[14] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[15] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 16) & 0x3));
+    buf[16] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[17] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth18(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 10)
+            | ((buf[offset + 1] & 0xFF) << 2)
+            | ((buf[offset + 2] & 0xFF) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x3F) << 12)
+            | ((buf[offset + 3] & 0xFF) << 4)
+            | ((buf[offset + 4] & 0xFF) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 4] & 0xF) << 14)
+            | ((buf[offset + 5] & 0xFF) << 6)
+            | ((buf[offset + 6] & 0xFF) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 6] & 0x3) << 16)
+            | ((buf[offset + 7] & 0xFF) << 8)
+            | (buf[offset + 8] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 9] & 0xFF) << 10)
+            | ((buf[offset + 10] & 0xFF) << 2)
+            | ((buf[offset + 11] & 0xFF) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 11] & 0x3F) << 12)
+            | ((buf[offset + 12] & 0xFF) << 4)
+            | ((buf[offset + 13] & 0xFF) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 13] & 0xF) << 14)
+            | ((buf[offset + 14] & 0xFF) << 6)
+            | ((buf[offset + 15] & 0xFF) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 15] & 0x3) << 16)
+            | ((buf[offset + 16] & 0xFF) << 8)
+            | (buf[offset + 17] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth19(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 14) & 0x1F));
+    buf[3] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 17) & 0x3));
+    buf[5] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 12) & 0x7F));
+    buf[8] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[9] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 15) & 0xF));
+    buf[10] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 18) & 0x1));
+    buf[12] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[13] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[14] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 13) & 0x3F));
+    buf[15] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[16] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 16) & 0x7));
+    buf[17] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[18] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth19(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 11)
+            | ((buf[offset + 1] & 0xFF) << 3)
+            | ((buf[offset + 2] & 0xFF) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x1F) << 14)
+            | ((buf[offset + 3] & 0xFF) << 6)
+            | ((buf[offset + 4] & 0xFF) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 4] & 0x3) << 17)
+            | ((buf[offset + 5] & 0xFF) << 9)
+            | ((buf[offset + 6] & 0xFF) << 1)
+            | ((buf[offset + 7] & 0xFF) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 7] & 0x7F) << 12)
+            | ((buf[offset + 8] & 0xFF) << 4)
+            | ((buf[offset + 9] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 9] & 0xF) << 15)
+            | ((buf[offset + 10] & 0xFF) << 7)
+            | ((buf[offset + 11] & 0xFF) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 11] & 0x1) << 18)
+            | ((buf[offset + 12] & 0xFF) << 10)
+            | ((buf[offset + 13] & 0xFF) << 2)
+            | ((buf[offset + 14] & 0xFF) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 14] & 0x3F) << 13)
+            | ((buf[offset + 15] & 0xFF) << 5)
+            | ((buf[offset + 16] & 0xFF) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 16] & 0x7) << 16)
+            | ((buf[offset + 17] & 0xFF) << 8)
+            | (buf[offset + 18] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth20(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 16) & 0xF));
+    buf[3] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[4] = (byte) ((values[offset + 1] & 0xFF));
+    buf[5] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 16) & 0xF));
+    buf[8] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[9] = (byte) ((values[offset + 3] & 0xFF));
+    buf[10] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 16) & 0xF));
+    buf[13] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 5] & 0xFF));
+    buf[15] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[16] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[17] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 16) & 0xF));
+    buf[18] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[19] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth20(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 12)
+            | ((buf[offset + 1] & 0xFF) << 4)
+            | ((buf[offset + 2] & 0xFF) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0xF) << 16)
+            | ((buf[offset + 3] & 0xFF) << 8)
+            | (buf[offset + 4] & 0xFF);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0xFF) << 12)
+            | ((buf[offset + 6] & 0xFF) << 4)
+            | ((buf[offset + 7] & 0xFF) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 7] & 0xF) << 16)
+            | ((buf[offset + 8] & 0xFF) << 8)
+            | (buf[offset + 9] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 10] & 0xFF) << 12)
+            | ((buf[offset + 11] & 0xFF) << 4)
+            | ((buf[offset + 12] & 0xFF) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 12] & 0xF) << 16)
+            | ((buf[offset + 13] & 0xFF) << 8)
+            | (buf[offset + 14] & 0xFF);
+    values[valuesOffset + 6] =
+        ((buf[offset + 15] & 0xFF) << 12)
+            | ((buf[offset + 16] & 0xFF) << 4)
+            | ((buf[offset + 17] & 0xFF) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 17] & 0xF) << 16)
+            | ((buf[offset + 18] & 0xFF) << 8)
+            | (buf[offset + 19] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth21(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 18) & 0x7));
+    buf[3] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 15) & 0x3F));
+    buf[6] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 20) & 0x1));
+    buf[8] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[9] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 17) & 0xF));
+    buf[11] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 14) & 0x7F));
+    buf[14] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[15] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 19) & 0x3));
+    buf[16] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[17] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[18] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 16) & 0x1F));
+    buf[19] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth21(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 13)
+            | ((buf[offset + 1] & 0xFF) << 5)
+            | ((buf[offset + 2] & 0xFF) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x7) << 18)
+            | ((buf[offset + 3] & 0xFF) << 10)
+            | ((buf[offset + 4] & 0xFF) << 2)
+            | ((buf[offset + 5] & 0xFF) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0x3F) << 15)
+            | ((buf[offset + 6] & 0xFF) << 7)
+            | ((buf[offset + 7] & 0xFF) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 7] & 0x1) << 20)
+            | ((buf[offset + 8] & 0xFF) << 12)
+            | ((buf[offset + 9] & 0xFF) << 4)
+            | ((buf[offset + 10] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 10] & 0xF) << 17)
+            | ((buf[offset + 11] & 0xFF) << 9)
+            | ((buf[offset + 12] & 0xFF) << 1)
+            | ((buf[offset + 13] & 0xFF) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 13] & 0x7F) << 14)
+            | ((buf[offset + 14] & 0xFF) << 6)
+            | ((buf[offset + 15] & 0xFF) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 15] & 0x3) << 19)
+            | ((buf[offset + 16] & 0xFF) << 11)
+            | ((buf[offset + 17] & 0xFF) << 3)
+            | ((buf[offset + 18] & 0xFF) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 18] & 0x1F) << 16)
+            | ((buf[offset + 19] & 0xFF) << 8)
+            | (buf[offset + 20] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth22(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 20) & 0x3));
+    buf[3] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 18) & 0xF));
+    buf[6] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 16) & 0x3F));
+    buf[9] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[10] = (byte) ((values[offset + 3] & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 20) & 0x3));
+    buf[14] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[15] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[16] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 18) & 0xF));
+    buf[17] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[18] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[19] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 16) & 0x3F));
+    buf[20] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[21] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth22(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 14)
+            | ((buf[offset + 1] & 0xFF) << 6)
+            | ((buf[offset + 2] & 0xFF) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x3) << 20)
+            | ((buf[offset + 3] & 0xFF) << 12)
+            | ((buf[offset + 4] & 0xFF) << 4)
+            | ((buf[offset + 5] & 0xFF) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0xF) << 18)
+            | ((buf[offset + 6] & 0xFF) << 10)
+            | ((buf[offset + 7] & 0xFF) << 2)
+            | ((buf[offset + 8] & 0xFF) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 8] & 0x3F) << 16)
+            | ((buf[offset + 9] & 0xFF) << 8)
+            | (buf[offset + 10] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 11] & 0xFF) << 14)
+            | ((buf[offset + 12] & 0xFF) << 6)
+            | ((buf[offset + 13] & 0xFF) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 13] & 0x3) << 20)
+            | ((buf[offset + 14] & 0xFF) << 12)
+            | ((buf[offset + 15] & 0xFF) << 4)
+            | ((buf[offset + 16] & 0xFF) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 16] & 0xF) << 18)
+            | ((buf[offset + 17] & 0xFF) << 10)
+            | ((buf[offset + 18] & 0xFF) << 2)
+            | ((buf[offset + 19] & 0xFF) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 19] & 0x3F) << 16)
+            | ((buf[offset + 20] & 0xFF) << 8)
+            | (buf[offset + 21] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth23(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 22) & 0x1));
+    buf[3] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 21) & 0x3));
+    buf[6] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 20) & 0x7));
+    buf[9] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[10] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[11] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 19) & 0xF));
+    buf[12] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 18) & 0x1F));
+    buf[15] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[16] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[17] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 17) & 0x3F));
+    buf[18] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[19] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[20] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 16) & 0x7F));
+    buf[21] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[22] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth23(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 15)
+            | ((buf[offset + 1] & 0xFF) << 7)
+            | ((buf[offset + 2] & 0xFF) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x1) << 22)
+            | ((buf[offset + 3] & 0xFF) << 14)
+            | ((buf[offset + 4] & 0xFF) << 6)
+            | ((buf[offset + 5] & 0xFF) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0x3) << 21)
+            | ((buf[offset + 6] & 0xFF) << 13)
+            | ((buf[offset + 7] & 0xFF) << 5)
+            | ((buf[offset + 8] & 0xFF) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 8] & 0x7) << 20)
+            | ((buf[offset + 9] & 0xFF) << 12)
+            | ((buf[offset + 10] & 0xFF) << 4)
+            | ((buf[offset + 11] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 11] & 0xF) << 19)
+            | ((buf[offset + 12] & 0xFF) << 11)
+            | ((buf[offset + 13] & 0xFF) << 3)
+            | ((buf[offset + 14] & 0xFF) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 14] & 0x1F) << 18)
+            | ((buf[offset + 15] & 0xFF) << 10)
+            | ((buf[offset + 16] & 0xFF) << 2)
+            | ((buf[offset + 17] & 0xFF) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 17] & 0x3F) << 17)
+            | ((buf[offset + 18] & 0xFF) << 9)
+            | ((buf[offset + 19] & 0xFF) << 1)
+            | ((buf[offset + 20] & 0xFF) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 20] & 0x7F) << 16)
+            | ((buf[offset + 21] & 0xFF) << 8)
+            | (buf[offset + 22] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth24(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[2] = (byte) ((values[offset] & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[5] = (byte) ((values[offset + 1] & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[8] = (byte) ((values[offset + 2] & 0xFF));
+    buf[9] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[10] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 3] & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 4] & 0xFF));
+    buf[15] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[16] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[17] = (byte) ((values[offset + 5] & 0xFF));
+    buf[18] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[19] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 6] & 0xFF));
+    buf[21] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[22] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[23] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth24(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 16) | ((buf[offset + 1] & 0xFF) << 8) | (buf[offset + 2] & 0xFF);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0xFF) << 16)
+            | ((buf[offset + 4] & 0xFF) << 8)
+            | (buf[offset + 5] & 0xFF);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0xFF) << 16)
+            | ((buf[offset + 7] & 0xFF) << 8)
+            | (buf[offset + 8] & 0xFF);
+    values[valuesOffset + 3] =
+        ((buf[offset + 9] & 0xFF) << 16)
+            | ((buf[offset + 10] & 0xFF) << 8)
+            | (buf[offset + 11] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 12] & 0xFF) << 16)
+            | ((buf[offset + 13] & 0xFF) << 8)
+            | (buf[offset + 14] & 0xFF);
+    values[valuesOffset + 5] =
+        ((buf[offset + 15] & 0xFF) << 16)
+            | ((buf[offset + 16] & 0xFF) << 8)
+            | (buf[offset + 17] & 0xFF);
+    values[valuesOffset + 6] =
+        ((buf[offset + 18] & 0xFF) << 16)
+            | ((buf[offset + 19] & 0xFF) << 8)
+            | (buf[offset + 20] & 0xFF);
+    values[valuesOffset + 7] =
+        ((buf[offset + 21] & 0xFF) << 16)
+            | ((buf[offset + 22] & 0xFF) << 8)
+            | (buf[offset + 23] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth25(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 17) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 18) & 0x7F));
+    buf[4] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 19) & 0x3F));
+    buf[7] = (byte) (((values[offset + 2] >>> 11) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 20) & 0x1F));
+    buf[10] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[11] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 21) & 0xF));
+    buf[13] = (byte) (((values[offset + 4] >>> 13) & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 22) & 0x7));
+    buf[16] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[17] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[18] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 23) & 0x3));
+    buf[19] = (byte) (((values[offset + 6] >>> 15) & 0xFF));
+    buf[20] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[21] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 24) & 0x1));
+    buf[22] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[23] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[24] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth25(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 17)
+            | ((buf[offset + 1] & 0xFF) << 9)
+            | ((buf[offset + 2] & 0xFF) << 1)
+            | ((buf[offset + 3] & 0xFF) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x7F) << 18)
+            | ((buf[offset + 4] & 0xFF) << 10)
+            | ((buf[offset + 5] & 0xFF) << 2)
+            | ((buf[offset + 6] & 0xFF) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0x3F) << 19)
+            | ((buf[offset + 7] & 0xFF) << 11)
+            | ((buf[offset + 8] & 0xFF) << 3)
+            | ((buf[offset + 9] & 0xFF) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 9] & 0x1F) << 20)
+            | ((buf[offset + 10] & 0xFF) << 12)
+            | ((buf[offset + 11] & 0xFF) << 4)
+            | ((buf[offset + 12] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 12] & 0xF) << 21)
+            | ((buf[offset + 13] & 0xFF) << 13)
+            | ((buf[offset + 14] & 0xFF) << 5)
+            | ((buf[offset + 15] & 0xFF) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 15] & 0x7) << 22)
+            | ((buf[offset + 16] & 0xFF) << 14)
+            | ((buf[offset + 17] & 0xFF) << 6)
+            | ((buf[offset + 18] & 0xFF) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 18] & 0x3) << 23)
+            | ((buf[offset + 19] & 0xFF) << 15)
+            | ((buf[offset + 20] & 0xFF) << 7)
+            | ((buf[offset + 21] & 0xFF) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 21] & 0x1) << 24)
+            | ((buf[offset + 22] & 0xFF) << 16)
+            | ((buf[offset + 23] & 0xFF) << 8)
+            | (buf[offset + 24] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth26(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 18) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 20) & 0x3F));
+    buf[4] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 22) & 0xF));
+    buf[7] = (byte) (((values[offset + 2] >>> 14) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 24) & 0x3));
+    buf[10] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[11] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[12] = (byte) ((values[offset + 3] & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] >>> 18) & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 20) & 0x3F));
+    buf[17] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[18] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[19] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 22) & 0xF));
+    buf[20] = (byte) (((values[offset + 6] >>> 14) & 0xFF));
+    buf[21] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[22] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 24) & 0x3));
+    buf[23] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[24] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[25] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth26(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 18)
+            | ((buf[offset + 1] & 0xFF) << 10)
+            | ((buf[offset + 2] & 0xFF) << 2)
+            | ((buf[offset + 3] & 0xFF) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x3F) << 20)
+            | ((buf[offset + 4] & 0xFF) << 12)
+            | ((buf[offset + 5] & 0xFF) << 4)
+            | ((buf[offset + 6] & 0xFF) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0xF) << 22)
+            | ((buf[offset + 7] & 0xFF) << 14)
+            | ((buf[offset + 8] & 0xFF) << 6)
+            | ((buf[offset + 9] & 0xFF) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 9] & 0x3) << 24)
+            | ((buf[offset + 10] & 0xFF) << 16)
+            | ((buf[offset + 11] & 0xFF) << 8)
+            | (buf[offset + 12] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 13] & 0xFF) << 18)
+            | ((buf[offset + 14] & 0xFF) << 10)
+            | ((buf[offset + 15] & 0xFF) << 2)
+            | ((buf[offset + 16] & 0xFF) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 16] & 0x3F) << 20)
+            | ((buf[offset + 17] & 0xFF) << 12)
+            | ((buf[offset + 18] & 0xFF) << 4)
+            | ((buf[offset + 19] & 0xFF) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 19] & 0xF) << 22)
+            | ((buf[offset + 20] & 0xFF) << 14)
+            | ((buf[offset + 21] & 0xFF) << 6)
+            | ((buf[offset + 22] & 0xFF) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 22] & 0x3) << 24)
+            | ((buf[offset + 23] & 0xFF) << 16)
+            | ((buf[offset + 24] & 0xFF) << 8)
+            | (buf[offset + 25] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth27(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 19) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 22) & 0x1F));
+    buf[4] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 25) & 0x3));
+    buf[7] = (byte) (((values[offset + 2] >>> 17) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 20) & 0x7F));
+    buf[11] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 23) & 0xF));
+    buf[14] = (byte) (((values[offset + 4] >>> 15) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 26) & 0x1));
+    buf[17] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[18] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[19] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 21) & 0x3F));
+    buf[21] = (byte) (((values[offset + 6] >>> 13) & 0xFF));
+    buf[22] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[23] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 24) & 0x7));
+    buf[24] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[25] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[26] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth27(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 19)
+            | ((buf[offset + 1] & 0xFF) << 11)
+            | ((buf[offset + 2] & 0xFF) << 3)
+            | ((buf[offset + 3] & 0xFF) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x1F) << 22)
+            | ((buf[offset + 4] & 0xFF) << 14)
+            | ((buf[offset + 5] & 0xFF) << 6)
+            | ((buf[offset + 6] & 0xFF) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0x3) << 25)
+            | ((buf[offset + 7] & 0xFF) << 17)
+            | ((buf[offset + 8] & 0xFF) << 9)
+            | ((buf[offset + 9] & 0xFF) << 1)
+            | ((buf[offset + 10] & 0xFF) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 10] & 0x7F) << 20)
+            | ((buf[offset + 11] & 0xFF) << 12)
+            | ((buf[offset + 12] & 0xFF) << 4)
+            | ((buf[offset + 13] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 13] & 0xF) << 23)
+            | ((buf[offset + 14] & 0xFF) << 15)
+            | ((buf[offset + 15] & 0xFF) << 7)
+            | ((buf[offset + 16] & 0xFF) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 16] & 0x1) << 26)
+            | ((buf[offset + 17] & 0xFF) << 18)
+            | ((buf[offset + 18] & 0xFF) << 10)
+            | ((buf[offset + 19] & 0xFF) << 2)
+            | ((buf[offset + 20] & 0xFF) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 20] & 0x3F) << 21)
+            | ((buf[offset + 21] & 0xFF) << 13)
+            | ((buf[offset + 22] & 0xFF) << 5)
+            | ((buf[offset + 23] & 0xFF) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 23] & 0x7) << 24)
+            | ((buf[offset + 24] & 0xFF) << 16)
+            | ((buf[offset + 25] & 0xFF) << 8)
+            | (buf[offset + 26] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth28(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 20) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 24) & 0xF));
+    buf[4] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[6] = (byte) ((values[offset + 1] & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 20) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 24) & 0xF));
+    buf[11] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[13] = (byte) ((values[offset + 3] & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] >>> 20) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 24) & 0xF));
+    buf[18] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[19] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 5] & 0xFF));
+    buf[21] = (byte) (((values[offset + 6] >>> 20) & 0xFF));
+    buf[22] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[23] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 24) & 0xF));
+    buf[25] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[26] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[27] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth28(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 20)
+            | ((buf[offset + 1] & 0xFF) << 12)
+            | ((buf[offset + 2] & 0xFF) << 4)
+            | ((buf[offset + 3] & 0xFF) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0xF) << 24)
+            | ((buf[offset + 4] & 0xFF) << 16)
+            | ((buf[offset + 5] & 0xFF) << 8)
+            | (buf[offset + 6] & 0xFF);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0xFF) << 20)
+            | ((buf[offset + 8] & 0xFF) << 12)
+            | ((buf[offset + 9] & 0xFF) << 4)
+            | ((buf[offset + 10] & 0xFF) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 10] & 0xF) << 24)
+            | ((buf[offset + 11] & 0xFF) << 16)
+            | ((buf[offset + 12] & 0xFF) << 8)
+            | (buf[offset + 13] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 14] & 0xFF) << 20)
+            | ((buf[offset + 15] & 0xFF) << 12)
+            | ((buf[offset + 16] & 0xFF) << 4)
+            | ((buf[offset + 17] & 0xFF) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 17] & 0xF) << 24)
+            | ((buf[offset + 18] & 0xFF) << 16)
+            | ((buf[offset + 19] & 0xFF) << 8)
+            | (buf[offset + 20] & 0xFF);
+    values[valuesOffset + 6] =
+        ((buf[offset + 21] & 0xFF) << 20)
+            | ((buf[offset + 22] & 0xFF) << 12)
+            | ((buf[offset + 23] & 0xFF) << 4)
+            | ((buf[offset + 24] & 0xFF) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 24] & 0xF) << 24)
+            | ((buf[offset + 25] & 0xFF) << 16)
+            | ((buf[offset + 26] & 0xFF) << 8)
+            | (buf[offset + 27] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth29(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 21) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 26) & 0x7));
+    buf[4] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 23) & 0x3F));
+    buf[8] = (byte) (((values[offset + 2] >>> 15) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 28) & 0x1));
+    buf[11] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 25) & 0xF));
+    buf[15] = (byte) (((values[offset + 4] >>> 17) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 22) & 0x7F));
+    buf[19] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 27) & 0x3));
+    buf[22] = (byte) (((values[offset + 6] >>> 19) & 0xFF));
+    buf[23] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 24) & 0x1F));
+    buf[26] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[27] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[28] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth29(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 21)
+            | ((buf[offset + 1] & 0xFF) << 13)
+            | ((buf[offset + 2] & 0xFF) << 5)
+            | ((buf[offset + 3] & 0xFF) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x7) << 26)
+            | ((buf[offset + 4] & 0xFF) << 18)
+            | ((buf[offset + 5] & 0xFF) << 10)
+            | ((buf[offset + 6] & 0xFF) << 2)
+            | ((buf[offset + 7] & 0xFF) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0x3F) << 23)
+            | ((buf[offset + 8] & 0xFF) << 15)
+            | ((buf[offset + 9] & 0xFF) << 7)
+            | ((buf[offset + 10] & 0xFF) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 10] & 0x1) << 28)
+            | ((buf[offset + 11] & 0xFF) << 20)
+            | ((buf[offset + 12] & 0xFF) << 12)
+            | ((buf[offset + 13] & 0xFF) << 4)
+            | ((buf[offset + 14] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 14] & 0xF) << 25)
+            | ((buf[offset + 15] & 0xFF) << 17)
+            | ((buf[offset + 16] & 0xFF) << 9)
+            | ((buf[offset + 17] & 0xFF) << 1)
+            | ((buf[offset + 18] & 0xFF) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 18] & 0x7F) << 22)
+            | ((buf[offset + 19] & 0xFF) << 14)
+            | ((buf[offset + 20] & 0xFF) << 6)
+            | ((buf[offset + 21] & 0xFF) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 21] & 0x3) << 27)
+            | ((buf[offset + 22] & 0xFF) << 19)
+            | ((buf[offset + 23] & 0xFF) << 11)
+            | ((buf[offset + 24] & 0xFF) << 3)
+            | ((buf[offset + 25] & 0xFF) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 25] & 0x1F) << 24)
+            | ((buf[offset + 26] & 0xFF) << 16)
+            | ((buf[offset + 27] & 0xFF) << 8)
+            | (buf[offset + 28] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth30(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 22) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 28) & 0x3));
+    buf[4] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 26) & 0xF));
+    buf[8] = (byte) (((values[offset + 2] >>> 18) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 24) & 0x3F));
+    buf[12] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 3] & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 22) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 28) & 0x3));
+    buf[19] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 26) & 0xF));
+    buf[23] = (byte) (((values[offset + 6] >>> 18) & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 24) & 0x3F));
+    buf[27] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[28] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[29] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth30(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 22)
+            | ((buf[offset + 1] & 0xFF) << 14)
+            | ((buf[offset + 2] & 0xFF) << 6)
+            | ((buf[offset + 3] & 0xFF) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x3) << 28)
+            | ((buf[offset + 4] & 0xFF) << 20)
+            | ((buf[offset + 5] & 0xFF) << 12)
+            | ((buf[offset + 6] & 0xFF) << 4)
+            | ((buf[offset + 7] & 0xFF) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0xF) << 26)
+            | ((buf[offset + 8] & 0xFF) << 18)
+            | ((buf[offset + 9] & 0xFF) << 10)
+            | ((buf[offset + 10] & 0xFF) << 2)
+            | ((buf[offset + 11] & 0xFF) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 11] & 0x3F) << 24)
+            | ((buf[offset + 12] & 0xFF) << 16)
+            | ((buf[offset + 13] & 0xFF) << 8)
+            | (buf[offset + 14] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 15] & 0xFF) << 22)
+            | ((buf[offset + 16] & 0xFF) << 14)
+            | ((buf[offset + 17] & 0xFF) << 6)
+            | ((buf[offset + 18] & 0xFF) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 18] & 0x3) << 28)
+            | ((buf[offset + 19] & 0xFF) << 20)
+            | ((buf[offset + 20] & 0xFF) << 12)
+            | ((buf[offset + 21] & 0xFF) << 4)
+            | ((buf[offset + 22] & 0xFF) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 22] & 0xF) << 26)
+            | ((buf[offset + 23] & 0xFF) << 18)
+            | ((buf[offset + 24] & 0xFF) << 10)
+            | ((buf[offset + 25] & 0xFF) << 2)
+            | ((buf[offset + 26] & 0xFF) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 26] & 0x3F) << 24)
+            | ((buf[offset + 27] & 0xFF) << 16)
+            | ((buf[offset + 28] & 0xFF) << 8)
+            | (buf[offset + 29] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth31(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 23) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 30) & 0x1));
+    buf[4] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 29) & 0x3));
+    buf[8] = (byte) (((values[offset + 2] >>> 21) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 28) & 0x7));
+    buf[12] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 27) & 0xF));
+    buf[16] = (byte) (((values[offset + 4] >>> 19) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 26) & 0x1F));
+    buf[20] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[23] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 25) & 0x3F));
+    buf[24] = (byte) (((values[offset + 6] >>> 17) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[27] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 24) & 0x7F));
+    buf[28] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[29] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[30] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth31(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 23)
+            | ((buf[offset + 1] & 0xFF) << 15)
+            | ((buf[offset + 2] & 0xFF) << 7)
+            | ((buf[offset + 3] & 0xFF) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x1) << 30)
+            | ((buf[offset + 4] & 0xFF) << 22)
+            | ((buf[offset + 5] & 0xFF) << 14)
+            | ((buf[offset + 6] & 0xFF) << 6)
+            | ((buf[offset + 7] & 0xFF) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0x3) << 29)
+            | ((buf[offset + 8] & 0xFF) << 21)
+            | ((buf[offset + 9] & 0xFF) << 13)
+            | ((buf[offset + 10] & 0xFF) << 5)
+            | ((buf[offset + 11] & 0xFF) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 11] & 0x7) << 28)
+            | ((buf[offset + 12] & 0xFF) << 20)
+            | ((buf[offset + 13] & 0xFF) << 12)
+            | ((buf[offset + 14] & 0xFF) << 4)
+            | ((buf[offset + 15] & 0xFF) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 15] & 0xF) << 27)
+            | ((buf[offset + 16] & 0xFF) << 19)
+            | ((buf[offset + 17] & 0xFF) << 11)
+            | ((buf[offset + 18] & 0xFF) << 3)
+            | ((buf[offset + 19] & 0xFF) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 19] & 0x1F) << 26)
+            | ((buf[offset + 20] & 0xFF) << 18)
+            | ((buf[offset + 21] & 0xFF) << 10)
+            | ((buf[offset + 22] & 0xFF) << 2)
+            | ((buf[offset + 23] & 0xFF) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 23] & 0x3F) << 25)
+            | ((buf[offset + 24] & 0xFF) << 17)
+            | ((buf[offset + 25] & 0xFF) << 9)
+            | ((buf[offset + 26] & 0xFF) << 1)
+            | ((buf[offset + 27] & 0xFF) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 27] & 0x7F) << 24)
+            | ((buf[offset + 28] & 0xFF) << 16)
+            | ((buf[offset + 29] & 0xFF) << 8)
+            | (buf[offset + 30] & 0xFF);
+  }
+
+  private static void pack8ValuesOfWidth32(int[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 24) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[3] = (byte) ((values[offset] & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[7] = (byte) ((values[offset + 1] & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 24) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 2] & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[15] = (byte) ((values[offset + 3] & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 24) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[19] = (byte) ((values[offset + 4] & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[23] = (byte) ((values[offset + 5] & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] >>> 24) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[27] = (byte) ((values[offset + 6] & 0xFF));
+    buf[28] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[29] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[30] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[31] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth32(
+      byte[] buf, int offset, int[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFF) << 24)
+            | ((buf[offset + 1] & 0xFF) << 16)
+            | ((buf[offset + 2] & 0xFF) << 8)
+            | (buf[offset + 3] & 0xFF);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0xFF) << 24)
+            | ((buf[offset + 5] & 0xFF) << 16)
+            | ((buf[offset + 6] & 0xFF) << 8)
+            | (buf[offset + 7] & 0xFF);
+    values[valuesOffset + 2] =
+        ((buf[offset + 8] & 0xFF) << 24)
+            | ((buf[offset + 9] & 0xFF) << 16)
+            | ((buf[offset + 10] & 0xFF) << 8)
+            | (buf[offset + 11] & 0xFF);
+    values[valuesOffset + 3] =
+        ((buf[offset + 12] & 0xFF) << 24)
+            | ((buf[offset + 13] & 0xFF) << 16)
+            | ((buf[offset + 14] & 0xFF) << 8)
+            | (buf[offset + 15] & 0xFF);
+    values[valuesOffset + 4] =
+        ((buf[offset + 16] & 0xFF) << 24)
+            | ((buf[offset + 17] & 0xFF) << 16)
+            | ((buf[offset + 18] & 0xFF) << 8)
+            | (buf[offset + 19] & 0xFF);
+    values[valuesOffset + 5] =
+        ((buf[offset + 20] & 0xFF) << 24)
+            | ((buf[offset + 21] & 0xFF) << 16)
+            | ((buf[offset + 22] & 0xFF) << 8)
+            | (buf[offset + 23] & 0xFF);
+    values[valuesOffset + 6] =
+        ((buf[offset + 24] & 0xFF) << 24)
+            | ((buf[offset + 25] & 0xFF) << 16)
+            | ((buf[offset + 26] & 0xFF) << 8)
+            | (buf[offset + 27] & 0xFF);
+    values[valuesOffset + 7] =
+        ((buf[offset + 28] & 0xFF) << 24)
+            | ((buf[offset + 29] & 0xFF) << 16)
+            | ((buf[offset + 30] & 0xFF) << 8)
+            | (buf[offset + 31] & 0xFF);
+  }
+}
@@ -0,0 +1,5766 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+/**
+ * Pack and unpack kernels of {@link LongPacker}, one per bit width from 1 to 64. Each of them
+ * handles 8 values with straight-line code, so there is no loop over bits or bytes.
+ *
+ * <p>This file is generated by src/main/codegen/generate_bit_packing_kernels.py, do not edit.
+ */
+final class LongPackerKernels {
+
+  private LongPackerKernels() {}
+
+  static void pack8Values(int width, long[] values, int offset, byte[] buf) {
+    switch (width) {
+      case 1:
+        pack8ValuesOfWidth1(values, offset, buf);
+        return;
+      case 2:
+        pack8ValuesOfWidth2(values, offset, buf);
+        return;
+      case 3:
+        pack8ValuesOfWidth3(values, offset, buf);
+        return;
+      case 4:
+        pack8ValuesOfWidth4(values, offset, buf);
+        return;
+      case 5:
+        pack8ValuesOfWidth5(values, offset, buf);
+        return;
+      case 6:
+        pack8ValuesOfWidth6(values, offset, buf);
+        return;
+      case 7:
+        pack8ValuesOfWidth7(values, offset, buf);
+        return;
+      case 8:
+        pack8ValuesOfWidth8(values, offset, buf);
+        return;
+      case 9:
+        pack8ValuesOfWidth9(values, offset, buf);
+        return;
+      case 10:
+        pack8ValuesOfWidth10(values, offset, buf);
+        return;
+      case 11:
+        pack8ValuesOfWidth11(values, offset, buf);
+        return;
+      case 12:
+        pack8ValuesOfWidth12(values, offset, buf);
+        return;
+      case 13:
+        pack8ValuesOfWidth13(values, offset, buf);
+        return;
+      case 14:
+        pack8ValuesOfWidth14(values, offset, buf);
+        return;
+      case 15:
+        pack8ValuesOfWidth15(values, offset, buf);
+        return;
+      case 16:
+        pack8ValuesOfWidth16(values, offset, buf);
+        return;
+      case 17:
+        pack8ValuesOfWidth17(values, offset, buf);
+        return;
+      case 18:
+        pack8ValuesOfWidth18(values, offset, buf);
+        return;
+      case 19:
+        pack8ValuesOfWidth19(values, offset, buf);
+        return;
+      case 20:
+        pack8ValuesOfWidth20(values, offset, buf);
+        return;
+      case 21:
+        pack8ValuesOfWidth21(values, offset, buf);
+        return;
+      case 22:
+        pack8ValuesOfWidth22(values, offset, buf);
+        return;
+      case 23:
+        pack8ValuesOfWidth23(values, offset, buf);
+        return;
+      case 24:
+        pack8ValuesOfWidth24(values, offset, buf);
+        return;
+      case 25:
+        pack8ValuesOfWidth25(values, offset, buf);
+        return;
+      case 26:
+        pack8ValuesOfWidth26(values, offset, buf);
+        return;
+      case 27:
+        pack8ValuesOfWidth27(values, offset, buf);
+        return;
+      case 28:
+        pack8ValuesOfWidth28(values, offset, buf);
+        return;
+      case 29:
+        pack8ValuesOfWidth29(values, offset, buf);
+        return;
+      case 30:
+        pack8ValuesOfWidth30(values, offset, buf);
+        return;
+      case 31:
+        pack8ValuesOfWidth31(values, offset, buf);
+        return;
+      case 32:
+        pack8ValuesOfWidth32(values, offset, buf);
+        return;
+      case 33:
+        pack8ValuesOfWidth33(values, offset, buf);
+        return;
+      case 34:
+        pack8ValuesOfWidth34(values, offset, buf);
+        return;
+      case 35:
+        pack8ValuesOfWidth35(values, offset, buf);
+        return;
+      case 36:
+        pack8ValuesOfWidth36(values, offset, buf);
+        return;
+      case 37:
+        pack8ValuesOfWidth37(values, offset, buf);
+        return;
+      case 38:
+        pack8ValuesOfWidth38(values, offset, buf);
+        return;
+      case 39:
+        pack8ValuesOfWidth39(values, offset, buf);
+        return;
+      case 40:
+        pack8ValuesOfWidth40(values, offset, buf);
+        return;
+      case 41:
+        pack8ValuesOfWidth41(values, offset, buf);
+        return;
+      case 42:
+        pack8ValuesOfWidth42(values, offset, buf);
+        return;
+      case 43:
+        pack8ValuesOfWidth43(values, offset, buf);
+        return;
+      case 44:
+        pack8ValuesOfWidth44(values, offset, buf);
+        return;
+      case 45:
+        pack8ValuesOfWidth45(values, offset, buf);
+        return;
+      case 46:
+        pack8ValuesOfWidth46(values, offset, buf);
+        return;
+      case 47:
+        pack8ValuesOfWidth47(values, offset, buf);
+        return;
+      case 48:
+        pack8ValuesOfWidth48(values, offset, buf);
+        return;
+      case 49:
+        pack8ValuesOfWidth49(values, offset, buf);
+        return;
+      case 50:
+        pack8ValuesOfWidth50(values, offset, buf);
+        return;
+      case 51:
+        pack8ValuesOfWidth51(values, offset, buf);
+        return;
+      case 52:
+        pack8ValuesOfWidth52(values, offset, buf);
+        return;
+      case 53:
+        pack8ValuesOfWidth53(values, offset, buf);
+        return;
+      case 54:
+        pack8ValuesOfWidth54(values, offset, buf);
+        return;
+      case 55:
+        pack8ValuesOfWidth55(values, offset, buf);
+        return;
+      case 56:
+        pack8ValuesOfWidth56(values, offset, buf);
+        return;
+      case 57:
+        pack8ValuesOfWidth57(values, offset, buf);
+        return;
+      case 58:
+        pack8ValuesOfWidth58(values, offset, buf);
+        return;
+      case 59:
+        pack8ValuesOfWidth59(values, offset, buf);
+        return;
+      case 60:
+        pack8ValuesOfWidth60(values, offset, buf);
+        return;
+      case 61:
+        pack8ValuesOfWidth61(values, offset, buf);
+        return;
+      case 62:
+        pack8ValuesOfWidth62(values, offset, buf);
+        return;
+      case 63:
+        pack8ValuesOfWidth63(values, offset, buf);
+        return;
+      case 64:
+        pack8ValuesOfWidth64(values, offset, buf);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit width: " + width);
+    }
+  }
+
+  static void unpack8Values(int width, byte[] buf, int offset, long[] values, int valuesOffset) {
+    switch (width) {
+      case 1:
+        unpack8ValuesOfWidth1(buf, offset, values, valuesOffset);
+        return;
+      case 2:
+        unpack8ValuesOfWidth2(buf, offset, values, valuesOffset);
+        return;
+      case 3:
+        unpack8ValuesOfWidth3(buf, offset, values, valuesOffset);
+        return;
+      case 4:
+        unpack8ValuesOfWidth4(buf, offset, values, valuesOffset);
+        return;
+      case 5:
+        unpack8ValuesOfWidth5(buf, offset, values, valuesOffset);
+        return;
+      case 6:
+        unpack8ValuesOfWidth6(buf, offset, values, valuesOffset);
+        return;
+      case 7:
+        unpack8ValuesOfWidth7(buf, offset, values, valuesOffset);
+        return;
+      case 8:
+        unpack8ValuesOfWidth8(buf, offset, values, valuesOffset);
+        return;
+      case 9:
+        unpack8ValuesOfWidth9(buf, offset, values, valuesOffset);
+        return;
+      case 10:
+        unpack8ValuesOfWidth10(buf, offset, values, valuesOffset);
+        return;
+      case 11:
+        unpack8ValuesOfWidth11(buf, offset, values, valuesOffset);
+        return;
+      case 12:
+        unpack8ValuesOfWidth12(buf, offset, values, valuesOffset);
+        return;
+      case 13:
+        unpack8ValuesOfWidth13(buf, offset, values, valuesOffset);
+        return;
+      case 14:
+        unpack8ValuesOfWidth14(buf, offset, values, valuesOffset);
+        return;
+      case 15:
+        unpack8ValuesOfWidth15(buf, offset, values, valuesOffset);
+        return;
+      case 16:
+        unpack8ValuesOfWidth16(buf, offset, values, valuesOffset);
+        return;
+      case 17:
+        unpack8ValuesOfWidth17(buf, offset, values, valuesOffset);
+        return;
+      case 18:
+        unpack8ValuesOfWidth18(buf, offset, values, valuesOffset);
+        return;
+      case 19:
+        unpack8ValuesOfWidth19(buf, offset, values, valuesOffset);
+        return;
+      case 20:
+        unpack8ValuesOfWidth20(buf, offset, values, valuesOffset);
+        return;
+      case 21:
+        unpack8ValuesOfWidth21(buf, offset, values, valuesOffset);
+        return;
+      case 22:
+        unpack8ValuesOfWidth22(buf, offset, values, valuesOffset);
+        return;
+      case 23:
+        unpack8ValuesOfWidth23(buf, offset, values, valuesOffset);
+        return;
+      case 24:
+        unpack8ValuesOfWidth24(buf, offset, values, valuesOffset);
+        return;
+      case 25:
+        unpack8ValuesOfWidth25(buf, offset, values, valuesOffset);
+        return;
+      case 26:
+        unpack8ValuesOfWidth26(buf, offset, values, valuesOffset);
+        return;
+      case 27:
+        unpack8ValuesOfWidth27(buf, offset, values, valuesOffset);
+        return;
+      case 28:
+        unpack8ValuesOfWidth28(buf, offset, values, valuesOffset);
+        return;
+      case 29:
+        unpack8ValuesOfWidth29(buf, offset, values, valuesOffset);
+        return;
+      case 30:
+        unpack8ValuesOfWidth30(buf, offset, values, valuesOffset);
+        return;
+      case 31:
+        unpack8ValuesOfWidth31(buf, offset, values, valuesOffset);
+        return;
+      case 32:
+        unpack8ValuesOfWidth32(buf, offset, values, valuesOffset);
+        return;
+      case 33:
+        unpack8ValuesOfWidth33(buf, offset, values, valuesOffset);
+        return;
+      case 34:
+        unpack8ValuesOfWidth34(buf, offset, values, valuesOffset);
+        return;
+      case 35:
+        unpack8ValuesOfWidth35(buf, offset, values, valuesOffset);
+        return;
+      case 36:
+        unpack8ValuesOfWidth36(buf, offset, values, valuesOffset);
+        return;
+      case 37:
+        unpack8ValuesOfWidth37(buf, offset, values, valuesOffset);
+        return;
+      case 38:
+        unpack8ValuesOfWidth38(buf, offset, values, valuesOffset);
+        return;
+      case 39:
+        unpack8ValuesOfWidth39(buf, offset, values, valuesOffset);
+        return;
+      case 40:
+        unpack8ValuesOfWidth40(buf, offset, values, valuesOffset);
+        return;
+      case 41:
+        unpack8ValuesOfWidth41(buf, offset, values, valuesOffset);
+        return;
+      case 42:
+        unpack8ValuesOfWidth42(buf, offset, values, valuesOffset);
+        return;
+      case 43:
+        unpack8ValuesOfWidth43(buf, offset, values, valuesOffset);
+        return;
+      case 44:
+        unpack8ValuesOfWidth44(buf, offset, values, valuesOffset);
+        return;
+      case 45:
+        unpack8ValuesOfWidth45(buf, offset, values, valuesOffset);
+        return;
+      case 46:
+        unpack8ValuesOfWidth46(buf, offset, values, valuesOffset);
+        return;
+      case 47:
+        unpack8ValuesOfWidth47(buf, offset, values, valuesOffset);
+        return;
+      case 48:
+        unpack8ValuesOfWidth48(buf, offset, values, valuesOffset);
+        return;
+      case 49:
+        unpack8ValuesOfWidth49(buf, offset, values, valuesOffset);
+        return;
+      case 50:
+        unpack8ValuesOfWidth50(buf, offset, values, valuesOffset);
+        return;
+      case 51:
+        unpack8ValuesOfWidth51(buf, offset, values, valuesOffset);
+        return;
+      case 52:
+        unpack8ValuesOfWidth52(buf, offset, values, valuesOffset);
+        return;
+      case 53:
+        unpack8ValuesOfWidth53(buf, offset, values, valuesOffset);
+        return;
+      case 54:
+        unpack8ValuesOfWidth54(buf, offset, values, valuesOffset);
+        return;
+      case 55:
+        unpack8ValuesOfWidth55(buf, offset, values, valuesOffset);
+        return;
+      case 56:
+        unpack8ValuesOfWidth56(buf, offset, values, valuesOffset);
+        return;
+      case 57:
+        unpack8ValuesOfWidth57(buf, offset, values, valuesOffset);
+        return;
+      case 58:
+        unpack8ValuesOfWidth58(buf, offset, values, valuesOffset);
+        return;
+      case 59:
+        unpack8ValuesOfWidth59(buf, offset, values, valuesOffset);
+        return;
+      case 60:
+        unpack8ValuesOfWidth60(buf, offset, values, valuesOffset);
+        return;
+      case 61:
+        unpack8ValuesOfWidth61(buf, offset, values, valuesOffset);
+        return;
+      case 62:
+        unpack8ValuesOfWidth62(buf, offset, values, valuesOffset);
+        return;
+      case 63:
+        unpack8ValuesOfWidth63(buf, offset, values, valuesOffset);
+        return;
+      case 64:
+        unpack8ValuesOfWidth64(buf, offset, values, valuesOffset);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported bit width: " + width);
+    }
+  }
+
+  private static void pack8ValuesOfWidth1(long[] values, int offset, byte[] buf) {
+    buf[0] =
+        (byte)
+            (((values[offset] & 0x1) << 7)
+                | ((values[offset + 1] & 0x1) << 6)
+                | ((values[offset + 2] & 0x1) << 5)
+                | ((values[offset + 3] & 0x1) << 4)
+                | ((values[offset + 4] & 0x1) << 3)
+                | ((values[offset + 5] & 0x1) << 2)
+                | ((values[offset + 6] & 0x1) << 1)
+                | (values[offset + 7] & 0x1));
+  }
+
+  private static void unpack8ValuesOfWidth1(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] = ((buf[offset] & 0x7FL) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset] & 0x3FL) >>> 5);
+    values[valuesOffset + 3] = ((buf[offset] & 0x1FL) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset] & 0xFL) >>> 3);
+    values[valuesOffset + 5] = ((buf[offset] & 0x7L) >>> 2);
+    values[valuesOffset + 6] = ((buf[offset] & 0x3L) >>> 1);
+    values[valuesOffset + 7] = (buf[offset] & 0x1L);
+  }
+
+  private static void pack8ValuesOfWidth2(long[] values, int offset, byte[] buf) {
+    buf[0] =
+        (byte)
+            (((values[offset] & 0x3) << 6)
+                | ((values[offset + 1] & 0x3) << 4)
+                | ((values[offset + 2] & 0x3) << 2)
+                | (values[offset + 3] & 0x3));
+    buf[1] =
+        (byte)
+            (((values[offset + 4] & 0x3) << 6)
+                | ((values[offset + 5] & 0x3) << 4)
+                | ((values[offset + 6] & 0x3) << 2)
+                | (values[offset + 7] & 0x3));
+  }
+
+  private static void unpack8ValuesOfWidth2(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] = ((buf[offset] & 0x3FL) >>> 4);
+    values[valuesOffset + 2] = ((buf[offset] & 0xFL) >>> 2);
+    values[valuesOffset + 3] = (buf[offset] & 0x3L);
+    values[valuesOffset + 4] = ((buf[offset + 1] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] = ((buf[offset + 1] & 0x3FL) >>> 4);
+    values[valuesOffset + 6] = ((buf[offset + 1] & 0xFL) >>> 2);
+    values[valuesOffset + 7] = (buf[offset + 1] & 0x3L);
+  }
+
+  private static void pack8ValuesOfWidth3(long[] values, int offset, byte[] buf) {
+    buf[0] =
+        (byte)
+            (((values[offset] & 0x7) << 5)
+                | ((values[offset + 1] & 0x7) << 2)
+                | ((values[offset + 2] >>> 1) & 0x3));
+    buf[1] =
+        (byte)
+            (((values[offset + 2] & 0x1) << 7)
+                | ((values[offset + 3] & 0x7) << 4)
+                | ((values[offset + 4] & 0x7) << 1)
+                | ((values[offset + 5] >>> 2) & 0x1));
+    buf[2] =
+        (byte)
+            (((values[offset + 5] & 0x3) << 6)
+                | ((values[offset + 6] & 0x7) << 3)
+                | (values[offset + 7] & 0x7));
+  }
+
+  private static void unpack8ValuesOfWidth3(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] = ((buf[offset] & 0x1FL) >>> 2);
+    values[valuesOffset + 2] = ((buf[offset] & 0x3L) << 1) | ((buf[offset + 1] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] = ((buf[offset + 1] & 0x7FL) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 1] & 0xFL) >>> 1);
+    values[valuesOffset + 5] = ((buf[offset + 1] & 0x1L) << 2) | ((buf[offset + 2] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] = ((buf[offset + 2] & 0x3FL) >>> 3);
+    values[valuesOffset + 7] = (buf[offset + 2] & 0x7L);
+  }
+
+  private static void pack8ValuesOfWidth4(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0xF) << 4) | (values[offset + 1] & 0xF));
+    buf[1] = (byte) (((values[offset + 2] & 0xF) << 4) | (values[offset + 3] & 0xF));
+    buf[2] = (byte) (((values[offset + 4] & 0xF) << 4) | (values[offset + 5] & 0xF));
+    buf[3] = (byte) (((values[offset + 6] & 0xF) << 4) | (values[offset + 7] & 0xF));
+  }
+
+  private static void unpack8ValuesOfWidth4(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] = (buf[offset] & 0xFL);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] = (buf[offset + 1] & 0xFL);
+    values[valuesOffset + 4] = ((buf[offset + 2] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] = (buf[offset + 2] & 0xFL);
+    values[valuesOffset + 6] = ((buf[offset + 3] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] = (buf[offset + 3] & 0xFL);
+  }
+
+  private static void pack8ValuesOfWidth5(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 2) & 0x7));
+    buf[1] =
+        (byte)
+            (((values[offset + 1] & 0x3) << 6)
+                | ((values[offset + 2] & 0x1F) << 1)
+                | ((values[offset + 3] >>> 4) & 0x1));
+    buf[2] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 1) & 0xF));
+    buf[3] =
+        (byte)
+            (((values[offset + 4] & 0x1) << 7)
+                | ((values[offset + 5] & 0x1F) << 2)
+                | ((values[offset + 6] >>> 3) & 0x3));
+    buf[4] = (byte) (((values[offset + 6] & 0x7) << 5) | (values[offset + 7] & 0x1F));
+  }
+
+  private static void unpack8ValuesOfWidth5(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] = ((buf[offset] & 0x7L) << 2) | ((buf[offset + 1] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0x3FL) >>> 1);
+    values[valuesOffset + 3] = ((buf[offset + 1] & 0x1L) << 4) | ((buf[offset + 2] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 2] & 0xFL) << 1) | ((buf[offset + 3] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] = ((buf[offset + 3] & 0x7FL) >>> 2);
+    values[valuesOffset + 6] = ((buf[offset + 3] & 0x3L) << 3) | ((buf[offset + 4] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] = (buf[offset + 4] & 0x1FL);
+  }
+
+  private static void pack8ValuesOfWidth6(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 4) & 0x3));
+    buf[1] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 2) & 0xF));
+    buf[2] = (byte) (((values[offset + 2] & 0x3) << 6) | (values[offset + 3] & 0x3F));
+    buf[3] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 4) & 0x3));
+    buf[4] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 2) & 0xF));
+    buf[5] = (byte) (((values[offset + 6] & 0x3) << 6) | (values[offset + 7] & 0x3F));
+  }
+
+  private static void unpack8ValuesOfWidth6(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] = ((buf[offset] & 0x3L) << 4) | ((buf[offset + 1] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0xFL) << 2) | ((buf[offset + 2] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] = (buf[offset + 2] & 0x3FL);
+    values[valuesOffset + 4] = ((buf[offset + 3] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] = ((buf[offset + 3] & 0x3L) << 4) | ((buf[offset + 4] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] = ((buf[offset + 4] & 0xFL) << 2) | ((buf[offset + 5] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] = (buf[offset + 5] & 0x3FL);
+  }
+
+  private static void pack8ValuesOfWidth7(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 6) & 0x1));
+    buf[1] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 5) & 0x3));
+    buf[2] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 4) & 0x7));
+    buf[3] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 3) & 0xF));
+    buf[4] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 2) & 0x1F));
+    buf[5] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 1) & 0x3F));
+    buf[6] = (byte) (((values[offset + 6] & 0x1) << 7) | (values[offset + 7] & 0x7F));
+  }
+
+  private static void unpack8ValuesOfWidth7(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] = ((buf[offset] & 0x1L) << 6) | ((buf[offset + 1] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] = ((buf[offset + 1] & 0x3L) << 5) | ((buf[offset + 2] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] = ((buf[offset + 2] & 0x7L) << 4) | ((buf[offset + 3] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 3] & 0xFL) << 3) | ((buf[offset + 4] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] = ((buf[offset + 4] & 0x1FL) << 2) | ((buf[offset + 5] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] = ((buf[offset + 5] & 0x3FL) << 1) | ((buf[offset + 6] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] = (buf[offset + 6] & 0x7FL);
+  }
+
+  private static void pack8ValuesOfWidth8(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) ((values[offset] & 0xFF));
+    buf[1] = (byte) ((values[offset + 1] & 0xFF));
+    buf[2] = (byte) ((values[offset + 2] & 0xFF));
+    buf[3] = (byte) ((values[offset + 3] & 0xFF));
+    buf[4] = (byte) ((values[offset + 4] & 0xFF));
+    buf[5] = (byte) ((values[offset + 5] & 0xFF));
+    buf[6] = (byte) ((values[offset + 6] & 0xFF));
+    buf[7] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth8(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = (buf[offset] & 0xFFL);
+    values[valuesOffset + 1] = (buf[offset + 1] & 0xFFL);
+    values[valuesOffset + 2] = (buf[offset + 2] & 0xFFL);
+    values[valuesOffset + 3] = (buf[offset + 3] & 0xFFL);
+    values[valuesOffset + 4] = (buf[offset + 4] & 0xFFL);
+    values[valuesOffset + 5] = (buf[offset + 5] & 0xFFL);
+    values[valuesOffset + 6] = (buf[offset + 6] & 0xFFL);
+    values[valuesOffset + 7] = (buf[offset + 7] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth9(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 2) & 0x7F));
+    buf[2] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 3) & 0x3F));
+    buf[3] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 4) & 0x1F));
+    buf[4] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 5) & 0xF));
+    buf[5] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 6) & 0x7));
+    buf[6] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 7) & 0x3));
+    buf[7] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 8) & 0x1));
+    buf[8] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth9(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 1) | ((buf[offset + 1] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0x7FL) << 2) | ((buf[offset + 2] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset + 2] & 0x3FL) << 3) | ((buf[offset + 3] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] = ((buf[offset + 3] & 0x1FL) << 4) | ((buf[offset + 4] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 4] & 0xFL) << 5) | ((buf[offset + 5] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] = ((buf[offset + 5] & 0x7L) << 6) | ((buf[offset + 6] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] = ((buf[offset + 6] & 0x3L) << 7) | ((buf[offset + 7] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] = ((buf[offset + 7] & 0x1L) << 8) | (buf[offset + 8] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth10(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 4) & 0x3F));
+    buf[2] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 6) & 0xF));
+    buf[3] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 8) & 0x3));
+    buf[4] = (byte) ((values[offset + 3] & 0xFF));
+    buf[5] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[6] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 4) & 0x3F));
+    buf[7] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 6) & 0xF));
+    buf[8] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 8) & 0x3));
+    buf[9] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth10(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 2) | ((buf[offset + 1] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0x3FL) << 4) | ((buf[offset + 2] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] = ((buf[offset + 2] & 0xFL) << 6) | ((buf[offset + 3] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] = ((buf[offset + 3] & 0x3L) << 8) | (buf[offset + 4] & 0xFFL);
+    values[valuesOffset + 4] = ((buf[offset + 5] & 0xFFL) << 2) | ((buf[offset + 6] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] = ((buf[offset + 6] & 0x3FL) << 4) | ((buf[offset + 7] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] = ((buf[offset + 7] & 0xFL) << 6) | ((buf[offset + 8] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] = ((buf[offset + 8] & 0x3L) << 8) | (buf[offset + 9] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth11(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 6) & 0x1F));
+    buf[2] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 9) & 0x3));
+    buf[3] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[4] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 4) & 0x7F));
+    buf[5] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 7) & 0xF));
+    buf[6] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 10) & 0x1));
+    buf[7] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[8] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 5) & 0x3F));
+    buf[9] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 8) & 0x7));
+    buf[10] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth11(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 3) | ((buf[offset + 1] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0x1FL) << 6) | ((buf[offset + 2] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 2] & 0x3L) << 9)
+            | ((buf[offset + 3] & 0xFFL) << 1)
+            | ((buf[offset + 4] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] = ((buf[offset + 4] & 0x7FL) << 4) | ((buf[offset + 5] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] = ((buf[offset + 5] & 0xFL) << 7) | ((buf[offset + 6] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 6] & 0x1L) << 10)
+            | ((buf[offset + 7] & 0xFFL) << 2)
+            | ((buf[offset + 8] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] = ((buf[offset + 8] & 0x3FL) << 5) | ((buf[offset + 9] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] = ((buf[offset + 9] & 0x7L) << 8) | (buf[offset + 10] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth12(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 8) & 0xF));
+    buf[2] = (byte) ((values[offset + 1] & 0xFF));
+    buf[3] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[4] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 8) & 0xF));
+    buf[5] = (byte) ((values[offset + 3] & 0xFF));
+    buf[6] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 8) & 0xF));
+    buf[8] = (byte) ((values[offset + 5] & 0xFF));
+    buf[9] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 8) & 0xF));
+    buf[11] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth12(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 4) | ((buf[offset + 1] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] = ((buf[offset + 1] & 0xFL) << 8) | (buf[offset + 2] & 0xFFL);
+    values[valuesOffset + 2] = ((buf[offset + 3] & 0xFFL) << 4) | ((buf[offset + 4] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] = ((buf[offset + 4] & 0xFL) << 8) | (buf[offset + 5] & 0xFFL);
+    values[valuesOffset + 4] = ((buf[offset + 6] & 0xFFL) << 4) | ((buf[offset + 7] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] = ((buf[offset + 7] & 0xFL) << 8) | (buf[offset + 8] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 9] & 0xFFL) << 4) | ((buf[offset + 10] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] = ((buf[offset + 10] & 0xFL) << 8) | (buf[offset + 11] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth13(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 10) & 0x7));
+    buf[2] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 7) & 0x3F));
+    buf[4] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 12) & 0x1));
+    buf[5] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[6] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 9) & 0xF));
+    buf[7] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[8] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 6) & 0x7F));
+    buf[9] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 11) & 0x3));
+    buf[10] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[11] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 8) & 0x1F));
+    buf[12] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth13(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 5) | ((buf[offset + 1] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 1] & 0x7L) << 10)
+            | ((buf[offset + 2] & 0xFFL) << 2)
+            | ((buf[offset + 3] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] = ((buf[offset + 3] & 0x3FL) << 7) | ((buf[offset + 4] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 4] & 0x1L) << 12)
+            | ((buf[offset + 5] & 0xFFL) << 4)
+            | ((buf[offset + 6] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 6] & 0xFL) << 9)
+            | ((buf[offset + 7] & 0xFFL) << 1)
+            | ((buf[offset + 8] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] = ((buf[offset + 8] & 0x7FL) << 6) | ((buf[offset + 9] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 9] & 0x3L) << 11)
+            | ((buf[offset + 10] & 0xFFL) << 3)
+            | ((buf[offset + 11] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] = ((buf[offset + 11] & 0x1FL) << 8) | (buf[offset + 12] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth14(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 12) & 0x3));
+    buf[2] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 10) & 0xF));
+    buf[4] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[5] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 8) & 0x3F));
+    buf[6] = (byte) ((values[offset + 3] & 0xFF));
+    buf[7] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[8] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 12) & 0x3));
+    buf[9] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 10) & 0xF));
+    buf[11] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[12] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 8) & 0x3F));
+    buf[13] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth14(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 6) | ((buf[offset + 1] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 1] & 0x3L) << 12)
+            | ((buf[offset + 2] & 0xFFL) << 4)
+            | ((buf[offset + 3] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 3] & 0xFL) << 10)
+            | ((buf[offset + 4] & 0xFFL) << 2)
+            | ((buf[offset + 5] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] = ((buf[offset + 5] & 0x3FL) << 8) | (buf[offset + 6] & 0xFFL);
+    values[valuesOffset + 4] = ((buf[offset + 7] & 0xFFL) << 6) | ((buf[offset + 8] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 8] & 0x3L) << 12)
+            | ((buf[offset + 9] & 0xFFL) << 4)
+            | ((buf[offset + 10] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 10] & 0xFL) << 10)
+            | ((buf[offset + 11] & 0xFFL) << 2)
+            | ((buf[offset + 12] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] = ((buf[offset + 12] & 0x3FL) << 8) | (buf[offset + 13] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth15(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[1] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 14) & 0x1));
+    buf[2] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 13) & 0x3));
+    buf[4] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[5] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 12) & 0x7));
+    buf[6] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 11) & 0xF));
+    buf[8] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[9] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 10) & 0x1F));
+    buf[10] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 9) & 0x3F));
+    buf[12] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[13] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 8) & 0x7F));
+    buf[14] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth15(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 7) | ((buf[offset + 1] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 1] & 0x1L) << 14)
+            | ((buf[offset + 2] & 0xFFL) << 6)
+            | ((buf[offset + 3] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 3] & 0x3L) << 13)
+            | ((buf[offset + 4] & 0xFFL) << 5)
+            | ((buf[offset + 5] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 5] & 0x7L) << 12)
+            | ((buf[offset + 6] & 0xFFL) << 4)
+            | ((buf[offset + 7] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 7] & 0xFL) << 11)
+            | ((buf[offset + 8] & 0xFFL) << 3)
+            | ((buf[offset + 9] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 9] & 0x1FL) << 10)
+            | ((buf[offset + 10] & 0xFFL) << 2)
+            | ((buf[offset + 11] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 11] & 0x3FL) << 9)
+            | ((buf[offset + 12] & 0xFFL) << 1)
+            | ((buf[offset + 13] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] = ((buf[offset + 13] & 0x7FL) << 8) | (buf[offset + 14] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth16(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[1] = (byte) ((values[offset] & 0xFF));
+    buf[2] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[3] = (byte) ((values[offset + 1] & 0xFF));
+    buf[4] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[5] = (byte) ((values[offset + 2] & 0xFF));
+    buf[6] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[7] = (byte) ((values[offset + 3] & 0xFF));
+    buf[8] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[9] = (byte) ((values[offset + 4] & 0xFF));
+    buf[10] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 5] & 0xFF));
+    buf[12] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[13] = (byte) ((values[offset + 6] & 0xFF));
+    buf[14] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[15] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth16(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] = ((buf[offset] & 0xFFL) << 8) | (buf[offset + 1] & 0xFFL);
+    values[valuesOffset + 1] = ((buf[offset + 2] & 0xFFL) << 8) | (buf[offset + 3] & 0xFFL);
+    values[valuesOffset + 2] = ((buf[offset + 4] & 0xFFL) << 8) | (buf[offset + 5] & 0xFFL);
+    values[valuesOffset + 3] = ((buf[offset + 6] & 0xFFL) << 8) | (buf[offset + 7] & 0xFFL);
+    values[valuesOffset + 4] = ((buf[offset + 8] & 0xFFL) << 8) | (buf[offset + 9] & 0xFFL);
+    values[valuesOffset + 5] = ((buf[offset + 10] & 0xFFL) << 8) | (buf[offset + 11] & 0xFFL);
+    values[valuesOffset + 6] = ((buf[offset + 12] & 0xFFL) << 8) | (buf[offset + 13] & 0xFFL);
+    values[valuesOffset + 7] = ((buf[offset + 14] & 0xFFL) << 8) | (buf[offset + 15] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth17(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 10) & 0x7F));
+    buf[3] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 11) & 0x3F));
+    buf[5] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 12) & 0x1F));
+    buf[7] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[8] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 13) & 0xF));
+    buf[9] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[10] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 14) & 0x7));
+    buf[11] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[12] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 15) & 0x3));
+    buf[13] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[14] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 16) & 0x1));
+    buf[15] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[16] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth17(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 9)
+            | ((buf[offset + 1] & 0xFFL) << 1)
+            | ((buf[offset + 2] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x7FL) << 10)
+            | ((buf[offset + 3] & 0xFFL) << 2)
+            | ((buf[offset + 4] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 4] & 0x3FL) << 11)
+            | ((buf[offset + 5] & 0xFFL) << 3)
+            | ((buf[offset + 6] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 6] & 0x1FL) << 12)
+            | ((buf[offset + 7] & 0xFFL) << 4)
+            | ((buf[offset + 8] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 8] & 0xFL) << 13)
+            | ((buf[offset + 9] & 0xFFL) << 5)
+            | ((buf[offset + 10] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 10] & 0x7L) << 14)
+            | ((buf[offset + 11] & 0xFFL) << 6)
+            | ((buf[offset + 12] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 12] & 0x3L) << 15)
+            | ((buf[offset + 13] & 0xFFL) << 7)
+            | ((buf[offset + 14] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 14] & 0x1L) << 16)
+            | ((buf[offset + 15] & 0xFFL) << 8)
+            | (buf[offset + 16] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth18(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 12) & 0x3F));
+    buf[3] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 14) & 0xF));
+    buf[5] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 16) & 0x3));
+    buf[7] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[8] = (byte) ((values[offset + 3] & 0xFF));
+    buf[9] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[10] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 12) & 0x3F));
+    buf[12] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[13] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 14) & 0xF));
+    buf[14] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[15] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 16) & 0x3));
+    buf[16] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[17] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth18(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 10)
+            | ((buf[offset + 1] & 0xFFL) << 2)
+            | ((buf[offset + 2] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x3FL) << 12)
+            | ((buf[offset + 3] & 0xFFL) << 4)
+            | ((buf[offset + 4] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 4] & 0xFL) << 14)
+            | ((buf[offset + 5] & 0xFFL) << 6)
+            | ((buf[offset + 6] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 6] & 0x3L) << 16)
+            | ((buf[offset + 7] & 0xFFL) << 8)
+            | (buf[offset + 8] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 9] & 0xFFL) << 10)
+            | ((buf[offset + 10] & 0xFFL) << 2)
+            | ((buf[offset + 11] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 11] & 0x3FL) << 12)
+            | ((buf[offset + 12] & 0xFFL) << 4)
+            | ((buf[offset + 13] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 13] & 0xFL) << 14)
+            | ((buf[offset + 14] & 0xFFL) << 6)
+            | ((buf[offset + 15] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 15] & 0x3L) << 16)
+            | ((buf[offset + 16] & 0xFFL) << 8)
+            | (buf[offset + 17] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth19(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 14) & 0x1F));
+    buf[3] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 17) & 0x3));
+    buf[5] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 12) & 0x7F));
+    buf[8] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[9] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 15) & 0xF));
+    buf[10] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 18) & 0x1));
+    buf[12] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[13] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[14] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 13) & 0x3F));
+    buf[15] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[16] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 16) & 0x7));
+    buf[17] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[18] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth19(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 11)
+            | ((buf[offset + 1] & 0xFFL) << 3)
+            | ((buf[offset + 2] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x1FL) << 14)
+            | ((buf[offset + 3] & 0xFFL) << 6)
+            | ((buf[offset + 4] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 4] & 0x3L) << 17)
+            | ((buf[offset + 5] & 0xFFL) << 9)
+            | ((buf[offset + 6] & 0xFFL) << 1)
+            | ((buf[offset + 7] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 7] & 0x7FL) << 12)
+            | ((buf[offset + 8] & 0xFFL) << 4)
+            | ((buf[offset + 9] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 9] & 0xFL) << 15)
+            | ((buf[offset + 10] & 0xFFL) << 7)
+            | ((buf[offset + 11] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 11] & 0x1L) << 18)
+            | ((buf[offset + 12] & 0xFFL) << 10)
+            | ((buf[offset + 13] & 0xFFL) << 2)
+            | ((buf[offset + 14] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 14] & 0x3FL) << 13)
+            | ((buf[offset + 15] & 0xFFL) << 5)
+            | ((buf[offset + 16] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 16] & 0x7L) << 16)
+            | ((buf[offset + 17] & 0xFFL) << 8)
+            | (buf[offset + 18] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth20(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 16) & 0xF));
+    buf[3] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[4] = (byte) ((values[offset + 1] & 0xFF));
+    buf[5] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 16) & 0xF));
+    buf[8] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[9] = (byte) ((values[offset + 3] & 0xFF));
+    buf[10] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 16) & 0xF));
+    buf[13] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 5] & 0xFF));
+    buf[15] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[16] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[17] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 16) & 0xF));
+    buf[18] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[19] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth20(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 12)
+            | ((buf[offset + 1] & 0xFFL) << 4)
+            | ((buf[offset + 2] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0xFL) << 16)
+            | ((buf[offset + 3] & 0xFFL) << 8)
+            | (buf[offset + 4] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0xFFL) << 12)
+            | ((buf[offset + 6] & 0xFFL) << 4)
+            | ((buf[offset + 7] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 7] & 0xFL) << 16)
+            | ((buf[offset + 8] & 0xFFL) << 8)
+            | (buf[offset + 9] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 10] & 0xFFL) << 12)
+            | ((buf[offset + 11] & 0xFFL) << 4)
+            | ((buf[offset + 12] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 12] & 0xFL) << 16)
+            | ((buf[offset + 13] & 0xFFL) << 8)
+            | (buf[offset + 14] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 15] & 0xFFL) << 12)
+            | ((buf[offset + 16] & 0xFFL) << 4)
+            | ((buf[offset + 17] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 17] & 0xFL) << 16)
+            | ((buf[offset + 18] & 0xFFL) << 8)
+            | (buf[offset + 19] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth21(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 18) & 0x7));
+    buf[3] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 15) & 0x3F));
+    buf[6] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 20) & 0x1));
+    buf[8] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[9] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 17) & 0xF));
+    buf[11] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 14) & 0x7F));
+    buf[14] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[15] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 19) & 0x3));
+    buf[16] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[17] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[18] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 16) & 0x1F));
+    buf[19] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth21(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 13)
+            | ((buf[offset + 1] & 0xFFL) << 5)
+            | ((buf[offset + 2] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x7L) << 18)
+            | ((buf[offset + 3] & 0xFFL) << 10)
+            | ((buf[offset + 4] & 0xFFL) << 2)
+            | ((buf[offset + 5] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0x3FL) << 15)
+            | ((buf[offset + 6] & 0xFFL) << 7)
+            | ((buf[offset + 7] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 7] & 0x1L) << 20)
+            | ((buf[offset + 8] & 0xFFL) << 12)
+            | ((buf[offset + 9] & 0xFFL) << 4)
+            | ((buf[offset + 10] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 10] & 0xFL) << 17)
+            | ((buf[offset + 11] & 0xFFL) << 9)
+            | ((buf[offset + 12] & 0xFFL) << 1)
+            | ((buf[offset + 13] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 13] & 0x7FL) << 14)
+            | ((buf[offset + 14] & 0xFFL) << 6)
+            | ((buf[offset + 15] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 15] & 0x3L) << 19)
+            | ((buf[offset + 16] & 0xFFL) << 11)
+            | ((buf[offset + 17] & 0xFFL) << 3)
+            | ((buf[offset + 18] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 18] & 0x1FL) << 16)
+            | ((buf[offset + 19] & 0xFFL) << 8)
+            | (buf[offset + 20] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth22(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 20) & 0x3));
+    buf[3] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 18) & 0xF));
+    buf[6] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 16) & 0x3F));
+    buf[9] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[10] = (byte) ((values[offset + 3] & 0xFF));
+    buf[11] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 20) & 0x3));
+    buf[14] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[15] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[16] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 18) & 0xF));
+    buf[17] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[18] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[19] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 16) & 0x3F));
+    buf[20] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[21] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth22(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 14)
+            | ((buf[offset + 1] & 0xFFL) << 6)
+            | ((buf[offset + 2] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x3L) << 20)
+            | ((buf[offset + 3] & 0xFFL) << 12)
+            | ((buf[offset + 4] & 0xFFL) << 4)
+            | ((buf[offset + 5] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0xFL) << 18)
+            | ((buf[offset + 6] & 0xFFL) << 10)
+            | ((buf[offset + 7] & 0xFFL) << 2)
+            | ((buf[offset + 8] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 8] & 0x3FL) << 16)
+            | ((buf[offset + 9] & 0xFFL) << 8)
+            | (buf[offset + 10] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 11] & 0xFFL) << 14)
+            | ((buf[offset + 12] & 0xFFL) << 6)
+            | ((buf[offset + 13] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 13] & 0x3L) << 20)
+            | ((buf[offset + 14] & 0xFFL) << 12)
+            | ((buf[offset + 15] & 0xFFL) << 4)
+            | ((buf[offset + 16] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 16] & 0xFL) << 18)
+            | ((buf[offset + 17] & 0xFFL) << 10)
+            | ((buf[offset + 18] & 0xFFL) << 2)
+            | ((buf[offset + 19] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 19] & 0x3FL) << 16)
+            | ((buf[offset + 20] & 0xFFL) << 8)
+            | (buf[offset + 21] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth23(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[2] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 22) & 0x1));
+    buf[3] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 21) & 0x3));
+    buf[6] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 20) & 0x7));
+    buf[9] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[10] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[11] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 19) & 0xF));
+    buf[12] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 18) & 0x1F));
+    buf[15] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[16] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[17] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 17) & 0x3F));
+    buf[18] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[19] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[20] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 16) & 0x7F));
+    buf[21] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[22] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth23(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 15)
+            | ((buf[offset + 1] & 0xFFL) << 7)
+            | ((buf[offset + 2] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 2] & 0x1L) << 22)
+            | ((buf[offset + 3] & 0xFFL) << 14)
+            | ((buf[offset + 4] & 0xFFL) << 6)
+            | ((buf[offset + 5] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 5] & 0x3L) << 21)
+            | ((buf[offset + 6] & 0xFFL) << 13)
+            | ((buf[offset + 7] & 0xFFL) << 5)
+            | ((buf[offset + 8] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 8] & 0x7L) << 20)
+            | ((buf[offset + 9] & 0xFFL) << 12)
+            | ((buf[offset + 10] & 0xFFL) << 4)
+            | ((buf[offset + 11] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 11] & 0xFL) << 19)
+            | ((buf[offset + 12] & 0xFFL) << 11)
+            | ((buf[offset + 13] & 0xFFL) << 3)
+            | ((buf[offset + 14] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 14] & 0x1FL) << 18)
+            | ((buf[offset + 15] & 0xFFL) << 10)
+            | ((buf[offset + 16] & 0xFFL) << 2)
+            | ((buf[offset + 17] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 17] & 0x3FL) << 17)
+            | ((buf[offset + 18] & 0xFFL) << 9)
+            | ((buf[offset + 19] & 0xFFL) << 1)
+            | ((buf[offset + 20] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 20] & 0x7FL) << 16)
+            | ((buf[offset + 21] & 0xFFL) << 8)
+            | (buf[offset + 22] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth24(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[2] = (byte) ((values[offset] & 0xFF));
+    buf[3] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[5] = (byte) ((values[offset + 1] & 0xFF));
+    buf[6] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[8] = (byte) ((values[offset + 2] & 0xFF));
+    buf[9] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[10] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 3] & 0xFF));
+    buf[12] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 4] & 0xFF));
+    buf[15] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[16] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[17] = (byte) ((values[offset + 5] & 0xFF));
+    buf[18] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[19] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 6] & 0xFF));
+    buf[21] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[22] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[23] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth24(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 16)
+            | ((buf[offset + 1] & 0xFFL) << 8)
+            | (buf[offset + 2] & 0xFFL);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0xFFL) << 16)
+            | ((buf[offset + 4] & 0xFFL) << 8)
+            | (buf[offset + 5] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0xFFL) << 16)
+            | ((buf[offset + 7] & 0xFFL) << 8)
+            | (buf[offset + 8] & 0xFFL);
+    values[valuesOffset + 3] =
+        ((buf[offset + 9] & 0xFFL) << 16)
+            | ((buf[offset + 10] & 0xFFL) << 8)
+            | (buf[offset + 11] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 12] & 0xFFL) << 16)
+            | ((buf[offset + 13] & 0xFFL) << 8)
+            | (buf[offset + 14] & 0xFFL);
+    values[valuesOffset + 5] =
+        ((buf[offset + 15] & 0xFFL) << 16)
+            | ((buf[offset + 16] & 0xFFL) << 8)
+            | (buf[offset + 17] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 18] & 0xFFL) << 16)
+            | ((buf[offset + 19] & 0xFFL) << 8)
+            | (buf[offset + 20] & 0xFFL);
+    values[valuesOffset + 7] =
+        ((buf[offset + 21] & 0xFFL) << 16)
+            | ((buf[offset + 22] & 0xFFL) << 8)
+            | (buf[offset + 23] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth25(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 17) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 18) & 0x7F));
+    buf[4] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 19) & 0x3F));
+    buf[7] = (byte) (((values[offset + 2] >>> 11) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 20) & 0x1F));
+    buf[10] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[11] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 21) & 0xF));
+    buf[13] = (byte) (((values[offset + 4] >>> 13) & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 22) & 0x7));
+    buf[16] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[17] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[18] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 23) & 0x3));
+    buf[19] = (byte) (((values[offset + 6] >>> 15) & 0xFF));
+    buf[20] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[21] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 24) & 0x1));
+    buf[22] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[23] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[24] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth25(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 17)
+            | ((buf[offset + 1] & 0xFFL) << 9)
+            | ((buf[offset + 2] & 0xFFL) << 1)
+            | ((buf[offset + 3] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x7FL) << 18)
+            | ((buf[offset + 4] & 0xFFL) << 10)
+            | ((buf[offset + 5] & 0xFFL) << 2)
+            | ((buf[offset + 6] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0x3FL) << 19)
+            | ((buf[offset + 7] & 0xFFL) << 11)
+            | ((buf[offset + 8] & 0xFFL) << 3)
+            | ((buf[offset + 9] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 9] & 0x1FL) << 20)
+            | ((buf[offset + 10] & 0xFFL) << 12)
+            | ((buf[offset + 11] & 0xFFL) << 4)
+            | ((buf[offset + 12] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 12] & 0xFL) << 21)
+            | ((buf[offset + 13] & 0xFFL) << 13)
+            | ((buf[offset + 14] & 0xFFL) << 5)
+            | ((buf[offset + 15] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 15] & 0x7L) << 22)
+            | ((buf[offset + 16] & 0xFFL) << 14)
+            | ((buf[offset + 17] & 0xFFL) << 6)
+            | ((buf[offset + 18] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 18] & 0x3L) << 23)
+            | ((buf[offset + 19] & 0xFFL) << 15)
+            | ((buf[offset + 20] & 0xFFL) << 7)
+            | ((buf[offset + 21] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 21] & 0x1L) << 24)
+            | ((buf[offset + 22] & 0xFFL) << 16)
+            | ((buf[offset + 23] & 0xFFL) << 8)
+            | (buf[offset + 24] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth26(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 18) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 20) & 0x3F));
+    buf[4] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 22) & 0xF));
+    buf[7] = (byte) (((values[offset + 2] >>> 14) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 24) & 0x3));
+    buf[10] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[11] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[12] = (byte) ((values[offset + 3] & 0xFF));
+    buf[13] = (byte) (((values[offset + 4] >>> 18) & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 20) & 0x3F));
+    buf[17] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[18] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[19] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 22) & 0xF));
+    buf[20] = (byte) (((values[offset + 6] >>> 14) & 0xFF));
+    buf[21] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[22] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 24) & 0x3));
+    buf[23] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[24] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[25] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth26(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 18)
+            | ((buf[offset + 1] & 0xFFL) << 10)
+            | ((buf[offset + 2] & 0xFFL) << 2)
+            | ((buf[offset + 3] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x3FL) << 20)
+            | ((buf[offset + 4] & 0xFFL) << 12)
+            | ((buf[offset + 5] & 0xFFL) << 4)
+            | ((buf[offset + 6] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0xFL) << 22)
+            | ((buf[offset + 7] & 0xFFL) << 14)
+            | ((buf[offset + 8] & 0xFFL) << 6)
+            | ((buf[offset + 9] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 9] & 0x3L) << 24)
+            | ((buf[offset + 10] & 0xFFL) << 16)
+            | ((buf[offset + 11] & 0xFFL) << 8)
+            | (buf[offset + 12] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 13] & 0xFFL) << 18)
+            | ((buf[offset + 14] & 0xFFL) << 10)
+            | ((buf[offset + 15] & 0xFFL) << 2)
+            | ((buf[offset + 16] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 16] & 0x3FL) << 20)
+            | ((buf[offset + 17] & 0xFFL) << 12)
+            | ((buf[offset + 18] & 0xFFL) << 4)
+            | ((buf[offset + 19] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 19] & 0xFL) << 22)
+            | ((buf[offset + 20] & 0xFFL) << 14)
+            | ((buf[offset + 21] & 0xFFL) << 6)
+            | ((buf[offset + 22] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 22] & 0x3L) << 24)
+            | ((buf[offset + 23] & 0xFFL) << 16)
+            | ((buf[offset + 24] & 0xFFL) << 8)
+            | (buf[offset + 25] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth27(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 19) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 22) & 0x1F));
+    buf[4] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 25) & 0x3));
+    buf[7] = (byte) (((values[offset + 2] >>> 17) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 20) & 0x7F));
+    buf[11] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 23) & 0xF));
+    buf[14] = (byte) (((values[offset + 4] >>> 15) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 26) & 0x1));
+    buf[17] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[18] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[19] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 21) & 0x3F));
+    buf[21] = (byte) (((values[offset + 6] >>> 13) & 0xFF));
+    buf[22] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[23] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 24) & 0x7));
+    buf[24] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[25] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[26] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth27(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 19)
+            | ((buf[offset + 1] & 0xFFL) << 11)
+            | ((buf[offset + 2] & 0xFFL) << 3)
+            | ((buf[offset + 3] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x1FL) << 22)
+            | ((buf[offset + 4] & 0xFFL) << 14)
+            | ((buf[offset + 5] & 0xFFL) << 6)
+            | ((buf[offset + 6] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 6] & 0x3L) << 25)
+            | ((buf[offset + 7] & 0xFFL) << 17)
+            | ((buf[offset + 8] & 0xFFL) << 9)
+            | ((buf[offset + 9] & 0xFFL) << 1)
+            | ((buf[offset + 10] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 10] & 0x7FL) << 20)
+            | ((buf[offset + 11] & 0xFFL) << 12)
+            | ((buf[offset + 12] & 0xFFL) << 4)
+            | ((buf[offset + 13] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 13] & 0xFL) << 23)
+            | ((buf[offset + 14] & 0xFFL) << 15)
+            | ((buf[offset + 15] & 0xFFL) << 7)
+            | ((buf[offset + 16] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 16] & 0x1L) << 26)
+            | ((buf[offset + 17] & 0xFFL) << 18)
+            | ((buf[offset + 18] & 0xFFL) << 10)
+            | ((buf[offset + 19] & 0xFFL) << 2)
+            | ((buf[offset + 20] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 20] & 0x3FL) << 21)
+            | ((buf[offset + 21] & 0xFFL) << 13)
+            | ((buf[offset + 22] & 0xFFL) << 5)
+            | ((buf[offset + 23] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 23] & 0x7L) << 24)
+            | ((buf[offset + 24] & 0xFFL) << 16)
+            | ((buf[offset + 25] & 0xFFL) << 8)
+            | (buf[offset + 26] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth28(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 20) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 24) & 0xF));
+    buf[4] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[6] = (byte) ((values[offset + 1] & 0xFF));
+    buf[7] = (byte) (((values[offset + 2] >>> 20) & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 24) & 0xF));
+    buf[11] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[13] = (byte) ((values[offset + 3] & 0xFF));
+    buf[14] = (byte) (((values[offset + 4] >>> 20) & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 24) & 0xF));
+    buf[18] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[19] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 5] & 0xFF));
+    buf[21] = (byte) (((values[offset + 6] >>> 20) & 0xFF));
+    buf[22] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[23] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 24) & 0xF));
+    buf[25] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[26] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[27] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth28(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 20)
+            | ((buf[offset + 1] & 0xFFL) << 12)
+            | ((buf[offset + 2] & 0xFFL) << 4)
+            | ((buf[offset + 3] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0xFL) << 24)
+            | ((buf[offset + 4] & 0xFFL) << 16)
+            | ((buf[offset + 5] & 0xFFL) << 8)
+            | (buf[offset + 6] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0xFFL) << 20)
+            | ((buf[offset + 8] & 0xFFL) << 12)
+            | ((buf[offset + 9] & 0xFFL) << 4)
+            | ((buf[offset + 10] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 10] & 0xFL) << 24)
+            | ((buf[offset + 11] & 0xFFL) << 16)
+            | ((buf[offset + 12] & 0xFFL) << 8)
+            | (buf[offset + 13] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 14] & 0xFFL) << 20)
+            | ((buf[offset + 15] & 0xFFL) << 12)
+            | ((buf[offset + 16] & 0xFFL) << 4)
+            | ((buf[offset + 17] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 17] & 0xFL) << 24)
+            | ((buf[offset + 18] & 0xFFL) << 16)
+            | ((buf[offset + 19] & 0xFFL) << 8)
+            | (buf[offset + 20] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 21] & 0xFFL) << 20)
+            | ((buf[offset + 22] & 0xFFL) << 12)
+            | ((buf[offset + 23] & 0xFFL) << 4)
+            | ((buf[offset + 24] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 24] & 0xFL) << 24)
+            | ((buf[offset + 25] & 0xFFL) << 16)
+            | ((buf[offset + 26] & 0xFFL) << 8)
+            | (buf[offset + 27] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth29(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 21) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 26) & 0x7));
+    buf[4] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 23) & 0x3F));
+    buf[8] = (byte) (((values[offset + 2] >>> 15) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 28) & 0x1));
+    buf[11] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 25) & 0xF));
+    buf[15] = (byte) (((values[offset + 4] >>> 17) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 22) & 0x7F));
+    buf[19] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 27) & 0x3));
+    buf[22] = (byte) (((values[offset + 6] >>> 19) & 0xFF));
+    buf[23] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 24) & 0x1F));
+    buf[26] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[27] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[28] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth29(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 21)
+            | ((buf[offset + 1] & 0xFFL) << 13)
+            | ((buf[offset + 2] & 0xFFL) << 5)
+            | ((buf[offset + 3] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x7L) << 26)
+            | ((buf[offset + 4] & 0xFFL) << 18)
+            | ((buf[offset + 5] & 0xFFL) << 10)
+            | ((buf[offset + 6] & 0xFFL) << 2)
+            | ((buf[offset + 7] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0x3FL) << 23)
+            | ((buf[offset + 8] & 0xFFL) << 15)
+            | ((buf[offset + 9] & 0xFFL) << 7)
+            | ((buf[offset + 10] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 10] & 0x1L) << 28)
+            | ((buf[offset + 11] & 0xFFL) << 20)
+            | ((buf[offset + 12] & 0xFFL) << 12)
+            | ((buf[offset + 13] & 0xFFL) << 4)
+            | ((buf[offset + 14] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 14] & 0xFL) << 25)
+            | ((buf[offset + 15] & 0xFFL) << 17)
+            | ((buf[offset + 16] & 0xFFL) << 9)
+            | ((buf[offset + 17] & 0xFFL) << 1)
+            | ((buf[offset + 18] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 18] & 0x7FL) << 22)
+            | ((buf[offset + 19] & 0xFFL) << 14)
+            | ((buf[offset + 20] & 0xFFL) << 6)
+            | ((buf[offset + 21] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 21] & 0x3L) << 27)
+            | ((buf[offset + 22] & 0xFFL) << 19)
+            | ((buf[offset + 23] & 0xFFL) << 11)
+            | ((buf[offset + 24] & 0xFFL) << 3)
+            | ((buf[offset + 25] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 25] & 0x1FL) << 24)
+            | ((buf[offset + 26] & 0xFFL) << 16)
+            | ((buf[offset + 27] & 0xFFL) << 8)
+            | (buf[offset + 28] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth30(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 22) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 28) & 0x3));
+    buf[4] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 26) & 0xF));
+    buf[8] = (byte) (((values[offset + 2] >>> 18) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 24) & 0x3F));
+    buf[12] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 3] & 0xFF));
+    buf[15] = (byte) (((values[offset + 4] >>> 22) & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 28) & 0x3));
+    buf[19] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 26) & 0xF));
+    buf[23] = (byte) (((values[offset + 6] >>> 18) & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 24) & 0x3F));
+    buf[27] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[28] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[29] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth30(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 22)
+            | ((buf[offset + 1] & 0xFFL) << 14)
+            | ((buf[offset + 2] & 0xFFL) << 6)
+            | ((buf[offset + 3] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x3L) << 28)
+            | ((buf[offset + 4] & 0xFFL) << 20)
+            | ((buf[offset + 5] & 0xFFL) << 12)
+            | ((buf[offset + 6] & 0xFFL) << 4)
+            | ((buf[offset + 7] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0xFL) << 26)
+            | ((buf[offset + 8] & 0xFFL) << 18)
+            | ((buf[offset + 9] & 0xFFL) << 10)
+            | ((buf[offset + 10] & 0xFFL) << 2)
+            | ((buf[offset + 11] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 11] & 0x3FL) << 24)
+            | ((buf[offset + 12] & 0xFFL) << 16)
+            | ((buf[offset + 13] & 0xFFL) << 8)
+            | (buf[offset + 14] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 15] & 0xFFL) << 22)
+            | ((buf[offset + 16] & 0xFFL) << 14)
+            | ((buf[offset + 17] & 0xFFL) << 6)
+            | ((buf[offset + 18] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 18] & 0x3L) << 28)
+            | ((buf[offset + 19] & 0xFFL) << 20)
+            | ((buf[offset + 20] & 0xFFL) << 12)
+            | ((buf[offset + 21] & 0xFFL) << 4)
+            | ((buf[offset + 22] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 22] & 0xFL) << 26)
+            | ((buf[offset + 23] & 0xFFL) << 18)
+            | ((buf[offset + 24] & 0xFFL) << 10)
+            | ((buf[offset + 25] & 0xFFL) << 2)
+            | ((buf[offset + 26] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 26] & 0x3FL) << 24)
+            | ((buf[offset + 27] & 0xFFL) << 16)
+            | ((buf[offset + 28] & 0xFFL) << 8)
+            | (buf[offset + 29] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth31(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 23) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[3] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 30) & 0x1));
+    buf[4] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 29) & 0x3));
+    buf[8] = (byte) (((values[offset + 2] >>> 21) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 28) & 0x7));
+    buf[12] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 27) & 0xF));
+    buf[16] = (byte) (((values[offset + 4] >>> 19) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 26) & 0x1F));
+    buf[20] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[23] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 25) & 0x3F));
+    buf[24] = (byte) (((values[offset + 6] >>> 17) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[27] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 24) & 0x7F));
+    buf[28] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[29] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[30] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth31(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 23)
+            | ((buf[offset + 1] & 0xFFL) << 15)
+            | ((buf[offset + 2] & 0xFFL) << 7)
+            | ((buf[offset + 3] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 3] & 0x1L) << 30)
+            | ((buf[offset + 4] & 0xFFL) << 22)
+            | ((buf[offset + 5] & 0xFFL) << 14)
+            | ((buf[offset + 6] & 0xFFL) << 6)
+            | ((buf[offset + 7] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 7] & 0x3L) << 29)
+            | ((buf[offset + 8] & 0xFFL) << 21)
+            | ((buf[offset + 9] & 0xFFL) << 13)
+            | ((buf[offset + 10] & 0xFFL) << 5)
+            | ((buf[offset + 11] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 11] & 0x7L) << 28)
+            | ((buf[offset + 12] & 0xFFL) << 20)
+            | ((buf[offset + 13] & 0xFFL) << 12)
+            | ((buf[offset + 14] & 0xFFL) << 4)
+            | ((buf[offset + 15] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 15] & 0xFL) << 27)
+            | ((buf[offset + 16] & 0xFFL) << 19)
+            | ((buf[offset + 17] & 0xFFL) << 11)
+            | ((buf[offset + 18] & 0xFFL) << 3)
+            | ((buf[offset + 19] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 19] & 0x1FL) << 26)
+            | ((buf[offset + 20] & 0xFFL) << 18)
+            | ((buf[offset + 21] & 0xFFL) << 10)
+            | ((buf[offset + 22] & 0xFFL) << 2)
+            | ((buf[offset + 23] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 23] & 0x3FL) << 25)
+            | ((buf[offset + 24] & 0xFFL) << 17)
+            | ((buf[offset + 25] & 0xFFL) << 9)
+            | ((buf[offset + 26] & 0xFFL) << 1)
+            | ((buf[offset + 27] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 27] & 0x7FL) << 24)
+            | ((buf[offset + 28] & 0xFFL) << 16)
+            | ((buf[offset + 29] & 0xFFL) << 8)
+            | (buf[offset + 30] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth32(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 24) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[3] = (byte) ((values[offset] & 0xFF));
+    buf[4] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[7] = (byte) ((values[offset + 1] & 0xFF));
+    buf[8] = (byte) (((values[offset + 2] >>> 24) & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 2] & 0xFF));
+    buf[12] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[13] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[15] = (byte) ((values[offset + 3] & 0xFF));
+    buf[16] = (byte) (((values[offset + 4] >>> 24) & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[19] = (byte) ((values[offset + 4] & 0xFF));
+    buf[20] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[21] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[23] = (byte) ((values[offset + 5] & 0xFF));
+    buf[24] = (byte) (((values[offset + 6] >>> 24) & 0xFF));
+    buf[25] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[27] = (byte) ((values[offset + 6] & 0xFF));
+    buf[28] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[29] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[30] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[31] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth32(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 24)
+            | ((buf[offset + 1] & 0xFFL) << 16)
+            | ((buf[offset + 2] & 0xFFL) << 8)
+            | (buf[offset + 3] & 0xFFL);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0xFFL) << 24)
+            | ((buf[offset + 5] & 0xFFL) << 16)
+            | ((buf[offset + 6] & 0xFFL) << 8)
+            | (buf[offset + 7] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 8] & 0xFFL) << 24)
+            | ((buf[offset + 9] & 0xFFL) << 16)
+            | ((buf[offset + 10] & 0xFFL) << 8)
+            | (buf[offset + 11] & 0xFFL);
+    values[valuesOffset + 3] =
+        ((buf[offset + 12] & 0xFFL) << 24)
+            | ((buf[offset + 13] & 0xFFL) << 16)
+            | ((buf[offset + 14] & 0xFFL) << 8)
+            | (buf[offset + 15] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 16] & 0xFFL) << 24)
+            | ((buf[offset + 17] & 0xFFL) << 16)
+            | ((buf[offset + 18] & 0xFFL) << 8)
+            | (buf[offset + 19] & 0xFFL);
+    values[valuesOffset + 5] =
+        ((buf[offset + 20] & 0xFFL) << 24)
+            | ((buf[offset + 21] & 0xFFL) << 16)
+            | ((buf[offset + 22] & 0xFFL) << 8)
+            | (buf[offset + 23] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 24] & 0xFFL) << 24)
+            | ((buf[offset + 25] & 0xFFL) << 16)
+            | ((buf[offset + 26] & 0xFFL) << 8)
+            | (buf[offset + 27] & 0xFFL);
+    values[valuesOffset + 7] =
+        ((buf[offset + 28] & 0xFFL) << 24)
+            | ((buf[offset + 29] & 0xFFL) << 16)
+            | ((buf[offset + 30] & 0xFFL) << 8)
+            | (buf[offset + 31] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth33(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 25) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 17) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 26) & 0x7F));
+    buf[5] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 27) & 0x3F));
+    buf[9] = (byte) (((values[offset + 2] >>> 19) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 11) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 28) & 0x1F));
+    buf[13] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 29) & 0xF));
+    buf[17] = (byte) (((values[offset + 4] >>> 21) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 13) & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 30) & 0x7));
+    buf[21] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[22] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[23] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[24] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 31) & 0x3));
+    buf[25] = (byte) (((values[offset + 6] >>> 23) & 0xFF));
+    buf[26] = (byte) (((values[offset + 6] >>> 15) & 0xFF));
+    buf[27] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[28] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 32) & 0x1));
+    buf[29] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[30] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[31] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[32] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth33(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 25)
+            | ((buf[offset + 1] & 0xFFL) << 17)
+            | ((buf[offset + 2] & 0xFFL) << 9)
+            | ((buf[offset + 3] & 0xFFL) << 1)
+            | ((buf[offset + 4] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0x7FL) << 26)
+            | ((buf[offset + 5] & 0xFFL) << 18)
+            | ((buf[offset + 6] & 0xFFL) << 10)
+            | ((buf[offset + 7] & 0xFFL) << 2)
+            | ((buf[offset + 8] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 8] & 0x3FL) << 27)
+            | ((buf[offset + 9] & 0xFFL) << 19)
+            | ((buf[offset + 10] & 0xFFL) << 11)
+            | ((buf[offset + 11] & 0xFFL) << 3)
+            | ((buf[offset + 12] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 12] & 0x1FL) << 28)
+            | ((buf[offset + 13] & 0xFFL) << 20)
+            | ((buf[offset + 14] & 0xFFL) << 12)
+            | ((buf[offset + 15] & 0xFFL) << 4)
+            | ((buf[offset + 16] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 16] & 0xFL) << 29)
+            | ((buf[offset + 17] & 0xFFL) << 21)
+            | ((buf[offset + 18] & 0xFFL) << 13)
+            | ((buf[offset + 19] & 0xFFL) << 5)
+            | ((buf[offset + 20] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 20] & 0x7L) << 30)
+            | ((buf[offset + 21] & 0xFFL) << 22)
+            | ((buf[offset + 22] & 0xFFL) << 14)
+            | ((buf[offset + 23] & 0xFFL) << 6)
+            | ((buf[offset + 24] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 24] & 0x3L) << 31)
+            | ((buf[offset + 25] & 0xFFL) << 23)
+            | ((buf[offset + 26] & 0xFFL) << 15)
+            | ((buf[offset + 27] & 0xFFL) << 7)
+            | ((buf[offset + 28] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 28] & 0x1L) << 32)
+            | ((buf[offset + 29] & 0xFFL) << 24)
+            | ((buf[offset + 30] & 0xFFL) << 16)
+            | ((buf[offset + 31] & 0xFFL) << 8)
+            | (buf[offset + 32] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth34(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 26) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 18) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 28) & 0x3F));
+    buf[5] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 30) & 0xF));
+    buf[9] = (byte) (((values[offset + 2] >>> 22) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 14) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 32) & 0x3));
+    buf[13] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[14] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[16] = (byte) ((values[offset + 3] & 0xFF));
+    buf[17] = (byte) (((values[offset + 4] >>> 26) & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 18) & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 28) & 0x3F));
+    buf[22] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[23] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[24] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[25] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 30) & 0xF));
+    buf[26] = (byte) (((values[offset + 6] >>> 22) & 0xFF));
+    buf[27] = (byte) (((values[offset + 6] >>> 14) & 0xFF));
+    buf[28] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[29] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 32) & 0x3));
+    buf[30] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[31] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[32] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[33] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth34(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 26)
+            | ((buf[offset + 1] & 0xFFL) << 18)
+            | ((buf[offset + 2] & 0xFFL) << 10)
+            | ((buf[offset + 3] & 0xFFL) << 2)
+            | ((buf[offset + 4] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0x3FL) << 28)
+            | ((buf[offset + 5] & 0xFFL) << 20)
+            | ((buf[offset + 6] & 0xFFL) << 12)
+            | ((buf[offset + 7] & 0xFFL) << 4)
+            | ((buf[offset + 8] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 8] & 0xFL) << 30)
+            | ((buf[offset + 9] & 0xFFL) << 22)
+            | ((buf[offset + 10] & 0xFFL) << 14)
+            | ((buf[offset + 11] & 0xFFL) << 6)
+            | ((buf[offset + 12] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 12] & 0x3L) << 32)
+            | ((buf[offset + 13] & 0xFFL) << 24)
+            | ((buf[offset + 14] & 0xFFL) << 16)
+            | ((buf[offset + 15] & 0xFFL) << 8)
+            | (buf[offset + 16] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 17] & 0xFFL) << 26)
+            | ((buf[offset + 18] & 0xFFL) << 18)
+            | ((buf[offset + 19] & 0xFFL) << 10)
+            | ((buf[offset + 20] & 0xFFL) << 2)
+            | ((buf[offset + 21] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 21] & 0x3FL) << 28)
+            | ((buf[offset + 22] & 0xFFL) << 20)
+            | ((buf[offset + 23] & 0xFFL) << 12)
+            | ((buf[offset + 24] & 0xFFL) << 4)
+            | ((buf[offset + 25] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 25] & 0xFL) << 30)
+            | ((buf[offset + 26] & 0xFFL) << 22)
+            | ((buf[offset + 27] & 0xFFL) << 14)
+            | ((buf[offset + 28] & 0xFFL) << 6)
+            | ((buf[offset + 29] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 29] & 0x3L) << 32)
+            | ((buf[offset + 30] & 0xFFL) << 24)
+            | ((buf[offset + 31] & 0xFFL) << 16)
+            | ((buf[offset + 32] & 0xFFL) << 8)
+            | (buf[offset + 33] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth35(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 27) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 19) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 30) & 0x1F));
+    buf[5] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 33) & 0x3));
+    buf[9] = (byte) (((values[offset + 2] >>> 25) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 17) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 28) & 0x7F));
+    buf[14] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 31) & 0xF));
+    buf[18] = (byte) (((values[offset + 4] >>> 23) & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] >>> 15) & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 34) & 0x1));
+    buf[22] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[23] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[24] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[25] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[26] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 29) & 0x3F));
+    buf[27] = (byte) (((values[offset + 6] >>> 21) & 0xFF));
+    buf[28] = (byte) (((values[offset + 6] >>> 13) & 0xFF));
+    buf[29] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[30] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 32) & 0x7));
+    buf[31] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[32] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[33] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[34] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth35(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 27)
+            | ((buf[offset + 1] & 0xFFL) << 19)
+            | ((buf[offset + 2] & 0xFFL) << 11)
+            | ((buf[offset + 3] & 0xFFL) << 3)
+            | ((buf[offset + 4] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0x1FL) << 30)
+            | ((buf[offset + 5] & 0xFFL) << 22)
+            | ((buf[offset + 6] & 0xFFL) << 14)
+            | ((buf[offset + 7] & 0xFFL) << 6)
+            | ((buf[offset + 8] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 8] & 0x3L) << 33)
+            | ((buf[offset + 9] & 0xFFL) << 25)
+            | ((buf[offset + 10] & 0xFFL) << 17)
+            | ((buf[offset + 11] & 0xFFL) << 9)
+            | ((buf[offset + 12] & 0xFFL) << 1)
+            | ((buf[offset + 13] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 13] & 0x7FL) << 28)
+            | ((buf[offset + 14] & 0xFFL) << 20)
+            | ((buf[offset + 15] & 0xFFL) << 12)
+            | ((buf[offset + 16] & 0xFFL) << 4)
+            | ((buf[offset + 17] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 17] & 0xFL) << 31)
+            | ((buf[offset + 18] & 0xFFL) << 23)
+            | ((buf[offset + 19] & 0xFFL) << 15)
+            | ((buf[offset + 20] & 0xFFL) << 7)
+            | ((buf[offset + 21] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 21] & 0x1L) << 34)
+            | ((buf[offset + 22] & 0xFFL) << 26)
+            | ((buf[offset + 23] & 0xFFL) << 18)
+            | ((buf[offset + 24] & 0xFFL) << 10)
+            | ((buf[offset + 25] & 0xFFL) << 2)
+            | ((buf[offset + 26] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 26] & 0x3FL) << 29)
+            | ((buf[offset + 27] & 0xFFL) << 21)
+            | ((buf[offset + 28] & 0xFFL) << 13)
+            | ((buf[offset + 29] & 0xFFL) << 5)
+            | ((buf[offset + 30] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 30] & 0x7L) << 32)
+            | ((buf[offset + 31] & 0xFFL) << 24)
+            | ((buf[offset + 32] & 0xFFL) << 16)
+            | ((buf[offset + 33] & 0xFFL) << 8)
+            | (buf[offset + 34] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth36(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 28) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 20) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 32) & 0xF));
+    buf[5] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[8] = (byte) ((values[offset + 1] & 0xFF));
+    buf[9] = (byte) (((values[offset + 2] >>> 28) & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 20) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 32) & 0xF));
+    buf[14] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[17] = (byte) ((values[offset + 3] & 0xFF));
+    buf[18] = (byte) (((values[offset + 4] >>> 28) & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] >>> 20) & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 32) & 0xF));
+    buf[23] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[24] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[25] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[26] = (byte) ((values[offset + 5] & 0xFF));
+    buf[27] = (byte) (((values[offset + 6] >>> 28) & 0xFF));
+    buf[28] = (byte) (((values[offset + 6] >>> 20) & 0xFF));
+    buf[29] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[30] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[31] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 32) & 0xF));
+    buf[32] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[33] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[34] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[35] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth36(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 28)
+            | ((buf[offset + 1] & 0xFFL) << 20)
+            | ((buf[offset + 2] & 0xFFL) << 12)
+            | ((buf[offset + 3] & 0xFFL) << 4)
+            | ((buf[offset + 4] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0xFL) << 32)
+            | ((buf[offset + 5] & 0xFFL) << 24)
+            | ((buf[offset + 6] & 0xFFL) << 16)
+            | ((buf[offset + 7] & 0xFFL) << 8)
+            | (buf[offset + 8] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 9] & 0xFFL) << 28)
+            | ((buf[offset + 10] & 0xFFL) << 20)
+            | ((buf[offset + 11] & 0xFFL) << 12)
+            | ((buf[offset + 12] & 0xFFL) << 4)
+            | ((buf[offset + 13] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 13] & 0xFL) << 32)
+            | ((buf[offset + 14] & 0xFFL) << 24)
+            | ((buf[offset + 15] & 0xFFL) << 16)
+            | ((buf[offset + 16] & 0xFFL) << 8)
+            | (buf[offset + 17] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 18] & 0xFFL) << 28)
+            | ((buf[offset + 19] & 0xFFL) << 20)
+            | ((buf[offset + 20] & 0xFFL) << 12)
+            | ((buf[offset + 21] & 0xFFL) << 4)
+            | ((buf[offset + 22] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 22] & 0xFL) << 32)
+            | ((buf[offset + 23] & 0xFFL) << 24)
+            | ((buf[offset + 24] & 0xFFL) << 16)
+            | ((buf[offset + 25] & 0xFFL) << 8)
+            | (buf[offset + 26] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 27] & 0xFFL) << 28)
+            | ((buf[offset + 28] & 0xFFL) << 20)
+            | ((buf[offset + 29] & 0xFFL) << 12)
+            | ((buf[offset + 30] & 0xFFL) << 4)
+            | ((buf[offset + 31] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 31] & 0xFL) << 32)
+            | ((buf[offset + 32] & 0xFFL) << 24)
+            | ((buf[offset + 33] & 0xFFL) << 16)
+            | ((buf[offset + 34] & 0xFFL) << 8)
+            | (buf[offset + 35] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth37(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 29) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 21) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 34) & 0x7));
+    buf[5] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 31) & 0x3F));
+    buf[10] = (byte) (((values[offset + 2] >>> 23) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 15) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 36) & 0x1));
+    buf[14] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 33) & 0xF));
+    buf[19] = (byte) (((values[offset + 4] >>> 25) & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] >>> 17) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 30) & 0x7F));
+    buf[24] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[25] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[26] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[27] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 35) & 0x3));
+    buf[28] = (byte) (((values[offset + 6] >>> 27) & 0xFF));
+    buf[29] = (byte) (((values[offset + 6] >>> 19) & 0xFF));
+    buf[30] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[31] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[32] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 32) & 0x1F));
+    buf[33] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[34] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[35] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[36] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth37(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 29)
+            | ((buf[offset + 1] & 0xFFL) << 21)
+            | ((buf[offset + 2] & 0xFFL) << 13)
+            | ((buf[offset + 3] & 0xFFL) << 5)
+            | ((buf[offset + 4] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0x7L) << 34)
+            | ((buf[offset + 5] & 0xFFL) << 26)
+            | ((buf[offset + 6] & 0xFFL) << 18)
+            | ((buf[offset + 7] & 0xFFL) << 10)
+            | ((buf[offset + 8] & 0xFFL) << 2)
+            | ((buf[offset + 9] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 9] & 0x3FL) << 31)
+            | ((buf[offset + 10] & 0xFFL) << 23)
+            | ((buf[offset + 11] & 0xFFL) << 15)
+            | ((buf[offset + 12] & 0xFFL) << 7)
+            | ((buf[offset + 13] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 13] & 0x1L) << 36)
+            | ((buf[offset + 14] & 0xFFL) << 28)
+            | ((buf[offset + 15] & 0xFFL) << 20)
+            | ((buf[offset + 16] & 0xFFL) << 12)
+            | ((buf[offset + 17] & 0xFFL) << 4)
+            | ((buf[offset + 18] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 18] & 0xFL) << 33)
+            | ((buf[offset + 19] & 0xFFL) << 25)
+            | ((buf[offset + 20] & 0xFFL) << 17)
+            | ((buf[offset + 21] & 0xFFL) << 9)
+            | ((buf[offset + 22] & 0xFFL) << 1)
+            | ((buf[offset + 23] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 23] & 0x7FL) << 30)
+            | ((buf[offset + 24] & 0xFFL) << 22)
+            | ((buf[offset + 25] & 0xFFL) << 14)
+            | ((buf[offset + 26] & 0xFFL) << 6)
+            | ((buf[offset + 27] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 27] & 0x3L) << 35)
+            | ((buf[offset + 28] & 0xFFL) << 27)
+            | ((buf[offset + 29] & 0xFFL) << 19)
+            | ((buf[offset + 30] & 0xFFL) << 11)
+            | ((buf[offset + 31] & 0xFFL) << 3)
+            | ((buf[offset + 32] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 32] & 0x1FL) << 32)
+            | ((buf[offset + 33] & 0xFFL) << 24)
+            | ((buf[offset + 34] & 0xFFL) << 16)
+            | ((buf[offset + 35] & 0xFFL) << 8)
+            | (buf[offset + 36] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth38(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 30) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 22) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 36) & 0x3));
+    buf[5] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 34) & 0xF));
+    buf[10] = (byte) (((values[offset + 2] >>> 26) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 18) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 32) & 0x3F));
+    buf[15] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[18] = (byte) ((values[offset + 3] & 0xFF));
+    buf[19] = (byte) (((values[offset + 4] >>> 30) & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] >>> 22) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 36) & 0x3));
+    buf[24] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[25] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[26] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[27] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[28] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 34) & 0xF));
+    buf[29] = (byte) (((values[offset + 6] >>> 26) & 0xFF));
+    buf[30] = (byte) (((values[offset + 6] >>> 18) & 0xFF));
+    buf[31] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[32] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[33] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 32) & 0x3F));
+    buf[34] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[35] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[36] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[37] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth38(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 30)
+            | ((buf[offset + 1] & 0xFFL) << 22)
+            | ((buf[offset + 2] & 0xFFL) << 14)
+            | ((buf[offset + 3] & 0xFFL) << 6)
+            | ((buf[offset + 4] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0x3L) << 36)
+            | ((buf[offset + 5] & 0xFFL) << 28)
+            | ((buf[offset + 6] & 0xFFL) << 20)
+            | ((buf[offset + 7] & 0xFFL) << 12)
+            | ((buf[offset + 8] & 0xFFL) << 4)
+            | ((buf[offset + 9] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 9] & 0xFL) << 34)
+            | ((buf[offset + 10] & 0xFFL) << 26)
+            | ((buf[offset + 11] & 0xFFL) << 18)
+            | ((buf[offset + 12] & 0xFFL) << 10)
+            | ((buf[offset + 13] & 0xFFL) << 2)
+            | ((buf[offset + 14] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 14] & 0x3FL) << 32)
+            | ((buf[offset + 15] & 0xFFL) << 24)
+            | ((buf[offset + 16] & 0xFFL) << 16)
+            | ((buf[offset + 17] & 0xFFL) << 8)
+            | (buf[offset + 18] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 19] & 0xFFL) << 30)
+            | ((buf[offset + 20] & 0xFFL) << 22)
+            | ((buf[offset + 21] & 0xFFL) << 14)
+            | ((buf[offset + 22] & 0xFFL) << 6)
+            | ((buf[offset + 23] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 23] & 0x3L) << 36)
+            | ((buf[offset + 24] & 0xFFL) << 28)
+            | ((buf[offset + 25] & 0xFFL) << 20)
+            | ((buf[offset + 26] & 0xFFL) << 12)
+            | ((buf[offset + 27] & 0xFFL) << 4)
+            | ((buf[offset + 28] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 28] & 0xFL) << 34)
+            | ((buf[offset + 29] & 0xFFL) << 26)
+            | ((buf[offset + 30] & 0xFFL) << 18)
+            | ((buf[offset + 31] & 0xFFL) << 10)
+            | ((buf[offset + 32] & 0xFFL) << 2)
+            | ((buf[offset + 33] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 33] & 0x3FL) << 32)
+            | ((buf[offset + 34] & 0xFFL) << 24)
+            | ((buf[offset + 35] & 0xFFL) << 16)
+            | ((buf[offset + 36] & 0xFFL) << 8)
+            | (buf[offset + 37] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth39(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 31) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 23) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[4] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 38) & 0x1));
+    buf[5] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 37) & 0x3));
+    buf[10] = (byte) (((values[offset + 2] >>> 29) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 21) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 36) & 0x7));
+    buf[15] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 35) & 0xF));
+    buf[20] = (byte) (((values[offset + 4] >>> 27) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] >>> 19) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 34) & 0x1F));
+    buf[25] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[26] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[27] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[28] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[29] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 33) & 0x3F));
+    buf[30] = (byte) (((values[offset + 6] >>> 25) & 0xFF));
+    buf[31] = (byte) (((values[offset + 6] >>> 17) & 0xFF));
+    buf[32] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[33] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[34] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 32) & 0x7F));
+    buf[35] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[36] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[37] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[38] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth39(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 31)
+            | ((buf[offset + 1] & 0xFFL) << 23)
+            | ((buf[offset + 2] & 0xFFL) << 15)
+            | ((buf[offset + 3] & 0xFFL) << 7)
+            | ((buf[offset + 4] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 4] & 0x1L) << 38)
+            | ((buf[offset + 5] & 0xFFL) << 30)
+            | ((buf[offset + 6] & 0xFFL) << 22)
+            | ((buf[offset + 7] & 0xFFL) << 14)
+            | ((buf[offset + 8] & 0xFFL) << 6)
+            | ((buf[offset + 9] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 9] & 0x3L) << 37)
+            | ((buf[offset + 10] & 0xFFL) << 29)
+            | ((buf[offset + 11] & 0xFFL) << 21)
+            | ((buf[offset + 12] & 0xFFL) << 13)
+            | ((buf[offset + 13] & 0xFFL) << 5)
+            | ((buf[offset + 14] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 14] & 0x7L) << 36)
+            | ((buf[offset + 15] & 0xFFL) << 28)
+            | ((buf[offset + 16] & 0xFFL) << 20)
+            | ((buf[offset + 17] & 0xFFL) << 12)
+            | ((buf[offset + 18] & 0xFFL) << 4)
+            | ((buf[offset + 19] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 19] & 0xFL) << 35)
+            | ((buf[offset + 20] & 0xFFL) << 27)
+            | ((buf[offset + 21] & 0xFFL) << 19)
+            | ((buf[offset + 22] & 0xFFL) << 11)
+            | ((buf[offset + 23] & 0xFFL) << 3)
+            | ((buf[offset + 24] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 24] & 0x1FL) << 34)
+            | ((buf[offset + 25] & 0xFFL) << 26)
+            | ((buf[offset + 26] & 0xFFL) << 18)
+            | ((buf[offset + 27] & 0xFFL) << 10)
+            | ((buf[offset + 28] & 0xFFL) << 2)
+            | ((buf[offset + 29] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 29] & 0x3FL) << 33)
+            | ((buf[offset + 30] & 0xFFL) << 25)
+            | ((buf[offset + 31] & 0xFFL) << 17)
+            | ((buf[offset + 32] & 0xFFL) << 9)
+            | ((buf[offset + 33] & 0xFFL) << 1)
+            | ((buf[offset + 34] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 34] & 0x7FL) << 32)
+            | ((buf[offset + 35] & 0xFFL) << 24)
+            | ((buf[offset + 36] & 0xFFL) << 16)
+            | ((buf[offset + 37] & 0xFFL) << 8)
+            | (buf[offset + 38] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth40(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 32) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 24) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[4] = (byte) ((values[offset] & 0xFF));
+    buf[5] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[9] = (byte) ((values[offset + 1] & 0xFF));
+    buf[10] = (byte) (((values[offset + 2] >>> 32) & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 24) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 2] & 0xFF));
+    buf[15] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[16] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[19] = (byte) ((values[offset + 3] & 0xFF));
+    buf[20] = (byte) (((values[offset + 4] >>> 32) & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] >>> 24) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[24] = (byte) ((values[offset + 4] & 0xFF));
+    buf[25] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[26] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[27] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[28] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[29] = (byte) ((values[offset + 5] & 0xFF));
+    buf[30] = (byte) (((values[offset + 6] >>> 32) & 0xFF));
+    buf[31] = (byte) (((values[offset + 6] >>> 24) & 0xFF));
+    buf[32] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[33] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[34] = (byte) ((values[offset + 6] & 0xFF));
+    buf[35] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[36] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[37] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[38] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[39] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth40(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 32)
+            | ((buf[offset + 1] & 0xFFL) << 24)
+            | ((buf[offset + 2] & 0xFFL) << 16)
+            | ((buf[offset + 3] & 0xFFL) << 8)
+            | (buf[offset + 4] & 0xFFL);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0xFFL) << 32)
+            | ((buf[offset + 6] & 0xFFL) << 24)
+            | ((buf[offset + 7] & 0xFFL) << 16)
+            | ((buf[offset + 8] & 0xFFL) << 8)
+            | (buf[offset + 9] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 10] & 0xFFL) << 32)
+            | ((buf[offset + 11] & 0xFFL) << 24)
+            | ((buf[offset + 12] & 0xFFL) << 16)
+            | ((buf[offset + 13] & 0xFFL) << 8)
+            | (buf[offset + 14] & 0xFFL);
+    values[valuesOffset + 3] =
+        ((buf[offset + 15] & 0xFFL) << 32)
+            | ((buf[offset + 16] & 0xFFL) << 24)
+            | ((buf[offset + 17] & 0xFFL) << 16)
+            | ((buf[offset + 18] & 0xFFL) << 8)
+            | (buf[offset + 19] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 20] & 0xFFL) << 32)
+            | ((buf[offset + 21] & 0xFFL) << 24)
+            | ((buf[offset + 22] & 0xFFL) << 16)
+            | ((buf[offset + 23] & 0xFFL) << 8)
+            | (buf[offset + 24] & 0xFFL);
+    values[valuesOffset + 5] =
+        ((buf[offset + 25] & 0xFFL) << 32)
+            | ((buf[offset + 26] & 0xFFL) << 24)
+            | ((buf[offset + 27] & 0xFFL) << 16)
+            | ((buf[offset + 28] & 0xFFL) << 8)
+            | (buf[offset + 29] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 30] & 0xFFL) << 32)
+            | ((buf[offset + 31] & 0xFFL) << 24)
+            | ((buf[offset + 32] & 0xFFL) << 16)
+            | ((buf[offset + 33] & 0xFFL) << 8)
+            | (buf[offset + 34] & 0xFFL);
+    values[valuesOffset + 7] =
+        ((buf[offset + 35] & 0xFFL) << 32)
+            | ((buf[offset + 36] & 0xFFL) << 24)
+            | ((buf[offset + 37] & 0xFFL) << 16)
+            | ((buf[offset + 38] & 0xFFL) << 8)
+            | (buf[offset + 39] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth41(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 33) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 25) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 17) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 34) & 0x7F));
+    buf[6] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 35) & 0x3F));
+    buf[11] = (byte) (((values[offset + 2] >>> 27) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 19) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 11) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 36) & 0x1F));
+    buf[16] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 37) & 0xF));
+    buf[21] = (byte) (((values[offset + 4] >>> 29) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 21) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 13) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 38) & 0x7));
+    buf[26] = (byte) (((values[offset + 5] >>> 30) & 0xFF));
+    buf[27] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[28] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[29] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 39) & 0x3));
+    buf[31] = (byte) (((values[offset + 6] >>> 31) & 0xFF));
+    buf[32] = (byte) (((values[offset + 6] >>> 23) & 0xFF));
+    buf[33] = (byte) (((values[offset + 6] >>> 15) & 0xFF));
+    buf[34] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[35] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 40) & 0x1));
+    buf[36] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[37] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[38] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[39] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[40] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth41(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 33)
+            | ((buf[offset + 1] & 0xFFL) << 25)
+            | ((buf[offset + 2] & 0xFFL) << 17)
+            | ((buf[offset + 3] & 0xFFL) << 9)
+            | ((buf[offset + 4] & 0xFFL) << 1)
+            | ((buf[offset + 5] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0x7FL) << 34)
+            | ((buf[offset + 6] & 0xFFL) << 26)
+            | ((buf[offset + 7] & 0xFFL) << 18)
+            | ((buf[offset + 8] & 0xFFL) << 10)
+            | ((buf[offset + 9] & 0xFFL) << 2)
+            | ((buf[offset + 10] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 10] & 0x3FL) << 35)
+            | ((buf[offset + 11] & 0xFFL) << 27)
+            | ((buf[offset + 12] & 0xFFL) << 19)
+            | ((buf[offset + 13] & 0xFFL) << 11)
+            | ((buf[offset + 14] & 0xFFL) << 3)
+            | ((buf[offset + 15] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 15] & 0x1FL) << 36)
+            | ((buf[offset + 16] & 0xFFL) << 28)
+            | ((buf[offset + 17] & 0xFFL) << 20)
+            | ((buf[offset + 18] & 0xFFL) << 12)
+            | ((buf[offset + 19] & 0xFFL) << 4)
+            | ((buf[offset + 20] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 20] & 0xFL) << 37)
+            | ((buf[offset + 21] & 0xFFL) << 29)
+            | ((buf[offset + 22] & 0xFFL) << 21)
+            | ((buf[offset + 23] & 0xFFL) << 13)
+            | ((buf[offset + 24] & 0xFFL) << 5)
+            | ((buf[offset + 25] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 25] & 0x7L) << 38)
+            | ((buf[offset + 26] & 0xFFL) << 30)
+            | ((buf[offset + 27] & 0xFFL) << 22)
+            | ((buf[offset + 28] & 0xFFL) << 14)
+            | ((buf[offset + 29] & 0xFFL) << 6)
+            | ((buf[offset + 30] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 30] & 0x3L) << 39)
+            | ((buf[offset + 31] & 0xFFL) << 31)
+            | ((buf[offset + 32] & 0xFFL) << 23)
+            | ((buf[offset + 33] & 0xFFL) << 15)
+            | ((buf[offset + 34] & 0xFFL) << 7)
+            | ((buf[offset + 35] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 35] & 0x1L) << 40)
+            | ((buf[offset + 36] & 0xFFL) << 32)
+            | ((buf[offset + 37] & 0xFFL) << 24)
+            | ((buf[offset + 38] & 0xFFL) << 16)
+            | ((buf[offset + 39] & 0xFFL) << 8)
+            | (buf[offset + 40] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth42(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 34) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 26) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 18) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 36) & 0x3F));
+    buf[6] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 38) & 0xF));
+    buf[11] = (byte) (((values[offset + 2] >>> 30) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 22) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 14) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 40) & 0x3));
+    buf[16] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[17] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 3] & 0xFF));
+    buf[21] = (byte) (((values[offset + 4] >>> 34) & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 26) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 18) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 36) & 0x3F));
+    buf[27] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[28] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[29] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 38) & 0xF));
+    buf[32] = (byte) (((values[offset + 6] >>> 30) & 0xFF));
+    buf[33] = (byte) (((values[offset + 6] >>> 22) & 0xFF));
+    buf[34] = (byte) (((values[offset + 6] >>> 14) & 0xFF));
+    buf[35] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[36] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 40) & 0x3));
+    buf[37] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[38] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[39] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[40] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[41] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth42(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 34)
+            | ((buf[offset + 1] & 0xFFL) << 26)
+            | ((buf[offset + 2] & 0xFFL) << 18)
+            | ((buf[offset + 3] & 0xFFL) << 10)
+            | ((buf[offset + 4] & 0xFFL) << 2)
+            | ((buf[offset + 5] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0x3FL) << 36)
+            | ((buf[offset + 6] & 0xFFL) << 28)
+            | ((buf[offset + 7] & 0xFFL) << 20)
+            | ((buf[offset + 8] & 0xFFL) << 12)
+            | ((buf[offset + 9] & 0xFFL) << 4)
+            | ((buf[offset + 10] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 10] & 0xFL) << 38)
+            | ((buf[offset + 11] & 0xFFL) << 30)
+            | ((buf[offset + 12] & 0xFFL) << 22)
+            | ((buf[offset + 13] & 0xFFL) << 14)
+            | ((buf[offset + 14] & 0xFFL) << 6)
+            | ((buf[offset + 15] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 15] & 0x3L) << 40)
+            | ((buf[offset + 16] & 0xFFL) << 32)
+            | ((buf[offset + 17] & 0xFFL) << 24)
+            | ((buf[offset + 18] & 0xFFL) << 16)
+            | ((buf[offset + 19] & 0xFFL) << 8)
+            | (buf[offset + 20] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 21] & 0xFFL) << 34)
+            | ((buf[offset + 22] & 0xFFL) << 26)
+            | ((buf[offset + 23] & 0xFFL) << 18)
+            | ((buf[offset + 24] & 0xFFL) << 10)
+            | ((buf[offset + 25] & 0xFFL) << 2)
+            | ((buf[offset + 26] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 26] & 0x3FL) << 36)
+            | ((buf[offset + 27] & 0xFFL) << 28)
+            | ((buf[offset + 28] & 0xFFL) << 20)
+            | ((buf[offset + 29] & 0xFFL) << 12)
+            | ((buf[offset + 30] & 0xFFL) << 4)
+            | ((buf[offset + 31] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 31] & 0xFL) << 38)
+            | ((buf[offset + 32] & 0xFFL) << 30)
+            | ((buf[offset + 33] & 0xFFL) << 22)
+            | ((buf[offset + 34] & 0xFFL) << 14)
+            | ((buf[offset + 35] & 0xFFL) << 6)
+            | ((buf[offset + 36] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 36] & 0x3L) << 40)
+            | ((buf[offset + 37] & 0xFFL) << 32)
+            | ((buf[offset + 38] & 0xFFL) << 24)
+            | ((buf[offset + 39] & 0xFFL) << 16)
+            | ((buf[offset + 40] & 0xFFL) << 8)
+            | (buf[offset + 41] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth43(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 35) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 27) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 19) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 38) & 0x1F));
+    buf[6] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 41) & 0x3));
+    buf[11] = (byte) (((values[offset + 2] >>> 33) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 25) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 17) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 36) & 0x7F));
+    buf[17] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 39) & 0xF));
+    buf[22] = (byte) (((values[offset + 4] >>> 31) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 23) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 15) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 42) & 0x1));
+    buf[27] = (byte) (((values[offset + 5] >>> 34) & 0xFF));
+    buf[28] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[29] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[32] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 37) & 0x3F));
+    buf[33] = (byte) (((values[offset + 6] >>> 29) & 0xFF));
+    buf[34] = (byte) (((values[offset + 6] >>> 21) & 0xFF));
+    buf[35] = (byte) (((values[offset + 6] >>> 13) & 0xFF));
+    buf[36] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[37] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 40) & 0x7));
+    buf[38] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[39] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[40] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[41] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[42] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth43(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 35)
+            | ((buf[offset + 1] & 0xFFL) << 27)
+            | ((buf[offset + 2] & 0xFFL) << 19)
+            | ((buf[offset + 3] & 0xFFL) << 11)
+            | ((buf[offset + 4] & 0xFFL) << 3)
+            | ((buf[offset + 5] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0x1FL) << 38)
+            | ((buf[offset + 6] & 0xFFL) << 30)
+            | ((buf[offset + 7] & 0xFFL) << 22)
+            | ((buf[offset + 8] & 0xFFL) << 14)
+            | ((buf[offset + 9] & 0xFFL) << 6)
+            | ((buf[offset + 10] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 10] & 0x3L) << 41)
+            | ((buf[offset + 11] & 0xFFL) << 33)
+            | ((buf[offset + 12] & 0xFFL) << 25)
+            | ((buf[offset + 13] & 0xFFL) << 17)
+            | ((buf[offset + 14] & 0xFFL) << 9)
+            | ((buf[offset + 15] & 0xFFL) << 1)
+            | ((buf[offset + 16] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 16] & 0x7FL) << 36)
+            | ((buf[offset + 17] & 0xFFL) << 28)
+            | ((buf[offset + 18] & 0xFFL) << 20)
+            | ((buf[offset + 19] & 0xFFL) << 12)
+            | ((buf[offset + 20] & 0xFFL) << 4)
+            | ((buf[offset + 21] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 21] & 0xFL) << 39)
+            | ((buf[offset + 22] & 0xFFL) << 31)
+            | ((buf[offset + 23] & 0xFFL) << 23)
+            | ((buf[offset + 24] & 0xFFL) << 15)
+            | ((buf[offset + 25] & 0xFFL) << 7)
+            | ((buf[offset + 26] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 26] & 0x1L) << 42)
+            | ((buf[offset + 27] & 0xFFL) << 34)
+            | ((buf[offset + 28] & 0xFFL) << 26)
+            | ((buf[offset + 29] & 0xFFL) << 18)
+            | ((buf[offset + 30] & 0xFFL) << 10)
+            | ((buf[offset + 31] & 0xFFL) << 2)
+            | ((buf[offset + 32] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 32] & 0x3FL) << 37)
+            | ((buf[offset + 33] & 0xFFL) << 29)
+            | ((buf[offset + 34] & 0xFFL) << 21)
+            | ((buf[offset + 35] & 0xFFL) << 13)
+            | ((buf[offset + 36] & 0xFFL) << 5)
+            | ((buf[offset + 37] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 37] & 0x7L) << 40)
+            | ((buf[offset + 38] & 0xFFL) << 32)
+            | ((buf[offset + 39] & 0xFFL) << 24)
+            | ((buf[offset + 40] & 0xFFL) << 16)
+            | ((buf[offset + 41] & 0xFFL) << 8)
+            | (buf[offset + 42] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth44(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 36) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 28) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 20) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 40) & 0xF));
+    buf[6] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[10] = (byte) ((values[offset + 1] & 0xFF));
+    buf[11] = (byte) (((values[offset + 2] >>> 36) & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 28) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 20) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 40) & 0xF));
+    buf[17] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[21] = (byte) ((values[offset + 3] & 0xFF));
+    buf[22] = (byte) (((values[offset + 4] >>> 36) & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 28) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 20) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 40) & 0xF));
+    buf[28] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[29] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[32] = (byte) ((values[offset + 5] & 0xFF));
+    buf[33] = (byte) (((values[offset + 6] >>> 36) & 0xFF));
+    buf[34] = (byte) (((values[offset + 6] >>> 28) & 0xFF));
+    buf[35] = (byte) (((values[offset + 6] >>> 20) & 0xFF));
+    buf[36] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[37] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[38] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 40) & 0xF));
+    buf[39] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[40] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[41] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[42] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[43] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth44(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 36)
+            | ((buf[offset + 1] & 0xFFL) << 28)
+            | ((buf[offset + 2] & 0xFFL) << 20)
+            | ((buf[offset + 3] & 0xFFL) << 12)
+            | ((buf[offset + 4] & 0xFFL) << 4)
+            | ((buf[offset + 5] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0xFL) << 40)
+            | ((buf[offset + 6] & 0xFFL) << 32)
+            | ((buf[offset + 7] & 0xFFL) << 24)
+            | ((buf[offset + 8] & 0xFFL) << 16)
+            | ((buf[offset + 9] & 0xFFL) << 8)
+            | (buf[offset + 10] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 11] & 0xFFL) << 36)
+            | ((buf[offset + 12] & 0xFFL) << 28)
+            | ((buf[offset + 13] & 0xFFL) << 20)
+            | ((buf[offset + 14] & 0xFFL) << 12)
+            | ((buf[offset + 15] & 0xFFL) << 4)
+            | ((buf[offset + 16] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 16] & 0xFL) << 40)
+            | ((buf[offset + 17] & 0xFFL) << 32)
+            | ((buf[offset + 18] & 0xFFL) << 24)
+            | ((buf[offset + 19] & 0xFFL) << 16)
+            | ((buf[offset + 20] & 0xFFL) << 8)
+            | (buf[offset + 21] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 22] & 0xFFL) << 36)
+            | ((buf[offset + 23] & 0xFFL) << 28)
+            | ((buf[offset + 24] & 0xFFL) << 20)
+            | ((buf[offset + 25] & 0xFFL) << 12)
+            | ((buf[offset + 26] & 0xFFL) << 4)
+            | ((buf[offset + 27] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 27] & 0xFL) << 40)
+            | ((buf[offset + 28] & 0xFFL) << 32)
+            | ((buf[offset + 29] & 0xFFL) << 24)
+            | ((buf[offset + 30] & 0xFFL) << 16)
+            | ((buf[offset + 31] & 0xFFL) << 8)
+            | (buf[offset + 32] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 33] & 0xFFL) << 36)
+            | ((buf[offset + 34] & 0xFFL) << 28)
+            | ((buf[offset + 35] & 0xFFL) << 20)
+            | ((buf[offset + 36] & 0xFFL) << 12)
+            | ((buf[offset + 37] & 0xFFL) << 4)
+            | ((buf[offset + 38] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 38] & 0xFL) << 40)
+            | ((buf[offset + 39] & 0xFFL) << 32)
+            | ((buf[offset + 40] & 0xFFL) << 24)
+            | ((buf[offset + 41] & 0xFFL) << 16)
+            | ((buf[offset + 42] & 0xFFL) << 8)
+            | (buf[offset + 43] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth45(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 37) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 29) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 21) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 42) & 0x7));
+    buf[6] = (byte) (((values[offset + 1] >>> 34) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 39) & 0x3F));
+    buf[12] = (byte) (((values[offset + 2] >>> 31) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 23) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 15) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 44) & 0x1));
+    buf[17] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 41) & 0xF));
+    buf[23] = (byte) (((values[offset + 4] >>> 33) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 25) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 17) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 38) & 0x7F));
+    buf[29] = (byte) (((values[offset + 5] >>> 30) & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[32] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 43) & 0x3));
+    buf[34] = (byte) (((values[offset + 6] >>> 35) & 0xFF));
+    buf[35] = (byte) (((values[offset + 6] >>> 27) & 0xFF));
+    buf[36] = (byte) (((values[offset + 6] >>> 19) & 0xFF));
+    buf[37] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[38] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 40) & 0x1F));
+    buf[40] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[41] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[42] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[43] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[44] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth45(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 37)
+            | ((buf[offset + 1] & 0xFFL) << 29)
+            | ((buf[offset + 2] & 0xFFL) << 21)
+            | ((buf[offset + 3] & 0xFFL) << 13)
+            | ((buf[offset + 4] & 0xFFL) << 5)
+            | ((buf[offset + 5] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0x7L) << 42)
+            | ((buf[offset + 6] & 0xFFL) << 34)
+            | ((buf[offset + 7] & 0xFFL) << 26)
+            | ((buf[offset + 8] & 0xFFL) << 18)
+            | ((buf[offset + 9] & 0xFFL) << 10)
+            | ((buf[offset + 10] & 0xFFL) << 2)
+            | ((buf[offset + 11] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 11] & 0x3FL) << 39)
+            | ((buf[offset + 12] & 0xFFL) << 31)
+            | ((buf[offset + 13] & 0xFFL) << 23)
+            | ((buf[offset + 14] & 0xFFL) << 15)
+            | ((buf[offset + 15] & 0xFFL) << 7)
+            | ((buf[offset + 16] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 16] & 0x1L) << 44)
+            | ((buf[offset + 17] & 0xFFL) << 36)
+            | ((buf[offset + 18] & 0xFFL) << 28)
+            | ((buf[offset + 19] & 0xFFL) << 20)
+            | ((buf[offset + 20] & 0xFFL) << 12)
+            | ((buf[offset + 21] & 0xFFL) << 4)
+            | ((buf[offset + 22] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 22] & 0xFL) << 41)
+            | ((buf[offset + 23] & 0xFFL) << 33)
+            | ((buf[offset + 24] & 0xFFL) << 25)
+            | ((buf[offset + 25] & 0xFFL) << 17)
+            | ((buf[offset + 26] & 0xFFL) << 9)
+            | ((buf[offset + 27] & 0xFFL) << 1)
+            | ((buf[offset + 28] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 28] & 0x7FL) << 38)
+            | ((buf[offset + 29] & 0xFFL) << 30)
+            | ((buf[offset + 30] & 0xFFL) << 22)
+            | ((buf[offset + 31] & 0xFFL) << 14)
+            | ((buf[offset + 32] & 0xFFL) << 6)
+            | ((buf[offset + 33] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 33] & 0x3L) << 43)
+            | ((buf[offset + 34] & 0xFFL) << 35)
+            | ((buf[offset + 35] & 0xFFL) << 27)
+            | ((buf[offset + 36] & 0xFFL) << 19)
+            | ((buf[offset + 37] & 0xFFL) << 11)
+            | ((buf[offset + 38] & 0xFFL) << 3)
+            | ((buf[offset + 39] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 39] & 0x1FL) << 40)
+            | ((buf[offset + 40] & 0xFFL) << 32)
+            | ((buf[offset + 41] & 0xFFL) << 24)
+            | ((buf[offset + 42] & 0xFFL) << 16)
+            | ((buf[offset + 43] & 0xFFL) << 8)
+            | (buf[offset + 44] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth46(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 38) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 30) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 22) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 44) & 0x3));
+    buf[6] = (byte) (((values[offset + 1] >>> 36) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 42) & 0xF));
+    buf[12] = (byte) (((values[offset + 2] >>> 34) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 26) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 18) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 40) & 0x3F));
+    buf[18] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[22] = (byte) ((values[offset + 3] & 0xFF));
+    buf[23] = (byte) (((values[offset + 4] >>> 38) & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 30) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 22) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 44) & 0x3));
+    buf[29] = (byte) (((values[offset + 5] >>> 36) & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[32] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 42) & 0xF));
+    buf[35] = (byte) (((values[offset + 6] >>> 34) & 0xFF));
+    buf[36] = (byte) (((values[offset + 6] >>> 26) & 0xFF));
+    buf[37] = (byte) (((values[offset + 6] >>> 18) & 0xFF));
+    buf[38] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 40) & 0x3F));
+    buf[41] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[42] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[43] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[44] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[45] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth46(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 38)
+            | ((buf[offset + 1] & 0xFFL) << 30)
+            | ((buf[offset + 2] & 0xFFL) << 22)
+            | ((buf[offset + 3] & 0xFFL) << 14)
+            | ((buf[offset + 4] & 0xFFL) << 6)
+            | ((buf[offset + 5] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0x3L) << 44)
+            | ((buf[offset + 6] & 0xFFL) << 36)
+            | ((buf[offset + 7] & 0xFFL) << 28)
+            | ((buf[offset + 8] & 0xFFL) << 20)
+            | ((buf[offset + 9] & 0xFFL) << 12)
+            | ((buf[offset + 10] & 0xFFL) << 4)
+            | ((buf[offset + 11] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 11] & 0xFL) << 42)
+            | ((buf[offset + 12] & 0xFFL) << 34)
+            | ((buf[offset + 13] & 0xFFL) << 26)
+            | ((buf[offset + 14] & 0xFFL) << 18)
+            | ((buf[offset + 15] & 0xFFL) << 10)
+            | ((buf[offset + 16] & 0xFFL) << 2)
+            | ((buf[offset + 17] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 17] & 0x3FL) << 40)
+            | ((buf[offset + 18] & 0xFFL) << 32)
+            | ((buf[offset + 19] & 0xFFL) << 24)
+            | ((buf[offset + 20] & 0xFFL) << 16)
+            | ((buf[offset + 21] & 0xFFL) << 8)
+            | (buf[offset + 22] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 23] & 0xFFL) << 38)
+            | ((buf[offset + 24] & 0xFFL) << 30)
+            | ((buf[offset + 25] & 0xFFL) << 22)
+            | ((buf[offset + 26] & 0xFFL) << 14)
+            | ((buf[offset + 27] & 0xFFL) << 6)
+            | ((buf[offset + 28] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 28] & 0x3L) << 44)
+            | ((buf[offset + 29] & 0xFFL) << 36)
+            | ((buf[offset + 30] & 0xFFL) << 28)
+            | ((buf[offset + 31] & 0xFFL) << 20)
+            | ((buf[offset + 32] & 0xFFL) << 12)
+            | ((buf[offset + 33] & 0xFFL) << 4)
+            | ((buf[offset + 34] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 34] & 0xFL) << 42)
+            | ((buf[offset + 35] & 0xFFL) << 34)
+            | ((buf[offset + 36] & 0xFFL) << 26)
+            | ((buf[offset + 37] & 0xFFL) << 18)
+            | ((buf[offset + 38] & 0xFFL) << 10)
+            | ((buf[offset + 39] & 0xFFL) << 2)
+            | ((buf[offset + 40] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 40] & 0x3FL) << 40)
+            | ((buf[offset + 41] & 0xFFL) << 32)
+            | ((buf[offset + 42] & 0xFFL) << 24)
+            | ((buf[offset + 43] & 0xFFL) << 16)
+            | ((buf[offset + 44] & 0xFFL) << 8)
+            | (buf[offset + 45] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth47(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 39) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 31) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 23) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[5] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 46) & 0x1));
+    buf[6] = (byte) (((values[offset + 1] >>> 38) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 45) & 0x3));
+    buf[12] = (byte) (((values[offset + 2] >>> 37) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 29) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 21) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 44) & 0x7));
+    buf[18] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 43) & 0xF));
+    buf[24] = (byte) (((values[offset + 4] >>> 35) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 27) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 19) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 42) & 0x1F));
+    buf[30] = (byte) (((values[offset + 5] >>> 34) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[32] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 41) & 0x3F));
+    buf[36] = (byte) (((values[offset + 6] >>> 33) & 0xFF));
+    buf[37] = (byte) (((values[offset + 6] >>> 25) & 0xFF));
+    buf[38] = (byte) (((values[offset + 6] >>> 17) & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[41] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 40) & 0x7F));
+    buf[42] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[43] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[44] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[45] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[46] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth47(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 39)
+            | ((buf[offset + 1] & 0xFFL) << 31)
+            | ((buf[offset + 2] & 0xFFL) << 23)
+            | ((buf[offset + 3] & 0xFFL) << 15)
+            | ((buf[offset + 4] & 0xFFL) << 7)
+            | ((buf[offset + 5] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 5] & 0x1L) << 46)
+            | ((buf[offset + 6] & 0xFFL) << 38)
+            | ((buf[offset + 7] & 0xFFL) << 30)
+            | ((buf[offset + 8] & 0xFFL) << 22)
+            | ((buf[offset + 9] & 0xFFL) << 14)
+            | ((buf[offset + 10] & 0xFFL) << 6)
+            | ((buf[offset + 11] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 11] & 0x3L) << 45)
+            | ((buf[offset + 12] & 0xFFL) << 37)
+            | ((buf[offset + 13] & 0xFFL) << 29)
+            | ((buf[offset + 14] & 0xFFL) << 21)
+            | ((buf[offset + 15] & 0xFFL) << 13)
+            | ((buf[offset + 16] & 0xFFL) << 5)
+            | ((buf[offset + 17] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 17] & 0x7L) << 44)
+            | ((buf[offset + 18] & 0xFFL) << 36)
+            | ((buf[offset + 19] & 0xFFL) << 28)
+            | ((buf[offset + 20] & 0xFFL) << 20)
+            | ((buf[offset + 21] & 0xFFL) << 12)
+            | ((buf[offset + 22] & 0xFFL) << 4)
+            | ((buf[offset + 23] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 23] & 0xFL) << 43)
+            | ((buf[offset + 24] & 0xFFL) << 35)
+            | ((buf[offset + 25] & 0xFFL) << 27)
+            | ((buf[offset + 26] & 0xFFL) << 19)
+            | ((buf[offset + 27] & 0xFFL) << 11)
+            | ((buf[offset + 28] & 0xFFL) << 3)
+            | ((buf[offset + 29] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 29] & 0x1FL) << 42)
+            | ((buf[offset + 30] & 0xFFL) << 34)
+            | ((buf[offset + 31] & 0xFFL) << 26)
+            | ((buf[offset + 32] & 0xFFL) << 18)
+            | ((buf[offset + 33] & 0xFFL) << 10)
+            | ((buf[offset + 34] & 0xFFL) << 2)
+            | ((buf[offset + 35] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 35] & 0x3FL) << 41)
+            | ((buf[offset + 36] & 0xFFL) << 33)
+            | ((buf[offset + 37] & 0xFFL) << 25)
+            | ((buf[offset + 38] & 0xFFL) << 17)
+            | ((buf[offset + 39] & 0xFFL) << 9)
+            | ((buf[offset + 40] & 0xFFL) << 1)
+            | ((buf[offset + 41] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 41] & 0x7FL) << 40)
+            | ((buf[offset + 42] & 0xFFL) << 32)
+            | ((buf[offset + 43] & 0xFFL) << 24)
+            | ((buf[offset + 44] & 0xFFL) << 16)
+            | ((buf[offset + 45] & 0xFFL) << 8)
+            | (buf[offset + 46] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth48(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 40) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 32) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 24) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[5] = (byte) ((values[offset] & 0xFF));
+    buf[6] = (byte) (((values[offset + 1] >>> 40) & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[11] = (byte) ((values[offset + 1] & 0xFF));
+    buf[12] = (byte) (((values[offset + 2] >>> 40) & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 32) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 24) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[17] = (byte) ((values[offset + 2] & 0xFF));
+    buf[18] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[19] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[23] = (byte) ((values[offset + 3] & 0xFF));
+    buf[24] = (byte) (((values[offset + 4] >>> 40) & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 32) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 24) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[29] = (byte) ((values[offset + 4] & 0xFF));
+    buf[30] = (byte) (((values[offset + 5] >>> 40) & 0xFF));
+    buf[31] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[32] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[35] = (byte) ((values[offset + 5] & 0xFF));
+    buf[36] = (byte) (((values[offset + 6] >>> 40) & 0xFF));
+    buf[37] = (byte) (((values[offset + 6] >>> 32) & 0xFF));
+    buf[38] = (byte) (((values[offset + 6] >>> 24) & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[41] = (byte) ((values[offset + 6] & 0xFF));
+    buf[42] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[43] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[44] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[45] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[46] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[47] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth48(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 40)
+            | ((buf[offset + 1] & 0xFFL) << 32)
+            | ((buf[offset + 2] & 0xFFL) << 24)
+            | ((buf[offset + 3] & 0xFFL) << 16)
+            | ((buf[offset + 4] & 0xFFL) << 8)
+            | (buf[offset + 5] & 0xFFL);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0xFFL) << 40)
+            | ((buf[offset + 7] & 0xFFL) << 32)
+            | ((buf[offset + 8] & 0xFFL) << 24)
+            | ((buf[offset + 9] & 0xFFL) << 16)
+            | ((buf[offset + 10] & 0xFFL) << 8)
+            | (buf[offset + 11] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 12] & 0xFFL) << 40)
+            | ((buf[offset + 13] & 0xFFL) << 32)
+            | ((buf[offset + 14] & 0xFFL) << 24)
+            | ((buf[offset + 15] & 0xFFL) << 16)
+            | ((buf[offset + 16] & 0xFFL) << 8)
+            | (buf[offset + 17] & 0xFFL);
+    values[valuesOffset + 3] =
+        ((buf[offset + 18] & 0xFFL) << 40)
+            | ((buf[offset + 19] & 0xFFL) << 32)
+            | ((buf[offset + 20] & 0xFFL) << 24)
+            | ((buf[offset + 21] & 0xFFL) << 16)
+            | ((buf[offset + 22] & 0xFFL) << 8)
+            | (buf[offset + 23] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 24] & 0xFFL) << 40)
+            | ((buf[offset + 25] & 0xFFL) << 32)
+            | ((buf[offset + 26] & 0xFFL) << 24)
+            | ((buf[offset + 27] & 0xFFL) << 16)
+            | ((buf[offset + 28] & 0xFFL) << 8)
+            | (buf[offset + 29] & 0xFFL);
+    values[valuesOffset + 5] =
+        ((buf[offset + 30] & 0xFFL) << 40)
+            | ((buf[offset + 31] & 0xFFL) << 32)
+            | ((buf[offset + 32] & 0xFFL) << 24)
+            | ((buf[offset + 33] & 0xFFL) << 16)
+            | ((buf[offset + 34] & 0xFFL) << 8)
+            | (buf[offset + 35] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 36] & 0xFFL) << 40)
+            | ((buf[offset + 37] & 0xFFL) << 32)
+            | ((buf[offset + 38] & 0xFFL) << 24)
+            | ((buf[offset + 39] & 0xFFL) << 16)
+            | ((buf[offset + 40] & 0xFFL) << 8)
+            | (buf[offset + 41] & 0xFFL);
+    values[valuesOffset + 7] =
+        ((buf[offset + 42] & 0xFFL) << 40)
+            | ((buf[offset + 43] & 0xFFL) << 32)
+            | ((buf[offset + 44] & 0xFFL) << 24)
+            | ((buf[offset + 45] & 0xFFL) << 16)
+            | ((buf[offset + 46] & 0xFFL) << 8)
+            | (buf[offset + 47] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth49(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 41) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 33) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 25) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 17) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 42) & 0x7F));
+    buf[7] = (byte) (((values[offset + 1] >>> 34) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 43) & 0x3F));
+    buf[13] = (byte) (((values[offset + 2] >>> 35) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 27) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 19) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 11) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 44) & 0x1F));
+    buf[19] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 45) & 0xF));
+    buf[25] = (byte) (((values[offset + 4] >>> 37) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 29) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 21) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 13) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 46) & 0x7));
+    buf[31] = (byte) (((values[offset + 5] >>> 38) & 0xFF));
+    buf[32] = (byte) (((values[offset + 5] >>> 30) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 47) & 0x3));
+    buf[37] = (byte) (((values[offset + 6] >>> 39) & 0xFF));
+    buf[38] = (byte) (((values[offset + 6] >>> 31) & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] >>> 23) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] >>> 15) & 0xFF));
+    buf[41] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 48) & 0x1));
+    buf[43] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[44] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[45] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[46] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[47] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[48] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth49(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 41)
+            | ((buf[offset + 1] & 0xFFL) << 33)
+            | ((buf[offset + 2] & 0xFFL) << 25)
+            | ((buf[offset + 3] & 0xFFL) << 17)
+            | ((buf[offset + 4] & 0xFFL) << 9)
+            | ((buf[offset + 5] & 0xFFL) << 1)
+            | ((buf[offset + 6] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0x7FL) << 42)
+            | ((buf[offset + 7] & 0xFFL) << 34)
+            | ((buf[offset + 8] & 0xFFL) << 26)
+            | ((buf[offset + 9] & 0xFFL) << 18)
+            | ((buf[offset + 10] & 0xFFL) << 10)
+            | ((buf[offset + 11] & 0xFFL) << 2)
+            | ((buf[offset + 12] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 12] & 0x3FL) << 43)
+            | ((buf[offset + 13] & 0xFFL) << 35)
+            | ((buf[offset + 14] & 0xFFL) << 27)
+            | ((buf[offset + 15] & 0xFFL) << 19)
+            | ((buf[offset + 16] & 0xFFL) << 11)
+            | ((buf[offset + 17] & 0xFFL) << 3)
+            | ((buf[offset + 18] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 18] & 0x1FL) << 44)
+            | ((buf[offset + 19] & 0xFFL) << 36)
+            | ((buf[offset + 20] & 0xFFL) << 28)
+            | ((buf[offset + 21] & 0xFFL) << 20)
+            | ((buf[offset + 22] & 0xFFL) << 12)
+            | ((buf[offset + 23] & 0xFFL) << 4)
+            | ((buf[offset + 24] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 24] & 0xFL) << 45)
+            | ((buf[offset + 25] & 0xFFL) << 37)
+            | ((buf[offset + 26] & 0xFFL) << 29)
+            | ((buf[offset + 27] & 0xFFL) << 21)
+            | ((buf[offset + 28] & 0xFFL) << 13)
+            | ((buf[offset + 29] & 0xFFL) << 5)
+            | ((buf[offset + 30] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 30] & 0x7L) << 46)
+            | ((buf[offset + 31] & 0xFFL) << 38)
+            | ((buf[offset + 32] & 0xFFL) << 30)
+            | ((buf[offset + 33] & 0xFFL) << 22)
+            | ((buf[offset + 34] & 0xFFL) << 14)
+            | ((buf[offset + 35] & 0xFFL) << 6)
+            | ((buf[offset + 36] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 36] & 0x3L) << 47)
+            | ((buf[offset + 37] & 0xFFL) << 39)
+            | ((buf[offset + 38] & 0xFFL) << 31)
+            | ((buf[offset + 39] & 0xFFL) << 23)
+            | ((buf[offset + 40] & 0xFFL) << 15)
+            | ((buf[offset + 41] & 0xFFL) << 7)
+            | ((buf[offset + 42] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 42] & 0x1L) << 48)
+            | ((buf[offset + 43] & 0xFFL) << 40)
+            | ((buf[offset + 44] & 0xFFL) << 32)
+            | ((buf[offset + 45] & 0xFFL) << 24)
+            | ((buf[offset + 46] & 0xFFL) << 16)
+            | ((buf[offset + 47] & 0xFFL) << 8)
+            | (buf[offset + 48] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth50(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 42) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 34) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 26) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 18) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 44) & 0x3F));
+    buf[7] = (byte) (((values[offset + 1] >>> 36) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 46) & 0xF));
+    buf[13] = (byte) (((values[offset + 2] >>> 38) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 30) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 22) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 14) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 48) & 0x3));
+    buf[19] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[20] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[24] = (byte) ((values[offset + 3] & 0xFF));
+    buf[25] = (byte) (((values[offset + 4] >>> 42) & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 34) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 26) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 18) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 44) & 0x3F));
+    buf[32] = (byte) (((values[offset + 5] >>> 36) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 46) & 0xF));
+    buf[38] = (byte) (((values[offset + 6] >>> 38) & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] >>> 30) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] >>> 22) & 0xFF));
+    buf[41] = (byte) (((values[offset + 6] >>> 14) & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 48) & 0x3));
+    buf[44] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[45] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[46] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[47] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[48] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[49] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth50(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 42)
+            | ((buf[offset + 1] & 0xFFL) << 34)
+            | ((buf[offset + 2] & 0xFFL) << 26)
+            | ((buf[offset + 3] & 0xFFL) << 18)
+            | ((buf[offset + 4] & 0xFFL) << 10)
+            | ((buf[offset + 5] & 0xFFL) << 2)
+            | ((buf[offset + 6] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0x3FL) << 44)
+            | ((buf[offset + 7] & 0xFFL) << 36)
+            | ((buf[offset + 8] & 0xFFL) << 28)
+            | ((buf[offset + 9] & 0xFFL) << 20)
+            | ((buf[offset + 10] & 0xFFL) << 12)
+            | ((buf[offset + 11] & 0xFFL) << 4)
+            | ((buf[offset + 12] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 12] & 0xFL) << 46)
+            | ((buf[offset + 13] & 0xFFL) << 38)
+            | ((buf[offset + 14] & 0xFFL) << 30)
+            | ((buf[offset + 15] & 0xFFL) << 22)
+            | ((buf[offset + 16] & 0xFFL) << 14)
+            | ((buf[offset + 17] & 0xFFL) << 6)
+            | ((buf[offset + 18] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 18] & 0x3L) << 48)
+            | ((buf[offset + 19] & 0xFFL) << 40)
+            | ((buf[offset + 20] & 0xFFL) << 32)
+            | ((buf[offset + 21] & 0xFFL) << 24)
+            | ((buf[offset + 22] & 0xFFL) << 16)
+            | ((buf[offset + 23] & 0xFFL) << 8)
+            | (buf[offset + 24] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 25] & 0xFFL) << 42)
+            | ((buf[offset + 26] & 0xFFL) << 34)
+            | ((buf[offset + 27] & 0xFFL) << 26)
+            | ((buf[offset + 28] & 0xFFL) << 18)
+            | ((buf[offset + 29] & 0xFFL) << 10)
+            | ((buf[offset + 30] & 0xFFL) << 2)
+            | ((buf[offset + 31] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 31] & 0x3FL) << 44)
+            | ((buf[offset + 32] & 0xFFL) << 36)
+            | ((buf[offset + 33] & 0xFFL) << 28)
+            | ((buf[offset + 34] & 0xFFL) << 20)
+            | ((buf[offset + 35] & 0xFFL) << 12)
+            | ((buf[offset + 36] & 0xFFL) << 4)
+            | ((buf[offset + 37] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 37] & 0xFL) << 46)
+            | ((buf[offset + 38] & 0xFFL) << 38)
+            | ((buf[offset + 39] & 0xFFL) << 30)
+            | ((buf[offset + 40] & 0xFFL) << 22)
+            | ((buf[offset + 41] & 0xFFL) << 14)
+            | ((buf[offset + 42] & 0xFFL) << 6)
+            | ((buf[offset + 43] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 43] & 0x3L) << 48)
+            | ((buf[offset + 44] & 0xFFL) << 40)
+            | ((buf[offset + 45] & 0xFFL) << 32)
+            | ((buf[offset + 46] & 0xFFL) << 24)
+            | ((buf[offset + 47] & 0xFFL) << 16)
+            | ((buf[offset + 48] & 0xFFL) << 8)
+            | (buf[offset + 49] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth51(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 43) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 35) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 27) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 19) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 46) & 0x1F));
+    buf[7] = (byte) (((values[offset + 1] >>> 38) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 49) & 0x3));
+    buf[13] = (byte) (((values[offset + 2] >>> 41) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 33) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 25) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 17) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 44) & 0x7F));
+    buf[20] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 47) & 0xF));
+    buf[26] = (byte) (((values[offset + 4] >>> 39) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 31) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 23) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 15) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 50) & 0x1));
+    buf[32] = (byte) (((values[offset + 5] >>> 42) & 0xFF));
+    buf[33] = (byte) (((values[offset + 5] >>> 34) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 45) & 0x3F));
+    buf[39] = (byte) (((values[offset + 6] >>> 37) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] >>> 29) & 0xFF));
+    buf[41] = (byte) (((values[offset + 6] >>> 21) & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] >>> 13) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 48) & 0x7));
+    buf[45] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[46] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[47] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[48] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[49] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[50] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth51(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 43)
+            | ((buf[offset + 1] & 0xFFL) << 35)
+            | ((buf[offset + 2] & 0xFFL) << 27)
+            | ((buf[offset + 3] & 0xFFL) << 19)
+            | ((buf[offset + 4] & 0xFFL) << 11)
+            | ((buf[offset + 5] & 0xFFL) << 3)
+            | ((buf[offset + 6] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0x1FL) << 46)
+            | ((buf[offset + 7] & 0xFFL) << 38)
+            | ((buf[offset + 8] & 0xFFL) << 30)
+            | ((buf[offset + 9] & 0xFFL) << 22)
+            | ((buf[offset + 10] & 0xFFL) << 14)
+            | ((buf[offset + 11] & 0xFFL) << 6)
+            | ((buf[offset + 12] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 12] & 0x3L) << 49)
+            | ((buf[offset + 13] & 0xFFL) << 41)
+            | ((buf[offset + 14] & 0xFFL) << 33)
+            | ((buf[offset + 15] & 0xFFL) << 25)
+            | ((buf[offset + 16] & 0xFFL) << 17)
+            | ((buf[offset + 17] & 0xFFL) << 9)
+            | ((buf[offset + 18] & 0xFFL) << 1)
+            | ((buf[offset + 19] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 19] & 0x7FL) << 44)
+            | ((buf[offset + 20] & 0xFFL) << 36)
+            | ((buf[offset + 21] & 0xFFL) << 28)
+            | ((buf[offset + 22] & 0xFFL) << 20)
+            | ((buf[offset + 23] & 0xFFL) << 12)
+            | ((buf[offset + 24] & 0xFFL) << 4)
+            | ((buf[offset + 25] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 25] & 0xFL) << 47)
+            | ((buf[offset + 26] & 0xFFL) << 39)
+            | ((buf[offset + 27] & 0xFFL) << 31)
+            | ((buf[offset + 28] & 0xFFL) << 23)
+            | ((buf[offset + 29] & 0xFFL) << 15)
+            | ((buf[offset + 30] & 0xFFL) << 7)
+            | ((buf[offset + 31] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 31] & 0x1L) << 50)
+            | ((buf[offset + 32] & 0xFFL) << 42)
+            | ((buf[offset + 33] & 0xFFL) << 34)
+            | ((buf[offset + 34] & 0xFFL) << 26)
+            | ((buf[offset + 35] & 0xFFL) << 18)
+            | ((buf[offset + 36] & 0xFFL) << 10)
+            | ((buf[offset + 37] & 0xFFL) << 2)
+            | ((buf[offset + 38] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 38] & 0x3FL) << 45)
+            | ((buf[offset + 39] & 0xFFL) << 37)
+            | ((buf[offset + 40] & 0xFFL) << 29)
+            | ((buf[offset + 41] & 0xFFL) << 21)
+            | ((buf[offset + 42] & 0xFFL) << 13)
+            | ((buf[offset + 43] & 0xFFL) << 5)
+            | ((buf[offset + 44] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 44] & 0x7L) << 48)
+            | ((buf[offset + 45] & 0xFFL) << 40)
+            | ((buf[offset + 46] & 0xFFL) << 32)
+            | ((buf[offset + 47] & 0xFFL) << 24)
+            | ((buf[offset + 48] & 0xFFL) << 16)
+            | ((buf[offset + 49] & 0xFFL) << 8)
+            | (buf[offset + 50] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth52(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 44) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 36) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 28) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 20) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 48) & 0xF));
+    buf[7] = (byte) (((values[offset + 1] >>> 40) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[12] = (byte) ((values[offset + 1] & 0xFF));
+    buf[13] = (byte) (((values[offset + 2] >>> 44) & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 36) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 28) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 20) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 48) & 0xF));
+    buf[20] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[25] = (byte) ((values[offset + 3] & 0xFF));
+    buf[26] = (byte) (((values[offset + 4] >>> 44) & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 36) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 28) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 20) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 48) & 0xF));
+    buf[33] = (byte) (((values[offset + 5] >>> 40) & 0xFF));
+    buf[34] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[38] = (byte) ((values[offset + 5] & 0xFF));
+    buf[39] = (byte) (((values[offset + 6] >>> 44) & 0xFF));
+    buf[40] = (byte) (((values[offset + 6] >>> 36) & 0xFF));
+    buf[41] = (byte) (((values[offset + 6] >>> 28) & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] >>> 20) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 48) & 0xF));
+    buf[46] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[47] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[48] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[49] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[50] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[51] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth52(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 44)
+            | ((buf[offset + 1] & 0xFFL) << 36)
+            | ((buf[offset + 2] & 0xFFL) << 28)
+            | ((buf[offset + 3] & 0xFFL) << 20)
+            | ((buf[offset + 4] & 0xFFL) << 12)
+            | ((buf[offset + 5] & 0xFFL) << 4)
+            | ((buf[offset + 6] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0xFL) << 48)
+            | ((buf[offset + 7] & 0xFFL) << 40)
+            | ((buf[offset + 8] & 0xFFL) << 32)
+            | ((buf[offset + 9] & 0xFFL) << 24)
+            | ((buf[offset + 10] & 0xFFL) << 16)
+            | ((buf[offset + 11] & 0xFFL) << 8)
+            | (buf[offset + 12] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 13] & 0xFFL) << 44)
+            | ((buf[offset + 14] & 0xFFL) << 36)
+            | ((buf[offset + 15] & 0xFFL) << 28)
+            | ((buf[offset + 16] & 0xFFL) << 20)
+            | ((buf[offset + 17] & 0xFFL) << 12)
+            | ((buf[offset + 18] & 0xFFL) << 4)
+            | ((buf[offset + 19] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 19] & 0xFL) << 48)
+            | ((buf[offset + 20] & 0xFFL) << 40)
+            | ((buf[offset + 21] & 0xFFL) << 32)
+            | ((buf[offset + 22] & 0xFFL) << 24)
+            | ((buf[offset + 23] & 0xFFL) << 16)
+            | ((buf[offset + 24] & 0xFFL) << 8)
+            | (buf[offset + 25] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 26] & 0xFFL) << 44)
+            | ((buf[offset + 27] & 0xFFL) << 36)
+            | ((buf[offset + 28] & 0xFFL) << 28)
+            | ((buf[offset + 29] & 0xFFL) << 20)
+            | ((buf[offset + 30] & 0xFFL) << 12)
+            | ((buf[offset + 31] & 0xFFL) << 4)
+            | ((buf[offset + 32] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 32] & 0xFL) << 48)
+            | ((buf[offset + 33] & 0xFFL) << 40)
+            | ((buf[offset + 34] & 0xFFL) << 32)
+            | ((buf[offset + 35] & 0xFFL) << 24)
+            | ((buf[offset + 36] & 0xFFL) << 16)
+            | ((buf[offset + 37] & 0xFFL) << 8)
+            | (buf[offset + 38] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 39] & 0xFFL) << 44)
+            | ((buf[offset + 40] & 0xFFL) << 36)
+            | ((buf[offset + 41] & 0xFFL) << 28)
+            | ((buf[offset + 42] & 0xFFL) << 20)
+            | ((buf[offset + 43] & 0xFFL) << 12)
+            | ((buf[offset + 44] & 0xFFL) << 4)
+            | ((buf[offset + 45] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 45] & 0xFL) << 48)
+            | ((buf[offset + 46] & 0xFFL) << 40)
+            | ((buf[offset + 47] & 0xFFL) << 32)
+            | ((buf[offset + 48] & 0xFFL) << 24)
+            | ((buf[offset + 49] & 0xFFL) << 16)
+            | ((buf[offset + 50] & 0xFFL) << 8)
+            | (buf[offset + 51] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth53(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 45) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 37) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 29) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 21) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 50) & 0x7));
+    buf[7] = (byte) (((values[offset + 1] >>> 42) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 34) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 47) & 0x3F));
+    buf[14] = (byte) (((values[offset + 2] >>> 39) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 31) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 23) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 15) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 52) & 0x1));
+    buf[20] = (byte) (((values[offset + 3] >>> 44) & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 49) & 0xF));
+    buf[27] = (byte) (((values[offset + 4] >>> 41) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 33) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 25) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 17) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 46) & 0x7F));
+    buf[34] = (byte) (((values[offset + 5] >>> 38) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 30) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 51) & 0x3));
+    buf[40] = (byte) (((values[offset + 6] >>> 43) & 0xFF));
+    buf[41] = (byte) (((values[offset + 6] >>> 35) & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] >>> 27) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] >>> 19) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 48) & 0x1F));
+    buf[47] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[48] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[49] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[50] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[51] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[52] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth53(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 45)
+            | ((buf[offset + 1] & 0xFFL) << 37)
+            | ((buf[offset + 2] & 0xFFL) << 29)
+            | ((buf[offset + 3] & 0xFFL) << 21)
+            | ((buf[offset + 4] & 0xFFL) << 13)
+            | ((buf[offset + 5] & 0xFFL) << 5)
+            | ((buf[offset + 6] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0x7L) << 50)
+            | ((buf[offset + 7] & 0xFFL) << 42)
+            | ((buf[offset + 8] & 0xFFL) << 34)
+            | ((buf[offset + 9] & 0xFFL) << 26)
+            | ((buf[offset + 10] & 0xFFL) << 18)
+            | ((buf[offset + 11] & 0xFFL) << 10)
+            | ((buf[offset + 12] & 0xFFL) << 2)
+            | ((buf[offset + 13] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 13] & 0x3FL) << 47)
+            | ((buf[offset + 14] & 0xFFL) << 39)
+            | ((buf[offset + 15] & 0xFFL) << 31)
+            | ((buf[offset + 16] & 0xFFL) << 23)
+            | ((buf[offset + 17] & 0xFFL) << 15)
+            | ((buf[offset + 18] & 0xFFL) << 7)
+            | ((buf[offset + 19] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 19] & 0x1L) << 52)
+            | ((buf[offset + 20] & 0xFFL) << 44)
+            | ((buf[offset + 21] & 0xFFL) << 36)
+            | ((buf[offset + 22] & 0xFFL) << 28)
+            | ((buf[offset + 23] & 0xFFL) << 20)
+            | ((buf[offset + 24] & 0xFFL) << 12)
+            | ((buf[offset + 25] & 0xFFL) << 4)
+            | ((buf[offset + 26] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 26] & 0xFL) << 49)
+            | ((buf[offset + 27] & 0xFFL) << 41)
+            | ((buf[offset + 28] & 0xFFL) << 33)
+            | ((buf[offset + 29] & 0xFFL) << 25)
+            | ((buf[offset + 30] & 0xFFL) << 17)
+            | ((buf[offset + 31] & 0xFFL) << 9)
+            | ((buf[offset + 32] & 0xFFL) << 1)
+            | ((buf[offset + 33] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 33] & 0x7FL) << 46)
+            | ((buf[offset + 34] & 0xFFL) << 38)
+            | ((buf[offset + 35] & 0xFFL) << 30)
+            | ((buf[offset + 36] & 0xFFL) << 22)
+            | ((buf[offset + 37] & 0xFFL) << 14)
+            | ((buf[offset + 38] & 0xFFL) << 6)
+            | ((buf[offset + 39] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 39] & 0x3L) << 51)
+            | ((buf[offset + 40] & 0xFFL) << 43)
+            | ((buf[offset + 41] & 0xFFL) << 35)
+            | ((buf[offset + 42] & 0xFFL) << 27)
+            | ((buf[offset + 43] & 0xFFL) << 19)
+            | ((buf[offset + 44] & 0xFFL) << 11)
+            | ((buf[offset + 45] & 0xFFL) << 3)
+            | ((buf[offset + 46] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 46] & 0x1FL) << 48)
+            | ((buf[offset + 47] & 0xFFL) << 40)
+            | ((buf[offset + 48] & 0xFFL) << 32)
+            | ((buf[offset + 49] & 0xFFL) << 24)
+            | ((buf[offset + 50] & 0xFFL) << 16)
+            | ((buf[offset + 51] & 0xFFL) << 8)
+            | (buf[offset + 52] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth54(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 46) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 38) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 30) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 22) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 52) & 0x3));
+    buf[7] = (byte) (((values[offset + 1] >>> 44) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 36) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 50) & 0xF));
+    buf[14] = (byte) (((values[offset + 2] >>> 42) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 34) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 26) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 18) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 48) & 0x3F));
+    buf[21] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[26] = (byte) ((values[offset + 3] & 0xFF));
+    buf[27] = (byte) (((values[offset + 4] >>> 46) & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 38) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 30) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 22) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 52) & 0x3));
+    buf[34] = (byte) (((values[offset + 5] >>> 44) & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 36) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 50) & 0xF));
+    buf[41] = (byte) (((values[offset + 6] >>> 42) & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] >>> 34) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] >>> 26) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] >>> 18) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 48) & 0x3F));
+    buf[48] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[49] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[50] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[51] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[52] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[53] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth54(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 46)
+            | ((buf[offset + 1] & 0xFFL) << 38)
+            | ((buf[offset + 2] & 0xFFL) << 30)
+            | ((buf[offset + 3] & 0xFFL) << 22)
+            | ((buf[offset + 4] & 0xFFL) << 14)
+            | ((buf[offset + 5] & 0xFFL) << 6)
+            | ((buf[offset + 6] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0x3L) << 52)
+            | ((buf[offset + 7] & 0xFFL) << 44)
+            | ((buf[offset + 8] & 0xFFL) << 36)
+            | ((buf[offset + 9] & 0xFFL) << 28)
+            | ((buf[offset + 10] & 0xFFL) << 20)
+            | ((buf[offset + 11] & 0xFFL) << 12)
+            | ((buf[offset + 12] & 0xFFL) << 4)
+            | ((buf[offset + 13] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 13] & 0xFL) << 50)
+            | ((buf[offset + 14] & 0xFFL) << 42)
+            | ((buf[offset + 15] & 0xFFL) << 34)
+            | ((buf[offset + 16] & 0xFFL) << 26)
+            | ((buf[offset + 17] & 0xFFL) << 18)
+            | ((buf[offset + 18] & 0xFFL) << 10)
+            | ((buf[offset + 19] & 0xFFL) << 2)
+            | ((buf[offset + 20] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 20] & 0x3FL) << 48)
+            | ((buf[offset + 21] & 0xFFL) << 40)
+            | ((buf[offset + 22] & 0xFFL) << 32)
+            | ((buf[offset + 23] & 0xFFL) << 24)
+            | ((buf[offset + 24] & 0xFFL) << 16)
+            | ((buf[offset + 25] & 0xFFL) << 8)
+            | (buf[offset + 26] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 27] & 0xFFL) << 46)
+            | ((buf[offset + 28] & 0xFFL) << 38)
+            | ((buf[offset + 29] & 0xFFL) << 30)
+            | ((buf[offset + 30] & 0xFFL) << 22)
+            | ((buf[offset + 31] & 0xFFL) << 14)
+            | ((buf[offset + 32] & 0xFFL) << 6)
+            | ((buf[offset + 33] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 33] & 0x3L) << 52)
+            | ((buf[offset + 34] & 0xFFL) << 44)
+            | ((buf[offset + 35] & 0xFFL) << 36)
+            | ((buf[offset + 36] & 0xFFL) << 28)
+            | ((buf[offset + 37] & 0xFFL) << 20)
+            | ((buf[offset + 38] & 0xFFL) << 12)
+            | ((buf[offset + 39] & 0xFFL) << 4)
+            | ((buf[offset + 40] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 40] & 0xFL) << 50)
+            | ((buf[offset + 41] & 0xFFL) << 42)
+            | ((buf[offset + 42] & 0xFFL) << 34)
+            | ((buf[offset + 43] & 0xFFL) << 26)
+            | ((buf[offset + 44] & 0xFFL) << 18)
+            | ((buf[offset + 45] & 0xFFL) << 10)
+            | ((buf[offset + 46] & 0xFFL) << 2)
+            | ((buf[offset + 47] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 47] & 0x3FL) << 48)
+            | ((buf[offset + 48] & 0xFFL) << 40)
+            | ((buf[offset + 49] & 0xFFL) << 32)
+            | ((buf[offset + 50] & 0xFFL) << 24)
+            | ((buf[offset + 51] & 0xFFL) << 16)
+            | ((buf[offset + 52] & 0xFFL) << 8)
+            | (buf[offset + 53] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth55(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 47) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 39) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 31) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 23) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[6] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 54) & 0x1));
+    buf[7] = (byte) (((values[offset + 1] >>> 46) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 38) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 53) & 0x3));
+    buf[14] = (byte) (((values[offset + 2] >>> 45) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 37) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 29) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 21) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 52) & 0x7));
+    buf[21] = (byte) (((values[offset + 3] >>> 44) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 51) & 0xF));
+    buf[28] = (byte) (((values[offset + 4] >>> 43) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 35) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 27) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 19) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 50) & 0x1F));
+    buf[35] = (byte) (((values[offset + 5] >>> 42) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 34) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 49) & 0x3F));
+    buf[42] = (byte) (((values[offset + 6] >>> 41) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] >>> 33) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] >>> 25) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 17) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 48) & 0x7F));
+    buf[49] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[50] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[51] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[52] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[53] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[54] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth55(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 47)
+            | ((buf[offset + 1] & 0xFFL) << 39)
+            | ((buf[offset + 2] & 0xFFL) << 31)
+            | ((buf[offset + 3] & 0xFFL) << 23)
+            | ((buf[offset + 4] & 0xFFL) << 15)
+            | ((buf[offset + 5] & 0xFFL) << 7)
+            | ((buf[offset + 6] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 6] & 0x1L) << 54)
+            | ((buf[offset + 7] & 0xFFL) << 46)
+            | ((buf[offset + 8] & 0xFFL) << 38)
+            | ((buf[offset + 9] & 0xFFL) << 30)
+            | ((buf[offset + 10] & 0xFFL) << 22)
+            | ((buf[offset + 11] & 0xFFL) << 14)
+            | ((buf[offset + 12] & 0xFFL) << 6)
+            | ((buf[offset + 13] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 13] & 0x3L) << 53)
+            | ((buf[offset + 14] & 0xFFL) << 45)
+            | ((buf[offset + 15] & 0xFFL) << 37)
+            | ((buf[offset + 16] & 0xFFL) << 29)
+            | ((buf[offset + 17] & 0xFFL) << 21)
+            | ((buf[offset + 18] & 0xFFL) << 13)
+            | ((buf[offset + 19] & 0xFFL) << 5)
+            | ((buf[offset + 20] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 20] & 0x7L) << 52)
+            | ((buf[offset + 21] & 0xFFL) << 44)
+            | ((buf[offset + 22] & 0xFFL) << 36)
+            | ((buf[offset + 23] & 0xFFL) << 28)
+            | ((buf[offset + 24] & 0xFFL) << 20)
+            | ((buf[offset + 25] & 0xFFL) << 12)
+            | ((buf[offset + 26] & 0xFFL) << 4)
+            | ((buf[offset + 27] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 27] & 0xFL) << 51)
+            | ((buf[offset + 28] & 0xFFL) << 43)
+            | ((buf[offset + 29] & 0xFFL) << 35)
+            | ((buf[offset + 30] & 0xFFL) << 27)
+            | ((buf[offset + 31] & 0xFFL) << 19)
+            | ((buf[offset + 32] & 0xFFL) << 11)
+            | ((buf[offset + 33] & 0xFFL) << 3)
+            | ((buf[offset + 34] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 34] & 0x1FL) << 50)
+            | ((buf[offset + 35] & 0xFFL) << 42)
+            | ((buf[offset + 36] & 0xFFL) << 34)
+            | ((buf[offset + 37] & 0xFFL) << 26)
+            | ((buf[offset + 38] & 0xFFL) << 18)
+            | ((buf[offset + 39] & 0xFFL) << 10)
+            | ((buf[offset + 40] & 0xFFL) << 2)
+            | ((buf[offset + 41] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 41] & 0x3FL) << 49)
+            | ((buf[offset + 42] & 0xFFL) << 41)
+            | ((buf[offset + 43] & 0xFFL) << 33)
+            | ((buf[offset + 44] & 0xFFL) << 25)
+            | ((buf[offset + 45] & 0xFFL) << 17)
+            | ((buf[offset + 46] & 0xFFL) << 9)
+            | ((buf[offset + 47] & 0xFFL) << 1)
+            | ((buf[offset + 48] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 48] & 0x7FL) << 48)
+            | ((buf[offset + 49] & 0xFFL) << 40)
+            | ((buf[offset + 50] & 0xFFL) << 32)
+            | ((buf[offset + 51] & 0xFFL) << 24)
+            | ((buf[offset + 52] & 0xFFL) << 16)
+            | ((buf[offset + 53] & 0xFFL) << 8)
+            | (buf[offset + 54] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth56(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 48) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 40) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 32) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 24) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[6] = (byte) ((values[offset] & 0xFF));
+    buf[7] = (byte) (((values[offset + 1] >>> 48) & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 40) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[13] = (byte) ((values[offset + 1] & 0xFF));
+    buf[14] = (byte) (((values[offset + 2] >>> 48) & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 40) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 32) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 24) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[20] = (byte) ((values[offset + 2] & 0xFF));
+    buf[21] = (byte) (((values[offset + 3] >>> 48) & 0xFF));
+    buf[22] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[27] = (byte) ((values[offset + 3] & 0xFF));
+    buf[28] = (byte) (((values[offset + 4] >>> 48) & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 40) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 32) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 24) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[34] = (byte) ((values[offset + 4] & 0xFF));
+    buf[35] = (byte) (((values[offset + 5] >>> 48) & 0xFF));
+    buf[36] = (byte) (((values[offset + 5] >>> 40) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[41] = (byte) ((values[offset + 5] & 0xFF));
+    buf[42] = (byte) (((values[offset + 6] >>> 48) & 0xFF));
+    buf[43] = (byte) (((values[offset + 6] >>> 40) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] >>> 32) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 24) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[48] = (byte) ((values[offset + 6] & 0xFF));
+    buf[49] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[50] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[51] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[52] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[53] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[54] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[55] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth56(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 48)
+            | ((buf[offset + 1] & 0xFFL) << 40)
+            | ((buf[offset + 2] & 0xFFL) << 32)
+            | ((buf[offset + 3] & 0xFFL) << 24)
+            | ((buf[offset + 4] & 0xFFL) << 16)
+            | ((buf[offset + 5] & 0xFFL) << 8)
+            | (buf[offset + 6] & 0xFFL);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0xFFL) << 48)
+            | ((buf[offset + 8] & 0xFFL) << 40)
+            | ((buf[offset + 9] & 0xFFL) << 32)
+            | ((buf[offset + 10] & 0xFFL) << 24)
+            | ((buf[offset + 11] & 0xFFL) << 16)
+            | ((buf[offset + 12] & 0xFFL) << 8)
+            | (buf[offset + 13] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 14] & 0xFFL) << 48)
+            | ((buf[offset + 15] & 0xFFL) << 40)
+            | ((buf[offset + 16] & 0xFFL) << 32)
+            | ((buf[offset + 17] & 0xFFL) << 24)
+            | ((buf[offset + 18] & 0xFFL) << 16)
+            | ((buf[offset + 19] & 0xFFL) << 8)
+            | (buf[offset + 20] & 0xFFL);
+    values[valuesOffset + 3] =
+        ((buf[offset + 21] & 0xFFL) << 48)
+            | ((buf[offset + 22] & 0xFFL) << 40)
+            | ((buf[offset + 23] & 0xFFL) << 32)
+            | ((buf[offset + 24] & 0xFFL) << 24)
+            | ((buf[offset + 25] & 0xFFL) << 16)
+            | ((buf[offset + 26] & 0xFFL) << 8)
+            | (buf[offset + 27] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 28] & 0xFFL) << 48)
+            | ((buf[offset + 29] & 0xFFL) << 40)
+            | ((buf[offset + 30] & 0xFFL) << 32)
+            | ((buf[offset + 31] & 0xFFL) << 24)
+            | ((buf[offset + 32] & 0xFFL) << 16)
+            | ((buf[offset + 33] & 0xFFL) << 8)
+            | (buf[offset + 34] & 0xFFL);
+    values[valuesOffset + 5] =
+        ((buf[offset + 35] & 0xFFL) << 48)
+            | ((buf[offset + 36] & 0xFFL) << 40)
+            | ((buf[offset + 37] & 0xFFL) << 32)
+            | ((buf[offset + 38] & 0xFFL) << 24)
+            | ((buf[offset + 39] & 0xFFL) << 16)
+            | ((buf[offset + 40] & 0xFFL) << 8)
+            | (buf[offset + 41] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 42] & 0xFFL) << 48)
+            | ((buf[offset + 43] & 0xFFL) << 40)
+            | ((buf[offset + 44] & 0xFFL) << 32)
+            | ((buf[offset + 45] & 0xFFL) << 24)
+            | ((buf[offset + 46] & 0xFFL) << 16)
+            | ((buf[offset + 47] & 0xFFL) << 8)
+            | (buf[offset + 48] & 0xFFL);
+    values[valuesOffset + 7] =
+        ((buf[offset + 49] & 0xFFL) << 48)
+            | ((buf[offset + 50] & 0xFFL) << 40)
+            | ((buf[offset + 51] & 0xFFL) << 32)
+            | ((buf[offset + 52] & 0xFFL) << 24)
+            | ((buf[offset + 53] & 0xFFL) << 16)
+            | ((buf[offset + 54] & 0xFFL) << 8)
+            | (buf[offset + 55] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth57(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 49) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 41) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 33) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 25) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 17) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 9) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 1) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0x1) << 7) | ((values[offset + 1] >>> 50) & 0x7F));
+    buf[8] = (byte) (((values[offset + 1] >>> 42) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 34) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 51) & 0x3F));
+    buf[15] = (byte) (((values[offset + 2] >>> 43) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 35) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 27) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 19) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 11) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 3) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] & 0x7) << 5) | ((values[offset + 3] >>> 52) & 0x1F));
+    buf[22] = (byte) (((values[offset + 3] >>> 44) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 53) & 0xF));
+    buf[29] = (byte) (((values[offset + 4] >>> 45) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 37) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 29) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 21) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 13) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 5) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] & 0x1F) << 3) | ((values[offset + 5] >>> 54) & 0x7));
+    buf[36] = (byte) (((values[offset + 5] >>> 46) & 0xFF));
+    buf[37] = (byte) (((values[offset + 5] >>> 38) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 30) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 55) & 0x3));
+    buf[43] = (byte) (((values[offset + 6] >>> 47) & 0xFF));
+    buf[44] = (byte) (((values[offset + 6] >>> 39) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 31) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 23) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 15) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 7) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] & 0x7F) << 1) | ((values[offset + 7] >>> 56) & 0x1));
+    buf[50] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[51] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[52] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[53] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[54] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[55] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[56] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth57(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 49)
+            | ((buf[offset + 1] & 0xFFL) << 41)
+            | ((buf[offset + 2] & 0xFFL) << 33)
+            | ((buf[offset + 3] & 0xFFL) << 25)
+            | ((buf[offset + 4] & 0xFFL) << 17)
+            | ((buf[offset + 5] & 0xFFL) << 9)
+            | ((buf[offset + 6] & 0xFFL) << 1)
+            | ((buf[offset + 7] & 0xFFL) >>> 7);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0x7FL) << 50)
+            | ((buf[offset + 8] & 0xFFL) << 42)
+            | ((buf[offset + 9] & 0xFFL) << 34)
+            | ((buf[offset + 10] & 0xFFL) << 26)
+            | ((buf[offset + 11] & 0xFFL) << 18)
+            | ((buf[offset + 12] & 0xFFL) << 10)
+            | ((buf[offset + 13] & 0xFFL) << 2)
+            | ((buf[offset + 14] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 14] & 0x3FL) << 51)
+            | ((buf[offset + 15] & 0xFFL) << 43)
+            | ((buf[offset + 16] & 0xFFL) << 35)
+            | ((buf[offset + 17] & 0xFFL) << 27)
+            | ((buf[offset + 18] & 0xFFL) << 19)
+            | ((buf[offset + 19] & 0xFFL) << 11)
+            | ((buf[offset + 20] & 0xFFL) << 3)
+            | ((buf[offset + 21] & 0xFFL) >>> 5);
+    values[valuesOffset + 3] =
+        ((buf[offset + 21] & 0x1FL) << 52)
+            | ((buf[offset + 22] & 0xFFL) << 44)
+            | ((buf[offset + 23] & 0xFFL) << 36)
+            | ((buf[offset + 24] & 0xFFL) << 28)
+            | ((buf[offset + 25] & 0xFFL) << 20)
+            | ((buf[offset + 26] & 0xFFL) << 12)
+            | ((buf[offset + 27] & 0xFFL) << 4)
+            | ((buf[offset + 28] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 28] & 0xFL) << 53)
+            | ((buf[offset + 29] & 0xFFL) << 45)
+            | ((buf[offset + 30] & 0xFFL) << 37)
+            | ((buf[offset + 31] & 0xFFL) << 29)
+            | ((buf[offset + 32] & 0xFFL) << 21)
+            | ((buf[offset + 33] & 0xFFL) << 13)
+            | ((buf[offset + 34] & 0xFFL) << 5)
+            | ((buf[offset + 35] & 0xFFL) >>> 3);
+    values[valuesOffset + 5] =
+        ((buf[offset + 35] & 0x7L) << 54)
+            | ((buf[offset + 36] & 0xFFL) << 46)
+            | ((buf[offset + 37] & 0xFFL) << 38)
+            | ((buf[offset + 38] & 0xFFL) << 30)
+            | ((buf[offset + 39] & 0xFFL) << 22)
+            | ((buf[offset + 40] & 0xFFL) << 14)
+            | ((buf[offset + 41] & 0xFFL) << 6)
+            | ((buf[offset + 42] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 42] & 0x3L) << 55)
+            | ((buf[offset + 43] & 0xFFL) << 47)
+            | ((buf[offset + 44] & 0xFFL) << 39)
+            | ((buf[offset + 45] & 0xFFL) << 31)
+            | ((buf[offset + 46] & 0xFFL) << 23)
+            | ((buf[offset + 47] & 0xFFL) << 15)
+            | ((buf[offset + 48] & 0xFFL) << 7)
+            | ((buf[offset + 49] & 0xFFL) >>> 1);
+    values[valuesOffset + 7] =
+        ((buf[offset + 49] & 0x1L) << 56)
+            | ((buf[offset + 50] & 0xFFL) << 48)
+            | ((buf[offset + 51] & 0xFFL) << 40)
+            | ((buf[offset + 52] & 0xFFL) << 32)
+            | ((buf[offset + 53] & 0xFFL) << 24)
+            | ((buf[offset + 54] & 0xFFL) << 16)
+            | ((buf[offset + 55] & 0xFFL) << 8)
+            | (buf[offset + 56] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth58(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 50) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 42) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 34) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 26) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 18) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 10) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 2) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0x3) << 6) | ((values[offset + 1] >>> 52) & 0x3F));
+    buf[8] = (byte) (((values[offset + 1] >>> 44) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 36) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 54) & 0xF));
+    buf[15] = (byte) (((values[offset + 2] >>> 46) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 38) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 30) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 22) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 14) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 6) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] & 0x3F) << 2) | ((values[offset + 3] >>> 56) & 0x3));
+    buf[22] = (byte) (((values[offset + 3] >>> 48) & 0xFF));
+    buf[23] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[28] = (byte) ((values[offset + 3] & 0xFF));
+    buf[29] = (byte) (((values[offset + 4] >>> 50) & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 42) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 34) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 26) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 18) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 10) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 2) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] & 0x3) << 6) | ((values[offset + 5] >>> 52) & 0x3F));
+    buf[37] = (byte) (((values[offset + 5] >>> 44) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 36) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 54) & 0xF));
+    buf[44] = (byte) (((values[offset + 6] >>> 46) & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 38) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 30) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 22) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 14) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 6) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] & 0x3F) << 2) | ((values[offset + 7] >>> 56) & 0x3));
+    buf[51] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[52] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[53] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[54] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[55] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[56] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[57] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth58(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 50)
+            | ((buf[offset + 1] & 0xFFL) << 42)
+            | ((buf[offset + 2] & 0xFFL) << 34)
+            | ((buf[offset + 3] & 0xFFL) << 26)
+            | ((buf[offset + 4] & 0xFFL) << 18)
+            | ((buf[offset + 5] & 0xFFL) << 10)
+            | ((buf[offset + 6] & 0xFFL) << 2)
+            | ((buf[offset + 7] & 0xFFL) >>> 6);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0x3FL) << 52)
+            | ((buf[offset + 8] & 0xFFL) << 44)
+            | ((buf[offset + 9] & 0xFFL) << 36)
+            | ((buf[offset + 10] & 0xFFL) << 28)
+            | ((buf[offset + 11] & 0xFFL) << 20)
+            | ((buf[offset + 12] & 0xFFL) << 12)
+            | ((buf[offset + 13] & 0xFFL) << 4)
+            | ((buf[offset + 14] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 14] & 0xFL) << 54)
+            | ((buf[offset + 15] & 0xFFL) << 46)
+            | ((buf[offset + 16] & 0xFFL) << 38)
+            | ((buf[offset + 17] & 0xFFL) << 30)
+            | ((buf[offset + 18] & 0xFFL) << 22)
+            | ((buf[offset + 19] & 0xFFL) << 14)
+            | ((buf[offset + 20] & 0xFFL) << 6)
+            | ((buf[offset + 21] & 0xFFL) >>> 2);
+    values[valuesOffset + 3] =
+        ((buf[offset + 21] & 0x3L) << 56)
+            | ((buf[offset + 22] & 0xFFL) << 48)
+            | ((buf[offset + 23] & 0xFFL) << 40)
+            | ((buf[offset + 24] & 0xFFL) << 32)
+            | ((buf[offset + 25] & 0xFFL) << 24)
+            | ((buf[offset + 26] & 0xFFL) << 16)
+            | ((buf[offset + 27] & 0xFFL) << 8)
+            | (buf[offset + 28] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 29] & 0xFFL) << 50)
+            | ((buf[offset + 30] & 0xFFL) << 42)
+            | ((buf[offset + 31] & 0xFFL) << 34)
+            | ((buf[offset + 32] & 0xFFL) << 26)
+            | ((buf[offset + 33] & 0xFFL) << 18)
+            | ((buf[offset + 34] & 0xFFL) << 10)
+            | ((buf[offset + 35] & 0xFFL) << 2)
+            | ((buf[offset + 36] & 0xFFL) >>> 6);
+    values[valuesOffset + 5] =
+        ((buf[offset + 36] & 0x3FL) << 52)
+            | ((buf[offset + 37] & 0xFFL) << 44)
+            | ((buf[offset + 38] & 0xFFL) << 36)
+            | ((buf[offset + 39] & 0xFFL) << 28)
+            | ((buf[offset + 40] & 0xFFL) << 20)
+            | ((buf[offset + 41] & 0xFFL) << 12)
+            | ((buf[offset + 42] & 0xFFL) << 4)
+            | ((buf[offset + 43] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 43] & 0xFL) << 54)
+            | ((buf[offset + 44] & 0xFFL) << 46)
+            | ((buf[offset + 45] & 0xFFL) << 38)
+            | ((buf[offset + 46] & 0xFFL) << 30)
+            | ((buf[offset + 47] & 0xFFL) << 22)
+            | ((buf[offset + 48] & 0xFFL) << 14)
+            | ((buf[offset + 49] & 0xFFL) << 6)
+            | ((buf[offset + 50] & 0xFFL) >>> 2);
+    values[valuesOffset + 7] =
+        ((buf[offset + 50] & 0x3L) << 56)
+            | ((buf[offset + 51] & 0xFFL) << 48)
+            | ((buf[offset + 52] & 0xFFL) << 40)
+            | ((buf[offset + 53] & 0xFFL) << 32)
+            | ((buf[offset + 54] & 0xFFL) << 24)
+            | ((buf[offset + 55] & 0xFFL) << 16)
+            | ((buf[offset + 56] & 0xFFL) << 8)
+            | (buf[offset + 57] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth59(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 51) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 43) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 35) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 27) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 19) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 11) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 3) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0x7) << 5) | ((values[offset + 1] >>> 54) & 0x1F));
+    buf[8] = (byte) (((values[offset + 1] >>> 46) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 38) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 57) & 0x3));
+    buf[15] = (byte) (((values[offset + 2] >>> 49) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 41) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 33) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 25) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 17) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 9) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] >>> 1) & 0xFF));
+    buf[22] = (byte) (((values[offset + 2] & 0x1) << 7) | ((values[offset + 3] >>> 52) & 0x7F));
+    buf[23] = (byte) (((values[offset + 3] >>> 44) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[29] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 55) & 0xF));
+    buf[30] = (byte) (((values[offset + 4] >>> 47) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 39) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 31) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 23) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 15) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 7) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] & 0x7F) << 1) | ((values[offset + 5] >>> 58) & 0x1));
+    buf[37] = (byte) (((values[offset + 5] >>> 50) & 0xFF));
+    buf[38] = (byte) (((values[offset + 5] >>> 42) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 34) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[44] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 53) & 0x3F));
+    buf[45] = (byte) (((values[offset + 6] >>> 45) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 37) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 29) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 21) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 13) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] >>> 5) & 0xFF));
+    buf[51] = (byte) (((values[offset + 6] & 0x1F) << 3) | ((values[offset + 7] >>> 56) & 0x7));
+    buf[52] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[53] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[54] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[55] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[56] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[57] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[58] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth59(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 51)
+            | ((buf[offset + 1] & 0xFFL) << 43)
+            | ((buf[offset + 2] & 0xFFL) << 35)
+            | ((buf[offset + 3] & 0xFFL) << 27)
+            | ((buf[offset + 4] & 0xFFL) << 19)
+            | ((buf[offset + 5] & 0xFFL) << 11)
+            | ((buf[offset + 6] & 0xFFL) << 3)
+            | ((buf[offset + 7] & 0xFFL) >>> 5);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0x1FL) << 54)
+            | ((buf[offset + 8] & 0xFFL) << 46)
+            | ((buf[offset + 9] & 0xFFL) << 38)
+            | ((buf[offset + 10] & 0xFFL) << 30)
+            | ((buf[offset + 11] & 0xFFL) << 22)
+            | ((buf[offset + 12] & 0xFFL) << 14)
+            | ((buf[offset + 13] & 0xFFL) << 6)
+            | ((buf[offset + 14] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 14] & 0x3L) << 57)
+            | ((buf[offset + 15] & 0xFFL) << 49)
+            | ((buf[offset + 16] & 0xFFL) << 41)
+            | ((buf[offset + 17] & 0xFFL) << 33)
+            | ((buf[offset + 18] & 0xFFL) << 25)
+            | ((buf[offset + 19] & 0xFFL) << 17)
+            | ((buf[offset + 20] & 0xFFL) << 9)
+            | ((buf[offset + 21] & 0xFFL) << 1)
+            | ((buf[offset + 22] & 0xFFL) >>> 7);
+    values[valuesOffset + 3] =
+        ((buf[offset + 22] & 0x7FL) << 52)
+            | ((buf[offset + 23] & 0xFFL) << 44)
+            | ((buf[offset + 24] & 0xFFL) << 36)
+            | ((buf[offset + 25] & 0xFFL) << 28)
+            | ((buf[offset + 26] & 0xFFL) << 20)
+            | ((buf[offset + 27] & 0xFFL) << 12)
+            | ((buf[offset + 28] & 0xFFL) << 4)
+            | ((buf[offset + 29] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 29] & 0xFL) << 55)
+            | ((buf[offset + 30] & 0xFFL) << 47)
+            | ((buf[offset + 31] & 0xFFL) << 39)
+            | ((buf[offset + 32] & 0xFFL) << 31)
+            | ((buf[offset + 33] & 0xFFL) << 23)
+            | ((buf[offset + 34] & 0xFFL) << 15)
+            | ((buf[offset + 35] & 0xFFL) << 7)
+            | ((buf[offset + 36] & 0xFFL) >>> 1);
+    values[valuesOffset + 5] =
+        ((buf[offset + 36] & 0x1L) << 58)
+            | ((buf[offset + 37] & 0xFFL) << 50)
+            | ((buf[offset + 38] & 0xFFL) << 42)
+            | ((buf[offset + 39] & 0xFFL) << 34)
+            | ((buf[offset + 40] & 0xFFL) << 26)
+            | ((buf[offset + 41] & 0xFFL) << 18)
+            | ((buf[offset + 42] & 0xFFL) << 10)
+            | ((buf[offset + 43] & 0xFFL) << 2)
+            | ((buf[offset + 44] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 44] & 0x3FL) << 53)
+            | ((buf[offset + 45] & 0xFFL) << 45)
+            | ((buf[offset + 46] & 0xFFL) << 37)
+            | ((buf[offset + 47] & 0xFFL) << 29)
+            | ((buf[offset + 48] & 0xFFL) << 21)
+            | ((buf[offset + 49] & 0xFFL) << 13)
+            | ((buf[offset + 50] & 0xFFL) << 5)
+            | ((buf[offset + 51] & 0xFFL) >>> 3);
+    values[valuesOffset + 7] =
+        ((buf[offset + 51] & 0x7L) << 56)
+            | ((buf[offset + 52] & 0xFFL) << 48)
+            | ((buf[offset + 53] & 0xFFL) << 40)
+            | ((buf[offset + 54] & 0xFFL) << 32)
+            | ((buf[offset + 55] & 0xFFL) << 24)
+            | ((buf[offset + 56] & 0xFFL) << 16)
+            | ((buf[offset + 57] & 0xFFL) << 8)
+            | (buf[offset + 58] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth60(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 52) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 44) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 36) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 28) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 20) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 12) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 4) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0xF) << 4) | ((values[offset + 1] >>> 56) & 0xF));
+    buf[8] = (byte) (((values[offset + 1] >>> 48) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 40) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[14] = (byte) ((values[offset + 1] & 0xFF));
+    buf[15] = (byte) (((values[offset + 2] >>> 52) & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 44) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 36) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 28) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 20) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 12) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] >>> 4) & 0xFF));
+    buf[22] = (byte) (((values[offset + 2] & 0xF) << 4) | ((values[offset + 3] >>> 56) & 0xF));
+    buf[23] = (byte) (((values[offset + 3] >>> 48) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[29] = (byte) ((values[offset + 3] & 0xFF));
+    buf[30] = (byte) (((values[offset + 4] >>> 52) & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 44) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 36) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 28) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 20) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 12) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] >>> 4) & 0xFF));
+    buf[37] = (byte) (((values[offset + 4] & 0xF) << 4) | ((values[offset + 5] >>> 56) & 0xF));
+    buf[38] = (byte) (((values[offset + 5] >>> 48) & 0xFF));
+    buf[39] = (byte) (((values[offset + 5] >>> 40) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[44] = (byte) ((values[offset + 5] & 0xFF));
+    buf[45] = (byte) (((values[offset + 6] >>> 52) & 0xFF));
+    buf[46] = (byte) (((values[offset + 6] >>> 44) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 36) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 28) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 20) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] >>> 12) & 0xFF));
+    buf[51] = (byte) (((values[offset + 6] >>> 4) & 0xFF));
+    buf[52] = (byte) (((values[offset + 6] & 0xF) << 4) | ((values[offset + 7] >>> 56) & 0xF));
+    buf[53] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[54] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[55] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[56] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[57] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[58] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[59] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth60(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 52)
+            | ((buf[offset + 1] & 0xFFL) << 44)
+            | ((buf[offset + 2] & 0xFFL) << 36)
+            | ((buf[offset + 3] & 0xFFL) << 28)
+            | ((buf[offset + 4] & 0xFFL) << 20)
+            | ((buf[offset + 5] & 0xFFL) << 12)
+            | ((buf[offset + 6] & 0xFFL) << 4)
+            | ((buf[offset + 7] & 0xFFL) >>> 4);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0xFL) << 56)
+            | ((buf[offset + 8] & 0xFFL) << 48)
+            | ((buf[offset + 9] & 0xFFL) << 40)
+            | ((buf[offset + 10] & 0xFFL) << 32)
+            | ((buf[offset + 11] & 0xFFL) << 24)
+            | ((buf[offset + 12] & 0xFFL) << 16)
+            | ((buf[offset + 13] & 0xFFL) << 8)
+            | (buf[offset + 14] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 15] & 0xFFL) << 52)
+            | ((buf[offset + 16] & 0xFFL) << 44)
+            | ((buf[offset + 17] & 0xFFL) << 36)
+            | ((buf[offset + 18] & 0xFFL) << 28)
+            | ((buf[offset + 19] & 0xFFL) << 20)
+            | ((buf[offset + 20] & 0xFFL) << 12)
+            | ((buf[offset + 21] & 0xFFL) << 4)
+            | ((buf[offset + 22] & 0xFFL) >>> 4);
+    values[valuesOffset + 3] =
+        ((buf[offset + 22] & 0xFL) << 56)
+            | ((buf[offset + 23] & 0xFFL) << 48)
+            | ((buf[offset + 24] & 0xFFL) << 40)
+            | ((buf[offset + 25] & 0xFFL) << 32)
+            | ((buf[offset + 26] & 0xFFL) << 24)
+            | ((buf[offset + 27] & 0xFFL) << 16)
+            | ((buf[offset + 28] & 0xFFL) << 8)
+            | (buf[offset + 29] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 30] & 0xFFL) << 52)
+            | ((buf[offset + 31] & 0xFFL) << 44)
+            | ((buf[offset + 32] & 0xFFL) << 36)
+            | ((buf[offset + 33] & 0xFFL) << 28)
+            | ((buf[offset + 34] & 0xFFL) << 20)
+            | ((buf[offset + 35] & 0xFFL) << 12)
+            | ((buf[offset + 36] & 0xFFL) << 4)
+            | ((buf[offset + 37] & 0xFFL) >>> 4);
+    values[valuesOffset + 5] =
+        ((buf[offset + 37] & 0xFL) << 56)
+            | ((buf[offset + 38] & 0xFFL) << 48)
+            | ((buf[offset + 39] & 0xFFL) << 40)
+            | ((buf[offset + 40] & 0xFFL) << 32)
+            | ((buf[offset + 41] & 0xFFL) << 24)
+            | ((buf[offset + 42] & 0xFFL) << 16)
+            | ((buf[offset + 43] & 0xFFL) << 8)
+            | (buf[offset + 44] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 45] & 0xFFL) << 52)
+            | ((buf[offset + 46] & 0xFFL) << 44)
+            | ((buf[offset + 47] & 0xFFL) << 36)
+            | ((buf[offset + 48] & 0xFFL) << 28)
+            | ((buf[offset + 49] & 0xFFL) << 20)
+            | ((buf[offset + 50] & 0xFFL) << 12)
+            | ((buf[offset + 51] & 0xFFL) << 4)
+            | ((buf[offset + 52] & 0xFFL) >>> 4);
+    values[valuesOffset + 7] =
+        ((buf[offset + 52] & 0xFL) << 56)
+            | ((buf[offset + 53] & 0xFFL) << 48)
+            | ((buf[offset + 54] & 0xFFL) << 40)
+            | ((buf[offset + 55] & 0xFFL) << 32)
+            | ((buf[offset + 56] & 0xFFL) << 24)
+            | ((buf[offset + 57] & 0xFFL) << 16)
+            | ((buf[offset + 58] & 0xFFL) << 8)
+            | (buf[offset + 59] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth61(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 53) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 45) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 37) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 29) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 21) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 13) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 5) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0x1F) << 3) | ((values[offset + 1] >>> 58) & 0x7));
+    buf[8] = (byte) (((values[offset + 1] >>> 50) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 42) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 34) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 26) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 18) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 10) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] >>> 2) & 0xFF));
+    buf[15] = (byte) (((values[offset + 1] & 0x3) << 6) | ((values[offset + 2] >>> 55) & 0x3F));
+    buf[16] = (byte) (((values[offset + 2] >>> 47) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 39) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 31) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 23) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 15) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] >>> 7) & 0xFF));
+    buf[22] = (byte) (((values[offset + 2] & 0x7F) << 1) | ((values[offset + 3] >>> 60) & 0x1));
+    buf[23] = (byte) (((values[offset + 3] >>> 52) & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 44) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[29] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[30] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 57) & 0xF));
+    buf[31] = (byte) (((values[offset + 4] >>> 49) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 41) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 33) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 25) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 17) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] >>> 9) & 0xFF));
+    buf[37] = (byte) (((values[offset + 4] >>> 1) & 0xFF));
+    buf[38] = (byte) (((values[offset + 4] & 0x1) << 7) | ((values[offset + 5] >>> 54) & 0x7F));
+    buf[39] = (byte) (((values[offset + 5] >>> 46) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 38) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 30) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 22) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] >>> 14) & 0xFF));
+    buf[44] = (byte) (((values[offset + 5] >>> 6) & 0xFF));
+    buf[45] = (byte) (((values[offset + 5] & 0x3F) << 2) | ((values[offset + 6] >>> 59) & 0x3));
+    buf[46] = (byte) (((values[offset + 6] >>> 51) & 0xFF));
+    buf[47] = (byte) (((values[offset + 6] >>> 43) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 35) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 27) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] >>> 19) & 0xFF));
+    buf[51] = (byte) (((values[offset + 6] >>> 11) & 0xFF));
+    buf[52] = (byte) (((values[offset + 6] >>> 3) & 0xFF));
+    buf[53] = (byte) (((values[offset + 6] & 0x7) << 5) | ((values[offset + 7] >>> 56) & 0x1F));
+    buf[54] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[55] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[56] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[57] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[58] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[59] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[60] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth61(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 53)
+            | ((buf[offset + 1] & 0xFFL) << 45)
+            | ((buf[offset + 2] & 0xFFL) << 37)
+            | ((buf[offset + 3] & 0xFFL) << 29)
+            | ((buf[offset + 4] & 0xFFL) << 21)
+            | ((buf[offset + 5] & 0xFFL) << 13)
+            | ((buf[offset + 6] & 0xFFL) << 5)
+            | ((buf[offset + 7] & 0xFFL) >>> 3);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0x7L) << 58)
+            | ((buf[offset + 8] & 0xFFL) << 50)
+            | ((buf[offset + 9] & 0xFFL) << 42)
+            | ((buf[offset + 10] & 0xFFL) << 34)
+            | ((buf[offset + 11] & 0xFFL) << 26)
+            | ((buf[offset + 12] & 0xFFL) << 18)
+            | ((buf[offset + 13] & 0xFFL) << 10)
+            | ((buf[offset + 14] & 0xFFL) << 2)
+            | ((buf[offset + 15] & 0xFFL) >>> 6);
+    values[valuesOffset + 2] =
+        ((buf[offset + 15] & 0x3FL) << 55)
+            | ((buf[offset + 16] & 0xFFL) << 47)
+            | ((buf[offset + 17] & 0xFFL) << 39)
+            | ((buf[offset + 18] & 0xFFL) << 31)
+            | ((buf[offset + 19] & 0xFFL) << 23)
+            | ((buf[offset + 20] & 0xFFL) << 15)
+            | ((buf[offset + 21] & 0xFFL) << 7)
+            | ((buf[offset + 22] & 0xFFL) >>> 1);
+    values[valuesOffset + 3] =
+        ((buf[offset + 22] & 0x1L) << 60)
+            | ((buf[offset + 23] & 0xFFL) << 52)
+            | ((buf[offset + 24] & 0xFFL) << 44)
+            | ((buf[offset + 25] & 0xFFL) << 36)
+            | ((buf[offset + 26] & 0xFFL) << 28)
+            | ((buf[offset + 27] & 0xFFL) << 20)
+            | ((buf[offset + 28] & 0xFFL) << 12)
+            | ((buf[offset + 29] & 0xFFL) << 4)
+            | ((buf[offset + 30] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 30] & 0xFL) << 57)
+            | ((buf[offset + 31] & 0xFFL) << 49)
+            | ((buf[offset + 32] & 0xFFL) << 41)
+            | ((buf[offset + 33] & 0xFFL) << 33)
+            | ((buf[offset + 34] & 0xFFL) << 25)
+            | ((buf[offset + 35] & 0xFFL) << 17)
+            | ((buf[offset + 36] & 0xFFL) << 9)
+            | ((buf[offset + 37] & 0xFFL) << 1)
+            | ((buf[offset + 38] & 0xFFL) >>> 7);
+    values[valuesOffset + 5] =
+        ((buf[offset + 38] & 0x7FL) << 54)
+            | ((buf[offset + 39] & 0xFFL) << 46)
+            | ((buf[offset + 40] & 0xFFL) << 38)
+            | ((buf[offset + 41] & 0xFFL) << 30)
+            | ((buf[offset + 42] & 0xFFL) << 22)
+            | ((buf[offset + 43] & 0xFFL) << 14)
+            | ((buf[offset + 44] & 0xFFL) << 6)
+            | ((buf[offset + 45] & 0xFFL) >>> 2);
+    values[valuesOffset + 6] =
+        ((buf[offset + 45] & 0x3L) << 59)
+            | ((buf[offset + 46] & 0xFFL) << 51)
+            | ((buf[offset + 47] & 0xFFL) << 43)
+            | ((buf[offset + 48] & 0xFFL) << 35)
+            | ((buf[offset + 49] & 0xFFL) << 27)
+            | ((buf[offset + 50] & 0xFFL) << 19)
+            | ((buf[offset + 51] & 0xFFL) << 11)
+            | ((buf[offset + 52] & 0xFFL) << 3)
+            | ((buf[offset + 53] & 0xFFL) >>> 5);
+    values[valuesOffset + 7] =
+        ((buf[offset + 53] & 0x1FL) << 56)
+            | ((buf[offset + 54] & 0xFFL) << 48)
+            | ((buf[offset + 55] & 0xFFL) << 40)
+            | ((buf[offset + 56] & 0xFFL) << 32)
+            | ((buf[offset + 57] & 0xFFL) << 24)
+            | ((buf[offset + 58] & 0xFFL) << 16)
+            | ((buf[offset + 59] & 0xFFL) << 8)
+            | (buf[offset + 60] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth62(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 54) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 46) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 38) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 30) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 22) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 14) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 6) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0x3F) << 2) | ((values[offset + 1] >>> 60) & 0x3));
+    buf[8] = (byte) (((values[offset + 1] >>> 52) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 44) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 36) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 28) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 20) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 12) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] >>> 4) & 0xFF));
+    buf[15] = (byte) (((values[offset + 1] & 0xF) << 4) | ((values[offset + 2] >>> 58) & 0xF));
+    buf[16] = (byte) (((values[offset + 2] >>> 50) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 42) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 34) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 26) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 18) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] >>> 10) & 0xFF));
+    buf[22] = (byte) (((values[offset + 2] >>> 2) & 0xFF));
+    buf[23] = (byte) (((values[offset + 2] & 0x3) << 6) | ((values[offset + 3] >>> 56) & 0x3F));
+    buf[24] = (byte) (((values[offset + 3] >>> 48) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[29] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[30] = (byte) ((values[offset + 3] & 0xFF));
+    buf[31] = (byte) (((values[offset + 4] >>> 54) & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 46) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 38) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 30) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 22) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] >>> 14) & 0xFF));
+    buf[37] = (byte) (((values[offset + 4] >>> 6) & 0xFF));
+    buf[38] = (byte) (((values[offset + 4] & 0x3F) << 2) | ((values[offset + 5] >>> 60) & 0x3));
+    buf[39] = (byte) (((values[offset + 5] >>> 52) & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 44) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 36) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 28) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] >>> 20) & 0xFF));
+    buf[44] = (byte) (((values[offset + 5] >>> 12) & 0xFF));
+    buf[45] = (byte) (((values[offset + 5] >>> 4) & 0xFF));
+    buf[46] = (byte) (((values[offset + 5] & 0xF) << 4) | ((values[offset + 6] >>> 58) & 0xF));
+    buf[47] = (byte) (((values[offset + 6] >>> 50) & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 42) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 34) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] >>> 26) & 0xFF));
+    buf[51] = (byte) (((values[offset + 6] >>> 18) & 0xFF));
+    buf[52] = (byte) (((values[offset + 6] >>> 10) & 0xFF));
+    buf[53] = (byte) (((values[offset + 6] >>> 2) & 0xFF));
+    buf[54] = (byte) (((values[offset + 6] & 0x3) << 6) | ((values[offset + 7] >>> 56) & 0x3F));
+    buf[55] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[56] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[57] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[58] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[59] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[60] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[61] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth62(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 54)
+            | ((buf[offset + 1] & 0xFFL) << 46)
+            | ((buf[offset + 2] & 0xFFL) << 38)
+            | ((buf[offset + 3] & 0xFFL) << 30)
+            | ((buf[offset + 4] & 0xFFL) << 22)
+            | ((buf[offset + 5] & 0xFFL) << 14)
+            | ((buf[offset + 6] & 0xFFL) << 6)
+            | ((buf[offset + 7] & 0xFFL) >>> 2);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0x3L) << 60)
+            | ((buf[offset + 8] & 0xFFL) << 52)
+            | ((buf[offset + 9] & 0xFFL) << 44)
+            | ((buf[offset + 10] & 0xFFL) << 36)
+            | ((buf[offset + 11] & 0xFFL) << 28)
+            | ((buf[offset + 12] & 0xFFL) << 20)
+            | ((buf[offset + 13] & 0xFFL) << 12)
+            | ((buf[offset + 14] & 0xFFL) << 4)
+            | ((buf[offset + 15] & 0xFFL) >>> 4);
+    values[valuesOffset + 2] =
+        ((buf[offset + 15] & 0xFL) << 58)
+            | ((buf[offset + 16] & 0xFFL) << 50)
+            | ((buf[offset + 17] & 0xFFL) << 42)
+            | ((buf[offset + 18] & 0xFFL) << 34)
+            | ((buf[offset + 19] & 0xFFL) << 26)
+            | ((buf[offset + 20] & 0xFFL) << 18)
+            | ((buf[offset + 21] & 0xFFL) << 10)
+            | ((buf[offset + 22] & 0xFFL) << 2)
+            | ((buf[offset + 23] & 0xFFL) >>> 6);
+    values[valuesOffset + 3] =
+        ((buf[offset + 23] & 0x3FL) << 56)
+            | ((buf[offset + 24] & 0xFFL) << 48)
+            | ((buf[offset + 25] & 0xFFL) << 40)
+            | ((buf[offset + 26] & 0xFFL) << 32)
+            | ((buf[offset + 27] & 0xFFL) << 24)
+            | ((buf[offset + 28] & 0xFFL) << 16)
+            | ((buf[offset + 29] & 0xFFL) << 8)
+            | (buf[offset + 30] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 31] & 0xFFL) << 54)
+            | ((buf[offset + 32] & 0xFFL) << 46)
+            | ((buf[offset + 33] & 0xFFL) << 38)
+            | ((buf[offset + 34] & 0xFFL) << 30)
+            | ((buf[offset + 35] & 0xFFL) << 22)
+            | ((buf[offset + 36] & 0xFFL) << 14)
+            | ((buf[offset + 37] & 0xFFL) << 6)
+            | ((buf[offset + 38] & 0xFFL) >>> 2);
+    values[valuesOffset + 5] =
+        ((buf[offset + 38] & 0x3L) << 60)
+            | ((buf[offset + 39] & 0xFFL) << 52)
+            | ((buf[offset + 40] & 0xFFL) << 44)
+            | ((buf[offset + 41] & 0xFFL) << 36)
+            | ((buf[offset + 42] & 0xFFL) << 28)
+            | ((buf[offset + 43] & 0xFFL) << 20)
+            | ((buf[offset + 44] & 0xFFL) << 12)
+            | ((buf[offset + 45] & 0xFFL) << 4)
+            | ((buf[offset + 46] & 0xFFL) >>> 4);
+    values[valuesOffset + 6] =
+        ((buf[offset + 46] & 0xFL) << 58)
+            | ((buf[offset + 47] & 0xFFL) << 50)
+            | ((buf[offset + 48] & 0xFFL) << 42)
+            | ((buf[offset + 49] & 0xFFL) << 34)
+            | ((buf[offset + 50] & 0xFFL) << 26)
+            | ((buf[offset + 51] & 0xFFL) << 18)
+            | ((buf[offset + 52] & 0xFFL) << 10)
+            | ((buf[offset + 53] & 0xFFL) << 2)
+            | ((buf[offset + 54] & 0xFFL) >>> 6);
+    values[valuesOffset + 7] =
+        ((buf[offset + 54] & 0x3FL) << 56)
+            | ((buf[offset + 55] & 0xFFL) << 48)
+            | ((buf[offset + 56] & 0xFFL) << 40)
+            | ((buf[offset + 57] & 0xFFL) << 32)
+            | ((buf[offset + 58] & 0xFFL) << 24)
+            | ((buf[offset + 59] & 0xFFL) << 16)
+            | ((buf[offset + 60] & 0xFFL) << 8)
+            | (buf[offset + 61] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth63(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 55) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 47) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 39) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 31) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 23) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 15) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 7) & 0xFF));
+    buf[7] = (byte) (((values[offset] & 0x7F) << 1) | ((values[offset + 1] >>> 62) & 0x1));
+    buf[8] = (byte) (((values[offset + 1] >>> 54) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 46) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 38) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 30) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 22) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 14) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] >>> 6) & 0xFF));
+    buf[15] = (byte) (((values[offset + 1] & 0x3F) << 2) | ((values[offset + 2] >>> 61) & 0x3));
+    buf[16] = (byte) (((values[offset + 2] >>> 53) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 45) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 37) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 29) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 21) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] >>> 13) & 0xFF));
+    buf[22] = (byte) (((values[offset + 2] >>> 5) & 0xFF));
+    buf[23] = (byte) (((values[offset + 2] & 0x1F) << 3) | ((values[offset + 3] >>> 60) & 0x7));
+    buf[24] = (byte) (((values[offset + 3] >>> 52) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 44) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 36) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 28) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] >>> 20) & 0xFF));
+    buf[29] = (byte) (((values[offset + 3] >>> 12) & 0xFF));
+    buf[30] = (byte) (((values[offset + 3] >>> 4) & 0xFF));
+    buf[31] = (byte) (((values[offset + 3] & 0xF) << 4) | ((values[offset + 4] >>> 59) & 0xF));
+    buf[32] = (byte) (((values[offset + 4] >>> 51) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 43) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 35) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 27) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] >>> 19) & 0xFF));
+    buf[37] = (byte) (((values[offset + 4] >>> 11) & 0xFF));
+    buf[38] = (byte) (((values[offset + 4] >>> 3) & 0xFF));
+    buf[39] = (byte) (((values[offset + 4] & 0x7) << 5) | ((values[offset + 5] >>> 58) & 0x1F));
+    buf[40] = (byte) (((values[offset + 5] >>> 50) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 42) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 34) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] >>> 26) & 0xFF));
+    buf[44] = (byte) (((values[offset + 5] >>> 18) & 0xFF));
+    buf[45] = (byte) (((values[offset + 5] >>> 10) & 0xFF));
+    buf[46] = (byte) (((values[offset + 5] >>> 2) & 0xFF));
+    buf[47] = (byte) (((values[offset + 5] & 0x3) << 6) | ((values[offset + 6] >>> 57) & 0x3F));
+    buf[48] = (byte) (((values[offset + 6] >>> 49) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 41) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] >>> 33) & 0xFF));
+    buf[51] = (byte) (((values[offset + 6] >>> 25) & 0xFF));
+    buf[52] = (byte) (((values[offset + 6] >>> 17) & 0xFF));
+    buf[53] = (byte) (((values[offset + 6] >>> 9) & 0xFF));
+    buf[54] = (byte) (((values[offset + 6] >>> 1) & 0xFF));
+    buf[55] = (byte) (((values[offset + 6] & 0x1) << 7) | ((values[offset + 7] >>> 56) & 0x7F));
+    buf[56] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[57] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[58] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[59] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[60] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[61] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[62] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth63(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 55)
+            | ((buf[offset + 1] & 0xFFL) << 47)
+            | ((buf[offset + 2] & 0xFFL) << 39)
+            | ((buf[offset + 3] & 0xFFL) << 31)
+            | ((buf[offset + 4] & 0xFFL) << 23)
+            | ((buf[offset + 5] & 0xFFL) << 15)
+            | ((buf[offset + 6] & 0xFFL) << 7)
+            | ((buf[offset + 7] & 0xFFL) >>> 1);
+    values[valuesOffset + 1] =
+        ((buf[offset + 7] & 0x1L) << 62)
+            | ((buf[offset + 8] & 0xFFL) << 54)
+            | ((buf[offset + 9] & 0xFFL) << 46)
+            | ((buf[offset + 10] & 0xFFL) << 38)
+            | ((buf[offset + 11] & 0xFFL) << 30)
+            | ((buf[offset + 12] & 0xFFL) << 22)
+            | ((buf[offset + 13] & 0xFFL) << 14)
+            | ((buf[offset + 14] & 0xFFL) << 6)
+            | ((buf[offset + 15] & 0xFFL) >>> 2);
+    values[valuesOffset + 2] =
+        ((buf[offset + 15] & 0x3L) << 61)
+            | ((buf[offset + 16] & 0xFFL) << 53)
+            | ((buf[offset + 17] & 0xFFL) << 45)
+            | ((buf[offset + 18] & 0xFFL) << 37)
+            | ((buf[offset + 19] & 0xFFL) << 29)
+            | ((buf[offset + 20] & 0xFFL) << 21)
+            | ((buf[offset + 21] & 0xFFL) << 13)
+            | ((buf[offset + 22] & 0xFFL) << 5)
+            | ((buf[offset + 23] & 0xFFL) >>> 3);
+    values[valuesOffset + 3] =
+        ((buf[offset + 23] & 0x7L) << 60)
+            | ((buf[offset + 24] & 0xFFL) << 52)
+            | ((buf[offset + 25] & 0xFFL) << 44)
+            | ((buf[offset + 26] & 0xFFL) << 36)
+            | ((buf[offset + 27] & 0xFFL) << 28)
+            | ((buf[offset + 28] & 0xFFL) << 20)
+            | ((buf[offset + 29] & 0xFFL) << 12)
+            | ((buf[offset + 30] & 0xFFL) << 4)
+            | ((buf[offset + 31] & 0xFFL) >>> 4);
+    values[valuesOffset + 4] =
+        ((buf[offset + 31] & 0xFL) << 59)
+            | ((buf[offset + 32] & 0xFFL) << 51)
+            | ((buf[offset + 33] & 0xFFL) << 43)
+            | ((buf[offset + 34] & 0xFFL) << 35)
+            | ((buf[offset + 35] & 0xFFL) << 27)
+            | ((buf[offset + 36] & 0xFFL) << 19)
+            | ((buf[offset + 37] & 0xFFL) << 11)
+            | ((buf[offset + 38] & 0xFFL) << 3)
+            | ((buf[offset + 39] & 0xFFL) >>> 5);
+    values[valuesOffset + 5] =
+        ((buf[offset + 39] & 0x1FL) << 58)
+            | ((buf[offset + 40] & 0xFFL) << 50)
+            | ((buf[offset + 41] & 0xFFL) << 42)
+            | ((buf[offset + 42] & 0xFFL) << 34)
+            | ((buf[offset + 43] & 0xFFL) << 26)
+            | ((buf[offset + 44] & 0xFFL) << 18)
+            | ((buf[offset + 45] & 0xFFL) << 10)
+            | ((buf[offset + 46] & 0xFFL) << 2)
+            | ((buf[offset + 47] & 0xFFL) >>> 6);
+    values[valuesOffset + 6] =
+        ((buf[offset + 47] & 0x3FL) << 57)
+            | ((buf[offset + 48] & 0xFFL) << 49)
+            | ((buf[offset + 49] & 0xFFL) << 41)
+            | ((buf[offset + 50] & 0xFFL) << 33)
+            | ((buf[offset + 51] & 0xFFL) << 25)
+            | ((buf[offset + 52] & 0xFFL) << 17)
+            | ((buf[offset + 53] & 0xFFL) << 9)
+            | ((buf[offset + 54] & 0xFFL) << 1)
+            | ((buf[offset + 55] & 0xFFL) >>> 7);
+    values[valuesOffset + 7] =
+        ((buf[offset + 55] & 0x7FL) << 56)
+            | ((buf[offset + 56] & 0xFFL) << 48)
+            | ((buf[offset + 57] & 0xFFL) << 40)
+            | ((buf[offset + 58] & 0xFFL) << 32)
+            | ((buf[offset + 59] & 0xFFL) << 24)
+            | ((buf[offset + 60] & 0xFFL) << 16)
+            | ((buf[offset + 61] & 0xFFL) << 8)
+            | (buf[offset + 62] & 0xFFL);
+  }
+
+  private static void pack8ValuesOfWidth64(long[] values, int offset, byte[] buf) {
+    buf[0] = (byte) (((values[offset] >>> 56) & 0xFF));
+    buf[1] = (byte) (((values[offset] >>> 48) & 0xFF));
+    buf[2] = (byte) (((values[offset] >>> 40) & 0xFF));
+    buf[3] = (byte) (((values[offset] >>> 32) & 0xFF));
+    buf[4] = (byte) (((values[offset] >>> 24) & 0xFF));
+    buf[5] = (byte) (((values[offset] >>> 16) & 0xFF));
+    buf[6] = (byte) (((values[offset] >>> 8) & 0xFF));
+    buf[7] = (byte) ((values[offset] & 0xFF));
+    buf[8] = (byte) (((values[offset + 1] >>> 56) & 0xFF));
+    buf[9] = (byte) (((values[offset + 1] >>> 48) & 0xFF));
+    buf[10] = (byte) (((values[offset + 1] >>> 40) & 0xFF));
+    buf[11] = (byte) (((values[offset + 1] >>> 32) & 0xFF));
+    buf[12] = (byte) (((values[offset + 1] >>> 24) & 0xFF));
+    buf[13] = (byte) (((values[offset + 1] >>> 16) & 0xFF));
+    buf[14] = (byte) (((values[offset + 1] >>> 8) & 0xFF));
+    buf[15] = (byte) ((values[offset + 1] & 0xFF));
+    buf[16] = (byte) (((values[offset + 2] >>> 56) & 0xFF));
+    buf[17] = (byte) (((values[offset + 2] >>> 48) & 0xFF));
+    buf[18] = (byte) (((values[offset + 2] >>> 40) & 0xFF));
+    buf[19] = (byte) (((values[offset + 2] >>> 32) & 0xFF));
+    buf[20] = (byte) (((values[offset + 2] >>> 24) & 0xFF));
+    buf[21] = (byte) (((values[offset + 2] >>> 16) & 0xFF));
+    buf[22] = (byte) (((values[offset + 2] >>> 8) & 0xFF));
+    buf[23] = (byte) ((values[offset + 2] & 0xFF));
+    buf[24] = (byte) (((values[offset + 3] >>> 56) & 0xFF));
+    buf[25] = (byte) (((values[offset + 3] >>> 48) & 0xFF));
+    buf[26] = (byte) (((values[offset + 3] >>> 40) & 0xFF));
+    buf[27] = (byte) (((values[offset + 3] >>> 32) & 0xFF));
+    buf[28] = (byte) (((values[offset + 3] >>> 24) & 0xFF));
+    buf[29] = (byte) (((values[offset + 3] >>> 16) & 0xFF));
+    buf[30] = (byte) (((values[offset + 3] >>> 8) & 0xFF));
+    buf[31] = (byte) ((values[offset + 3] & 0xFF));
+    buf[32] = (byte) (((values[offset + 4] >>> 56) & 0xFF));
+    buf[33] = (byte) (((values[offset + 4] >>> 48) & 0xFF));
+    buf[34] = (byte) (((values[offset + 4] >>> 40) & 0xFF));
+    buf[35] = (byte) (((values[offset + 4] >>> 32) & 0xFF));
+    buf[36] = (byte) (((values[offset + 4] >>> 24) & 0xFF));
+    buf[37] = (byte) (((values[offset + 4] >>> 16) & 0xFF));
+    buf[38] = (byte) (((values[offset + 4] >>> 8) & 0xFF));
+    buf[39] = (byte) ((values[offset + 4] & 0xFF));
+    buf[40] = (byte) (((values[offset + 5] >>> 56) & 0xFF));
+    buf[41] = (byte) (((values[offset + 5] >>> 48) & 0xFF));
+    buf[42] = (byte) (((values[offset + 5] >>> 40) & 0xFF));
+    buf[43] = (byte) (((values[offset + 5] >>> 32) & 0xFF));
+    buf[44] = (byte) (((values[offset + 5] >>> 24) & 0xFF));
+    buf[45] = (byte) (((values[offset + 5] >>> 16) & 0xFF));
+    buf[46] = (byte) (((values[offset + 5] >>> 8) & 0xFF));
+    buf[47] = (byte) ((values[offset + 5] & 0xFF));
+    buf[48] = (byte) (((values[offset + 6] >>> 56) & 0xFF));
+    buf[49] = (byte) (((values[offset + 6] >>> 48) & 0xFF));
+    buf[50] = (byte) (((values[offset + 6] >>> 40) & 0xFF));
+    buf[51] = (byte) (((values[offset + 6] >>> 32) & 0xFF));
+    buf[52] = (byte) (((values[offset + 6] >>> 24) & 0xFF));
+    buf[53] = (byte) (((values[offset + 6] >>> 16) & 0xFF));
+    buf[54] = (byte) (((values[offset + 6] >>> 8) & 0xFF));
+    buf[55] = (byte) ((values[offset + 6] & 0xFF));
+    buf[56] = (byte) (((values[offset + 7] >>> 56) & 0xFF));
+    buf[57] = (byte) (((values[offset + 7] >>> 48) & 0xFF));
+    buf[58] = (byte) (((values[offset + 7] >>> 40) & 0xFF));
+    buf[59] = (byte) (((values[offset + 7] >>> 32) & 0xFF));
+    buf[60] = (byte) (((values[offset + 7] >>> 24) & 0xFF));
+    buf[61] = (byte) (((values[offset + 7] >>> 16) & 0xFF));
+    buf[62] = (byte) (((values[offset + 7] >>> 8) & 0xFF));
+    buf[63] = (byte) ((values[offset + 7] & 0xFF));
+  }
+
+  private static void unpack8ValuesOfWidth64(
+      byte[] buf, int offset, long[] values, int valuesOffset) {
+    values[valuesOffset] =
+        ((buf[offset] & 0xFFL) << 56)
+            | ((buf[offset + 1] & 0xFFL) << 48)
+            | ((buf[offset + 2] & 0xFFL) << 40)
+            | ((buf[offset + 3] & 0xFFL) << 32)
+            | ((buf[offset + 4] & 0xFFL) << 24)
+            | ((buf[offset + 5] & 0xFFL) << 16)
+            | ((buf[offset + 6] & 0xFFL) << 8)
+            | (buf[offset + 7] & 0xFFL);
+    values[valuesOffset + 1] =
+        ((buf[offset + 8] & 0xFFL) << 56)
+            | ((buf[offset + 9] & 0xFFL) << 48)
+            | ((buf[offset + 10] & 0xFFL) << 40)
+            | ((buf[offset + 11] & 0xFFL) << 32)
+            | ((buf[offset + 12] & 0xFFL) << 24)
+            | ((buf[offset + 13] & 0xFFL) << 16)
+            | ((buf[offset + 14] & 0xFFL) << 8)
+            | (buf[offset + 15] & 0xFFL);
+    values[valuesOffset + 2] =
+        ((buf[offset + 16] & 0xFFL) << 56)
+            | ((buf[offset + 17] & 0xFFL) << 48)
+            | ((buf[offset + 18] & 0xFFL) << 40)
+            | ((buf[offset + 19] & 0xFFL) << 32)
+            | ((buf[offset + 20] & 0xFFL) << 24)
+            | ((buf[offset + 21] & 0xFFL) << 16)
+            | ((buf[offset + 22] & 0xFFL) << 8)
+            | (buf[offset + 23] & 0xFFL);
+    values[valuesOffset + 3] =
+        ((buf[offset + 24] & 0xFFL) << 56)
+            | ((buf[offset + 25] & 0xFFL) << 48)
+            | ((buf[offset + 26] & 0xFFL) << 40)
+            | ((buf[offset + 27] & 0xFFL) << 32)
+            | ((buf[offset + 28] & 0xFFL) << 24)
+            | ((buf[offset + 29] & 0xFFL) << 16)
+            | ((buf[offset + 30] & 0xFFL) << 8)
+            | (buf[offset + 31] & 0xFFL);
+    values[valuesOffset + 4] =
+        ((buf[offset + 32] & 0xFFL) << 56)
+            | ((buf[offset + 33] & 0xFFL) << 48)
+            | ((buf[offset + 34] & 0xFFL) << 40)
+            | ((buf[offset + 35] & 0xFFL) << 32)
+            | ((buf[offset + 36] & 0xFFL) << 24)
+            | ((buf[offset + 37] & 0xFFL) << 16)
+            | ((buf[offset + 38] & 0xFFL) << 8)
+            | (buf[offset + 39] & 0xFFL);
+    values[valuesOffset + 5] =
+        ((buf[offset + 40] & 0xFFL) << 56)
+            | ((buf[offset + 41] & 0xFFL) << 48)
+            | ((buf[offset + 42] & 0xFFL) << 40)
+            | ((buf[offset + 43] & 0xFFL) << 32)
+            | ((buf[offset + 44] & 0xFFL) << 24)
+            | ((buf[offset + 45] & 0xFFL) << 16)
+            | ((buf[offset + 46] & 0xFFL) << 8)
+            | (buf[offset + 47] & 0xFFL);
+    values[valuesOffset + 6] =
+        ((buf[offset + 48] & 0xFFL) << 56)
+            | ((buf[offset + 49] & 0xFFL) << 48)
+            | ((buf[offset + 50] & 0xFFL) << 40)
+            | ((buf[offset + 51] & 0xFFL) << 32)
+            | ((buf[offset + 52] & 0xFFL) << 24)
+            | ((buf[offset + 53] & 0xFFL) << 16)
+            | ((buf[offset + 54] & 0xFFL) << 8)
+            | (buf[offset + 55] & 0xFFL);
+    values[valuesOffset + 7] =
+        ((buf[offset + 56] & 0xFFL) << 56)
+            | ((buf[offset + 57] & 0xFFL) << 48)
+            | ((buf[offset + 58] & 0xFFL) << 40)
+            | ((buf[offset + 59] & 0xFFL) << 32)
+            | ((buf[offset + 60] & 0xFFL) << 24)
+            | ((buf[offset + 61] & 0xFFL) << 16)
+            | ((buf[offset + 62] & 0xFFL) << 8)
+            | (buf[offset + 63] & 0xFFL);
+  }
+}
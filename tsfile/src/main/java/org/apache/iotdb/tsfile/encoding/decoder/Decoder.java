@@ -123,6 +123,20 @@ public abstract class Decoder {
         }
       case FREQ:
         return new FreqDecoder();
+      case CHIMP:
+        switch (dataType) {
+          case FLOAT:
+            return new SinglePrecisionChimpDecoder();
+          case DOUBLE:
+            return new DoublePrecisionChimpDecoder();
+          case INT32:
+            return new IntChimpDecoder();
+          case INT64:
+          case VECTOR:
+            return new LongChimpDecoder();
+          default:
+            throw new TsFileDecodingException(String.format(ERROR_MSG, encoding, dataType));
+        }
       default:
         throw new TsFileDecodingException(String.format(ERROR_MSG, encoding, dataType));
     }
@@ -160,6 +174,69 @@ public abstract class Decoder {
     throw new TsFileDecodingException("Method readBigDecimal is not supported by Decoder");
   }
 
+  /**
+   * Decode at most {@code length} boolean values into {@code dst} starting at {@code offset}.
+   * Decoders that can do better than one {@link #hasNext(ByteBuffer)} check per value should
+   * override the batch read methods.
+   *
+   * @return the number of decoded values, less than {@code length} only when the buffer is drained
+   */
+  public int readBooleans(ByteBuffer buffer, boolean[] dst, int offset, int length)
+      throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      dst[offset + read++] = readBoolean(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readInts(ByteBuffer buffer, int[] dst, int offset, int length) throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      dst[offset + read++] = readInt(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readLongs(ByteBuffer buffer, long[] dst, int offset, int length) throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      dst[offset + read++] = readLong(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readFloats(ByteBuffer buffer, float[] dst, int offset, int length) throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      dst[offset + read++] = readFloat(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readDoubles(ByteBuffer buffer, double[] dst, int offset, int length)
+      throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      dst[offset + read++] = readDouble(buffer);
+    }
+    return read;
+  }
+
+  /** @see #readBooleans(ByteBuffer, boolean[], int, int) */
+  public int readBinaries(ByteBuffer buffer, Binary[] dst, int offset, int length)
+      throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      dst[offset + read++] = readBinary(buffer);
+    }
+    return read;
+  }
+
   public abstract boolean hasNext(ByteBuffer buffer) throws IOException;
 
   public abstract void reset();
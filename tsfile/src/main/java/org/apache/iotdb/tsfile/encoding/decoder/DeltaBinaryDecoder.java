@@ -106,6 +106,25 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       return readT(buffer);
     }
 
+    @Override
+    public int readInts(ByteBuffer buffer, int[] dst, int offset, int length) {
+      int read = 0;
+      while (read < length) {
+        if (nextReadIndex == readIntTotalCount) {
+          if (!buffer.hasRemaining()) {
+            break;
+          }
+          dst[offset + read++] = loadIntBatch(buffer);
+        } else {
+          int n = Math.min(length - read, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, offset + read, n);
+          nextReadIndex += n;
+          read += n;
+        }
+      }
+      return read;
+    }
+
     /**
      * if remaining data has been run out, load next pack from InputStream.
      *
@@ -222,6 +241,25 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       return readT(buffer);
     }
 
+    @Override
+    public int readLongs(ByteBuffer buffer, long[] dst, int offset, int length) {
+      int read = 0;
+      while (read < length) {
+        if (nextReadIndex == readIntTotalCount) {
+          if (!buffer.hasRemaining()) {
+            break;
+          }
+          dst[offset + read++] = loadIntBatch(buffer);
+        } else {
+          int n = Math.min(length - read, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, offset + read, n);
+          nextReadIndex += n;
+          read += n;
+        }
+      }
+      return read;
+    }
+
     @Override
     protected void readHeader(ByteBuffer buffer) {
       minDeltaBase = ReadWriteIOUtils.readLong(buffer);
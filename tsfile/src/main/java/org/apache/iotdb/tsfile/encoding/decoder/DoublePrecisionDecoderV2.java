@@ -42,6 +42,15 @@ public class DoublePrecisionDecoderV2 extends LongGorillaDecoder {
     return Double.longBitsToDouble(readLong(in));
   }
 
+  @Override
+  public final int readDoubles(ByteBuffer in, double[] dst, int offset, int length) {
+    int read = 0;
+    while (read < length && hasNext) {
+      dst[offset + read++] = readDouble(in);
+    }
+    return read;
+  }
+
   @Override
   protected long cacheNext(ByteBuffer in) {
     readNext(in);
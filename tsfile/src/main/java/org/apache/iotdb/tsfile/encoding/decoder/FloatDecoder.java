@@ -93,6 +93,35 @@ public class FloatDecoder extends Decoder {
     return value / maxPointValue;
   }
 
+  @Override
+  public int readFloats(ByteBuffer buffer, float[] dst, int offset, int length) throws IOException {
+    if (length == 0 || !hasNext(buffer)) {
+      return 0;
+    }
+    readMaxPointValue(buffer);
+    int[] values = new int[length];
+    int read = decoder.readInts(buffer, values, 0, length);
+    for (int i = 0; i < read; i++) {
+      dst[offset + i] = (float) (values[i] / maxPointValue);
+    }
+    return read;
+  }
+
+  @Override
+  public int readDoubles(ByteBuffer buffer, double[] dst, int offset, int length)
+      throws IOException {
+    if (length == 0 || !hasNext(buffer)) {
+      return 0;
+    }
+    readMaxPointValue(buffer);
+    long[] values = new long[length];
+    int read = decoder.readLongs(buffer, values, 0, length);
+    for (int i = 0; i < read; i++) {
+      dst[offset + i] = values[i] / maxPointValue;
+    }
+    return read;
+  }
+
   private void readMaxPointValue(ByteBuffer buffer) {
     if (!isMaxPointNumberRead) {
       int maxPointNumber = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.nio.ByteBuffer;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_INTEGER;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_32BIT;
+
+/**
+ * This class includes code modified from Panagiotis Liakos's chimp project.
+ *
+ * <p>Project page: https://github.com/panagiotisl/chimp
+ *
+ * <p>License: http://www.apache.org/licenses/LICENSE-2.0
+ */
+public class IntChimpDecoder extends GorillaDecoderV2 {
+
+  private static final int PREVIOUS_VALUES = 128;
+  private static final int PREVIOUS_VALUES_LOG2 = 7;
+
+  /** the index of the value, 3 bits of leading zeros and the significant bits after flag '01' */
+  private static final int CASE_ONE_METADATA_LENGTH = PREVIOUS_VALUES_LOG2 + 8;
+
+  private static final int SIGNIFICANT_BITS_LENGTH = 5;
+
+  private static final short[] LEADING_REPRESENTATION = {0, 8, 12, 16, 18, 20, 22, 24};
+
+  protected int storedValue = 0;
+
+  protected final int[] storedValues = new int[PREVIOUS_VALUES];
+
+  protected int current = 0;
+
+  public IntChimpDecoder() {
+    setType(TSEncoding.CHIMP);
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    storedValue = 0;
+    current = 0;
+  }
+
+  @Override
+  public final int readInt(ByteBuffer in) {
+    int returnValue = storedValue;
+    if (!firstValueWasRead) {
+      flipByte(in);
+      storedValue = (int) readLong(VALUE_BITS_LENGTH_32BIT, in);
+      storedValues[current] = storedValue;
+      firstValueWasRead = true;
+      returnValue = storedValue;
+    }
+    cacheNext(in);
+    return returnValue;
+  }
+
+  @Override
+  public final int readInts(ByteBuffer in, int[] dst, int offset, int length) {
+    int read = 0;
+    while (read < length && hasNext) {
+      dst[offset + read++] = readInt(in);
+    }
+    return read;
+  }
+
+  protected int cacheNext(ByteBuffer in) {
+    readNext(in);
+    if (storedValue == GORILLA_ENCODING_ENDING_INTEGER) {
+      hasNext = false;
+    }
+    return storedValue;
+  }
+
+  protected int readNext(ByteBuffer in) {
+    int flag = (int) readLong(2, in);
+    switch (flag) {
+      case 3: // case '11': new leading zeros, XORed with the previous value
+        storedLeadingZeros = LEADING_REPRESENTATION[(int) readLong(3, in)];
+        storedValue ^= (int) readLong(VALUE_BITS_LENGTH_32BIT - storedLeadingZeros, in);
+        break;
+      case 2: // case '10': stored leading zeros, XORed with the previous value
+        storedValue ^= (int) readLong(VALUE_BITS_LENGTH_32BIT - storedLeadingZeros, in);
+        break;
+      case 1: // case '01': XORed with a value in the history, with trailing zeros
+        int fill = CASE_ONE_METADATA_LENGTH;
+        int metadata = (int) readLong(fill, in);
+        int index = metadata >>> (fill -= PREVIOUS_VALUES_LOG2) & ((1 << PREVIOUS_VALUES_LOG2) - 1);
+        storedLeadingZeros = LEADING_REPRESENTATION[metadata >>> (fill -= 3) & ((1 << 3) - 1)];
+        int significantBits =
+            metadata >>> (fill - SIGNIFICANT_BITS_LENGTH) & ((1 << SIGNIFICANT_BITS_LENGTH) - 1);
+        if (significantBits == 0) {
+          significantBits = VALUE_BITS_LENGTH_32BIT;
+        }
+        storedTrailingZeros = VALUE_BITS_LENGTH_32BIT - significantBits - storedLeadingZeros;
+        int xor =
+            (int)
+                (readLong(VALUE_BITS_LENGTH_32BIT - storedLeadingZeros - storedTrailingZeros, in)
+                    << storedTrailingZeros);
+        storedValue = storedValues[index] ^ xor;
+        break;
+      default: // case '00': equal to a value in the history
+        storedValue = storedValues[(int) readLong(PREVIOUS_VALUES_LOG2, in)];
+    }
+    current = (current + 1) % PREVIOUS_VALUES;
+    storedValues[current] = storedValue;
+    return storedValue;
+  }
+}
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /** Decoder for int value using rle or bit-packing. */
 public class IntRleDecoder extends RleDecoder {
@@ -54,6 +55,17 @@ public class IntRleDecoder extends RleDecoder {
     return this.readInt(buffer) == 0 ? false : true;
   }
 
+  @Override
+  public int readBooleans(ByteBuffer buffer, boolean[] dst, int offset, int length)
+      throws IOException {
+    int[] values = new int[length];
+    int read = readInts(buffer, values, 0, length);
+    for (int i = 0; i < read; i++) {
+      dst[offset + i] = values[i] != 0;
+    }
+    return read;
+  }
+
   /**
    * read an int value from InputStream.
    *
@@ -99,6 +111,38 @@ public class IntRleDecoder extends RleDecoder {
     return result;
   }
 
+  @Override
+  public int readInts(ByteBuffer buffer, int[] dst, int offset, int length) throws IOException {
+    int read = 0;
+    while (read < length && hasNext(buffer)) {
+      if (!isLengthAndBitWidthReaded) {
+        readLengthAndBitWidth(buffer);
+      }
+      if (currentCount == 0) {
+        readNext();
+      }
+      // copy as much of the current rle run or bit-packed group as the caller asks for
+      int n = Math.min(length - read, currentCount);
+      switch (mode) {
+        case RLE:
+          Arrays.fill(dst, offset + read, offset + read + n, currentValue);
+          break;
+        case BIT_PACKED:
+          System.arraycopy(currentBuffer, bitPackingNum - currentCount, dst, offset + read, n);
+          break;
+        default:
+          throw new TsFileDecodingException(
+              String.format("tsfile-encoding IntRleDecoder: not a valid mode %s", mode));
+      }
+      currentCount -= n;
+      read += n;
+      if (!hasNextPackage()) {
+        isLengthAndBitWidthReaded = false;
+      }
+    }
+    return read;
+  }
+
   @Override
   protected void initPacker() {
     packer = new IntPacker(bitWidth);
@@ -71,6 +71,57 @@ public class PlainDecoder extends Decoder {
     return new Binary(buf);
   }
 
+  @Override
+  public int readBooleans(ByteBuffer buffer, boolean[] dst, int offset, int length) {
+    int read = Math.min(length, buffer.remaining());
+    for (int i = 0; i < read; i++) {
+      dst[offset + i] = buffer.get() != 0;
+    }
+    return read;
+  }
+
+  @Override
+  public int readInts(ByteBuffer buffer, int[] dst, int offset, int length) {
+    int read = 0;
+    while (read < length && buffer.hasRemaining()) {
+      dst[offset + read++] = ReadWriteForEncodingUtils.readVarInt(buffer);
+    }
+    return read;
+  }
+
+  @Override
+  public int readLongs(ByteBuffer buffer, long[] dst, int offset, int length) {
+    int read = Math.min(length, buffer.remaining() / Long.BYTES);
+    buffer.asLongBuffer().get(dst, offset, read);
+    buffer.position(buffer.position() + read * Long.BYTES);
+    return read;
+  }
+
+  @Override
+  public int readFloats(ByteBuffer buffer, float[] dst, int offset, int length) {
+    int read = Math.min(length, buffer.remaining() / Float.BYTES);
+    buffer.asFloatBuffer().get(dst, offset, read);
+    buffer.position(buffer.position() + read * Float.BYTES);
+    return read;
+  }
+
+  @Override
+  public int readDoubles(ByteBuffer buffer, double[] dst, int offset, int length) {
+    int read = Math.min(length, buffer.remaining() / Double.BYTES);
+    buffer.asDoubleBuffer().get(dst, offset, read);
+    buffer.position(buffer.position() + read * Double.BYTES);
+    return read;
+  }
+
+  @Override
+  public int readBinaries(ByteBuffer buffer, Binary[] dst, int offset, int length) {
+    int read = 0;
+    while (read < length && buffer.hasRemaining()) {
+      dst[offset + read++] = readBinary(buffer);
+    }
+    return read;
+  }
+
   @Override
   public boolean hasNext(ByteBuffer buffer) {
     return buffer.remaining() > 0;
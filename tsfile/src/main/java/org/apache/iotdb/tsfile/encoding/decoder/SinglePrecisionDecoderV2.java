@@ -42,6 +42,15 @@ public class SinglePrecisionDecoderV2 extends IntGorillaDecoder {
     return Float.intBitsToFloat(readInt(in));
   }
 
+  @Override
+  public final int readFloats(ByteBuffer in, float[] dst, int offset, int length) {
+    int read = 0;
+    while (read < length && hasNext) {
+      dst[offset + read++] = readFloat(in);
+    }
+    return read;
+  }
+
   @Override
   protected int cacheNext(ByteBuffer in) {
     readNext(in);
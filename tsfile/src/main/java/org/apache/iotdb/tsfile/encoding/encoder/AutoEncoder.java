@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Encoder for {@link TSEncoding#AUTO}. It feeds every value into all lossless candidate encoders of
+ * the data type, and on the first {@link #flush(ByteArrayOutputStream)} that carries data, keeps
+ * the smallest output. Candidates are ordered from the cheapest to decode, so ties go to the faster
+ * one.
+ *
+ * <p>AUTO is never written to a chunk header. The chunk writer asks for {@link
+ * #getSelectedEncoding()} after sealing a page, records it in the chunk header and switches the
+ * page writer to {@link #getSelectedEncoder()} for the rest of the chunk, so readers only see a
+ * concrete encoding.
+ */
+public class AutoEncoder extends Encoder {
+
+  private static final TSEncoding[] BOOLEAN_CANDIDATES = {TSEncoding.PLAIN, TSEncoding.RLE};
+  private static final TSEncoding[] INTEGER_CANDIDATES = {
+    TSEncoding.PLAIN, TSEncoding.RLE, TSEncoding.TS_2DIFF, TSEncoding.GORILLA
+  };
+  // RLE and TS_2DIFF are lossy for floating point values, so they are not candidates
+  private static final TSEncoding[] FLOATING_CANDIDATES = {
+    TSEncoding.PLAIN, TSEncoding.GORILLA, TSEncoding.CHIMP
+  };
+  private static final TSEncoding[] TEXT_CANDIDATES = {TSEncoding.PLAIN, TSEncoding.DICTIONARY};
+
+  private final TSEncoding[] candidates;
+  private final Encoder[] encoders;
+  private final PublicBAOS[] outputs;
+
+  /** whether any value is encoded since the last flush */
+  private boolean hasValue;
+
+  private int selected = -1;
+
+  public AutoEncoder(TSDataType dataType) {
+    super(TSEncoding.AUTO);
+    this.candidates = getCandidates(dataType);
+    this.encoders = new Encoder[candidates.length];
+    this.outputs = new PublicBAOS[candidates.length];
+    for (int i = 0; i < candidates.length; i++) {
+      encoders[i] = TSEncodingBuilder.getEncodingBuilder(candidates[i]).getEncoder(dataType);
+      outputs[i] = new PublicBAOS();
+    }
+  }
+
+  public static TSEncoding[] getCandidates(TSDataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return BOOLEAN_CANDIDATES;
+      case INT32:
+      case INT64:
+        return INTEGER_CANDIDATES;
+      case FLOAT:
+      case DOUBLE:
+        return FLOATING_CANDIDATES;
+      case TEXT:
+        return TEXT_CANDIDATES;
+      default:
+        throw new UnSupportedDataTypeException("AUTO doesn't support data type: " + dataType);
+    }
+  }
+
+  @Override
+  public void encode(boolean value, ByteArrayOutputStream out) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+    hasValue = true;
+  }
+
+  @Override
+  public void encode(int value, ByteArrayOutputStream out) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+    hasValue = true;
+  }
+
+  @Override
+  public void encode(long value, ByteArrayOutputStream out) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+    hasValue = true;
+  }
+
+  @Override
+  public void encode(float value, ByteArrayOutputStream out) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+    hasValue = true;
+  }
+
+  @Override
+  public void encode(double value, ByteArrayOutputStream out) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+    hasValue = true;
+  }
+
+  @Override
+  public void encode(Binary value, ByteArrayOutputStream out) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+    hasValue = true;
+  }
+
+  /**
+   * Flush all candidates, write the smallest output to {@code out} and select its encoding. A flush
+   * without any encoded value writes nothing and selects nothing, e.g. an all-null aligned page.
+   */
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (!hasValue) {
+      return;
+    }
+    int smallest = 0;
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].flush(outputs[i]);
+      if (outputs[i].size() < outputs[smallest].size()) {
+        smallest = i;
+      }
+    }
+    out.write(outputs[smallest].getBuf(), 0, outputs[smallest].size());
+    for (PublicBAOS output : outputs) {
+      output.reset();
+    }
+    hasValue = false;
+    selected = smallest;
+  }
+
+  /** @return the encoding chosen by the last flush, or null if no page has been flushed yet */
+  public TSEncoding getSelectedEncoding() {
+    return selected < 0 ? null : candidates[selected];
+  }
+
+  /** @return the flushed candidate encoder of {@link #getSelectedEncoding()}, ready for reuse */
+  public Encoder getSelectedEncoder() {
+    return selected < 0 ? null : encoders[selected];
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    int max = 0;
+    for (Encoder encoder : encoders) {
+      max = Math.max(max, encoder.getOneItemMaxSize());
+    }
+    return max;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the page writer only sees an empty output stream while sampling, so count the buffered
+    // candidate outputs here to keep the page size estimation right
+    long max = 0;
+    for (int i = 0; i < encoders.length; i++) {
+      max = Math.max(max, outputs[i].size() + encoders[i].getMaxByteSize());
+    }
+    return max;
+  }
+}
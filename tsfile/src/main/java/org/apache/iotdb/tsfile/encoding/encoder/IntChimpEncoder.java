@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_INTEGER;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_32BIT;
+import static org.apache.iotdb.tsfile.encoding.encoder.LongChimpEncoder.LEADING_REPRESENTATION;
+import static org.apache.iotdb.tsfile.encoding.encoder.LongChimpEncoder.LEADING_ROUND;
+import static org.apache.iotdb.tsfile.encoding.encoder.LongChimpEncoder.PREVIOUS_VALUES;
+import static org.apache.iotdb.tsfile.encoding.encoder.LongChimpEncoder.PREVIOUS_VALUES_LOG2;
+
+/**
+ * This class includes code modified from Panagiotis Liakos's chimp project.
+ *
+ * <p>The 32 bits version of {@link LongChimpEncoder}.
+ *
+ * <p>Project page: https://github.com/panagiotisl/chimp
+ *
+ * <p>License: http://www.apache.org/licenses/LICENSE-2.0
+ */
+public class IntChimpEncoder extends GorillaEncoderV2 {
+
+  /** the trailing zeros of xor should be more than this to use a value in the history */
+  private static final int THRESHOLD = 5 + PREVIOUS_VALUES_LOG2;
+
+  private static final int SET_LSB = (1 << (THRESHOLD + 1)) - 1;
+
+  /** flag '00' and the index of the equal value */
+  private static final int CASE_ZERO_METADATA_LENGTH = PREVIOUS_VALUES_LOG2 + 2;
+
+  /** flag '01', the index of the value, 3 bits of leading zeros and 5 bits of significant bits */
+  private static final int CASE_ONE_METADATA_LENGTH = PREVIOUS_VALUES_LOG2 + 10;
+
+  private static final int ONE_ITEM_MAX_SIZE = (5 + VALUE_BITS_LENGTH_32BIT) / Byte.SIZE + 1;
+
+  private final int[] storedValues = new int[PREVIOUS_VALUES];
+
+  /** the latest index of the values in the history with the same least significant bits */
+  private final int[] indices = new int[1 << (THRESHOLD + 1)];
+
+  private int index = 0;
+  private int current = 0;
+
+  public IntChimpEncoder() {
+    setType(TSEncoding.CHIMP);
+  }
+
+  @Override
+  public final int getOneItemMaxSize() {
+    return ONE_ITEM_MAX_SIZE;
+  }
+
+  @Override
+  public final void encode(int value, ByteArrayOutputStream out) {
+    if (firstValueWasWritten) {
+      compressValue(value, out);
+    } else {
+      writeFirst(value, out);
+      firstValueWasWritten = true;
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) {
+    // ending stream
+    encode(GORILLA_ENCODING_ENDING_INTEGER, out);
+
+    // flip the byte no matter it is empty or not
+    // the empty ending byte is necessary when decoding
+    bitsLeft = 0;
+    flipByte(out);
+
+    // the encoder may be reused, so let us reset it
+    reset();
+  }
+
+  @Override
+  protected void reset() {
+    super.reset();
+    // stale indices may point to the values of the last page
+    Arrays.fill(indices, 0);
+    index = 0;
+    current = 0;
+  }
+
+  private void writeFirst(int value, ByteArrayOutputStream out) {
+    storedValues[current] = value;
+    writeBits(value, VALUE_BITS_LENGTH_32BIT, out);
+    indices[value & SET_LSB] = index;
+  }
+
+  private void compressValue(int value, ByteArrayOutputStream out) {
+    int key = value & SET_LSB;
+    int xor;
+    int previousIndex;
+    int trailingZeros = 0;
+    int currIndex = indices[key];
+    if ((index - currIndex) < PREVIOUS_VALUES) {
+      int tempXor = value ^ storedValues[currIndex % PREVIOUS_VALUES];
+      trailingZeros = Integer.numberOfTrailingZeros(tempXor);
+      if (trailingZeros > THRESHOLD) {
+        previousIndex = currIndex % PREVIOUS_VALUES;
+        xor = tempXor;
+      } else {
+        previousIndex = index % PREVIOUS_VALUES;
+        xor = storedValues[previousIndex] ^ value;
+      }
+    } else {
+      previousIndex = index % PREVIOUS_VALUES;
+      xor = storedValues[previousIndex] ^ value;
+    }
+
+    if (xor == 0) {
+      // case '00': equal to a value in the history
+      writeBits(previousIndex, CASE_ZERO_METADATA_LENGTH, out);
+      storedLeadingZeros = VALUE_BITS_LENGTH_32BIT + 1;
+    } else {
+      int leadingZeros = LEADING_ROUND[Integer.numberOfLeadingZeros(xor)];
+      if (trailingZeros > THRESHOLD) {
+        // case '01': XORed with a value in the history, store the significant bits only
+        int significantBits = VALUE_BITS_LENGTH_32BIT - leadingZeros - trailingZeros;
+        writeBits(
+            256L * (PREVIOUS_VALUES + previousIndex)
+                + 32 * LEADING_REPRESENTATION[leadingZeros]
+                + significantBits,
+            CASE_ONE_METADATA_LENGTH,
+            out);
+        writeBits(xor >>> trailingZeros, significantBits, out);
+        storedLeadingZeros = VALUE_BITS_LENGTH_32BIT + 1;
+      } else if (leadingZeros == storedLeadingZeros) {
+        // case '10': XORed with the previous value, same leading zeros as the last one
+        writeBits(2, 2, out);
+        writeBits(xor, VALUE_BITS_LENGTH_32BIT - leadingZeros, out);
+      } else {
+        // case '11': XORed with the previous value, new leading zeros in the next 3 bits
+        storedLeadingZeros = leadingZeros;
+        writeBits(24L + LEADING_REPRESENTATION[leadingZeros], 5, out);
+        writeBits(xor, VALUE_BITS_LENGTH_32BIT - leadingZeros, out);
+      }
+    }
+    current = (current + 1) % PREVIOUS_VALUES;
+    storedValues[current] = value;
+    index++;
+    indices[key] = index;
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.GORILLA_ENCODING_ENDING_LONG;
+import static org.apache.iotdb.tsfile.common.conf.TSFileConfig.VALUE_BITS_LENGTH_64BIT;
+
+/**
+ * This class includes code modified from Panagiotis Liakos's chimp project.
+ *
+ * <p>Different from gorilla, each value is XORed with the best one of the previous 128 values,
+ * which is found by a hash table over their least significant bits, and the leading zeros are
+ * rounded to 8 levels so that they are stored with 3 bits.
+ *
+ * <p>Project page: https://github.com/panagiotisl/chimp
+ *
+ * <p>License: http://www.apache.org/licenses/LICENSE-2.0
+ */
+public class LongChimpEncoder extends GorillaEncoderV2 {
+
+  static final int PREVIOUS_VALUES = 128;
+  static final int PREVIOUS_VALUES_LOG2 = 7;
+
+  /** the trailing zeros of xor should be more than this to use a value in the history */
+  private static final int THRESHOLD = 6 + PREVIOUS_VALUES_LOG2;
+
+  private static final int SET_LSB = (1 << (THRESHOLD + 1)) - 1;
+
+  /** flag '00' and the index of the equal value */
+  private static final int CASE_ZERO_METADATA_LENGTH = PREVIOUS_VALUES_LOG2 + 2;
+
+  /** flag '01', the index of the value, 3 bits of leading zeros and 6 bits of significant bits */
+  private static final int CASE_ONE_METADATA_LENGTH = PREVIOUS_VALUES_LOG2 + 11;
+
+  private static final int ONE_ITEM_MAX_SIZE = (5 + VALUE_BITS_LENGTH_64BIT) / Byte.SIZE + 1;
+
+  /** the 3 bits representation of the rounded leading zeros */
+  static final short[] LEADING_REPRESENTATION = {
+    0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 7, 7, 7, 7, 7, 7,
+    7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7
+  };
+
+  /** the leading zeros rounded down to one of 0, 8, 12, 16, 18, 20, 22, 24 */
+  static final short[] LEADING_ROUND = {
+    0, 0, 0, 0, 0, 0, 0, 0, 8, 8, 8, 8, 12, 12, 12, 12, 16, 16, 18, 18, 20, 20, 22, 22, 24, 24, 24,
+    24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24,
+    24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24, 24
+  };
+
+  private final long[] storedValues = new long[PREVIOUS_VALUES];
+
+  /** the latest index of the values in the history with the same least significant bits */
+  private final int[] indices = new int[1 << (THRESHOLD + 1)];
+
+  private int index = 0;
+  private int current = 0;
+
+  public LongChimpEncoder() {
+    setType(TSEncoding.CHIMP);
+  }
+
+  @Override
+  public final int getOneItemMaxSize() {
+    return ONE_ITEM_MAX_SIZE;
+  }
+
+  @Override
+  public final void encode(long value, ByteArrayOutputStream out) {
+    if (firstValueWasWritten) {
+      compressValue(value, out);
+    } else {
+      writeFirst(value, out);
+      firstValueWasWritten = true;
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) {
+    // ending stream
+    encode(GORILLA_ENCODING_ENDING_LONG, out);
+
+    // flip the byte no matter it is empty or not
+    // the empty ending byte is necessary when decoding
+    bitsLeft = 0;
+    flipByte(out);
+
+    // the encoder may be reused, so let us reset it
+    reset();
+  }
+
+  @Override
+  protected void reset() {
+    super.reset();
+    // stale indices may point to the values of the last page
+    Arrays.fill(indices, 0);
+    index = 0;
+    current = 0;
+  }
+
+  private void writeFirst(long value, ByteArrayOutputStream out) {
+    storedValues[current] = value;
+    writeBits(value, VALUE_BITS_LENGTH_64BIT, out);
+    indices[(int) value & SET_LSB] = index;
+  }
+
+  private void compressValue(long value, ByteArrayOutputStream out) {
+    int key = (int) value & SET_LSB;
+    long xor;
+    int previousIndex;
+    int trailingZeros = 0;
+    int currIndex = indices[key];
+    if ((index - currIndex) < PREVIOUS_VALUES) {
+      long tempXor = value ^ storedValues[currIndex % PREVIOUS_VALUES];
+      trailingZeros = Long.numberOfTrailingZeros(tempXor);
+      if (trailingZeros > THRESHOLD) {
+        previousIndex = currIndex % PREVIOUS_VALUES;
+        xor = tempXor;
+      } else {
+        previousIndex = index % PREVIOUS_VALUES;
+        xor = storedValues[previousIndex] ^ value;
+      }
+    } else {
+      previousIndex = index % PREVIOUS_VALUES;
+      xor = storedValues[previousIndex] ^ value;
+    }
+
+    if (xor == 0) {
+      // case '00': equal to a value in the history
+      writeBits(previousIndex, CASE_ZERO_METADATA_LENGTH, out);
+      storedLeadingZeros = VALUE_BITS_LENGTH_64BIT + 1;
+    } else {
+      int leadingZeros = LEADING_ROUND[Long.numberOfLeadingZeros(xor)];
+      if (trailingZeros > THRESHOLD) {
+        // case '01': XORed with a value in the history, store the significant bits only
+        int significantBits = VALUE_BITS_LENGTH_64BIT - leadingZeros - trailingZeros;
+        writeBits(
+            512L * (PREVIOUS_VALUES + previousIndex)
+                + 64 * LEADING_REPRESENTATION[leadingZeros]
+                + significantBits,
+            CASE_ONE_METADATA_LENGTH,
+            out);
+        writeBits(xor >>> trailingZeros, significantBits, out);
+        storedLeadingZeros = VALUE_BITS_LENGTH_64BIT + 1;
+      } else if (leadingZeros == storedLeadingZeros) {
+        // case '10': XORed with the previous value, same leading zeros as the last one
+        writeBits(2, 2, out);
+        writeBits(xor, VALUE_BITS_LENGTH_64BIT - leadingZeros, out);
+      } else {
+        // case '11': XORed with the previous value, new leading zeros in the next 3 bits
+        storedLeadingZeros = leadingZeros;
+        writeBits(24L + LEADING_REPRESENTATION[leadingZeros], 5, out);
+        writeBits(xor, VALUE_BITS_LENGTH_64BIT - leadingZeros, out);
+      }
+    }
+    current = (current + 1) % PREVIOUS_VALUES;
+    storedValues[current] = value;
+    index++;
+    indices[key] = index;
+  }
+}
@@ -73,6 +73,10 @@ public abstract class TSEncodingBuilder {
         return new Freq();
       case ZIGZAG:
         return new Zigzag();
+      case CHIMP:
+        return new Chimp();
+      case AUTO:
+        return new Auto();
       default:
         throw new UnsupportedOperationException(type.toString());
     }
@@ -364,6 +368,31 @@ public abstract class TSEncodingBuilder {
     }
   }
 
+  /** for FLOAT, DOUBLE, INT, LONG. */
+  public static class Chimp extends TSEncodingBuilder {
+
+    @Override
+    public Encoder getEncoder(TSDataType type) {
+      switch (type) {
+        case FLOAT:
+          return new SinglePrecisionChimpEncoder();
+        case DOUBLE:
+          return new DoublePrecisionChimpEncoder();
+        case INT32:
+          return new IntChimpEncoder();
+        case INT64:
+          return new LongChimpEncoder();
+        default:
+          throw new UnSupportedDataTypeException("CHIMP doesn't support data type: " + type);
+      }
+    }
+
+    @Override
+    public void initFromProps(Map<String, String> props) {
+      // allowed do nothing
+    }
+  }
+
   public static class Dictionary extends TSEncodingBuilder {
 
     @Override
@@ -399,4 +428,18 @@ public abstract class TSEncodingBuilder {
       // do nothing
     }
   }
+
+  /** for BOOLEAN, INT32, INT64, FLOAT, DOUBLE, TEXT. */
+  public static class Auto extends TSEncodingBuilder {
+
+    @Override
+    public Encoder getEncoder(TSDataType type) {
+      return new AutoEncoder(type);
+    }
+
+    @Override
+    public void initFromProps(Map<String, String> props) {
+      // do nothing
+    }
+  }
 }
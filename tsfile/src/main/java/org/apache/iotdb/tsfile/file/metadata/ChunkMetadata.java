@@ -19,6 +19,9 @@
 package org.apache.iotdb.tsfile.file.metadata;
 
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.ExtendedStatistics;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.controller.IChunkLoader;
@@ -82,6 +85,12 @@ public class ChunkMetadata implements IChunkMetadata {
   // high 32 bit is compaction level, low 32 bit is merge count
   private long compactionVersion;
 
+  // rollup of the points of this chunk while it is being written, never serialized
+  private RollupStatistics rollupStatistics;
+
+  // indexes of the values of the pages of this chunk, in the order of the pages, null if absent
+  private List<PageValueIndex> pageValueIndexes;
+
   public ChunkMetadata() {}
 
   /**
@@ -157,6 +166,12 @@ public class ChunkMetadata implements IChunkMetadata {
     byteLen += ReadWriteIOUtils.write(offsetOfChunkHeader, outputStream);
     if (serializeStatistic) {
       byteLen += statistics.serialize(outputStream);
+      if (statistics.getExtendedStatistics() != null) {
+        byteLen += statistics.getExtendedStatistics().serialize(outputStream);
+      }
+    }
+    if (pageValueIndexes != null) {
+      byteLen += PageValueIndex.serialize(pageValueIndexes, outputStream);
     }
     return byteLen;
   }
@@ -176,13 +191,19 @@ public class ChunkMetadata implements IChunkMetadata {
     chunkMetaData.offsetOfChunkHeader = ReadWriteIOUtils.readLong(buffer);
     // if the TimeSeriesMetadataType is not 0, it means it has more than one chunk
     // and each chunk's metadata has its own statistics
-    if ((timeseriesMetadata.getTimeSeriesMetadataType() & 0x3F) != 0) {
+    if ((timeseriesMetadata.getTimeSeriesMetadataType() & 0x03) != 0) {
       chunkMetaData.statistics = Statistics.deserialize(buffer, chunkMetaData.tsDataType);
+      if (timeseriesMetadata.hasExtendedStatistics()) {
+        chunkMetaData.statistics.setExtendedStatistics(ExtendedStatistics.deserialize(buffer));
+      }
     } else {
       // if the TimeSeriesMetadataType is 0, it means it has only one chunk
       // and that chunk's metadata has no statistic
       chunkMetaData.statistics = timeseriesMetadata.getStatistics();
     }
+    if (timeseriesMetadata.hasPageValueIndex()) {
+      chunkMetaData.pageValueIndexes = PageValueIndex.deserialize(buffer, chunkMetaData.tsDataType);
+    }
     return chunkMetaData;
   }
 
@@ -280,7 +301,22 @@ public class ChunkMetadata implements IChunkMetadata {
     return CHUNK_METADATA_FIXED_RAM_SIZE
         + RamUsageEstimator.sizeOf(tsFilePrefixPath)
         + RamUsageEstimator.sizeOf(measurementUid)
-        + statistics.calculateRamSize();
+        + statistics.calculateRamSize()
+        + (statistics.getExtendedStatistics() == null
+            ? 0
+            : statistics.getExtendedStatistics().calculateRamSize())
+        + calculatePageValueIndexRamSize();
+  }
+
+  private long calculatePageValueIndexRamSize() {
+    if (pageValueIndexes == null) {
+      return 0;
+    }
+    long size = RamUsageEstimator.shallowSizeOf(pageValueIndexes);
+    for (PageValueIndex index : pageValueIndexes) {
+      size += RamUsageEstimator.NUM_BYTES_OBJECT_REF + index.calculateRamSize();
+    }
+    return size;
   }
 
   public static long calculateRamSize(String measurementId, TSDataType dataType) {
@@ -336,4 +372,20 @@ public class ChunkMetadata implements IChunkMetadata {
   public void setMask(byte mask) {
     this.mask = mask;
   }
+
+  public RollupStatistics getRollupStatistics() {
+    return rollupStatistics;
+  }
+
+  public void setRollupStatistics(RollupStatistics rollupStatistics) {
+    this.rollupStatistics = rollupStatistics;
+  }
+
+  public List<PageValueIndex> getPageValueIndexes() {
+    return pageValueIndexes;
+  }
+
+  public void setPageValueIndexes(List<PageValueIndex> pageValueIndexes) {
+    this.pageValueIndexes = pageValueIndexes;
+  }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata;
+
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.utils.RamUsageEstimator;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A sparse time index over the chunk metadata list of a series. The chunk metadata are split into
+ * blocks of a fixed number of chunks, and each block keeps the min start time and max end time of
+ * its chunks and the offset of its first chunk metadata in the serialized list. A query then only
+ * deserializes the chunk metadata of the blocks overlapping its time range.
+ */
+public class ChunkTimeIndex {
+
+  private static final long INSTANCE_SIZE =
+      RamUsageEstimator.shallowSizeOfInstance(ChunkTimeIndex.class);
+
+  private int blockCount;
+  // offset of the first chunk metadata of each block in the chunk metadata list
+  private int[] offsets;
+  private long[] startTimes;
+  private long[] endTimes;
+
+  private ChunkTimeIndex(int blockCount, int[] offsets, long[] startTimes, long[] endTimes) {
+    this.blockCount = blockCount;
+    this.offsets = offsets;
+    this.startTimes = startTimes;
+    this.endTimes = endTimes;
+  }
+
+  /** @param expectedBlockCount number of blocks to reserve room for */
+  public ChunkTimeIndex(int expectedBlockCount) {
+    this(
+        0, new int[expectedBlockCount], new long[expectedBlockCount], new long[expectedBlockCount]);
+  }
+
+  /**
+   * add the chunk metadata of a chunk, in the order of the list
+   *
+   * @param offset offset of the chunk metadata in the list
+   * @param newBlock whether the chunk starts a new block
+   */
+  public void add(int offset, long startTime, long endTime, boolean newBlock) {
+    if (newBlock || blockCount == 0) {
+      if (blockCount == offsets.length) {
+        int capacity = Math.max(blockCount * 2, 1);
+        offsets = Arrays.copyOf(offsets, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        endTimes = Arrays.copyOf(endTimes, capacity);
+      }
+      offsets[blockCount] = offset;
+      startTimes[blockCount] = startTime;
+      endTimes[blockCount] = endTime;
+      blockCount++;
+    } else {
+      startTimes[blockCount - 1] = Math.min(startTimes[blockCount - 1], startTime);
+      endTimes[blockCount - 1] = Math.max(endTimes[blockCount - 1], endTime);
+    }
+  }
+
+  public int getBlockCount() {
+    return blockCount;
+  }
+
+  /** @return offset of the first chunk metadata of the block in the chunk metadata list */
+  public int getOffset(int block) {
+    return offsets[block];
+  }
+
+  /**
+   * @param listSize serialized size of the chunk metadata list
+   * @return offset of the end of the chunk metadata of the block in the chunk metadata list
+   */
+  public int getEndOffset(int block, int listSize) {
+    return block + 1 < blockCount ? offsets[block + 1] : listSize;
+  }
+
+  /** @return whether any chunk of the block may satisfy the time filter */
+  public boolean satisfy(int block, Filter timeFilter) {
+    return timeFilter == null || timeFilter.satisfyStartEndTime(startTimes[block], endTimes[block]);
+  }
+
+  public int serializeTo(OutputStream outputStream) throws IOException {
+    int byteLen = ReadWriteForEncodingUtils.writeUnsignedVarInt(blockCount, outputStream);
+    for (int i = 0; i < blockCount; i++) {
+      byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(offsets[i], outputStream);
+      byteLen += ReadWriteIOUtils.write(startTimes[i], outputStream);
+      byteLen += ReadWriteIOUtils.write(endTimes[i], outputStream);
+    }
+    return byteLen;
+  }
+
+  public static ChunkTimeIndex deserializeFrom(ByteBuffer buffer) {
+    int blockCount = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    int[] offsets = new int[blockCount];
+    long[] startTimes = new long[blockCount];
+    long[] endTimes = new long[blockCount];
+    for (int i = 0; i < blockCount; i++) {
+      offsets[i] = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+      startTimes[i] = ReadWriteIOUtils.readLong(buffer);
+      endTimes[i] = ReadWriteIOUtils.readLong(buffer);
+    }
+    return new ChunkTimeIndex(blockCount, offsets, startTimes, endTimes);
+  }
+
+  public long calculateRamSize() {
+    return INSTANCE_SIZE
+        + RamUsageEstimator.sizeOf(offsets)
+        + RamUsageEstimator.sizeOf(startTimes)
+        + RamUsageEstimator.sizeOf(endTimes);
+  }
+}
@@ -32,30 +32,80 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A node of the metadata index tree. A node read from a TsFile keeps its entries encoded in a copy
+ * of its bytes, together with the position of each entry name, so that a point lookup only compares
+ * the names on its binary search path against the raw bytes and decodes the single entry it
+ * returns. All entries are decoded on the first call to {@link #getChildren()}.
+ */
 public class MetadataIndexNode {
 
   private static final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
-  private final List<MetadataIndexEntry> children;
+
+  /** decoded entries, null until a node read from a TsFile is traversed entirely */
+  private volatile List<MetadataIndexEntry> children;
+
+  /** encoded entries of a node read from a TsFile, null for nodes built in memory */
+  private final ByteBuffer entryBuffer;
+
+  /** position of the name bytes of each entry in entryBuffer */
+  private final int[] namePositions;
+
+  /** length of the name bytes of each entry, -1 for a null name */
+  private final int[] nameLengths;
+
   private long endOffset;
 
   /** type of the child node at offset */
   private final MetadataIndexNodeType nodeType;
 
   public MetadataIndexNode(MetadataIndexNodeType nodeType) {
-    children = new ArrayList<>();
-    endOffset = -1L;
-    this.nodeType = nodeType;
+    this(new ArrayList<>(), -1L, nodeType);
   }
 
   public MetadataIndexNode(
       List<MetadataIndexEntry> children, long endOffset, MetadataIndexNodeType nodeType) {
     this.children = children;
+    this.entryBuffer = null;
+    this.namePositions = null;
+    this.nameLengths = null;
+    this.endOffset = endOffset;
+    this.nodeType = nodeType;
+  }
+
+  private MetadataIndexNode(
+      ByteBuffer entryBuffer,
+      int[] namePositions,
+      int[] nameLengths,
+      long endOffset,
+      MetadataIndexNodeType nodeType) {
+    this.entryBuffer = entryBuffer;
+    this.namePositions = namePositions;
+    this.nameLengths = nameLengths;
     this.endOffset = endOffset;
     this.nodeType = nodeType;
   }
 
   public List<MetadataIndexEntry> getChildren() {
-    return children;
+    List<MetadataIndexEntry> decodedChildren = children;
+    if (decodedChildren == null) {
+      synchronized (this) {
+        decodedChildren = children;
+        if (decodedChildren == null) {
+          decodedChildren = new ArrayList<>(namePositions.length);
+          for (int i = 0; i < namePositions.length; i++) {
+            decodedChildren.add(new MetadataIndexEntry(getChildName(i), getChildOffset(i)));
+          }
+          children = decodedChildren;
+        }
+      }
+    }
+    return decodedChildren;
+  }
+
+  public int getChildrenCount() {
+    List<MetadataIndexEntry> decodedChildren = children;
+    return decodedChildren != null ? decodedChildren.size() : namePositions.length;
   }
 
   public long getEndOffset() {
@@ -71,24 +121,25 @@ public class MetadataIndexNode {
   }
 
   public void addEntry(MetadataIndexEntry metadataIndexEntry) {
-    this.children.add(metadataIndexEntry);
+    getChildren().add(metadataIndexEntry);
   }
 
   boolean isFull() {
-    return children.size() >= config.getMaxDegreeOfIndexNode();
+    return getChildrenCount() >= config.getMaxDegreeOfIndexNode();
   }
 
   MetadataIndexEntry peek() {
-    if (children.isEmpty()) {
+    if (getChildrenCount() == 0) {
       return null;
     }
-    return children.get(0);
+    return getChild(0);
   }
 
   public int serializeTo(OutputStream outputStream) throws IOException {
     int byteLen = 0;
-    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(children.size(), outputStream);
-    for (MetadataIndexEntry metadataIndexEntry : children) {
+    List<MetadataIndexEntry> entries = getChildren();
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(entries.size(), outputStream);
+    for (MetadataIndexEntry metadataIndexEntry : entries) {
       byteLen += metadataIndexEntry.serializeTo(outputStream);
     }
     byteLen += ReadWriteIOUtils.write(endOffset, outputStream);
@@ -96,16 +147,34 @@ public class MetadataIndexNode {
     return byteLen;
   }
 
+  /**
+   * Read a node without decoding its entries. Only the name lengths are read to locate the entries,
+   * and the bytes of the entries are copied so that the node does not pin the given buffer.
+   */
   public static MetadataIndexNode deserializeFrom(ByteBuffer buffer) {
-    List<MetadataIndexEntry> children = new ArrayList<>();
     int size = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    int start = buffer.position();
+    int[] namePositions = new int[size];
+    int[] nameLengths = new int[size];
     for (int i = 0; i < size; i++) {
-      children.add(MetadataIndexEntry.deserializeFrom(buffer));
+      int nameLength = ReadWriteForEncodingUtils.readVarInt(buffer);
+      namePositions[i] = buffer.position() - start;
+      nameLengths[i] = nameLength;
+      buffer.position(buffer.position() + Math.max(nameLength, 0) + Long.BYTES);
     }
+    int end = buffer.position();
+
+    ByteBuffer entryBuffer = buffer.duplicate();
+    entryBuffer.position(start);
+    entryBuffer.limit(end);
+    byte[] entryBytes = new byte[end - start];
+    entryBuffer.get(entryBytes);
+
     long offset = ReadWriteIOUtils.readLong(buffer);
     MetadataIndexNodeType nodeType =
         MetadataIndexNodeType.deserialize(ReadWriteIOUtils.readByte(buffer));
-    return new MetadataIndexNode(children, offset, nodeType);
+    return new MetadataIndexNode(
+        ByteBuffer.wrap(entryBytes), namePositions, nameLengths, offset, nodeType);
   }
 
   public Pair<MetadataIndexEntry, Long> getChildIndexEntry(String key, boolean exactSearch) {
@@ -114,22 +183,28 @@ public class MetadataIndexNode {
       return null;
     }
     long childEndOffset;
-    if (index != children.size() - 1) {
-      childEndOffset = children.get(index + 1).getOffset();
+    if (index != getChildrenCount() - 1) {
+      childEndOffset = getChildOffset(index + 1);
     } else {
       childEndOffset = this.endOffset;
     }
-    return new Pair<>(children.get(index), childEndOffset);
+    return new Pair<>(getChild(index), childEndOffset);
   }
 
   int binarySearchInChildren(String key, boolean exactSearch) {
+    // comparing UTF-8 bytes gives the order of String.compareTo as long as the key has no
+    // surrogate or char above them, otherwise the names on the search path are decoded
+    byte[] keyBytes =
+        children == null && isByteComparable(key)
+            ? key.getBytes(TSFileConfig.STRING_CHARSET)
+            : null;
     int low = 0;
-    int high = children.size() - 1;
+    int high = getChildrenCount() - 1;
 
     while (low <= high) {
       int mid = (low + high) >>> 1;
-      MetadataIndexEntry midVal = children.get(mid);
-      int cmp = midVal.getName().compareTo(key);
+      int cmp =
+          keyBytes != null ? compareChildName(mid, keyBytes) : getChildName(mid).compareTo(key);
 
       if (cmp < 0) {
         low = mid + 1;
@@ -147,4 +222,59 @@ public class MetadataIndexNode {
       return low == 0 ? low : low - 1;
     }
   }
+
+  private MetadataIndexEntry getChild(int index) {
+    List<MetadataIndexEntry> decodedChildren = children;
+    if (decodedChildren != null) {
+      return decodedChildren.get(index);
+    }
+    return new MetadataIndexEntry(getChildName(index), getChildOffset(index));
+  }
+
+  private String getChildName(int index) {
+    List<MetadataIndexEntry> decodedChildren = children;
+    if (decodedChildren != null) {
+      return decodedChildren.get(index).getName();
+    }
+    int nameLength = nameLengths[index];
+    if (nameLength < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[nameLength];
+    ByteBuffer nameBuffer = entryBuffer.duplicate();
+    nameBuffer.position(namePositions[index]);
+    nameBuffer.get(bytes);
+    return new String(bytes, TSFileConfig.STRING_CHARSET);
+  }
+
+  private long getChildOffset(int index) {
+    List<MetadataIndexEntry> decodedChildren = children;
+    if (decodedChildren != null) {
+      return decodedChildren.get(index).getOffset();
+    }
+    return entryBuffer.getLong(namePositions[index] + Math.max(nameLengths[index], 0));
+  }
+
+  /** compare the encoded name of the child at index with the given UTF-8 bytes */
+  private int compareChildName(int index, byte[] keyBytes) {
+    int position = namePositions[index];
+    int nameLength = Math.max(nameLengths[index], 0);
+    int length = Math.min(nameLength, keyBytes.length);
+    for (int i = 0; i < length; i++) {
+      int cmp = (entryBuffer.get(position + i) & 0xff) - (keyBytes[i] & 0xff);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return nameLength - keyBytes.length;
+  }
+
+  private static boolean isByteComparable(String key) {
+    for (int i = 0; i < key.length(); i++) {
+      if (key.charAt(i) >= Character.MIN_SURROGATE) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
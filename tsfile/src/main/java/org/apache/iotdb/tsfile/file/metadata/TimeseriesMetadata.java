@@ -20,9 +20,14 @@
 package org.apache.iotdb.tsfile.file.metadata;
 
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.ExtendedStatistics;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.controller.IChunkMetadataLoader;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.RamUsageEstimator;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
@@ -35,6 +40,18 @@ import java.util.List;
 
 public class TimeseriesMetadata implements ITimeSeriesMetadata {
 
+  /** the bit of timeSeriesMetadataType marking that extended statistics are serialized */
+  public static final byte EXTENDED_STATISTICS_MASK = 0x20;
+
+  /** the bit of timeSeriesMetadataType marking that rollup statistics are serialized */
+  public static final byte ROLLUP_STATISTICS_MASK = 0x10;
+
+  /** the bit of timeSeriesMetadataType marking that each chunk metadata has page value indexes */
+  public static final byte PAGE_VALUE_INDEX_MASK = 0x08;
+
+  /** the bit of timeSeriesMetadataType marking that a {@link ChunkTimeIndex} is serialized */
+  public static final byte CHUNK_TIME_INDEX_MASK = 0x04;
+
   /** used for old version tsfile */
   private long startOffsetOfChunkMetaDataList;
   /**
@@ -47,6 +64,18 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
    * <p>if the 8th bit is 1, it means it is the time column of a vector series;
    *
    * <p>if the 7th bit is 1, it means it is the value column of a vector series
+   *
+   * <p>if the 6th bit is 1, it means the statistics of the series and of each chunk are followed by
+   * {@link ExtendedStatistics}
+   *
+   * <p>if the 5th bit is 1, it means the statistics of the series are followed by {@link
+   * RollupStatistics}
+   *
+   * <p>if the 4th bit is 1, it means each chunk metadata ends with the {@link PageValueIndex} of
+   * its pages
+   *
+   * <p>if the 3rd bit is 1, it means the chunk metadata list is preceded by a {@link
+   * ChunkTimeIndex}
    */
   private byte timeSeriesMetadataType;
 
@@ -72,6 +101,17 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
 
   private ArrayList<IChunkMetadata> chunkMetadataList;
 
+  private ChunkTimeIndex chunkTimeIndex;
+
+  // the serialized chunk metadata list of a series with a chunk time index, copied out of the
+  // metadata buffer and deserialized on demand
+  private byte[] chunkMetadataListBytes;
+
+  // the serialized rollup, copied out of the metadata buffer and deserialized on first use
+  private byte[] rollupBytes;
+
+  private RollupStatistics rollup;
+
   public TimeseriesMetadata() {}
 
   public TimeseriesMetadata(
@@ -96,7 +136,13 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
     this.dataType = timeseriesMetadata.dataType;
     this.statistics = timeseriesMetadata.statistics;
     this.modified = timeseriesMetadata.modified;
-    this.chunkMetadataList = new ArrayList<>(timeseriesMetadata.chunkMetadataList);
+    if (timeseriesMetadata.chunkMetadataList != null) {
+      this.chunkMetadataList = new ArrayList<>(timeseriesMetadata.chunkMetadataList);
+    }
+    this.chunkTimeIndex = timeseriesMetadata.chunkTimeIndex;
+    this.chunkMetadataListBytes = timeseriesMetadata.chunkMetadataListBytes;
+    this.rollupBytes = timeseriesMetadata.rollupBytes;
+    this.rollup = timeseriesMetadata.rollup;
   }
 
   public static TimeseriesMetadata deserializeFrom(ByteBuffer buffer, boolean needChunkMetadata) {
@@ -107,7 +153,21 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
     int chunkMetaDataListDataSize = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
     timeseriesMetaData.setDataSizeOfChunkMetaDataList(chunkMetaDataListDataSize);
     timeseriesMetaData.setStatistics(Statistics.deserialize(buffer, timeseriesMetaData.dataType));
-    if (needChunkMetadata) {
+    if (timeseriesMetaData.hasExtendedStatistics()) {
+      timeseriesMetaData
+          .getStatistics()
+          .setExtendedStatistics(ExtendedStatistics.deserialize(buffer));
+    }
+    if (timeseriesMetaData.hasRollupStatistics()) {
+      timeseriesMetaData.rollupBytes = readRollupBytes(buffer);
+    }
+    if (timeseriesMetaData.hasChunkTimeIndex()) {
+      timeseriesMetaData.chunkTimeIndex = ChunkTimeIndex.deserializeFrom(buffer);
+    }
+    if (needChunkMetadata && timeseriesMetaData.chunkTimeIndex != null) {
+      timeseriesMetaData.chunkMetadataListBytes = new byte[chunkMetaDataListDataSize];
+      buffer.duplicate().get(timeseriesMetaData.chunkMetadataListBytes);
+    } else if (needChunkMetadata) {
       ByteBuffer byteBuffer = buffer.slice();
       byteBuffer.limit(chunkMetaDataListDataSize);
       timeseriesMetaData.chunkMetadataList = new ArrayList<>();
@@ -137,6 +197,20 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
     byteLen +=
         ReadWriteForEncodingUtils.writeUnsignedVarInt(chunkMetaDataListDataSize, outputStream);
     byteLen += statistics.serialize(outputStream);
+    if (hasExtendedStatistics()) {
+      byteLen += statistics.getExtendedStatistics().serialize(outputStream);
+    }
+    if (hasRollupStatistics()) {
+      if (rollup != null) {
+        byteLen += rollup.serialize(outputStream);
+      } else {
+        outputStream.write(rollupBytes);
+        byteLen += rollupBytes.length;
+      }
+    }
+    if (hasChunkTimeIndex()) {
+      byteLen += chunkTimeIndex.serializeTo(outputStream);
+    }
     chunkMetadataListBuffer.writeTo(outputStream);
     byteLen += chunkMetadataListBuffer.size();
     return byteLen;
@@ -150,6 +224,57 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
     this.timeSeriesMetadataType = timeSeriesMetadataType;
   }
 
+  public boolean hasExtendedStatistics() {
+    return (timeSeriesMetadataType & EXTENDED_STATISTICS_MASK) != 0;
+  }
+
+  public boolean hasRollupStatistics() {
+    return (timeSeriesMetadataType & ROLLUP_STATISTICS_MASK) != 0;
+  }
+
+  public boolean hasPageValueIndex() {
+    return (timeSeriesMetadataType & PAGE_VALUE_INDEX_MASK) != 0;
+  }
+
+  public boolean hasChunkTimeIndex() {
+    return (timeSeriesMetadataType & CHUNK_TIME_INDEX_MASK) != 0;
+  }
+
+  public ChunkTimeIndex getChunkTimeIndex() {
+    return chunkTimeIndex;
+  }
+
+  public void setChunkTimeIndex(ChunkTimeIndex chunkTimeIndex) {
+    this.chunkTimeIndex = chunkTimeIndex;
+  }
+
+  /** the buffer of the metadata is not kept, so the serialized rollup is copied out of it */
+  private static byte[] readRollupBytes(ByteBuffer buffer) {
+    int start = buffer.position();
+    ReadWriteIOUtils.readByte(buffer);
+    int length = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    byte[] bytes = new byte[buffer.position() - start + length];
+    buffer.position(start);
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  /** @return the rollup statistics of this series, or null if it has none */
+  public RollupStatistics getRollupStatistics() {
+    if (rollup == null && rollupBytes != null) {
+      rollup = RollupStatistics.deserialize(ByteBuffer.wrap(rollupBytes), dataType);
+    }
+    return rollup;
+  }
+
+  public void setRollupStatistics(RollupStatistics rollup) {
+    this.rollup = rollup;
+  }
+
+  public long getRollupRamSize() {
+    return rollupBytes == null ? 0 : rollupBytes.length;
+  }
+
   public long getOffsetOfChunkMetaDataList() {
     return startOffsetOfChunkMetaDataList;
   }
@@ -205,9 +330,60 @@ public class TimeseriesMetadata implements ITimeSeriesMetadata {
   }
 
   public List<IChunkMetadata> getChunkMetadataList() {
+    if (chunkMetadataList == null && chunkMetadataListBytes != null) {
+      chunkMetadataList = deserializeChunkMetadataList(0, chunkMetadataListBytes.length);
+      chunkMetadataList.trimToSize();
+    }
     return chunkMetadataList;
   }
 
+  /**
+   * Get the chunk metadata that may satisfy the time filter. With a chunk time index, only the
+   * chunk metadata of the blocks overlapping the filter are deserialized, so some of the returned
+   * ones may still not satisfy it. The result is not kept by this series.
+   *
+   * @param timeFilter time filter, or null for all the chunk metadata
+   */
+  public List<IChunkMetadata> getChunkMetadataList(Filter timeFilter) {
+    if (chunkMetadataList != null || chunkMetadataListBytes == null || timeFilter == null) {
+      return getChunkMetadataList();
+    }
+    ArrayList<IChunkMetadata> satisfiedChunkMetadataList = new ArrayList<>();
+    for (int i = 0; i < chunkTimeIndex.getBlockCount(); i++) {
+      if (chunkTimeIndex.satisfy(i, timeFilter)) {
+        satisfiedChunkMetadataList.addAll(
+            deserializeChunkMetadataList(
+                chunkTimeIndex.getOffset(i),
+                chunkTimeIndex.getEndOffset(i, chunkMetadataListBytes.length)));
+      }
+    }
+    return satisfiedChunkMetadataList;
+  }
+
+  private ArrayList<IChunkMetadata> deserializeChunkMetadataList(int start, int end) {
+    ByteBuffer byteBuffer = ByteBuffer.wrap(chunkMetadataListBytes, start, end - start);
+    ArrayList<IChunkMetadata> list = new ArrayList<>();
+    while (byteBuffer.hasRemaining()) {
+      list.add(ChunkMetadata.deserializeFrom(byteBuffer, this));
+    }
+    return list;
+  }
+
+  /** @return estimated memory held by the chunk metadata list, deserialized or not */
+  public long getChunkMetadataListRamSize() {
+    if (chunkMetadataList == null) {
+      return chunkMetadataListBytes == null
+          ? 0
+          : RamUsageEstimator.sizeOf(chunkMetadataListBytes) + chunkTimeIndex.calculateRamSize();
+    }
+    return (chunkMetadataList.get(0) == null
+                ? 0
+                : ((ChunkMetadata) chunkMetadataList.get(0)).calculateRamSize()
+                    + RamUsageEstimator.NUM_BYTES_OBJECT_REF)
+            * chunkMetadataList.size()
+        + RamUsageEstimator.shallowSizeOf(chunkMetadataList);
+  }
+
   @Override
   public boolean isModified() {
     return modified;
@@ -19,11 +19,13 @@
 
 package org.apache.iotdb.tsfile.file.metadata;
 
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.utils.BloomFilter;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+import org.apache.iotdb.tsfile.utils.SplitBlockBloomFilter;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -106,9 +108,22 @@ public class TsFileMetadata {
    * @return -byte length
    */
   public int serializeBloomFilter(OutputStream outputStream, Set<Path> paths) throws IOException {
-    int byteLen = 0;
-    BloomFilter filter = buildBloomFilter(paths);
+    BloomFilter filter = getEmptyBloomFilter(paths.size());
+    for (Path path : paths) {
+      filter.add(path.toString());
+    }
+    return serializeBloomFilter(outputStream, filter);
+  }
 
+  /**
+   * use the given outputStream to serialize a bloom filter filled by the caller.
+   *
+   * @param outputStream -output stream to determine byte length
+   * @return -byte length
+   */
+  public int serializeBloomFilter(OutputStream outputStream, BloomFilter filter)
+      throws IOException {
+    int byteLen = 0;
     byte[] bytes = filter.serialize();
     byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(bytes.length, outputStream);
     outputStream.write(bytes);
@@ -120,18 +135,16 @@ public class TsFileMetadata {
   }
 
   /**
-   * build bloom filter
+   * build an empty bloom filter of the configured kind and error rate
    *
+   * @param pathCount number of the paths to be added
    * @return bloom filter
    */
-  private BloomFilter buildBloomFilter(Set<Path> paths) {
-    BloomFilter filter =
-        BloomFilter.getEmptyBloomFilter(
-            TSFileDescriptor.getInstance().getConfig().getBloomFilterErrorRate(), paths.size());
-    for (Path path : paths) {
-      filter.add(path.toString());
-    }
-    return filter;
+  public static BloomFilter getEmptyBloomFilter(int pathCount) {
+    TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+    return config.isEnableSplitBlockBloomFilter()
+        ? SplitBlockBloomFilter.getEmptyBloomFilter(config.getBloomFilterErrorRate(), pathCount)
+        : BloomFilter.getEmptyBloomFilter(config.getBloomFilterErrorRate(), pathCount);
   }
 
   public long getMetaOffset() {
@@ -29,7 +29,13 @@ public enum TSEncoding {
   REGULAR((byte) 7),
   GORILLA((byte) 8),
   ZIGZAG((byte) 9),
-  FREQ((byte) 10);
+  FREQ((byte) 10),
+  CHIMP((byte) 11),
+  /**
+   * Only used in schemas: the chunk writer picks a concrete encoding for each chunk and writes that
+   * one into the chunk header.
+   */
+  AUTO((byte) 12);
 
   private final byte type;
 
@@ -71,6 +77,10 @@ public enum TSEncoding {
         return TSEncoding.ZIGZAG;
       case 10:
         return TSEncoding.FREQ;
+      case 11:
+        return TSEncoding.CHIMP;
+      case 12:
+        return TSEncoding.AUTO;
       default:
         throw new IllegalArgumentException("Invalid input: " + encoding);
     }
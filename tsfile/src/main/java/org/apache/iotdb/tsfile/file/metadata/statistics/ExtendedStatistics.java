@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Optional statistics of a numeric series besides {@link Statistics}: the sum of squares for
+ * variance, a {@link HyperLogLog} for distinct count and a {@link QuantileSketch} for quantiles.
+ *
+ * <p>They are serialized after the statistics of a TimeseriesMetadata and of its ChunkMetadata, as
+ * a version byte, the length of the payload and the payload, so that a reader can skip a version it
+ * does not know.
+ */
+public class ExtendedStatistics {
+
+  public static final byte VERSION = 1;
+
+  private double sumOfSquares;
+  private HyperLogLog hyperLogLog;
+  private QuantileSketch quantileSketch;
+
+  public ExtendedStatistics() {
+    this(0, new HyperLogLog(), new QuantileSketch());
+  }
+
+  private ExtendedStatistics(
+      double sumOfSquares, HyperLogLog hyperLogLog, QuantileSketch quantileSketch) {
+    this.sumOfSquares = sumOfSquares;
+    this.hyperLogLog = hyperLogLog;
+    this.quantileSketch = quantileSketch;
+  }
+
+  public static boolean isSupported(TSDataType dataType) {
+    switch (dataType) {
+      case INT32:
+      case INT64:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  void update(int value) {
+    sumOfSquares += (double) value * value;
+    hyperLogLog.offer(value);
+    quantileSketch.update(value);
+  }
+
+  void update(long value) {
+    sumOfSquares += (double) value * value;
+    hyperLogLog.offer(value);
+    quantileSketch.update(value);
+  }
+
+  void update(float value) {
+    update((double) value);
+  }
+
+  void update(double value) {
+    sumOfSquares += value * value;
+    hyperLogLog.offer(value);
+    quantileSketch.update(value);
+  }
+
+  public void merge(ExtendedStatistics other) {
+    sumOfSquares += other.sumOfSquares;
+    hyperLogLog.merge(other.hyperLogLog);
+    quantileSketch.merge(other.quantileSketch);
+  }
+
+  public ExtendedStatistics copy() {
+    return new ExtendedStatistics(sumOfSquares, hyperLogLog.copy(), quantileSketch.copy());
+  }
+
+  public double getSumOfSquares() {
+    return sumOfSquares;
+  }
+
+  /** @return the estimated number of distinct values */
+  public long getDistinctCount() {
+    return hyperLogLog.cardinality();
+  }
+
+  /**
+   * @param rank the normalized rank in [0, 1], e.g. 0.5 for the median
+   * @return the approximate value at the rank
+   */
+  public double getQuantile(double rank) {
+    return quantileSketch.getQuantile(rank);
+  }
+
+  public HyperLogLog getHyperLogLog() {
+    return hyperLogLog;
+  }
+
+  public QuantileSketch getQuantileSketch() {
+    return quantileSketch;
+  }
+
+  public int serialize(OutputStream outputStream) throws IOException {
+    PublicBAOS payload = new PublicBAOS();
+    ReadWriteIOUtils.write(sumOfSquares, payload);
+    hyperLogLog.serialize(payload);
+    quantileSketch.serialize(payload);
+
+    int byteLen = 0;
+    byteLen += ReadWriteIOUtils.write(VERSION, outputStream);
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(payload.size(), outputStream);
+    outputStream.write(payload.getBuf(), 0, payload.size());
+    byteLen += payload.size();
+    return byteLen;
+  }
+
+  /** @return the extended statistics, or null if they are of a version unknown to this reader */
+  public static ExtendedStatistics deserialize(ByteBuffer buffer) {
+    byte version = ReadWriteIOUtils.readByte(buffer);
+    int length = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    if (version != VERSION) {
+      buffer.position(buffer.position() + length);
+      return null;
+    }
+    double sumOfSquares = ReadWriteIOUtils.readDouble(buffer);
+    HyperLogLog hyperLogLog = HyperLogLog.deserialize(buffer);
+    QuantileSketch quantileSketch = QuantileSketch.deserialize(buffer);
+    return new ExtendedStatistics(sumOfSquares, hyperLogLog, quantileSketch);
+  }
+
+  public long calculateRamSize() {
+    return 32L + hyperLogLog.calculateRamSize() + quantileSketch.calculateRamSize();
+  }
+
+  @Override
+  public String toString() {
+    return "[sumOfSquares:"
+        + sumOfSquares
+        + ",distinctCount:"
+        + getDistinctCount()
+        + ",median:"
+        + getQuantile(0.5)
+        + "]";
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A small HyperLogLog sketch estimating the number of distinct values of a series. Two sketches of
+ * the same precision can be merged, so the estimate of a chunk or a file is built from the sketches
+ * of its pages or chunks.
+ */
+public class HyperLogLog {
+
+  /** 2^7 registers, about 9% standard error */
+  static final int DEFAULT_PRECISION = 7;
+
+  private final int precision;
+  private final byte[] registers;
+
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  public HyperLogLog(int precision) {
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  private HyperLogLog(int precision, byte[] registers) {
+    this.precision = precision;
+    this.registers = registers;
+  }
+
+  /** @param value the value to offer, ints and longs as they are and floats as double bits */
+  public void offer(long value) {
+    long hash = mix(value);
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    // the guard bit keeps the rank no larger than 64 - precision + 1
+    long remaining = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  public void offer(double value) {
+    // -0.0 and 0.0 are the same value
+    offer(Double.doubleToLongBits(value == 0.0d ? 0.0d : value));
+  }
+
+  public void merge(HyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Can not merge HyperLogLog of precision %d into %d", other.precision, precision));
+    }
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /** @return the estimated number of distinct values offered */
+  public long cardinality() {
+    int m = registers.length;
+    double sum = 0;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += 1.0d / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+    double alpha = 0.7213 / (1 + 1.079 / m);
+    double estimate = alpha * m * m / sum;
+    if (estimate <= 2.5 * m && zeros != 0) {
+      // linear counting is more accurate for small cardinalities
+      estimate = m * Math.log((double) m / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  public HyperLogLog copy() {
+    return new HyperLogLog(precision, Arrays.copyOf(registers, registers.length));
+  }
+
+  public int getSerializedSize() {
+    return 1 + registers.length;
+  }
+
+  public int serialize(OutputStream outputStream) throws IOException {
+    outputStream.write(precision);
+    outputStream.write(registers);
+    return getSerializedSize();
+  }
+
+  public static HyperLogLog deserialize(ByteBuffer buffer) {
+    int precision = buffer.get();
+    byte[] registers = new byte[1 << precision];
+    buffer.get(registers);
+    return new HyperLogLog(precision, registers);
+  }
+
+  public long calculateRamSize() {
+    return 24L + registers.length;
+  }
+
+  /** the finalizer of MurmurHash3, spreading the bits of similar values */
+  private static long mix(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+}
@@ -0,0 +1,401 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.Murmur128Hash;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Optional index of the values of one page of an INT32, INT64 or TEXT series, which lets equality
+ * filters skip pages of categorical data that min/max statistics can not prune, e.g. {@code status
+ * = 'FAULT'}. A page with at most {@link #MAX_DICTIONARY_SIZE} distinct values keeps all of them,
+ * on which any value filter can be evaluated. A page with more keeps a Bloom filter of them, which
+ * only answers equality, unless it has too many values to fit the Bloom filter.
+ *
+ * <p>The indexes of the pages of a chunk are serialized after its ChunkMetadata, as a version byte,
+ * the length of the payload and the payload, so that a reader can skip a version it does not know.
+ */
+public class PageValueIndex {
+
+  public static final byte VERSION = 1;
+
+  public static final int MAX_DICTIONARY_SIZE = 16;
+
+  /** bits of the Bloom filter per distinct value, for a false positive rate of about 2% */
+  private static final int BITS_PER_VALUE = 10;
+
+  private static final int MAX_BLOOM_FILTER_BITS = 2048;
+
+  private static final int MAX_DISTINCT_COUNT = MAX_BLOOM_FILTER_BITS / BITS_PER_VALUE;
+
+  private static final int HASH_FUNCTION_NUM = 3;
+
+  private static final long SEED = 0x9747b28cL;
+
+  private static final byte DICTIONARY = 0;
+  private static final byte BLOOM_FILTER = 1;
+  private static final byte NONE = 2;
+
+  private final TSDataType dataType;
+
+  /** the distinct values of the page, as Integer, Long or Binary, null if not kept */
+  private final List<Object> dictionary;
+
+  /** Bloom filter of the hashes of the distinct values, null if not kept */
+  private final long[] bloomFilter;
+
+  private PageValueIndex(TSDataType dataType, List<Object> dictionary, long[] bloomFilter) {
+    this.dataType = dataType;
+    this.dictionary = dictionary;
+    this.bloomFilter = bloomFilter;
+  }
+
+  public static boolean isSupported(TSDataType dataType) {
+    switch (dataType) {
+      case INT32:
+      case INT64:
+      case TEXT:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** @return whether value is of the type of the points of this page */
+  public boolean isComparableWith(Object value) {
+    switch (dataType) {
+      case INT32:
+        return value instanceof Integer;
+      case INT64:
+        return value instanceof Long;
+      case TEXT:
+        return value instanceof Binary;
+      default:
+        return false;
+    }
+  }
+
+  /** @return false if no point of this page equals value, true if some may */
+  public boolean mightContain(Object value) {
+    if (!isComparableWith(value)) {
+      return true;
+    }
+    if (dictionary != null) {
+      return dictionary.contains(value);
+    }
+    if (bloomFilter != null) {
+      long hash =
+          value instanceof Binary ? hash((Binary) value) : hash(((Number) value).longValue());
+      int mask = bloomFilter.length * Long.SIZE - 1;
+      int h1 = (int) (hash >>> 32);
+      int h2 = (int) hash;
+      for (int i = 0; i < HASH_FUNCTION_NUM; i++) {
+        int bit = (h1 + i * h2) & mask;
+        if ((bloomFilter[bit >>> 6] & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param predicate a condition on the values of the points, which are Integer, Long or Binary
+   * @return false if no point of this page satisfies predicate, true if some may
+   */
+  public boolean mightContainAny(Predicate<Object> predicate) {
+    if (dictionary == null) {
+      return true;
+    }
+    for (Object value : dictionary) {
+      if (predicate.test(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean isDictionary() {
+    return dictionary != null;
+  }
+
+  public List<Object> getDictionary() {
+    return dictionary == null ? null : Collections.unmodifiableList(dictionary);
+  }
+
+  /** hashes are never 0, which marks an empty slot of {@link Builder} */
+  private static long hash(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value | 1L;
+  }
+
+  private static long hash(Binary value) {
+    return Murmur128Hash.hash64(value.getValues(), SEED) | 1L;
+  }
+
+  private int serializePage(OutputStream outputStream) throws IOException {
+    int byteLen = 0;
+    if (dictionary != null) {
+      byteLen += ReadWriteIOUtils.write(DICTIONARY, outputStream);
+      byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(dictionary.size(), outputStream);
+      for (Object value : dictionary) {
+        switch (dataType) {
+          case INT32:
+            byteLen += ReadWriteForEncodingUtils.writeVarInt((Integer) value, outputStream);
+            break;
+          case INT64:
+            byteLen += ReadWriteIOUtils.write((Long) value, outputStream);
+            break;
+          default:
+            byteLen += ReadWriteIOUtils.write((Binary) value, outputStream);
+            break;
+        }
+      }
+    } else if (bloomFilter != null) {
+      byteLen += ReadWriteIOUtils.write(BLOOM_FILTER, outputStream);
+      byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(bloomFilter.length, outputStream);
+      for (long word : bloomFilter) {
+        byteLen += ReadWriteIOUtils.write(word, outputStream);
+      }
+    } else {
+      byteLen += ReadWriteIOUtils.write(NONE, outputStream);
+    }
+    return byteLen;
+  }
+
+  private static PageValueIndex deserializePage(ByteBuffer buffer, TSDataType dataType) {
+    byte kind = ReadWriteIOUtils.readByte(buffer);
+    if (kind == DICTIONARY) {
+      int size = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+      List<Object> dictionary = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        switch (dataType) {
+          case INT32:
+            dictionary.add(ReadWriteForEncodingUtils.readVarInt(buffer));
+            break;
+          case INT64:
+            dictionary.add(ReadWriteIOUtils.readLong(buffer));
+            break;
+          default:
+            dictionary.add(ReadWriteIOUtils.readBinary(buffer));
+            break;
+        }
+      }
+      return new PageValueIndex(dataType, dictionary, null);
+    } else if (kind == BLOOM_FILTER) {
+      long[] bloomFilter = new long[ReadWriteForEncodingUtils.readUnsignedVarInt(buffer)];
+      for (int i = 0; i < bloomFilter.length; i++) {
+        bloomFilter[i] = ReadWriteIOUtils.readLong(buffer);
+      }
+      return new PageValueIndex(dataType, null, bloomFilter);
+    }
+    return new PageValueIndex(dataType, null, null);
+  }
+
+  /** serialize the indexes of the pages of a chunk, in the order of the pages */
+  public static int serialize(List<PageValueIndex> indexes, OutputStream outputStream)
+      throws IOException {
+    PublicBAOS payload = new PublicBAOS();
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(indexes.size(), payload);
+    for (PageValueIndex index : indexes) {
+      index.serializePage(payload);
+    }
+
+    int byteLen = 0;
+    byteLen += ReadWriteIOUtils.write(VERSION, outputStream);
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(payload.size(), outputStream);
+    outputStream.write(payload.getBuf(), 0, payload.size());
+    byteLen += payload.size();
+    return byteLen;
+  }
+
+  /** @return the indexes of the pages of a chunk, or null if of a version unknown to this reader */
+  public static List<PageValueIndex> deserialize(ByteBuffer buffer, TSDataType dataType) {
+    byte version = ReadWriteIOUtils.readByte(buffer);
+    int length = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    if (version != VERSION) {
+      buffer.position(buffer.position() + length);
+      return null;
+    }
+    int size = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    List<PageValueIndex> indexes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      indexes.add(deserializePage(buffer, dataType));
+    }
+    return indexes;
+  }
+
+  public long calculateRamSize() {
+    if (dictionary != null) {
+      long size = 48L + 8L * dictionary.size();
+      for (Object value : dictionary) {
+        size += value instanceof Binary ? 32L + ((Binary) value).getLength() : 16L;
+      }
+      return size;
+    }
+    return 32L + (bloomFilter == null ? 0 : 16L + 8L * bloomFilter.length);
+  }
+
+  @Override
+  public String toString() {
+    if (dictionary != null) {
+      return "dictionary" + dictionary;
+    }
+    return bloomFilter != null
+        ? "bloomFilter[" + bloomFilter.length * Long.SIZE + " bits]"
+        : "none";
+  }
+
+  /** Collects the distinct values written into a page, and is reset for the next page. */
+  public static class Builder {
+
+    private final TSDataType dataType;
+
+    /** open addressing set of the hashes of the distinct values, 0 for an empty slot */
+    private final long[] hashes = new long[Integer.highestOneBit(MAX_DISTINCT_COUNT) << 2];
+
+    private int distinctCount;
+
+    /** the first distinct values, used if there are no more than MAX_DICTIONARY_SIZE of them */
+    private final long[] numbers = new long[MAX_DICTIONARY_SIZE];
+
+    private final Binary[] binaries = new Binary[MAX_DICTIONARY_SIZE];
+
+    public Builder(TSDataType dataType) {
+      this.dataType = dataType;
+    }
+
+    public void update(int value) {
+      update((long) value);
+    }
+
+    public void update(long value) {
+      if (distinctCount <= MAX_DISTINCT_COUNT && add(hash(value))) {
+        if (distinctCount <= MAX_DICTIONARY_SIZE) {
+          numbers[distinctCount - 1] = value;
+        }
+      }
+    }
+
+    public void update(Binary value) {
+      if (distinctCount <= MAX_DISTINCT_COUNT && add(hash(value))) {
+        if (distinctCount <= MAX_DICTIONARY_SIZE) {
+          binaries[distinctCount - 1] = value;
+        }
+      }
+    }
+
+    public void update(int[] values, int batchSize) {
+      for (int i = 0; i < batchSize; i++) {
+        update((long) values[i]);
+      }
+    }
+
+    public void update(long[] values, int batchSize) {
+      for (int i = 0; i < batchSize; i++) {
+        update(values[i]);
+      }
+    }
+
+    public void update(Binary[] values, int batchSize) {
+      for (int i = 0; i < batchSize; i++) {
+        update(values[i]);
+      }
+    }
+
+    /** @return whether the hash is new */
+    private boolean add(long hash) {
+      int mask = hashes.length - 1;
+      int slot = (int) (hash >>> 32) & mask;
+      while (hashes[slot] != 0) {
+        if (hashes[slot] == hash) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      hashes[slot] = hash;
+      distinctCount++;
+      return true;
+    }
+
+    public PageValueIndex build() {
+      if (distinctCount <= MAX_DICTIONARY_SIZE) {
+        List<Object> dictionary = new ArrayList<>(distinctCount);
+        for (int i = 0; i < distinctCount; i++) {
+          switch (dataType) {
+            case INT32:
+              dictionary.add((int) numbers[i]);
+              break;
+            case INT64:
+              dictionary.add(numbers[i]);
+              break;
+            default:
+              dictionary.add(binaries[i]);
+              break;
+          }
+        }
+        return new PageValueIndex(dataType, dictionary, null);
+      }
+      if (distinctCount > MAX_DISTINCT_COUNT) {
+        return new PageValueIndex(dataType, null, null);
+      }
+      int bits =
+          Math.max(Long.SIZE, Integer.highestOneBit(distinctCount * BITS_PER_VALUE - 1) << 1);
+      long[] bloomFilter = new long[bits / Long.SIZE];
+      int mask = bits - 1;
+      for (long hash : hashes) {
+        if (hash == 0) {
+          continue;
+        }
+        int h1 = (int) (hash >>> 32);
+        int h2 = (int) hash;
+        for (int i = 0; i < HASH_FUNCTION_NUM; i++) {
+          int bit = (h1 + i * h2) & mask;
+          bloomFilter[bit >>> 6] |= 1L << bit;
+        }
+      }
+      return new PageValueIndex(dataType, null, bloomFilter);
+    }
+
+    public void reset() {
+      if (distinctCount > 0) {
+        Arrays.fill(hashes, 0);
+        Arrays.fill(binaries, null);
+        distinctCount = 0;
+      }
+    }
+  }
+}
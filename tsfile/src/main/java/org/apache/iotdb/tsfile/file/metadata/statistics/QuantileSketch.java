@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A compact quantile sketch in the manner of KLL. Values are kept in levels, an item of level h
+ * stands for 2^h values. When the sketch holds more items than its capacity, the lowest full level
+ * is sorted and every other item is promoted to the next level, so the sketch keeps about 3k items
+ * however many values are offered. Sketches can be merged.
+ */
+public class QuantileSketch {
+
+  static final int DEFAULT_K = 32;
+
+  private static final double CAPACITY_DECAY = 2.0 / 3;
+
+  private final int k;
+
+  /** number of values offered */
+  private int count;
+
+  private double[][] levels;
+  private int[] sizes;
+
+  /** number of items kept in all levels */
+  private int retained;
+
+  private int[] capacities;
+  private int totalCapacity;
+
+  /** alternates the items kept by each compaction, so no half of a level is always dropped */
+  private boolean keepOdd;
+
+  public QuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  public QuantileSketch(int k) {
+    this.k = k;
+    this.levels = new double[][] {new double[k]};
+    this.sizes = new int[1];
+    updateCapacities();
+  }
+
+  public void update(double value) {
+    append(0, value);
+    count++;
+    compress();
+  }
+
+  public void merge(QuantileSketch other) {
+    for (int h = 0; h < other.levels.length; h++) {
+      for (int i = 0; i < other.sizes[h]; i++) {
+        append(h, other.levels[h][i]);
+      }
+    }
+    count += other.count;
+    compress();
+  }
+
+  /**
+   * @param rank the normalized rank in [0, 1]
+   * @return the approximate value at the rank, NaN if no value was offered
+   */
+  public double getQuantile(double rank) {
+    if (retained == 0) {
+      return Double.NaN;
+    }
+    double[] values = new double[retained];
+    long[] weights = new long[retained];
+    int n = 0;
+    for (int h = 0; h < levels.length; h++) {
+      for (int i = 0; i < sizes[h]; i++) {
+        values[n] = levels[h][i];
+        weights[n] = 1L << h;
+        n++;
+      }
+    }
+    sortByValue(values, weights);
+    long target = (long) Math.ceil(rank * count);
+    long cumulative = 0;
+    for (int i = 0; i < n; i++) {
+      cumulative += weights[i];
+      if (cumulative >= target) {
+        return values[i];
+      }
+    }
+    return values[n - 1];
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public QuantileSketch copy() {
+    QuantileSketch sketch = new QuantileSketch(k);
+    sketch.count = count;
+    sketch.keepOdd = keepOdd;
+    sketch.retained = retained;
+    sketch.sizes = Arrays.copyOf(sizes, sizes.length);
+    sketch.levels = new double[levels.length][];
+    for (int h = 0; h < levels.length; h++) {
+      sketch.levels[h] = Arrays.copyOf(levels[h], levels[h].length);
+    }
+    sketch.updateCapacities();
+    return sketch;
+  }
+
+  public int serialize(OutputStream outputStream) throws IOException {
+    int byteLen = 0;
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(k, outputStream);
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(count, outputStream);
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(levels.length, outputStream);
+    for (int h = 0; h < levels.length; h++) {
+      byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(sizes[h], outputStream);
+      for (int i = 0; i < sizes[h]; i++) {
+        byteLen += ReadWriteIOUtils.write(levels[h][i], outputStream);
+      }
+    }
+    return byteLen;
+  }
+
+  public static QuantileSketch deserialize(ByteBuffer buffer) {
+    QuantileSketch sketch =
+        new QuantileSketch(ReadWriteForEncodingUtils.readUnsignedVarInt(buffer));
+    sketch.count = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    int levelNum = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    sketch.levels = new double[levelNum][];
+    sketch.sizes = new int[levelNum];
+    for (int h = 0; h < levelNum; h++) {
+      int size = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+      sketch.levels[h] = new double[Math.max(size, 2)];
+      for (int i = 0; i < size; i++) {
+        sketch.levels[h][i] = ReadWriteIOUtils.readDouble(buffer);
+      }
+      sketch.sizes[h] = size;
+      sketch.retained += size;
+    }
+    sketch.updateCapacities();
+    return sketch;
+  }
+
+  public long calculateRamSize() {
+    long size = 48L + 16L * levels.length;
+    for (double[] level : levels) {
+      size += 16L + 8L * level.length;
+    }
+    return size;
+  }
+
+  private void append(int level, double value) {
+    if (level >= levels.length) {
+      levels = Arrays.copyOf(levels, level + 1);
+      sizes = Arrays.copyOf(sizes, level + 1);
+      updateCapacities();
+      for (int h = 0; h <= level; h++) {
+        if (levels[h] == null) {
+          levels[h] = new double[capacities[h]];
+        }
+      }
+    }
+    if (sizes[level] == levels[level].length) {
+      levels[level] = Arrays.copyOf(levels[level], levels[level].length << 1);
+    }
+    levels[level][sizes[level]++] = value;
+    retained++;
+  }
+
+  /** capacities shrink geometrically towards the lower levels, which hold the lighter items */
+  private void updateCapacities() {
+    capacities = new int[levels.length];
+    totalCapacity = 0;
+    for (int h = 0; h < levels.length; h++) {
+      int depth = levels.length - 1 - h;
+      capacities[h] = Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+      totalCapacity += capacities[h];
+    }
+  }
+
+  private void compress() {
+    while (retained >= totalCapacity) {
+      for (int h = 0; h < levels.length; h++) {
+        if (sizes[h] >= capacities[h]) {
+          compact(h);
+          break;
+        }
+      }
+    }
+  }
+
+  private void compact(int level) {
+    double[] items = levels[level];
+    int size = sizes[level];
+    Arrays.sort(items, 0, size);
+    // an odd item stays in this level so the total weight is unchanged
+    int kept = size & 1;
+    int offset = kept + (keepOdd ? 1 : 0);
+    keepOdd = !keepOdd;
+    for (int i = offset; i < size; i += 2) {
+      append(level + 1, items[i]);
+    }
+    // the kept item is the smallest one, already at the head of the level
+    sizes[level] = kept;
+    retained -= size - kept;
+  }
+
+  private static void sortByValue(double[] values, long[] weights) {
+    Integer[] order = new Integer[values.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+    double[] sortedValues = new double[values.length];
+    long[] sortedWeights = new long[weights.length];
+    for (int i = 0; i < order.length; i++) {
+      sortedValues[i] = values[order[i]];
+      sortedWeights[i] = weights[order[i]];
+    }
+    System.arraycopy(sortedValues, 0, values, 0, values.length);
+    System.arraycopy(sortedWeights, 0, weights, 0, weights.length);
+  }
+}
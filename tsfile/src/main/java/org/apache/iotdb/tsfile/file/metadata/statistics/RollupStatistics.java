@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pre-aggregated {@link Statistics} of a series over fixed time buckets at one or more resolutions.
+ * The buckets of resolution r are [k * r, (k + 1) * r), so an aggregation window whose start and
+ * end are multiples of r can be answered by merging the buckets inside it, without reading any
+ * chunk metadata.
+ *
+ * <p>They are serialized after the statistics of a TimeseriesMetadata, as a version byte, the
+ * length of the payload and the payload, so that a reader can skip a version it does not know.
+ */
+public class RollupStatistics {
+
+  public static final byte VERSION = 1;
+
+  private final TSDataType dataType;
+
+  /** the bucket widths in ascending order, in the unit of timestamps */
+  private final long[] resolutions;
+
+  /** bucket start time -> statistics of the points in the bucket, for each resolution */
+  private final List<TreeMap<Long, Statistics<? extends Serializable>>> buckets;
+
+  // the bucket that the last point fell into for each resolution, as points mostly come in order
+  private final long[] lastBucketStartTimes;
+  private final Statistics[] lastBuckets;
+
+  public RollupStatistics(TSDataType dataType, long[] resolutions) {
+    this.dataType = dataType;
+    this.resolutions = resolutions;
+    this.buckets = new ArrayList<>(resolutions.length);
+    for (int i = 0; i < resolutions.length; i++) {
+      buckets.add(new TreeMap<>());
+    }
+    this.lastBucketStartTimes = new long[resolutions.length];
+    this.lastBuckets = new Statistics[resolutions.length];
+  }
+
+  public static boolean isSupported(TSDataType dataType) {
+    return dataType != TSDataType.VECTOR;
+  }
+
+  /**
+   * parse a comma separated list of resolutions, ignoring the ones that are not positive.
+   *
+   * @return the distinct resolutions in ascending order
+   */
+  public static long[] parseResolutions(String value) {
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(s -> !s.isEmpty())
+        .mapToLong(Long::parseLong)
+        .filter(resolution -> resolution > 0)
+        .sorted()
+        .distinct()
+        .toArray();
+  }
+
+  public TSDataType getDataType() {
+    return dataType;
+  }
+
+  public long[] getResolutions() {
+    return resolutions;
+  }
+
+  public boolean hasSameResolutions(RollupStatistics other) {
+    return Arrays.equals(resolutions, other.resolutions);
+  }
+
+  private Statistics bucketOf(int index, long time) {
+    long bucketStartTime = Math.floorDiv(time, resolutions[index]) * resolutions[index];
+    Statistics bucket = lastBuckets[index];
+    if (bucket == null || lastBucketStartTimes[index] != bucketStartTime) {
+      bucket =
+          buckets
+              .get(index)
+              .computeIfAbsent(bucketStartTime, k -> Statistics.getStatsByType(dataType));
+      lastBuckets[index] = bucket;
+      lastBucketStartTimes[index] = bucketStartTime;
+    }
+    return bucket;
+  }
+
+  public void update(long time, boolean value) {
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, time).update(time, value);
+    }
+  }
+
+  public void update(long time, int value) {
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, time).update(time, value);
+    }
+  }
+
+  public void update(long time, long value) {
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, time).update(time, value);
+    }
+  }
+
+  public void update(long time, float value) {
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, time).update(time, value);
+    }
+  }
+
+  public void update(long time, double value) {
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, time).update(time, value);
+    }
+  }
+
+  public void update(long time, Binary value) {
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, time).update(time, value);
+    }
+  }
+
+  public void update(long[] time, boolean[] values, int batchSize) {
+    for (int i = 0; i < batchSize; i++) {
+      update(time[i], values[i]);
+    }
+  }
+
+  public void update(long[] time, int[] values, int batchSize) {
+    for (int i = 0; i < batchSize; i++) {
+      update(time[i], values[i]);
+    }
+  }
+
+  public void update(long[] time, long[] values, int batchSize) {
+    for (int i = 0; i < batchSize; i++) {
+      update(time[i], values[i]);
+    }
+  }
+
+  public void update(long[] time, float[] values, int batchSize) {
+    for (int i = 0; i < batchSize; i++) {
+      update(time[i], values[i]);
+    }
+  }
+
+  public void update(long[] time, double[] values, int batchSize) {
+    for (int i = 0; i < batchSize; i++) {
+      update(time[i], values[i]);
+    }
+  }
+
+  public void update(long[] time, Binary[] values, int batchSize) {
+    for (int i = 0; i < batchSize; i++) {
+      update(time[i], values[i]);
+    }
+  }
+
+  /**
+   * merge the statistics of a page or chunk whose points are not available, which is only possible
+   * if they fall into one bucket of every resolution.
+   *
+   * @return false if the statistics span several buckets of a resolution and nothing is merged
+   */
+  public boolean mergeStatistics(Statistics<? extends Serializable> statistics) {
+    if (statistics.isEmpty()) {
+      return true;
+    }
+    for (long resolution : resolutions) {
+      if (Math.floorDiv(statistics.getStartTime(), resolution)
+          != Math.floorDiv(statistics.getEndTime(), resolution)) {
+        return false;
+      }
+    }
+    for (int i = 0; i < resolutions.length; i++) {
+      bucketOf(i, statistics.getStartTime()).mergeStatistics(statistics);
+    }
+    return true;
+  }
+
+  /** merge the buckets of another rollup with the same resolutions into this one */
+  public void merge(RollupStatistics other) {
+    if (!hasSameResolutions(other)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Can not merge rollups of resolutions %s and %s",
+              Arrays.toString(resolutions), Arrays.toString(other.resolutions)));
+    }
+    for (int i = 0; i < resolutions.length; i++) {
+      TreeMap<Long, Statistics<? extends Serializable>> bucketMap = buckets.get(i);
+      for (Map.Entry<Long, Statistics<? extends Serializable>> entry :
+          other.buckets.get(i).entrySet()) {
+        bucketMap
+            .computeIfAbsent(entry.getKey(), k -> Statistics.getStatsByType(dataType))
+            .mergeStatistics(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * get the statistics of the points in [startTime, endTime) from the coarsest resolution that both
+   * ends are aligned to.
+   *
+   * @return null if no resolution is aligned to the range, or empty statistics if there is no point
+   *     in it
+   */
+  public Statistics<? extends Serializable> getStatistics(long startTime, long endTime) {
+    for (int i = resolutions.length - 1; i >= 0; i--) {
+      if (Math.floorMod(startTime, resolutions[i]) == 0
+          && Math.floorMod(endTime, resolutions[i]) == 0) {
+        Statistics<? extends Serializable> statistics = Statistics.getStatsByType(dataType);
+        for (Statistics<? extends Serializable> bucket :
+            buckets.get(i).subMap(startTime, true, endTime, false).values()) {
+          statistics.mergeStatistics(bucket);
+        }
+        return statistics;
+      }
+    }
+    return null;
+  }
+
+  public int serialize(OutputStream outputStream) throws IOException {
+    PublicBAOS payload = new PublicBAOS();
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(resolutions.length, payload);
+    for (long resolution : resolutions) {
+      ReadWriteIOUtils.write(resolution, payload);
+    }
+    for (TreeMap<Long, Statistics<? extends Serializable>> bucketMap : buckets) {
+      ReadWriteForEncodingUtils.writeUnsignedVarInt(bucketMap.size(), payload);
+      for (Map.Entry<Long, Statistics<? extends Serializable>> entry : bucketMap.entrySet()) {
+        ReadWriteIOUtils.write(entry.getKey(), payload);
+        entry.getValue().serialize(payload);
+      }
+    }
+
+    int byteLen = 0;
+    byteLen += ReadWriteIOUtils.write(VERSION, outputStream);
+    byteLen += ReadWriteForEncodingUtils.writeUnsignedVarInt(payload.size(), outputStream);
+    outputStream.write(payload.getBuf(), 0, payload.size());
+    byteLen += payload.size();
+    return byteLen;
+  }
+
+  /** @return the rollup, or null if it is of a version unknown to this reader */
+  public static RollupStatistics deserialize(ByteBuffer buffer, TSDataType dataType) {
+    byte version = ReadWriteIOUtils.readByte(buffer);
+    int length = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    if (version != VERSION) {
+      buffer.position(buffer.position() + length);
+      return null;
+    }
+    long[] resolutions = new long[ReadWriteForEncodingUtils.readUnsignedVarInt(buffer)];
+    for (int i = 0; i < resolutions.length; i++) {
+      resolutions[i] = ReadWriteIOUtils.readLong(buffer);
+    }
+    RollupStatistics rollup = new RollupStatistics(dataType, resolutions);
+    for (TreeMap<Long, Statistics<? extends Serializable>> bucketMap : rollup.buckets) {
+      int bucketCount = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+      for (int i = 0; i < bucketCount; i++) {
+        long bucketStartTime = ReadWriteIOUtils.readLong(buffer);
+        bucketMap.put(bucketStartTime, Statistics.deserialize(buffer, dataType));
+      }
+    }
+    return rollup;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < resolutions.length; i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(resolutions[i]).append(':').append(buckets.get(i).size()).append(" buckets");
+    }
+    return builder.append(']').toString();
+  }
+}
@@ -59,6 +59,12 @@ public abstract class Statistics<T extends Serializable> {
   private long startTime = Long.MAX_VALUE;
   private long endTime = Long.MIN_VALUE;
 
+  /**
+   * optional statistics of numeric values, null unless enabled by the writer. They are not part of
+   * {@link #serialize(OutputStream)}, the metadata holding them serializes them separately.
+   */
+  private ExtendedStatistics extendedStatistics;
+
   static final String STATS_UNSUPPORTED_MSG = "%s statistics does not support: %s";
 
   /**
@@ -165,6 +171,7 @@ public abstract class Statistics<T extends Serializable> {
         }
         // must be sure no overlap between two statistics
         this.count += stats.count;
+        mergeExtendedStatistics(stats.extendedStatistics);
         mergeStatisticsValue((Statistics<T>) stats);
         isEmpty = false;
       }
@@ -177,6 +184,22 @@ public abstract class Statistics<T extends Serializable> {
     }
   }
 
+  /**
+   * The extended statistics of a merged statistics are only kept if all statistics merged into it
+   * have them, otherwise they would describe part of the values.
+   */
+  private void mergeExtendedStatistics(ExtendedStatistics stats) {
+    if (isEmpty) {
+      extendedStatistics = stats == null ? null : stats.copy();
+    } else if (extendedStatistics != null) {
+      if (stats == null) {
+        extendedStatistics = null;
+      } else {
+        extendedStatistics.merge(stats);
+      }
+    }
+  }
+
   public void update(long time, boolean value) {
     update(time);
     updateStats(value);
@@ -185,21 +208,33 @@ public abstract class Statistics<T extends Serializable> {
   public void update(long time, int value) {
     update(time);
     updateStats(value);
+    if (extendedStatistics != null) {
+      extendedStatistics.update(value);
+    }
   }
 
   public void update(long time, long value) {
     update(time);
     updateStats(value);
+    if (extendedStatistics != null) {
+      extendedStatistics.update(value);
+    }
   }
 
   public void update(long time, float value) {
     update(time);
     updateStats(value);
+    if (extendedStatistics != null) {
+      extendedStatistics.update(value);
+    }
   }
 
   public void update(long time, double value) {
     update(time);
     updateStats(value);
+    if (extendedStatistics != null) {
+      extendedStatistics.update(value);
+    }
   }
 
   public void update(long time, Binary value) {
@@ -225,21 +260,41 @@ public abstract class Statistics<T extends Serializable> {
   public void update(long[] time, int[] values, int batchSize) {
     update(time, batchSize);
     updateStats(values, batchSize);
+    if (extendedStatistics != null) {
+      for (int i = 0; i < batchSize; i++) {
+        extendedStatistics.update(values[i]);
+      }
+    }
   }
 
   public void update(long[] time, long[] values, int batchSize) {
     update(time, batchSize);
     updateStats(values, batchSize);
+    if (extendedStatistics != null) {
+      for (int i = 0; i < batchSize; i++) {
+        extendedStatistics.update(values[i]);
+      }
+    }
   }
 
   public void update(long[] time, float[] values, int batchSize) {
     update(time, batchSize);
     updateStats(values, batchSize);
+    if (extendedStatistics != null) {
+      for (int i = 0; i < batchSize; i++) {
+        extendedStatistics.update(values[i]);
+      }
+    }
   }
 
   public void update(long[] time, double[] values, int batchSize) {
     update(time, batchSize);
     updateStats(values, batchSize);
+    if (extendedStatistics != null) {
+      for (int i = 0; i < batchSize; i++) {
+        extendedStatistics.update(values[i]);
+      }
+    }
   }
 
   public void update(long[] time, Binary[] values, int batchSize) {
@@ -372,6 +427,21 @@ public abstract class Statistics<T extends Serializable> {
     this.count = count;
   }
 
+  /** Starts collecting extended statistics, if the data type supports them. */
+  public void enableExtendedStatistics() {
+    if (extendedStatistics == null && ExtendedStatistics.isSupported(getType())) {
+      extendedStatistics = new ExtendedStatistics();
+    }
+  }
+
+  public ExtendedStatistics getExtendedStatistics() {
+    return extendedStatistics;
+  }
+
+  public void setExtendedStatistics(ExtendedStatistics extendedStatistics) {
+    this.extendedStatistics = extendedStatistics;
+  }
+
   public abstract long calculateRamSize();
 
   public boolean containedByTimeFilter(Filter timeFilter) {
@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.tsfile.read;
 
+import org.apache.iotdb.tsfile.common.cache.StripedLRUCache;
 import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.common.constant.TsFileConstant;
@@ -55,6 +56,8 @@ import org.apache.iotdb.tsfile.read.reader.page.PageReader;
 import org.apache.iotdb.tsfile.read.reader.page.TimePageReader;
 import org.apache.iotdb.tsfile.read.reader.page.ValuePageReader;
 import org.apache.iotdb.tsfile.utils.BloomFilter;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool.PooledBuffer;
 import org.apache.iotdb.tsfile.utils.Pair;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 import org.apache.iotdb.tsfile.utils.TsPrimitiveType;
@@ -83,9 +86,10 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TsFileSequenceReader implements AutoCloseable {
 
@@ -95,19 +99,44 @@ public class TsFileSequenceReader implements AutoCloseable {
   private static final String METADATA_INDEX_NODE_DESERIALIZE_ERROR =
       "Something error happened while deserializing MetadataIndexNode of file {}";
   private static final int MAX_READ_BUFFER_SIZE = 4 * 1024 * 1024;
+  private static final int DEVICE_INDEX_NODE_CACHE_SIZE = 64;
+  /** number of locks the metadata caches of one reader are striped by */
+  private static final int LOCK_STRIPE_NUM = 16;
+  // contention of the locks of all readers, for metrics
+  private static final LongAdder totalContendedLockCount = new LongAdder();
+  private static final LongAdder totalContendedLockTimeInNs = new LongAdder();
   protected String file;
   protected TsFileInput tsFileInput;
   protected long fileMetadataPos;
   protected int fileMetadataSize;
   private ByteBuffer markerBuffer = ByteBuffer.allocate(Byte.BYTES);
-  protected TsFileMetadata tsFileMetaData;
+  protected volatile TsFileMetadata tsFileMetaData;
   // device -> measurement -> TimeseriesMetadata
   private Map<String, Map<String, TimeseriesMetadata>> cachedDeviceMetadata =
       new ConcurrentHashMap<>();
-  private static final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
+  // a device is loaded into cachedDeviceMetadata under the lock of its stripe
+  private final ReentrantLock[] deviceMetadataLocks =
+      Stream.generate(ReentrantLock::new).limit(LOCK_STRIPE_NUM).toArray(ReentrantLock[]::new);
+  private final LongAdder contendedLockCount = new LongAdder();
+  private final LongAdder contendedLockTimeInNs = new LongAdder();
   private boolean cacheDeviceMetadata;
   private long minPlanIndex = Long.MAX_VALUE;
   private long maxPlanIndex = Long.MIN_VALUE;
+  // (start offset, end offset) -> internal node of the device index, which every lookup goes
+  // through
+  private final StripedLRUCache<Pair<Long, Long>, MetadataIndexNode> deviceIndexNodeCache =
+      new StripedLRUCache<Pair<Long, Long>, MetadataIndexNode>(
+          DEVICE_INDEX_NODE_CACHE_SIZE, LOCK_STRIPE_NUM) {
+        @Override
+        protected MetadataIndexNode loadObjectByKey(Pair<Long, Long> key) throws IOException {
+          return MetadataIndexNode.deserializeFrom(readData(key.left, key.right));
+        }
+
+        @Override
+        protected void onContention(long waitTimeInNs) {
+          recordContention(waitTimeInNs);
+        }
+      };
 
   /**
    * Create a file reader of the given file. The reader will read the tail of the file to get the
@@ -277,8 +306,12 @@ public class TsFileSequenceReader implements AutoCloseable {
   public TsFileMetadata readFileMetadata() throws IOException {
     try {
       if (tsFileMetaData == null) {
-        tsFileMetaData =
-            TsFileMetadata.deserializeFrom(readData(fileMetadataPos, fileMetadataSize));
+        synchronized (this) {
+          if (tsFileMetaData == null) {
+            tsFileMetaData =
+                TsFileMetadata.deserializeFrom(readData(fileMetadataPos, fileMetadataSize));
+          }
+        }
       }
     } catch (Exception e) {
       logger.error("Something error happened while reading file metadata of file {}", file);
@@ -309,29 +342,61 @@ public class TsFileSequenceReader implements AutoCloseable {
       return readDeviceMetadataFromDisk(device);
     }
 
-    cacheLock.readLock().lock();
-    try {
-      if (cachedDeviceMetadata.containsKey(device)) {
-        return cachedDeviceMetadata.get(device);
-      }
-    } finally {
-      cacheLock.readLock().unlock();
+    Map<String, TimeseriesMetadata> deviceMetadata = cachedDeviceMetadata.get(device);
+    if (deviceMetadata != null) {
+      return deviceMetadata;
     }
 
-    cacheLock.writeLock().lock();
+    ReentrantLock lock =
+        deviceMetadataLocks[(device.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPE_NUM];
+    lockAndRecordContention(lock);
     try {
-      if (cachedDeviceMetadata.containsKey(device)) {
-        return cachedDeviceMetadata.get(device);
+      deviceMetadata = cachedDeviceMetadata.get(device);
+      if (deviceMetadata == null) {
+        deviceMetadata = readDeviceMetadataFromDisk(device);
+        cachedDeviceMetadata.put(device, deviceMetadata);
       }
-      readFileMetadata();
-      Map<String, TimeseriesMetadata> deviceMetadata = readDeviceMetadataFromDisk(device);
-      cachedDeviceMetadata.put(device, deviceMetadata);
       return deviceMetadata;
     } finally {
-      cacheLock.writeLock().unlock();
+      lock.unlock();
+    }
+  }
+
+  private void lockAndRecordContention(ReentrantLock lock) {
+    if (!lock.tryLock()) {
+      long startTime = System.nanoTime();
+      lock.lock();
+      recordContention(System.nanoTime() - startTime);
     }
   }
 
+  private void recordContention(long waitTimeInNs) {
+    contendedLockCount.increment();
+    contendedLockTimeInNs.add(waitTimeInNs);
+    totalContendedLockCount.increment();
+    totalContendedLockTimeInNs.add(waitTimeInNs);
+  }
+
+  /** @return how many times a thread waited for a metadata cache lock held by another thread */
+  public long getContendedLockCount() {
+    return contendedLockCount.sum();
+  }
+
+  /** @return total time threads waited for the metadata cache locks of this reader */
+  public long getContendedLockTimeInNs() {
+    return contendedLockTimeInNs.sum();
+  }
+
+  /** @see #getContendedLockCount() */
+  public static long getTotalContendedLockCount() {
+    return totalContendedLockCount.sum();
+  }
+
+  /** @see #getContendedLockTimeInNs() */
+  public static long getTotalContendedLockTimeInNs() {
+    return totalContendedLockTimeInNs.sum();
+  }
+
   private Map<String, TimeseriesMetadata> readDeviceMetadataFromDisk(String device)
       throws IOException {
     readFileMetadata();
@@ -984,9 +1049,17 @@ public class TsFileSequenceReader implements AutoCloseable {
       } else {
         Pair<MetadataIndexEntry, Long> childIndexEntry =
             metadataIndex.getChildIndexEntry(name, false);
-        ByteBuffer buffer = readData(childIndexEntry.left.getOffset(), childIndexEntry.right);
-        return getMetadataAndEndOffset(
-            MetadataIndexNode.deserializeFrom(buffer), name, isDeviceLevel, exactSearch);
+        MetadataIndexNode childNode;
+        if (isDeviceLevel) {
+          childNode =
+              deviceIndexNodeCache.get(
+                  new Pair<>(childIndexEntry.left.getOffset(), childIndexEntry.right));
+        } else {
+          childNode =
+              MetadataIndexNode.deserializeFrom(
+                  readData(childIndexEntry.left.getOffset(), childIndexEntry.right));
+        }
+        return getMetadataAndEndOffset(childNode, name, isDeviceLevel, exactSearch);
       }
     } catch (Exception e) {
       logger.error("Something error happened while deserializing MetadataIndex of file {}", file);
@@ -1087,19 +1160,57 @@ public class TsFileSequenceReader implements AutoCloseable {
    * @return -chunk
    */
   public Chunk readMemChunk(ChunkMetadata metaData) throws IOException {
+    return readMemChunk(metaData, false);
+  }
+
+  /**
+   * read memory chunk.
+   *
+   * @param metaData -given chunk meta data
+   * @param pooled whether to read the chunk into a buffer of {@link DirectBufferPool} if it is
+   *     enabled, then the caller must {@link Chunk#release()} the chunk when done with it. Either
+   *     way the data is copied, so the chunk may outlive this reader
+   * @return -chunk
+   */
+  public Chunk readMemChunk(ChunkMetadata metaData, boolean pooled) throws IOException {
     try {
       int chunkHeadSize = ChunkHeader.getSerializedSize(metaData.getMeasurementUid());
       ChunkHeader header = readChunkHeader(metaData.getOffsetOfChunkHeader(), chunkHeadSize);
-      ByteBuffer buffer =
-          readChunk(
-              metaData.getOffsetOfChunkHeader() + header.getSerializedSize(), header.getDataSize());
-      return new Chunk(header, buffer, metaData.getDeleteIntervalList(), metaData.getStatistics());
+      long dataPosition = metaData.getOffsetOfChunkHeader() + header.getSerializedSize();
+      PooledBuffer pooledBuffer = null;
+      ByteBuffer buffer;
+      if (pooled && DirectBufferPool.getInstance().canPool(header.getDataSize())) {
+        pooledBuffer = readPooledData(dataPosition, header.getDataSize());
+        // a slice, so that the capacity of the data is its size as of a heap buffer
+        buffer = pooledBuffer.getBuffer().slice();
+      } else {
+        buffer = readChunk(dataPosition, header.getDataSize());
+      }
+      Chunk chunk =
+          new Chunk(header, buffer, metaData.getDeleteIntervalList(), metaData.getStatistics());
+      chunk.setPageValueIndexes(metaData.getPageValueIndexes());
+      chunk.setPooledBuffer(pooledBuffer);
+      return chunk;
     } catch (Throwable t) {
       logger.error("Exception happened while reading chunk of {}", file, t);
       throw t;
     }
   }
 
+  private PooledBuffer readPooledData(long position, int size) throws IOException {
+    PooledBuffer pooledBuffer = DirectBufferPool.getInstance().allocate(size);
+    ByteBuffer buffer = pooledBuffer.getBuffer();
+    if (ReadWriteIOUtils.readAsPossible(tsFileInput, buffer, position, size) != size) {
+      pooledBuffer.release();
+      throw new IOException(
+          String.format(
+              "reach the end of the data. Size of data that want to read: %s, position: %s",
+              size, position));
+    }
+    buffer.flip();
+    return pooledBuffer;
+  }
+
   /**
    * read memory chunk.
    *
@@ -20,12 +20,15 @@ package org.apache.iotdb.tsfile.read.common;
 
 import org.apache.iotdb.tsfile.file.MetaMarker;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool.PooledBuffer;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 /** used in query. */
@@ -37,6 +40,10 @@ public class Chunk {
   private boolean isFromOldFile = false;
   /** A list of deleted intervals. */
   private List<TimeRange> deleteIntervalList;
+  /** indexes of the values of the pages, in the order of the pages, null if absent */
+  private List<PageValueIndex> pageValueIndexes;
+  /** the pooled buffer chunkData is in, null if chunkData is not pooled */
+  private PooledBuffer pooledBuffer;
 
   private long ramSize;
 
@@ -67,7 +74,53 @@ public class Chunk {
     this.deleteIntervalList = list;
   }
 
+  public List<PageValueIndex> getPageValueIndexes() {
+    return pageValueIndexes;
+  }
+
+  public void setPageValueIndexes(List<PageValueIndex> pageValueIndexes) {
+    this.pageValueIndexes = pageValueIndexes;
+  }
+
+  public PooledBuffer getPooledBuffer() {
+    return pooledBuffer;
+  }
+
+  /**
+   * @param pooledBuffer the pooled buffer chunkData is in, of which this chunk holds a reference to
+   *     release
+   */
+  public void setPooledBuffer(PooledBuffer pooledBuffer) {
+    this.pooledBuffer = pooledBuffer;
+  }
+
+  /**
+   * Take another reference of the pooled buffer of this chunk, for a copy of this chunk sharing its
+   * data. Always succeeds if the data is not pooled.
+   *
+   * @return false if the data has already been released back to the pool
+   */
+  public boolean retain() {
+    return pooledBuffer == null || pooledBuffer.tryRetain();
+  }
+
+  /**
+   * Release the reference of this chunk to its pooled buffer, after which the data of this chunk
+   * and of the page readers sharing it must not be read. Does nothing if the data is not pooled.
+   */
+  public void release() {
+    if (pooledBuffer != null) {
+      pooledBuffer.release();
+      pooledBuffer = null;
+    }
+  }
+
   public void mergeChunkByAppendPage(Chunk chunk) throws IOException {
+    // the data of chunks read from a memory-mapped file or the buffer pool is a slice without array
+    chunkData = toHeapBuffer(chunkData);
+    chunk.chunkData = toHeapBuffer(chunk.chunkData);
+    release();
+    chunk.release();
     int dataSize = 0;
     // from where the page data of the merged chunk starts, if -1, it means the merged chunk has
     // more than one page
@@ -145,6 +198,26 @@ public class Chunk {
       newChunkData.put(b, offset1, b.length - offset1);
     }
     chunkData = newChunkData;
+    if (pageValueIndexes != null && chunk.pageValueIndexes != null) {
+      List<PageValueIndex> mergedIndexes = new ArrayList<>(pageValueIndexes);
+      mergedIndexes.addAll(chunk.pageValueIndexes);
+      pageValueIndexes = mergedIndexes;
+    } else {
+      pageValueIndexes = null;
+    }
+  }
+
+  private static ByteBuffer toHeapBuffer(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer;
+    }
+    ByteBuffer heapBuffer = ByteBuffer.allocate(buffer.capacity());
+    ByteBuffer data = buffer.duplicate();
+    data.clear();
+    heapBuffer.put(data);
+    heapBuffer.position(buffer.position());
+    heapBuffer.limit(buffer.limit());
+    return heapBuffer;
   }
 
   public Statistics getChunkStatistic() {
@@ -68,11 +68,14 @@ public class CachedChunkLoaderImpl implements IChunkLoader {
   @Override
   public Chunk loadChunk(ChunkMetadata chunkMetaData) throws IOException {
     Chunk chunk = chunkCache.get(new ChunkCacheKey(chunkMetaData));
-    return new Chunk(
-        chunk.getHeader(),
-        chunk.getData().duplicate(),
-        chunkMetaData.getDeleteIntervalList(),
-        chunkMetaData.getStatistics());
+    Chunk copy =
+        new Chunk(
+            chunk.getHeader(),
+            chunk.getData().duplicate(),
+            chunkMetaData.getDeleteIntervalList(),
+            chunkMetaData.getStatistics());
+    copy.setPageValueIndexes(chunkMetaData.getPageValueIndexes());
+    return copy;
   }
 
   @Override
@@ -84,13 +87,14 @@ public class CachedChunkLoaderImpl implements IChunkLoader {
   public IChunkReader getChunkReader(IChunkMetadata chunkMetaData, Filter timeFilter)
       throws IOException {
     Chunk chunk = chunkCache.get(new ChunkCacheKey((ChunkMetadata) chunkMetaData));
-    return new ChunkReader(
+    Chunk copy =
         new Chunk(
             chunk.getHeader(),
             chunk.getData().duplicate(),
             chunkMetaData.getDeleteIntervalList(),
-            chunkMetaData.getStatistics()),
-        timeFilter);
+            chunkMetaData.getStatistics());
+    copy.setPageValueIndexes(((ChunkMetadata) chunkMetaData).getPageValueIndexes());
+    return new ChunkReader(copy, timeFilter);
   }
 
   public static class ChunkCacheKey {
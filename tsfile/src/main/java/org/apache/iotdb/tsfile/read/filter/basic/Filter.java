@@ -18,8 +18,10 @@
  */
 package org.apache.iotdb.tsfile.read.filter.basic;
 
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterSerializeId;
+import org.apache.iotdb.tsfile.utils.Binary;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
@@ -35,6 +37,16 @@ public interface Filter {
    */
   boolean satisfy(Statistics statistics);
 
+  /**
+   * To examine whether any value of a page may satisfy the filter according to its value index.
+   * Returning true is always safe, false means that no point of the page can satisfy the filter.
+   *
+   * @param index dictionary or bloom filter of the values in a page
+   */
+  default boolean satisfyValueIndex(PageValueIndex index) {
+    return true;
+  }
+
   /**
    * To examine whether the single point(with time and value) is satisfied with the filter.
    *
@@ -43,6 +55,89 @@ public interface Filter {
    */
   boolean satisfy(long time, Object value);
 
+  /**
+   * Batch version of {@link #satisfy(long, Object)} over decoded primitive columns, which saves
+   * boxing every value and dispatching the filter once per point. The points at the positions
+   * selection[0, size) are examined, and the positions of the satisfied ones are compacted to the
+   * front of selection, keeping their order. Positions in selection must be ascending.
+   *
+   * @param times time column
+   * @param values value column
+   * @param selection positions of the points to examine
+   * @param size number of positions in selection
+   * @return number of the satisfied positions left in selection
+   */
+  default int satisfyBatch(long[] times, boolean[] values, int[] selection, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (satisfy(times[position], values[position])) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  /** @see #satisfyBatch(long[], boolean[], int[], int) */
+  default int satisfyBatch(long[] times, int[] values, int[] selection, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (satisfy(times[position], values[position])) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  /** @see #satisfyBatch(long[], boolean[], int[], int) */
+  default int satisfyBatch(long[] times, long[] values, int[] selection, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (satisfy(times[position], values[position])) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  /** @see #satisfyBatch(long[], boolean[], int[], int) */
+  default int satisfyBatch(long[] times, float[] values, int[] selection, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (satisfy(times[position], values[position])) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  /** @see #satisfyBatch(long[], boolean[], int[], int) */
+  default int satisfyBatch(long[] times, double[] values, int[] selection, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (satisfy(times[position], values[position])) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  /** @see #satisfyBatch(long[], boolean[], int[], int) */
+  default int satisfyBatch(long[] times, Binary[] values, int[] selection, int size) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (satisfy(times[position], values[position])) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
   /**
    * To examine whether the min time and max time are satisfied with the filter.
    *
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.filter.basic;
+
+import java.util.Arrays;
+
+/**
+ * Helpers to compose the position lists produced by {@link Filter#satisfyBatch}. A selection is an
+ * int array whose first size elements are ascending positions of a batch of points.
+ */
+public class SelectionUtils {
+
+  private SelectionUtils() {}
+
+  /** Narrows the first size positions of a selection down to the satisfied ones. */
+  @FunctionalInterface
+  public interface BatchPredicate {
+
+    /** @return number of the satisfied positions compacted to the front of selection */
+    int select(int[] selection, int size);
+  }
+
+  /**
+   * Keep the positions of selection[0, size) that satisfy either predicate. The right predicate is
+   * only evaluated on the positions rejected by the left one.
+   *
+   * @return number of the satisfied positions left in selection
+   */
+  public static int union(int[] selection, int size, BatchPredicate left, BatchPredicate right) {
+    int[] leftSelection = Arrays.copyOf(selection, size);
+    int leftSize = left.select(leftSelection, size);
+    if (leftSize == size) {
+      return size;
+    }
+    int[] rightSelection = new int[size - leftSize];
+    int rightSize =
+        right.select(
+            rightSelection, subtract(selection, size, leftSelection, leftSize, rightSelection));
+
+    // merge the two ascending position lists back into selection
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < leftSize && j < rightSize) {
+      selection[count++] =
+          leftSelection[i] < rightSelection[j] ? leftSelection[i++] : rightSelection[j++];
+    }
+    while (i < leftSize) {
+      selection[count++] = leftSelection[i++];
+    }
+    while (j < rightSize) {
+      selection[count++] = rightSelection[j++];
+    }
+    return count;
+  }
+
+  /**
+   * Keep the positions of selection[0, size) that don't satisfy the predicate.
+   *
+   * @return number of the positions left in selection
+   */
+  public static int complement(int[] selection, int size, BatchPredicate predicate) {
+    int[] satisfied = Arrays.copyOf(selection, size);
+    int satisfiedSize = predicate.select(satisfied, size);
+    return subtract(selection, size, satisfied, satisfiedSize, selection);
+  }
+
+  /**
+   * Write the positions of all[0, size) absent from excluded[0, excludedSize) into result, which
+   * may be all itself. excluded must be a subsequence of all.
+   */
+  private static int subtract(int[] all, int size, int[] excluded, int excludedSize, int[] result) {
+    int count = 0;
+    int j = 0;
+    for (int i = 0; i < size; i++) {
+      if (j < excludedSize && excluded[j] == all[i]) {
+        j++;
+      } else {
+        result[count++] = all[i];
+      }
+    }
+    return count;
+  }
+}
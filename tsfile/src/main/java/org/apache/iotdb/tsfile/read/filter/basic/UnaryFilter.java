@@ -18,7 +18,9 @@
  */
 package org.apache.iotdb.tsfile.read.filter.basic;
 
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterType;
+import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 import java.io.DataOutputStream;
@@ -58,6 +60,97 @@ public abstract class UnaryFilter<T extends Comparable<T>> implements Filter, Se
     return filterType;
   }
 
+  @Override
+  public boolean satisfyValueIndex(PageValueIndex index) {
+    return filterType == FilterType.TIME_FILTER
+        || !index.isComparableWith(value)
+        || index.mightContainAny(v -> satisfy(0, v));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, boolean[] values, int[] selection, int size) {
+    return isLongTimeFilter()
+        ? selectLongs(times, times, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, int[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, times, selection, size);
+    }
+    return filterType != FilterType.TIME_FILTER && value instanceof Integer
+        ? selectInts(times, values, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, long[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, times, selection, size);
+    }
+    return filterType != FilterType.TIME_FILTER && value instanceof Long
+        ? selectLongs(times, values, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, float[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, times, selection, size);
+    }
+    return filterType != FilterType.TIME_FILTER && value instanceof Float
+        ? selectFloats(times, values, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, double[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, times, selection, size);
+    }
+    return filterType != FilterType.TIME_FILTER && value instanceof Double
+        ? selectDoubles(times, values, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, Binary[] values, int[] selection, int size) {
+    return isLongTimeFilter()
+        ? selectLongs(times, times, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  private boolean isLongTimeFilter() {
+    return filterType == FilterType.TIME_FILTER && value instanceof Long;
+  }
+
+  /**
+   * Compare the value of this filter with values[selection[0, size)] without boxing them. Time
+   * filters pass the time column as values. Operators override these with primitive loops, the
+   * default ones evaluate {@link #satisfy(long, Object)} point by point.
+   *
+   * @return number of the satisfied positions compacted to the front of selection
+   */
+  protected int selectInts(long[] times, int[] values, int[] selection, int size) {
+    return Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  /** @see #selectInts(long[], int[], int[], int) */
+  protected int selectLongs(long[] times, long[] values, int[] selection, int size) {
+    return Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  /** @see #selectInts(long[], int[], int[], int) */
+  protected int selectFloats(long[] times, float[] values, int[] selection, int size) {
+    return Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  /** @see #selectInts(long[], int[], int[], int) */
+  protected int selectDoubles(long[] times, double[] values, int[] selection, int size) {
+    return Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
   @Override
   public abstract String toString();
 
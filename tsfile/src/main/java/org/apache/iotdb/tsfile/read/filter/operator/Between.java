@@ -20,10 +20,12 @@
 package org.apache.iotdb.tsfile.read.filter.operator;
 
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterSerializeId;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterType;
+import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 import java.io.DataOutputStream;
@@ -100,12 +102,126 @@ public class Between<T extends Comparable<T>> implements Filter {
     }
   }
 
+  @Override
+  public boolean satisfyValueIndex(PageValueIndex index) {
+    return filterType == FilterType.TIME_FILTER
+        || !index.isComparableWith(value1)
+        || index.mightContainAny(v -> satisfy(0, v));
+  }
+
   @Override
   public boolean satisfy(long time, Object value) {
     Object v = filterType == FilterType.TIME_FILTER ? time : value;
     return (value1.compareTo((T) v) <= 0 && ((T) v).compareTo(value2) <= 0) ^ not;
   }
 
+  @Override
+  public int satisfyBatch(long[] times, boolean[] values, int[] selection, int size) {
+    return isLongTimeFilter()
+        ? selectLongs(times, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, int[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, selection, size);
+    }
+    if (filterType == FilterType.TIME_FILTER
+        || !(value1 instanceof Integer && value2 instanceof Integer)) {
+      return Filter.super.satisfyBatch(times, values, selection, size);
+    }
+    int v1 = (Integer) value1;
+    int v2 = (Integer) value2;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((v1 <= values[position] && values[position] <= v2) ^ not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, long[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, selection, size);
+    }
+    return filterType != FilterType.TIME_FILTER && value1 instanceof Long && value2 instanceof Long
+        ? selectLongs(values, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, float[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, selection, size);
+    }
+    if (filterType == FilterType.TIME_FILTER
+        || !(value1 instanceof Float && value2 instanceof Float)) {
+      return Filter.super.satisfyBatch(times, values, selection, size);
+    }
+    float v1 = (Float) value1;
+    float v2 = (Float) value2;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((Float.compare(v1, values[position]) <= 0 && Float.compare(values[position], v2) <= 0)
+          ^ not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, double[] values, int[] selection, int size) {
+    if (isLongTimeFilter()) {
+      return selectLongs(times, selection, size);
+    }
+    if (filterType == FilterType.TIME_FILTER
+        || !(value1 instanceof Double && value2 instanceof Double)) {
+      return Filter.super.satisfyBatch(times, values, selection, size);
+    }
+    double v1 = (Double) value1;
+    double v2 = (Double) value2;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((Double.compare(v1, values[position]) <= 0 && Double.compare(values[position], v2) <= 0)
+          ^ not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, Binary[] values, int[] selection, int size) {
+    return isLongTimeFilter()
+        ? selectLongs(times, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  private boolean isLongTimeFilter() {
+    return filterType == FilterType.TIME_FILTER && value1 instanceof Long && value2 instanceof Long;
+  }
+
+  /** filter the positions of a time column or an INT64 value column */
+  private int selectLongs(long[] values, int[] selection, int size) {
+    long v1 = (Long) value1;
+    long v2 = (Long) value2;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((v1 <= values[position] && values[position] <= v2) ^ not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
   @Override
   public boolean satisfyStartEndTime(long startTime, long endTime) {
     if (filterType == FilterType.TIME_FILTER) {
@@ -19,6 +19,7 @@
 package org.apache.iotdb.tsfile.read.filter.operator;
 
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.basic.UnaryFilter;
@@ -54,12 +55,69 @@ public class Eq<T extends Comparable<T>> extends UnaryFilter<T> {
     }
   }
 
+  @Override
+  public boolean satisfyValueIndex(PageValueIndex index) {
+    return filterType == FilterType.TIME_FILTER || index.mightContain(value);
+  }
+
   @Override
   public boolean satisfy(long time, Object value) {
     Object v = filterType == FilterType.TIME_FILTER ? time : value;
     return this.value.equals(v);
   }
 
+  @Override
+  protected int selectInts(long[] times, int[] values, int[] selection, int size) {
+    int v = (Integer) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (v == values[position]) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected int selectLongs(long[] times, long[] values, int[] selection, int size) {
+    long v = (Long) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (v == values[position]) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected int selectFloats(long[] times, float[] values, int[] selection, int size) {
+    float v = (Float) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (Float.compare(v, values[position]) == 0) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected int selectDoubles(long[] times, double[] values, int[] selection, int size) {
+    double v = (Double) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (Double.compare(v, values[position]) == 0) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
   @Override
   public boolean satisfyStartEndTime(long startTime, long endTime) {
     if (filterType == FilterType.TIME_FILTER) {
@@ -58,6 +58,58 @@ public class GtEq<T extends Comparable<T>> extends UnaryFilter<T> {
     return this.value.compareTo((T) v) <= 0;
   }
 
+  @Override
+  protected int selectInts(long[] times, int[] values, int[] selection, int size) {
+    int v = (Integer) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (v <= values[position]) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected int selectLongs(long[] times, long[] values, int[] selection, int size) {
+    long v = (Long) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (v <= values[position]) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected int selectFloats(long[] times, float[] values, int[] selection, int size) {
+    float v = (Float) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (Float.compare(v, values[position]) <= 0) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected int selectDoubles(long[] times, double[] values, int[] selection, int size) {
+    double v = (Double) value;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if (Double.compare(v, values[position]) <= 0) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
   @Override
   public boolean satisfyStartEndTime(long startTime, long endTime) {
     if (filterType == FilterType.TIME_FILTER) {
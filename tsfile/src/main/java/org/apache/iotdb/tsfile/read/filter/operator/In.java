@@ -18,16 +18,19 @@
  */
 package org.apache.iotdb.tsfile.read.filter.operator;
 
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterSerializeId;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterType;
+import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -48,6 +51,18 @@ public class In<T extends Comparable<T>> implements Filter {
 
   protected FilterType filterType;
 
+  /**
+   * sorted primitive copies of values, lazily built for batch evaluation. A value of another type
+   * never equals the points of the column, so it's left out.
+   */
+  private volatile int[] sortedInts;
+
+  private volatile long[] sortedLongs;
+
+  private volatile float[] sortedFloats;
+
+  private volatile double[] sortedDoubles;
+
   public In() {}
 
   public In(Set<T> values, FilterType filterType, boolean not) {
@@ -61,12 +76,141 @@ public class In<T extends Comparable<T>> implements Filter {
     return true;
   }
 
+  @Override
+  public boolean satisfyValueIndex(PageValueIndex index) {
+    if (filterType == FilterType.TIME_FILTER) {
+      return true;
+    }
+    if (!not) {
+      return values.stream().anyMatch(index::mightContain);
+    }
+    return values.stream().anyMatch(v -> !index.isComparableWith(v))
+        || index.mightContainAny(v -> satisfy(0, v));
+  }
+
   @Override
   public boolean satisfy(long time, Object value) {
     Object v = filterType == FilterType.TIME_FILTER ? time : value;
     return this.values.contains(v) != not;
   }
 
+  @Override
+  public int satisfyBatch(long[] times, boolean[] values, int[] selection, int size) {
+    return filterType == FilterType.TIME_FILTER
+        ? selectLongs(times, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, int[] values, int[] selection, int size) {
+    if (filterType == FilterType.TIME_FILTER) {
+      return selectLongs(times, selection, size);
+    }
+    int[] sorted = sortedInts;
+    if (sorted == null) {
+      sorted =
+          this.values.stream()
+              .filter(Integer.class::isInstance)
+              .mapToInt(v -> (Integer) v)
+              .toArray();
+      Arrays.sort(sorted);
+      sortedInts = sorted;
+    }
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((Arrays.binarySearch(sorted, values[position]) >= 0) != not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, long[] values, int[] selection, int size) {
+    return selectLongs(filterType == FilterType.TIME_FILTER ? times : values, selection, size);
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, float[] values, int[] selection, int size) {
+    if (filterType == FilterType.TIME_FILTER) {
+      return selectLongs(times, selection, size);
+    }
+    float[] sorted = sortedFloats;
+    if (sorted == null) {
+      double[] doubles =
+          this.values.stream()
+              .filter(Float.class::isInstance)
+              .mapToDouble(v -> (Float) v)
+              .toArray();
+      sorted = new float[doubles.length];
+      for (int i = 0; i < doubles.length; i++) {
+        sorted[i] = (float) doubles[i];
+      }
+      Arrays.sort(sorted);
+      sortedFloats = sorted;
+    }
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((Arrays.binarySearch(sorted, values[position]) >= 0) != not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, double[] values, int[] selection, int size) {
+    if (filterType == FilterType.TIME_FILTER) {
+      return selectLongs(times, selection, size);
+    }
+    double[] sorted = sortedDoubles;
+    if (sorted == null) {
+      sorted =
+          this.values.stream()
+              .filter(Double.class::isInstance)
+              .mapToDouble(v -> (Double) v)
+              .toArray();
+      Arrays.sort(sorted);
+      sortedDoubles = sorted;
+    }
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((Arrays.binarySearch(sorted, values[position]) >= 0) != not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, Binary[] values, int[] selection, int size) {
+    return filterType == FilterType.TIME_FILTER
+        ? selectLongs(times, selection, size)
+        : Filter.super.satisfyBatch(times, values, selection, size);
+  }
+
+  /** filter the positions of a time column or an INT64 value column */
+  private int selectLongs(long[] values, int[] selection, int size) {
+    long[] sorted = sortedLongs;
+    if (sorted == null) {
+      sorted =
+          this.values.stream().filter(Long.class::isInstance).mapToLong(v -> (Long) v).toArray();
+      Arrays.sort(sorted);
+      sortedLongs = sorted;
+    }
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = selection[i];
+      if ((Arrays.binarySearch(sorted, values[position]) >= 0) != not) {
+        selection[count++] = position;
+      }
+    }
+    return count;
+  }
+
   @Override
   public boolean satisfyStartEndTime(long startTime, long endTime) {
     return true;
@@ -102,6 +246,10 @@ public class In<T extends Comparable<T>> implements Filter {
     filterType = FilterType.values()[buffer.get()];
     not = ReadWriteIOUtils.readBool(buffer);
     int size = ReadWriteIOUtils.readInt(buffer);
+    sortedInts = null;
+    sortedLongs = null;
+    sortedFloats = null;
+    sortedDoubles = null;
     values = new HashSet<>(size);
     for (int i = 0; i < size; i++) {
       values.add((T) ReadWriteIOUtils.readObject(buffer));
@@ -20,8 +20,10 @@ package org.apache.iotdb.tsfile.read.filter.operator;
 
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.basic.SelectionUtils;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterSerializeId;
+import org.apache.iotdb.tsfile.utils.Binary;
 
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -60,6 +62,42 @@ public class NotFilter implements Filter, Serializable {
     return !that.satisfyStartEndTime(startTime, endTime);
   }
 
+  @Override
+  public int satisfyBatch(long[] times, boolean[] values, int[] selection, int size) {
+    return SelectionUtils.complement(
+        selection, size, (s, n) -> that.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, int[] values, int[] selection, int size) {
+    return SelectionUtils.complement(
+        selection, size, (s, n) -> that.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, long[] values, int[] selection, int size) {
+    return SelectionUtils.complement(
+        selection, size, (s, n) -> that.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, float[] values, int[] selection, int size) {
+    return SelectionUtils.complement(
+        selection, size, (s, n) -> that.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, double[] values, int[] selection, int size) {
+    return SelectionUtils.complement(
+        selection, size, (s, n) -> that.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, Binary[] values, int[] selection, int size) {
+    return SelectionUtils.complement(
+        selection, size, (s, n) -> that.satisfyBatch(times, values, s, n));
+  }
+
   @Override
   public boolean containStartEndTime(long startTime, long endTime) {
     return !that.satisfyStartEndTime(startTime, endTime);
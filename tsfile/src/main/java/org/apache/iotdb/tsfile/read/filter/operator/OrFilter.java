@@ -18,10 +18,13 @@
  */
 package org.apache.iotdb.tsfile.read.filter.operator;
 
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.basic.BinaryFilter;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.basic.SelectionUtils;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterSerializeId;
+import org.apache.iotdb.tsfile.utils.Binary;
 
 import java.io.Serializable;
 
@@ -51,11 +54,70 @@ public class OrFilter extends BinaryFilter implements Serializable {
     return left.satisfy(statistics) || right.satisfy(statistics);
   }
 
+  @Override
+  public boolean satisfyValueIndex(PageValueIndex index) {
+    return left.satisfyValueIndex(index) || right.satisfyValueIndex(index);
+  }
+
   @Override
   public boolean satisfy(long time, Object value) {
     return left.satisfy(time, value) || right.satisfy(time, value);
   }
 
+  @Override
+  public int satisfyBatch(long[] times, boolean[] values, int[] selection, int size) {
+    return SelectionUtils.union(
+        selection,
+        size,
+        (s, n) -> left.satisfyBatch(times, values, s, n),
+        (s, n) -> right.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, int[] values, int[] selection, int size) {
+    return SelectionUtils.union(
+        selection,
+        size,
+        (s, n) -> left.satisfyBatch(times, values, s, n),
+        (s, n) -> right.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, long[] values, int[] selection, int size) {
+    return SelectionUtils.union(
+        selection,
+        size,
+        (s, n) -> left.satisfyBatch(times, values, s, n),
+        (s, n) -> right.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, float[] values, int[] selection, int size) {
+    return SelectionUtils.union(
+        selection,
+        size,
+        (s, n) -> left.satisfyBatch(times, values, s, n),
+        (s, n) -> right.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, double[] values, int[] selection, int size) {
+    return SelectionUtils.union(
+        selection,
+        size,
+        (s, n) -> left.satisfyBatch(times, values, s, n),
+        (s, n) -> right.satisfyBatch(times, values, s, n));
+  }
+
+  @Override
+  public int satisfyBatch(long[] times, Binary[] values, int[] selection, int size) {
+    return SelectionUtils.union(
+        selection,
+        size,
+        (s, n) -> left.satisfyBatch(times, values, s, n),
+        (s, n) -> right.satisfyBatch(times, values, s, n));
+  }
+
   @Override
   public boolean satisfyStartEndTime(long startTime, long endTime) {
     return left.satisfyStartEndTime(startTime, endTime)
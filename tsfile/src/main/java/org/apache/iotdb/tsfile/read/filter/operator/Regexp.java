@@ -18,6 +18,7 @@
  */
 package org.apache.iotdb.tsfile.read.filter.operator;
 
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.factory.FilterSerializeId;
@@ -61,6 +62,11 @@ public class Regexp<T extends Comparable<T>> implements Filter {
     return true;
   }
 
+  @Override
+  public boolean satisfyValueIndex(PageValueIndex index) {
+    return filterType != FilterType.VALUE_FILTER || index.mightContainAny(v -> satisfy(0, v));
+  }
+
   @Override
   public boolean satisfy(long time, Object value) {
     if (filterType != FilterType.VALUE_FILTER) {
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader;
+
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TsFileInput} that maps a sealed TsFile into memory, so reads are served from the page
+ * cache without a system call. The file must not be modified while it is mapped and must be smaller
+ * than 2 GB.
+ *
+ * <p>{@link #close()} unmaps the file at once, so that a deleted file gives back its disk space
+ * without waiting for the GC. Touching an unmapped file crashes the JVM, so every read copies its
+ * bytes out of the mapping and no view of the mapping is handed out, and close waits for the reads
+ * in progress, as readers may be closed by another thread, e.g. by {@code FileReaderManager} while
+ * a compaction still reads through them.
+ */
+public class MmapTsFileInput implements TsFileInput {
+
+  private static final Logger logger = LoggerFactory.getLogger(MmapTsFileInput.class);
+
+  /** bytes of all the files mapped by the inputs not closed yet */
+  private static final AtomicLong MAPPED_BYTES = new AtomicLong();
+
+  /** unmaps a buffer at once, null if the JVM does not allow it */
+  private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+  private final FileChannel channel;
+  private final String filePath;
+  private final long size;
+  /** null once the file is unmapped, guarded by mappingLock */
+  private MappedByteBuffer mappedBuffer;
+  /** reads hold the read lock while they touch the mapping, close holds the write lock */
+  private final ReadWriteLock mappingLock = new ReentrantReadWriteLock();
+
+  private long position;
+
+  public MmapTsFileInput(Path file) throws IOException {
+    filePath = file.toString();
+    channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException(
+            String.format("%s is too large to be memory-mapped, size: %d", filePath, size));
+      }
+      mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    MAPPED_BYTES.addAndGet(size);
+  }
+
+  /**
+   * Map the file unless the files mapped by all open inputs would exceed maxMappedBytes with it.
+   * The limit is checked before mapping, so concurrent callers may overshoot it by the files they
+   * map meanwhile.
+   *
+   * @return the input, or null if the file is not mapped
+   */
+  public static MmapTsFileInput tryMap(Path file, long maxMappedBytes) throws IOException {
+    if (MAPPED_BYTES.get() + Files.size(file) > maxMappedBytes) {
+      return null;
+    }
+    return new MmapTsFileInput(file);
+  }
+
+  /** @return bytes of all the files mapped by the inputs not closed yet */
+  public static long getMappedBytes() {
+    return MAPPED_BYTES.get();
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public TsFileInput position(long newPosition) {
+    if (newPosition < 0) {
+      throw new IllegalArgumentException("negative position: " + newPosition);
+    }
+    position = newPosition;
+    return this;
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    int read = read(dst, position);
+    if (read > 0) {
+      position += read;
+    }
+    return read;
+  }
+
+  @Override
+  public int read(ByteBuffer dst, long position) throws IOException {
+    if (position < 0) {
+      throw new IllegalArgumentException("negative position: " + position);
+    }
+    if (position >= size) {
+      return -1;
+    }
+    int length = (int) Math.min(dst.remaining(), size - position);
+    mappingLock.readLock().lock();
+    try {
+      ByteBuffer source = getMappedBuffer().duplicate();
+      source.position((int) position);
+      source.limit((int) position + length);
+      dst.put(source);
+    } finally {
+      mappingLock.readLock().unlock();
+    }
+    return length;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (position >= size) {
+      return -1;
+    }
+    mappingLock.readLock().lock();
+    try {
+      return getMappedBuffer().get((int) position++) & 0xFF;
+    } finally {
+      mappingLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    return read(ByteBuffer.wrap(b, off, len));
+  }
+
+  @Override
+  public FileChannel wrapAsFileChannel() {
+    return channel;
+  }
+
+  @Override
+  public InputStream wrapAsInputStream() throws IOException {
+    channel.position(position);
+    return Channels.newInputStream(channel);
+  }
+
+  @Override
+  public void close() throws IOException {
+    MappedByteBuffer buffer;
+    mappingLock.writeLock().lock();
+    try {
+      buffer = mappedBuffer;
+      mappedBuffer = null;
+    } finally {
+      mappingLock.writeLock().unlock();
+    }
+    if (buffer != null) {
+      unmap(buffer);
+      MAPPED_BYTES.addAndGet(-size);
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.error("Error happened while closing {}", filePath);
+      throw e;
+    }
+  }
+
+  @Override
+  public int readInt() throws IOException {
+    if (position + Integer.BYTES > size) {
+      throw new IOException("reach the end of " + filePath);
+    }
+    int value;
+    mappingLock.readLock().lock();
+    try {
+      value = getMappedBuffer().getInt((int) position);
+    } finally {
+      mappingLock.readLock().unlock();
+    }
+    position += Integer.BYTES;
+    return value;
+  }
+
+  @Override
+  public String readVarIntString(long offset) throws IOException {
+    byte[] bytes;
+    mappingLock.readLock().lock();
+    try {
+      ByteBuffer buffer = getMappedBuffer().duplicate();
+      buffer.position((int) offset);
+      int strLength = ReadWriteForEncodingUtils.readVarInt(buffer);
+      if (strLength < 0) {
+        return null;
+      } else if (strLength == 0) {
+        return "";
+      }
+      bytes = new byte[strLength];
+      buffer.get(bytes, 0, strLength);
+    } finally {
+      mappingLock.readLock().unlock();
+    }
+    return new String(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public String getFilePath() {
+    return filePath;
+  }
+
+  private void unmap(MappedByteBuffer buffer) {
+    if (UNMAPPER == null || buffer.capacity() == 0) {
+      return;
+    }
+    try {
+      UNMAPPER.accept(buffer);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to unmap {}, it is left to the GC", filePath, e);
+    }
+  }
+
+  /**
+   * Sun.misc.Unsafe#invokeCleaner on Java 9 and later, and the cleaner of the buffer on Java 8.
+   *
+   * @return null if neither is accessible, then mappings are unmapped by the GC
+   */
+  private static Consumer<ByteBuffer> createUnmapper() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+      unsafeField.setAccessible(true);
+      Object unsafe = unsafeField.get(null);
+      return buffer -> invoke(invokeCleaner, unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Java 8, try the cleaner below
+    }
+    try {
+      Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> invoke(clean, invoke(cleanerMethod, buffer));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.warn("Memory mappings can not be unmapped explicitly, they are left to the GC", e);
+      return null;
+    }
+  }
+
+  private static Object invoke(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** must be called with the read lock of mappingLock held */
+  private MappedByteBuffer getMappedBuffer() throws IOException {
+    MappedByteBuffer buffer = mappedBuffer;
+    if (buffer == null) {
+      throw new IOException(filePath + " has been closed");
+    }
+    return buffer;
+  }
+}
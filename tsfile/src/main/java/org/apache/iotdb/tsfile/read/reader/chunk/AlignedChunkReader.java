@@ -52,6 +52,12 @@ public class AlignedChunkReader implements IChunkReader {
   // chunk data of all the sub sensors
   private final List<ByteBuffer> valueChunkDataBufferList = new ArrayList<>();
   private final IUnCompressor unCompressor;
+
+  /** compressed body of the page being uncompressed, see {@link #takeCompressedPageBody} */
+  private byte[] compressedPageBody;
+
+  private byte[] compressedPageScratch = new byte[0];
+
   private final Decoder timeDecoder =
       Decoder.getDecoderByType(
           TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().getTimeEncoder()),
@@ -263,7 +269,6 @@ public class AlignedChunkReader implements IChunkReader {
     pageInfo.pageHeader = pageHeader;
     pageInfo.dataType = chunkHeader.getDataType();
     int compressedPageBodyLength = pageHeader.getCompressedSize();
-    byte[] compressedPageBody = new byte[compressedPageBodyLength];
     // doesn't has a complete page body
     if (compressedPageBodyLength > chunkBuffer.remaining()) {
       throw new IOException(
@@ -273,13 +278,17 @@ public class AlignedChunkReader implements IChunkReader {
               + chunkBuffer.remaining());
     }
 
-    chunkBuffer.get(compressedPageBody);
+    int compressedPageBodyOffset = takeCompressedPageBody(chunkBuffer, compressedPageBodyLength);
     pageInfo.decoder =
         Decoder.getDecoderByType(chunkHeader.getEncodingType(), chunkHeader.getDataType());
     byte[] uncompressedPageData = new byte[pageHeader.getUncompressedSize()];
     try {
       unCompressor.uncompress(
-          compressedPageBody, 0, compressedPageBodyLength, uncompressedPageData, 0);
+          compressedPageBody,
+          compressedPageBodyOffset,
+          compressedPageBodyLength,
+          uncompressedPageData,
+          0);
     } catch (Exception e) {
       throw new IOException(
           "Uncompress error! uncompress size: "
@@ -293,6 +302,27 @@ public class AlignedChunkReader implements IChunkReader {
     pageInfo.pageData = ByteBuffer.wrap(uncompressedPageData);
   }
 
+  /**
+   * Take the compressed body of the next page out of chunkBuffer. A heap buffer is read in place,
+   * while a direct one, which is pooled or mapped, is copied into an array reused across pages.
+   *
+   * @return offset of the page body in {@link #compressedPageBody}
+   */
+  private int takeCompressedPageBody(ByteBuffer chunkBuffer, int compressedPageBodyLength) {
+    if (chunkBuffer.hasArray()) {
+      compressedPageBody = chunkBuffer.array();
+      int offset = chunkBuffer.arrayOffset() + chunkBuffer.position();
+      chunkBuffer.position(chunkBuffer.position() + compressedPageBodyLength);
+      return offset;
+    }
+    if (compressedPageScratch.length < compressedPageBodyLength) {
+      compressedPageScratch = new byte[compressedPageBodyLength];
+    }
+    compressedPageBody = compressedPageScratch;
+    chunkBuffer.get(compressedPageBody, 0, compressedPageBodyLength);
+    return 0;
+  }
+
   private static class PageInfo {
 
     PageHeader pageHeader;
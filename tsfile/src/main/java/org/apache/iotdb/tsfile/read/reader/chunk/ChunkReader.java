@@ -27,6 +27,7 @@ import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.Chunk;
@@ -48,6 +49,12 @@ public class ChunkReader implements IChunkReader {
   private ChunkHeader chunkHeader;
   private ByteBuffer chunkDataBuffer;
   private IUnCompressor unCompressor;
+
+  /** compressed body of the page being uncompressed, see {@link #takeCompressedPageBody} */
+  private byte[] compressedPageBody;
+
+  private byte[] compressedPageScratch = new byte[0];
+
   private final Decoder timeDecoder =
       Decoder.getDecoderByType(
           TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().getTimeEncoder()),
@@ -77,7 +84,7 @@ public class ChunkReader implements IChunkReader {
     if (chunk.isFromOldFile()) {
       initAllPageReadersV2();
     } else {
-      initAllPageReaders(chunk.getChunkStatistic());
+      initAllPageReaders(chunk.getChunkStatistic(), chunk.getPageValueIndexes());
     }
   }
 
@@ -95,11 +102,13 @@ public class ChunkReader implements IChunkReader {
     if (chunk.isFromOldFile()) {
       initAllPageReadersV2();
     } else {
-      initAllPageReaders(chunk.getChunkStatistic());
+      initAllPageReaders(chunk.getChunkStatistic(), chunk.getPageValueIndexes());
     }
   }
 
-  private void initAllPageReaders(Statistics chunkStatistic) throws IOException {
+  private void initAllPageReaders(Statistics chunkStatistic, List<PageValueIndex> pageValueIndexes)
+      throws IOException {
+    int pageIndex = 0;
     // construct next satisfied page header
     while (chunkDataBuffer.remaining() > 0) {
       // deserialize a PageHeader from chunkDataBuffer
@@ -109,9 +118,17 @@ public class ChunkReader implements IChunkReader {
       } else {
         pageHeader = PageHeader.deserializeFrom(chunkDataBuffer, chunkHeader.getDataType());
       }
+      PageValueIndex valueIndex =
+          pageValueIndexes != null && pageIndex < pageValueIndexes.size()
+              ? pageValueIndexes.get(pageIndex)
+              : null;
+      pageIndex++;
       // if the current page satisfies
-      if (pageSatisfied(pageHeader)) {
-        pageReaderList.add(constructPageReaderForNextPage(pageHeader));
+      if (pageSatisfied(pageHeader)
+          && (valueIndex == null || filter == null || filter.satisfyValueIndex(valueIndex))) {
+        PageReader pageReader = constructPageReaderForNextPage(pageHeader);
+        pageReader.setValueIndex(valueIndex);
+        pageReaderList.add(pageReader);
       } else {
         skipBytesInStreamByLength(pageHeader.getCompressedSize());
       }
@@ -162,7 +179,6 @@ public class ChunkReader implements IChunkReader {
 
   private PageReader constructPageReaderForNextPage(PageHeader pageHeader) throws IOException {
     int compressedPageBodyLength = pageHeader.getCompressedSize();
-    byte[] compressedPageBody = new byte[compressedPageBodyLength];
 
     // doesn't has a complete page body
     if (compressedPageBodyLength > chunkDataBuffer.remaining()) {
@@ -173,13 +189,18 @@ public class ChunkReader implements IChunkReader {
               + chunkDataBuffer.remaining());
     }
 
-    chunkDataBuffer.get(compressedPageBody);
+    int compressedPageBodyOffset =
+        takeCompressedPageBody(chunkDataBuffer, compressedPageBodyLength);
     Decoder valueDecoder =
         Decoder.getDecoderByType(chunkHeader.getEncodingType(), chunkHeader.getDataType());
     byte[] uncompressedPageData = new byte[pageHeader.getUncompressedSize()];
     try {
       unCompressor.uncompress(
-          compressedPageBody, 0, compressedPageBodyLength, uncompressedPageData, 0);
+          compressedPageBody,
+          compressedPageBodyOffset,
+          compressedPageBodyLength,
+          uncompressedPageData,
+          0);
     } catch (Exception e) {
       throw new IOException(
           "Uncompress error! uncompress size: "
@@ -206,6 +227,27 @@ public class ChunkReader implements IChunkReader {
     return chunkHeader;
   }
 
+  /**
+   * Take the compressed body of the next page out of chunkBuffer. A heap buffer is read in place,
+   * while a direct one, which is pooled or mapped, is copied into an array reused across pages.
+   *
+   * @return offset of the page body in {@link #compressedPageBody}
+   */
+  private int takeCompressedPageBody(ByteBuffer chunkBuffer, int compressedPageBodyLength) {
+    if (chunkBuffer.hasArray()) {
+      compressedPageBody = chunkBuffer.array();
+      int offset = chunkBuffer.arrayOffset() + chunkBuffer.position();
+      chunkBuffer.position(chunkBuffer.position() + compressedPageBodyLength);
+      return offset;
+    }
+    if (compressedPageScratch.length < compressedPageBodyLength) {
+      compressedPageScratch = new byte[compressedPageBodyLength];
+    }
+    compressedPageBody = compressedPageScratch;
+    chunkBuffer.get(compressedPageBody, 0, compressedPageBodyLength);
+    return 0;
+  }
+
   @Override
   public List<IPageReader> loadPageReaderList() {
     return pageReaderList;
@@ -230,7 +272,6 @@ public class ChunkReader implements IChunkReader {
   // For reading TsFile V2
   private PageReader constructPageReaderForNextPageV2(PageHeader pageHeader) throws IOException {
     int compressedPageBodyLength = pageHeader.getCompressedSize();
-    byte[] compressedPageBody = new byte[compressedPageBodyLength];
 
     // doesn't has a complete page body
     if (compressedPageBodyLength > chunkDataBuffer.remaining()) {
@@ -241,12 +282,17 @@ public class ChunkReader implements IChunkReader {
               + chunkDataBuffer.remaining());
     }
 
-    chunkDataBuffer.get(compressedPageBody);
+    int compressedPageBodyOffset =
+        takeCompressedPageBody(chunkDataBuffer, compressedPageBodyLength);
     Decoder valueDecoder =
         Decoder.getDecoderByType(chunkHeader.getEncodingType(), chunkHeader.getDataType());
     byte[] uncompressedPageData = new byte[pageHeader.getUncompressedSize()];
     unCompressor.uncompress(
-        compressedPageBody, 0, compressedPageBodyLength, uncompressedPageData, 0);
+        compressedPageBody,
+        compressedPageBodyOffset,
+        compressedPageBodyLength,
+        uncompressedPageData,
+        0);
     ByteBuffer pageData = ByteBuffer.wrap(uncompressedPageData);
     PageReader reader =
         new PageReaderV2(
@@ -27,6 +27,9 @@ import org.apache.iotdb.tsfile.read.common.BatchDataFactory;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
+import org.apache.iotdb.tsfile.read.common.block.column.NullColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.TimeColumn;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.operator.AndFilter;
 import org.apache.iotdb.tsfile.read.reader.IAlignedPageReader;
@@ -105,39 +108,58 @@ public class AlignedPageReader implements IPageReader, IAlignedPageReader {
     return pageData.flip();
   }
 
+  @SuppressWarnings("squid:S3776") // Suppress high Cognitive Complexity warning
   @Override
   public TsBlock getAllSatisfiedData() throws IOException {
-    // TODO change from the row-based style to column-based style
-    builder.reset();
-    int timeIndex = -1;
-    while (timePageReader.hasNextTime()) {
-      long timestamp = timePageReader.nextTime();
-      timeIndex++;
+    long[] timeBatch = timePageReader.getNextTimeBatch();
+    Column[] valueColumns = new Column[valueCount];
+    for (int i = 0; i < valueCount; i++) {
+      ValuePageReader pageReader = valuePageReaderList.get(i);
+      valueColumns[i] =
+          pageReader == null
+              ? NullColumn.create(builder.getType(i), timeBatch.length)
+              : pageReader.nextValueColumn(timeBatch);
+    }
+
+    boolean[] satisfied = new boolean[timeBatch.length];
+    int satisfiedCount = 0;
+    for (int row = 0; row < timeBatch.length; row++) {
       // if all the sub sensors' value are null in current row, just discard it
-      boolean isNull = true;
-      Object notNullObject = null;
-      TsPrimitiveType[] v = new TsPrimitiveType[valueCount];
-      for (int i = 0; i < v.length; i++) {
-        ValuePageReader pageReader = valuePageReaderList.get(i);
-        v[i] = pageReader == null ? null : pageReader.nextValue(timestamp, timeIndex);
-        if (v[i] != null) {
-          isNull = false;
-          notNullObject = v[i].getValue();
+      int notNullIndex = -1;
+      for (int i = 0; i < valueCount; i++) {
+        if (!valueColumns[i].isNull(row)) {
+          notNullIndex = i;
         }
       }
       // Currently, if it's a value filter, it will only accept AlignedPath with only one sub
       // sensor
-      if (!isNull && (filter == null || filter.satisfy(timestamp, notNullObject))) {
-        builder.getTimeColumnBuilder().writeLong(timestamp);
-        for (int i = 0; i < v.length; i++) {
-          if (v[i] != null) {
-            builder.getColumnBuilder(i).writeTsPrimitiveType(v[i]);
-          } else {
-            builder.getColumnBuilder(i).appendNull();
-          }
+      if (notNullIndex != -1
+          && (filter == null
+              || filter.satisfy(timeBatch[row], valueColumns[notNullIndex].getObject(row)))) {
+        satisfied[row] = true;
+        satisfiedCount++;
+      }
+    }
+
+    // all rows are satisfied, wrap the decoded columns without copy
+    if (satisfiedCount == timeBatch.length) {
+      return new TsBlock(
+          timeBatch.length, new TimeColumn(timeBatch.length, timeBatch), valueColumns);
+    }
+    builder.reset();
+    for (int row = 0; row < timeBatch.length; row++) {
+      if (!satisfied[row]) {
+        continue;
+      }
+      builder.getTimeColumnBuilder().writeLong(timeBatch[row]);
+      for (int i = 0; i < valueCount; i++) {
+        if (valueColumns[i].isNull(row)) {
+          builder.getColumnBuilder(i).appendNull();
+        } else {
+          builder.getColumnBuilder(i).write(valueColumns[i], row);
         }
-        builder.declarePosition();
       }
+      builder.declarePosition();
     }
     return builder.build();
   }
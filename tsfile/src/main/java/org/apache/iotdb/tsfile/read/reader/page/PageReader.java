@@ -22,14 +22,21 @@ import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.BatchDataFactory;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.common.block.TsBlockBuilder;
-import org.apache.iotdb.tsfile.read.common.block.column.ColumnBuilder;
-import org.apache.iotdb.tsfile.read.common.block.column.TimeColumnBuilder;
+import org.apache.iotdb.tsfile.read.common.block.column.BinaryColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.BooleanColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
+import org.apache.iotdb.tsfile.read.common.block.column.DoubleColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.FloatColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.LongColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.TimeColumn;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.filter.operator.AndFilter;
 import org.apache.iotdb.tsfile.read.reader.IPageReader;
@@ -38,11 +45,16 @@ import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class PageReader implements IPageReader {
 
+  /** max number of points decoded by one batch read of the time and value decoders */
+  protected static final int MAX_DECODE_BATCH_SIZE = 1024;
+
   private PageHeader pageHeader;
 
   protected TSDataType dataType;
@@ -66,6 +78,9 @@ public class PageReader implements IPageReader {
 
   private int deleteCursor = 0;
 
+  /** value index of this page, null if the page was written without one */
+  private PageValueIndex valueIndex;
+
   public PageReader(
       ByteBuffer pageData,
       TSDataType dataType,
@@ -110,124 +125,86 @@ public class PageReader implements IPageReader {
   @Override
   public BatchData getAllSatisfiedPageData(boolean ascending) throws IOException {
     BatchData pageData = BatchDataFactory.createBatchData(dataType, ascending, false);
-    if (filter == null || filter.satisfy(getStatistics())) {
-      while (timeDecoder.hasNext(timeBuffer)) {
-        long timestamp = timeDecoder.readLong(timeBuffer);
-        switch (dataType) {
-          case BOOLEAN:
-            boolean aBoolean = valueDecoder.readBoolean(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBoolean))) {
-              pageData.putBoolean(timestamp, aBoolean);
-            }
-            break;
-          case INT32:
-            int anInt = valueDecoder.readInt(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, anInt))) {
-              pageData.putInt(timestamp, anInt);
-            }
-            break;
-          case INT64:
-            long aLong = valueDecoder.readLong(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aLong))) {
-              pageData.putLong(timestamp, aLong);
-            }
-            break;
-          case FLOAT:
-            float aFloat = valueDecoder.readFloat(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aFloat))) {
-              pageData.putFloat(timestamp, aFloat);
-            }
-            break;
-          case DOUBLE:
-            double aDouble = valueDecoder.readDouble(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aDouble))) {
-              pageData.putDouble(timestamp, aDouble);
-            }
-            break;
-          case TEXT:
-            Binary aBinary = valueDecoder.readBinary(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBinary))) {
-              pageData.putBinary(timestamp, aBinary);
-            }
-            break;
-          default:
-            throw new UnSupportedDataTypeException(String.valueOf(dataType));
-        }
-      }
-    }
-    return pageData.flip();
-  }
-
-  @Override
-  public TsBlock getAllSatisfiedData() throws IOException {
-    TsBlockBuilder builder = new TsBlockBuilder(Collections.singletonList(dataType));
-    TimeColumnBuilder timeBuilder = builder.getTimeColumnBuilder();
-    ColumnBuilder valueBuilder = builder.getColumnBuilder(0);
-    if (filter == null || filter.satisfy(getStatistics())) {
+    if (filter == null || canSatisfy()) {
+      long[] timeBatch = new long[getDecodeBatchSize()];
+      int[] selection = new int[timeBatch.length];
+      int size;
       switch (dataType) {
         case BOOLEAN:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            boolean aBoolean = valueDecoder.readBoolean(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBoolean))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeBoolean(aBoolean);
-              builder.declarePosition();
+          boolean[] booleans = new boolean[timeBatch.length];
+          while ((size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length)) > 0) {
+            valueDecoder.readBooleans(valueBuffer, booleans, 0, size);
+            int count = selectNotDeleted(timeBatch, size, selection);
+            if (filter != null) {
+              count = filter.satisfyBatch(timeBatch, booleans, selection, count);
+            }
+            for (int i = 0; i < count; i++) {
+              pageData.putBoolean(timeBatch[selection[i]], booleans[selection[i]]);
             }
           }
           break;
         case INT32:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            int anInt = valueDecoder.readInt(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, anInt))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeInt(anInt);
-              builder.declarePosition();
+          int[] ints = new int[timeBatch.length];
+          while ((size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length)) > 0) {
+            valueDecoder.readInts(valueBuffer, ints, 0, size);
+            int count = selectNotDeleted(timeBatch, size, selection);
+            if (filter != null) {
+              count = filter.satisfyBatch(timeBatch, ints, selection, count);
+            }
+            for (int i = 0; i < count; i++) {
+              pageData.putInt(timeBatch[selection[i]], ints[selection[i]]);
             }
           }
           break;
         case INT64:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            long aLong = valueDecoder.readLong(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aLong))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeLong(aLong);
-              builder.declarePosition();
+          long[] longs = new long[timeBatch.length];
+          while ((size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length)) > 0) {
+            valueDecoder.readLongs(valueBuffer, longs, 0, size);
+            int count = selectNotDeleted(timeBatch, size, selection);
+            if (filter != null) {
+              count = filter.satisfyBatch(timeBatch, longs, selection, count);
+            }
+            for (int i = 0; i < count; i++) {
+              pageData.putLong(timeBatch[selection[i]], longs[selection[i]]);
             }
           }
           break;
         case FLOAT:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            float aFloat = valueDecoder.readFloat(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aFloat))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeFloat(aFloat);
-              builder.declarePosition();
+          float[] floats = new float[timeBatch.length];
+          while ((size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length)) > 0) {
+            valueDecoder.readFloats(valueBuffer, floats, 0, size);
+            int count = selectNotDeleted(timeBatch, size, selection);
+            if (filter != null) {
+              count = filter.satisfyBatch(timeBatch, floats, selection, count);
+            }
+            for (int i = 0; i < count; i++) {
+              pageData.putFloat(timeBatch[selection[i]], floats[selection[i]]);
             }
           }
           break;
         case DOUBLE:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            double aDouble = valueDecoder.readDouble(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aDouble))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeDouble(aDouble);
-              builder.declarePosition();
+          double[] doubles = new double[timeBatch.length];
+          while ((size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length)) > 0) {
+            valueDecoder.readDoubles(valueBuffer, doubles, 0, size);
+            int count = selectNotDeleted(timeBatch, size, selection);
+            if (filter != null) {
+              count = filter.satisfyBatch(timeBatch, doubles, selection, count);
+            }
+            for (int i = 0; i < count; i++) {
+              pageData.putDouble(timeBatch[selection[i]], doubles[selection[i]]);
             }
           }
           break;
         case TEXT:
-          while (timeDecoder.hasNext(timeBuffer)) {
-            long timestamp = timeDecoder.readLong(timeBuffer);
-            Binary aBinary = valueDecoder.readBinary(valueBuffer);
-            if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBinary))) {
-              timeBuilder.writeLong(timestamp);
-              valueBuilder.writeBinary(aBinary);
-              builder.declarePosition();
+          Binary[] binaries = new Binary[timeBatch.length];
+          while ((size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length)) > 0) {
+            valueDecoder.readBinaries(valueBuffer, binaries, 0, size);
+            int count = selectNotDeleted(timeBatch, size, selection);
+            if (filter != null) {
+              count = filter.satisfyBatch(timeBatch, binaries, selection, count);
+            }
+            for (int i = 0; i < count; i++) {
+              pageData.putBinary(timeBatch[selection[i]], binaries[selection[i]]);
             }
           }
           break;
@@ -235,7 +212,165 @@ public class PageReader implements IPageReader {
           throw new UnSupportedDataTypeException(String.valueOf(dataType));
       }
     }
-    return builder.build();
+    return pageData.flip();
+  }
+
+  /**
+   * Decode the page into primitive arrays and wrap them as the columns of the returned TsBlock
+   * directly, the satisfied points are selected by one batch evaluation of the filter and compacted
+   * to the front of the arrays in place.
+   */
+  @SuppressWarnings("squid:S3776") // Suppress high Cognitive Complexity warning
+  @Override
+  public TsBlock getAllSatisfiedData() throws IOException {
+    if (filter != null && !canSatisfy()) {
+      return new TsBlockBuilder(Collections.singletonList(dataType)).build();
+    }
+    long[] timeBatch = decodeTimeBatch();
+    int size = timeBatch.length;
+    // positions of the satisfied points, not needed if all of them are
+    int[] selection = null;
+    if (filter != null || deleteIntervalList != null) {
+      selection = new int[timeBatch.length];
+      size = selectNotDeleted(timeBatch, timeBatch.length, selection);
+    }
+    Column valueColumn;
+    switch (dataType) {
+      case BOOLEAN:
+        boolean[] booleans = new boolean[timeBatch.length];
+        valueDecoder.readBooleans(valueBuffer, booleans, 0, timeBatch.length);
+        if (selection != null) {
+          if (filter != null) {
+            size = filter.satisfyBatch(timeBatch, booleans, selection, size);
+          }
+          for (int i = 0; i < size; i++) {
+            booleans[i] = booleans[selection[i]];
+          }
+        }
+        valueColumn = new BooleanColumn(size, Optional.empty(), booleans);
+        break;
+      case INT32:
+        int[] ints = new int[timeBatch.length];
+        valueDecoder.readInts(valueBuffer, ints, 0, timeBatch.length);
+        if (selection != null) {
+          if (filter != null) {
+            size = filter.satisfyBatch(timeBatch, ints, selection, size);
+          }
+          for (int i = 0; i < size; i++) {
+            ints[i] = ints[selection[i]];
+          }
+        }
+        valueColumn = new IntColumn(size, Optional.empty(), ints);
+        break;
+      case INT64:
+        long[] longs = new long[timeBatch.length];
+        valueDecoder.readLongs(valueBuffer, longs, 0, timeBatch.length);
+        if (selection != null) {
+          if (filter != null) {
+            size = filter.satisfyBatch(timeBatch, longs, selection, size);
+          }
+          for (int i = 0; i < size; i++) {
+            longs[i] = longs[selection[i]];
+          }
+        }
+        valueColumn = new LongColumn(size, Optional.empty(), longs);
+        break;
+      case FLOAT:
+        float[] floats = new float[timeBatch.length];
+        valueDecoder.readFloats(valueBuffer, floats, 0, timeBatch.length);
+        if (selection != null) {
+          if (filter != null) {
+            size = filter.satisfyBatch(timeBatch, floats, selection, size);
+          }
+          for (int i = 0; i < size; i++) {
+            floats[i] = floats[selection[i]];
+          }
+        }
+        valueColumn = new FloatColumn(size, Optional.empty(), floats);
+        break;
+      case DOUBLE:
+        double[] doubles = new double[timeBatch.length];
+        valueDecoder.readDoubles(valueBuffer, doubles, 0, timeBatch.length);
+        if (selection != null) {
+          if (filter != null) {
+            size = filter.satisfyBatch(timeBatch, doubles, selection, size);
+          }
+          for (int i = 0; i < size; i++) {
+            doubles[i] = doubles[selection[i]];
+          }
+        }
+        valueColumn = new DoubleColumn(size, Optional.empty(), doubles);
+        break;
+      case TEXT:
+        Binary[] binaries = new Binary[timeBatch.length];
+        valueDecoder.readBinaries(valueBuffer, binaries, 0, timeBatch.length);
+        if (selection != null) {
+          if (filter != null) {
+            size = filter.satisfyBatch(timeBatch, binaries, selection, size);
+          }
+          for (int i = 0; i < size; i++) {
+            binaries[i] = binaries[selection[i]];
+          }
+        }
+        valueColumn = new BinaryColumn(size, Optional.empty(), binaries);
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+    if (selection != null) {
+      for (int i = 0; i < size; i++) {
+        timeBatch[i] = timeBatch[selection[i]];
+      }
+    }
+    return new TsBlock(size, new TimeColumn(size, timeBatch), valueColumn);
+  }
+
+  /**
+   * Fill selection with the positions of the points in timeBatch[0, size) that are not deleted,
+   * which are then narrowed down by {@link Filter#satisfyBatch}.
+   *
+   * @return number of the positions in selection
+   */
+  private int selectNotDeleted(long[] timeBatch, int size, int[] selection) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (!isDeleted(timeBatch[i])) {
+        selection[count++] = i;
+      }
+    }
+    return count;
+  }
+
+  /** decode all the timestamps of this page */
+  private long[] decodeTimeBatch() throws IOException {
+    if (pageHeader != null && pageHeader.getStatistics() != null) {
+      long[] timeBatch = new long[(int) pageHeader.getStatistics().getCount()];
+      int size = timeDecoder.readLongs(timeBuffer, timeBatch, 0, timeBatch.length);
+      return size == timeBatch.length ? timeBatch : Arrays.copyOf(timeBatch, size);
+    }
+    long[] timeBatch = new long[MAX_DECODE_BATCH_SIZE];
+    int size = 0;
+    int read;
+    while ((read = timeDecoder.readLongs(timeBuffer, timeBatch, size, timeBatch.length - size))
+        > 0) {
+      size += read;
+      if (size == timeBatch.length) {
+        timeBatch = Arrays.copyOf(timeBatch, timeBatch.length << 1);
+      }
+    }
+    return Arrays.copyOf(timeBatch, size);
+  }
+
+  /**
+   * Time and value columns are decoded into primitive arrays of this size at a time, which is the
+   * point number of the page if known, bounded by {@link #MAX_DECODE_BATCH_SIZE}.
+   */
+  protected int getDecodeBatchSize() {
+    if (pageHeader == null || pageHeader.getStatistics() == null) {
+      return MAX_DECODE_BATCH_SIZE;
+    }
+    return (int)
+        Math.max(1, Math.min(MAX_DECODE_BATCH_SIZE, pageHeader.getStatistics().getCount()));
   }
 
   @Override
@@ -256,6 +391,16 @@ public class PageReader implements IPageReader {
     this.deleteIntervalList = list;
   }
 
+  public void setValueIndex(PageValueIndex valueIndex) {
+    this.valueIndex = valueIndex;
+  }
+
+  /** whether the statistics and the value index of this page may satisfy the non-null filter */
+  private boolean canSatisfy() {
+    return filter.satisfy(getStatistics())
+        && (valueIndex == null || filter.satisfyValueIndex(valueIndex));
+  }
+
   public List<TimeRange> getDeleteIntervalList() {
     return deleteIntervalList;
   }
@@ -26,13 +26,23 @@ import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.BatchDataFactory;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.common.block.column.BinaryColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.BooleanColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.Column;
+import org.apache.iotdb.tsfile.read.common.block.column.DoubleColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.FloatColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.IntColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.LongColumn;
+import org.apache.iotdb.tsfile.read.common.block.column.NullColumn;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 import org.apache.iotdb.tsfile.utils.TsPrimitiveType;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 public class ValuePageReader {
 
@@ -82,53 +92,88 @@ public class ValuePageReader {
    * return a BatchData with the corresponding timeBatch, the BatchData's dataType is same as this
    * sub sensor
    */
-  public BatchData nextBatch(long[] timeBatch, boolean ascending, Filter filter) {
+  @SuppressWarnings("squid:S3776") // Suppress high Cognitive Complexity warning
+  public BatchData nextBatch(long[] timeBatch, boolean ascending, Filter filter)
+      throws IOException {
     BatchData pageData = BatchDataFactory.createBatchData(dataType, ascending, false);
-    for (int i = 0; i < timeBatch.length; i++) {
-      if (((bitmap[i / 8] & 0xFF) & (MASK >>> (i % 8))) == 0) {
+    int valueCount = countNonNull(timeBatch.length);
+    // times of the non-null values, and the positions of the ones not deleted among them
+    long[] valueTimes = new long[valueCount];
+    int[] selection = new int[valueCount];
+    int size = 0;
+    for (int i = 0, j = 0; i < timeBatch.length; i++) {
+      if (isNull(i)) {
         continue;
       }
-      long timestamp = timeBatch[i];
-      switch (dataType) {
-        case BOOLEAN:
-          boolean aBoolean = valueDecoder.readBoolean(valueBuffer);
-          if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBoolean))) {
-            pageData.putBoolean(timestamp, aBoolean);
-          }
-          break;
-        case INT32:
-          int anInt = valueDecoder.readInt(valueBuffer);
-          if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, anInt))) {
-            pageData.putInt(timestamp, anInt);
-          }
-          break;
-        case INT64:
-          long aLong = valueDecoder.readLong(valueBuffer);
-          if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aLong))) {
-            pageData.putLong(timestamp, aLong);
-          }
-          break;
-        case FLOAT:
-          float aFloat = valueDecoder.readFloat(valueBuffer);
-          if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aFloat))) {
-            pageData.putFloat(timestamp, aFloat);
-          }
-          break;
-        case DOUBLE:
-          double aDouble = valueDecoder.readDouble(valueBuffer);
-          if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aDouble))) {
-            pageData.putDouble(timestamp, aDouble);
-          }
-          break;
-        case TEXT:
-          Binary aBinary = valueDecoder.readBinary(valueBuffer);
-          if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBinary))) {
-            pageData.putBinary(timestamp, aBinary);
-          }
-          break;
-        default:
-          throw new UnSupportedDataTypeException(String.valueOf(dataType));
+      valueTimes[j] = timeBatch[i];
+      if (!isDeleted(timeBatch[i])) {
+        selection[size++] = j;
       }
+      j++;
+    }
+    switch (dataType) {
+      case BOOLEAN:
+        boolean[] booleans = new boolean[valueCount];
+        valueDecoder.readBooleans(valueBuffer, booleans, 0, valueCount);
+        if (filter != null) {
+          size = filter.satisfyBatch(valueTimes, booleans, selection, size);
+        }
+        for (int i = 0; i < size; i++) {
+          pageData.putBoolean(valueTimes[selection[i]], booleans[selection[i]]);
+        }
+        break;
+      case INT32:
+        int[] ints = new int[valueCount];
+        valueDecoder.readInts(valueBuffer, ints, 0, valueCount);
+        if (filter != null) {
+          size = filter.satisfyBatch(valueTimes, ints, selection, size);
+        }
+        for (int i = 0; i < size; i++) {
+          pageData.putInt(valueTimes[selection[i]], ints[selection[i]]);
+        }
+        break;
+      case INT64:
+        long[] longs = new long[valueCount];
+        valueDecoder.readLongs(valueBuffer, longs, 0, valueCount);
+        if (filter != null) {
+          size = filter.satisfyBatch(valueTimes, longs, selection, size);
+        }
+        for (int i = 0; i < size; i++) {
+          pageData.putLong(valueTimes[selection[i]], longs[selection[i]]);
+        }
+        break;
+      case FLOAT:
+        float[] floats = new float[valueCount];
+        valueDecoder.readFloats(valueBuffer, floats, 0, valueCount);
+        if (filter != null) {
+          size = filter.satisfyBatch(valueTimes, floats, selection, size);
+        }
+        for (int i = 0; i < size; i++) {
+          pageData.putFloat(valueTimes[selection[i]], floats[selection[i]]);
+        }
+        break;
+      case DOUBLE:
+        double[] doubles = new double[valueCount];
+        valueDecoder.readDoubles(valueBuffer, doubles, 0, valueCount);
+        if (filter != null) {
+          size = filter.satisfyBatch(valueTimes, doubles, selection, size);
+        }
+        for (int i = 0; i < size; i++) {
+          pageData.putDouble(valueTimes[selection[i]], doubles[selection[i]]);
+        }
+        break;
+      case TEXT:
+        Binary[] binaries = new Binary[valueCount];
+        valueDecoder.readBinaries(valueBuffer, binaries, 0, valueCount);
+        if (filter != null) {
+          size = filter.satisfyBatch(valueTimes, binaries, selection, size);
+        }
+        for (int i = 0; i < size; i++) {
+          pageData.putBinary(valueTimes[selection[i]], binaries[selection[i]]);
+        }
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
     }
     return pageData.flip();
   }
@@ -186,59 +231,207 @@ public class ValuePageReader {
    * return the value array of the corresponding time, if this sub sensor don't have a value in a
    * time, just fill it with null
    */
-  public TsPrimitiveType[] nextValueBatch(long[] timeBatch) {
+  @SuppressWarnings("squid:S3776") // Suppress high Cognitive Complexity warning
+  public TsPrimitiveType[] nextValueBatch(long[] timeBatch) throws IOException {
     TsPrimitiveType[] valueBatch = new TsPrimitiveType[size];
     if (valueBuffer == null) {
       return valueBatch;
     }
-    for (int i = 0; i < size; i++) {
-      if (((bitmap[i / 8] & 0xFF) & (MASK >>> (i % 8))) == 0) {
-        continue;
-      }
-      switch (dataType) {
-        case BOOLEAN:
-          boolean aBoolean = valueDecoder.readBoolean(valueBuffer);
+    int valueCount = countNonNull(size);
+    switch (dataType) {
+      case BOOLEAN:
+        boolean[] booleans = new boolean[valueCount];
+        valueDecoder.readBooleans(valueBuffer, booleans, 0, valueCount);
+        for (int i = 0, j = 0; i < size; i++) {
+          if (isNull(i)) {
+            continue;
+          }
+          boolean value = booleans[j++];
           if (!isDeleted(timeBatch[i])) {
-            valueBatch[i] = new TsPrimitiveType.TsBoolean(aBoolean);
+            valueBatch[i] = new TsPrimitiveType.TsBoolean(value);
+          }
+        }
+        break;
+      case INT32:
+        int[] ints = new int[valueCount];
+        valueDecoder.readInts(valueBuffer, ints, 0, valueCount);
+        for (int i = 0, j = 0; i < size; i++) {
+          if (isNull(i)) {
+            continue;
           }
-          break;
-        case INT32:
-          int anInt = valueDecoder.readInt(valueBuffer);
+          int value = ints[j++];
           if (!isDeleted(timeBatch[i])) {
-            valueBatch[i] = new TsPrimitiveType.TsInt(anInt);
+            valueBatch[i] = new TsPrimitiveType.TsInt(value);
+          }
+        }
+        break;
+      case INT64:
+        long[] longs = new long[valueCount];
+        valueDecoder.readLongs(valueBuffer, longs, 0, valueCount);
+        for (int i = 0, j = 0; i < size; i++) {
+          if (isNull(i)) {
+            continue;
           }
-          break;
-        case INT64:
-          long aLong = valueDecoder.readLong(valueBuffer);
+          long value = longs[j++];
           if (!isDeleted(timeBatch[i])) {
-            valueBatch[i] = new TsPrimitiveType.TsLong(aLong);
+            valueBatch[i] = new TsPrimitiveType.TsLong(value);
+          }
+        }
+        break;
+      case FLOAT:
+        float[] floats = new float[valueCount];
+        valueDecoder.readFloats(valueBuffer, floats, 0, valueCount);
+        for (int i = 0, j = 0; i < size; i++) {
+          if (isNull(i)) {
+            continue;
           }
-          break;
-        case FLOAT:
-          float aFloat = valueDecoder.readFloat(valueBuffer);
+          float value = floats[j++];
           if (!isDeleted(timeBatch[i])) {
-            valueBatch[i] = new TsPrimitiveType.TsFloat(aFloat);
+            valueBatch[i] = new TsPrimitiveType.TsFloat(value);
           }
-          break;
-        case DOUBLE:
-          double aDouble = valueDecoder.readDouble(valueBuffer);
+        }
+        break;
+      case DOUBLE:
+        double[] doubles = new double[valueCount];
+        valueDecoder.readDoubles(valueBuffer, doubles, 0, valueCount);
+        for (int i = 0, j = 0; i < size; i++) {
+          if (isNull(i)) {
+            continue;
+          }
+          double value = doubles[j++];
           if (!isDeleted(timeBatch[i])) {
-            valueBatch[i] = new TsPrimitiveType.TsDouble(aDouble);
+            valueBatch[i] = new TsPrimitiveType.TsDouble(value);
           }
-          break;
-        case TEXT:
-          Binary aBinary = valueDecoder.readBinary(valueBuffer);
+        }
+        break;
+      case TEXT:
+        Binary[] binaries = new Binary[valueCount];
+        valueDecoder.readBinaries(valueBuffer, binaries, 0, valueCount);
+        for (int i = 0, j = 0; i < size; i++) {
+          if (isNull(i)) {
+            continue;
+          }
+          Binary value = binaries[j++];
           if (!isDeleted(timeBatch[i])) {
-            valueBatch[i] = new TsPrimitiveType.TsBinary(aBinary);
+            valueBatch[i] = new TsPrimitiveType.TsBinary(value);
           }
-          break;
-        default:
-          throw new UnSupportedDataTypeException(String.valueOf(dataType));
-      }
+        }
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
     }
     return valueBatch;
   }
 
+  /**
+   * return the value column of the corresponding time, the rows that this sub sensor doesn't have a
+   * value or whose value is deleted are null.
+   */
+  @SuppressWarnings("squid:S3776") // Suppress high Cognitive Complexity warning
+  public Column nextValueColumn(long[] timeBatch) throws IOException {
+    if (valueBuffer == null || bitmap == null) {
+      return NullColumn.create(dataType, timeBatch.length);
+    }
+    int valueCount = countNonNull(timeBatch.length);
+    boolean[] valueIsNull = null;
+    if (valueCount < timeBatch.length || deleteIntervalList != null) {
+      valueIsNull = new boolean[timeBatch.length];
+      for (int i = 0; i < timeBatch.length; i++) {
+        valueIsNull[i] = isNull(i) || isDeleted(timeBatch[i]);
+      }
+    }
+    // decode the not null values to the front of the array, and then move them to their rows
+    switch (dataType) {
+      case BOOLEAN:
+        boolean[] booleans = new boolean[timeBatch.length];
+        valueDecoder.readBooleans(valueBuffer, booleans, 0, valueCount);
+        if (valueCount < timeBatch.length) {
+          for (int i = timeBatch.length - 1, j = valueCount - 1; j >= 0; i--) {
+            if (!isNull(i)) {
+              booleans[i] = booleans[j--];
+            }
+          }
+        }
+        return new BooleanColumn(timeBatch.length, Optional.ofNullable(valueIsNull), booleans);
+      case INT32:
+        int[] ints = new int[timeBatch.length];
+        valueDecoder.readInts(valueBuffer, ints, 0, valueCount);
+        if (valueCount < timeBatch.length) {
+          for (int i = timeBatch.length - 1, j = valueCount - 1; j >= 0; i--) {
+            if (!isNull(i)) {
+              ints[i] = ints[j--];
+            }
+          }
+        }
+        return new IntColumn(timeBatch.length, Optional.ofNullable(valueIsNull), ints);
+      case INT64:
+        long[] longs = new long[timeBatch.length];
+        valueDecoder.readLongs(valueBuffer, longs, 0, valueCount);
+        if (valueCount < timeBatch.length) {
+          for (int i = timeBatch.length - 1, j = valueCount - 1; j >= 0; i--) {
+            if (!isNull(i)) {
+              longs[i] = longs[j--];
+            }
+          }
+        }
+        return new LongColumn(timeBatch.length, Optional.ofNullable(valueIsNull), longs);
+      case FLOAT:
+        float[] floats = new float[timeBatch.length];
+        valueDecoder.readFloats(valueBuffer, floats, 0, valueCount);
+        if (valueCount < timeBatch.length) {
+          for (int i = timeBatch.length - 1, j = valueCount - 1; j >= 0; i--) {
+            if (!isNull(i)) {
+              floats[i] = floats[j--];
+            }
+          }
+        }
+        return new FloatColumn(timeBatch.length, Optional.ofNullable(valueIsNull), floats);
+      case DOUBLE:
+        double[] doubles = new double[timeBatch.length];
+        valueDecoder.readDoubles(valueBuffer, doubles, 0, valueCount);
+        if (valueCount < timeBatch.length) {
+          for (int i = timeBatch.length - 1, j = valueCount - 1; j >= 0; i--) {
+            if (!isNull(i)) {
+              doubles[i] = doubles[j--];
+            }
+          }
+        }
+        return new DoubleColumn(timeBatch.length, Optional.ofNullable(valueIsNull), doubles);
+      case TEXT:
+        Binary[] binaries = new Binary[timeBatch.length];
+        valueDecoder.readBinaries(valueBuffer, binaries, 0, valueCount);
+        if (valueCount < timeBatch.length) {
+          for (int i = timeBatch.length - 1, j = valueCount - 1; j >= 0; i--) {
+            if (!isNull(i)) {
+              binaries[i] = binaries[j--];
+            }
+          }
+        }
+        return new BinaryColumn(timeBatch.length, Optional.ofNullable(valueIsNull), binaries);
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+  }
+
+  private boolean isNull(int index) {
+    return ((bitmap[index / 8] & 0xFF) & (MASK >>> (index % 8))) == 0;
+  }
+
+  /** count the not null values in the first {@code length} rows according to the bitmap */
+  private int countNonNull(int length) {
+    int count = 0;
+    int fullBytes = length / 8;
+    for (int i = 0; i < fullBytes; i++) {
+      count += Integer.bitCount(bitmap[i] & 0xFF);
+    }
+    for (int i = fullBytes * 8; i < length; i++) {
+      if (!isNull(i)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   public Statistics getStatistics() {
     return pageHeader.getStatistics();
   }
@@ -34,6 +34,9 @@ public class BloomFilter {
   private BitSet bits;
   private HashFunction[] func;
 
+  /** for {@link SplitBlockBloomFilter}, which keeps its own bits */
+  protected BloomFilter() {}
+
   // do not try to initialize the filter by construction method
   private BloomFilter(byte[] bytes, int size, int hashFunctionSize) {
     this.size = size;
@@ -82,6 +85,9 @@ public class BloomFilter {
    * @return bloom filter
    */
   public static BloomFilter buildBloomFilter(byte[] bytes, int size, int hashFunctionSize) {
+    if (hashFunctionSize == SplitBlockBloomFilter.VERSION_TAG) {
+      return SplitBlockBloomFilter.buildBloomFilter(bytes, size);
+    }
     return new BloomFilter(bytes, size, Math.min(MAXIMAL_HASH_FUNCTION_SIZE, hashFunctionSize));
   }
 
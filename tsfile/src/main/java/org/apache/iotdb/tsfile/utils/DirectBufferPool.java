@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.utils;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of direct ByteBuffers in power of two size classes, which saves allocating fresh heap
+ * buffers for every chunk read and page compressed. At most direct_buffer_pool_size_in_byte bytes
+ * of idle buffers are kept, the pool is disabled if it is 0.
+ *
+ * <p>A buffer is reference counted, and goes back to the pool when the last holder releases it. A
+ * buffer which is never released is freed by GC as any other direct buffer, so forgetting to
+ * release one only costs the reuse of it.
+ */
+public class DirectBufferPool {
+
+  private static final int MIN_SIZE_CLASS_SHIFT = 12;
+
+  /** 4MB, larger requests are not pooled */
+  private static final int MAX_SIZE_CLASS_SHIFT = 22;
+
+  public static final int MAX_POOLED_SIZE = 1 << MAX_SIZE_CLASS_SHIFT;
+
+  /** idle buffers of size class 2^(i + MIN_SIZE_CLASS_SHIFT) */
+  private final Queue<ByteBuffer>[] idleBuffers;
+
+  private final AtomicLong idleBytes = new AtomicLong();
+
+  private final AtomicLong allocateCount = new AtomicLong();
+
+  private final AtomicLong reuseCount = new AtomicLong();
+
+  @SuppressWarnings("unchecked")
+  private DirectBufferPool() {
+    idleBuffers = new Queue[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1];
+    for (int i = 0; i < idleBuffers.length; i++) {
+      idleBuffers[i] = new ConcurrentLinkedQueue<>();
+    }
+  }
+
+  public static DirectBufferPool getInstance() {
+    return DirectBufferPoolHolder.INSTANCE;
+  }
+
+  private static long getCapacity() {
+    return TSFileDescriptor.getInstance().getConfig().getDirectBufferPoolSizeInByte();
+  }
+
+  public boolean isEnabled() {
+    return getCapacity() > 0;
+  }
+
+  /** @return whether a buffer of size bytes can be allocated from the pool */
+  public boolean canPool(int size) {
+    return size <= MAX_POOLED_SIZE && isEnabled();
+  }
+
+  /**
+   * Take a buffer of size bytes from the pool, or allocate one if there is no idle buffer of its
+   * size class. The returned buffer has position 0 and limit size, and a reference count of 1.
+   *
+   * @throws IllegalArgumentException if {@link #canPool(int)} is false for size
+   */
+  public PooledBuffer allocate(int size) {
+    if (!canPool(size)) {
+      throw new IllegalArgumentException("can not allocate " + size + " bytes from the pool");
+    }
+    int sizeClass = sizeClassOf(size);
+    allocateCount.incrementAndGet();
+    ByteBuffer buffer = idleBuffers[sizeClass].poll();
+    if (buffer != null) {
+      reuseCount.incrementAndGet();
+      idleBytes.addAndGet(-buffer.capacity());
+    } else {
+      buffer = ByteBuffer.allocateDirect(1 << (sizeClass + MIN_SIZE_CLASS_SHIFT));
+    }
+    buffer.clear().limit(size);
+    return new PooledBuffer(buffer);
+  }
+
+  private void recycle(ByteBuffer buffer) {
+    if (idleBytes.addAndGet(buffer.capacity()) > getCapacity()) {
+      // the pool is full, leave the buffer to GC
+      idleBytes.addAndGet(-buffer.capacity());
+      return;
+    }
+    idleBuffers[sizeClassOf(buffer.capacity())].offer(buffer);
+  }
+
+  private static int sizeClassOf(int size) {
+    int shift = size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+    return Math.max(shift, MIN_SIZE_CLASS_SHIFT) - MIN_SIZE_CLASS_SHIFT;
+  }
+
+  /** @return bytes of the idle buffers kept by the pool */
+  public long getIdleBytes() {
+    return idleBytes.get();
+  }
+
+  /** @return the ratio of allocations served by idle buffers */
+  public double getReuseRatio() {
+    long allocated = allocateCount.get();
+    return allocated == 0 ? 0 : (double) reuseCount.get() / allocated;
+  }
+
+  /** clear the idle buffers, for tests and config changes */
+  public void clear() {
+    for (Queue<ByteBuffer> queue : idleBuffers) {
+      ByteBuffer buffer;
+      while ((buffer = queue.poll()) != null) {
+        idleBytes.addAndGet(-buffer.capacity());
+      }
+    }
+  }
+
+  /** A direct buffer of the pool, with a count of its holders. */
+  public static class PooledBuffer {
+
+    private final ByteBuffer buffer;
+
+    private final AtomicInteger referenceCount = new AtomicInteger(1);
+
+    private PooledBuffer(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    /** @return the buffer, which must not be used after the last release */
+    public ByteBuffer getBuffer() {
+      return buffer;
+    }
+
+    /**
+     * Add a holder of the buffer, unless it has been released by all its holders.
+     *
+     * @return false if the buffer has gone back to the pool
+     */
+    public boolean tryRetain() {
+      int count;
+      do {
+        count = referenceCount.get();
+        if (count <= 0) {
+          return false;
+        }
+      } while (!referenceCount.compareAndSet(count, count + 1));
+      return true;
+    }
+
+    /** Remove a holder of the buffer, the last one returns it to the pool. */
+    public void release() {
+      int count = referenceCount.decrementAndGet();
+      if (count == 0) {
+        DirectBufferPool.getInstance().recycle(buffer);
+      } else if (count < 0) {
+        throw new IllegalStateException("the buffer has been released by all its holders");
+      }
+    }
+
+    public int getReferenceCount() {
+      return referenceCount.get();
+    }
+  }
+
+  private static class DirectBufferPoolHolder {
+
+    private static final DirectBufferPool INSTANCE = new DirectBufferPool();
+
+    private DirectBufferPoolHolder() {}
+  }
+}
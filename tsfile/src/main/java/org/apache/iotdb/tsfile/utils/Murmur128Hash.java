@@ -18,6 +18,8 @@
  */
 package org.apache.iotdb.tsfile.utils;
 
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+
 public class Murmur128Hash {
 
   private Murmur128Hash() {
@@ -52,6 +54,29 @@ public class Murmur128Hash {
             seed);
   }
 
+  /**
+   * get 64-bit hashcode of the UTF-8 bytes of value by seed
+   *
+   * @param value value
+   * @param seed seed
+   * @return hashcode of value
+   */
+  public static long hash64(String value, long seed) {
+    byte[] bytes = value.getBytes(TSFileConfig.STRING_CHARSET);
+    return innerHash(bytes, 0, bytes.length, seed);
+  }
+
+  /**
+   * get 64-bit hashcode of bytes by seed
+   *
+   * @param bytes bytes
+   * @param seed seed
+   * @return hashcode of bytes
+   */
+  public static long hash64(byte[] bytes, long seed) {
+    return innerHash(bytes, 0, bytes.length, seed);
+  }
+
   /** Methods to perform murmur 128 hash. */
   private static long getBlock(byte[] key, int offset, int index) {
     int i8 = index << 3;
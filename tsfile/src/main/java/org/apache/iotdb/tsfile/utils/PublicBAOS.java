@@ -21,6 +21,8 @@ package org.apache.iotdb.tsfile.utils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * A subclass extending <code>ByteArrayOutputStream</code>. It's used to return the byte array
@@ -91,4 +93,17 @@ public class PublicBAOS extends ByteArrayOutputStream {
   public void truncate(int size) {
     count = size;
   }
+
+  /**
+   * Writes the remaining bytes of src, which may be a direct buffer, and moves its position to its
+   * limit.
+   */
+  public void write(ByteBuffer src) {
+    int length = src.remaining();
+    if (count + length > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + length));
+    }
+    src.get(buf, count, length);
+    count += length;
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.utils;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A split block Bloom filter. The bits are divided into blocks of 256 bits. A value selects one
+ * block by its hash and sets one bit in each of the eight 32-bit words of that block. A lookup
+ * therefore reads a single 32-byte block, which lies within one cache line, instead of probing bits
+ * scattered over the whole filter.
+ *
+ * <p>It is serialized in the same layout as {@link BloomFilter}, with {@link #VERSION_TAG} written
+ * in place of the number of hash functions.
+ */
+public class SplitBlockBloomFilter extends BloomFilter {
+
+  /** written in place of the number of hash functions, which is at most 8 for a BloomFilter */
+  public static final int VERSION_TAG = 64;
+
+  private static final int WORDS_PER_BLOCK = 8;
+  private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Integer.SIZE;
+
+  /** the number of bits is serialized as an int */
+  private static final int MAX_BLOCK_NUM = Integer.MAX_VALUE / BITS_PER_BLOCK;
+
+  private static final long SEED = 0;
+
+  /** odd constants spreading the hash to one bit per word, taken from the Parquet specification */
+  private static final int[] SALT =
+      new int[] {
+        0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d,
+        0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
+      };
+
+  private final int[] words;
+  private final int blockNum;
+
+  private SplitBlockBloomFilter(int[] words) {
+    this.words = words;
+    this.blockNum = words.length / WORDS_PER_BLOCK;
+  }
+
+  /**
+   * get empty split block bloom filter
+   *
+   * @param errorPercent the tolerant percent of error of the bloom filter
+   * @param numOfString the number of string want to store in the bloom filter
+   * @return empty bloom
+   */
+  public static SplitBlockBloomFilter getEmptyBloomFilter(double errorPercent, int numOfString) {
+    errorPercent = Math.max(errorPercent, TSFileConfig.MIN_BLOOM_FILTER_ERROR_RATE);
+    errorPercent = Math.min(errorPercent, TSFileConfig.MAX_BLOOM_FILTER_ERROR_RATE);
+
+    return new SplitBlockBloomFilter(
+        new int[getBlockNum(errorPercent, numOfString) * WORDS_PER_BLOCK]);
+  }
+
+  /**
+   * @return the number of blocks for numOfString values at the error rate, at most MAX_BLOCK_NUM
+   */
+  static int getBlockNum(double errorPercent, int numOfString) {
+    // each value sets 8 bits of a block, so the error rate of one block is (1 - e^(-8n/m))^8
+    double bits =
+        -(long) WORDS_PER_BLOCK * numOfString / Math.log(1 - Math.pow(errorPercent, 1.0 / 8));
+    long blockNum = Math.max(1, (long) Math.ceil(bits / BITS_PER_BLOCK));
+    return (int) Math.min(blockNum, MAX_BLOCK_NUM);
+  }
+
+  /**
+   * build split block bloom filter by bytes
+   *
+   * @param bytes bytes of words in little endian
+   * @param size number of bits
+   * @return bloom filter
+   */
+  public static SplitBlockBloomFilter buildBloomFilter(byte[] bytes, int size) {
+    int[] words = new int[size / Integer.SIZE];
+    ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(words);
+    return new SplitBlockBloomFilter(words);
+  }
+
+  @Override
+  public int getHashFunctionSize() {
+    return VERSION_TAG;
+  }
+
+  /** @return number of bits */
+  @Override
+  public int getSize() {
+    return words.length * Integer.SIZE;
+  }
+
+  @Override
+  public void add(String value) {
+    long hash = Murmur128Hash.hash64(value, SEED);
+    int offset = getBlockOffset(hash);
+    int key = (int) hash;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      words[offset + i] |= 1 << ((key * SALT[i]) >>> 27);
+    }
+  }
+
+  @Override
+  public boolean contains(String value) {
+    if (value == null) {
+      return false;
+    }
+    long hash = Murmur128Hash.hash64(value, SEED);
+    int offset = getBlockOffset(hash);
+    int key = (int) hash;
+    // check all words without branching on each of them, so that the JIT can unroll the loop
+    int missing = 0;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      int mask = 1 << ((key * SALT[i]) >>> 27);
+      missing |= mask & ~words[offset + i];
+    }
+    return missing == 0;
+  }
+
+  /** map the high 32 bits of the hash to a block without a division */
+  private int getBlockOffset(long hash) {
+    return (int) (((hash >>> 32) * blockNum) >>> 32) * WORDS_PER_BLOCK;
+  }
+
+  @Override
+  public int getBitCount() {
+    int res = 0;
+    for (int word : words) {
+      res += Integer.bitCount(word);
+    }
+    return res;
+  }
+
+  @Override
+  public byte[] serialize() {
+    ByteBuffer buffer = ByteBuffer.allocate(words.length * Integer.BYTES);
+    buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(words);
+    return buffer.array();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(words, ((SplitBlockBloomFilter) o).words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+}
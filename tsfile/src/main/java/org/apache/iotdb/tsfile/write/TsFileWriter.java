@@ -23,6 +23,7 @@ import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.exception.write.NoMeasurementException;
 import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
 import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.BitMap;
 import org.apache.iotdb.tsfile.utils.MeasurementGroup;
 import org.apache.iotdb.tsfile.write.chunk.AlignedChunkGroupWriterImpl;
 import org.apache.iotdb.tsfile.write.chunk.IChunkGroupWriter;
@@ -43,10 +44,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * TsFileWriter is the entrance for writing processing. It receives a record and send it to
@@ -89,6 +96,18 @@ public class TsFileWriter implements AutoCloseable {
 
   private long chunkGroupSizeThreshold;
 
+  /** encodes chunk groups in parallel, null if they are encoded serially on the writing thread. */
+  private ExecutorService encodingPool;
+
+  /**
+   * deviceId -> writes buffered for the chunk group, which are encoded on the encoding pool at the
+   * next memory check or flush, so that the writing thread neither encodes nor compresses pages.
+   */
+  private final Map<String, List<PendingWrite>> pendingWrites = new HashMap<>();
+
+  /** upper bound of the record count the pending writes add */
+  private long pendingRecordCount = 0;
+
   /**
    * init this TsFileWriter.
    *
@@ -192,6 +211,19 @@ public class TsFileWriter implements AutoCloseable {
     }
     this.pageSize = conf.getPageSizeInByte();
     this.chunkGroupSizeThreshold = conf.getGroupSizeInByte();
+    int encodingThreadCount = conf.getChunkGroupEncodingThreadCount();
+    if (encodingThreadCount > 1) {
+      AtomicInteger threadIndex = new AtomicInteger();
+      this.encodingPool =
+          Executors.newFixedThreadPool(
+              encodingThreadCount,
+              r -> {
+                Thread thread =
+                    new Thread(r, "TsFileWriter-Encoding-" + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
     config.setTSFileStorageFs(conf.getTSFileStorageFs());
     if (this.pageSize >= chunkGroupSizeThreshold) {
       LOG.warn(
@@ -488,16 +520,30 @@ public class TsFileWriter implements AutoCloseable {
    */
   public boolean write(TSRecord record) throws IOException, WriteProcessException {
     checkIsTimeseriesExist(record, false);
-    recordCount += groupWriters.get(record.deviceId).write(record.time, record.dataPointList);
+    writeRecord(record);
     return checkMemorySizeAndMayFlushChunks();
   }
 
   public boolean writeAligned(TSRecord record) throws IOException, WriteProcessException {
     checkIsTimeseriesExist(record, true);
-    recordCount += groupWriters.get(record.deviceId).write(record.time, record.dataPointList);
+    writeRecord(record);
     return checkMemorySizeAndMayFlushChunks();
   }
 
+  private void writeRecord(TSRecord record) throws IOException, WriteProcessException {
+    if (encodingPool == null) {
+      recordCount += groupWriters.get(record.deviceId).write(record.time, record.dataPointList);
+      return;
+    }
+    // the record may be reused by the caller, its data points are kept until they are encoded
+    long time = record.time;
+    List<DataPoint> dataPoints = new ArrayList<>(record.dataPointList);
+    pendingWrites
+        .computeIfAbsent(record.deviceId, k -> new ArrayList<>())
+        .add(groupWriter -> groupWriter.write(time, dataPoints));
+    pendingRecordCount += dataPoints.isEmpty() ? 0 : 1;
+  }
+
   /**
    * write a tablet
    *
@@ -509,7 +555,7 @@ public class TsFileWriter implements AutoCloseable {
     // make sure the ChunkGroupWriter for this Tablet exist
     checkIsTimeseriesExist(tablet, false);
     // get corresponding ChunkGroupWriter and write this Tablet
-    recordCount += groupWriters.get(tablet.deviceId).write(tablet);
+    writeTablet(tablet);
     return checkMemorySizeAndMayFlushChunks();
   }
 
@@ -517,10 +563,45 @@ public class TsFileWriter implements AutoCloseable {
     // make sure the ChunkGroupWriter for this Tablet exist
     checkIsTimeseriesExist(tablet, true);
     // get corresponding ChunkGroupWriter and write this Tablet
-    recordCount += groupWriters.get(tablet.deviceId).write(tablet);
+    writeTablet(tablet);
     return checkMemorySizeAndMayFlushChunks();
   }
 
+  private void writeTablet(Tablet tablet) throws IOException, WriteProcessException {
+    if (encodingPool == null) {
+      recordCount += groupWriters.get(tablet.deviceId).write(tablet);
+      return;
+    }
+    Tablet rows = copyTablet(tablet);
+    pendingWrites
+        .computeIfAbsent(tablet.deviceId, k -> new ArrayList<>())
+        .add(groupWriter -> groupWriter.write(rows));
+    pendingRecordCount += rows.rowSize;
+  }
+
+  /** copy the rows of a tablet to be encoded later, as tablets are usually reset and reused */
+  private static Tablet copyTablet(Tablet tablet) {
+    List<MeasurementSchema> schemas = tablet.getSchemas();
+    Tablet copy = new Tablet(tablet.deviceId, schemas, tablet.rowSize);
+    System.arraycopy(tablet.timestamps, 0, copy.timestamps, 0, tablet.rowSize);
+    for (int column = 0; column < schemas.size(); column++) {
+      copy.values[column] =
+          Array.newInstance(tablet.values[column].getClass().getComponentType(), tablet.rowSize);
+      System.arraycopy(tablet.values[column], 0, copy.values[column], 0, tablet.rowSize);
+    }
+    if (tablet.bitMaps != null) {
+      copy.bitMaps = new BitMap[tablet.bitMaps.length];
+      for (int column = 0; column < tablet.bitMaps.length; column++) {
+        BitMap bitMap = tablet.bitMaps[column];
+        if (bitMap != null) {
+          copy.bitMaps[column] = new BitMap(bitMap.getSize(), bitMap.getByteArray().clone());
+        }
+      }
+    }
+    copy.rowSize = tablet.rowSize;
+    return copy;
+  }
+
   /**
    * calculate total memory size occupied by all ChunkGroupWriter instances currently.
    *
@@ -540,8 +621,16 @@ public class TsFileWriter implements AutoCloseable {
    *
    * @return true - size of tsfile or metadata reaches the threshold. false - otherwise
    * @throws IOException exception in IO
+   * @throws WriteProcessException if a pending write encoded for the check fails
    */
-  private boolean checkMemorySizeAndMayFlushChunks() throws IOException {
+  private boolean checkMemorySizeAndMayFlushChunks() throws IOException, WriteProcessException {
+    if (recordCount + pendingRecordCount < recordCountForNextMemCheck) {
+      return false;
+    }
+    if (encodingPool != null) {
+      // the memory of the chunk groups is only known once their pending writes are encoded
+      encodeChunkGroupsInParallel(false);
+    }
     if (recordCount >= recordCountForNextMemCheck) {
       long memSize = calculateMemSizeForAllGroup();
       assert memSize > 0;
@@ -566,6 +655,15 @@ public class TsFileWriter implements AutoCloseable {
    * @throws IOException exception in IO
    */
   public boolean flushAllChunkGroups() throws IOException {
+    WriteProcessException writeFailure = null;
+    if (encodingPool != null) {
+      try {
+        encodeChunkGroupsInParallel(true);
+      } catch (WriteProcessException e) {
+        // the other writes are encoded, flush them before reporting the failed one
+        writeFailure = e;
+      }
+    }
     if (recordCount > 0) {
       for (Map.Entry<String, IChunkGroupWriter> entry : groupWriters.entrySet()) {
         String deviceId = entry.getKey();
@@ -607,14 +705,108 @@ public class TsFileWriter implements AutoCloseable {
       }
       reset();
     }
+    if (writeFailure != null) {
+      throw new IOException("Failed to write buffered data", writeFailure);
+    }
     return false;
   }
 
+  /**
+   * Encode the pending writes of all chunk groups on the encoding pool, one task per chunk group,
+   * which also seals and compresses the pages the writes fill. Then the writing thread only copies
+   * the page buffers to the file writer.
+   *
+   * @param sealAllChunks whether to seal the un-sealed pages of all chunk groups as well, before
+   *     flushing them
+   * @throws IOException if encoding any chunk group fails or the thread is interrupted
+   * @throws WriteProcessException the first pending write that fails, e.g., an out-of-order one.
+   *     The other pending writes are still encoded, as a serial writer would only fail that write.
+   */
+  private void encodeChunkGroupsInParallel(boolean sealAllChunks)
+      throws IOException, WriteProcessException {
+    List<IChunkGroupWriter> groupWritersToEncode = new ArrayList<>();
+    List<List<PendingWrite>> writesToEncode = new ArrayList<>();
+    for (Map.Entry<String, IChunkGroupWriter> entry : groupWriters.entrySet()) {
+      List<PendingWrite> writes = pendingWrites.remove(entry.getKey());
+      if (writes != null || sealAllChunks) {
+        groupWritersToEncode.add(entry.getValue());
+        writesToEncode.add(writes != null ? writes : new ArrayList<>());
+      }
+    }
+    pendingRecordCount = 0;
+
+    int groupNum = groupWritersToEncode.size();
+    int[] recordCounts = new int[groupNum];
+    WriteProcessException[] writeFailures = new WriteProcessException[groupNum];
+    List<Future<?>> futures = new ArrayList<>(groupNum);
+    for (int i = 0; i < groupNum; i++) {
+      int groupIndex = i;
+      futures.add(
+          encodingPool.submit(
+              () -> {
+                IChunkGroupWriter groupWriter = groupWritersToEncode.get(groupIndex);
+                for (PendingWrite write : writesToEncode.get(groupIndex)) {
+                  try {
+                    recordCounts[groupIndex] += write.writeTo(groupWriter);
+                  } catch (WriteProcessException e) {
+                    if (writeFailures[groupIndex] == null) {
+                      writeFailures[groupIndex] = e;
+                    }
+                  }
+                }
+                if (sealAllChunks) {
+                  groupWriter.sealAllChunks();
+                }
+                return null;
+              }));
+    }
+    // wait for all the tasks even if one fails, so that no task touches a chunk group afterwards
+    Throwable failure = null;
+    boolean interrupted = false;
+    for (Future<?> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause();
+          }
+          break;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      throw new IOException("Failed to encode chunk groups", failure);
+    }
+    for (int i = 0; i < groupNum; i++) {
+      recordCount += recordCounts[i];
+    }
+    for (WriteProcessException writeFailure : writeFailures) {
+      if (writeFailure != null) {
+        throw writeFailure;
+      }
+    }
+  }
+
   private void reset() {
     groupWriters.clear();
     recordCount = 0;
   }
 
+  /** a write buffered until its chunk group is encoded on the encoding pool */
+  @FunctionalInterface
+  private interface PendingWrite {
+
+    /** @return the record count the write adds, see {@link IChunkGroupWriter#write(Tablet)} */
+    int writeTo(IChunkGroupWriter groupWriter) throws IOException, WriteProcessException;
+  }
+
   /**
    * calling this method to write the last data remaining in memory and close the normal and error
    * OutputStream.
@@ -624,8 +816,14 @@ public class TsFileWriter implements AutoCloseable {
   @Override
   public void close() throws IOException {
     LOG.info("start close file");
-    flushAllChunkGroups();
-    fileWriter.endFile();
+    try {
+      flushAllChunkGroups();
+      fileWriter.endFile();
+    } finally {
+      if (encodingPool != null) {
+        encodingPool.shutdown();
+      }
+    }
   }
 
   /**
@@ -20,11 +20,16 @@ package org.apache.iotdb.tsfile.write.chunk;
 
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.encoding.encoder.AutoEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
 import org.apache.iotdb.tsfile.encoding.encoder.SDTEncoder;
 import org.apache.iotdb.tsfile.exception.write.PageException;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
@@ -41,6 +46,8 @@ import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ChunkWriterImpl implements IChunkWriter {
 
@@ -50,6 +57,12 @@ public class ChunkWriterImpl implements IChunkWriter {
 
   private final ICompressor compressor;
 
+  /** value encoding written into the chunk header */
+  private TSEncoding encodingType;
+
+  /** not null until the first page of the current chunk selects an encoding for AUTO */
+  private AutoEncoder autoEncoder;
+
   /** all pages of this chunk. */
   private final PublicBAOS pageBuffer;
 
@@ -92,6 +105,21 @@ public class ChunkWriterImpl implements IChunkWriter {
 
   private Statistics<?> firstPageStatistics;
 
+  /** whether pages collect extended statistics, which are merged into the chunk statistics */
+  private final boolean enableExtendedStatistics;
+
+  /** bucket widths of the rollup statistics, empty if the chunks collect no rollup */
+  private final long[] rollupResolutions;
+
+  /** rollup of the points of the current chunk, null if it can not be built */
+  private RollupStatistics rollupStatistics;
+
+  /** whether pages collect an index of their values for equality filters */
+  private final boolean enablePageValueIndex;
+
+  /** value indexes of the pages of the current chunk, null if they can not be built */
+  private List<PageValueIndex> pageValueIndexes;
+
   /** @param schema schema of this measurement */
   public ChunkWriterImpl(IMeasurementSchema schema) {
     this.measurementSchema = schema;
@@ -108,14 +136,56 @@ public class ChunkWriterImpl implements IChunkWriter {
     this.statistics = Statistics.getStatsByType(measurementSchema.getType());
 
     this.pageWriter = new PageWriter(measurementSchema);
+    this.enableExtendedStatistics =
+        TSFileDescriptor.getInstance().getConfig().isEnableExtendedStatistics();
+    if (enableExtendedStatistics) {
+      pageWriter.getStatistics().enableExtendedStatistics();
+    }
+    this.rollupResolutions = TSFileDescriptor.getInstance().getConfig().getRollupResolutions();
+    initRollupStatistics();
+    this.enablePageValueIndex =
+        TSFileDescriptor.getInstance().getConfig().isEnablePageValueIndex()
+            && PageValueIndex.isSupported(measurementSchema.getType());
+    if (enablePageValueIndex) {
+      pageWriter.enableValueIndex();
+    }
+    initPageValueIndexes();
 
     this.pageWriter.setTimeEncoder(measurementSchema.getTimeEncoder());
-    this.pageWriter.setValueEncoder(measurementSchema.getValueEncoder());
+    initValueEncoder();
 
     // check if the measurement schema uses SDT
     checkSdtEncoding();
   }
 
+  private void initRollupStatistics() {
+    rollupStatistics =
+        rollupResolutions.length > 0 && RollupStatistics.isSupported(measurementSchema.getType())
+            ? new RollupStatistics(measurementSchema.getType(), rollupResolutions)
+            : null;
+    pageWriter.setRollupStatistics(rollupStatistics);
+  }
+
+  private void initPageValueIndexes() {
+    pageValueIndexes = enablePageValueIndex ? new ArrayList<>() : null;
+  }
+
+  private void initValueEncoder() {
+    Encoder valueEncoder = measurementSchema.getValueEncoder();
+    this.encodingType = measurementSchema.getEncodingType();
+    this.autoEncoder = valueEncoder instanceof AutoEncoder ? (AutoEncoder) valueEncoder : null;
+    this.pageWriter.setValueEncoder(valueEncoder);
+  }
+
+  /** switch to the encoding that AUTO selected on the first page of the chunk */
+  private void checkAutoEncodingSelected() {
+    if (autoEncoder != null && autoEncoder.getSelectedEncoding() != null) {
+      encodingType = autoEncoder.getSelectedEncoding();
+      pageWriter.setValueEncoder(autoEncoder.getSelectedEncoder());
+      autoEncoder = null;
+    }
+  }
+
   public ChunkWriterImpl(IMeasurementSchema schema, boolean isMerging) {
     this(schema);
     this.isMerging = isMerging;
@@ -298,11 +368,18 @@ public class ChunkWriterImpl implements IChunkWriter {
       // update statistics of this chunk
       numOfPages++;
       this.statistics.mergeStatistics(pageWriter.getStatistics());
+      if (pageValueIndexes != null) {
+        pageValueIndexes.add(pageWriter.getValueIndex());
+      }
+      checkAutoEncodingSelected();
     } catch (IOException e) {
       logger.error("meet error in pageWriter.writePageHeaderAndDataIntoBuff,ignore this page:", e);
     } finally {
       // clear start time stamp for next initializing
       pageWriter.reset(measurementSchema);
+      if (enableExtendedStatistics) {
+        pageWriter.getStatistics().enableExtendedStatistics();
+      }
     }
   }
 
@@ -316,6 +393,14 @@ public class ChunkWriterImpl implements IChunkWriter {
     numOfPages = 0;
     firstPageStatistics = null;
     this.statistics = Statistics.getStatsByType(measurementSchema.getType());
+    if (pageWriter != null) {
+      initRollupStatistics();
+    }
+    initPageValueIndexes();
+    // sample the first page of the next chunk again
+    if (measurementSchema.getEncodingType() == TSEncoding.AUTO && pageWriter != null) {
+      initValueEncoder();
+    }
   }
 
   @Override
@@ -391,6 +476,15 @@ public class ChunkWriterImpl implements IChunkWriter {
           pageBuffer.size());
 
       statistics.mergeStatistics(header.getStatistics());
+      // the points of a copied page are unknown, so it must fit into one bucket of the rollup
+      if (rollupStatistics != null && !rollupStatistics.mergeStatistics(header.getStatistics())) {
+        rollupStatistics = null;
+        if (pageWriter != null) {
+          pageWriter.setRollupStatistics(null);
+        }
+      }
+      // the values of a copied page are unknown
+      pageValueIndexes = null;
 
     } catch (IOException e) {
       throw new PageException("IO Exception in writeDataPageHeader,ignore this page", e);
@@ -422,11 +516,17 @@ public class ChunkWriterImpl implements IChunkWriter {
         measurementSchema.getMeasurementId(),
         compressor.getType(),
         measurementSchema.getType(),
-        measurementSchema.getEncodingType(),
+        encodingType,
         statistics,
         pageBuffer.size(),
         numOfPages,
         0);
+    if (rollupStatistics != null) {
+      writer.setCurrentChunkRollupStatistics(rollupStatistics);
+    }
+    if (pageValueIndexes != null) {
+      writer.setCurrentChunkPageValueIndexes(pageValueIndexes);
+    }
 
     long dataOffset = writer.getPos();
 
@@ -62,6 +62,13 @@ public interface IChunkGroupWriter {
    */
   long flushToFileWriter(TsFileIOWriter tsfileWriter) throws IOException;
 
+  /**
+   * encode and compress the un-sealed pages of all chunks into their page buffers. It only touches
+   * the state of this chunk group, so different chunk groups can be sealed concurrently before they
+   * are flushed one by one.
+   */
+  void sealAllChunks();
+
   /**
    * get the max memory occupied at this time. Note that, this method should be called after running
    * {@code long calcAllocatedSize()}
@@ -21,6 +21,7 @@ package org.apache.iotdb.tsfile.write.chunk;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.common.constant.TsFileConstant;
 import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.encoding.encoder.AutoEncoder;
 import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
@@ -45,7 +46,12 @@ public class ValueChunkWriter {
 
   private final String measurementId;
 
-  private final TSEncoding encodingType;
+  private TSEncoding encodingType;
+
+  /** not null until the first page of the current chunk selects an encoding for AUTO */
+  private AutoEncoder autoEncoder;
+
+  private final boolean isAutoEncoding;
 
   private final TSDataType dataType;
 
@@ -99,6 +105,17 @@ public class ValueChunkWriter {
 
     this.pageWriter =
         new ValuePageWriter(valueEncoder, ICompressor.getCompressor(compressionType), dataType);
+    this.autoEncoder = valueEncoder instanceof AutoEncoder ? (AutoEncoder) valueEncoder : null;
+    this.isAutoEncoding = encodingType == TSEncoding.AUTO;
+  }
+
+  /** switch to the encoding that AUTO selected on the first non-null page of the chunk */
+  private void checkAutoEncodingSelected() {
+    if (autoEncoder != null && autoEncoder.getSelectedEncoding() != null) {
+      encodingType = autoEncoder.getSelectedEncoding();
+      pageWriter.setValueEncoder(autoEncoder.getSelectedEncoder());
+      autoEncoder = null;
+    }
   }
 
   public void write(long time, long value, boolean isNull) {
@@ -179,6 +196,7 @@ public class ValueChunkWriter {
       // update statistics of this chunk
       numOfPages++;
       this.statistics.mergeStatistics(pageWriter.getStatistics());
+      checkAutoEncodingSelected();
     } catch (IOException e) {
       logger.error("meet error in pageWriter.writePageHeaderAndDataIntoBuff,ignore this page:", e);
     } finally {
@@ -196,6 +214,12 @@ public class ValueChunkWriter {
     numOfPages = 0;
     firstPageStatistics = null;
     this.statistics = Statistics.getStatsByType(dataType);
+    // sample the first page of the next chunk again
+    if (isAutoEncoding && pageWriter != null) {
+      encodingType = TSEncoding.AUTO;
+      autoEncoder = new AutoEncoder(dataType);
+      pageWriter.setValueEncoder(autoEncoder);
+    }
   }
 
   public long estimateMaxSeriesMemSize() {
@@ -290,7 +314,8 @@ public class ValueChunkWriter {
           measurementId,
           compressionType,
           dataType,
-          encodingType,
+          // AUTO has nothing to sample in an empty chunk
+          encodingType == TSEncoding.AUTO ? TSEncoding.PLAIN : encodingType,
           statistics,
           0,
           0,
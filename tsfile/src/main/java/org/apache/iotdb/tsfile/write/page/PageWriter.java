@@ -22,8 +22,12 @@ import org.apache.iotdb.tsfile.compress.ICompressor;
 import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool.PooledBuffer;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 import org.apache.iotdb.tsfile.write.schema.IMeasurementSchema;
@@ -60,6 +64,12 @@ public class PageWriter {
    */
   private Statistics<? extends Serializable> statistics;
 
+  /** rollup of the chunk this page belongs to, which is kept when the page is reset */
+  private RollupStatistics rollupStatistics;
+
+  /** distinct values of current page, null if the page value index is not enabled */
+  private PageValueIndex.Builder valueIndexBuilder;
+
   public PageWriter() {
     this(null, null);
   }
@@ -82,6 +92,9 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
   }
 
   /** write a time value pair into encoder */
@@ -89,6 +102,9 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
   }
 
   /** write a time value pair into encoder */
@@ -96,6 +112,12 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.update(value);
+    }
   }
 
   /** write a time value pair into encoder */
@@ -103,6 +125,12 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.update(value);
+    }
   }
 
   /** write a time value pair into encoder */
@@ -110,6 +138,9 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
   }
 
   /** write a time value pair into encoder */
@@ -117,6 +148,9 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
   }
 
   /** write a time value pair into encoder */
@@ -124,6 +158,12 @@ public class PageWriter {
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(time, value);
+    }
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.update(value);
+    }
   }
 
   /** write time series into encoder */
@@ -133,6 +173,9 @@ public class PageWriter {
       valueEncoder.encode(values[i], valueOut);
     }
     statistics.update(timestamps, values, batchSize);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(timestamps, values, batchSize);
+    }
   }
 
   /** write time series into encoder */
@@ -142,6 +185,12 @@ public class PageWriter {
       valueEncoder.encode(values[i], valueOut);
     }
     statistics.update(timestamps, values, batchSize);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(timestamps, values, batchSize);
+    }
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.update(values, batchSize);
+    }
   }
 
   /** write time series into encoder */
@@ -151,6 +200,12 @@ public class PageWriter {
       valueEncoder.encode(values[i], valueOut);
     }
     statistics.update(timestamps, values, batchSize);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(timestamps, values, batchSize);
+    }
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.update(values, batchSize);
+    }
   }
 
   /** write time series into encoder */
@@ -160,6 +215,9 @@ public class PageWriter {
       valueEncoder.encode(values[i], valueOut);
     }
     statistics.update(timestamps, values, batchSize);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(timestamps, values, batchSize);
+    }
   }
 
   /** write time series into encoder */
@@ -169,6 +227,9 @@ public class PageWriter {
       valueEncoder.encode(values[i], valueOut);
     }
     statistics.update(timestamps, values, batchSize);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(timestamps, values, batchSize);
+    }
   }
 
   /** write time series into encoder */
@@ -178,6 +239,12 @@ public class PageWriter {
       valueEncoder.encode(values[i], valueOut);
     }
     statistics.update(timestamps, values, batchSize);
+    if (rollupStatistics != null) {
+      rollupStatistics.update(timestamps, values, batchSize);
+    }
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.update(values, batchSize);
+    }
   }
 
   /** flush all data remained in encoders. */
@@ -194,12 +261,22 @@ public class PageWriter {
    */
   public ByteBuffer getUncompressedBytes() throws IOException {
     prepareEndWriteOnePage();
-    ByteBuffer buffer = ByteBuffer.allocate(timeOut.size() + valueOut.size() + 4);
+    ByteBuffer buffer = ByteBuffer.allocate(getMaxUncompressedSize());
+    putUncompressedBytes(buffer);
+    return buffer;
+  }
+
+  /** @return upper bound of the uncompressed page size, only valid after flushing the encoders */
+  private int getMaxUncompressedSize() {
+    return timeOut.size() + valueOut.size() + 4;
+  }
+
+  /** put the uncompressed page into buffer and flip it. */
+  private void putUncompressedBytes(ByteBuffer buffer) {
     ReadWriteForEncodingUtils.writeUnsignedVarInt(timeOut.size(), buffer);
     buffer.put(timeOut.getBuf(), 0, timeOut.size());
     buffer.put(valueOut.getBuf(), 0, valueOut.size());
     buffer.flip();
-    return buffer;
   }
 
   /** write the page header and data into the PageWriter's output stream. */
@@ -209,23 +286,37 @@ public class PageWriter {
       return 0;
     }
 
-    ByteBuffer pageData = getUncompressedBytes();
-    int uncompressedSize = pageData.remaining();
+    prepareEndWriteOnePage();
+    ByteBuffer pageData = null;
+    PooledBuffer compressedPage = null;
+    int uncompressedSize;
     int compressedSize;
     byte[] compressedBytes = null;
 
-    if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
-      compressedSize = uncompressedSize;
-    } else if (compressor.getType().equals(CompressionType.GZIP)) {
-      compressedBytes =
-          compressor.compress(pageData.array(), pageData.position(), uncompressedSize);
-      compressedSize = compressedBytes.length;
+    if (PooledPageCompression.isEnabled(compressor, getMaxUncompressedSize())) {
+      PooledBuffer uncompressedPage =
+          DirectBufferPool.getInstance().allocate(getMaxUncompressedSize());
+      putUncompressedBytes(uncompressedPage.getBuffer());
+      uncompressedSize = uncompressedPage.getBuffer().remaining();
+      compressedPage = PooledPageCompression.compress(compressor, uncompressedPage);
+      compressedSize = compressedPage.getBuffer().remaining();
     } else {
-      compressedBytes = new byte[compressor.getMaxBytesForCompression(uncompressedSize)];
-      // data is never a directByteBuffer now, so we can use data.array()
-      compressedSize =
-          compressor.compress(
-              pageData.array(), pageData.position(), uncompressedSize, compressedBytes);
+      pageData = ByteBuffer.allocate(getMaxUncompressedSize());
+      putUncompressedBytes(pageData);
+      uncompressedSize = pageData.remaining();
+      if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
+        compressedSize = uncompressedSize;
+      } else if (compressor.getType().equals(CompressionType.GZIP)) {
+        compressedBytes =
+            compressor.compress(pageData.array(), pageData.position(), uncompressedSize);
+        compressedSize = compressedBytes.length;
+      } else {
+        compressedBytes = new byte[compressor.getMaxBytesForCompression(uncompressedSize)];
+        // pageData is never a directByteBuffer here, so we can use data.array()
+        compressedSize =
+            compressor.compress(
+                pageData.array(), pageData.position(), uncompressedSize, compressedBytes);
+      }
     }
 
     // write the page header to IOWriter
@@ -243,7 +334,10 @@ public class PageWriter {
 
     // write page content to temp PBAOS
     logger.trace("start to flush a page data into buffer, buffer position {} ", pageBuffer.size());
-    if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
+    if (compressedPage != null) {
+      pageBuffer.write(compressedPage.getBuffer());
+      compressedPage.release();
+    } else if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
       try (WritableByteChannel channel = Channels.newChannel(pageBuffer)) {
         channel.write(pageData);
       }
@@ -272,6 +366,25 @@ public class PageWriter {
     timeOut.reset();
     valueOut.reset();
     statistics = Statistics.getStatsByType(measurementSchema.getType());
+    if (valueIndexBuilder != null) {
+      valueIndexBuilder.reset();
+    }
+  }
+
+  public void setRollupStatistics(RollupStatistics rollupStatistics) {
+    this.rollupStatistics = rollupStatistics;
+  }
+
+  /** collect the distinct values of each page, if the data type is supported */
+  public void enableValueIndex() {
+    if (PageValueIndex.isSupported(statistics.getType())) {
+      valueIndexBuilder = new PageValueIndex.Builder(statistics.getType());
+    }
+  }
+
+  /** @return the index of the values of current page, or null if they are not collected */
+  public PageValueIndex getValueIndex() {
+    return valueIndexBuilder == null ? null : valueIndexBuilder.build();
   }
 
   public void setTimeEncoder(Encoder encoder) {
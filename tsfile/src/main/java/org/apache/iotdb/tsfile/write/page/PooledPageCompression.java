@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write.page;
+
+import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool.PooledBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compression of a page through buffers of {@link DirectBufferPool}, which saves allocating an
+ * uncompressed and a compressed heap buffer for every page written.
+ */
+final class PooledPageCompression {
+
+  private PooledPageCompression() {}
+
+  /**
+   * @return whether a page of at most maxUncompressedSize bytes can be compressed through pooled
+   *     buffers, which needs a compressor working on direct buffers
+   */
+  static boolean isEnabled(ICompressor compressor, int maxUncompressedSize) {
+    switch (compressor.getType()) {
+      case SNAPPY:
+      case LZ4:
+      case ZSTD:
+        return DirectBufferPool.getInstance()
+            .canPool(compressor.getMaxBytesForCompression(maxUncompressedSize));
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @param uncompressedPage the page to compress, from its position to its limit, which is released
+   * @return the compressed page from position 0 to the limit, which the caller must release
+   */
+  static PooledBuffer compress(ICompressor compressor, PooledBuffer uncompressedPage)
+      throws IOException {
+    try {
+      ByteBuffer uncompressed = uncompressedPage.getBuffer();
+      PooledBuffer compressedPage =
+          DirectBufferPool.getInstance()
+              .allocate(compressor.getMaxBytesForCompression(uncompressed.remaining()));
+      try {
+        ByteBuffer compressed = compressedPage.getBuffer();
+        int compressedSize = compressor.compress(uncompressed, compressed);
+        compressed.clear();
+        compressed.limit(compressedSize);
+        return compressedPage;
+      } catch (IOException | RuntimeException e) {
+        compressedPage.release();
+        throw e;
+      }
+    } finally {
+      uncompressedPage.release();
+    }
+  }
+}
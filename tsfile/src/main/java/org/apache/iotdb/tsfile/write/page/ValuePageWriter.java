@@ -24,6 +24,8 @@ import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool.PooledBuffer;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 
@@ -211,12 +213,22 @@ public class ValuePageWriter {
    */
   public ByteBuffer getUncompressedBytes() throws IOException {
     prepareEndWriteOnePage();
-    ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bitmapOut.size() + valueOut.size());
+    ByteBuffer buffer = ByteBuffer.allocate(getMaxUncompressedSize());
+    putUncompressedBytes(buffer);
+    return buffer;
+  }
+
+  /** @return upper bound of the uncompressed page size, only valid after flushing the encoders */
+  private int getMaxUncompressedSize() {
+    return Integer.BYTES + bitmapOut.size() + valueOut.size();
+  }
+
+  /** put the uncompressed page into buffer and flip it. */
+  private void putUncompressedBytes(ByteBuffer buffer) {
     buffer.putInt(size);
     buffer.put(bitmapOut.getBuf(), 0, bitmapOut.size());
     buffer.put(valueOut.getBuf(), 0, valueOut.size());
     buffer.flip();
-    return buffer;
   }
 
   public int writeEmptyPageIntoBuff(PublicBAOS pageBuffer) {
@@ -233,23 +245,37 @@ public class ValuePageWriter {
       return writeEmptyPageIntoBuff(pageBuffer);
     }
 
-    ByteBuffer pageData = getUncompressedBytes();
-    int uncompressedSize = pageData.remaining();
+    prepareEndWriteOnePage();
+    ByteBuffer pageData = null;
+    PooledBuffer compressedPage = null;
+    int uncompressedSize;
     int compressedSize;
     byte[] compressedBytes = null;
 
-    if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
-      compressedSize = uncompressedSize;
-    } else if (compressor.getType().equals(CompressionType.GZIP)) {
-      compressedBytes =
-          compressor.compress(pageData.array(), pageData.position(), uncompressedSize);
-      compressedSize = compressedBytes.length;
+    if (PooledPageCompression.isEnabled(compressor, getMaxUncompressedSize())) {
+      PooledBuffer uncompressedPage =
+          DirectBufferPool.getInstance().allocate(getMaxUncompressedSize());
+      putUncompressedBytes(uncompressedPage.getBuffer());
+      uncompressedSize = uncompressedPage.getBuffer().remaining();
+      compressedPage = PooledPageCompression.compress(compressor, uncompressedPage);
+      compressedSize = compressedPage.getBuffer().remaining();
     } else {
-      compressedBytes = new byte[compressor.getMaxBytesForCompression(uncompressedSize)];
-      // data is never a directByteBuffer now, so we can use data.array()
-      compressedSize =
-          compressor.compress(
-              pageData.array(), pageData.position(), uncompressedSize, compressedBytes);
+      pageData = ByteBuffer.allocate(getMaxUncompressedSize());
+      putUncompressedBytes(pageData);
+      uncompressedSize = pageData.remaining();
+      if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
+        compressedSize = uncompressedSize;
+      } else if (compressor.getType().equals(CompressionType.GZIP)) {
+        compressedBytes =
+            compressor.compress(pageData.array(), pageData.position(), uncompressedSize);
+        compressedSize = compressedBytes.length;
+      } else {
+        compressedBytes = new byte[compressor.getMaxBytesForCompression(uncompressedSize)];
+        // pageData is never a directByteBuffer here, so we can use data.array()
+        compressedSize =
+            compressor.compress(
+                pageData.array(), pageData.position(), uncompressedSize, compressedBytes);
+      }
     }
 
     // write the page header to IOWriter
@@ -267,7 +293,10 @@ public class ValuePageWriter {
 
     // write page content to temp PBAOS
     logger.trace("start to flush a page data into buffer, buffer position {} ", pageBuffer.size());
-    if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
+    if (compressedPage != null) {
+      pageBuffer.write(compressedPage.getBuffer());
+      compressedPage.release();
+    } else if (compressor.getType().equals(CompressionType.UNCOMPRESSED)) {
       try (WritableByteChannel channel = Channels.newChannel(pageBuffer)) {
         channel.write(pageData);
       }
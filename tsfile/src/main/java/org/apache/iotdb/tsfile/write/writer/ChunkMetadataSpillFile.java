@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write.writer;
+
+import org.apache.iotdb.tsfile.file.metadata.ChunkGroupMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.ExtendedStatistics;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * A temporary file holding the chunk metadata that a {@link TsFileIOWriter} spilled to cap its
+ * memory. Each spill appends a run of series records sorted by device and measurement, so that the
+ * runs can be merged into series order again when the metadata index is built.
+ *
+ * <p>A series record is [int length][device][measurement][int chunk count][chunks], and a chunk is
+ * [data type][mask][offset][statistics][flags][extended statistics][rollup][page value indexes],
+ * where the flags tell which of the last three follow.
+ */
+class ChunkMetadataSpillFile implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChunkMetadataSpillFile.class);
+
+  static final String CHUNK_METADATA_SPILL_FILE_SUFFIX = ".meta";
+
+  private static final byte EXTENDED_STATISTICS_FLAG = 1;
+  private static final byte ROLLUP_STATISTICS_FLAG = 2;
+  private static final byte PAGE_VALUE_INDEX_FLAG = 4;
+
+  private final File file;
+  private long position = 0;
+  // [start, end) of each run in the file, in spill order
+  private final List<long[]> runs = new ArrayList<>();
+
+  ChunkMetadataSpillFile(File file) throws IOException {
+    this.file = file;
+    Files.deleteIfExists(file.toPath());
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  /**
+   * Delete the spill file that a writer of the given TsFile left when it crashed. The chunk
+   * metadata in it is rebuilt from the chunks when the TsFile is recovered, so it is never read
+   * again.
+   */
+  static void deleteStaleFile(File tsFile) throws IOException {
+    File staleFile = new File(tsFile.getPath() + CHUNK_METADATA_SPILL_FILE_SUFFIX);
+    if (Files.deleteIfExists(staleFile.toPath())) {
+      logger.info("deleted the stale chunk metadata spill file {}", staleFile);
+    }
+  }
+
+  /**
+   * append the given chunk metadata as a new run. Chunks of a series keep their order in the list.
+   *
+   * @return bytes appended
+   */
+  long spill(List<ChunkGroupMetadata> chunkGroupMetadataList) throws IOException {
+    Map<String, Map<String, List<ChunkMetadata>>> sortedChunkMetadata = new TreeMap<>();
+    for (ChunkGroupMetadata chunkGroupMetadata : chunkGroupMetadataList) {
+      Map<String, List<ChunkMetadata>> deviceChunkMetadata =
+          sortedChunkMetadata.computeIfAbsent(chunkGroupMetadata.getDevice(), k -> new TreeMap<>());
+      for (ChunkMetadata chunkMetadata : chunkGroupMetadata.getChunkMetadataList()) {
+        deviceChunkMetadata
+            .computeIfAbsent(chunkMetadata.getMeasurementUid(), k -> new ArrayList<>())
+            .add(chunkMetadata);
+      }
+    }
+
+    long start = position;
+    PublicBAOS record = new PublicBAOS();
+    try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file, true))) {
+      for (Map.Entry<String, Map<String, List<ChunkMetadata>>> deviceEntry :
+          sortedChunkMetadata.entrySet()) {
+        for (Map.Entry<String, List<ChunkMetadata>> seriesEntry :
+            deviceEntry.getValue().entrySet()) {
+          record.reset();
+          ReadWriteIOUtils.write(deviceEntry.getKey(), record);
+          ReadWriteIOUtils.write(seriesEntry.getKey(), record);
+          ReadWriteIOUtils.write(seriesEntry.getValue().size(), record);
+          for (ChunkMetadata chunkMetadata : seriesEntry.getValue()) {
+            serializeChunkMetadata(chunkMetadata, record);
+          }
+          position += ReadWriteIOUtils.write(record.size(), outputStream);
+          outputStream.write(record.getBuf(), 0, record.size());
+          position += record.size();
+        }
+      }
+    }
+    runs.add(new long[] {start, position});
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "spilled {} bytes of chunk metadata to {} as run {}",
+          position - start,
+          file,
+          runs.size());
+    }
+    return position - start;
+  }
+
+  boolean isEmpty() {
+    return runs.isEmpty();
+  }
+
+  /** @return number of distinct series in all the runs */
+  int countSeries() throws IOException {
+    int count = 0;
+    try (SeriesIterator iterator = iterator()) {
+      while (iterator.hasNext()) {
+        iterator.skip();
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** @return an iterator merging the runs into series sorted by device and measurement */
+  SeriesIterator iterator() throws IOException {
+    return new SeriesIterator();
+  }
+
+  /** delete the file */
+  @Override
+  public void close() throws IOException {
+    runs.clear();
+    position = 0;
+    Files.deleteIfExists(file.toPath());
+  }
+
+  private static void serializeChunkMetadata(ChunkMetadata chunkMetadata, OutputStream out)
+      throws IOException {
+    Statistics<?> statistics = chunkMetadata.getStatistics();
+    ReadWriteIOUtils.write(chunkMetadata.getDataType(), out);
+    ReadWriteIOUtils.write(chunkMetadata.getMask(), out);
+    ReadWriteIOUtils.write(chunkMetadata.getOffsetOfChunkHeader(), out);
+    statistics.serialize(out);
+    byte flags =
+        (byte)
+            ((statistics.getExtendedStatistics() != null ? EXTENDED_STATISTICS_FLAG : 0)
+                | (chunkMetadata.getRollupStatistics() != null ? ROLLUP_STATISTICS_FLAG : 0)
+                | (chunkMetadata.getPageValueIndexes() != null ? PAGE_VALUE_INDEX_FLAG : 0));
+    ReadWriteIOUtils.write(flags, out);
+    if (statistics.getExtendedStatistics() != null) {
+      statistics.getExtendedStatistics().serialize(out);
+    }
+    if (chunkMetadata.getRollupStatistics() != null) {
+      chunkMetadata.getRollupStatistics().serialize(out);
+    }
+    if (chunkMetadata.getPageValueIndexes() != null) {
+      PageValueIndex.serialize(chunkMetadata.getPageValueIndexes(), out);
+    }
+  }
+
+  private static ChunkMetadata deserializeChunkMetadata(String measurement, ByteBuffer buffer) {
+    TSDataType dataType = ReadWriteIOUtils.readDataType(buffer);
+    byte mask = ReadWriteIOUtils.readByte(buffer);
+    long offset = ReadWriteIOUtils.readLong(buffer);
+    Statistics<?> statistics = Statistics.deserialize(buffer, dataType);
+    byte flags = ReadWriteIOUtils.readByte(buffer);
+    if ((flags & EXTENDED_STATISTICS_FLAG) != 0) {
+      statistics.setExtendedStatistics(ExtendedStatistics.deserialize(buffer));
+    }
+    ChunkMetadata chunkMetadata = new ChunkMetadata(measurement, dataType, offset, statistics);
+    chunkMetadata.setMask(mask);
+    if ((flags & ROLLUP_STATISTICS_FLAG) != 0) {
+      chunkMetadata.setRollupStatistics(RollupStatistics.deserialize(buffer, dataType));
+    }
+    if ((flags & PAGE_VALUE_INDEX_FLAG) != 0) {
+      chunkMetadata.setPageValueIndexes(PageValueIndex.deserialize(buffer, dataType));
+    }
+    return chunkMetadata;
+  }
+
+  /** The next series record of a run. */
+  private static class RunCursor {
+
+    private final int runIndex;
+    private final DataInputStream inputStream;
+    private long remaining;
+
+    private String device;
+    private String measurement;
+    private ByteBuffer chunks;
+
+    private RunCursor(File file, int runIndex, long start, long end) throws IOException {
+      this.runIndex = runIndex;
+      FileInputStream fileInputStream = new FileInputStream(file);
+      fileInputStream.getChannel().position(start);
+      this.inputStream = new DataInputStream(new BufferedInputStream(fileInputStream));
+      this.remaining = end - start;
+    }
+
+    /** @return false if the run is exhausted */
+    private boolean advance() throws IOException {
+      if (remaining == 0) {
+        return false;
+      }
+      byte[] record = new byte[inputStream.readInt()];
+      inputStream.readFully(record);
+      remaining -= Integer.BYTES + record.length;
+      chunks = ByteBuffer.wrap(record);
+      device = ReadWriteIOUtils.readString(chunks);
+      measurement = ReadWriteIOUtils.readString(chunks);
+      return true;
+    }
+  }
+
+  /**
+   * Merges the runs of the file. Chunks of a series spilled in several runs are concatenated in
+   * spill order, which is the order they were written in.
+   */
+  class SeriesIterator implements Closeable {
+
+    private final List<RunCursor> cursors = new ArrayList<>();
+    private final PriorityQueue<RunCursor> heap =
+        new PriorityQueue<>(
+            Comparator.comparing((RunCursor cursor) -> cursor.device)
+                .thenComparing(cursor -> cursor.measurement)
+                .thenComparingInt(cursor -> cursor.runIndex));
+
+    private SeriesIterator() throws IOException {
+      try {
+        for (int i = 0; i < runs.size(); i++) {
+          RunCursor cursor = new RunCursor(file, i, runs.get(i)[0], runs.get(i)[1]);
+          cursors.add(cursor);
+          if (cursor.advance()) {
+            heap.add(cursor);
+          }
+        }
+      } catch (IOException e) {
+        close();
+        throw e;
+      }
+    }
+
+    boolean hasNext() {
+      return !heap.isEmpty();
+    }
+
+    /** @return device of the next series */
+    String peekDevice() {
+      return heap.peek().device;
+    }
+
+    /** @return chunk metadata of the next series, in the order they were written */
+    List<IChunkMetadata> next() throws IOException {
+      List<IChunkMetadata> chunkMetadataList = new ArrayList<>();
+      String device = heap.peek().device;
+      String measurement = heap.peek().measurement;
+      while (!heap.isEmpty()
+          && heap.peek().device.equals(device)
+          && heap.peek().measurement.equals(measurement)) {
+        RunCursor cursor = heap.poll();
+        int chunkCount = ReadWriteIOUtils.readInt(cursor.chunks);
+        for (int i = 0; i < chunkCount; i++) {
+          chunkMetadataList.add(deserializeChunkMetadata(measurement, cursor.chunks));
+        }
+        if (cursor.advance()) {
+          heap.add(cursor);
+        }
+      }
+      return chunkMetadataList;
+    }
+
+    /** skip the next series */
+    void skip() throws IOException {
+      String device = heap.peek().device;
+      String measurement = heap.peek().measurement;
+      while (!heap.isEmpty()
+          && heap.peek().device.equals(device)
+          && heap.peek().measurement.equals(measurement)) {
+        RunCursor cursor = heap.poll();
+        if (cursor.advance()) {
+          heap.add(cursor);
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      heap.clear();
+      for (RunCursor cursor : cursors) {
+        cursor.inputStream.close();
+      }
+    }
+  }
+}
@@ -66,8 +66,18 @@ public class LocalTsFileOutput extends OutputStream implements TsFileOutput {
 
   @Override
   public synchronized void write(ByteBuffer b) throws IOException {
-    bufferedStream.write(b.array());
-    position += b.array().length;
+    if (b.hasArray()) {
+      bufferedStream.write(b.array());
+      position += b.array().length;
+    } else {
+      // e.g. a chunk sliced from a memory-mapped file, write the whole buffer like an array
+      ByteBuffer data = b.duplicate();
+      data.clear();
+      byte[] bytes = new byte[data.remaining()];
+      data.get(bytes);
+      bufferedStream.write(bytes);
+      position += bytes.length;
+    }
   }
 
   @Override
@@ -84,6 +84,7 @@ public class RestorableTsFileIOWriter extends TsFileIOWriter {
     }
     this.file = file;
     this.out = FSFactoryProducer.getFileOutputFactory().getTsFileOutput(file.getPath(), true);
+    ChunkMetadataSpillFile.deleteStaleFile(file);
 
     // file doesn't exist
     if (file.length() == 0) {
@@ -25,6 +25,7 @@ import org.apache.iotdb.tsfile.file.header.ChunkGroupHeader;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.metadata.ChunkGroupMetadata;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkTimeIndex;
 import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.MetadataIndexConstructor;
 import org.apache.iotdb.tsfile.file.metadata.MetadataIndexNode;
@@ -33,10 +34,13 @@ import org.apache.iotdb.tsfile.file.metadata.TsFileMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.PageValueIndex;
+import org.apache.iotdb.tsfile.file.metadata.statistics.RollupStatistics;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
 import org.apache.iotdb.tsfile.read.common.Chunk;
 import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.BloomFilter;
 import org.apache.iotdb.tsfile.utils.BytesUtils;
 import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
@@ -47,6 +51,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -93,6 +98,12 @@ public class TsFileIOWriter implements AutoCloseable {
   private long minPlanIndex;
   private long maxPlanIndex;
 
+  // chunk metadata in chunkGroupMetadataList is spilled to a temporary file once its estimated
+  // size exceeds this, 0 means never
+  private long maxChunkMetadataSize;
+  private long chunkMetadataSize;
+  private ChunkMetadataSpillFile chunkMetadataSpillFile;
+
   /** empty construct function. */
   protected TsFileIOWriter() {}
 
@@ -111,6 +122,22 @@ public class TsFileIOWriter implements AutoCloseable {
     startFile();
   }
 
+  /**
+   * for writing a new tsfile whose chunk metadata may not fit in memory. Once the chunk metadata of
+   * the flushed chunk groups exceeds maxChunkMetadataSize, it is spilled to a temporary file beside
+   * the tsfile and merged back at {@link #endFile()}. Methods reading the chunk metadata in memory,
+   * e.g. {@link #getDeviceChunkMetadataMap()}, then only see the part not spilled yet, and {@link
+   * #getDeviceTimeseriesMetadataMap()} is not filled.
+   *
+   * @param file be used to output written data
+   * @param maxChunkMetadataSize estimated bytes of chunk metadata kept in memory, 0 means no limit
+   * @throws IOException if I/O error occurs
+   */
+  public TsFileIOWriter(File file, long maxChunkMetadataSize) throws IOException {
+    this(file);
+    this.maxChunkMetadataSize = maxChunkMetadataSize;
+  }
+
   /**
    * for writing a new tsfile.
    *
@@ -164,6 +191,20 @@ public class TsFileIOWriter implements AutoCloseable {
     currentChunkGroupDeviceId = null;
     chunkMetadataList = null;
     out.flush();
+    if (maxChunkMetadataSize > 0 && chunkMetadataSize > maxChunkMetadataSize) {
+      spillChunkMetadata();
+    }
+  }
+
+  private void spillChunkMetadata() throws IOException {
+    if (chunkMetadataSpillFile == null) {
+      chunkMetadataSpillFile =
+          new ChunkMetadataSpillFile(
+              new File(file.getPath() + ChunkMetadataSpillFile.CHUNK_METADATA_SPILL_FILE_SUFFIX));
+    }
+    chunkMetadataSpillFile.spill(chunkGroupMetadataList);
+    chunkGroupMetadataList = new ArrayList<>();
+    chunkMetadataSize = 0;
   }
 
   /**
@@ -234,8 +275,24 @@ public class TsFileIOWriter implements AutoCloseable {
     }
   }
 
+  /**
+   * attach the rollup of the points of the chunk being flushed, which is merged into the rollup of
+   * its series at {@link #endFile()}.
+   */
+  public void setCurrentChunkRollupStatistics(RollupStatistics rollupStatistics) {
+    currentChunkMetadata.setRollupStatistics(rollupStatistics);
+  }
+
+  /** attach the indexes of the values of the pages of the chunk being flushed, in page order */
+  public void setCurrentChunkPageValueIndexes(List<PageValueIndex> pageValueIndexes) {
+    currentChunkMetadata.setPageValueIndexes(pageValueIndexes);
+  }
+
   /** end chunk and write some log. */
   public void endCurrentChunk() {
+    if (maxChunkMetadataSize > 0) {
+      chunkMetadataSize += currentChunkMetadata.calculateRamSize();
+    }
     chunkMetadataList.add(currentChunkMetadata);
     currentChunkMetadata = null;
   }
@@ -252,18 +309,35 @@ public class TsFileIOWriter implements AutoCloseable {
     // serialize the SEPARATOR of MetaData
     ReadWriteIOUtils.write(MetaMarker.SEPARATOR, out.wrapAsStream());
 
-    // group ChunkMetadata by series
-    Map<Path, List<IChunkMetadata>> chunkMetadataListMap = new TreeMap<>();
+    MetadataIndexNode metadataIndex;
+    BloomFilter filter;
+    if (chunkMetadataSpillFile != null) {
+      // merge the rest with the spilled chunk metadata, which is read back series by series
+      if (!chunkGroupMetadataList.isEmpty()) {
+        spillChunkMetadata();
+      }
+      filter = TsFileMetadata.getEmptyBloomFilter(chunkMetadataSpillFile.countSeries());
+      metadataIndex = flushSpilledMetadataIndex(filter);
+      chunkMetadataSpillFile.close();
+      chunkMetadataSpillFile = null;
+    } else {
+      // group ChunkMetadata by series
+      Map<Path, List<IChunkMetadata>> chunkMetadataListMap = new TreeMap<>();
+
+      for (ChunkGroupMetadata chunkGroupMetadata : chunkGroupMetadataList) {
+        List<ChunkMetadata> chunkMetadatas = chunkGroupMetadata.getChunkMetadataList();
+        for (IChunkMetadata chunkMetadata : chunkMetadatas) {
+          Path series = new Path(chunkGroupMetadata.getDevice(), chunkMetadata.getMeasurementUid());
+          chunkMetadataListMap.computeIfAbsent(series, k -> new ArrayList<>()).add(chunkMetadata);
+        }
+      }
 
-    for (ChunkGroupMetadata chunkGroupMetadata : chunkGroupMetadataList) {
-      List<ChunkMetadata> chunkMetadatas = chunkGroupMetadata.getChunkMetadataList();
-      for (IChunkMetadata chunkMetadata : chunkMetadatas) {
-        Path series = new Path(chunkGroupMetadata.getDevice(), chunkMetadata.getMeasurementUid());
-        chunkMetadataListMap.computeIfAbsent(series, k -> new ArrayList<>()).add(chunkMetadata);
+      metadataIndex = flushMetadataIndex(chunkMetadataListMap);
+      filter = TsFileMetadata.getEmptyBloomFilter(chunkMetadataListMap.size());
+      for (Path path : chunkMetadataListMap.keySet()) {
+        filter.add(path.toString());
       }
     }
-
-    MetadataIndexNode metadataIndex = flushMetadataIndex(chunkMetadataListMap);
     TsFileMetadata tsFileMetaData = new TsFileMetadata();
     tsFileMetaData.setMetadataIndex(metadataIndex);
     tsFileMetaData.setMetaOffset(metaOffset);
@@ -280,7 +354,7 @@ public class TsFileIOWriter implements AutoCloseable {
     }
 
     // write bloom filter
-    size += tsFileMetaData.serializeBloomFilter(out.wrapAsStream(), chunkMetadataListMap.keySet());
+    size += tsFileMetaData.serializeBloomFilter(out.wrapAsStream(), filter);
     if (logger.isDebugEnabled()) {
       logger.debug("finish flushing the bloom filter file pos:{}", out.getPosition());
     }
@@ -328,6 +402,62 @@ public class TsFileIOWriter implements AutoCloseable {
    */
   private void flushOneChunkMetadata(Path path, List<IChunkMetadata> chunkMetadataList)
       throws IOException {
+    deviceTimeseriesMetadataMap
+        .computeIfAbsent(path.getDevice(), k -> new ArrayList<>())
+        .add(constructOneTimeseriesMetadata(path.getMeasurement(), chunkMetadataList));
+  }
+
+  /**
+   * Flush TsFileMetadata from the spilled chunk metadata. Only the TimeseriesMetadata of one series
+   * and the measurement index roots of the devices are held in memory.
+   *
+   * @param filter bloom filter to add the paths of the series to
+   * @return MetadataIndexEntry list in TsFileMetadata
+   */
+  private MetadataIndexNode flushSpilledMetadataIndex(BloomFilter filter) throws IOException {
+    Map<String, MetadataIndexNode> deviceMetadataIndexMap = new TreeMap<>();
+    try (ChunkMetadataSpillFile.SeriesIterator seriesIterator = chunkMetadataSpillFile.iterator()) {
+      while (seriesIterator.hasNext()) {
+        String device = seriesIterator.peekDevice();
+        Iterator<TimeseriesMetadata> timeseriesMetadataIterator =
+            new Iterator<TimeseriesMetadata>() {
+              @Override
+              public boolean hasNext() {
+                return seriesIterator.hasNext() && seriesIterator.peekDevice().equals(device);
+              }
+
+              @Override
+              public TimeseriesMetadata next() {
+                try {
+                  List<IChunkMetadata> chunkMetadataList = seriesIterator.next();
+                  Path path = new Path(device, chunkMetadataList.get(0).getMeasurementUid());
+                  filter.add(path.toString());
+                  return constructOneTimeseriesMetadata(path.getMeasurement(), chunkMetadataList);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              }
+            };
+        try {
+          deviceMetadataIndexMap.put(
+              new Path(device, "").getDevice(),
+              MetadataIndexConstructor.constructMeasurementIndex(timeseriesMetadataIterator, out));
+        } catch (UncheckedIOException e) {
+          throw e.getCause();
+        }
+      }
+    }
+    return MetadataIndexConstructor.constructDeviceIndex(deviceMetadataIndexMap, out);
+  }
+
+  /**
+   * Construct the TimeseriesMetadata of one series
+   *
+   * @param measurement measurement of the series
+   * @param chunkMetadataList List of chunkMetadata of the series
+   */
+  private TimeseriesMetadata constructOneTimeseriesMetadata(
+      String measurement, List<IChunkMetadata> chunkMetadataList) throws IOException {
     // create TimeseriesMetaData
     PublicBAOS publicBAOS = new PublicBAOS();
     TSDataType dataType = chunkMetadataList.get(chunkMetadataList.size() - 1).getDataType();
@@ -335,11 +465,28 @@ public class TsFileIOWriter implements AutoCloseable {
 
     int chunkMetadataListLength = 0;
     boolean serializeStatistic = (chunkMetadataList.size() > 1);
+    boolean serializeExtendedStatistics = keepExtendedStatisticsIfAllHave(chunkMetadataList);
+    RollupStatistics rollupStatistics = mergeRollupStatistics(chunkMetadataList, dataType);
+    boolean serializePageValueIndexes = keepPageValueIndexesIfAllHave(chunkMetadataList);
+    int chunksPerTimeIndexBlock = config.getChunkTimeIndexBlockSize();
+    ChunkTimeIndex chunkTimeIndex =
+        chunksPerTimeIndexBlock > 0 && chunkMetadataList.size() > chunksPerTimeIndexBlock
+            ? new ChunkTimeIndex(chunkMetadataList.size() / chunksPerTimeIndexBlock + 1)
+            : null;
+    int chunkCount = 0;
     // flush chunkMetadataList one by one
     for (IChunkMetadata chunkMetadata : chunkMetadataList) {
       if (!chunkMetadata.getDataType().equals(dataType)) {
         continue;
       }
+      if (chunkTimeIndex != null) {
+        chunkTimeIndex.add(
+            chunkMetadataListLength,
+            chunkMetadata.getStartTime(),
+            chunkMetadata.getEndTime(),
+            chunkCount % chunksPerTimeIndexBlock == 0);
+      }
+      chunkCount++;
       chunkMetadataListLength += chunkMetadata.serializeTo(publicBAOS, serializeStatistic);
       seriesStatistics.mergeStatistics(chunkMetadata.getStatistics());
     }
@@ -347,15 +494,108 @@ public class TsFileIOWriter implements AutoCloseable {
     TimeseriesMetadata timeseriesMetadata =
         new TimeseriesMetadata(
             (byte)
-                ((serializeStatistic ? (byte) 1 : (byte) 0) | chunkMetadataList.get(0).getMask()),
+                ((serializeStatistic ? (byte) 1 : (byte) 0)
+                    | (serializeExtendedStatistics
+                        ? TimeseriesMetadata.EXTENDED_STATISTICS_MASK
+                        : (byte) 0)
+                    | (rollupStatistics != null
+                        ? TimeseriesMetadata.ROLLUP_STATISTICS_MASK
+                        : (byte) 0)
+                    | (serializePageValueIndexes
+                        ? TimeseriesMetadata.PAGE_VALUE_INDEX_MASK
+                        : (byte) 0)
+                    | (chunkTimeIndex != null ? TimeseriesMetadata.CHUNK_TIME_INDEX_MASK : (byte) 0)
+                    | chunkMetadataList.get(0).getMask()),
             chunkMetadataListLength,
-            path.getMeasurement(),
+            measurement,
             dataType,
             seriesStatistics,
             publicBAOS);
-    deviceTimeseriesMetadataMap
-        .computeIfAbsent(path.getDevice(), k -> new ArrayList<>())
-        .add(timeseriesMetadata);
+    timeseriesMetadata.setRollupStatistics(rollupStatistics);
+    timeseriesMetadata.setChunkTimeIndex(chunkTimeIndex);
+    return timeseriesMetadata;
+  }
+
+  /**
+   * Extended statistics are flagged per series, so they are only serialized if every chunk of the
+   * series has them, e.g. not after a chunk written without them is merged into the series.
+   *
+   * @return whether the extended statistics of the chunks are serialized
+   */
+  private boolean keepExtendedStatisticsIfAllHave(List<IChunkMetadata> chunkMetadataList) {
+    TSDataType dataType = chunkMetadataList.get(chunkMetadataList.size() - 1).getDataType();
+    boolean allHave = true;
+    for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+      if (chunkMetadata.getDataType().equals(dataType)
+          && chunkMetadata.getStatistics().getExtendedStatistics() == null) {
+        allHave = false;
+        break;
+      }
+    }
+    if (!allHave) {
+      for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+        chunkMetadata.getStatistics().setExtendedStatistics(null);
+      }
+    }
+    return allHave;
+  }
+
+  /**
+   * Page value indexes are flagged per series, so they are only serialized if every chunk of the
+   * series has them, e.g. not if one of its chunks was copied as a whole from another file.
+   *
+   * @return whether the page value indexes of the chunks are serialized
+   */
+  private boolean keepPageValueIndexesIfAllHave(List<IChunkMetadata> chunkMetadataList) {
+    TSDataType dataType = chunkMetadataList.get(chunkMetadataList.size() - 1).getDataType();
+    boolean allHave = true;
+    for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+      if (chunkMetadata.getDataType().equals(dataType)
+          && ((ChunkMetadata) chunkMetadata).getPageValueIndexes() == null) {
+        allHave = false;
+        break;
+      }
+    }
+    if (!allHave) {
+      for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+        ((ChunkMetadata) chunkMetadata).setPageValueIndexes(null);
+      }
+    }
+    return allHave;
+  }
+
+  /**
+   * Merge the rollups of the chunks of a series. A chunk written without a rollup, e.g. copied by
+   * compaction, can only be merged by its statistics if it falls into one bucket of every
+   * resolution, otherwise the series gets no rollup.
+   *
+   * @return the rollup of the series, or null if it can not be built
+   */
+  private RollupStatistics mergeRollupStatistics(
+      List<IChunkMetadata> chunkMetadataList, TSDataType dataType) {
+    RollupStatistics seriesRollup = null;
+    for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+      RollupStatistics chunkRollup = ((ChunkMetadata) chunkMetadata).getRollupStatistics();
+      if (chunkRollup != null && chunkRollup.getDataType() == dataType) {
+        seriesRollup = new RollupStatistics(dataType, chunkRollup.getResolutions());
+        break;
+      }
+    }
+    if (seriesRollup == null) {
+      return null;
+    }
+    for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+      if (!chunkMetadata.getDataType().equals(dataType)) {
+        continue;
+      }
+      RollupStatistics chunkRollup = ((ChunkMetadata) chunkMetadata).getRollupStatistics();
+      if (chunkRollup != null && seriesRollup.hasSameResolutions(chunkRollup)) {
+        seriesRollup.merge(chunkRollup);
+      } else if (!seriesRollup.mergeStatistics(chunkMetadata.getStatistics())) {
+        return null;
+      }
+    }
+    return seriesRollup;
   }
 
   /**
@@ -399,6 +639,10 @@ public class TsFileIOWriter implements AutoCloseable {
   public void close() throws IOException {
     canWrite = false;
     out.close();
+    if (chunkMetadataSpillFile != null) {
+      chunkMetadataSpillFile.close();
+      chunkMetadataSpillFile = null;
+    }
   }
 
   void writeSeparatorMaskForTest() throws IOException {
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.common;
+
+import org.apache.iotdb.tsfile.common.cache.StripedLRUCache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StripedLRUCacheTest {
+
+  @Test
+  public void test() throws IOException {
+    AtomicInteger loadCount = new AtomicInteger();
+    StripedLRUCache<Integer, Integer> cache =
+        new StripedLRUCache<Integer, Integer>(8, 4) {
+          @Override
+          protected Integer loadObjectByKey(Integer key) {
+            loadCount.incrementAndGet();
+            return key * 10;
+          }
+        };
+
+    for (int i = 1; i < 1000; i++) {
+      Assert.assertEquals(i * 10, (int) cache.get(i));
+      Assert.assertEquals((i - 1) * 10, (int) cache.get(i - 1));
+    }
+    loadCount.set(0);
+    cache.get(0);
+    cache.get(0);
+    Assert.assertEquals(1, loadCount.get());
+    cache.clear();
+    cache.get(0);
+    Assert.assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  public void testConcurrentLoad() throws Exception {
+    AtomicInteger loadCount = new AtomicInteger();
+    StripedLRUCache<Integer, Integer> cache =
+        new StripedLRUCache<Integer, Integer>(64, 8) {
+          @Override
+          protected Integer loadObjectByKey(Integer key) {
+            loadCount.incrementAndGet();
+            return key * 10;
+          }
+        };
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      futures.add(
+          pool.submit(
+              () -> {
+                for (int key = 0; key < 32; key++) {
+                  Assert.assertEquals(key * 10, (int) cache.get(key));
+                }
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    pool.shutdown();
+    // each key is loaded only once, however many threads look it up at the same time
+    Assert.assertEquals(32, loadCount.get());
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.compress;
+
+import org.apache.iotdb.tsfile.compress.ICompressor.ZstdCompressor;
+import org.apache.iotdb.tsfile.compress.IUnCompressor.ZstdUnCompressor;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ZstdTest {
+
+  private String randomString(int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) (ThreadLocalRandom.current().nextInt(33, 128)));
+    }
+    return builder.toString();
+  }
+
+  @Test
+  public void testBytes1() throws IOException {
+    byte[] uncom = randomString(2000000).getBytes(StandardCharsets.UTF_8);
+    ICompressor compressor = new ZstdCompressor();
+    IUnCompressor unCompressor = new ZstdUnCompressor();
+
+    byte[] compressed = compressor.compress(uncom);
+    Assert.assertEquals(
+        uncom.length, unCompressor.getUncompressedLength(compressed, 0, compressed.length));
+    byte[] uncompressed = new byte[uncom.length];
+    Assert.assertEquals(
+        uncom.length, unCompressor.uncompress(compressed, 0, compressed.length, uncompressed, 0));
+    Assert.assertArrayEquals(uncom, uncompressed);
+  }
+
+  @Test
+  public void testBytes2() throws IOException {
+    ICompressor compressor = new ZstdCompressor(9);
+    IUnCompressor unCompressor = new ZstdUnCompressor();
+
+    byte[] uncom = randomString(500000).getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = compressor.compress(uncom, 0, uncom.length);
+    Assert.assertEquals(compressor.compress(uncom).length, compressed.length);
+    Assert.assertArrayEquals(uncom, unCompressor.uncompress(compressed));
+
+    byte[] maxCompressed = new byte[compressor.getMaxBytesForCompression(uncom.length)];
+    int compressedSize = compressor.compress(uncom, 0, uncom.length, maxCompressed);
+    Assert.assertEquals(compressed.length, compressedSize);
+  }
+
+  @Test
+  public void testByteBuffer() throws IOException {
+    ICompressor compressor = new ZstdCompressor();
+    IUnCompressor unCompressor = new ZstdUnCompressor();
+    byte[] uncom = randomString(100000).getBytes(StandardCharsets.UTF_8);
+
+    // direct buffers go through the native ByteBuffer api
+    ByteBuffer source = ByteBuffer.allocateDirect(uncom.length);
+    source.put(uncom);
+    source.flip();
+    ByteBuffer compressed =
+        ByteBuffer.allocateDirect(compressor.getMaxBytesForCompression(uncom.length));
+    int compressedSize = compressor.compress(source, compressed);
+    compressed.flip();
+    Assert.assertEquals(compressedSize, compressed.remaining());
+    Assert.assertEquals(uncom.length, unCompressor.getUncompressedLength(compressed));
+
+    ByteBuffer uncompressed = ByteBuffer.allocateDirect(uncom.length);
+    Assert.assertEquals(uncom.length, unCompressor.uncompress(compressed, uncompressed));
+    uncompressed.flip();
+    byte[] result = new byte[uncom.length];
+    uncompressed.get(result);
+    Assert.assertArrayEquals(uncom, result);
+
+    // heap buffers fall back to the byte array api
+    ByteBuffer heapCompressed =
+        ByteBuffer.allocate(compressor.getMaxBytesForCompression(uncom.length));
+    Assert.assertEquals(
+        compressedSize, compressor.compress(ByteBuffer.wrap(uncom), heapCompressed));
+    heapCompressed.flip();
+    Assert.assertEquals(uncom.length, unCompressor.getUncompressedLength(heapCompressed));
+
+    // the heap buffers are sliced so that their array offsets are not zero
+    ByteBuffer heapUncompressed = ByteBuffer.allocate(uncom.length + 8);
+    heapUncompressed.position(8);
+    heapUncompressed = heapUncompressed.slice();
+    Assert.assertEquals(uncom.length, unCompressor.uncompress(heapCompressed, heapUncompressed));
+    Assert.assertFalse(heapCompressed.hasRemaining());
+    heapUncompressed.flip();
+    result = new byte[uncom.length];
+    heapUncompressed.get(result);
+    Assert.assertArrayEquals(uncom, result);
+
+    // mixed direct and heap buffers
+    compressed.rewind();
+    uncompressed = ByteBuffer.allocate(uncom.length);
+    Assert.assertEquals(uncom.length, unCompressor.uncompress(compressed, uncompressed));
+    Assert.assertArrayEquals(uncom, uncompressed.array());
+  }
+
+  @Test
+  public void testCompressionLevel() throws IOException {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      builder.append("root.sg.d1.s").append(i % 97).append(',').append(i * 31 % 1000);
+    }
+    byte[] uncom = builder.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] fast = new ZstdCompressor(1).compress(uncom);
+    byte[] small = new ZstdCompressor(19).compress(uncom);
+    Assert.assertTrue(small.length <= fast.length);
+
+    ICompressor compressor = ICompressor.getCompressor(CompressionType.ZSTD);
+    Assert.assertEquals(CompressionType.ZSTD, compressor.getType());
+    IUnCompressor unCompressor = IUnCompressor.getUnCompressor(CompressionType.ZSTD);
+    Assert.assertArrayEquals(uncom, unCompressor.uncompress(compressor.compress(uncom)));
+    Assert.assertEquals(
+        CompressionType.ZSTD, CompressionType.deserialize(CompressionType.ZSTD.serialize()));
+  }
+}
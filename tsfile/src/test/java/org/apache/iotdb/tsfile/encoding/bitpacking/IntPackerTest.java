@@ -24,6 +24,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class IntPackerTest {
@@ -76,4 +77,46 @@ public class IntPackerTest {
       }
     }
   }
+
+  @Test
+  public void testAllWidths() {
+    Random rand = new Random(0);
+    for (int width = 1; width <= 32; width++) {
+      int[] values = new int[16];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = rand.nextInt() >>> (32 - width);
+      }
+      IntPacker packer = new IntPacker(width);
+      byte[] buf = new byte[2 * width];
+      byte[] block = new byte[width];
+      for (int group = 0; group < 2; group++) {
+        packer.pack8Values(values, group * 8, block);
+        System.arraycopy(block, 0, buf, group * width, width);
+      }
+      assertArrayEquals(packBitByBit(values, width), buf);
+
+      int[] res = new int[16];
+      packer.unpackAllValues(buf, buf.length, res);
+      assertArrayEquals(values, res);
+      int[] shifted = new int[10];
+      packer.unpack8Values(buf, width, shifted, 2);
+      for (int i = 0; i < 8; i++) {
+        assertEquals(values[8 + i], shifted[2 + i]);
+      }
+    }
+  }
+
+  /** the big-endian bit stream of the values, one bit at a time */
+  private static byte[] packBitByBit(int[] values, int width) {
+    byte[] buf = new byte[values.length * width / 8];
+    int bitPos = 0;
+    for (int value : values) {
+      for (int bit = width - 1; bit >= 0; bit--, bitPos++) {
+        if (((value >>> bit) & 1) != 0) {
+          buf[bitPos / 8] |= (byte) (0x80 >>> (bitPos % 8));
+        }
+      }
+    }
+    return buf;
+  }
 }
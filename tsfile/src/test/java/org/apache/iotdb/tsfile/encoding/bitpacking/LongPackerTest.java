@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class LongPackerTest {
@@ -128,4 +129,46 @@ public class LongPackerTest {
       }
     }
   }
+
+  @Test
+  public void testAllWidths() {
+    Random rand = new Random(0);
+    for (int width = 1; width <= 64; width++) {
+      long[] values = new long[16];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = rand.nextLong() >>> (64 - width);
+      }
+      LongPacker packer = new LongPacker(width);
+      byte[] buf = new byte[2 * width];
+      byte[] block = new byte[width];
+      for (int group = 0; group < 2; group++) {
+        packer.pack8Values(values, group * 8, block);
+        System.arraycopy(block, 0, buf, group * width, width);
+      }
+      assertArrayEquals(packBitByBit(values, width), buf);
+
+      long[] res = new long[16];
+      packer.unpackAllValues(buf, buf.length, res);
+      assertArrayEquals(values, res);
+      long[] shifted = new long[10];
+      packer.unpack8Values(buf, width, shifted, 2);
+      for (int i = 0; i < 8; i++) {
+        assertEquals(values[8 + i], shifted[2 + i]);
+      }
+    }
+  }
+
+  /** the big-endian bit stream of the values, one bit at a time */
+  private static byte[] packBitByBit(long[] values, int width) {
+    byte[] buf = new byte[values.length * width / 8];
+    int bitPos = 0;
+    for (long value : values) {
+      for (int bit = width - 1; bit >= 0; bit--, bitPos++) {
+        if (((value >>> bit) & 1L) != 0) {
+          buf[bitPos / 8] |= (byte) (0x80 >>> (bitPos % 8));
+        }
+      }
+    }
+    return buf;
+  }
 }
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DecoderBatchReadTest {
+
+  private static final int POINT_NUM = 10_000;
+  private static final int[] BATCH_SIZES = {1, 7, 128, 1024, POINT_NUM + 1};
+
+  private static final TSEncoding[] INTEGER_ENCODINGS = {
+    TSEncoding.PLAIN, TSEncoding.RLE, TSEncoding.TS_2DIFF, TSEncoding.GORILLA, TSEncoding.CHIMP
+  };
+
+  private static final TSEncoding[] FLOATING_ENCODINGS = {
+    TSEncoding.PLAIN, TSEncoding.RLE, TSEncoding.TS_2DIFF, TSEncoding.GORILLA, TSEncoding.CHIMP
+  };
+
+  private final Random random = new Random(42);
+
+  @Test
+  public void testReadLongs() throws IOException {
+    long[] expected = new long[POINT_NUM];
+    long value = System.currentTimeMillis();
+    for (int i = 0; i < POINT_NUM; i++) {
+      value += random.nextInt(100);
+      expected[i] = i % 50 < 20 ? 7 : value;
+    }
+    for (TSEncoding encoding : INTEGER_ENCODINGS) {
+      Encoder encoder = getEncoder(encoding, TSDataType.INT64);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (long v : expected) {
+        encoder.encode(v, out);
+      }
+      encoder.flush(out);
+      for (int batchSize : BATCH_SIZES) {
+        Decoder decoder = Decoder.getDecoderByType(encoding, TSDataType.INT64);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        long[] actual = new long[POINT_NUM];
+        int size = 0;
+        int read;
+        while ((read =
+                decoder.readLongs(buffer, actual, size, Math.min(batchSize, POINT_NUM - size)))
+            > 0) {
+          size += read;
+        }
+        assertEquals(encoding.toString(), POINT_NUM, size);
+        assertArrayEquals(encoding.toString(), expected, actual);
+        assertEquals(0, decoder.readLongs(buffer, actual, 0, 1));
+      }
+    }
+  }
+
+  @Test
+  public void testReadInts() throws IOException {
+    int[] expected = new int[POINT_NUM];
+    for (int i = 0; i < POINT_NUM; i++) {
+      expected[i] = i % 30 < 10 ? -3 : random.nextInt(1000);
+    }
+    for (TSEncoding encoding : INTEGER_ENCODINGS) {
+      Encoder encoder = getEncoder(encoding, TSDataType.INT32);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (int v : expected) {
+        encoder.encode(v, out);
+      }
+      encoder.flush(out);
+      for (int batchSize : BATCH_SIZES) {
+        Decoder decoder = Decoder.getDecoderByType(encoding, TSDataType.INT32);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        int[] actual = new int[POINT_NUM];
+        int size = 0;
+        int read;
+        while ((read =
+                decoder.readInts(buffer, actual, size, Math.min(batchSize, POINT_NUM - size)))
+            > 0) {
+          size += read;
+        }
+        assertEquals(encoding.toString(), POINT_NUM, size);
+        assertArrayEquals(encoding.toString(), expected, actual);
+      }
+    }
+  }
+
+  @Test
+  public void testReadDoubles() throws IOException {
+    double[] source = new double[POINT_NUM];
+    for (int i = 0; i < POINT_NUM; i++) {
+      source[i] = Math.round(random.nextDouble() * 10000) / 100.0;
+    }
+    for (TSEncoding encoding : FLOATING_ENCODINGS) {
+      double[] expected = source.clone();
+      Encoder encoder = getEncoder(encoding, TSDataType.DOUBLE);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (double v : source) {
+        encoder.encode(v, out);
+      }
+      encoder.flush(out);
+      // encodings like TS_2DIFF are lossy for floating values, so compare with one by one reading
+      Decoder oneByOneDecoder = Decoder.getDecoderByType(encoding, TSDataType.DOUBLE);
+      ByteBuffer oneByOneBuffer = ByteBuffer.wrap(out.toByteArray());
+      for (int i = 0; i < POINT_NUM; i++) {
+        expected[i] = oneByOneDecoder.readDouble(oneByOneBuffer);
+      }
+      for (int batchSize : BATCH_SIZES) {
+        Decoder decoder = Decoder.getDecoderByType(encoding, TSDataType.DOUBLE);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        double[] actual = new double[POINT_NUM];
+        int size = 0;
+        int read;
+        while ((read =
+                decoder.readDoubles(buffer, actual, size, Math.min(batchSize, POINT_NUM - size)))
+            > 0) {
+          size += read;
+        }
+        assertEquals(encoding.toString(), POINT_NUM, size);
+        assertArrayEquals(encoding.toString(), expected, actual, 0);
+      }
+    }
+  }
+
+  @Test
+  public void testReadFloats() throws IOException {
+    float[] source = new float[POINT_NUM];
+    for (int i = 0; i < POINT_NUM; i++) {
+      source[i] = Math.round(random.nextFloat() * 1000) / 10.0f;
+    }
+    for (TSEncoding encoding : FLOATING_ENCODINGS) {
+      float[] expected = source.clone();
+      Encoder encoder = getEncoder(encoding, TSDataType.FLOAT);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (float v : source) {
+        encoder.encode(v, out);
+      }
+      encoder.flush(out);
+      // encodings like TS_2DIFF are lossy for floating values, so compare with one by one reading
+      Decoder oneByOneDecoder = Decoder.getDecoderByType(encoding, TSDataType.FLOAT);
+      ByteBuffer oneByOneBuffer = ByteBuffer.wrap(out.toByteArray());
+      for (int i = 0; i < POINT_NUM; i++) {
+        expected[i] = oneByOneDecoder.readFloat(oneByOneBuffer);
+      }
+      for (int batchSize : BATCH_SIZES) {
+        Decoder decoder = Decoder.getDecoderByType(encoding, TSDataType.FLOAT);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        float[] actual = new float[POINT_NUM];
+        int size = 0;
+        int read;
+        while ((read =
+                decoder.readFloats(buffer, actual, size, Math.min(batchSize, POINT_NUM - size)))
+            > 0) {
+          size += read;
+        }
+        assertEquals(encoding.toString(), POINT_NUM, size);
+        assertArrayEquals(encoding.toString(), expected, actual, 0);
+      }
+    }
+  }
+
+  @Test
+  public void testReadBooleans() throws IOException {
+    boolean[] expected = new boolean[POINT_NUM];
+    for (int i = 0; i < POINT_NUM; i++) {
+      expected[i] = i % 100 < 60 || random.nextBoolean();
+    }
+    for (TSEncoding encoding : new TSEncoding[] {TSEncoding.PLAIN, TSEncoding.RLE}) {
+      Encoder encoder = getEncoder(encoding, TSDataType.BOOLEAN);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (boolean v : expected) {
+        encoder.encode(v, out);
+      }
+      encoder.flush(out);
+      for (int batchSize : BATCH_SIZES) {
+        Decoder decoder = Decoder.getDecoderByType(encoding, TSDataType.BOOLEAN);
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        boolean[] actual = new boolean[POINT_NUM];
+        int size = 0;
+        int read;
+        while ((read =
+                decoder.readBooleans(buffer, actual, size, Math.min(batchSize, POINT_NUM - size)))
+            > 0) {
+          size += read;
+        }
+        assertEquals(encoding.toString(), POINT_NUM, size);
+        assertArrayEquals(encoding.toString(), expected, actual);
+      }
+    }
+  }
+
+  private Encoder getEncoder(TSEncoding encoding, TSDataType dataType) {
+    return TSEncodingBuilder.getEncodingBuilder(encoding).getEncoder(dataType);
+  }
+}
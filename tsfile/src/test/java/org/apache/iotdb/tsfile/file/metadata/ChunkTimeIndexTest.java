@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileReader;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.expression.QueryExpression;
+import org.apache.iotdb.tsfile.read.expression.impl.GlobalTimeExpression;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkTimeIndexTest {
+
+  private static final int CHUNK_NUM = 30;
+  private static final int POINTS_PER_CHUNK = 10;
+
+  private final File f = FSFactoryProducer.getFSFactory().getFile("ChunkTimeIndexTest.tsfile");
+  private final String deviceId = "root.sg.d1";
+  private final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+  private int chunkTimeIndexBlockSize;
+
+  @Before
+  public void setUp() {
+    chunkTimeIndexBlockSize = config.getChunkTimeIndexBlockSize();
+    config.setChunkTimeIndexBlockSize(4);
+  }
+
+  @After
+  public void tearDown() {
+    config.setChunkTimeIndexBlockSize(chunkTimeIndexBlockSize);
+    if (f.exists()) {
+      f.delete();
+    }
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    ChunkTimeIndex index = new ChunkTimeIndex(1);
+    index.add(0, 10, 20, true);
+    index.add(30, 5, 15, false);
+    index.add(60, 100, 110, true);
+    index.add(90, 120, 130, false);
+    index.add(120, 90, 95, true);
+
+    PublicBAOS out = new PublicBAOS();
+    index.serializeTo(out);
+    ChunkTimeIndex deserialized =
+        ChunkTimeIndex.deserializeFrom(ByteBuffer.wrap(out.getBuf(), 0, out.size()));
+
+    assertEquals(3, deserialized.getBlockCount());
+    assertEquals(0, deserialized.getOffset(0));
+    assertEquals(60, deserialized.getEndOffset(0, 150));
+    assertEquals(150, deserialized.getEndOffset(2, 150));
+    // blocks keep the min start time and max end time of their chunks
+    assertTrue(deserialized.satisfy(0, TimeFilter.eq(5)));
+    assertFalse(deserialized.satisfy(0, TimeFilter.eq(21)));
+    assertTrue(deserialized.satisfy(1, TimeFilter.eq(130)));
+    // blocks need not be in time order
+    assertFalse(deserialized.satisfy(2, TimeFilter.gt(95)));
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerTimeseries(
+          new Path(deviceId), new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.RLE));
+      writer.registerTimeseries(
+          new Path(deviceId), new MeasurementSchema("s2", TSDataType.INT64, TSEncoding.RLE));
+      for (int chunk = 0; chunk < CHUNK_NUM; chunk++) {
+        for (int i = 0; i < POINTS_PER_CHUNK; i++) {
+          long time = (long) chunk * POINTS_PER_CHUNK + i;
+          TSRecord record = new TSRecord(time, deviceId);
+          record.addTuple(new LongDataPoint("s1", time));
+          // s2 only has the first chunks, too few for a chunk time index
+          if (chunk < 3) {
+            record.addTuple(new LongDataPoint("s2", time));
+          }
+          writer.write(record);
+        }
+        writer.flushAllChunkGroups();
+      }
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(f.getPath())) {
+      TimeseriesMetadata s1 = reader.readTimeseriesMetadata(new Path(deviceId, "s1"), false);
+      assertTrue(s1.hasChunkTimeIndex());
+      assertEquals(8, s1.getChunkTimeIndex().getBlockCount());
+      TimeseriesMetadata s2 = reader.readTimeseriesMetadata(new Path(deviceId, "s2"), false);
+      assertFalse(s2.hasChunkTimeIndex());
+      assertEquals(3, s2.getChunkMetadataList().size());
+
+      // only the block of chunks 8 to 11 overlaps [100, 119]
+      Filter filter = TimeFilter.between(100, 119, false);
+      List<IChunkMetadata> satisfied = new TimeseriesMetadata(s1).getChunkMetadataList(filter);
+      assertEquals(4, satisfied.size());
+      for (int i = 0; i < satisfied.size(); i++) {
+        assertEquals((8L + i) * POINTS_PER_CHUNK, satisfied.get(i).getStartTime());
+        assertEquals(POINTS_PER_CHUNK, satisfied.get(i).getStatistics().getCount());
+      }
+      assertTrue(new TimeseriesMetadata(s1).getChunkMetadataList(TimeFilter.gt(1000)).isEmpty());
+
+      // the whole list is still deserialized on demand
+      List<IChunkMetadata> all = s1.getChunkMetadataList();
+      assertEquals(CHUNK_NUM, all.size());
+      for (int i = 0; i < CHUNK_NUM; i++) {
+        assertEquals((long) i * POINTS_PER_CHUNK, all.get(i).getStartTime());
+      }
+    }
+
+    try (TsFileReader tsFileReader = new TsFileReader(new TsFileSequenceReader(f.getPath()))) {
+      QueryDataSet dataSet =
+          tsFileReader.query(
+              QueryExpression.create(
+                  Collections.singletonList(new Path(deviceId, "s1")),
+                  new GlobalTimeExpression(
+                      FilterFactory.and(TimeFilter.gtEq(95), TimeFilter.ltEq(204)))));
+      int count = 0;
+      while (dataSet.hasNext()) {
+        assertNotNull(dataSet.next());
+        count++;
+      }
+      assertEquals(110, count);
+    }
+  }
+}
@@ -20,10 +20,14 @@
 package org.apache.iotdb.tsfile.file.metadata;
 
 import org.apache.iotdb.tsfile.file.metadata.enums.MetadataIndexNodeType;
+import org.apache.iotdb.tsfile.utils.Pair;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,4 +51,56 @@ public class MetadataIndexNodeTest {
     Assert.assertEquals(-1, metadataIndexNode.binarySearchInChildren("s13", true));
     Assert.assertEquals(-1, metadataIndexNode.binarySearchInChildren("s23", true));
   }
+
+  @Test
+  public void testSearchDeserializedNode() throws IOException {
+    List<MetadataIndexEntry> list = new ArrayList<>();
+    list.add(new MetadataIndexEntry("root.sg.d0", 10L));
+    list.add(new MetadataIndexEntry("root.sg.d2", 20L));
+    list.add(new MetadataIndexEntry("root.sg.d4", 30L));
+    list.add(new MetadataIndexEntry("root.sg.\u8bbe\u5907", 40L));
+    list.add(new MetadataIndexEntry("root.sg.\ud83d\ude00", 50L));
+    MetadataIndexNode node = new MetadataIndexNode(list, 60L, MetadataIndexNodeType.LEAF_DEVICE);
+
+    PublicBAOS out = new PublicBAOS();
+    node.serializeTo(out);
+    ByteBuffer buffer = ByteBuffer.allocate(out.size() + 1);
+    buffer.put(out.getBuf(), 0, out.size());
+    buffer.put((byte) 7);
+    buffer.flip();
+    MetadataIndexNode deserialized = MetadataIndexNode.deserializeFrom(buffer);
+    // the buffer is left right after the node
+    Assert.assertEquals(7, buffer.get());
+
+    String[] keys = {
+      "root.sg.d0",
+      "root.sg.d1",
+      "root.sg.d4",
+      "root.sg.d5",
+      "root",
+      "root.sg.\u8bbe\u5907",
+      "root.sg.\ud83d\ude00",
+      "root.sg.\uffff"
+    };
+    for (String key : keys) {
+      for (boolean exactSearch : new boolean[] {true, false}) {
+        Assert.assertEquals(
+            node.binarySearchInChildren(key, exactSearch),
+            deserialized.binarySearchInChildren(key, exactSearch));
+      }
+    }
+
+    Pair<MetadataIndexEntry, Long> entry = deserialized.getChildIndexEntry("root.sg.d2", true);
+    Assert.assertEquals("root.sg.d2", entry.left.getName());
+    Assert.assertEquals(20L, entry.left.getOffset());
+    Assert.assertEquals(30L, (long) entry.right);
+    entry = deserialized.getChildIndexEntry("root.sg.\ud83d\ude00", true);
+    Assert.assertEquals(50L, entry.left.getOffset());
+    Assert.assertEquals(60L, (long) entry.right);
+
+    Assert.assertEquals(list.size(), deserialized.getChildrenCount());
+    Assert.assertEquals(list.toString(), deserialized.getChildren().toString());
+    Assert.assertEquals(MetadataIndexNodeType.LEAF_DEVICE, deserialized.getNodeType());
+    Assert.assertEquals(60L, deserialized.getEndOffset());
+  }
 }
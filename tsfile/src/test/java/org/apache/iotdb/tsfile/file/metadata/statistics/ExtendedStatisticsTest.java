@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExtendedStatisticsTest {
+
+  private final File f = FSFactoryProducer.getFSFactory().getFile("ExtendedStatisticsTest.tsfile");
+  private final String deviceId = "root.sg.d1";
+
+  @Before
+  public void setUp() {
+    if (f.exists() && !f.delete()) {
+      throw new RuntimeException("can not delete " + f.getAbsolutePath());
+    }
+    TSFileDescriptor.getInstance().getConfig().setEnableExtendedStatistics(true);
+  }
+
+  @After
+  public void tearDown() {
+    if (f.exists()) {
+      f.delete();
+    }
+    TSFileDescriptor.getInstance().getConfig().setEnableExtendedStatistics(false);
+  }
+
+  @Test
+  public void testUpdateAndMerge() {
+    Statistics<Double> first = new DoubleStatistics();
+    first.enableExtendedStatistics();
+    Statistics<Double> second = new DoubleStatistics();
+    second.enableExtendedStatistics();
+    for (int i = 0; i < 10000; i++) {
+      first.update(i, (double) (i % 100));
+      second.update(10000 + i, (double) (100 + i % 100));
+    }
+    Statistics<Double> merged = new DoubleStatistics();
+    merged.mergeStatistics(first);
+    merged.mergeStatistics(second);
+
+    ExtendedStatistics extended = merged.getExtendedStatistics();
+    assertNotNull(extended);
+    double expectedSumOfSquares = 0;
+    for (int i = 0; i < 200; i++) {
+      expectedSumOfSquares += 100.0 * i * i;
+    }
+    assertEquals(expectedSumOfSquares, extended.getSumOfSquares(), 0.0001);
+    assertEquals(200, extended.getDistinctCount(), 200 * 0.3);
+    assertEquals(100, extended.getQuantile(0.5), 200 * 0.1);
+    assertEquals(180, extended.getQuantile(0.9), 200 * 0.1);
+    // merging the first statistics must not have changed them
+    assertEquals(100, first.getExtendedStatistics().getDistinctCount(), 100 * 0.3);
+
+    // a statistics without extended statistics makes the merged ones incomplete
+    Statistics<Double> plain = new DoubleStatistics();
+    plain.update(20000, 1.0d);
+    merged.mergeStatistics(plain);
+    assertNull(merged.getExtendedStatistics());
+  }
+
+  @Test
+  public void testUnsupportedType() {
+    Statistics<Binary> binaryStatistics = new BinaryStatistics();
+    binaryStatistics.enableExtendedStatistics();
+    assertNull(binaryStatistics.getExtendedStatistics());
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    Statistics<Long> statistics = new LongStatistics();
+    statistics.enableExtendedStatistics();
+    for (int i = 0; i < 5000; i++) {
+      statistics.update(i, (long) i * i);
+    }
+    ExtendedStatistics extended = statistics.getExtendedStatistics();
+    PublicBAOS out = new PublicBAOS();
+    int size = extended.serialize(out);
+    assertEquals(out.size(), size);
+    // keep it compact, it is stored for every chunk
+    assertTrue(size < 2048);
+
+    // an unknown version is skipped
+    out.write(ExtendedStatistics.VERSION + 1);
+    out.write(3);
+    out.write(new byte[] {1, 2, 3});
+    out.write(42);
+    ByteBuffer buffer = ByteBuffer.wrap(out.getBuf(), 0, out.size());
+    ExtendedStatistics deserialized = ExtendedStatistics.deserialize(buffer);
+    assertEquals(extended.getSumOfSquares(), deserialized.getSumOfSquares(), 0);
+    assertEquals(extended.getDistinctCount(), deserialized.getDistinctCount());
+    assertEquals(extended.getQuantile(0.25), deserialized.getQuantile(0.25), 0);
+    assertEquals(5000, deserialized.getQuantileSketch().getCount());
+    assertNull(ExtendedStatistics.deserialize(buffer));
+    assertEquals(42, buffer.get());
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    List<MeasurementSchema> schemas =
+        Arrays.asList(
+            new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE),
+            new MeasurementSchema("s2", TSDataType.TEXT, TSEncoding.PLAIN));
+    int rowCount = 1000;
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerTimeseries(new Path(deviceId), schemas);
+      // two chunks for each series
+      for (int chunk = 0; chunk < 2; chunk++) {
+        Tablet tablet = new Tablet(deviceId, schemas, rowCount);
+        for (int i = 0; i < rowCount; i++) {
+          int row = tablet.rowSize++;
+          long time = (long) chunk * rowCount + i;
+          tablet.addTimestamp(row, time);
+          tablet.addValue("s1", row, (int) time);
+          tablet.addValue("s2", row, new Binary("v" + time));
+        }
+        writer.write(tablet);
+        writer.flushAllChunkGroups();
+      }
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(f.getPath())) {
+      TimeseriesMetadata timeseriesMetadata =
+          reader.readTimeseriesMetadata(new Path(deviceId, "s1"), false);
+      assertTrue(timeseriesMetadata.hasExtendedStatistics());
+      ExtendedStatistics extended = timeseriesMetadata.getStatistics().getExtendedStatistics();
+      double expectedSumOfSquares = 0;
+      for (long i = 0; i < 2L * rowCount; i++) {
+        expectedSumOfSquares += (double) i * i;
+      }
+      assertEquals(expectedSumOfSquares, extended.getSumOfSquares(), 0.0001);
+      assertEquals(2 * rowCount, extended.getDistinctCount(), 2 * rowCount * 0.3);
+      assertEquals(rowCount, extended.getQuantile(0.5), 2 * rowCount * 0.1);
+
+      List<ChunkMetadata> chunkMetadataList = reader.getChunkMetadataList(new Path(deviceId, "s1"));
+      assertEquals(2, chunkMetadataList.size());
+      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+        ExtendedStatistics chunkExtended = chunkMetadata.getStatistics().getExtendedStatistics();
+        assertNotNull(chunkExtended);
+        assertEquals(rowCount, chunkExtended.getQuantileSketch().getCount());
+      }
+      assertEquals(
+          rowCount * 1.5,
+          chunkMetadataList.get(1).getStatistics().getExtendedStatistics().getQuantile(0.5),
+          rowCount * 0.1);
+
+      TimeseriesMetadata textMetadata =
+          reader.readTimeseriesMetadata(new Path(deviceId, "s2"), false);
+      assertFalse(textMetadata.hasExtendedStatistics());
+      assertEquals(2 * rowCount, textMetadata.getStatistics().getCount());
+    }
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PageValueIndexTest {
+
+  private final File f = FSFactoryProducer.getFSFactory().getFile("PageValueIndexTest.tsfile");
+  private final String deviceId = "root.sg.d1";
+  private final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+  private int maxNumberOfPointsInPage;
+
+  @Before
+  public void setUp() {
+    if (f.exists() && !f.delete()) {
+      throw new RuntimeException("can not delete " + f.getAbsolutePath());
+    }
+    maxNumberOfPointsInPage = config.getMaxNumberOfPointsInPage();
+    config.setMaxNumberOfPointsInPage(100);
+    config.setEnablePageValueIndex(true);
+  }
+
+  @After
+  public void tearDown() {
+    if (f.exists()) {
+      f.delete();
+    }
+    config.setMaxNumberOfPointsInPage(maxNumberOfPointsInPage);
+    config.setEnablePageValueIndex(false);
+  }
+
+  @Test
+  public void testBuild() {
+    PageValueIndex.Builder builder = new PageValueIndex.Builder(TSDataType.TEXT);
+    for (int i = 0; i < 100; i++) {
+      builder.update(new Binary(i % 3 == 0 ? "OK" : "WARN"));
+    }
+    PageValueIndex index = builder.build();
+    assertTrue(index.isDictionary());
+    assertEquals(2, index.getDictionary().size());
+    assertTrue(index.mightContain(new Binary("OK")));
+    assertFalse(index.mightContain(new Binary("FAULT")));
+    assertFalse(index.mightContainAny(v -> v.toString().startsWith("F")));
+    // a value of another type can not be judged
+    assertTrue(index.mightContain(1));
+
+    builder.reset();
+    long[] values = new long[150];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 7L;
+    }
+    builder = new PageValueIndex.Builder(TSDataType.INT64);
+    builder.update(values, values.length);
+    index = builder.build();
+    assertFalse(index.isDictionary());
+    for (long value : values) {
+      assertTrue(index.mightContain(value));
+    }
+    int falsePositives = 0;
+    for (long value = 1; value < 7000; value += 7) {
+      if (index.mightContain(value)) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 50);
+    assertTrue(index.mightContainAny(v -> false));
+
+    builder.reset();
+    for (int i = 0; i < 1000; i++) {
+      builder.update((long) i);
+    }
+    index = builder.build();
+    assertFalse(index.isDictionary());
+    assertTrue(index.mightContain(-1L));
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    PageValueIndex.Builder builder = new PageValueIndex.Builder(TSDataType.INT32);
+    builder.update(new int[] {5, -3, 5, 8}, 4);
+    PageValueIndex dictionary = builder.build();
+    builder.reset();
+    for (int i = 0; i < 100; i++) {
+      builder.update(i * 3);
+    }
+    PageValueIndex bloomFilter = builder.build();
+    builder.reset();
+    for (int i = 0; i < 1000; i++) {
+      builder.update(i);
+    }
+    PageValueIndex none = builder.build();
+
+    PublicBAOS out = new PublicBAOS();
+    int size = PageValueIndex.serialize(Arrays.asList(dictionary, bloomFilter, none), out);
+    assertEquals(out.size(), size);
+    List<PageValueIndex> indexes =
+        PageValueIndex.deserialize(ByteBuffer.wrap(out.getBuf(), 0, out.size()), TSDataType.INT32);
+    assertEquals(3, indexes.size());
+    assertEquals(Arrays.asList(5, -3, 8), indexes.get(0).getDictionary());
+    assertTrue(indexes.get(1).mightContain(297));
+    assertFalse(indexes.get(1).isDictionary());
+    assertNull(indexes.get(2).getDictionary());
+    assertTrue(indexes.get(2).mightContain(-1));
+
+    // an unknown version is skipped
+    ByteBuffer buffer = ByteBuffer.allocate(out.size() + 1);
+    buffer.put(out.getBuf(), 0, out.size()).put((byte) 7).flip();
+    buffer.put(0, (byte) (PageValueIndex.VERSION + 1));
+    assertNull(PageValueIndex.deserialize(buffer, TSDataType.INT32));
+    assertEquals(7, buffer.get());
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    List<MeasurementSchema> schemas =
+        Arrays.asList(
+            new MeasurementSchema("s1", TSDataType.TEXT, TSEncoding.PLAIN),
+            new MeasurementSchema("s2", TSDataType.INT64, TSEncoding.RLE));
+    int rowCount = 1000;
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerTimeseries(new Path(deviceId), schemas);
+      Tablet tablet = new Tablet(deviceId, schemas, rowCount);
+      for (int i = 0; i < rowCount; i++) {
+        int row = tablet.rowSize++;
+        tablet.addTimestamp(row, i);
+        tablet.addValue("s1", row, new Binary(i == 777 ? "FAULT" : i % 2 == 0 ? "OK" : "WARN"));
+        tablet.addValue("s2", row, i * 2L);
+      }
+      writer.write(tablet);
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(f.getPath())) {
+      TimeseriesMetadata timeseriesMetadata =
+          reader.readTimeseriesMetadata(new Path(deviceId, "s1"), false);
+      assertTrue(timeseriesMetadata.hasPageValueIndex());
+
+      ChunkMetadata chunkMetadata = reader.getChunkMetadataList(new Path(deviceId, "s1")).get(0);
+      assertEquals(10, chunkMetadata.getPageValueIndexes().size());
+      ChunkReader chunkReader =
+          new ChunkReader(reader.readMemChunk(chunkMetadata), ValueFilter.eq(new Binary("FAULT")));
+      assertEquals(1, chunkReader.loadPageReaderList().size());
+      chunkReader = new ChunkReader(reader.readMemChunk(chunkMetadata), ValueFilter.like("FA%"));
+      assertEquals(1, chunkReader.loadPageReaderList().size());
+      chunkReader =
+          new ChunkReader(
+              reader.readMemChunk(chunkMetadata),
+              ValueFilter.in(new HashSet<>(Arrays.asList(new Binary("OK"))), true));
+      assertEquals(10, chunkReader.loadPageReaderList().size());
+      assertEquals(1, countPoints(reader, "s1", ValueFilter.eq(new Binary("FAULT"))));
+
+      chunkMetadata = reader.getChunkMetadataList(new Path(deviceId, "s2")).get(0);
+      chunkReader = new ChunkReader(reader.readMemChunk(chunkMetadata), ValueFilter.eq(1001L));
+      // odd values are never written, min/max statistics alone can not prune the page
+      assertTrue(chunkReader.loadPageReaderList().isEmpty());
+      assertEquals(1, countPoints(reader, "s2", ValueFilter.eq(1000L)));
+    }
+  }
+
+  private int countPoints(TsFileSequenceReader reader, String measurement, Filter filter)
+      throws Exception {
+    ChunkMetadata chunkMetadata =
+        reader.getChunkMetadataList(new Path(deviceId, measurement)).get(0);
+    ChunkReader chunkReader = new ChunkReader(reader.readMemChunk(chunkMetadata), filter);
+    int count = 0;
+    while (chunkReader.hasNextSatisfiedPage()) {
+      BatchData batchData = chunkReader.nextPageData();
+      count += batchData.length();
+    }
+    return count;
+  }
+}
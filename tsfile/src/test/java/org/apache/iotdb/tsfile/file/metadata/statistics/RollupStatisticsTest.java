@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.metadata.statistics;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RollupStatisticsTest {
+
+  private final File f = FSFactoryProducer.getFSFactory().getFile("RollupStatisticsTest.tsfile");
+  private final String deviceId = "root.sg.d1";
+  private final long[] resolutions = new long[] {10, 100};
+
+  @Before
+  public void setUp() {
+    if (f.exists() && !f.delete()) {
+      throw new RuntimeException("can not delete " + f.getAbsolutePath());
+    }
+    TSFileDescriptor.getInstance().getConfig().setRollupResolutions(resolutions);
+  }
+
+  @After
+  public void tearDown() {
+    if (f.exists()) {
+      f.delete();
+    }
+    TSFileDescriptor.getInstance().getConfig().setRollupResolutions(new long[0]);
+  }
+
+  @Test
+  public void testParseResolutions() {
+    assertArrayEquals(
+        new long[] {1000, 60000}, RollupStatistics.parseResolutions("60000, 1000,,-5,1000"));
+    assertEquals(0, RollupStatistics.parseResolutions("").length);
+  }
+
+  @Test
+  public void testAlignedRange() {
+    RollupStatistics rollup = new RollupStatistics(TSDataType.INT64, resolutions);
+    for (long time = -50; time < 250; time++) {
+      rollup.update(time, time);
+    }
+    Statistics<?> statistics = rollup.getStatistics(0, 200);
+    assertEquals(200, statistics.getCount());
+    assertEquals(0L, statistics.getFirstValue());
+    assertEquals(199L, statistics.getLastValue());
+    assertEquals(199 * 200 / 2, statistics.getSumDoubleValue(), 0);
+
+    statistics = rollup.getStatistics(-50, 30);
+    assertEquals(80, statistics.getCount());
+    assertEquals(-50L, statistics.getMinValue());
+    assertEquals(29L, statistics.getMaxValue());
+
+    assertEquals(0, rollup.getStatistics(1000, 1100).getCount());
+    // not aligned to any resolution
+    assertNull(rollup.getStatistics(5, 100));
+  }
+
+  @Test
+  public void testMergeAndSerialize() throws Exception {
+    RollupStatistics first = new RollupStatistics(TSDataType.DOUBLE, resolutions);
+    RollupStatistics second = new RollupStatistics(TSDataType.DOUBLE, resolutions);
+    for (long time = 0; time < 150; time++) {
+      first.update(time, 1.0);
+      second.update(time + 150, 2.0);
+    }
+    first.merge(second);
+
+    Statistics<Double> pageStatistics = new DoubleStatistics();
+    pageStatistics.update(301, 3.0);
+    pageStatistics.update(305, 3.0);
+    assertTrue(first.mergeStatistics(pageStatistics));
+    pageStatistics.update(311, 3.0);
+    assertFalse(first.mergeStatistics(pageStatistics));
+
+    PublicBAOS out = new PublicBAOS();
+    int size = first.serialize(out);
+    assertEquals(out.size(), size);
+    RollupStatistics deserialized =
+        RollupStatistics.deserialize(
+            ByteBuffer.wrap(out.getBuf(), 0, out.size()), TSDataType.DOUBLE);
+    assertArrayEquals(resolutions, deserialized.getResolutions());
+    Statistics<?> statistics = deserialized.getStatistics(100, 310);
+    assertEquals(202, statistics.getCount());
+    assertEquals(50 + 2 * 150 + 3 * 2, statistics.getSumDoubleValue(), 0.0001);
+    assertEquals(3.0, statistics.getLastValue());
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    List<MeasurementSchema> schemas =
+        Collections.singletonList(new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE));
+    int rowCount = 450;
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerTimeseries(new Path(deviceId), schemas);
+      // two chunks sharing the bucket [400, 500) of resolution 100
+      for (int chunk = 0; chunk < 2; chunk++) {
+        Tablet tablet = new Tablet(deviceId, schemas, rowCount);
+        for (int i = 0; i < rowCount; i++) {
+          int row = tablet.rowSize++;
+          long time = chunk * 480L + i;
+          tablet.addTimestamp(row, time);
+          tablet.addValue("s1", row, i);
+        }
+        writer.write(tablet);
+        writer.flushAllChunkGroups();
+      }
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(f.getPath())) {
+      TimeseriesMetadata timeseriesMetadata =
+          reader.readTimeseriesMetadata(new Path(deviceId, "s1"), false);
+      assertTrue(timeseriesMetadata.hasRollupStatistics());
+      RollupStatistics rollup = timeseriesMetadata.getRollupStatistics();
+      assertArrayEquals(resolutions, rollup.getResolutions());
+
+      Statistics<?> statistics = rollup.getStatistics(400, 500);
+      assertEquals(70, statistics.getCount());
+      assertEquals(0, statistics.getMinValue());
+      assertEquals(449, statistics.getMaxValue());
+      assertEquals(19, statistics.getLastValue());
+      assertEquals(400, rollup.getStatistics(500, 900).getCount());
+      assertEquals(2 * rowCount, rollup.getStatistics(0, 1000).getCount());
+
+      // the chunk metadata are still read correctly after the rollup
+      List<ChunkMetadata> chunkMetadataList = reader.getChunkMetadataList(new Path(deviceId, "s1"));
+      assertEquals(2, chunkMetadataList.size());
+      assertEquals(480, chunkMetadataList.get(1).getStartTime());
+    }
+  }
+}
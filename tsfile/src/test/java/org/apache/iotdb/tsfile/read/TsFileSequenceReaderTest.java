@@ -29,6 +29,7 @@ import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.common.Chunk;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.utils.FileGenerator;
 import org.apache.iotdb.tsfile.utils.Pair;
@@ -48,6 +49,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class TsFileSequenceReaderTest {
 
@@ -135,6 +139,54 @@ public class TsFileSequenceReaderTest {
     reader.close();
   }
 
+  @Test
+  public void testConcurrentRead() throws Exception {
+    Map<String, Long> expectedPointNums = new HashMap<>();
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(FILE_PATH)) {
+      for (String device : reader.getAllDevices()) {
+        long pointNum = 0;
+        for (List<ChunkMetadata> chunkMetadataList :
+            reader.readChunkMetadataInDevice(device).values()) {
+          for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+            pointNum += chunkMetadata.getNumOfPoints();
+          }
+        }
+        expectedPointNums.put(device, pointNum);
+      }
+    }
+
+    // all threads share one reader, as the queries of a server do
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(FILE_PATH, true, true)) {
+      ExecutorService pool = Executors.newFixedThreadPool(8);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  for (Map.Entry<String, Long> entry : expectedPointNums.entrySet()) {
+                    Assert.assertFalse(reader.readDeviceMetadata(entry.getKey()).isEmpty());
+                    long pointNum = 0;
+                    for (List<ChunkMetadata> chunkMetadataList :
+                        reader.readChunkMetadataInDevice(entry.getKey()).values()) {
+                      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+                        Chunk chunk = reader.readMemChunk(chunkMetadata);
+                        Assert.assertEquals(
+                            chunk.getHeader().getDataSize(), chunk.getData().remaining());
+                        pointNum += chunkMetadata.getNumOfPoints();
+                      }
+                    }
+                    Assert.assertEquals((long) entry.getValue(), pointNum);
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      pool.shutdown();
+    }
+  }
+
   @Test
   public void testReadEmptyPageInSelfCheck() throws IOException, WriteProcessException {
     int oldMaxPagePointNum =
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.filter;
+
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterType;
+import org.apache.iotdb.tsfile.read.filter.operator.Between;
+import org.apache.iotdb.tsfile.utils.Binary;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/** Check that the batch evaluation of filters selects the same points as satisfy(time, value). */
+public class BatchFilterTest {
+
+  private static final int SIZE = 1000;
+
+  private final Random random = new Random(20221017);
+
+  private final long[] times = new long[SIZE];
+
+  public BatchFilterTest() {
+    for (int i = 0; i < SIZE; i++) {
+      times[i] = i * 2L;
+    }
+  }
+
+  @Test
+  public void testIntFilters() {
+    int[] values = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = random.nextInt(100) - 50;
+    }
+    for (Filter filter : filters(0, -10, 10, 3, 7)) {
+      int[] selection = initSelection();
+      int size = filter.satisfyBatch(times, values, selection, selection.length);
+      List<Integer> expected = new ArrayList<>();
+      for (int i : initSelection()) {
+        if (filter.satisfy(times[i], values[i])) {
+          expected.add(i);
+        }
+      }
+      assertSelection(filter, expected, selection, size);
+    }
+  }
+
+  @Test
+  public void testLongFilters() {
+    long[] values = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = random.nextInt(100) - 50L;
+    }
+    for (Filter filter : filters(0L, -10L, 10L, 3L, 7L)) {
+      int[] selection = initSelection();
+      int size = filter.satisfyBatch(times, values, selection, selection.length);
+      List<Integer> expected = new ArrayList<>();
+      for (int i : initSelection()) {
+        if (filter.satisfy(times[i], values[i])) {
+          expected.add(i);
+        }
+      }
+      assertSelection(filter, expected, selection, size);
+    }
+  }
+
+  @Test
+  public void testFloatFilters() {
+    float[] values = new float[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = random.nextInt(100) - 50f;
+    }
+    // values compareTo and equals treat specially
+    values[1] = Float.NaN;
+    values[2] = -0.0f;
+    values[3] = 0.0f;
+    for (Filter filter : filters(0.0f, -10f, 10f, Float.NaN, 7f)) {
+      int[] selection = initSelection();
+      int size = filter.satisfyBatch(times, values, selection, selection.length);
+      List<Integer> expected = new ArrayList<>();
+      for (int i : initSelection()) {
+        if (filter.satisfy(times[i], values[i])) {
+          expected.add(i);
+        }
+      }
+      assertSelection(filter, expected, selection, size);
+    }
+  }
+
+  @Test
+  public void testDoubleFilters() {
+    double[] values = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = random.nextInt(100) - 50d;
+    }
+    values[1] = Double.NaN;
+    values[2] = -0.0d;
+    values[3] = 0.0d;
+    for (Filter filter : filters(0.0d, -10d, 10d, Double.NaN, 7d)) {
+      int[] selection = initSelection();
+      int size = filter.satisfyBatch(times, values, selection, selection.length);
+      List<Integer> expected = new ArrayList<>();
+      for (int i : initSelection()) {
+        if (filter.satisfy(times[i], values[i])) {
+          expected.add(i);
+        }
+      }
+      assertSelection(filter, expected, selection, size);
+    }
+  }
+
+  @Test
+  public void testBooleanAndBinaryFilters() {
+    boolean[] booleans = new boolean[SIZE];
+    Binary[] binaries = new Binary[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      booleans[i] = random.nextBoolean();
+      binaries[i] = new Binary("s" + random.nextInt(10));
+    }
+    List<Filter> filters =
+        Arrays.asList(
+            ValueFilter.eq(true),
+            FilterFactory.and(TimeFilter.gt(100L), ValueFilter.notEq(false)),
+            FilterFactory.or(TimeFilter.lt(50L), ValueFilter.eq(false)));
+    for (Filter filter : filters) {
+      int[] selection = initSelection();
+      int size = filter.satisfyBatch(times, booleans, selection, selection.length);
+      List<Integer> expected = new ArrayList<>();
+      for (int i : initSelection()) {
+        if (filter.satisfy(times[i], booleans[i])) {
+          expected.add(i);
+        }
+      }
+      assertSelection(filter, expected, selection, size);
+    }
+
+    filters =
+        Arrays.asList(
+            ValueFilter.gt(new Binary("s5")),
+            ValueFilter.like("s1%"),
+            FilterFactory.or(TimeFilter.between(10L, 20L, false), ValueFilter.eq(new Binary("s3"))),
+            ValueFilter.not(ValueFilter.regexp("s[0-4]")));
+    for (Filter filter : filters) {
+      int[] selection = initSelection();
+      int size = filter.satisfyBatch(times, binaries, selection, selection.length);
+      List<Integer> expected = new ArrayList<>();
+      for (int i : initSelection()) {
+        if (filter.satisfy(times[i], binaries[i])) {
+          expected.add(i);
+        }
+      }
+      assertSelection(filter, expected, selection, size);
+    }
+  }
+
+  @Test
+  public void testPartialSelection() {
+    long[] values = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = i % 10;
+    }
+    // only even positions are examined, as if the odd ones were deleted
+    int[] selection = new int[SIZE / 2];
+    for (int i = 0; i < selection.length; i++) {
+      selection[i] = i * 2;
+    }
+    Filter filter = FilterFactory.or(ValueFilter.lt(2L), ValueFilter.not(ValueFilter.lt(8L)));
+    int size = filter.satisfyBatch(times, values, selection, selection.length);
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < SIZE; i += 2) {
+      if (values[i] < 2 || values[i] >= 8) {
+        expected.add(i);
+      }
+    }
+    assertSelection(filter, expected, selection, size);
+  }
+
+  /** value filters over the given constants combined with time filters */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private <T extends Comparable<T>> List<Filter> filters(T zero, T low, T high, T v1, T v2) {
+    List<Filter> filters = new ArrayList<>();
+    filters.add(ValueFilter.eq(zero));
+    filters.add(ValueFilter.notEq(zero));
+    filters.add(ValueFilter.gt(low));
+    filters.add(ValueFilter.gtEq(low));
+    filters.add(ValueFilter.lt(high));
+    filters.add(ValueFilter.ltEq(high));
+    filters.add(new Between(low, high, FilterType.VALUE_FILTER, false));
+    filters.add(new Between(low, high, FilterType.VALUE_FILTER, true));
+    filters.add(ValueFilter.in(new HashSet<>(Arrays.asList(zero, v1, v2)), false));
+    filters.add(ValueFilter.in(new HashSet<>(Arrays.asList(zero, v1, v2)), true));
+    filters.add(TimeFilter.gtEq(500L));
+    filters.add(TimeFilter.in(new HashSet<>(Arrays.asList(0L, 4L, 1998L)), false));
+    filters.add(TimeFilter.between(100L, 300L, true));
+    filters.add(FilterFactory.and(ValueFilter.gt(low), ValueFilter.lt(high)));
+    filters.add(FilterFactory.and(TimeFilter.lt(1000L), ValueFilter.notEq(zero)));
+    filters.add(FilterFactory.or(ValueFilter.lt(low), ValueFilter.gt(high)));
+    filters.add(FilterFactory.or(TimeFilter.ltEq(100L), ValueFilter.eq(v2)));
+    filters.add(ValueFilter.not(ValueFilter.ltEq(zero)));
+    filters.add(
+        FilterFactory.or(
+            FilterFactory.and(TimeFilter.gt(200L), ValueFilter.gtEq(zero)),
+            ValueFilter.not(ValueFilter.in(new HashSet<>(Arrays.asList(low, high)), true))));
+    return filters;
+  }
+
+  private int[] initSelection() {
+    int[] selection = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      selection[i] = i;
+    }
+    return selection;
+  }
+
+  private void assertSelection(Filter filter, List<Integer> expected, int[] selection, int size) {
+    Assert.assertEquals(filter.toString(), expected.size(), size);
+    for (int i = 0; i < size; i++) {
+      Assert.assertEquals(filter.toString(), (int) expected.get(i), selection[i]);
+    }
+  }
+}
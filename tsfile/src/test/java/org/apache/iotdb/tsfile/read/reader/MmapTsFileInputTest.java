@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader;
+
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.FileGenerator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MmapTsFileInputTest {
+
+  private static final String FILE_PATH = FileGenerator.outputDataFile;
+
+  @Before
+  public void before() throws IOException {
+    FileGenerator.generateFile(100, 10000);
+  }
+
+  @After
+  public void after() {
+    FileGenerator.after();
+  }
+
+  @Test
+  public void testReadChunkSameAsLocalInput() throws IOException {
+    try (TsFileSequenceReader localReader = new TsFileSequenceReader(FILE_PATH);
+        TsFileSequenceReader mmapReader =
+            new TsFileSequenceReader(new MmapTsFileInput(Paths.get(FILE_PATH)))) {
+      Assert.assertEquals(localReader.getAllDevices(), mmapReader.getAllDevices());
+      Path path = new Path("d1", "s1");
+      List<ChunkMetadata> localMetadata = localReader.getChunkMetadataList(path);
+      List<ChunkMetadata> mmapMetadata = mmapReader.getChunkMetadataList(path);
+      Assert.assertEquals(localMetadata.size(), mmapMetadata.size());
+      for (int i = 0; i < localMetadata.size(); i++) {
+        Chunk localChunk = localReader.readMemChunk(localMetadata.get(i));
+        Chunk mmapChunk = mmapReader.readMemChunk(mmapMetadata.get(i));
+        Assert.assertEquals(localChunk.getData(), mmapChunk.getData());
+      }
+    }
+  }
+
+  @Test
+  public void testPositionalRead() throws IOException {
+    MmapTsFileInput input = new MmapTsFileInput(Paths.get(FILE_PATH));
+    LocalTsFileInput localInput = new LocalTsFileInput(Paths.get(FILE_PATH));
+    try {
+      Assert.assertEquals(localInput.size(), input.size());
+
+      ByteBuffer expected = ByteBuffer.allocate(16);
+      ByteBuffer actual = ByteBuffer.allocate(16);
+      localInput.read(expected, 4);
+      Assert.assertEquals(16, input.read(actual, 4));
+      expected.flip();
+      actual.flip();
+      Assert.assertEquals(expected, actual);
+      // positional reads do not move the input
+      Assert.assertEquals(0, input.position());
+
+      input.position(input.size());
+      Assert.assertEquals(-1, input.read(ByteBuffer.allocate(1)));
+      Assert.assertEquals(-1, input.read());
+    } finally {
+      localInput.close();
+      input.close();
+    }
+
+    try {
+      input.read(ByteBuffer.allocate(1), 0);
+      Assert.fail();
+    } catch (IOException e) {
+      // expected, the input is closed
+    }
+  }
+
+  @Test
+  public void testMappedBytesLimit() throws IOException {
+    long mappedBytes = MmapTsFileInput.getMappedBytes();
+    MmapTsFileInput input = MmapTsFileInput.tryMap(Paths.get(FILE_PATH), Long.MAX_VALUE);
+    Assert.assertNotNull(input);
+    try {
+      Assert.assertEquals(mappedBytes + input.size(), MmapTsFileInput.getMappedBytes());
+      // the limit can not hold another mapping of the file
+      Assert.assertNull(
+          MmapTsFileInput.tryMap(
+              Paths.get(FILE_PATH), MmapTsFileInput.getMappedBytes() + input.size() - 1));
+      Assert.assertEquals(mappedBytes + input.size(), MmapTsFileInput.getMappedBytes());
+    } finally {
+      input.close();
+    }
+    // unmapped on close, closing again is a no-op
+    Assert.assertEquals(mappedBytes, MmapTsFileInput.getMappedBytes());
+    input.close();
+    Assert.assertEquals(mappedBytes, MmapTsFileInput.getMappedBytes());
+  }
+
+  @Test
+  public void testChunkOutlivesReader() throws IOException {
+    testChunkOutlivesReader(false);
+    testChunkOutlivesReader(true);
+  }
+
+  private void testChunkOutlivesReader(boolean pooled) throws IOException {
+    Path path = new Path("d1", "s1");
+    List<Chunk> chunks = new ArrayList<>();
+    List<ByteBuffer> expected = new ArrayList<>();
+    try (TsFileSequenceReader localReader = new TsFileSequenceReader(FILE_PATH);
+        TsFileSequenceReader mmapReader =
+            new TsFileSequenceReader(new MmapTsFileInput(Paths.get(FILE_PATH)))) {
+      for (ChunkMetadata chunkMetadata : mmapReader.getChunkMetadataList(path)) {
+        Chunk chunk = mmapReader.readMemChunk(chunkMetadata, pooled);
+        // copied out of the mapping
+        Assert.assertFalse(chunk.getData().isReadOnly());
+        chunks.add(chunk);
+      }
+      for (ChunkMetadata chunkMetadata : localReader.getChunkMetadataList(path)) {
+        expected.add(localReader.readMemChunk(chunkMetadata).getData());
+      }
+    }
+    // the file is unmapped now, the chunks are still readable
+    Assert.assertEquals(expected.size(), chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      Assert.assertEquals(expected.get(i), chunks.get(i).getData());
+      chunks.get(i).release();
+    }
+  }
+
+  @Test
+  public void testCloseWhileReading() throws Exception {
+    MmapTsFileInput input = new MmapTsFileInput(Paths.get(FILE_PATH));
+    AtomicBoolean closed = new AtomicBoolean(false);
+    Thread reader =
+        new Thread(
+            () -> {
+              ByteBuffer buffer = ByteBuffer.allocate(1024);
+              try {
+                // read until the input is closed under us, must not touch the unmapped file
+                while (true) {
+                  buffer.clear();
+                  input.read(buffer, 0);
+                  input.readVarIntString(0);
+                }
+              } catch (IOException e) {
+                closed.set(true);
+              }
+            });
+    reader.start();
+    Thread.sleep(10);
+    input.close();
+    reader.join(10_000);
+    Assert.assertFalse(reader.isAlive());
+    Assert.assertTrue(closed.get());
+  }
+}
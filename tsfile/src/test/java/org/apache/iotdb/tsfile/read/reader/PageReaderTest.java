@@ -35,6 +35,7 @@ import org.apache.iotdb.tsfile.encoding.encoder.SinglePrecisionEncoderV1;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.common.block.TsBlock;
 import org.apache.iotdb.tsfile.read.reader.page.PageReader;
 import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.write.page.PageWriter;
@@ -225,6 +226,18 @@ public class PageReaderTest {
           index++;
         }
         Assert.assertEquals(count, index);
+
+        decoder.reset();
+        page.rewind();
+        pageReader =
+            new PageReader(
+                page, dataType, decoder, new DeltaBinaryDecoder.LongDeltaDecoder(), null);
+        TsBlock tsBlock = pageReader.getAllSatisfiedData();
+        Assert.assertEquals(count, tsBlock.getPositionCount());
+        for (int i = 0; i < count; i++) {
+          Assert.assertEquals(i, tsBlock.getTimeByIndex(i));
+          Assert.assertEquals(generateValueByIndex(i), tsBlock.getColumn(0).getObject(i));
+        }
       } catch (IOException e) {
         e.printStackTrace();
         Assert.fail("Fail when executing test: [" + name + "]");
@@ -266,6 +279,22 @@ public class PageReaderTest {
             }
           }
         }
+
+        decoder.reset();
+        page.rewind();
+        pageReader =
+            new PageReader(
+                page, dataType, decoder, new DeltaBinaryDecoder.LongDeltaDecoder(), null);
+        pageReader.setDeleteIntervalList(deleteIntervals);
+        TsBlock tsBlock = pageReader.getAllSatisfiedData();
+        Assert.assertEquals(count - 6 - 11 - 21, tsBlock.getPositionCount());
+        for (int i = 0; i < tsBlock.getPositionCount(); i++) {
+          long time = tsBlock.getTimeByIndex(i);
+          for (TimeRange range : deleteIntervals) {
+            Assert.assertFalse(range.contains(time));
+          }
+          Assert.assertEquals(generateValueByIndex((int) time), tsBlock.getColumn(0).getObject(i));
+        }
       } catch (IOException e) {
         e.printStackTrace();
         Assert.fail("Fail when executing test: [" + name + "]");
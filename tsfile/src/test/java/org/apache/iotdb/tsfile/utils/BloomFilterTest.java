@@ -20,6 +20,8 @@ package org.apache.iotdb.tsfile.utils;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class BloomFilterTest {
@@ -63,4 +65,49 @@ public class BloomFilterTest {
     assertTrue(filter1.contains(value2));
     assertTrue(filter1.contains(value3));
   }
+
+  @Test
+  public void testSplitBlockBloomFilter() {
+    int valueNum = 10000;
+    BloomFilter filter = SplitBlockBloomFilter.getEmptyBloomFilter(0.05, valueNum);
+    for (int i = 0; i < valueNum; i++) {
+      filter.add("root.sg.d" + i + ".s1");
+    }
+    for (int i = 0; i < valueNum; i++) {
+      assertTrue(filter.contains("root.sg.d" + i + ".s1"));
+    }
+    assertFalse(filter.contains(null));
+
+    int falsePositives = 0;
+    for (int i = 0; i < valueNum; i++) {
+      if (filter.contains("root.sg.d" + i + ".s2")) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < valueNum * 0.1);
+
+    BloomFilter filter1 =
+        BloomFilter.buildBloomFilter(
+            filter.serialize(), filter.getSize(), filter.getHashFunctionSize());
+    assertTrue(filter1 instanceof SplitBlockBloomFilter);
+    assertEquals(filter, filter1);
+    assertEquals(filter.getBitCount(), filter1.getBitCount());
+    for (int i = 0; i < valueNum; i++) {
+      assertTrue(filter1.contains("root.sg.d" + i + ".s1"));
+    }
+  }
+
+  @Test
+  public void testSplitBlockBloomFilterSize() {
+    int blockNum = SplitBlockBloomFilter.getBlockNum(0.05, 1000);
+    assertTrue(blockNum > 0);
+    // 8 * numOfString overflows an int
+    int largeBlockNum = SplitBlockBloomFilter.getBlockNum(0.05, 300_000_000);
+    assertTrue(largeBlockNum > blockNum);
+    // the number of bits still fits in an int
+    int maxBlockNum = SplitBlockBloomFilter.getBlockNum(0.05, Integer.MAX_VALUE);
+    assertTrue(maxBlockNum >= largeBlockNum);
+    assertTrue((long) maxBlockNum * 256 <= Integer.MAX_VALUE);
+    assertEquals(1, SplitBlockBloomFilter.getBlockNum(0.05, 0));
+  }
 }
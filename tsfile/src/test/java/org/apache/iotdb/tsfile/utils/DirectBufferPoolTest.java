@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.utils;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.AlignedChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.IChunkReader;
+import org.apache.iotdb.tsfile.read.reader.chunk.AlignedChunkReader;
+import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.utils.DirectBufferPool.PooledBuffer;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DirectBufferPoolTest {
+
+  private static final String FILE_PATH =
+      TsFileGeneratorForTest.getTestTsFilePath("root.sg1", 0, 0, 2);
+
+  private static final int POINT_NUM = 20000;
+
+  private static final int ALIGNED_SERIES_NUM = 2;
+
+  private final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+  private final DirectBufferPool pool = DirectBufferPool.getInstance();
+
+  private long prevPoolSize;
+
+  @Before
+  public void setUp() {
+    prevPoolSize = config.getDirectBufferPoolSizeInByte();
+    config.setDirectBufferPoolSizeInByte(1 << 20);
+    pool.clear();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    config.setDirectBufferPoolSizeInByte(prevPoolSize);
+    pool.clear();
+    Files.deleteIfExists(new File(FILE_PATH).toPath());
+  }
+
+  @Test
+  public void testReuse() {
+    PooledBuffer first = pool.allocate(5000);
+    ByteBuffer buffer = first.getBuffer();
+    Assert.assertTrue(buffer.isDirect());
+    Assert.assertEquals(0, buffer.position());
+    Assert.assertEquals(5000, buffer.limit());
+    Assert.assertEquals(8192, buffer.capacity());
+    first.release();
+    Assert.assertEquals(8192, pool.getIdleBytes());
+
+    // the same size class is served by the idle buffer
+    PooledBuffer second = pool.allocate(8000);
+    Assert.assertSame(buffer, second.getBuffer());
+    Assert.assertEquals(8000, second.getBuffer().limit());
+    Assert.assertEquals(0, pool.getIdleBytes());
+    second.release();
+    Assert.assertEquals(0.5, pool.getReuseRatio(), 0.0);
+  }
+
+  @Test
+  public void testReferenceCount() {
+    PooledBuffer buffer = pool.allocate(100);
+    Assert.assertTrue(buffer.tryRetain());
+    Assert.assertEquals(2, buffer.getReferenceCount());
+    buffer.release();
+    Assert.assertEquals(0, pool.getIdleBytes());
+    buffer.release();
+    Assert.assertEquals(4096, pool.getIdleBytes());
+
+    // a released buffer can not be held again
+    Assert.assertFalse(buffer.tryRetain());
+    try {
+      buffer.release();
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testCapacity() {
+    config.setDirectBufferPoolSizeInByte(8192);
+    PooledBuffer first = pool.allocate(8192);
+    PooledBuffer second = pool.allocate(8192);
+    first.release();
+    second.release();
+    Assert.assertEquals(8192, pool.getIdleBytes());
+
+    Assert.assertFalse(pool.canPool(DirectBufferPool.MAX_POOLED_SIZE + 1));
+    config.setDirectBufferPoolSizeInByte(0);
+    Assert.assertFalse(pool.isEnabled());
+    Assert.assertFalse(pool.canPool(1));
+  }
+
+  @Test
+  public void testPooledWriteAndRead() throws IOException, WriteProcessException {
+    CompressionType[] compressionTypes = {
+      CompressionType.SNAPPY, CompressionType.LZ4, CompressionType.ZSTD, CompressionType.GZIP
+    };
+    File file = new File(FILE_PATH);
+    if (!file.getParentFile().exists()) {
+      Assert.assertTrue(file.getParentFile().mkdirs());
+    }
+    try (TsFileWriter writer = new TsFileWriter(file)) {
+      for (CompressionType compressionType : compressionTypes) {
+        writer.registerTimeseries(
+            new Path("d1"),
+            new MeasurementSchema(
+                compressionType.name(), TSDataType.INT64, TSEncoding.PLAIN, compressionType));
+      }
+      // the value chunks of an aligned device are uncompressed like its time chunk
+      List<MeasurementSchema> alignedSchemas = new ArrayList<>();
+      for (int i = 0; i < ALIGNED_SERIES_NUM; i++) {
+        alignedSchemas.add(
+            new MeasurementSchema(
+                "s" + i, TSDataType.INT64, TSEncoding.PLAIN, config.getCompressor()));
+      }
+      writer.registerAlignedTimeseries(new Path("d2"), alignedSchemas);
+      for (long time = 0; time < POINT_NUM; time++) {
+        TSRecord record = new TSRecord(time, "d1");
+        TSRecord alignedRecord = new TSRecord(time, "d2");
+        for (CompressionType compressionType : compressionTypes) {
+          record.addTuple(new LongDataPoint(compressionType.name(), time * 3));
+        }
+        for (int i = 0; i < ALIGNED_SERIES_NUM; i++) {
+          alignedRecord.addTuple(new LongDataPoint("s" + i, time * 3));
+        }
+        writer.write(record);
+        writer.writeAligned(alignedRecord);
+      }
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(FILE_PATH)) {
+      for (CompressionType compressionType : compressionTypes) {
+        long time = 0;
+        for (ChunkMetadata chunkMetadata :
+            reader.getChunkMetadataList(new Path("d1", compressionType.name()))) {
+          Chunk chunk = reader.readMemChunk(chunkMetadata, true);
+          Assert.assertTrue(chunk.getData().isDirect());
+          IChunkReader chunkReader = new ChunkReader(chunk, null);
+          chunk.release();
+          time = checkPoints(chunkReader, time, false);
+        }
+        Assert.assertEquals(POINT_NUM, time);
+      }
+
+      long time = 0;
+      for (AlignedChunkMetadata chunkMetadata : reader.getAlignedChunkMetadata("d2")) {
+        Chunk timeChunk =
+            reader.readMemChunk((ChunkMetadata) chunkMetadata.getTimeChunkMetadata(), true);
+        List<Chunk> valueChunks = new ArrayList<>();
+        for (IChunkMetadata valueChunkMetadata : chunkMetadata.getValueChunkMetadataList()) {
+          valueChunks.add(reader.readMemChunk((ChunkMetadata) valueChunkMetadata, true));
+        }
+        for (Chunk valueChunk : valueChunks) {
+          timeChunk.getData().rewind();
+          time =
+              checkPoints(
+                  new AlignedChunkReader(timeChunk, Collections.singletonList(valueChunk), null),
+                  time,
+                  true);
+          valueChunk.release();
+          time -= chunkMetadata.getStatistics().getCount();
+        }
+        timeChunk.release();
+        time += chunkMetadata.getStatistics().getCount();
+      }
+      Assert.assertEquals(POINT_NUM, time);
+    }
+    Assert.assertTrue(pool.getIdleBytes() > 0);
+  }
+
+  /** @return the time after the last point read */
+  private long checkPoints(IChunkReader chunkReader, long time, boolean aligned)
+      throws IOException {
+    while (chunkReader.hasNextSatisfiedPage()) {
+      BatchData batchData = chunkReader.nextPageData();
+      while (batchData.hasCurrent()) {
+        Assert.assertEquals(time, batchData.currentTime());
+        long value = aligned ? batchData.getVector()[0].getLong() : (long) batchData.currentValue();
+        Assert.assertEquals(time * 3, value);
+        time++;
+        batchData.next();
+      }
+    }
+    return time;
+  }
+}
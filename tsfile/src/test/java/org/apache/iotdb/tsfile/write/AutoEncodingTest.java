@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.encoding.encoder.AutoEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
+import org.apache.iotdb.tsfile.file.metadata.AlignedChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.IChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AutoEncodingTest {
+
+  private final File f = FSFactoryProducer.getFSFactory().getFile("AutoEncodingTest.tsfile");
+  private final String deviceId = "root.sg.d1";
+  private final String alignedDeviceId = "root.sg.d2";
+  private final int oldMaxNumOfPointsInPage =
+      TSFileDescriptor.getInstance().getConfig().getMaxNumberOfPointsInPage();
+
+  @Before
+  public void setUp() {
+    if (f.exists() && !f.delete()) {
+      throw new RuntimeException("can not delete " + f.getAbsolutePath());
+    }
+    TSFileDescriptor.getInstance().getConfig().setMaxNumberOfPointsInPage(1000);
+  }
+
+  @After
+  public void tearDown() {
+    if (f.exists()) {
+      f.delete();
+    }
+    TSFileDescriptor.getInstance().getConfig().setMaxNumberOfPointsInPage(oldMaxNumOfPointsInPage);
+  }
+
+  @Test
+  public void testSelectSmallestCandidate() throws IOException {
+    long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1_000_000L + i * 10L;
+    }
+    AutoEncoder autoEncoder = new AutoEncoder(TSDataType.INT64);
+    Assert.assertNull(autoEncoder.getSelectedEncoding());
+    PublicBAOS out = new PublicBAOS();
+    for (long value : values) {
+      autoEncoder.encode(value, out);
+    }
+    autoEncoder.flush(out);
+
+    int smallest = Integer.MAX_VALUE;
+    for (TSEncoding candidate : AutoEncoder.getCandidates(TSDataType.INT64)) {
+      Encoder encoder =
+          TSEncodingBuilder.getEncodingBuilder(candidate).getEncoder(TSDataType.INT64);
+      PublicBAOS candidateOut = new PublicBAOS();
+      for (long value : values) {
+        encoder.encode(value, candidateOut);
+      }
+      encoder.flush(candidateOut);
+      smallest = Math.min(smallest, candidateOut.size());
+    }
+    Assert.assertEquals(smallest, out.size());
+    Assert.assertEquals(TSEncoding.TS_2DIFF, autoEncoder.getSelectedEncoding());
+
+    Decoder decoder = Decoder.getDecoderByType(autoEncoder.getSelectedEncoding(), TSDataType.INT64);
+    ByteBuffer buffer = ByteBuffer.wrap(out.getBuf(), 0, out.size());
+    for (long value : values) {
+      Assert.assertTrue(decoder.hasNext(buffer));
+      Assert.assertEquals(value, decoder.readLong(buffer));
+    }
+    Assert.assertFalse(decoder.hasNext(buffer));
+  }
+
+  @Test
+  public void testFlushWithoutValue() throws IOException {
+    AutoEncoder autoEncoder = new AutoEncoder(TSDataType.DOUBLE);
+    PublicBAOS out = new PublicBAOS();
+    autoEncoder.flush(out);
+    Assert.assertEquals(0, out.size());
+    Assert.assertNull(autoEncoder.getSelectedEncoding());
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    List<MeasurementSchema> schemas =
+        Arrays.asList(
+            new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.AUTO),
+            new MeasurementSchema("s2", TSDataType.TEXT, TSEncoding.AUTO),
+            new MeasurementSchema("s3", TSDataType.DOUBLE, TSEncoding.AUTO));
+    int rowCount = 5000;
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerTimeseries(new Path(deviceId), schemas);
+      writer.registerAlignedTimeseries(new Path(alignedDeviceId), schemas);
+      Tablet tablet = new Tablet(deviceId, schemas, rowCount);
+      Tablet alignedTablet = new Tablet(alignedDeviceId, schemas, rowCount);
+      for (int i = 0; i < rowCount; i++) {
+        for (Tablet t : Arrays.asList(tablet, alignedTablet)) {
+          int row = t.rowSize++;
+          t.addTimestamp(row, i);
+          t.addValue("s1", row, (long) i * 10);
+          t.addValue("s2", row, new Binary("status" + i % 3));
+          t.addValue("s3", row, i / 4.0);
+        }
+      }
+      writer.write(tablet);
+      writer.writeAligned(alignedTablet);
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(f.getPath())) {
+      List<IChunkMetadata> chunkMetadataList = new ArrayList<>();
+      for (MeasurementSchema schema : schemas) {
+        chunkMetadataList.addAll(
+            reader.getChunkMetadataList(new Path(deviceId, schema.getMeasurementId())));
+      }
+      for (AlignedChunkMetadata alignedChunkMetadata :
+          reader.getAlignedChunkMetadata(alignedDeviceId)) {
+        chunkMetadataList.addAll(alignedChunkMetadata.getValueChunkMetadataList());
+      }
+      Assert.assertEquals(6, chunkMetadataList.size());
+      for (IChunkMetadata chunkMetadata : chunkMetadataList) {
+        Chunk chunk = reader.readMemChunk((ChunkMetadata) chunkMetadata);
+        TSEncoding encoding = chunk.getHeader().getEncodingType();
+        Assert.assertNotEquals(TSEncoding.AUTO, encoding);
+        switch (chunk.getHeader().getDataType()) {
+          case INT64:
+            Assert.assertEquals(TSEncoding.TS_2DIFF, encoding);
+            break;
+          case TEXT:
+            Assert.assertEquals(TSEncoding.DICTIONARY, encoding);
+            break;
+          default:
+            Assert.assertNotEquals(TSEncoding.PLAIN, encoding);
+        }
+      }
+
+      for (MeasurementSchema schema : schemas) {
+        int count = 0;
+        for (ChunkMetadata chunkMetadata :
+            reader.getChunkMetadataList(new Path(deviceId, schema.getMeasurementId()))) {
+          ChunkReader chunkReader = new ChunkReader(reader.readMemChunk(chunkMetadata), null);
+          while (chunkReader.hasNextSatisfiedPage()) {
+            BatchData batchData = chunkReader.nextPageData();
+            while (batchData.hasCurrent()) {
+              long time = batchData.currentTime();
+              Assert.assertEquals(count++, time);
+              switch (schema.getType()) {
+                case INT64:
+                  Assert.assertEquals(time * 10, batchData.getLong());
+                  break;
+                case TEXT:
+                  Assert.assertEquals("status" + time % 3, batchData.getBinary().toString());
+                  break;
+                default:
+                  Assert.assertEquals(time / 4.0, batchData.getDouble(), 0);
+              }
+              batchData.next();
+            }
+          }
+        }
+        Assert.assertEquals(rowCount, count);
+      }
+    }
+  }
+}
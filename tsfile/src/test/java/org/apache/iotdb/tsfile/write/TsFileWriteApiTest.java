@@ -20,9 +20,11 @@ package org.apache.iotdb.tsfile.write;
 
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.TsFileGeneratorUtils;
@@ -36,6 +38,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,6 +50,8 @@ public class TsFileWriteApiTest {
   private int oldChunkGroupSize = TSFileDescriptor.getInstance().getConfig().getGroupSizeInByte();
   private int oldMaxNumOfPointsInPage =
       TSFileDescriptor.getInstance().getConfig().getMaxNumberOfPointsInPage();
+  private int oldEncodingThreadCount =
+      TSFileDescriptor.getInstance().getConfig().getChunkGroupEncodingThreadCount();
 
   @Before
   public void setUp() {
@@ -60,6 +65,9 @@ public class TsFileWriteApiTest {
     if (f.exists()) f.delete();
     TSFileDescriptor.getInstance().getConfig().setMaxNumberOfPointsInPage(oldMaxNumOfPointsInPage);
     TSFileDescriptor.getInstance().getConfig().setGroupSizeInByte(oldChunkGroupSize);
+    TSFileDescriptor.getInstance()
+        .getConfig()
+        .setChunkGroupEncodingThreadCount(oldEncodingThreadCount);
   }
 
   private void setEnv(int chunkGroupSize, int pageSize) {
@@ -423,4 +431,93 @@ public class TsFileWriteApiTest {
       Assert.fail("Meet errors in test: " + e.getMessage());
     }
   }
+
+  @Test
+  public void writeWithParallelChunkGroupEncoding() throws IOException, WriteProcessException {
+    setEnv(1024 * 1024, 100);
+    File parallelFile =
+        FSFactoryProducer.getFSFactory().getFile("TsFileWriteParallelEncodingTest.tsfile");
+    try {
+      for (boolean withTablet : new boolean[] {false, true}) {
+        TSFileDescriptor.getInstance().getConfig().setChunkGroupEncodingThreadCount(1);
+        writeManyDevices(f, withTablet);
+        TSFileDescriptor.getInstance().getConfig().setChunkGroupEncodingThreadCount(4);
+        // the writes are buffered and encoded concurrently, the tablet is reused meanwhile
+        writeManyDevices(parallelFile, withTablet);
+        // chunk groups must be laid out exactly as a serial writer does
+        Assert.assertArrayEquals(
+            Files.readAllBytes(f.toPath()), Files.readAllBytes(parallelFile.toPath()));
+        f.delete();
+        parallelFile.delete();
+      }
+    } finally {
+      if (parallelFile.exists()) {
+        parallelFile.delete();
+      }
+    }
+  }
+
+  @Test
+  public void writeOutOfOrderWithParallelChunkGroupEncoding()
+      throws IOException, WriteProcessException {
+    setEnv(1024 * 1024, 100);
+    TSFileDescriptor.getInstance().getConfig().setChunkGroupEncodingThreadCount(4);
+    try (TsFileWriter tsFileWriter = new TsFileWriter(f)) {
+      registerTimeseries(tsFileWriter);
+      TsFileGeneratorUtils.writeWithTsRecord(
+          tsFileWriter, deviceId, measurementSchemas, 10, 10, 0, false);
+      // buffered, it only fails when the chunk group is encoded
+      TsFileGeneratorUtils.writeWithTsRecord(
+          tsFileWriter, deviceId, measurementSchemas, 1, 0, 0, false);
+      try {
+        tsFileWriter.flushAllChunkGroups();
+        Assert.fail();
+      } catch (IOException e) {
+        Assert.assertTrue(e.getCause() instanceof WriteProcessException);
+      }
+      // the other rows are flushed
+      TsFileGeneratorUtils.writeWithTsRecord(
+          tsFileWriter, deviceId, measurementSchemas, 10, 20, 0, false);
+    }
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(f.getPath())) {
+      long pointNum = 0;
+      for (ChunkMetadata chunkMetadata :
+          reader.getChunkMetadataList(
+              new Path(deviceId, measurementSchemas.get(0).getMeasurementId()))) {
+        pointNum += chunkMetadata.getNumOfPoints();
+      }
+      Assert.assertEquals(20, pointNum);
+    }
+  }
+
+  private void writeManyDevices(File file, boolean withTablet)
+      throws IOException, WriteProcessException {
+    List<MeasurementSchema> schemas = new ArrayList<>();
+    schemas.add(new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.RLE));
+    schemas.add(new MeasurementSchema("s2", TSDataType.INT64, TSEncoding.TS_2DIFF));
+    schemas.add(new MeasurementSchema("s3", TSDataType.INT64, TSEncoding.GORILLA));
+    try (TsFileWriter tsFileWriter = new TsFileWriter(file)) {
+      for (int i = 0; i < 20; i++) {
+        boolean isAligned = i % 2 == 0;
+        String device = "root.sg.d" + i;
+        if (isAligned) {
+          tsFileWriter.registerAlignedTimeseries(new Path(device), schemas);
+        } else {
+          tsFileWriter.registerTimeseries(new Path(device), schemas);
+        }
+      }
+      for (int round = 0; round < 3; round++) {
+        for (int i = 0; i < 20; i++) {
+          if (withTablet) {
+            TsFileGeneratorUtils.writeWithTablet(
+                tsFileWriter, "root.sg.d" + i, schemas, 1500, round * 1500, i, i % 2 == 0);
+          } else {
+            TsFileGeneratorUtils.writeWithTsRecord(
+                tsFileWriter, "root.sg.d" + i, schemas, 1000, round * 1000, i, i % 2 == 0);
+          }
+        }
+        tsFileWriter.flushAllChunkGroups();
+      }
+    }
+  }
 }
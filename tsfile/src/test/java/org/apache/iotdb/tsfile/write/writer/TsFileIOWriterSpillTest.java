@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write.writer;
+
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.BloomFilter;
+import org.apache.iotdb.tsfile.utils.TsFileGeneratorForTest;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TsFileIOWriterSpillTest {
+
+  private static final String FILE_PATH =
+      TsFileGeneratorForTest.getTestTsFilePath("root.sg1", 0, 0, 3);
+  private static final String SPILLED_FILE_PATH =
+      TsFileGeneratorForTest.getTestTsFilePath("root.sg1", 0, 0, 4);
+
+  private static final int DEVICE_NUM = 30;
+  private static final int SERIES_NUM = 6;
+  private static final int ROUND_NUM = 3;
+  private static final int POINT_NUM = 100;
+
+  private final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+  private int prevMaxDegreeOfIndexNode;
+
+  @Before
+  public void setUp() {
+    prevMaxDegreeOfIndexNode = config.getMaxDegreeOfIndexNode();
+    // build several levels of device and measurement index nodes
+    config.setMaxDegreeOfIndexNode(4);
+    File file = new File(FILE_PATH);
+    if (!file.getParentFile().exists()) {
+      Assert.assertTrue(file.getParentFile().mkdirs());
+    }
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    config.setMaxDegreeOfIndexNode(prevMaxDegreeOfIndexNode);
+    Files.deleteIfExists(new File(FILE_PATH).toPath());
+    Files.deleteIfExists(new File(SPILLED_FILE_PATH).toPath());
+  }
+
+  @Test
+  public void testSpilledFileEqualsInMemory() throws IOException, WriteProcessException {
+    write(new TsFileIOWriter(new File(FILE_PATH)));
+    // spill after every chunk group
+    write(new TsFileIOWriter(new File(SPILLED_FILE_PATH), 1));
+
+    Assert.assertFalse(spillFile(SPILLED_FILE_PATH).exists());
+    // devices and series are named so that their order is the same either way
+    Assert.assertArrayEquals(
+        Files.readAllBytes(new File(FILE_PATH).toPath()),
+        Files.readAllBytes(new File(SPILLED_FILE_PATH).toPath()));
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(SPILLED_FILE_PATH)) {
+      Assert.assertEquals(DEVICE_NUM, reader.getAllDevices().size());
+      BloomFilter bloomFilter = reader.readBloomFilter();
+      for (int d = 0; d < DEVICE_NUM; d++) {
+        String device = "d" + d;
+        for (String measurement : getMeasurements()) {
+          Path path = new Path(device, measurement);
+          Assert.assertTrue(bloomFilter.contains(path.getFullPath()));
+          List<ChunkMetadata> chunkMetadataList = reader.getChunkMetadataList(path);
+          Assert.assertEquals(getRounds(d, measurement), chunkMetadataList.size());
+          long count = 0;
+          for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+            count += chunkMetadata.getNumOfPoints();
+          }
+          Assert.assertEquals(getRounds(d, measurement) * POINT_NUM, count);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCloseDeletesSpillFile() throws IOException, WriteProcessException {
+    TsFileIOWriter ioWriter = new TsFileIOWriter(new File(SPILLED_FILE_PATH), 1);
+    TsFileWriter writer = new TsFileWriter(ioWriter);
+    registerAndWriteRound(writer, 0);
+    writer.flushAllChunkGroups();
+    Assert.assertTrue(spillFile(SPILLED_FILE_PATH).exists());
+
+    ioWriter.close();
+    Assert.assertFalse(spillFile(SPILLED_FILE_PATH).exists());
+  }
+
+  @Test
+  public void testRecoverDeletesStaleSpillFile() throws IOException, WriteProcessException {
+    TsFileIOWriter ioWriter = new TsFileIOWriter(new File(SPILLED_FILE_PATH), 1);
+    TsFileWriter writer = new TsFileWriter(ioWriter);
+    registerAndWriteRound(writer, 0);
+    writer.flushAllChunkGroups();
+    // crash before sealing the file, its spilled chunk metadata is left behind
+    Assert.assertTrue(spillFile(SPILLED_FILE_PATH).exists());
+
+    RestorableTsFileIOWriter rWriter = new RestorableTsFileIOWriter(new File(SPILLED_FILE_PATH));
+    try {
+      Assert.assertFalse(spillFile(SPILLED_FILE_PATH).exists());
+      Assert.assertTrue(rWriter.hasCrashed());
+      // the chunk metadata is rebuilt from the chunks instead
+      new TsFileWriter(rWriter).close();
+    } finally {
+      ioWriter.close();
+    }
+
+    Assert.assertFalse(spillFile(SPILLED_FILE_PATH).exists());
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(SPILLED_FILE_PATH)) {
+      // the last chunk group is truncated, as nothing after it tells that it is complete
+      List<String> devices = reader.getAllDevices();
+      Assert.assertEquals(DEVICE_NUM - 1, devices.size());
+      for (String device : devices) {
+        for (String measurement : getMeasurements()) {
+          List<ChunkMetadata> chunkMetadataList =
+              reader.getChunkMetadataList(new Path(device, measurement));
+          Assert.assertEquals(1, chunkMetadataList.size());
+          Assert.assertEquals(POINT_NUM, chunkMetadataList.get(0).getNumOfPoints());
+        }
+      }
+    }
+  }
+
+  private void write(TsFileIOWriter ioWriter) throws IOException, WriteProcessException {
+    try (TsFileWriter writer = new TsFileWriter(ioWriter)) {
+      for (int round = 0; round < ROUND_NUM; round++) {
+        registerAndWriteRound(writer, round);
+        // each round makes a chunk group of every device
+        writer.flushAllChunkGroups();
+      }
+    }
+  }
+
+  private void registerAndWriteRound(TsFileWriter writer, int round)
+      throws IOException, WriteProcessException {
+    for (int d = 0; d < DEVICE_NUM; d++) {
+      String device = "d" + d;
+      List<MeasurementSchema> schemas = new ArrayList<>();
+      for (String measurement : getMeasurements()) {
+        schemas.add(new MeasurementSchema(measurement, TSDataType.INT64, TSEncoding.RLE));
+      }
+      if (round == 0) {
+        if (isAligned(d)) {
+          writer.registerAlignedTimeseries(new Path(device), schemas);
+        } else {
+          writer.registerTimeseries(new Path(device), schemas);
+        }
+      }
+      for (int i = 0; i < POINT_NUM; i++) {
+        long time = (long) round * POINT_NUM + i;
+        TSRecord record = new TSRecord(time, device);
+        for (String measurement : getMeasurements()) {
+          if (round < getRounds(d, measurement)) {
+            record.addTuple(new LongDataPoint(measurement, time * d));
+          }
+        }
+        if (isAligned(d)) {
+          writer.writeAligned(record);
+        } else {
+          writer.write(record);
+        }
+      }
+    }
+  }
+
+  private static boolean isAligned(int device) {
+    return device % 3 == 0;
+  }
+
+  private static List<String> getMeasurements() {
+    List<String> measurements = new ArrayList<>();
+    for (int s = 0; s < SERIES_NUM; s++) {
+      measurements.add("s" + s);
+    }
+    return measurements;
+  }
+
+  /** the last series of a non aligned device is only written in the first round */
+  private static int getRounds(int device, String measurement) {
+    return !isAligned(device) && measurement.equals("s" + (SERIES_NUM - 1)) ? 1 : ROUND_NUM;
+  }
+
+  private static File spillFile(String filePath) {
+    return new File(filePath + ChunkMetadataSpillFile.CHUNK_METADATA_SPILL_FILE_SUFFIX);
+  }
+}